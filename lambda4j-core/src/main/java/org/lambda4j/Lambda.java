@@ -31,6 +31,16 @@ public interface Lambda {
         return this instanceof Memoized;
     }
 
+    /**
+     * Checks if this functional interface is compiled, which is to say, it answers every call by a lookup in a table
+     * holding the results for its whole input domain.
+     *
+     * @return {@code true} if this functional interface is compiled, {@code false} otherwise.
+     */
+    default boolean isCompiled() {
+        return this instanceof Compiled;
+    }
+
     /**
      * Zero Abstract Method (ZAM) interface for marking lambdas as memoized lambdas. This is done by using a cast with
      * this interface as additional bound (intersection type).
@@ -38,4 +48,21 @@ public interface Lambda {
     interface Memoized {
 
     }
+
+    /**
+     * Zero Abstract Method (ZAM) interface for marking lambdas as compiled lambdas. This is done by using a cast with
+     * this interface as additional bound (intersection type).
+     */
+    interface Compiled {
+
+    }
+
+    /**
+     * Zero Abstract Method (ZAM) interface for marking lambdas as canonical lambdas, such as identities, constants and
+     * negations, whose structure is recorded so that compositions can be simplified when they are built. This is done
+     * by the base class of canonical lambdas, which holds their structure.
+     */
+    interface Canonical {
+
+    }
 }
@@ -0,0 +1,579 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * A self-tuning cache for memoized functional interfaces, which decides at runtime whether caching the values of a
+ * function pays off. It samples the hit rate of the cache and the computation cost of the function, and switches
+ * between the following {@link Mode}s:
+ * <ul>
+ *     <li>{@link Mode#PASS_THROUGH}: Values are not cached at all, every call computes its value.</li>
+ *     <li>{@link Mode#CACHED}: Every computed value is cached, like a regular memoized function does.</li>
+ *     <li>{@link Mode#BOUNDED}: At most {@link #getCapacity()} values are cached using second-chance eviction.</li>
+ * </ul>
+ * While passing through, the hit rate a cache would have is estimated by remembering the hashes of recently seen keys
+ * in a small direct-mapped table. Only the keys whose mixed hash falls into a subset of one in 16 hashes are tracked,
+ * but every call of such a key is, so the estimate is the hit rate of the tracked keys, and the table is neither read
+ * nor written by calls of other keys. If no call of a sampling window tracks its key, as with very few distinct keys,
+ * another subset is chosen. While caching, the hit rate is measured directly. The computation cost is measured only for
+ * sampled calls which compute their value, so cache hits are never timed.
+ * <p>
+ * Mode changes are controlled by hysteresis: Caching is enabled once the (estimated) hit rate reaches the enabling hit
+ * ratio and the expected saving per call reaches the minimum saving, while it is disabled only once the hit rate falls
+ * below the distinctly lower disabling hit ratio, or the expected saving disappears. Either condition has to hold for
+ * several consecutive sampling windows, so a workload oscillating around a single threshold does not make the cache
+ * flip back and forth. The cache starts in {@link Mode#PASS_THROUGH} mode and switches from {@link Mode#CACHED} to
+ * {@link Mode#BOUNDED} as soon as it holds more values than its capacity.
+ * <p>
+ * The current mode and the statistics of the last completed sampling window are observable using {@link #getMode()},
+ * {@link #getHitRatio()} and {@link #getAverageComputeNanos()}. A memoizer must not be shared between different
+ * functions, as it holds the values computed by one function only.
+ *
+ * @param <K> The type of the keys, which are the (possibly tupled) arguments of the memoized function
+ * @param <V> The type of the values, which are the results of the memoized function
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class AdaptiveMemoizer<K, V> implements MemoStore<K, V> {
+
+    /**
+     * The default maximum number of values cached in {@link Mode#BOUNDED} mode.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * The default (estimated) hit ratio from which on caching is enabled.
+     */
+    public static final double DEFAULT_ENABLE_HIT_RATIO = 0.3;
+
+    /**
+     * The default hit ratio below which caching is disabled.
+     */
+    public static final double DEFAULT_DISABLE_HIT_RATIO = 0.1;
+
+    /**
+     * The default minimum expected saving per call in nanoseconds, from which on caching is enabled. This roughly
+     * reflects the cost of a cache lookup including the creation of its key.
+     */
+    public static final long DEFAULT_MINIMUM_SAVING_NANOS = 100L;
+
+    /**
+     * The mask applied to a random number to decide whether a call is sampled, which samples one of 16 calls.
+     */
+    private static final int SAMPLING_MASK = 0x0F;
+
+    /**
+     * The shift applied to the mixed hash of a key to decide whether it is tracked in the table of recently seen keys,
+     * which tracks one of 16 keys. The highest bits are used, as the slot of a key is taken from its lowest bits.
+     */
+    private static final int TRACKING_SHIFT = 28;
+
+    /**
+     * The number of sampled calls which make up a sampling window.
+     */
+    private static final int WINDOW_SIZE = 64;
+
+    /**
+     * The number of consecutive sampling windows a condition has to hold, before the mode is changed.
+     */
+    private static final int PATIENCE = 2;
+
+    /**
+     * The number of slots of the table of recently seen key hashes, which must be a power of two.
+     */
+    private static final int GHOST_SLOTS = 4096;
+
+    /**
+     * The maximum number of values cached in {@link Mode#BOUNDED} mode.
+     */
+    private final int capacity;
+
+    /**
+     * The (estimated) hit ratio from which on caching is enabled.
+     */
+    private final double enableHitRatio;
+
+    /**
+     * The hit ratio below which caching is disabled.
+     */
+    private final double disableHitRatio;
+
+    /**
+     * The minimum expected saving per call in nanoseconds, from which on caching is enabled.
+     */
+    private final long minimumSavingNanos;
+
+    /**
+     * The hashes of recently seen keys, used to estimate the hit ratio while passing through.
+     */
+    private final AtomicIntegerArray ghosts;
+
+    /**
+     * The number of sampled calls of the current sampling window.
+     */
+    private final AtomicInteger sampledCalls;
+
+    /**
+     * The number of sampled calls of the current sampling window, which were cache hits.
+     */
+    private final LongAdder sampledHits;
+
+    /**
+     * The number of calls of the current sampling window, which tracked their key while passing through.
+     */
+    private final LongAdder trackedCalls;
+
+    /**
+     * The number of calls of the current sampling window, which tracked their key while passing through and would
+     * have been cache hits.
+     */
+    private final LongAdder trackedHits;
+
+    /**
+     * The number of sampled calls of the current sampling window, which computed their value.
+     */
+    private final LongAdder sampledComputes;
+
+    /**
+     * The total time in nanoseconds spent by the sampled calls of the current sampling window computing their value.
+     */
+    private final LongAdder sampledComputeNanos;
+
+    /**
+     * The value combined with the mixed hashes of keys to choose the subset of tracked keys.
+     */
+    private volatile int trackingSalt;
+
+    /**
+     * The current mode of this memoizer.
+     */
+    private volatile Mode mode;
+
+    /**
+     * The cache used in {@link Mode#CACHED} mode, which is {@code null} in any other mode.
+     */
+    private volatile Map<K, V> unboundedCache;
+
+    /**
+     * The cache used in {@link Mode#BOUNDED} mode, which is {@code null} in any other mode.
+     */
+    private volatile ClockCache<K, V> boundedCache;
+
+    /**
+     * The hit ratio of the last completed sampling window.
+     */
+    private volatile double hitRatio;
+
+    /**
+     * The average computation cost in nanoseconds of the last completed sampling window which computed values.
+     */
+    private volatile double averageComputeNanos;
+
+    /**
+     * The lock guarding mode changes of this memoizer.
+     */
+    private final Object lock;
+
+    /**
+     * The number of consecutive sampling windows which requested the opposite caching state of the current one.
+     */
+    private int streak;
+
+    /**
+     * Creates an adaptive memoizer using the default configuration.
+     *
+     * @see #DEFAULT_CAPACITY
+     * @see #DEFAULT_ENABLE_HIT_RATIO
+     * @see #DEFAULT_DISABLE_HIT_RATIO
+     * @see #DEFAULT_MINIMUM_SAVING_NANOS
+     */
+    public AdaptiveMemoizer() {
+        this(DEFAULT_CAPACITY, DEFAULT_ENABLE_HIT_RATIO, DEFAULT_DISABLE_HIT_RATIO, DEFAULT_MINIMUM_SAVING_NANOS);
+    }
+
+    /**
+     * Creates an adaptive memoizer using the given configuration.
+     *
+     * @param maximumSize The maximum number of values cached in {@link Mode#BOUNDED} mode
+     * @param enablingHitRatio The (estimated) hit ratio from which on caching is enabled
+     * @param disablingHitRatio The hit ratio below which caching is disabled, which must be less than {@code
+     * enablingHitRatio}
+     * @param minimumSaving The minimum expected saving per call in nanoseconds, from which on caching is enabled
+     * @throws IllegalArgumentException If given maximum size is less than {@code 1}, if any of the given ratios is not
+     * within {@code [0, 1]}, if given disabling ratio is not less than the enabling ratio or if given saving is
+     * negative
+     */
+    public AdaptiveMemoizer(@Nonnegative int maximumSize, double enablingHitRatio, double disablingHitRatio,
+            @Nonnegative long minimumSaving) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + maximumSize);
+        }
+        if (!(disablingHitRatio >= 0.0 && disablingHitRatio < enablingHitRatio && enablingHitRatio <= 1.0)) {
+            throw new IllegalArgumentException("Hit ratios must satisfy 0 <= disabling < enabling <= 1: "
+                    + disablingHitRatio + ", " + enablingHitRatio);
+        }
+        if (minimumSaving < 0L) {
+            throw new IllegalArgumentException("Minimum saving must not be negative: " + minimumSaving);
+        }
+        this.capacity = maximumSize;
+        this.enableHitRatio = enablingHitRatio;
+        this.disableHitRatio = disablingHitRatio;
+        this.minimumSavingNanos = minimumSaving;
+        this.ghosts = new AtomicIntegerArray(GHOST_SLOTS);
+        this.sampledCalls = new AtomicInteger();
+        this.sampledHits = new LongAdder();
+        this.trackedCalls = new LongAdder();
+        this.trackedHits = new LongAdder();
+        this.sampledComputes = new LongAdder();
+        this.sampledComputeNanos = new LongAdder();
+        this.lock = new Object();
+        this.mode = Mode.PASS_THROUGH;
+    }
+
+    /**
+     * Returns the value associated with the given key, computing it using the given loader if the current mode does
+     * not cache values or the key is not cached yet. If the loader returns {@code null}, no value is cached.
+     *
+     * @param key The key whose associated value is to be returned
+     * @param loader The function computing the value of the given key
+     * @return The value associated with the given key.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @CheckForNull
+    @Override
+    public V computeIfAbsent(@Nonnull K key, @Nonnull Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(loader);
+        boolean sampled = (ThreadLocalRandom.current().nextInt() & SAMPLING_MASK) == 0;
+        Map<K, V> unbounded = unboundedCache;
+        if (unbounded != null) {
+            return computeIfAbsent(unbounded, key, loader, sampled);
+        }
+        ClockCache<K, V> bounded = boundedCache;
+        if (bounded != null) {
+            return computeIfAbsent(bounded, key, loader, sampled);
+        }
+        track(key);
+        return load(key, loader, sampled);
+    }
+
+    /**
+     * Returns the current mode of this memoizer.
+     *
+     * @return The current mode of this memoizer.
+     */
+    @Nonnull
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the maximum number of values cached in {@link Mode#BOUNDED} mode.
+     *
+     * @return The maximum number of values cached in {@code BOUNDED} mode.
+     */
+    @Nonnegative
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the hit ratio of the last completed sampling window. While passing through, this is the estimated hit
+     * ratio a cache would have had.
+     *
+     * @return The hit ratio of the last completed sampling window, or {@code 0} if no window has been completed yet.
+     */
+    public double getHitRatio() {
+        return hitRatio;
+    }
+
+    /**
+     * Returns the average computation cost in nanoseconds of the last completed sampling window which computed values.
+     *
+     * @return The average computation cost in nanoseconds, or {@code 0} if no value has been computed yet.
+     */
+    public double getAverageComputeNanos() {
+        return averageComputeNanos;
+    }
+
+    /**
+     * Returns the number of values currently cached by this memoizer.
+     *
+     * @return The number of values currently cached by this memoizer.
+     */
+    @Nonnegative
+    public int size() {
+        Map<K, V> unbounded = unboundedCache;
+        if (unbounded != null) {
+            return unbounded.size();
+        }
+        ClockCache<K, V> bounded = boundedCache;
+        return bounded == null ? 0 : bounded.size();
+    }
+
+    /**
+     * Returns the value associated with the given key from the given unbounded cache, computing and caching it using
+     * the given loader if the key is not cached yet.
+     *
+     * @param unbounded The unbounded cache of {@link Mode#CACHED} mode
+     * @param key The key whose associated value is to be returned
+     * @param loader The function computing the value of the given key
+     * @param sampled {@code true} if the call is sampled, {@code false} otherwise
+     * @return The value associated with the given key.
+     */
+    @CheckForNull
+    private V computeIfAbsent(Map<K, V> unbounded, K key, Function<? super K, ? extends V> loader, boolean sampled) {
+        V cached = unbounded.get(key);
+        if (cached != null) {
+            if (sampled) {
+                sample(true);
+            }
+            return cached;
+        }
+        V value = load(key, loader, sampled);
+        if (value == null) {
+            return null;
+        }
+        V previous = unbounded.putIfAbsent(key, value);
+        if (previous != null) {
+            return previous;
+        }
+        if (unbounded.size() > capacity) {
+            bound();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value associated with the given key from the given bounded cache, computing and caching it using the
+     * given loader if the key is not cached.
+     *
+     * @param bounded The bounded cache of {@link Mode#BOUNDED} mode
+     * @param key The key whose associated value is to be returned
+     * @param loader The function computing the value of the given key
+     * @param sampled {@code true} if the call is sampled, {@code false} otherwise
+     * @return The value associated with the given key.
+     */
+    @CheckForNull
+    private V computeIfAbsent(ClockCache<K, V> bounded, K key, Function<? super K, ? extends V> loader,
+            boolean sampled) {
+        V cached = bounded.get(key);
+        if (cached != null) {
+            if (sampled) {
+                sample(true);
+            }
+            return cached;
+        }
+        V value = load(key, loader, sampled);
+        return value == null ? null : bounded.putIfAbsent(key, value);
+    }
+
+    /**
+     * Computes the value of the given key using the given loader, timing the computation if the call is sampled.
+     *
+     * @param key The key whose value is to be computed
+     * @param loader The function computing the value of the given key
+     * @param sampled {@code true} if the call is sampled, {@code false} otherwise
+     * @return The computed value.
+     */
+    @CheckForNull
+    private V load(K key, Function<? super K, ? extends V> loader, boolean sampled) {
+        if (!sampled) {
+            return loader.apply(key);
+        }
+        long start = System.nanoTime();
+        V value = loader.apply(key);
+        sampleComputation(System.nanoTime() - start);
+        return value;
+    }
+
+    /**
+     * Records a sampled call which computed its value in the given time.
+     *
+     * @param nanos The time in nanoseconds spent computing the value
+     */
+    private void sampleComputation(long nanos) {
+        sampledComputeNanos.add(nanos);
+        sampledComputes.increment();
+        sample(false);
+    }
+
+    /**
+     * Tracks the given key in the table of recently seen keys while passing through, if its mixed hash falls into the
+     * current subset of tracked keys, and counts whether it would have been a cache hit.
+     *
+     * @param key The key of the call
+     */
+    private void track(K key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        if ((hash ^ trackingSalt) >>> TRACKING_SHIFT != 0) {
+            return;
+        }
+        trackedCalls.increment();
+        if (remember(hash)) {
+            trackedHits.increment();
+        }
+    }
+
+    /**
+     * Remembers the given mixed key hash in the table of recently seen keys. The lowest bit of a remembered hash is
+     * always set, so that it never equals the zero of an empty slot. As this bit is also part of the slot index, no
+     * information is lost.
+     *
+     * @param hash The mixed hash of the key to be remembered
+     * @return {@code true} if the key has been seen recently, {@code false} otherwise.
+     */
+    private boolean remember(int hash) {
+        int slot = hash & (GHOST_SLOTS - 1);
+        int tag = hash | 1;
+        if (ghosts.get(slot) == tag) {
+            return true;
+        }
+        ghosts.lazySet(slot, tag);
+        return false;
+    }
+
+    /**
+     * Records a sampled call and evaluates the sampling window once it is completed.
+     *
+     * @param hit {@code true} if the call was an (estimated) cache hit, {@code false} otherwise
+     */
+    private void sample(boolean hit) {
+        if (hit) {
+            sampledHits.increment();
+        }
+        if (sampledCalls.incrementAndGet() == WINDOW_SIZE) {
+            evaluate();
+        }
+    }
+
+    /**
+     * Evaluates the completed sampling window and changes the mode of this memoizer if required.
+     */
+    private void evaluate() {
+        synchronized (lock) {
+            long computes = sampledComputes.sumThenReset();
+            long nanos = sampledComputeNanos.sumThenReset();
+            sampledCalls.set(0);
+            if (computes > 0L) {
+                averageComputeNanos = (double) nanos / computes;
+            }
+            boolean caching = mode != Mode.PASS_THROUGH;
+            double ratio = completeHitRatio(caching);
+            if (Double.isNaN(ratio)) {
+                trackingSalt = ThreadLocalRandom.current().nextInt();
+                return;
+            }
+            hitRatio = ratio;
+            double saving = ratio * averageComputeNanos;
+            boolean flip = caching
+                    ? ratio < disableHitRatio || saving < minimumSavingNanos / 2.0
+                    : ratio >= enableHitRatio && saving >= minimumSavingNanos;
+            streak = flip ? streak + 1 : 0;
+            if (streak >= PATIENCE) {
+                streak = 0;
+                if (caching) {
+                    mode = Mode.PASS_THROUGH;
+                    unboundedCache = null;
+                    boundedCache = null;
+                } else {
+                    unboundedCache = new ConcurrentHashMap<>();
+                    mode = Mode.CACHED;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the (estimated) hit ratio of the completed sampling window and resets the counters of its hits.
+     *
+     * @param caching {@code true} if this memoizer caches values, {@code false} if it passes through
+     * @return The hit ratio of the completed sampling window, or {@link Double#NaN} if no call of it tracked its key
+     * while passing through.
+     */
+    private double completeHitRatio(boolean caching) {
+        long hits = sampledHits.sumThenReset();
+        long trackedHitCount = trackedHits.sumThenReset();
+        long tracked = trackedCalls.sumThenReset();
+        double ratio;
+        if (caching) {
+            ratio = Math.min(1.0, (double) hits / WINDOW_SIZE);
+        } else if (tracked == 0L) {
+            ratio = Double.NaN;
+        } else {
+            ratio = Math.min(1.0, (double) trackedHitCount / tracked);
+        }
+        return ratio;
+    }
+
+    /**
+     * Switches from {@link Mode#CACHED} to {@link Mode#BOUNDED} mode if the unbounded cache exceeds the capacity,
+     * seeding the bounded cache with values of the unbounded cache.
+     */
+    private void bound() {
+        synchronized (lock) {
+            Map<K, V> unbounded = unboundedCache;
+            if (unbounded == null || unbounded.size() <= capacity) {
+                return;
+            }
+            ClockCache<K, V> bounded = new ClockCache<>(capacity);
+            for (Map.Entry<K, V> entry : unbounded.entrySet()) {
+                if (bounded.size() >= capacity) {
+                    break;
+                }
+                bounded.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            boundedCache = bounded;
+            unboundedCache = null;
+            mode = Mode.BOUNDED;
+        }
+    }
+
+    /**
+     * The modes an {@link AdaptiveMemoizer} switches between.
+     */
+    public enum Mode {
+
+        /**
+         * Values are not cached, every call computes its value.
+         */
+        PASS_THROUGH,
+
+        /**
+         * Every computed value is cached.
+         */
+        CACHED,
+
+        /**
+         * A bounded number of computed values is cached, evicting values using second-chance eviction.
+         */
+        BOUNDED
+    }
+}
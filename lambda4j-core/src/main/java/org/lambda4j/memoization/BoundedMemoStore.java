@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * A thread-safe in-heap {@link MemoStore} holding a bounded number of values, which evicts values using the
+ * second-chance (CLOCK) algorithm. In contrast to a strict LRU cache, reading a value never reorders any structure.
+ *
+ * @param <K> The type of the keys, which are the (possibly tupled) arguments of the memoized function
+ * @param <V> The type of the values, which are the results of the memoized function
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class BoundedMemoStore<K, V> implements MemoStore<K, V> {
+
+    /**
+     * The cache holding the values of this store.
+     */
+    private final ClockCache<K, V> cache;
+
+    /**
+     * Creates an empty store holding at most the given number of values.
+     *
+     * @param maximumSize The maximum number of values of the store
+     * @throws IllegalArgumentException If given maximum size is less than {@code 1}
+     */
+    public BoundedMemoStore(@Nonnegative int maximumSize) {
+        this.cache = new ClockCache<>(maximumSize);
+    }
+
+    @CheckForNull
+    @Override
+    public V computeIfAbsent(@Nonnull K key, @Nonnull Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(loader);
+        V cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        V value = loader.apply(key);
+        return value == null ? null : cache.putIfAbsent(key, value);
+    }
+
+    /**
+     * Returns the number of values in this store.
+     *
+     * @return The number of values in this store.
+     */
+    @Nonnegative
+    public int size() {
+        return cache.size();
+    }
+}
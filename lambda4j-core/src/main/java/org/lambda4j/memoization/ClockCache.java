@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * A thread-safe cache holding a bounded number of entries, which evicts entries using the second-chance (CLOCK)
+ * algorithm. Every entry has a reference bit, which is set whenever the entry is read. When the cache grows beyond its
+ * capacity, the clock hand walks over the entries in insertion order and evicts the first entry whose reference bit is
+ * cleared, clearing the bit of every referenced entry it passes.
+ * <p>
+ * In contrast to a strict LRU cache, reads never reorder any structure, which keeps cache hits as cheap as a lookup in
+ * a {@link ConcurrentHashMap}.
+ *
+ * @param <K> The type of the keys of this cache
+ * @param <V> The type of the values of this cache
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+final class ClockCache<K, V> {
+
+    /**
+     * The maximum number of entries of this cache.
+     */
+    private final int capacity;
+
+    /**
+     * The entries of this cache.
+     */
+    private final Map<K, Node<V>> entries;
+
+    /**
+     * The keys of this cache in clock order, whereas the head of the queue is the position of the clock hand.
+     */
+    private final Queue<K> clock;
+
+    /**
+     * Creates a cache which holds at most the given number of entries.
+     *
+     * @param maximumSize The maximum number of entries of the cache
+     * @throws IllegalArgumentException If given maximum size is less than {@code 1}
+     */
+    ClockCache(@Nonnegative int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + maximumSize);
+        }
+        this.capacity = maximumSize;
+        this.entries = new ConcurrentHashMap<>();
+        this.clock = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Returns the value to which the given key is mapped and marks the entry as referenced.
+     *
+     * @param key The key whose associated value is to be returned
+     * @return The value to which the given key is mapped, or {@code null} if this cache contains no mapping for it.
+     */
+    @CheckForNull
+    V get(@Nonnull K key) {
+        Node<V> node = entries.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (!node.referenced) {
+            node.referenced = true;
+        }
+        return node.value;
+    }
+
+    /**
+     * Associates the given value with the given key, unless the key is already mapped to a value. If this cache exceeds
+     * its capacity afterwards, other entries are evicted until the capacity is met again, before the new entry is
+     * placed behind the clock hand.
+     *
+     * @param key The key with which the given value is to be associated
+     * @param value The value to be associated with the given key
+     * @return The value which is associated with the given key after this operation.
+     */
+    @Nonnull
+    V putIfAbsent(@Nonnull K key, @Nonnull V value) {
+        Node<V> node = new Node<>(value);
+        Node<V> previous = entries.putIfAbsent(key, node);
+        if (previous != null) {
+            return previous.value;
+        }
+        if (entries.size() > capacity) {
+            evict();
+        }
+        clock.offer(key);
+        return value;
+    }
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return The number of entries in this cache.
+     */
+    @Nonnegative
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Advances the clock hand and evicts entries until this cache meets its capacity. As every passed entry has its
+     * reference bit cleared, at most two revolutions of the clock hand are required.
+     */
+    private void evict() {
+        while (entries.size() > capacity) {
+            K key = clock.poll();
+            if (key == null) {
+                return;
+            }
+            Node<V> node = entries.get(key);
+            if (node != null) {
+                if (node.referenced) {
+                    node.referenced = false;
+                    clock.offer(key);
+                } else {
+                    entries.remove(key, node);
+                }
+            }
+        }
+    }
+
+    /**
+     * A value of this cache along with its reference bit.
+     *
+     * @param <V> The type of the value
+     */
+    private static final class Node<V> {
+
+        /**
+         * The cached value.
+         */
+        private final V value;
+
+        /**
+         * The reference bit, which is set whenever the value is read and cleared when the clock hand passes.
+         */
+        private volatile boolean referenced;
+
+        /**
+         * Creates a node for the given value with a cleared reference bit.
+         *
+         * @param cached The cached value
+         */
+        private Node(V cached) {
+            this.value = cached;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * A thread-safe in-heap {@link MemoStore} backed by a {@link ConcurrentHashMap}, which keeps all values until it is
+ * garbage-collected. This is the store used by memoized functional interfaces by default.
+ *
+ * @param <K> The type of the keys, which are the (possibly tupled) arguments of the memoized function
+ * @param <V> The type of the values, which are the results of the memoized function
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class ConcurrentMemoStore<K, V> implements MemoStore<K, V> {
+
+    /**
+     * The values of this store by their key.
+     */
+    private final Map<K, V> entries;
+
+    /**
+     * Creates an empty store.
+     */
+    public ConcurrentMemoStore() {
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    @CheckForNull
+    @Override
+    public V computeIfAbsent(@Nonnull K key, @Nonnull Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(loader);
+        return entries.computeIfAbsent(key, loader);
+    }
+
+    /**
+     * Returns the number of values in this store.
+     *
+     * @return The number of values in this store.
+     */
+    @Nonnegative
+    public int size() {
+        return entries.size();
+    }
+}
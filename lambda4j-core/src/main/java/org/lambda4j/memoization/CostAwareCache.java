@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * A thread-safe bounded cache for memoized functional interfaces, which evicts entries by the cost of recomputing them
+ * rather than by their recency. Eviction follows the Greedy-Dual-Size-Frequency policy: Every entry has a priority of
+ * {@code L + frequency * cost / size}, whereas {@code cost} is the measured time it took to compute the value, {@code
+ * size} is the weight of the value and {@code L} is an inflation value, which is raised to the priority of every
+ * evicted entry, so that entries which are not accessed anymore age out eventually. When the total weight of the cache
+ * exceeds its capacity, the entry with the lowest priority among a small random sample of entries is evicted.
+ * <p>
+ * The computation cost is measured only when a value is computed, so cache hits are never timed. A hit only increments
+ * the frequency of its entry and records the current inflation value, it never reorders any structure. Computing a
+ * value happens outside of any lock, only the bookkeeping of inserted and evicted entries is serialized.
+ * <p>
+ * By default, every value has a weight of {@code 1}, so the capacity is the maximum number of entries. If a weigher
+ * is given, e.g. an estimate of the retained bytes of a value, the capacity is the maximum total weight.
+ *
+ * @param <K> The type of the keys, which are the (possibly tupled) arguments of the memoized function
+ * @param <V> The type of the values, which are the results of the memoized function
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class CostAwareCache<K, V> implements MemoStore<K, V> {
+
+    /**
+     * The number of entries sampled to find the entry to evict.
+     */
+    private static final int EVICTION_SAMPLES = 8;
+
+    /**
+     * The maximum total weight of this cache.
+     */
+    private final long capacity;
+
+    /**
+     * The function computing the weight of a value.
+     */
+    private final ToLongFunction<? super V> weigher;
+
+    /**
+     * The entries of this cache by their key.
+     */
+    private final Map<K, Node<K, V>> entries;
+
+    /**
+     * The entries of this cache by their index, used to sample eviction candidates, which is guarded by the lock.
+     */
+    private final List<Node<K, V>> nodes;
+
+    /**
+     * The lock guarding insertion and eviction of entries.
+     */
+    private final Object lock;
+
+    /**
+     * The total weight of the entries of this cache, which is guarded by the lock.
+     */
+    private long weight;
+
+    /**
+     * The inflation value, which is the priority of the most recently evicted entry.
+     */
+    private volatile double inflation;
+
+    /**
+     * Creates a cost-aware cache holding at most the given number of entries.
+     *
+     * @param maximumSize The maximum number of entries of the cache
+     * @throws IllegalArgumentException If given maximum size is less than {@code 1}
+     */
+    public CostAwareCache(@Nonnegative long maximumSize) {
+        this(maximumSize, value -> 1L);
+    }
+
+    /**
+     * Creates a cost-aware cache holding entries up to the given total weight, which are weighted using the given
+     * weigher.
+     *
+     * @param maximumWeight The maximum total weight of the entries of the cache
+     * @param valueWeigher The function computing the (positive) weight of a value, e.g. an estimate of its size in
+     * bytes
+     * @throws NullPointerException If given weigher is {@code null}
+     * @throws IllegalArgumentException If given maximum weight is less than {@code 1}
+     */
+    public CostAwareCache(@Nonnegative long maximumWeight, @Nonnull ToLongFunction<? super V> valueWeigher) {
+        Objects.requireNonNull(valueWeigher);
+        if (maximumWeight < 1L) {
+            throw new IllegalArgumentException("Capacity must be positive: " + maximumWeight);
+        }
+        this.capacity = maximumWeight;
+        this.weigher = valueWeigher;
+        this.entries = new ConcurrentHashMap<>();
+        this.nodes = new ArrayList<>();
+        this.lock = new Object();
+    }
+
+    /**
+     * Returns the value associated with the given key, computing it using the given loader if the key is not cached.
+     * If the loader returns {@code null}, or the value weighs more than the capacity of this cache, no value is cached.
+     *
+     * @param key The key whose associated value is to be returned
+     * @param loader The function computing the value of the given key
+     * @return The value associated with the given key.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If the weigher of this cache returns a weight less than {@code 1}
+     */
+    @CheckForNull
+    @Override
+    public V computeIfAbsent(@Nonnull K key, @Nonnull Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(loader);
+        Node<K, V> node = entries.get(key);
+        if (node != null) {
+            node.access(inflation);
+            return node.value;
+        }
+        long start = System.nanoTime();
+        V value = loader.apply(key);
+        long cost = Math.max(System.nanoTime() - start, 1L);
+        return value == null ? null : cache(key, value, cost);
+    }
+
+    /**
+     * Returns the maximum total weight of this cache.
+     *
+     * @return The maximum total weight of this cache.
+     */
+    @Nonnegative
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the total weight of the entries of this cache.
+     *
+     * @return The total weight of the entries of this cache.
+     */
+    @Nonnegative
+    public long getWeight() {
+        synchronized (lock) {
+            return weight;
+        }
+    }
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return The number of entries in this cache.
+     */
+    @Nonnegative
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Caches the given value computed for the given key, unless it weighs more than the capacity of this cache.
+     *
+     * @param key The key with which the given value is to be associated
+     * @param value The value computed for the given key
+     * @param cost The time in nanoseconds it took to compute the value
+     * @return The value associated with the given key after this operation.
+     * @throws IllegalArgumentException If the weigher of this cache returns a weight less than {@code 1}
+     */
+    private V cache(K key, V value, long cost) {
+        long size = weigher.applyAsLong(value);
+        if (size < 1L) {
+            throw new IllegalArgumentException("Weight must be positive: " + size);
+        }
+        if (size > capacity) {
+            return value;
+        }
+        return insert(new Node<>(key, value, cost, size, inflation));
+    }
+
+    /**
+     * Inserts the given entry, unless its key has been inserted concurrently, and evicts entries until this cache meets
+     * its capacity.
+     *
+     * @param node The entry to be inserted
+     * @return The value associated with the key of the given entry after this operation.
+     */
+    private V insert(Node<K, V> node) {
+        synchronized (lock) {
+            Node<K, V> previous = entries.putIfAbsent(node.key, node);
+            if (previous != null) {
+                return previous.value;
+            }
+            node.index = nodes.size();
+            nodes.add(node);
+            weight += node.size;
+            while (weight > capacity) {
+                evict();
+            }
+            return node.value;
+        }
+    }
+
+    /**
+     * Evicts the entry with the lowest priority among a random sample of entries and raises the inflation value to its
+     * priority. If this cache holds no more entries than the sample size, all entries are considered. Must only be
+     * called while holding the lock.
+     */
+    private void evict() {
+        boolean sampled = nodes.size() > EVICTION_SAMPLES;
+        Node<K, V> victim = sampled ? sample() : nodes.get(0);
+        for (int i = 1; i < Math.min(nodes.size(), EVICTION_SAMPLES); i++) {
+            Node<K, V> candidate = sampled ? sample() : nodes.get(i);
+            if (candidate.priority() < victim.priority()) {
+                victim = candidate;
+            }
+        }
+        int index = victim.index;
+        Node<K, V> last = nodes.remove(nodes.size() - 1);
+        if (index < nodes.size()) {
+            last.index = index;
+            nodes.set(index, last);
+        }
+        entries.remove(victim.key, victim);
+        weight -= victim.size;
+        inflation = Math.max(inflation, victim.priority());
+    }
+
+    /**
+     * Returns a random entry of this cache. Must only be called while holding the lock.
+     *
+     * @return A random entry of this cache.
+     */
+    private Node<K, V> sample() {
+        return nodes.get(ThreadLocalRandom.current().nextInt(nodes.size()));
+    }
+
+    /**
+     * An entry of this cache along with its statistics.
+     *
+     * @param <K> The type of the key
+     * @param <V> The type of the value
+     */
+    private static final class Node<K, V> {
+
+        /**
+         * The key of this entry.
+         */
+        private final K key;
+
+        /**
+         * The cached value.
+         */
+        private final V value;
+
+        /**
+         * The time in nanoseconds it took to compute the value.
+         */
+        private final long cost;
+
+        /**
+         * The weight of the value.
+         */
+        private final long size;
+
+        /**
+         * The number of accesses of this entry, which is incremented without synchronization and therefore approximate.
+         */
+        private int frequency;
+
+        /**
+         * The inflation value of the cache at the most recent access of this entry.
+         */
+        private volatile double clock;
+
+        /**
+         * The index of this entry in the list of entries, which is guarded by the lock of the cache.
+         */
+        private int index;
+
+        /**
+         * Creates an entry which has been accessed once.
+         *
+         * @param cachedKey The key of the entry
+         * @param cachedValue The cached value
+         * @param nanos The time in nanoseconds it took to compute the value
+         * @param weight The weight of the value
+         * @param currentInflation The current inflation value of the cache
+         */
+        private Node(K cachedKey, V cachedValue, long nanos, long weight, double currentInflation) {
+            this.key = cachedKey;
+            this.value = cachedValue;
+            this.cost = nanos;
+            this.size = weight;
+            this.frequency = 1;
+            this.clock = currentInflation;
+        }
+
+        /**
+         * Records an access of this entry.
+         *
+         * @param currentInflation The current inflation value of the cache
+         */
+        private void access(double currentInflation) {
+            if (frequency < Integer.MAX_VALUE) {
+                frequency++;
+            }
+            clock = currentInflation;
+        }
+
+        /**
+         * Returns the Greedy-Dual-Size-Frequency priority of this entry.
+         *
+         * @return The priority of this entry.
+         */
+        private double priority() {
+            return clock + (double) frequency * cost / size;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A store holding the values of a memoized (caching) functional interface from {@code double} to {@code double}. This
+ * is the {@code double}-to-{@code double} primitive specialization of {@link MemoStore}, which neither boxes keys nor
+ * values.
+ * <p>
+ * The fixed-size tables of {@link LongMemoStore} serve as {@code double} store using {@link #of(LongMemoStore)},
+ * which stores keys and values by their bit patterns.
+ *
+ * @apiNote This is a functional interface whose functional method is {@link #computeIfAbsent(double,
+ * DoubleUnaryOperator)}.
+ * @see MemoStore
+ * @see LongMemoStore
+ */
+@FunctionalInterface
+public interface DoubleMemoStore {
+
+    /**
+     * Returns a {@link DoubleMemoStore} which holds its values in the given {@link LongMemoStore}. Keys are stored by
+     * {@link Double#doubleToLongBits(double)}, so all {@code NaN} keys share one value, whereas {@code 0.0} and {@code
+     * -0.0} are distinct keys. Values are stored by their raw bit patterns, so they are never boxed and returned
+     * unchanged.
+     *
+     * @param store The store which holds the values
+     * @return A {@code DoubleMemoStore} which holds its values in the given {@code LongMemoStore}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static DoubleMemoStore of(@Nonnull LongMemoStore store) {
+        Objects.requireNonNull(store);
+        return (key, loader) -> {
+            Objects.requireNonNull(loader);
+            return Double.longBitsToDouble(store.computeIfAbsent(Double.doubleToLongBits(key),
+                    bits -> Double.doubleToRawLongBits(loader.applyAsDouble(Double.longBitsToDouble(bits)))));
+        };
+    }
+
+    /**
+     * Returns the value associated with the given key, computing it using the given loader and storing it if the key
+     * is not present.
+     *
+     * @param key The key whose associated value is to be returned
+     * @param loader The function computing the value of the given key
+     * @return The value associated with the given key.
+     * @throws NullPointerException If given loader is {@code null}
+     */
+    double computeIfAbsent(double key, @Nonnull DoubleUnaryOperator loader);
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link MemoStore} persisting its values in the files of a directory, so that they survive a restart of the process.
+ * Values are grouped into buckets by the hash code of their keys, whereas every bucket is a file holding the serialized
+ * entries of the bucket. Keys and values must therefore be {@link java.io.Serializable}.
+ * <p>
+ * Keys must have a hash code which is stable across processes, such as strings, boxed primitives and the tuples of this
+ * library built from them. This is not the case for enums and for classes which do not override {@link
+ * Object#hashCode()}, whose hash codes are derived from the identity of an object, and may therefore differ from one
+ * process to the next. The values of such keys are looked up in the wrong bucket after a restart, so they are computed
+ * again, while the stale entries are kept.
+ * <p>
+ * The buckets are deserialized by {@link ObjectInputStream}, which instantiates any serializable class named in a
+ * bucket. So the directory must be trusted, and must not be writable by anyone who must not run code in this process.
+ * <p>
+ * A bucket is read on every lookup, so this store is typically placed behind an in-heap store using a {@link
+ * TieredMemoStore}. Buckets are replaced atomically, so a reader never sees a partially written bucket. Buckets which
+ * cannot be deserialized, e.g. as they were written by an incompatible version of a class, are treated as empty.
+ *
+ * @param <K> The type of the keys, which are the (possibly tupled) arguments of the memoized function
+ * @param <V> The type of the values, which are the results of the memoized function
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class FileMemoStore<K, V> implements MemoStore<K, V> {
+
+    /**
+     * The file name suffix of buckets.
+     */
+    private static final String BUCKET_SUFFIX = ".memo";
+
+    /**
+     * The directory holding the buckets.
+     */
+    private final Path directory;
+
+    /**
+     * The lock serializing updates of buckets within this process.
+     */
+    private final Object lock;
+
+    /**
+     * Creates a store in the given directory.
+     *
+     * @param storeDirectory The directory holding the buckets
+     */
+    private FileMemoStore(Path storeDirectory) {
+        this.directory = storeDirectory;
+        this.lock = new Object();
+    }
+
+    /**
+     * Opens the store in the given directory, which is created if it does not exist yet. The directory must be
+     * trusted, as its buckets are deserialized.
+     *
+     * @param <K> The type of the keys
+     * @param <V> The type of the values
+     * @param directory The directory holding the values of the store
+     * @return The store in the given directory.
+     * @throws NullPointerException If given directory is {@code null}
+     * @throws IOException If the directory cannot be created
+     */
+    @Nonnull
+    public static <K, V> FileMemoStore<K, V> open(@Nonnull Path directory) throws IOException {
+        Objects.requireNonNull(directory);
+        return new FileMemoStore<>(Files.createDirectories(directory));
+    }
+
+    /**
+     * Returns the value associated with the given key, computing it using the given loader and storing it in the
+     * bucket of the key if the key is not present. If the loader returns {@code null}, no value is stored.
+     *
+     * @param key The key whose associated value is to be returned
+     * @param loader The function computing the value of the given key
+     * @return The value associated with the given key, or {@code null} if the loader returned {@code null}.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws UncheckedIOException If a bucket cannot be read or written, or a key or value is not serializable
+     */
+    @CheckForNull
+    @Override
+    public V computeIfAbsent(@Nonnull K key, @Nonnull Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(loader);
+        Path bucket = directory.resolve(String.format("%08x", key.hashCode()) + BUCKET_SUFFIX);
+        V stored = read(bucket).get(key);
+        if (stored != null) {
+            return stored;
+        }
+        V value = loader.apply(key);
+        return value == null ? null : store(bucket, key, value);
+    }
+
+    /**
+     * Stores the given entry in the given bucket, unless the bucket already holds a value for the given key.
+     *
+     * @param bucket The file of the bucket
+     * @param key The key with which the given value is to be associated
+     * @param value The value computed for the given key
+     * @return The value associated with the given key after this operation.
+     * @throws UncheckedIOException If the bucket cannot be read or written
+     */
+    private V store(Path bucket, K key, V value) {
+        synchronized (lock) {
+            Map<K, V> entries = read(bucket);
+            V previous = entries.putIfAbsent(key, value);
+            if (previous != null) {
+                return previous;
+            }
+            write(bucket, entries);
+            return value;
+        }
+    }
+
+    /**
+     * Reads the entries of the given bucket.
+     *
+     * @param bucket The file of the bucket
+     * @return The entries of the given bucket, which are empty if the bucket does not exist or cannot be deserialized.
+     * @throws UncheckedIOException If the bucket cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    private Map<K, V> read(Path bucket) {
+        try (InputStream input = Files.newInputStream(bucket);
+                ObjectInputStream objects = new ObjectInputStream(input)) {
+            return (Map<K, V>) objects.readObject();
+        } catch (NoSuchFileException | ObjectStreamException | ClassNotFoundException | ClassCastException e) {
+            return new HashMap<>();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Replaces the given bucket by the given entries atomically.
+     *
+     * @param bucket The file of the bucket
+     * @param entries The entries to be written
+     * @throws UncheckedIOException If the bucket cannot be written, or a key or value is not serializable
+     */
+    private void write(Path bucket, Map<K, V> entries) {
+        try {
+            move(Files.createTempFile(directory, "bucket", ".tmp"), bucket, entries);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the given entries to the given temporary file, and moves it to the given bucket atomically. The temporary
+     * file is deleted if it cannot be written or moved.
+     *
+     * @param temporary The temporary file
+     * @param bucket The file of the bucket
+     * @param entries The entries to be written
+     * @throws IOException If the bucket cannot be written, or a key or value is not serializable
+     */
+    private static void move(Path temporary, Path bucket, Object entries) throws IOException {
+        try {
+            serialize(temporary, entries);
+            Files.move(temporary, bucket, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Writes the given object serialized to the given file.
+     *
+     * @param file The file to be written
+     * @param object The object to be serialized
+     * @throws IOException If the file cannot be written, or the object is not serializable
+     */
+    private static void serialize(Path file, Object object) throws IOException {
+        try (OutputStream output = Files.newOutputStream(file);
+                ObjectOutputStream objects = new ObjectOutputStream(output)) {
+            objects.writeObject(object);
+        }
+    }
+}
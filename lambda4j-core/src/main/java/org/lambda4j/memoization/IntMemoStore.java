@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A store holding the values of a memoized (caching) functional interface from {@code int} to {@code int}. This is the
+ * {@code int}-to-{@code int} primitive specialization of {@link MemoStore}, which neither boxes keys nor values.
+ * <p>
+ * The fixed-size tables of {@link LongMemoStore} serve as {@code int} store using {@link #of(LongMemoStore)}, which
+ * widens keys and values to {@code long}.
+ *
+ * @apiNote This is a functional interface whose functional method is {@link #computeIfAbsent(int,
+ * IntUnaryOperator)}.
+ * @see MemoStore
+ * @see LongMemoStore
+ */
+@FunctionalInterface
+public interface IntMemoStore {
+
+    /**
+     * Returns an {@link IntMemoStore} which holds its values in the given {@link LongMemoStore}. Keys and values are
+     * widened to {@code long}, so they are never boxed.
+     *
+     * @param store The store which holds the values
+     * @return An {@code IntMemoStore} which holds its values in the given {@code LongMemoStore}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static IntMemoStore of(@Nonnull LongMemoStore store) {
+        Objects.requireNonNull(store);
+        return (key, loader) -> {
+            Objects.requireNonNull(loader);
+            return (int) store.computeIfAbsent(key, longKey -> loader.applyAsInt((int) longKey));
+        };
+    }
+
+    /**
+     * Returns the value associated with the given key, computing it using the given loader and storing it if the key
+     * is not present.
+     *
+     * @param key The key whose associated value is to be returned
+     * @param loader The function computing the value of the given key
+     * @return The value associated with the given key.
+     * @throws NullPointerException If given loader is {@code null}
+     */
+    int computeIfAbsent(int key, @Nonnull IntUnaryOperator loader);
+}
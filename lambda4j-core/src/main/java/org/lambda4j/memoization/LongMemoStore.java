@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.function.LongUnaryOperator;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A store holding the values of a memoized (caching) functional interface from {@code long} or {@code int} to {@code
+ * long}. This is the {@code long}-to-{@code long} primitive specialization of {@link MemoStore}, which neither boxes
+ * keys nor values.
+ * <p>
+ * This library provides the following stores:
+ * <ul>
+ *     <li>{@link LongMemoTable}: A fixed-size in-heap table.</li>
+ *     <li>{@link SharedLongMemoTable}: A fixed-size table in a memory-mapped file, which is shared by all processes on
+ *     the same host.</li>
+ * </ul>
+ * Both tables also back the {@code int} and {@code double} specializations, using {@link
+ * IntMemoStore#of(LongMemoStore)} and {@link DoubleMemoStore#of(LongMemoStore)}.
+ *
+ * @apiNote This is a functional interface whose functional method is {@link #computeIfAbsent(long,
+ * LongUnaryOperator)}.
+ * @see MemoStore
+ * @see IntMemoStore
+ * @see DoubleMemoStore
+ */
+@FunctionalInterface
+public interface LongMemoStore {
+
+    /**
+     * Returns the value associated with the given key, computing it using the given loader and storing it if the key
+     * is not present.
+     *
+     * @param key The key whose associated value is to be returned
+     * @param loader The function computing the value of the given key
+     * @return The value associated with the given key.
+     * @throws NullPointerException If given loader is {@code null}
+     */
+    long computeIfAbsent(long key, @Nonnull LongUnaryOperator loader);
+}
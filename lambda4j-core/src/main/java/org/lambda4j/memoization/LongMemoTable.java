@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.nio.LongBuffer;
+import java.util.Objects;
+import java.util.function.LongUnaryOperator;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * A fixed-size {@link LongMemoStore}, which is an open-addressing hash table with a fixed number of slots, whereas
+ * each slot holds a key, a value, a version and a checksum. Keys and values are never boxed.
+ * <p>
+ * Neither readers nor writers take any lock. A slot is published by writing its key, value and incremented version
+ * followed by a checksum over all three. A reader only accepts a slot whose checksum matches its content, so a slot
+ * which is read while it is being written, or which has been written by two threads at the same time, is treated as
+ * empty rather than returning a torn value. Concurrent writers can therefore lose an update, which only results in a
+ * later cache miss.
+ * <p>
+ * A key is looked up in at most eight consecutive slots. If none of them is free, the value replaces the entry in the
+ * first slot, so the table behaves like a cache and never grows.
+ *
+ * @see SharedLongMemoTable
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class LongMemoTable implements LongMemoStore {
+
+    /**
+     * The number of {@code long}s of a slot, which are the key, the value, the version and the checksum.
+     */
+    static final int SLOT_LONGS = 4;
+
+    /**
+     * The maximum number of slots probed for a key.
+     */
+    private static final int MAX_PROBES = 8;
+
+    /**
+     * The offset of the value within a slot.
+     */
+    private static final int VALUE_OFFSET = 1;
+
+    /**
+     * The offset of the version within a slot.
+     */
+    private static final int VERSION_OFFSET = 2;
+
+    /**
+     * The offset of the checksum within a slot.
+     */
+    private static final int CHECKSUM_OFFSET = 3;
+
+    /**
+     * The golden ratio constant used to spread keys and values.
+     */
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The first multiplier of the finalization mix.
+     */
+    private static final long MIX_MULTIPLIER_1 = 0xFF51AFD7ED558CCDL;
+
+    /**
+     * The second multiplier of the finalization mix.
+     */
+    private static final long MIX_MULTIPLIER_2 = 0xC4CEB9FE1A85EC53L;
+
+    /**
+     * The shift of the finalization mix.
+     */
+    private static final int MIX_SHIFT = 33;
+
+    /**
+     * The slots of this table.
+     */
+    private final LongBuffer table;
+
+    /**
+     * The number of slots of this table.
+     */
+    private final int slots;
+
+    /**
+     * Creates an empty in-heap table with the given number of slots.
+     *
+     * @param slotCount The number of slots of the table
+     * @throws IllegalArgumentException If given number of slots is less than {@code 1} or too large
+     */
+    public LongMemoTable(@Nonnegative int slotCount) {
+        this(LongBuffer.allocate(requireSlotCount(slotCount, Integer.MAX_VALUE / SLOT_LONGS) * SLOT_LONGS), slotCount);
+    }
+
+    /**
+     * Creates a table over the given slots, which may be shared with other tables or processes.
+     *
+     * @param slotTable The slots of the table, which are {@link #SLOT_LONGS} {@code long}s each
+     * @param slotCount The number of slots of the table
+     */
+    LongMemoTable(LongBuffer slotTable, int slotCount) {
+        this.table = slotTable;
+        this.slots = slotCount;
+    }
+
+    /**
+     * Checks that the given number of slots is positive and does not exceed the given maximum.
+     *
+     * @param slotCount The number of slots to be checked
+     * @param maximum The maximum number of slots
+     * @return The given number of slots.
+     * @throws IllegalArgumentException If given number of slots is less than {@code 1} or greater than given maximum
+     */
+    static int requireSlotCount(int slotCount, int maximum) {
+        if (slotCount < 1 || slotCount > maximum) {
+            throw new IllegalArgumentException("Slot count must be between 1 and " + maximum + ": " + slotCount);
+        }
+        return slotCount;
+    }
+
+    @Override
+    public long computeIfAbsent(long key, @Nonnull LongUnaryOperator loader) {
+        Objects.requireNonNull(loader);
+        int home = (int) ((mix(key) >>> 1) % slots);
+        int free = home;
+        boolean found = false;
+        for (int probe = 0; probe < MAX_PROBES && probe < slots; probe++) {
+            int position = (home + probe) % slots * SLOT_LONGS;
+            long version = table.get(position + VERSION_OFFSET);
+            long slotKey = table.get(position);
+            long value = table.get(position + VALUE_OFFSET);
+            boolean valid = version != 0L && table.get(position + CHECKSUM_OFFSET) == checksum(slotKey, value, version);
+            if (valid && slotKey == key) {
+                return value;
+            }
+            if (!valid && !found) {
+                free = (home + probe) % slots;
+                found = true;
+            }
+        }
+        long value = loader.applyAsLong(key);
+        publish(free * SLOT_LONGS, key, value);
+        return value;
+    }
+
+    /**
+     * Returns the number of slots of this table.
+     *
+     * @return The number of slots of this table.
+     */
+    @Nonnegative
+    public int getSlotCount() {
+        return slots;
+    }
+
+    /**
+     * Writes the given entry into the slot at the given position, incrementing the version of the slot.
+     *
+     * @param position The position of the slot
+     * @param key The key to be written
+     * @param value The value to be written
+     */
+    private void publish(int position, long key, long value) {
+        long version = table.get(position + VERSION_OFFSET) + 1L;
+        if (version == 0L) {
+            version = 1L;
+        }
+        table.put(position, key);
+        table.put(position + VALUE_OFFSET, value);
+        table.put(position + VERSION_OFFSET, version);
+        table.put(position + CHECKSUM_OFFSET, checksum(key, value, version));
+    }
+
+    /**
+     * Returns the checksum of a slot holding the given key, value and version.
+     *
+     * @param key The key of the slot
+     * @param value The value of the slot
+     * @param version The version of the slot
+     * @return The checksum of a slot holding the given key, value and version.
+     */
+    private static long checksum(long key, long value, long version) {
+        return mix(key ^ mix(value + GOLDEN_RATIO * mix(version)));
+    }
+
+    /**
+     * Returns the MurmurHash3 finalization mix of the given value.
+     *
+     * @param value The value to be mixed
+     * @return The mixed value.
+     */
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> MIX_SHIFT)) * MIX_MULTIPLIER_1;
+        mixed = (mixed ^ (mixed >>> MIX_SHIFT)) * MIX_MULTIPLIER_2;
+        return mixed ^ (mixed >>> MIX_SHIFT);
+    }
+}
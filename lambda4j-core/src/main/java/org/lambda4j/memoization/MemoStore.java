@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.function.Function;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * A store holding the values of a memoized (caching) functional interface by their keys, which are the (possibly
+ * tupled) arguments of the memoized function. Every memoized functional interface of this library delegates to a
+ * store, so how and where values are cached can be chosen by passing a store to its {@code memoized} method.
+ * <p>
+ * This library provides the following stores:
+ * <ul>
+ *     <li>{@link ConcurrentMemoStore}: An unbounded in-heap store, which is used by default.</li>
+ *     <li>{@link BoundedMemoStore}: An in-heap store holding a bounded number of values.</li>
+ *     <li>{@link CostAwareCache}: An in-heap store evicting the values which are cheapest to recompute.</li>
+ *     <li>{@link AdaptiveMemoizer}: An in-heap store deciding at runtime whether caching pays off.</li>
+ *     <li>{@link FileMemoStore}: A store persisting values in files of a directory.</li>
+ *     <li>{@link TieredMemoStore}: A composite of a fast store in front of a slower one, e.g. memory in front of
+ *     disk.</li>
+ * </ul>
+ * For functions from {@code long} or {@code int} to {@code long}, from {@code int} to {@code int} and from {@code
+ * double} to {@code double}, the primitive specializations {@link LongMemoStore}, {@link IntMemoStore} and {@link
+ * DoubleMemoStore} avoid boxing keys and values.
+ *
+ * @param <K> The type of the keys, which are the (possibly tupled) arguments of the memoized function
+ * @param <V> The type of the values, which are the results of the memoized function
+ * @apiNote This is a functional interface whose functional method is {@link #computeIfAbsent(Object, Function)}.
+ * @see LongMemoStore
+ * @see IntMemoStore
+ * @see DoubleMemoStore
+ */
+@FunctionalInterface
+public interface MemoStore<K, V> {
+
+    /**
+     * Returns the value associated with the given key, computing it using the given loader and storing it if the key
+     * is not present. If the loader returns {@code null}, no value is stored.
+     *
+     * @param key The key whose associated value is to be returned
+     * @param loader The function computing the value of the given key
+     * @return The value associated with the given key, or {@code null} if the loader returned {@code null}.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @CheckForNull
+    V computeIfAbsent(@Nonnull K key, @Nonnull Function<? super K, ? extends V> loader);
+}
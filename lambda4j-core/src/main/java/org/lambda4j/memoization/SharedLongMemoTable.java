@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.LongUnaryOperator;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * A fixed-size {@link LongMemoStore}, which lives in a memory-mapped file and can therefore be shared by all processes
+ * on the same host, which open the same file. The file holds a {@link LongMemoTable}, so keys and values are never
+ * boxed.
+ * <p>
+ * Neither readers nor writers take any lock. As Java 8 provides no atomic compare-and-set on mapped memory, a slot is
+ * published by writing its key, value and incremented version followed by a checksum over all three. A reader only
+ * accepts a slot whose checksum matches its content, so a slot which is read while it is being written, or which has
+ * been written by two processes at the same time, is treated as empty rather than returning a torn value. Concurrent
+ * writers can therefore lose an update, which only results in a later cache miss.
+ * <p>
+ * The mapping of the file remains valid until this table is garbage collected, there is no need to close it.
+ *
+ * @see LongMemoTable
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class SharedLongMemoTable implements LongMemoStore {
+
+    /**
+     * The magic number identifying a memoization table file.
+     */
+    private static final long MAGIC = 0x4C344A4D454D4F31L;
+
+    /**
+     * The size of the file header in bytes, which holds the magic number and the number of slots.
+     */
+    private static final int HEADER_SIZE = 16;
+
+    /**
+     * The size of a slot in bytes.
+     */
+    private static final int SLOT_SIZE = LongMemoTable.SLOT_LONGS * Long.BYTES;
+
+    /**
+     * The maximum number of slots, so that the table fits into a single mapping.
+     */
+    private static final int MAX_SLOTS = (Integer.MAX_VALUE - HEADER_SIZE) / SLOT_SIZE;
+
+    /**
+     * The table in the mapped file.
+     */
+    private final LongMemoTable table;
+
+    /**
+     * Creates a table over the given mapped file.
+     *
+     * @param mapped The mapped file, including its header
+     * @param slotCount The number of slots of the table
+     */
+    private SharedLongMemoTable(MappedByteBuffer mapped, int slotCount) {
+        mapped.position(HEADER_SIZE);
+        LongBuffer slots = mapped.slice().asLongBuffer();
+        this.table = new LongMemoTable(slots, slotCount);
+    }
+
+    /**
+     * Opens the memoization table in the given file, which is created with the given number of slots if it does not
+     * exist yet. All processes opening the same file share the same table.
+     *
+     * @param file The file holding the table
+     * @param slotCount The number of slots of the table, which must match the number of slots of an existing table
+     * @return The memoization table in the given file.
+     * @throws NullPointerException If given file is {@code null}
+     * @throws IllegalArgumentException If given number of slots is less than {@code 1} or too large to be mapped
+     * @throws IOException If the file cannot be opened or mapped, or holds a table of a different number of slots
+     */
+    @Nonnull
+    public static SharedLongMemoTable open(@Nonnull Path file, @Nonnegative int slotCount) throws IOException {
+        Objects.requireNonNull(file);
+        LongMemoTable.requireSlotCount(slotCount, MAX_SLOTS);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return map(file, channel, slotCount);
+        }
+    }
+
+    @Override
+    public long computeIfAbsent(long key, @Nonnull LongUnaryOperator loader) {
+        return table.computeIfAbsent(key, loader);
+    }
+
+    /**
+     * Returns the number of slots of this table.
+     *
+     * @return The number of slots of this table.
+     */
+    @Nonnegative
+    public int getSlotCount() {
+        return table.getSlotCount();
+    }
+
+    /**
+     * Maps the table in the given file, initializing its header if the file has just been created.
+     *
+     * @param file The file holding the table
+     * @param channel The open channel of the file
+     * @param slotCount The number of slots of the table
+     * @return The memoization table in the given file.
+     * @throws IOException If the file cannot be mapped, or holds a table of a different number of slots
+     */
+    private static SharedLongMemoTable map(Path file, FileChannel channel, int slotCount) throws IOException {
+        long size = HEADER_SIZE + (long) slotCount * SLOT_SIZE;
+        if (channel.size() != 0L && channel.size() != size) {
+            throw mismatch(file, slotCount);
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0L, size);
+        long magic = mapped.getLong(0);
+        if (magic == 0L) {
+            mapped.putInt(Long.BYTES, slotCount);
+            mapped.putLong(0, MAGIC);
+        } else if (magic != MAGIC || mapped.getInt(Long.BYTES) != slotCount) {
+            throw mismatch(file, slotCount);
+        }
+        return new SharedLongMemoTable(mapped, slotCount);
+    }
+
+    /**
+     * Returns the exception thrown if the given file does not hold a table of the given number of slots.
+     *
+     * @param file The file holding the table
+     * @param slotCount The expected number of slots of the table
+     * @return The exception thrown if the given file does not hold a table of the given number of slots.
+     */
+    private static IOException mismatch(Path file, int slotCount) {
+        return new IOException("File " + file + " does not hold a table of " + slotCount + " slots");
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link MemoStore} composed of a fast front store, e.g. in memory, in front of a slower back store, e.g. on disk. A
+ * value is looked up in the front store first, then in the back store, and is only computed if neither of them holds
+ * it. A value found in or computed for the back store is also stored in the front store.
+ * <p>
+ * As the back store is consulted by the loader of the front store, the front store should be a bounded store, so that
+ * it keeps the most valuable values only, while the back store holds all of them.
+ *
+ * @param <K> The type of the keys, which are the (possibly tupled) arguments of the memoized function
+ * @param <V> The type of the values, which are the results of the memoized function
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class TieredMemoStore<K, V> implements MemoStore<K, V> {
+
+    /**
+     * The store which is consulted first.
+     */
+    private final MemoStore<K, V> front;
+
+    /**
+     * The store which is consulted if the front store does not hold a value.
+     */
+    private final MemoStore<K, V> back;
+
+    /**
+     * Creates a store composed of the given stores.
+     *
+     * @param frontStore The store which is consulted first
+     * @param backStore The store which is consulted if the front store does not hold a value
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    public TieredMemoStore(@Nonnull MemoStore<K, V> frontStore, @Nonnull MemoStore<K, V> backStore) {
+        this.front = Objects.requireNonNull(frontStore);
+        this.back = Objects.requireNonNull(backStore);
+    }
+
+    @CheckForNull
+    @Override
+    public V computeIfAbsent(@Nonnull K key, @Nonnull Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(loader);
+        return front.computeIfAbsent(key, absent -> back.computeIfAbsent(absent, loader));
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * A running warm-up of a memoized (caching) functional interface, which computes the values of a known set of keys in
+ * advance, so that the cache is populated before the functional interface takes traffic. The keys are split into
+ * chunks, which are computed in parallel by a {@link ForkJoinPool}.
+ * <p>
+ * The progress of a warm-up is reported by {@link #getCompleted()} and {@link #getProgress()}, which are updated
+ * whenever a chunk is finished. A warm-up can be cancelled at any time using {@link #cancel()}, in which case every
+ * chunk stops before computing its next key. A cancelled warm-up only counts as cut short if at least one key was
+ * left out, so a cancellation racing with the last chunk never hides that all keys have been computed.
+ *
+ * @apiNote A warm-up is usually started by the {@code warmUp} method of a memoized functional interface, which passes
+ * its memoized computation as action.
+ */
+@SuppressWarnings({"PMD.BeanMembersShouldSerialize", "PMD.DoNotUseThreads"})
+public final class WarmUp {
+
+    /**
+     * The number of chunks per worker thread of the pool.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * The chunk size used if the number of keys is unknown.
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    /**
+     * The total number of keys, or {@code -1} if unknown.
+     */
+    private final long total;
+
+    /**
+     * The number of keys whose values have been computed.
+     */
+    private final LongAdder completed;
+
+    /**
+     * The root task of this warm-up, which is done once all chunks are finished.
+     */
+    private final ForkJoinTask<Void> task;
+
+    /**
+     * Whether this warm-up has been cancelled.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Whether a chunk stopped before computing all of its keys, because this warm-up has been cancelled.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * Creates a warm-up of the given number of keys, which is not started yet.
+     *
+     * @param keyCount The total number of keys, or {@code -1} if unknown
+     * @param root The function creating the root task of the warm-up
+     */
+    private WarmUp(long keyCount, @Nonnull Function<WarmUp, RecursiveAction> root) {
+        this.total = keyCount;
+        this.completed = new LongAdder();
+        this.task = root.apply(this);
+    }
+
+    /**
+     * Starts a warm-up, which calls the given action for every {@code int} of the given range in the given pool. The
+     * keys are never boxed.
+     *
+     * @param startInclusive The first key of the range
+     * @param endExclusive The key following the last key of the range
+     * @param action The action to be called for every key, usually a memoized function
+     * @param pool The pool computing the keys
+     * @return The started warm-up.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given start is greater than given end
+     */
+    @Nonnull
+    public static WarmUp ofIntRange(int startInclusive, int endExclusive, @Nonnull IntConsumer action,
+            @Nonnull ForkJoinPool pool) {
+        Objects.requireNonNull(action);
+        return ofLongRange(startInclusive, endExclusive, key -> action.accept((int) key), pool);
+    }
+
+    /**
+     * Starts a warm-up, which calls the given action for every {@code long} of the given range in the given pool. The
+     * keys are never boxed.
+     *
+     * @param startInclusive The first key of the range
+     * @param endExclusive The key following the last key of the range
+     * @param action The action to be called for every key, usually a memoized function
+     * @param pool The pool computing the keys
+     * @return The started warm-up.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given start is greater than given end, or the range holds more than {@link
+     * Long#MAX_VALUE} keys
+     */
+    @Nonnull
+    public static WarmUp ofLongRange(long startInclusive, long endExclusive, @Nonnull LongConsumer action,
+            @Nonnull ForkJoinPool pool) {
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(pool);
+        if (startInclusive > endExclusive) {
+            throw new IllegalArgumentException("Start is greater than end: " + startInclusive + " > " + endExclusive);
+        }
+        long keyCount = endExclusive - startInclusive;
+        if (keyCount < 0L) {
+            throw new IllegalArgumentException("Range is too large: " + startInclusive + " to " + endExclusive);
+        }
+        long chunkSize = Math.max(keyCount / ((long) pool.getParallelism() * CHUNKS_PER_THREAD), 1L);
+        return new WarmUp(keyCount, warmUp -> warmUp.new RangeTask(startInclusive, endExclusive, chunkSize, action))
+                .start(pool);
+    }
+
+    /**
+     * Starts a warm-up, which calls the given action for every key of the given {@link Iterable} in the given pool. If
+     * the keys are a {@link java.util.Collection}, their number is known and {@link #getProgress()} is available.
+     *
+     * @param <T> The type of the keys
+     * @param keys The keys to be computed
+     * @param action The action to be called for every key, usually a memoized function
+     * @param pool The pool computing the keys
+     * @return The started warm-up.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    public static <T> WarmUp of(@Nonnull Iterable<? extends T> keys, @Nonnull Consumer<? super T> action,
+            @Nonnull ForkJoinPool pool) {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(pool);
+        Spliterator<? extends T> spliterator = keys.spliterator();
+        long keyCount = spliterator.getExactSizeIfKnown();
+        long chunkSize = keyCount < 0L
+                ? DEFAULT_CHUNK_SIZE
+                : Math.max(keyCount / ((long) pool.getParallelism() * CHUNKS_PER_THREAD), 1L);
+        return new WarmUp(keyCount, warmUp -> warmUp.new KeyTask<T>(spliterator, chunkSize, action)).start(pool);
+    }
+
+    /**
+     * Returns the total number of keys of this warm-up.
+     *
+     * @return The total number of keys of this warm-up, or {@code -1} if unknown.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of keys whose values have been computed so far.
+     *
+     * @return The number of keys whose values have been computed so far.
+     */
+    @Nonnegative
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * Returns the fraction of keys whose values have been computed so far, which ranges from {@code 0} to {@code 1}.
+     *
+     * @return The fraction of keys whose values have been computed so far, or {@link Double#NaN} if the total number
+     * of keys is unknown and this warm-up is not done yet.
+     */
+    public double getProgress() {
+        if (total == 0L || total < 0L && isDone()) {
+            return 1.0;
+        }
+        return total < 0L ? Double.NaN : (double) completed.sum() / total;
+    }
+
+    /**
+     * Cancels this warm-up, unless it is already done. Values which are being computed are finished, but no further
+     * keys are computed. This warm-up is done once every chunk has stopped. If the chunks computed all keys anyway,
+     * {@link #join()} returns normally.
+     *
+     * @return {@code true} if this warm-up was cancelled, {@code false} if it was already done.
+     */
+    public boolean cancel() {
+        if (task.isDone()) {
+            return false;
+        }
+        cancelled = true;
+        return true;
+    }
+
+    /**
+     * Returns whether this warm-up has been cancelled.
+     *
+     * @return {@code true} if this warm-up has been cancelled, {@code false} otherwise.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Returns whether this warm-up is done, which is when it computed all keys, failed, or has been cancelled and
+     * every chunk has stopped.
+     *
+     * @return {@code true} if this warm-up is done, {@code false} otherwise.
+     */
+    public boolean isDone() {
+        return task.isDone();
+    }
+
+    /**
+     * Waits until this warm-up computed all keys, or every chunk has stopped after it has been cancelled.
+     *
+     * @throws CancellationException If this warm-up has been cancelled before all keys were computed
+     * @throws RuntimeException If the action failed for any key, in which case that exception is rethrown
+     */
+    public void join() {
+        task.join();
+        if (stopped) {
+            throw new CancellationException("Warm-up has been cancelled");
+        }
+    }
+
+    /**
+     * Submits the root task of this warm-up to the given pool.
+     *
+     * @param pool The pool computing the keys
+     * @return This warm-up.
+     */
+    private WarmUp start(ForkJoinPool pool) {
+        pool.execute(task);
+        return this;
+    }
+
+    /**
+     * A task computing a range of keys, which splits itself in halves until the range fits into a chunk.
+     */
+    private final class RangeTask extends RecursiveAction {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The first key of the range.
+         */
+        private final long from;
+
+        /**
+         * The key following the last key of the range.
+         */
+        private final long to;
+
+        /**
+         * The maximum number of keys computed without splitting.
+         */
+        private final long chunkSize;
+
+        /**
+         * The action to be called for every key.
+         */
+        private final transient LongConsumer action;
+
+        /**
+         * Creates a task computing the given range of keys.
+         *
+         * @param startInclusive The first key of the range
+         * @param endExclusive The key following the last key of the range
+         * @param maximumChunkSize The maximum number of keys computed without splitting
+         * @param keyAction The action to be called for every key
+         */
+        private RangeTask(long startInclusive, long endExclusive, long maximumChunkSize, LongConsumer keyAction) {
+            this.from = startInclusive;
+            this.to = endExclusive;
+            this.chunkSize = maximumChunkSize;
+            this.action = keyAction;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled) {
+                if (from < to) {
+                    stopped = true;
+                }
+                return;
+            }
+            if (to - from > chunkSize) {
+                long middle = from + (to - from) / 2L;
+                invokeAll(new RangeTask(from, middle, chunkSize, action), new RangeTask(middle, to, chunkSize, action));
+                return;
+            }
+            long key = from;
+            while (key < to && !cancelled) {
+                action.accept(key);
+                key++;
+            }
+            completed.add(key - from);
+            if (key < to) {
+                stopped = true;
+            }
+        }
+    }
+
+    /**
+     * A task computing the keys of a {@link Spliterator}, which splits itself until the keys fit into a chunk.
+     *
+     * @param <T> The type of the keys
+     */
+    private final class KeyTask<T> extends RecursiveAction {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The keys to be computed.
+         */
+        private final transient Spliterator<? extends T> keys;
+
+        /**
+         * The maximum number of keys computed without splitting.
+         */
+        private final long chunkSize;
+
+        /**
+         * The action to be called for every key.
+         */
+        private final transient Consumer<? super T> action;
+
+        /**
+         * Creates a task computing the keys of the given {@link Spliterator}.
+         *
+         * @param spliterator The keys to be computed
+         * @param maximumChunkSize The maximum number of keys computed without splitting
+         * @param keyAction The action to be called for every key
+         */
+        private KeyTask(Spliterator<? extends T> spliterator, long maximumChunkSize, Consumer<? super T> keyAction) {
+            this.keys = spliterator;
+            this.chunkSize = maximumChunkSize;
+            this.action = keyAction;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled) {
+                skipRemaining();
+                return;
+            }
+            Spliterator<? extends T> prefix = keys.estimateSize() > chunkSize ? keys.trySplit() : null;
+            if (prefix != null) {
+                invokeAll(new KeyTask<T>(prefix, chunkSize, action), new KeyTask<T>(keys, chunkSize, action));
+                return;
+            }
+            long count = 0L;
+            while (!cancelled && keys.tryAdvance(action)) {
+                count++;
+            }
+            completed.add(count);
+            if (cancelled) {
+                skipRemaining();
+            }
+        }
+
+        /**
+         * Marks this warm-up as cut short if any of the keys of this task is left, without computing it.
+         */
+        private void skipRemaining() {
+            if (keys.tryAdvance(key -> { })) {
+                stopped = true;
+            }
+        }
+    }
+}
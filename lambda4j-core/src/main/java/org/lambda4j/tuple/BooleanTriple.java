@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.tuple;
+
+import java.io.Serializable;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An immutable triple of three {@code boolean} elements.
+ * <p>
+ * In contrast to {@code org.apache.commons.lang3.tuple.Triple}, the primitive elements are stored without boxing them,
+ * so a triple costs a single small object. Its hash code mixes the bits of all elements, so that it is well distributed
+ * even for small or sequential values, which makes it a suitable key for hash-based caches such as the ones used by
+ * memoized functional interfaces.
+ */
+public final class BooleanTriple implements Serializable, Comparable<BooleanTriple> {
+
+    /**
+     * The serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The left element of this triple.
+     */
+    private final boolean left;
+
+    /**
+     * The middle element of this triple.
+     */
+    private final boolean middle;
+
+    /**
+     * The right element of this triple.
+     */
+    private final boolean right;
+
+    /**
+     * Creates a triple of the given elements.
+     *
+     * @param leftValue The left element
+     * @param middleValue The middle element
+     * @param rightValue The right element
+     */
+    private BooleanTriple(boolean leftValue, boolean middleValue, boolean rightValue) {
+        this.left = leftValue;
+        this.middle = middleValue;
+        this.right = rightValue;
+    }
+
+    /**
+     * Returns a triple of the given elements.
+     *
+     * @param left The left element
+     * @param middle The middle element
+     * @param right The right element
+     * @return A triple of the given elements.
+     */
+    @Nonnull
+    public static BooleanTriple of(boolean left, boolean middle, boolean right) {
+        return new BooleanTriple(left, middle, right);
+    }
+
+    /**
+     * Returns the left element of this triple.
+     *
+     * @return The left element of this triple.
+     */
+    @SuppressWarnings("PMD.BooleanGetMethodName")
+    public boolean getLeft() {
+        return left;
+    }
+
+    /**
+     * Returns the middle element of this triple.
+     *
+     * @return The middle element of this triple.
+     */
+    @SuppressWarnings("PMD.BooleanGetMethodName")
+    public boolean getMiddle() {
+        return middle;
+    }
+
+    /**
+     * Returns the right element of this triple.
+     *
+     * @return The right element of this triple.
+     */
+    @SuppressWarnings("PMD.BooleanGetMethodName")
+    public boolean getRight() {
+        return right;
+    }
+
+    @Override
+    public int compareTo(@Nonnull BooleanTriple other) {
+        int resultLeft = Boolean.compare(left, other.left);
+        if (resultLeft != 0) {
+            return resultLeft;
+        }
+        int resultMiddle = Boolean.compare(middle, other.middle);
+        if (resultMiddle != 0) {
+            return resultMiddle;
+        }
+        return Boolean.compare(right, other.right);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof BooleanTriple)) {
+            return false;
+        }
+        BooleanTriple other = (BooleanTriple) obj;
+        return left == other.left && middle == other.middle && right == other.right;
+    }
+
+    @Override
+    public int hashCode() {
+        return TupleHashes.hash(left ? 1L : 0L, middle ? 1L : 0L, right ? 1L : 0L);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + left + ',' + middle + ',' + right + ')';
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.tuple;
+
+import java.io.Serializable;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An immutable pair of two {@code byte} elements.
+ * <p>
+ * In contrast to {@code org.apache.commons.lang3.tuple.Pair}, the primitive elements are stored without boxing them, so
+ * a pair costs a single small object. Its hash code mixes the bits of all elements, so that it is well distributed even
+ * for small or sequential values, which makes it a suitable key for hash-based caches such as the ones used by memoized
+ * functional interfaces.
+ */
+public final class ByteBytePair implements Serializable, Comparable<ByteBytePair> {
+
+    /**
+     * The serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The left element of this pair.
+     */
+    private final byte left;
+
+    /**
+     * The right element of this pair.
+     */
+    private final byte right;
+
+    /**
+     * Creates a pair of the given elements.
+     *
+     * @param leftValue The left element
+     * @param rightValue The right element
+     */
+    private ByteBytePair(byte leftValue, byte rightValue) {
+        this.left = leftValue;
+        this.right = rightValue;
+    }
+
+    /**
+     * Returns a pair of the given elements.
+     *
+     * @param left The left element
+     * @param right The right element
+     * @return A pair of the given elements.
+     */
+    @Nonnull
+    public static ByteBytePair of(byte left, byte right) {
+        return new ByteBytePair(left, right);
+    }
+
+    /**
+     * Returns the left element of this pair.
+     *
+     * @return The left element of this pair.
+     */
+    public byte getLeft() {
+        return left;
+    }
+
+    /**
+     * Returns the right element of this pair.
+     *
+     * @return The right element of this pair.
+     */
+    public byte getRight() {
+        return right;
+    }
+
+    @Override
+    public int compareTo(@Nonnull ByteBytePair other) {
+        int resultLeft = Byte.compare(left, other.left);
+        if (resultLeft != 0) {
+            return resultLeft;
+        }
+        return Byte.compare(right, other.right);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ByteBytePair)) {
+            return false;
+        }
+        ByteBytePair other = (ByteBytePair) obj;
+        return left == other.left && right == other.right;
+    }
+
+    @Override
+    public int hashCode() {
+        return TupleHashes.hash(left, right);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + left + ',' + right + ')';
+    }
+}
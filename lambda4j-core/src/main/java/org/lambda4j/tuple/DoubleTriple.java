@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.tuple;
+
+import java.io.Serializable;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An immutable triple of three {@code double} elements.
+ * <p>
+ * In contrast to {@code org.apache.commons.lang3.tuple.Triple}, the primitive elements are stored without boxing them,
+ * so a triple costs a single small object. Its hash code mixes the bits of all elements, so that it is well distributed
+ * even for small or sequential values, which makes it a suitable key for hash-based caches such as the ones used by
+ * memoized functional interfaces.
+ */
+public final class DoubleTriple implements Serializable, Comparable<DoubleTriple> {
+
+    /**
+     * The serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The left element of this triple.
+     */
+    private final double left;
+
+    /**
+     * The middle element of this triple.
+     */
+    private final double middle;
+
+    /**
+     * The right element of this triple.
+     */
+    private final double right;
+
+    /**
+     * Creates a triple of the given elements.
+     *
+     * @param leftValue The left element
+     * @param middleValue The middle element
+     * @param rightValue The right element
+     */
+    private DoubleTriple(double leftValue, double middleValue, double rightValue) {
+        this.left = leftValue;
+        this.middle = middleValue;
+        this.right = rightValue;
+    }
+
+    /**
+     * Returns a triple of the given elements.
+     *
+     * @param left The left element
+     * @param middle The middle element
+     * @param right The right element
+     * @return A triple of the given elements.
+     */
+    @Nonnull
+    public static DoubleTriple of(double left, double middle, double right) {
+        return new DoubleTriple(left, middle, right);
+    }
+
+    /**
+     * Returns the left element of this triple.
+     *
+     * @return The left element of this triple.
+     */
+    public double getLeft() {
+        return left;
+    }
+
+    /**
+     * Returns the middle element of this triple.
+     *
+     * @return The middle element of this triple.
+     */
+    public double getMiddle() {
+        return middle;
+    }
+
+    /**
+     * Returns the right element of this triple.
+     *
+     * @return The right element of this triple.
+     */
+    public double getRight() {
+        return right;
+    }
+
+    @Override
+    public int compareTo(@Nonnull DoubleTriple other) {
+        int resultLeft = Double.compare(left, other.left);
+        if (resultLeft != 0) {
+            return resultLeft;
+        }
+        int resultMiddle = Double.compare(middle, other.middle);
+        if (resultMiddle != 0) {
+            return resultMiddle;
+        }
+        return Double.compare(right, other.right);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DoubleTriple)) {
+            return false;
+        }
+        DoubleTriple other = (DoubleTriple) obj;
+        return Double.doubleToLongBits(left) == Double.doubleToLongBits(other.left)
+                && Double.doubleToLongBits(middle) == Double.doubleToLongBits(other.middle)
+                && Double.doubleToLongBits(right) == Double.doubleToLongBits(other.right);
+    }
+
+    @Override
+    public int hashCode() {
+        return TupleHashes.hash(Double.doubleToLongBits(left), Double.doubleToLongBits(middle),
+                Double.doubleToLongBits(right));
+    }
+
+    @Override
+    public String toString() {
+        return "(" + left + ',' + middle + ',' + right + ')';
+    }
+}
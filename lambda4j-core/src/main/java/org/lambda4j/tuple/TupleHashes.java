@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.tuple;
+
+/**
+ * This class implements the hash function shared by the tuples of this package. It combines the bits of the elements
+ * of a tuple and mixes the result using the finalizer of MurmurHash3, so that every bit of every element affects every
+ * bit of the hash code. This avoids the clustering of hash codes of tuples of small or sequential values, which e.g.
+ * {@code 31 * left + right} suffers from.
+ */
+final class TupleHashes {
+
+    /**
+     * The 64-bit golden ratio constant, used to spread the combined elements.
+     */
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private TupleHashes() {
+
+    }
+
+    /**
+     * Returns the hash code of a pair with the given element bits.
+     *
+     * @param left The bits of the left element
+     * @param right The bits of the right element
+     * @return The hash code of a pair with the given element bits.
+     */
+    static int hash(long left, long right) {
+        return mix(left * GOLDEN_RATIO + right);
+    }
+
+    /**
+     * Returns the hash code of a triple with the given element bits.
+     *
+     * @param left The bits of the left element
+     * @param middle The bits of the middle element
+     * @param right The bits of the right element
+     * @return The hash code of a triple with the given element bits.
+     */
+    static int hash(long left, long middle, long right) {
+        return mix((left * GOLDEN_RATIO + middle) * GOLDEN_RATIO + right);
+    }
+
+    /**
+     * Mixes the given value using the 64-bit finalizer of MurmurHash3 and folds the result into an {@code int}.
+     *
+     * @param value The value to be mixed
+     * @return The mixed value folded into an {@code int}.
+     */
+    private static int mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) (h ^ h >>> 32);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveMemoizerTest {
+
+    @Test
+    void constructor_givenNonPositiveCapacity_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AdaptiveMemoizer<>(0, 0.3, 0.1, 0L));
+    }
+
+    @Test
+    void constructor_givenDisableRatioNotLessThanEnableRatio_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AdaptiveMemoizer<>(16, 0.3, 0.3, 0L));
+    }
+
+    @Test
+    void constructor_givenNegativeSaving_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AdaptiveMemoizer<>(16, 0.3, 0.1, -1L));
+    }
+
+    @Test
+    void computeIfAbsent_givenNull_throwsException() {
+        AdaptiveMemoizer<Integer, Integer> memoizer = new AdaptiveMemoizer<>();
+        Assertions.assertThrows(NullPointerException.class, () -> memoizer.computeIfAbsent(null, key -> key));
+        Assertions.assertThrows(NullPointerException.class, () -> memoizer.computeIfAbsent(1, null));
+    }
+
+    @Test
+    void computeIfAbsent_givenNothing_startsPassingThrough() {
+        AdaptiveMemoizer<Integer, Integer> memoizer = new AdaptiveMemoizer<>();
+        Assertions.assertEquals(AdaptiveMemoizer.Mode.PASS_THROUGH, memoizer.getMode());
+        Assertions.assertEquals(0, memoizer.size());
+    }
+
+    @Test
+    void computeIfAbsent_givenRepeatingKeys_switchesToCached() {
+        AdaptiveMemoizer<Integer, Integer> memoizer = new AdaptiveMemoizer<>(1024, 0.3, 0.1, 0L);
+        AtomicInteger computations = new AtomicInteger();
+        Function<Integer, Integer> loader = key -> {
+            computations.incrementAndGet();
+            return key * 2;
+        };
+        for (int i = 0; i < 100_000; i++) {
+            Assertions.assertEquals((i % 10) * 2, memoizer.computeIfAbsent(i % 10, loader));
+        }
+        Assertions.assertEquals(AdaptiveMemoizer.Mode.CACHED, memoizer.getMode());
+        Assertions.assertEquals(10, memoizer.size());
+        Assertions.assertTrue(memoizer.getHitRatio() > 0.9);
+        Assertions.assertTrue(computations.get() < 100_000);
+    }
+
+    @Test
+    void computeIfAbsent_givenKeysRepeatedOnce_estimatesHitRatioOfHalf() {
+        AdaptiveMemoizer<Integer, Integer> memoizer = new AdaptiveMemoizer<>(1024, 0.3, 0.1, 0L);
+        for (int i = 0; i < 100_000; i++) {
+            Assertions.assertEquals(i / 2, memoizer.computeIfAbsent(i / 2, Function.identity()));
+        }
+        Assertions.assertNotEquals(AdaptiveMemoizer.Mode.PASS_THROUGH, memoizer.getMode());
+        Assertions.assertTrue(memoizer.getHitRatio() > 0.25);
+    }
+
+    @Test
+    void computeIfAbsent_givenUniqueKeys_keepsPassingThrough() {
+        AdaptiveMemoizer<Integer, Integer> memoizer = new AdaptiveMemoizer<>(1024, 0.3, 0.1, 0L);
+        for (int i = 0; i < 100_000; i++) {
+            Assertions.assertEquals(i, memoizer.computeIfAbsent(i, Function.identity()));
+        }
+        Assertions.assertEquals(AdaptiveMemoizer.Mode.PASS_THROUGH, memoizer.getMode());
+        Assertions.assertEquals(0, memoizer.size());
+    }
+
+    @Test
+    void computeIfAbsent_givenChangingWorkload_switchesBackToPassThrough() {
+        AdaptiveMemoizer<Integer, Integer> memoizer = new AdaptiveMemoizer<>(200_000, 0.3, 0.1, 0L);
+        for (int i = 0; i < 100_000; i++) {
+            memoizer.computeIfAbsent(i % 10, Function.identity());
+        }
+        Assertions.assertEquals(AdaptiveMemoizer.Mode.CACHED, memoizer.getMode());
+        for (int i = 0; i < 100_000; i++) {
+            memoizer.computeIfAbsent(100_000 + i, Function.identity());
+        }
+        Assertions.assertEquals(AdaptiveMemoizer.Mode.PASS_THROUGH, memoizer.getMode());
+        Assertions.assertEquals(0, memoizer.size());
+    }
+
+    @Test
+    void computeIfAbsent_givenWorkingSetLargerThanCapacity_switchesToBounded() {
+        AdaptiveMemoizer<Integer, Integer> memoizer = new AdaptiveMemoizer<>(64, 0.3, 0.01, 0L);
+        for (int i = 0; i < 100_000; i++) {
+            memoizer.computeIfAbsent(i % 10, Function.identity());
+        }
+        for (int i = 0; i < 1000; i++) {
+            memoizer.computeIfAbsent(i % 100, Function.identity());
+        }
+        Assertions.assertEquals(AdaptiveMemoizer.Mode.BOUNDED, memoizer.getMode());
+        Assertions.assertTrue(memoizer.size() <= memoizer.getCapacity());
+    }
+
+    @Test
+    void computeIfAbsent_givenNullValue_doesNotCacheValue() {
+        AdaptiveMemoizer<Integer, Integer> memoizer = new AdaptiveMemoizer<>(1024, 0.3, 0.1, 0L);
+        for (int i = 0; i < 100_000; i++) {
+            memoizer.computeIfAbsent(i % 10, key -> key);
+        }
+        Assertions.assertNull(memoizer.computeIfAbsent(-1, key -> null));
+        Assertions.assertEquals(10, memoizer.size());
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BoundedMemoStoreTest {
+
+    @Test
+    void constructor_givenNonPositiveCapacity_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BoundedMemoStore<Integer, Integer>(0));
+    }
+
+    @Test
+    void computeIfAbsent_givenPresentKey_returnsStoredValue() {
+        BoundedMemoStore<Integer, Integer> store = new BoundedMemoStore<>(2);
+        Assertions.assertEquals(10, store.computeIfAbsent(1, key -> 10));
+        Assertions.assertEquals(10, store.computeIfAbsent(1, key -> 20));
+    }
+
+    @Test
+    void computeIfAbsent_givenExceededCapacity_evictsValue() {
+        BoundedMemoStore<Integer, Integer> store = new BoundedMemoStore<>(2);
+        for (int i = 0; i < 10; i++) {
+            store.computeIfAbsent(i, key -> key);
+        }
+        Assertions.assertEquals(2, store.size());
+    }
+}
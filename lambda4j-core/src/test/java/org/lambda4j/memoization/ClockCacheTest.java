@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ClockCacheTest {
+
+    @Test
+    void constructor_givenNonPositiveCapacity_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ClockCache<Integer, Integer>(0));
+    }
+
+    @Test
+    void putIfAbsent_givenAbsentKey_returnsGivenValue() {
+        ClockCache<Integer, Integer> cache = new ClockCache<>(2);
+        Assertions.assertEquals(10, cache.putIfAbsent(1, 10));
+        Assertions.assertEquals(10, cache.get(1));
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    void putIfAbsent_givenPresentKey_returnsPresentValue() {
+        ClockCache<Integer, Integer> cache = new ClockCache<>(2);
+        cache.putIfAbsent(1, 10);
+        Assertions.assertEquals(10, cache.putIfAbsent(1, 20));
+        Assertions.assertEquals(10, cache.get(1));
+    }
+
+    @Test
+    void putIfAbsent_givenExceededCapacity_evictsUnreferencedEntry() {
+        ClockCache<Integer, Integer> cache = new ClockCache<>(2);
+        cache.putIfAbsent(1, 10);
+        cache.putIfAbsent(2, 20);
+        Assertions.assertEquals(10, cache.get(1));
+        cache.putIfAbsent(3, 30);
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(10, cache.get(1));
+        Assertions.assertNull(cache.get(2));
+        Assertions.assertEquals(30, cache.get(3));
+    }
+
+    @Test
+    void putIfAbsent_givenAllReferencedEntries_evictsOldestEntry() {
+        ClockCache<Integer, Integer> cache = new ClockCache<>(2);
+        cache.putIfAbsent(1, 10);
+        cache.putIfAbsent(2, 20);
+        cache.get(1);
+        cache.get(2);
+        cache.putIfAbsent(3, 30);
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertNull(cache.get(1));
+    }
+}
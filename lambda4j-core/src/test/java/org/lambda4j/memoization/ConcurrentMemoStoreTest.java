@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentMemoStoreTest {
+
+    @Test
+    void computeIfAbsent_givenPresentKey_returnsStoredValue() {
+        ConcurrentMemoStore<Integer, Integer> store = new ConcurrentMemoStore<>();
+        AtomicInteger calls = new AtomicInteger();
+        Assertions.assertEquals(10, store.computeIfAbsent(1, key -> key * 10 + calls.getAndIncrement()));
+        Assertions.assertEquals(10, store.computeIfAbsent(1, key -> key * 10 + calls.getAndIncrement()));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(1, store.size());
+    }
+
+    @Test
+    void computeIfAbsent_givenNullValue_doesNotStoreValue() {
+        ConcurrentMemoStore<Integer, Integer> store = new ConcurrentMemoStore<>();
+        Assertions.assertNull(store.computeIfAbsent(1, key -> null));
+        Assertions.assertEquals(0, store.size());
+    }
+}
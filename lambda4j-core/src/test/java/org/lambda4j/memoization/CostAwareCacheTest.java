@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CostAwareCacheTest {
+
+    @Test
+    void constructor_givenNonPositiveCapacity_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CostAwareCache<Integer, Integer>(0L));
+    }
+
+    @Test
+    void constructor_givenNullWeigher_throwsException() {
+        Assertions.assertThrows(NullPointerException.class, () -> new CostAwareCache<Integer, Integer>(1L, null));
+    }
+
+    @Test
+    void computeIfAbsent_givenPresentKey_returnsCachedValue() {
+        CostAwareCache<Integer, Integer> cache = new CostAwareCache<>(2L);
+        AtomicInteger calls = new AtomicInteger();
+        Assertions.assertEquals(10, cache.computeIfAbsent(1, key -> key * 10 + calls.getAndIncrement()));
+        Assertions.assertEquals(10, cache.computeIfAbsent(1, key -> key * 10 + calls.getAndIncrement()));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(1L, cache.getWeight());
+    }
+
+    @Test
+    void computeIfAbsent_givenNullValue_doesNotCacheValue() {
+        CostAwareCache<Integer, Integer> cache = new CostAwareCache<>(2L);
+        Assertions.assertNull(cache.computeIfAbsent(1, key -> null));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void computeIfAbsent_givenExceededCapacity_evictsCheapEntry() {
+        CostAwareCache<Integer, Integer> cache = new CostAwareCache<>(2L);
+        AtomicInteger calls = new AtomicInteger();
+        cache.computeIfAbsent(1, key -> {
+            calls.incrementAndGet();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20L));
+            return key;
+        });
+        cache.computeIfAbsent(2, key -> key);
+        cache.computeIfAbsent(3, key -> key);
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.computeIfAbsent(1, key -> key + calls.incrementAndGet()));
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void computeIfAbsent_givenWeigher_evictsUntilWeightIsMet() {
+        CostAwareCache<Integer, String> cache = new CostAwareCache<>(5L, String::length);
+        cache.computeIfAbsent(1, key -> "abc");
+        cache.computeIfAbsent(2, key -> "de");
+        Assertions.assertEquals(5L, cache.getWeight());
+        cache.computeIfAbsent(3, key -> "f");
+        Assertions.assertTrue(cache.getWeight() <= cache.getCapacity());
+        Assertions.assertTrue(cache.size() < 3);
+    }
+
+    @Test
+    void computeIfAbsent_givenOversizedValue_doesNotCacheValue() {
+        CostAwareCache<Integer, String> cache = new CostAwareCache<>(2L, String::length);
+        Assertions.assertEquals(3, cache.computeIfAbsent(1, key -> "xyz").length());
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0L, cache.getWeight());
+    }
+
+    @Test
+    void computeIfAbsent_givenNonPositiveWeight_throwsException() {
+        CostAwareCache<Integer, String> cache = new CostAwareCache<>(2L, String::length);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> cache.computeIfAbsent(1, key -> ""));
+    }
+}
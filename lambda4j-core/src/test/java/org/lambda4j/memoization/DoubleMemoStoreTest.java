@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DoubleMemoStoreTest {
+
+    @Test
+    void of_givenNull_throwsException() {
+        Assertions.assertThrows(NullPointerException.class, () -> DoubleMemoStore.of(null));
+    }
+
+    @Test
+    void computeIfAbsent_givenPresentKey_returnsCachedValue() {
+        DoubleMemoStore store = DoubleMemoStore.of(new LongMemoTable(64));
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = -10; i < 10; i++) {
+            Assertions.assertEquals(i * 0.5, store.computeIfAbsent(i * 0.25, key -> {
+                calls.incrementAndGet();
+                return key * 2.0;
+            }));
+        }
+        for (int i = -10; i < 10; i++) {
+            Assertions.assertEquals(i * 0.5, store.computeIfAbsent(i * 0.25, key -> -1.0));
+        }
+        Assertions.assertEquals(20, calls.get());
+    }
+
+    @Test
+    void computeIfAbsent_givenSignedZeroAndNaN_distinguishesZerosOnly() {
+        DoubleMemoStore store = DoubleMemoStore.of(new LongMemoTable(64));
+        Assertions.assertEquals(1.0, store.computeIfAbsent(0.0, key -> 1.0));
+        Assertions.assertEquals(-1.0, store.computeIfAbsent(-0.0, key -> -1.0));
+        Assertions.assertTrue(Double.isNaN(store.computeIfAbsent(Double.NaN, key -> key)));
+        Assertions.assertTrue(Double.isNaN(store.computeIfAbsent(Double.longBitsToDouble(0x7FF8000000000001L),
+                key -> 2.0)));
+    }
+}
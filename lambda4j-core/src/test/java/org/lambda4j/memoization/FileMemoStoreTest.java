@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileMemoStoreTest {
+
+    @Test
+    void computeIfAbsent_givenPresentKey_returnsStoredValue(@TempDir Path directory) throws IOException {
+        FileMemoStore<Integer, Integer> store = FileMemoStore.open(directory);
+        Assertions.assertEquals(10, store.computeIfAbsent(1, key -> 10));
+        Assertions.assertEquals(10, store.computeIfAbsent(1, key -> 20));
+    }
+
+    @Test
+    void computeIfAbsent_givenReopenedStore_returnsPersistedValue(@TempDir Path directory) throws IOException {
+        FileMemoStore.<Integer, Integer>open(directory).computeIfAbsent(1, key -> 10);
+        FileMemoStore<Integer, Integer> store = FileMemoStore.open(directory);
+        Assertions.assertEquals(10, store.computeIfAbsent(1, key -> 20));
+    }
+
+    @Test
+    void computeIfAbsent_givenCollidingKeys_returnsValueOfEachKey(@TempDir Path directory) throws IOException {
+        FileMemoStore<Long, Integer> store = FileMemoStore.open(directory);
+        Assertions.assertEquals(Long.hashCode(1L), Long.hashCode(1L << 32));
+        Assertions.assertEquals(1, store.computeIfAbsent(1L, key -> 1));
+        Assertions.assertEquals(2, store.computeIfAbsent(1L << 32, key -> 2));
+        Assertions.assertEquals(1, store.computeIfAbsent(1L, key -> 3));
+    }
+
+    @Test
+    void computeIfAbsent_givenNonSerializableValue_throwsException(@TempDir Path directory) throws IOException {
+        FileMemoStore<Integer, Object> store = FileMemoStore.open(directory);
+        Assertions.assertThrows(UncheckedIOException.class, () -> store.computeIfAbsent(1, key -> new Object()));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IntMemoStoreTest {
+
+    @Test
+    void of_givenNull_throwsException() {
+        Assertions.assertThrows(NullPointerException.class, () -> IntMemoStore.of(null));
+    }
+
+    @Test
+    void computeIfAbsent_givenPresentKey_returnsCachedValue() {
+        IntMemoStore store = IntMemoStore.of(new LongMemoTable(64));
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = -10; i < 10; i++) {
+            Assertions.assertEquals(i * 3, store.computeIfAbsent(i, key -> {
+                calls.incrementAndGet();
+                return key * 3;
+            }));
+        }
+        for (int i = -10; i < 10; i++) {
+            Assertions.assertEquals(i * 3, store.computeIfAbsent(i, key -> -1));
+        }
+        Assertions.assertEquals(20, calls.get());
+        Assertions.assertEquals(Integer.MIN_VALUE, store.computeIfAbsent(Integer.MAX_VALUE, key -> key + 1));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LongMemoTableTest {
+
+    @Test
+    void constructor_givenNonPositiveSlotCount_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LongMemoTable(0));
+    }
+
+    @Test
+    void computeIfAbsent_givenPresentKey_returnsCachedValue() {
+        LongMemoTable table = new LongMemoTable(64);
+        AtomicInteger calls = new AtomicInteger();
+        for (long i = -10L; i < 10L; i++) {
+            Assertions.assertEquals(i * 3L, table.computeIfAbsent(i, key -> {
+                calls.incrementAndGet();
+                return key * 3L;
+            }));
+        }
+        for (long i = -10L; i < 10L; i++) {
+            Assertions.assertEquals(i * 3L, table.computeIfAbsent(i, key -> -1L));
+        }
+        Assertions.assertEquals(20, calls.get());
+    }
+
+    @Test
+    void computeIfAbsent_givenFullTable_replacesEntry() {
+        LongMemoTable table = new LongMemoTable(1);
+        Assertions.assertEquals(1L, table.computeIfAbsent(1L, key -> key));
+        Assertions.assertEquals(2L, table.computeIfAbsent(2L, key -> key));
+        Assertions.assertEquals(-1L, table.computeIfAbsent(1L, key -> -1L));
+        Assertions.assertEquals(1, table.getSlotCount());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SharedLongMemoTableTest {
+
+    @Test
+    void open_givenNonPositiveSlotCount_throwsException(@TempDir Path directory) {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> SharedLongMemoTable.open(directory.resolve("invalid"), 0));
+    }
+
+    @Test
+    void open_givenDifferentSlotCount_throwsException(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("mismatch");
+        SharedLongMemoTable.open(file, 16);
+        Assertions.assertThrows(IOException.class, () -> SharedLongMemoTable.open(file, 32));
+    }
+
+    @Test
+    void computeIfAbsent_givenPresentKey_returnsCachedValue(@TempDir Path directory) throws IOException {
+        SharedLongMemoTable table = SharedLongMemoTable.open(directory.resolve("cached"), 64);
+        AtomicInteger calls = new AtomicInteger();
+        for (long i = 0L; i < 20L; i++) {
+            Assertions.assertEquals(i * 3L, table.computeIfAbsent(i, key -> {
+                calls.incrementAndGet();
+                return key * 3L;
+            }));
+        }
+        for (long i = 0L; i < 20L; i++) {
+            Assertions.assertEquals(i * 3L, table.computeIfAbsent(i, key -> -1L));
+        }
+        Assertions.assertEquals(20, calls.get());
+        Assertions.assertEquals(64, table.getSlotCount());
+    }
+
+    @Test
+    void computeIfAbsent_givenSharedFile_returnsValueOfOtherTable(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("shared");
+        SharedLongMemoTable first = SharedLongMemoTable.open(file, 64);
+        SharedLongMemoTable second = SharedLongMemoTable.open(file, 64);
+        Assertions.assertEquals(42L, first.computeIfAbsent(7L, key -> 42L));
+        Assertions.assertEquals(42L, second.computeIfAbsent(7L, key -> -1L));
+    }
+
+    @Test
+    void computeIfAbsent_givenFullTable_replacesEntry(@TempDir Path directory) throws IOException {
+        SharedLongMemoTable table = SharedLongMemoTable.open(directory.resolve("full"), 1);
+        Assertions.assertEquals(1L, table.computeIfAbsent(1L, key -> key));
+        Assertions.assertEquals(2L, table.computeIfAbsent(2L, key -> key));
+        Assertions.assertEquals(-1L, table.computeIfAbsent(1L, key -> -1L));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TieredMemoStoreTest {
+
+    @Test
+    void constructor_givenNull_throwsException() {
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new TieredMemoStore<Integer, Integer>(new ConcurrentMemoStore<>(), null));
+    }
+
+    @Test
+    void computeIfAbsent_givenAbsentKey_storesValueInBothStores() {
+        ConcurrentMemoStore<Integer, Integer> front = new ConcurrentMemoStore<>();
+        ConcurrentMemoStore<Integer, Integer> back = new ConcurrentMemoStore<>();
+        TieredMemoStore<Integer, Integer> store = new TieredMemoStore<>(front, back);
+        Assertions.assertEquals(10, store.computeIfAbsent(1, key -> 10));
+        Assertions.assertEquals(1, front.size());
+        Assertions.assertEquals(1, back.size());
+    }
+
+    @Test
+    void computeIfAbsent_givenKeyInBackStore_returnsValueOfBackStore() {
+        ConcurrentMemoStore<Integer, Integer> back = new ConcurrentMemoStore<>();
+        back.computeIfAbsent(1, key -> 10);
+        TieredMemoStore<Integer, Integer> store = new TieredMemoStore<>(new BoundedMemoStore<>(1), back);
+        Assertions.assertEquals(10, store.computeIfAbsent(1, key -> 20));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.memoization;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class WarmUpTest {
+
+    @Test
+    void ofIntRange_givenRange_computesAllKeys() {
+        Map<Integer, Integer> cache = new ConcurrentHashMap<>();
+        WarmUp warmUp = WarmUp.ofIntRange(-50, 1000, key -> cache.put(key, key), ForkJoinPool.commonPool());
+        warmUp.join();
+        Assertions.assertTrue(warmUp.isDone());
+        Assertions.assertEquals(1050, cache.size());
+        Assertions.assertEquals(1050L, warmUp.getTotal());
+        Assertions.assertEquals(1050L, warmUp.getCompleted());
+        Assertions.assertEquals(1.0, warmUp.getProgress());
+    }
+
+    @Test
+    void ofLongRange_givenEmptyRange_computesNothing() {
+        AtomicLong calls = new AtomicLong();
+        WarmUp warmUp = WarmUp.ofLongRange(5L, 5L, key -> calls.incrementAndGet(), ForkJoinPool.commonPool());
+        warmUp.join();
+        Assertions.assertEquals(0L, calls.get());
+        Assertions.assertEquals(1.0, warmUp.getProgress());
+    }
+
+    @Test
+    void ofLongRange_givenInvertedRange_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> WarmUp.ofLongRange(1L, 0L, key -> { }, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void ofLongRange_givenRangeWiderThanLongMax_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> WarmUp.ofLongRange(Long.MIN_VALUE, 1L, key -> { }, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void of_givenIterable_computesAllKeys() {
+        Map<Integer, Integer> cache = new ConcurrentHashMap<>();
+        Iterable<Integer> keys = Arrays.asList(1, 2, 3, 4, 5);
+        WarmUp warmUp = WarmUp.of(keys, key -> cache.put(key, key), ForkJoinPool.commonPool());
+        warmUp.join();
+        Assertions.assertEquals(5, cache.size());
+        Assertions.assertEquals(5L, warmUp.getCompleted());
+    }
+
+    @Test
+    void of_givenIterableOfUnknownSize_reportsUnknownTotal() {
+        Iterable<Integer> keys = () -> Arrays.asList(1, 2, 3).iterator();
+        WarmUp warmUp = WarmUp.of(keys, key -> { }, ForkJoinPool.commonPool());
+        warmUp.join();
+        Assertions.assertEquals(-1L, warmUp.getTotal());
+        Assertions.assertEquals(3L, warmUp.getCompleted());
+        Assertions.assertEquals(1.0, warmUp.getProgress());
+    }
+
+    @Test
+    void cancel_givenRunningWarmUp_stopsComputation() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        WarmUp warmUp = WarmUp.ofLongRange(0L, Long.MAX_VALUE, key -> {
+            running.incrementAndGet();
+            started.countDown();
+            Thread.yield();
+            running.decrementAndGet();
+        }, ForkJoinPool.commonPool());
+        Assertions.assertTrue(started.await(10L, TimeUnit.SECONDS));
+        Assertions.assertTrue(warmUp.cancel());
+        Assertions.assertTrue(warmUp.isCancelled());
+        Assertions.assertThrows(CancellationException.class, warmUp::join);
+        Assertions.assertTrue(warmUp.isDone());
+        Assertions.assertEquals(0, running.get());
+        Assertions.assertTrue(warmUp.getProgress() < 1.0);
+    }
+
+    @Test
+    void join_givenCancelledAfterLastKey_returnsNormally() {
+        CountDownLatch created = new CountDownLatch(1);
+        AtomicReference<WarmUp> reference = new AtomicReference<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        WarmUp warmUp = WarmUp.ofIntRange(0, 1, key -> {
+            try {
+                created.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            cancelled.set(reference.get().cancel());
+        }, ForkJoinPool.commonPool());
+        reference.set(warmUp);
+        created.countDown();
+        warmUp.join();
+        Assertions.assertTrue(cancelled.get());
+        Assertions.assertTrue(warmUp.isCancelled());
+        Assertions.assertEquals(1L, warmUp.getCompleted());
+        Assertions.assertEquals(1.0, warmUp.getProgress());
+    }
+
+    @Test
+    void join_givenFailingAction_throwsException() {
+        WarmUp warmUp = WarmUp.ofIntRange(0, 10, key -> {
+            throw new IllegalStateException();
+        }, ForkJoinPool.commonPool());
+        Assertions.assertThrows(IllegalStateException.class, warmUp::join);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.tuple;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DoubleTripleTest {
+
+    @Test
+    void of_givenElements_returnsTripleOfElements() {
+        DoubleTriple triple = DoubleTriple.of(1.0, 2.0, 3.0);
+        Assertions.assertEquals(1.0, triple.getLeft());
+        Assertions.assertEquals(2.0, triple.getMiddle());
+        Assertions.assertEquals(3.0, triple.getRight());
+    }
+
+    @Test
+    void equals_givenNaN_returnsTrue() {
+        Assertions.assertEquals(DoubleTriple.of(Double.NaN, 0.0, 0.0), DoubleTriple.of(Double.NaN, 0.0, 0.0));
+    }
+
+    @Test
+    void equals_givenSignedZeros_returnsFalse() {
+        Assertions.assertNotEquals(DoubleTriple.of(0.0, 0.0, 0.0), DoubleTriple.of(0.0, -0.0, 0.0));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.tuple;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IntIntPairTest {
+
+    @Test
+    void of_givenElements_returnsPairOfElements() {
+        IntIntPair pair = IntIntPair.of(1, 2);
+        Assertions.assertEquals(1, pair.getLeft());
+        Assertions.assertEquals(2, pair.getRight());
+    }
+
+    @Test
+    void equals_givenEqualElements_returnsTrue() {
+        Assertions.assertEquals(IntIntPair.of(1, 2), IntIntPair.of(1, 2));
+        Assertions.assertEquals(IntIntPair.of(1, 2).hashCode(), IntIntPair.of(1, 2).hashCode());
+        Assertions.assertNotEquals(IntIntPair.of(1, 2), IntIntPair.of(2, 1));
+    }
+
+    @Test
+    void hashCode_givenSequentialElements_returnsDistinctHashCodes() {
+        Set<Integer> hashCodes = new HashSet<>();
+        for (int left = 0; left < 100; left++) {
+            for (int right = 0; right < 100; right++) {
+                hashCodes.add(IntIntPair.of(left, right).hashCode());
+            }
+        }
+        Assertions.assertEquals(10_000, hashCodes.size());
+    }
+
+    @Test
+    void compareTo_givenPairs_comparesLexicographically() {
+        Assertions.assertTrue(IntIntPair.of(1, 9).compareTo(IntIntPair.of(2, 0)) < 0);
+        Assertions.assertTrue(IntIntPair.of(1, 9).compareTo(IntIntPair.of(1, 0)) > 0);
+        Assertions.assertEquals(0, IntIntPair.of(1, 9).compareTo(IntIntPair.of(1, 9)));
+    }
+
+    @Test
+    void toString_givenPair_returnsElements() {
+        Assertions.assertEquals("(1,2)", IntIntPair.of(1, 2).toString());
+    }
+}
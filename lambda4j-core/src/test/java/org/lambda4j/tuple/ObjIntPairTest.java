@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.tuple;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ObjIntPairTest {
+
+    @Test
+    void of_givenNullObject_returnsPairOfElements() {
+        ObjIntPair<String> pair = ObjIntPair.of(null, 1);
+        Assertions.assertNull(pair.getLeft());
+        Assertions.assertEquals(1, pair.getRight());
+        Assertions.assertEquals(ObjIntPair.of(null, 1), pair);
+    }
+
+    @Test
+    void equals_givenEqualElements_returnsTrue() {
+        Assertions.assertEquals(ObjIntPair.of(1L, 1), ObjIntPair.of(1L, 1));
+        Assertions.assertEquals(ObjIntPair.of(1L, 1).hashCode(), ObjIntPair.of(1L, 1).hashCode());
+        Assertions.assertNotEquals(ObjIntPair.of(1L, 1), ObjIntPair.of(2L, 1));
+    }
+}
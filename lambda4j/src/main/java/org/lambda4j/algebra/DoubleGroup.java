@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An associative binary operation on {@code double} values with an identity element, in which every value has an
+ * inverse, which is to say, a group. In addition to the properties declared by {@link DoubleMonoid}, an operator
+ * implementing this interface declares that {@code applyAsDouble(inverse(a), a)} and {@code applyAsDouble(a,
+ * inverse(a))} equal the {@link #identity() identity} for all arguments.
+ * <p>
+ * Hence, an element can be removed from a combination by combining it with the inverse of that element, rather than by
+ * combining all remaining elements again. Data structures such as sliding windows use this to remove elements in
+ * constant time.
+ *
+ * @see DoubleMonoid
+ */
+public interface DoubleGroup extends DoubleMonoid {
+
+    /**
+     * Declares the given operator to be associative with the given identity element and inverse, and returns a group
+     * applying it.
+     *
+     * @param identity The identity element of the given operator
+     * @param operator The associative operator
+     * @param inverse The operator returning the inverse of a value
+     * @param commutative Whether the given operator is also commutative
+     * @return A group applying the given operator.
+     * @throws NullPointerException If given operator or inverse is {@code null}
+     */
+    @Nonnull
+    static DoubleGroup of(double identity, @Nonnull DoubleBinaryOperator operator, @Nonnull DoubleUnaryOperator inverse,
+            boolean commutative) {
+        Objects.requireNonNull(operator);
+        Objects.requireNonNull(inverse);
+        return new DoubleGroup() {
+            @Override
+            public double identity() {
+                return identity;
+            }
+
+            @Override
+            public double inverse(double value) {
+                return inverse.applyAsDouble(value);
+            }
+
+            @Override
+            public double applyAsDouble(double value1, double value2) {
+                return operator.applyAsDouble(value1, value2);
+            }
+
+            @Override
+            public boolean isCommutative() {
+                return commutative;
+            }
+        };
+    }
+
+    /**
+     * Returns the inverse of the given value, which yields the {@link #identity() identity} when combined with it.
+     *
+     * @param value The value whose inverse is to be returned
+     * @return The inverse of the given value.
+     */
+    double inverse(double value);
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntBinaryOperator;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.operator.binary.IntBinaryOperator2;
+
+/**
+ * An associative binary operation on {@code int} values, which is to say, a semigroup. By implementing this interface,
+ * an operator declares that {@code applyAsInt(applyAsInt(a, b), c)} equals {@code applyAsInt(a, applyAsInt(b, c))} for
+ * all arguments. Hence, the elements of an array may be combined in any grouping without changing the result, which
+ * allows them to be reduced and scanned in parallel. The order of the elements is preserved, unless the operator also
+ * declares to be {@link #isCommutative() commutative}.
+ * <p>
+ * The declared properties are not verified. An operator declaring properties it lacks yields parallel results which
+ * depend on the grain of the given {@link Parallelism}.
+ *
+ * @see IntMonoid
+ */
+@FunctionalInterface
+public interface IntSemigroup extends IntBinaryOperator2 {
+
+    /**
+     * Declares the given operator to be associative, and returns a semigroup applying it.
+     *
+     * @param operator The associative operator
+     * @param commutative Whether the given operator is also commutative
+     * @return A semigroup applying the given operator.
+     * @throws NullPointerException If given operator is {@code null}
+     */
+    @Nonnull
+    static IntSemigroup of(@Nonnull IntBinaryOperator operator, boolean commutative) {
+        Objects.requireNonNull(operator);
+        return new IntSemigroup() {
+            @Override
+            public int applyAsInt(int value1, int value2) {
+                return operator.applyAsInt(value1, value2);
+            }
+
+            @Override
+            public boolean isCommutative() {
+                return commutative;
+            }
+        };
+    }
+
+    /**
+     * Returns whether this operator is commutative, which is to say, whether {@code applyAsInt(a, b)} equals {@code
+     * applyAsInt(b, a)} for all arguments. If so, callers may also combine the elements of an array in any order. The
+     * default implementation returns {@code false}.
+     *
+     * @return {@code true} if this operator is commutative, otherwise {@code false}.
+     */
+    default boolean isCommutative() {
+        return false;
+    }
+
+    /**
+     * Combines all elements of the given array from first to last using this operator.
+     *
+     * @param values The array whose elements are to be combined
+     * @return The combination of all elements of the given array.
+     * @throws NullPointerException If given array is {@code null}
+     * @throws NoSuchElementException If given array is empty
+     */
+    default int reduce(@Nonnull int[] values) {
+        return reduce(values, 0, values.length);
+    }
+
+    /**
+     * Combines the elements of the given array from the given start index (inclusive) to the given end index
+     * (exclusive) from first to last using this operator.
+     *
+     * @param values The array whose elements are to be combined
+     * @param fromIndex The index of the first element to be combined (inclusive)
+     * @param toIndex The index of the last element to be combined (exclusive)
+     * @return The combination of the elements of the given range.
+     * @throws NullPointerException If given array is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of given array
+     * @throws NoSuchElementException If given range is empty
+     */
+    default int reduce(@Nonnull int[] values, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        if (fromIndex == toIndex) {
+            throw new NoSuchElementException("Range is empty");
+        }
+        int accumulator = values[fromIndex];
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            accumulator = applyAsInt(accumulator, values[i]);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Combines all elements of the given array using this operator in parallel. The array is split into parts, which
+     * are reduced by the threads of the common {@link ForkJoinPool}. Since this operator is associative, the result
+     * equals the one of {@link #reduce(int[])}.
+     *
+     * @param values The array whose elements are to be combined
+     * @return The combination of all elements of the given array.
+     * @throws NullPointerException If given array is {@code null}
+     * @throws NoSuchElementException If given array is empty
+     * @see #reduceParallel(int[], Parallelism)
+     */
+    default int reduceParallel(@Nonnull int[] values) {
+        return reduceParallel(values, Parallelism.common());
+    }
+
+    /**
+     * Combines all elements of the given array using this operator in parallel. The array is split into consecutive
+     * parts of the grain of the given configuration, which are reduced by the threads of its pool, and the partial
+     * results of the parts are then combined in the order of the parts. Since this operator is associative, the result
+     * equals the one of {@link #reduce(int[])}.
+     *
+     * @param values The array whose elements are to be combined
+     * @param parallelism The configuration of the parallel execution
+     * @return The combination of all elements of the given array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws NoSuchElementException If given array is empty
+     */
+    default int reduceParallel(@Nonnull int[] values, @Nonnull Parallelism parallelism) {
+        int[] partials = new int[parallelism.getPartCount(values.length)];
+        parallelism.forParts(0, values.length,
+                (part, fromIndex, toIndex) -> partials[part] = reduce(values, fromIndex, toIndex));
+        return reduce(partials);
+    }
+
+    /**
+     * Stores the inclusive prefix combinations of the elements of the given array at the same indices of the given
+     * result array, whose length determines the number of scanned elements. The result at an index is the combination
+     * of the elements from the first one up to and including the one at that index. The result array may be the
+     * argument array, so that it is updated in place.
+     *
+     * @param values The array whose elements are to be scanned
+     * @param results The array in which the prefix combinations are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If the length of given result array is greater than the length of given
+     * argument array
+     */
+    default void scan(@Nonnull int[] values, @Nonnull int[] results) {
+        scan(values, results, 0, results.length);
+    }
+
+    /**
+     * Stores the inclusive prefix combinations of the elements of the given array from the given start index
+     * (inclusive) to the given end index (exclusive) at the same indices of the given result array. The result at an
+     * index is the combination of the elements from the start index up to and including the one at that index. The
+     * result array may be the argument array, so that it is updated in place.
+     *
+     * @param values The array whose elements are to be scanned
+     * @param results The array in which the prefix combinations are stored
+     * @param fromIndex The index of the first element to be scanned (inclusive)
+     * @param toIndex The index of the last element to be scanned (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     */
+    default void scan(@Nonnull int[] values, @Nonnull int[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        if (fromIndex < toIndex) {
+            int accumulator = values[fromIndex];
+            results[fromIndex] = accumulator;
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                accumulator = applyAsInt(accumulator, values[i]);
+                results[i] = accumulator;
+            }
+        }
+    }
+
+    /**
+     * Stores the inclusive prefix combinations of the elements of the given array at the same indices of the given
+     * result array in parallel, using the common {@link ForkJoinPool}. Since this operator is associative, the results
+     * equal the ones of {@link #scan(int[], int[])}.
+     *
+     * @param values The array whose elements are to be scanned
+     * @param results The array in which the prefix combinations are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If the length of given result array is greater than the length of given
+     * argument array
+     * @see #scanParallel(int[], int[], Parallelism)
+     */
+    default void scanParallel(@Nonnull int[] values, @Nonnull int[] results) {
+        scanParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Stores the inclusive prefix combinations of the elements of the given array at the same indices of the given
+     * result array in parallel. The array is split into consecutive parts of the grain of the given configuration. In a
+     * first pass, the parts are reduced in parallel, and the partial results are scanned in order. In a second pass,
+     * each part is scanned in parallel, starting from the combination of all preceding parts. Since this operator is
+     * associative, the results equal the ones of {@link #scan(int[], int[])}.
+     *
+     * @param values The array whose elements are to be scanned
+     * @param results The array in which the prefix combinations are stored
+     * @param parallelism The configuration of the parallel execution
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If the length of given result array is greater than the length of given
+     * argument array
+     */
+    default void scanParallel(@Nonnull int[] values, @Nonnull int[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        int[] partials = new int[parallelism.getPartCount(results.length)];
+        if (partials.length <= 1) {
+            scan(values, results);
+        } else {
+            parallelism.forParts(0, results.length,
+                    (part, fromIndex, toIndex) -> partials[part] = reduce(values, fromIndex, toIndex));
+            scan(partials, partials);
+            parallelism.forParts(0, results.length, (part, fromIndex, toIndex) -> {
+                if (part == 0) {
+                    scan(values, results, fromIndex, toIndex);
+                } else {
+                    int accumulator = partials[part - 1];
+                    for (int i = fromIndex; i < toIndex; i++) {
+                        accumulator = applyAsInt(accumulator, values[i]);
+                        results[i] = accumulator;
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Stores the inclusive prefix combinations of the segments of the given array at the same indices of the given
+     * result array, whose length determines the number of scanned elements. The segments are consecutive ranges of the
+     * array, each of which starts at index {@code 0} or at an index whose bit is set in the given bitmap. The result at
+     * an index is the combination of the elements from the start of its segment up to and including the one at that
+     * index. The result array may be the argument array, so that it is updated in place.
+     *
+     * @param values The array whose elements are to be scanned
+     * @param segments The bitmap marking the start indices of the segments, as read by {@link BitmapUtils#get(long[],
+     * int)}
+     * @param results The array in which the prefix combinations are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given argument array or bitmap is too short for the length of given
+     * result array
+     */
+    default void scanSegmented(@Nonnull int[] values, @Nonnull long[] segments, @Nonnull int[] results) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        KernelUtils.checkRange(0, BitmapUtils.length(results.length), segments.length);
+        if (results.length > 0) {
+            int accumulator = values[0];
+            results[0] = accumulator;
+            for (int i = 1; i < results.length; i++) {
+                accumulator = BitmapUtils.get(segments, i) ? values[i] : applyAsInt(accumulator, values[i]);
+                results[i] = accumulator;
+            }
+        }
+    }
+
+    /**
+     * Stores the inclusive prefix combinations of the segments of the given array at the same indices of the given
+     * result array in parallel, using the common {@link ForkJoinPool}. Since this operator is associative, the results
+     * equal the ones of {@link #scanSegmented(int[], long[], int[])}.
+     *
+     * @param values The array whose elements are to be scanned
+     * @param segments The bitmap marking the start indices of the segments, as read by {@link BitmapUtils#get(long[],
+     * int)}
+     * @param results The array in which the prefix combinations are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given argument array or bitmap is too short for the length of given
+     * result array
+     * @see #scanSegmentedParallel(int[], long[], int[], Parallelism)
+     */
+    default void scanSegmentedParallel(@Nonnull int[] values, @Nonnull long[] segments, @Nonnull int[] results) {
+        scanSegmentedParallel(values, segments, results, Parallelism.common());
+    }
+
+    /**
+     * Stores the inclusive prefix combinations of the segments of the given array at the same indices of the given
+     * result array in parallel. The array is split into consecutive parts of the grain of the given configuration. In a
+     * first pass, the combination of the last segment within each part is computed in parallel, and these are carried
+     * over from part to part in order, unless a segment starts within a part. In a second pass, each part is scanned in
+     * parallel, starting from the carry of the preceding part. Since this operator is associative, the results equal
+     * the ones of {@link #scanSegmented(int[], long[], int[])}.
+     *
+     * @param values The array whose elements are to be scanned
+     * @param segments The bitmap marking the start indices of the segments, as read by {@link BitmapUtils#get(long[],
+     * int)}
+     * @param results The array in which the prefix combinations are stored
+     * @param parallelism The configuration of the parallel execution
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given argument array or bitmap is too short for the length of given
+     * result array
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    default void scanSegmentedParallel(@Nonnull int[] values, @Nonnull long[] segments, @Nonnull int[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        KernelUtils.checkRange(0, BitmapUtils.length(results.length), segments.length);
+        int[] carries = new int[parallelism.getPartCount(results.length)];
+        boolean[] restarts = new boolean[carries.length];
+        parallelism.forParts(0, results.length, (part, fromIndex, toIndex) -> {
+            int accumulator = values[fromIndex];
+            boolean restart = BitmapUtils.get(segments, fromIndex);
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                boolean start = BitmapUtils.get(segments, i);
+                accumulator = start ? values[i] : applyAsInt(accumulator, values[i]);
+                restart |= start;
+            }
+            carries[part] = accumulator;
+            restarts[part] = restart;
+        });
+        for (int part = 1; part < carries.length; part++) {
+            if (!restarts[part]) {
+                carries[part] = applyAsInt(carries[part - 1], carries[part]);
+            }
+        }
+        parallelism.forParts(0, results.length, (part, fromIndex, toIndex) -> {
+            int accumulator = values[fromIndex];
+            if (part > 0 && !BitmapUtils.get(segments, fromIndex)) {
+                accumulator = applyAsInt(carries[part - 1], accumulator);
+            }
+            results[fromIndex] = accumulator;
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                accumulator = BitmapUtils.get(segments, i) ? values[i] : applyAsInt(accumulator, values[i]);
+                results[i] = accumulator;
+            }
+        });
+    }
+}
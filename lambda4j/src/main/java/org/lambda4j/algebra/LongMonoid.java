@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongBinaryOperator;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+
+/**
+ * An associative binary operation on {@code long} values with an identity element, which is to say, a monoid. In
+ * addition to the associativity declared by {@link LongSemigroup}, an operator implementing this interface declares
+ * that {@code applyAsLong(identity(), a)} and {@code applyAsLong(a, identity())} equal {@code a} for all arguments. The
+ * identity is the combination of no elements at all, so that empty ranges can be reduced and exclusive prefix scans are
+ * defined.
+ *
+ * @see LongSemigroup
+ */
+public interface LongMonoid extends LongSemigroup {
+
+    /**
+     * Declares the given operator to be associative with the given identity element, and returns a monoid applying it.
+     *
+     * @param identity The identity element of the given operator
+     * @param operator The associative operator
+     * @param commutative Whether the given operator is also commutative
+     * @return A monoid applying the given operator.
+     * @throws NullPointerException If given operator is {@code null}
+     */
+    @Nonnull
+    static LongMonoid of(long identity, @Nonnull LongBinaryOperator operator, boolean commutative) {
+        Objects.requireNonNull(operator);
+        return new LongMonoid() {
+            @Override
+            public long identity() {
+                return identity;
+            }
+
+            @Override
+            public long applyAsLong(long value1, long value2) {
+                return operator.applyAsLong(value1, value2);
+            }
+
+            @Override
+            public boolean isCommutative() {
+                return commutative;
+            }
+        };
+    }
+
+    /**
+     * Returns the identity element of this operator, which leaves every argument unchanged when combined with it.
+     *
+     * @return The identity element of this operator.
+     */
+    long identity();
+
+    /**
+     * Combines the elements of the given array from the given start index (inclusive) to the given end index
+     * (exclusive) from first to last using this operator. If the range is empty, the {@link #identity() identity} is
+     * returned.
+     *
+     * @param values The array whose elements are to be combined
+     * @param fromIndex The index of the first element to be combined (inclusive)
+     * @param toIndex The index of the last element to be combined (exclusive)
+     * @return The combination of the elements of the given range.
+     * @throws NullPointerException If given array is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of given array
+     */
+    @Override
+    default long reduce(@Nonnull long[] values, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        long accumulator = identity();
+        for (int i = fromIndex; i < toIndex; i++) {
+            accumulator = applyAsLong(accumulator, values[i]);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Stores the exclusive prefix combinations of the elements of the given array at the same indices of the given
+     * result array, whose length determines the number of scanned elements. The result at an index is the combination
+     * of the elements from the first one up to but excluding the one at that index, so the first result is the
+     * {@link #identity() identity}. The result array may be the argument array, so that it is updated in place.
+     *
+     * @param values The array whose elements are to be scanned
+     * @param results The array in which the prefix combinations are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If the length of given result array is greater than the length of given
+     * argument array
+     */
+    default void scanExclusive(@Nonnull long[] values, @Nonnull long[] results) {
+        scanExclusive(values, results, 0, results.length);
+    }
+
+    /**
+     * Stores the exclusive prefix combinations of the elements of the given array from the given start index
+     * (inclusive) to the given end index (exclusive) at the same indices of the given result array. The result at an
+     * index is the combination of the elements from the start index up to but excluding the one at that index, so the
+     * result at the start index is the {@link #identity() identity}. The result array may be the argument array, so
+     * that it is updated in place.
+     *
+     * @param values The array whose elements are to be scanned
+     * @param results The array in which the prefix combinations are stored
+     * @param fromIndex The index of the first element to be scanned (inclusive)
+     * @param toIndex The index of the last element to be scanned (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     */
+    default void scanExclusive(@Nonnull long[] values, @Nonnull long[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        long accumulator = identity();
+        for (int i = fromIndex; i < toIndex; i++) {
+            long value = values[i];
+            results[i] = accumulator;
+            accumulator = applyAsLong(accumulator, value);
+        }
+    }
+
+    /**
+     * Stores the exclusive prefix combinations of the elements of the given array at the same indices of the given
+     * result array in parallel, using the common {@link ForkJoinPool}. Since this operator is associative, the results
+     * equal the ones of {@link #scanExclusive(long[], long[])}.
+     *
+     * @param values The array whose elements are to be scanned
+     * @param results The array in which the prefix combinations are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If the length of given result array is greater than the length of given
+     * argument array
+     * @see #scanExclusiveParallel(long[], long[], Parallelism)
+     */
+    default void scanExclusiveParallel(@Nonnull long[] values, @Nonnull long[] results) {
+        scanExclusiveParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Stores the exclusive prefix combinations of the elements of the given array at the same indices of the given
+     * result array in parallel. The array is split into consecutive parts of the grain of the given configuration. In a
+     * first pass, the parts are reduced in parallel, and the partial results are scanned exclusively in order. In a
+     * second pass, each part is scanned in parallel, starting from the combination of all preceding parts. Since this
+     * operator is associative, the results equal the ones of {@link #scanExclusive(long[], long[])}.
+     *
+     * @param values The array whose elements are to be scanned
+     * @param results The array in which the prefix combinations are stored
+     * @param parallelism The configuration of the parallel execution
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If the length of given result array is greater than the length of given
+     * argument array
+     */
+    default void scanExclusiveParallel(@Nonnull long[] values, @Nonnull long[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        long[] partials = new long[parallelism.getPartCount(results.length)];
+        if (partials.length <= 1) {
+            scanExclusive(values, results);
+        } else {
+            parallelism.forParts(0, results.length,
+                    (part, fromIndex, toIndex) -> partials[part] = reduce(values, fromIndex, toIndex));
+            scanExclusive(partials, partials);
+            parallelism.forParts(0, results.length, (part, fromIndex, toIndex) -> {
+                long accumulator = partials[part];
+                for (int i = fromIndex; i < toIndex; i++) {
+                    long value = values[i];
+                    results[i] = accumulator;
+                    accumulator = applyAsLong(accumulator, value);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+/**
+ * The standard monoids on {@code boolean} values: the logical operations. All of them are commutative.
+ *
+ * @see BooleanMonoid
+ */
+public enum StandardBooleanMonoid implements BooleanMonoid {
+
+    /**
+     * Returns the conjunction of its arguments, with identity {@code true}.
+     */
+    AND(true) {
+        @Override
+        public boolean applyAsBoolean(boolean value1, boolean value2) {
+            return value1 && value2;
+        }
+    },
+
+    /**
+     * Returns the disjunction of its arguments, with identity {@code false}.
+     */
+    OR(false) {
+        @Override
+        public boolean applyAsBoolean(boolean value1, boolean value2) {
+            return value1 || value2;
+        }
+    },
+
+    /**
+     * Returns the exclusive disjunction of its arguments, with identity {@code false}.
+     */
+    XOR(false) {
+        @Override
+        public boolean applyAsBoolean(boolean value1, boolean value2) {
+            return value1 ^ value2;
+        }
+    };
+
+    /**
+     * The identity element of this operator.
+     */
+    private final boolean identityElement;
+
+    /**
+     * Creates a monoid with the given identity element.
+     *
+     * @param identity The identity element of the operator
+     */
+    StandardBooleanMonoid(boolean identity) {
+        this.identityElement = identity;
+    }
+
+    @Override
+    public boolean identity() {
+        return identityElement;
+    }
+
+    @Override
+    public boolean isCommutative() {
+        return true;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+/**
+ * The standard groups on {@code double} values: sum. All of them are commutative.
+ *
+ * @see DoubleGroup
+ */
+public enum StandardDoubleGroup implements DoubleGroup {
+
+    /**
+     * Adds its arguments, with identity {@code -0.0}, and negates values to invert them. Floating-point addition is
+     * associative only up to rounding, so removing an element by adding its negation does not restore the previous sum
+     * exactly, and the errors accumulate over many removals. Where this matters, {@link StandardDoubleMonoid#SUM}
+     * recombines the remaining elements instead.
+     */
+    SUM(-0.0) {
+        @Override
+        public double applyAsDouble(double value1, double value2) {
+            return value1 + value2;
+        }
+
+        @Override
+        public double inverse(double value) {
+            return -value;
+        }
+    };
+
+    /**
+     * The identity element of this operator.
+     */
+    private final double identityElement;
+
+    /**
+     * Creates a group with the given identity element.
+     *
+     * @param identity The identity element of the operator
+     */
+    StandardDoubleGroup(double identity) {
+        this.identityElement = identity;
+    }
+
+    @Override
+    public double identity() {
+        return identityElement;
+    }
+
+    @Override
+    public boolean isCommutative() {
+        return true;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+import org.lambda4j.kernel.Parallelism;
+
+/**
+ * The standard monoids on {@code float} values: sum, minimum and maximum. All of them are commutative.
+ *
+ * @see FloatMonoid
+ */
+public enum StandardFloatMonoid implements FloatMonoid {
+
+    /**
+     * Adds its arguments, with identity {@code -0.0}, since adding {@code 0.0} would turn a negative zero into a
+     * positive one. Floating-point addition is associative only up to rounding, so parallel reductions and scans may
+     * differ from sequential ones in the last bits of their results. These results depend on the grain of the
+     * {@link Parallelism}, but not on the scheduling of its threads.
+     */
+    SUM(-0.0f) {
+        @Override
+        public float applyAsFloat(float value1, float value2) {
+            return value1 + value2;
+        }
+    },
+
+    /**
+     * Returns the lesser of its arguments, as {@link Math#min(float, float)} does, with identity
+     * {@link Float#POSITIVE_INFINITY}.
+     */
+    MIN(Float.POSITIVE_INFINITY) {
+        @Override
+        public float applyAsFloat(float value1, float value2) {
+            return Math.min(value1, value2);
+        }
+    },
+
+    /**
+     * Returns the greater of its arguments, as {@link Math#max(float, float)} does, with identity
+     * {@link Float#NEGATIVE_INFINITY}.
+     */
+    MAX(Float.NEGATIVE_INFINITY) {
+        @Override
+        public float applyAsFloat(float value1, float value2) {
+            return Math.max(value1, value2);
+        }
+    };
+
+    /**
+     * The identity element of this operator.
+     */
+    private final float identityElement;
+
+    /**
+     * Creates a monoid with the given identity element.
+     *
+     * @param identity The identity element of the operator
+     */
+    StandardFloatMonoid(float identity) {
+        this.identityElement = identity;
+    }
+
+    @Override
+    public float identity() {
+        return identityElement;
+    }
+
+    @Override
+    public boolean isCommutative() {
+        return true;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+/**
+ * The standard groups on {@code int} values: sum and the bitwise exclusive disjunction. All of them are commutative.
+ *
+ * @see IntGroup
+ */
+public enum StandardIntGroup implements IntGroup {
+
+    /**
+     * Adds its arguments, with identity {@code 0}, and negates values to invert them. Overflow wraps around, which
+     * keeps the addition associative and the negation of {@link Integer#MIN_VALUE} its inverse.
+     */
+    SUM(0) {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return value1 + value2;
+        }
+
+        @Override
+        public int inverse(int value) {
+            return -value;
+        }
+    },
+
+    /**
+     * Returns the bitwise exclusive disjunction of its arguments, with identity {@code 0}, of which every value is its
+     * own inverse.
+     */
+    XOR(0) {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return value1 ^ value2;
+        }
+
+        @Override
+        public int inverse(int value) {
+            return value;
+        }
+    };
+
+    /**
+     * The identity element of this operator.
+     */
+    private final int identityElement;
+
+    /**
+     * Creates a group with the given identity element.
+     *
+     * @param identity The identity element of the operator
+     */
+    StandardIntGroup(int identity) {
+        this.identityElement = identity;
+    }
+
+    @Override
+    public int identity() {
+        return identityElement;
+    }
+
+    @Override
+    public boolean isCommutative() {
+        return true;
+    }
+}
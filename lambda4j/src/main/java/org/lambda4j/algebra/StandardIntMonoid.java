@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+/**
+ * The standard monoids on {@code int} values: sum, minimum, maximum and the bitwise operations. All of them are
+ * commutative.
+ *
+ * @see IntMonoid
+ */
+public enum StandardIntMonoid implements IntMonoid {
+
+    /**
+     * Adds its arguments, with identity {@code 0}. Overflow wraps around, which keeps the addition associative.
+     */
+    SUM(0) {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return value1 + value2;
+        }
+    },
+
+    /**
+     * Returns the lesser of its arguments, as {@link Math#min(int, int)} does, with identity {@link Integer#MAX_VALUE}.
+     */
+    MIN(Integer.MAX_VALUE) {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return Math.min(value1, value2);
+        }
+    },
+
+    /**
+     * Returns the greater of its arguments, as {@link Math#max(int, int)} does, with identity
+     * {@link Integer#MIN_VALUE}.
+     */
+    MAX(Integer.MIN_VALUE) {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return Math.max(value1, value2);
+        }
+    },
+
+    /**
+     * Returns the bitwise conjunction of its arguments, with identity {@code -1}, in which all bits are set.
+     */
+    AND(-1) {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return value1 & value2;
+        }
+    },
+
+    /**
+     * Returns the bitwise disjunction of its arguments, with identity {@code 0}.
+     */
+    OR(0) {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return value1 | value2;
+        }
+    },
+
+    /**
+     * Returns the bitwise exclusive disjunction of its arguments, with identity {@code 0}.
+     */
+    XOR(0) {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return value1 ^ value2;
+        }
+    };
+
+    /**
+     * The identity element of this operator.
+     */
+    private final int identityElement;
+
+    /**
+     * Creates a monoid with the given identity element.
+     *
+     * @param identity The identity element of the operator
+     */
+    StandardIntMonoid(int identity) {
+        this.identityElement = identity;
+    }
+
+    @Override
+    public int identity() {
+        return identityElement;
+    }
+
+    @Override
+    public boolean isCommutative() {
+        return true;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Provides semigroups and monoids, which are binary operators declaring to be associative and, in the case of monoids,
+ * to have an identity element, as well as the standard monoids on primitive values. These declarations allow arrays to
+ * be reduced and prefix scanned, including segment by segment, in parallel with the same results as sequentially.
+ * Groups additionally declare the inverse of each value, which allows data structures to remove a value from a
+ * combination without recombining the remaining values.
+ */
+package org.lambda4j.algebra;
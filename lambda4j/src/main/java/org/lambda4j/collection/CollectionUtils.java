@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * Utils for the primitive collections of this package, which size their backing arrays, check indices and spread
+ * the hashes of primitive keys.
+ */
+final class CollectionUtils {
+
+    /**
+     * The default capacity of a list.
+     */
+    static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * The maximum size of an array, as some virtual machines reserve header words in an array.
+     */
+    static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The maximum capacity of a hash table, which is the greatest power of two an array can hold.
+     */
+    static final int MAX_TABLE_SIZE = 1 << 30;
+
+    /**
+     * The 32 bit golden ratio, which is used to spread the bits of a key over the hash.
+     */
+    private static final int INT_PHI = 0x9E3779B9;
+
+    /**
+     * The 64 bit golden ratio, which is used to spread the bits of a key over the hash.
+     */
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private CollectionUtils() {
+    }
+
+    /**
+     * Checks that the given capacity is not negative.
+     *
+     * @param capacity The capacity to be checked
+     * @return The given capacity.
+     * @throws IllegalArgumentException If given capacity is negative
+     */
+    @Nonnegative
+    static int checkCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        return capacity;
+    }
+
+    /**
+     * Checks that the given index is within the bounds of a collection of the given size.
+     *
+     * @param index The index to be checked
+     * @param size The size of the collection
+     * @throws IndexOutOfBoundsException If given index is negative or not less than given size
+     */
+    static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Returns the capacity a backing array of the given length grows to, so that it can hold at least the given
+     * number of elements. The array grows by half its length, unless more elements are required.
+     *
+     * @param length The current length of the backing array
+     * @param minCapacity The required minimum capacity
+     * @return The new capacity of the backing array.
+     * @throws OutOfMemoryError If given minimum capacity exceeds the maximum size of an array
+     */
+    @Nonnegative
+    static int grow(int length, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        int capacity = length + (length >> 1);
+        if (capacity < minCapacity || capacity > MAX_ARRAY_SIZE) {
+            return Math.max(minCapacity, Math.min(capacity, MAX_ARRAY_SIZE));
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the capacity of a hash table holding the given number of keys, which is the least power of two keeping
+     * the load factor of the table at most {@code 0.75}.
+     *
+     * @param expectedSize The expected number of keys
+     * @return The capacity of a hash table holding the given number of keys.
+     * @throws IllegalArgumentException If given expected size is negative
+     * @throws OutOfMemoryError If given expected size exceeds the maximum capacity of a hash table
+     */
+    @Nonnegative
+    static int tableSize(int expectedSize) {
+        long required = (long) checkCapacity(expectedSize) * 4L / 3L + 1L;
+        if (required > MAX_TABLE_SIZE) {
+            throw new OutOfMemoryError("Required table size too large");
+        }
+        return Math.max(Integer.highestOneBit((int) required - 1) << 1, 4);
+    }
+
+    /**
+     * Spreads the bits of the given key over its hash, so that keys differing only in their upper bits do not collide
+     * in the lower bits of a hash table index.
+     *
+     * @param key The key to be hashed
+     * @return The hash of the given key.
+     */
+    static int mix(int key) {
+        int hash = key * INT_PHI;
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Spreads the bits of the given key over its hash, so that keys differing only in their upper bits do not collide
+     * in the lower bits of a hash table index.
+     *
+     * @param key The key to be hashed
+     * @return The hash of the given key.
+     */
+    static int mix(long key) {
+        long hash = key * LONG_PHI;
+        return (int) (hash ^ hash >>> 32);
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import org.lambda4j.consumer.bi.BiIntConsumer;
+import org.lambda4j.operator.binary.IntBinaryOperator2;
+import org.lambda4j.operator.unary.IntUnaryOperator2;
+import org.lambda4j.predicate.bi.BiIntPredicate;
+
+/**
+ * A thread-safe hash map from {@code int} keys to {@code int} values, whose {@code compute}, {@code merge} and bulk
+ * operations take the functional interfaces of this library, so that neither keys nor values are boxed.
+ * <p>
+ * The map is split into segments, each of which is an {@link IntIntMap} guarded by its own lock. A key is assigned to a
+ * segment by the upper bits of its hash, whereas a segment locates the key by the lower bits, so both are spread
+ * independently. Every single-key operation, including {@code computeIfAbsent}, {@code compute}, {@code merge} and
+ * {@code addTo}, is atomic and only blocks operations on keys of the same segment. The given functions are invoked
+ * while holding the lock of the segment, so they should be short and must not access this map.
+ * <p>
+ * The bulk operations and {@link #size()} visit the segments one after another, so they are not atomic with respect to
+ * concurrent updates of other segments.
+ *
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class ConcurrentIntIntMap {
+
+    /**
+     * The maximum number of segments.
+     */
+    private static final int MAX_SEGMENTS = 1 << 16;
+
+    /**
+     * The segments of this map, whose number is a power of two.
+     */
+    private final IntIntMap[] segments;
+
+    /**
+     * The number of bits the hash of a key is shifted right to obtain the index of its segment.
+     */
+    private final int shift;
+
+    /**
+     * Creates an empty map with a concurrency level matching the number of available processors, whose default value is
+     * {@code 0}.
+     */
+    public ConcurrentIntIntMap() {
+        this(0, Runtime.getRuntime().availableProcessors(), 0);
+    }
+
+    /**
+     * Creates an empty map, which can hold the given number of entries without growing and whose default value is
+     * {@code 0}.
+     *
+     * @param expectedSize The expected number of entries of the map
+     * @param concurrencyLevel The estimated number of concurrently updating threads
+     * @throws IllegalArgumentException If given expected size is negative or given concurrency level is less than
+     * {@code 1}
+     */
+    public ConcurrentIntIntMap(@Nonnegative int expectedSize, int concurrencyLevel) {
+        this(expectedSize, concurrencyLevel, 0);
+    }
+
+    /**
+     * Creates an empty map, which can hold the given number of entries without growing and maps absent keys to the
+     * given default value.
+     *
+     * @param expectedSize The expected number of entries of the map
+     * @param concurrencyLevel The estimated number of concurrently updating threads
+     * @param absentValue The value to which absent keys are mapped
+     * @throws IllegalArgumentException If given expected size is negative or given concurrency level is less than
+     * {@code 1}
+     */
+    public ConcurrentIntIntMap(@Nonnegative int expectedSize, int concurrencyLevel, int absentValue) {
+        int segmentCount = segmentCount(concurrencyLevel);
+        int segmentSize = CollectionUtils.checkCapacity(expectedSize) / segmentCount;
+        this.segments = new IntIntMap[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new IntIntMap(segmentSize, absentValue);
+        }
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(segmentCount);
+    }
+
+    /**
+     * Returns the total number of entries of all segments of this map.
+     *
+     * @return The number of entries of this map.
+     */
+    @Nonnegative
+    public int size() {
+        int size = 0;
+        for (IntIntMap segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns whether this map holds no entries.
+     *
+     * @return {@code true} if this map holds no entries, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the value to which absent keys are mapped.
+     *
+     * @return The value to which absent keys are mapped.
+     */
+    public int getDefaultValue() {
+        return segments[0].getDefaultValue();
+    }
+
+    /**
+     * Returns whether this map holds an entry for the given key.
+     *
+     * @param key The key whose presence is to be tested
+     * @return {@code true} if this map holds an entry for the given key, otherwise {@code false}.
+     */
+    public boolean containsKey(int key) {
+        IntIntMap segment = segment(key);
+        synchronized (segment) {
+            return segment.containsKey(key);
+        }
+    }
+
+    /**
+     * Returns the value to which the given key is mapped.
+     *
+     * @param key The key whose associated value is to be returned
+     * @return The value to which the given key is mapped, or the default value of this map if the key is absent.
+     */
+    public int get(int key) {
+        IntIntMap segment = segment(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    /**
+     * Associates the given value with the given key, replacing the value previously associated with it.
+     *
+     * @param key The key with which the given value is to be associated
+     * @param value The value to be associated with the given key
+     * @return The value previously associated with the given key, or the default value of this map if the key was
+     * absent.
+     */
+    public int put(int key, int value) {
+        IntIntMap segment = segment(key);
+        synchronized (segment) {
+            return segment.put(key, value);
+        }
+    }
+
+    /**
+     * Removes the entry of the given key, if it is present.
+     *
+     * @param key The key whose entry is to be removed
+     * @return The value previously associated with the given key, or the default value of this map if the key was
+     * absent.
+     */
+    public int remove(int key) {
+        IntIntMap segment = segment(key);
+        synchronized (segment) {
+            return segment.remove(key);
+        }
+    }
+
+    /**
+     * Atomically returns the value to which the given key is mapped, computing it using the given function and entering
+     * it into this map if the key is absent.
+     *
+     * @param key The key whose associated value is to be returned
+     * @param mappingFunction The function computing the value of an absent key
+     * @return The present or computed value associated with the given key.
+     * @throws NullPointerException If given mapping function is {@code null}
+     * @see IntIntMap#computeIfAbsent(int, IntUnaryOperator2)
+     */
+    public int computeIfAbsent(int key, @Nonnull IntUnaryOperator2 mappingFunction) {
+        IntIntMap segment = segment(key);
+        synchronized (segment) {
+            return segment.computeIfAbsent(key, mappingFunction);
+        }
+    }
+
+    /**
+     * Atomically computes the value of the given key from the key and its present value and enters it into this map.
+     *
+     * @param key The key whose associated value is to be computed
+     * @param remappingFunction The function computing the new value
+     * @return The computed value associated with the given key.
+     * @throws NullPointerException If given remapping function is {@code null}
+     * @see IntIntMap#compute(int, IntBinaryOperator2)
+     */
+    public int compute(int key, @Nonnull IntBinaryOperator2 remappingFunction) {
+        IntIntMap segment = segment(key);
+        synchronized (segment) {
+            return segment.compute(key, remappingFunction);
+        }
+    }
+
+    /**
+     * Atomically enters the given value into this map if the given key is absent, otherwise replaces its present value
+     * with the result of applying the given function to the present and the given value.
+     *
+     * @param key The key with which the resulting value is to be associated
+     * @param value The value to be entered, or merged with the present value
+     * @param remappingFunction The function merging the present and the given value
+     * @return The value associated with the given key after this operation.
+     * @throws NullPointerException If given remapping function is {@code null}
+     * @see IntIntMap#merge(int, int, IntBinaryOperator2)
+     */
+    public int merge(int key, int value, @Nonnull IntBinaryOperator2 remappingFunction) {
+        IntIntMap segment = segment(key);
+        synchronized (segment) {
+            return segment.merge(key, value, remappingFunction);
+        }
+    }
+
+    /**
+     * Atomically adds the given increment to the value of the given key, or to the default value of this map if it is
+     * absent.
+     *
+     * @param key The key whose associated value is to be incremented
+     * @param increment The value to be added
+     * @return The value associated with the given key after this operation.
+     * @see IntIntMap#addTo(int, int)
+     */
+    public int addTo(int key, int increment) {
+        IntIntMap segment = segment(key);
+        synchronized (segment) {
+            return segment.addTo(key, increment);
+        }
+    }
+
+    /**
+     * Removes all entries of this map.
+     */
+    public void clear() {
+        for (IntIntMap segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Performs the given action for each entry of this map, in no particular order. The entries of every segment are
+     * visited while holding its lock.
+     *
+     * @param action The action to be performed for each entry
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void forEach(@Nonnull BiIntConsumer action) {
+        Objects.requireNonNull(action);
+        for (IntIntMap segment : segments) {
+            synchronized (segment) {
+                segment.forEach(action);
+            }
+        }
+    }
+
+    /**
+     * Removes all entries of this map which match the given predicate. The entries of every segment are tested and
+     * removed while holding its lock.
+     *
+     * @param predicate The predicate selecting the entries to be removed
+     * @return {@code true} if any entries have been removed, otherwise {@code false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean removeIf(@Nonnull BiIntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        boolean removed = false;
+        for (IntIntMap segment : segments) {
+            synchronized (segment) {
+                removed |= segment.removeIf(predicate);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the string representation of this map, which lists the entries of its segments one after another.
+     *
+     * @return The string representation of this map.
+     */
+    @Nonnull
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder().append('{');
+        for (IntIntMap segment : segments) {
+            String entries;
+            synchronized (segment) {
+                entries = segment.toString();
+            }
+            if (entries.length() > 2) {
+                builder.append(builder.length() > 1 ? ", " : "").append(entries, 1, entries.length() - 1);
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Returns the segment the given key is assigned to.
+     *
+     * @param key The key whose segment is to be returned
+     * @return The segment the given key is assigned to.
+     */
+    private IntIntMap segment(int key) {
+        return segments[CollectionUtils.mix(key) >>> shift];
+    }
+
+    /**
+     * Returns the number of segments for the given concurrency level, which is the least power of two not less than
+     * twice the concurrency level.
+     *
+     * @param concurrencyLevel The estimated number of concurrently updating threads
+     * @return The number of segments for the given concurrency level.
+     * @throws IllegalArgumentException If given concurrency level is less than {@code 1}
+     */
+    private static int segmentCount(int concurrencyLevel) {
+        if (concurrencyLevel < 1) {
+            throw new IllegalArgumentException("Concurrency level must be positive: " + concurrencyLevel);
+        }
+        int count = Math.min(concurrencyLevel, MAX_SEGMENTS / 2) * 2;
+        return Integer.highestOneBit(count - 1) << 1;
+    }
+}
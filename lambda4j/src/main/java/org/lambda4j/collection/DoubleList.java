@@ -0,0 +1,683 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import org.lambda4j.consumer.DoubleConsumer2;
+import org.lambda4j.function.DoubleFunction2;
+import org.lambda4j.function.conversion.DoubleToByteFunction;
+import org.lambda4j.function.conversion.DoubleToCharFunction;
+import org.lambda4j.function.conversion.DoubleToFloatFunction;
+import org.lambda4j.function.conversion.DoubleToIntFunction2;
+import org.lambda4j.function.conversion.DoubleToLongFunction2;
+import org.lambda4j.function.conversion.DoubleToShortFunction;
+import org.lambda4j.operator.binary.DoubleBinaryOperator2;
+import org.lambda4j.operator.unary.DoubleUnaryOperator2;
+import org.lambda4j.predicate.DoublePredicate2;
+
+/**
+ * A growable list of {@code double} values backed by a primitive array, whose bulk operations take the {@code double}
+ * specializations of this library, e.g. a {@link DoublePredicate2}, so that neither the elements nor the arguments of
+ * the functional interfaces are ever boxed.
+ * <p>
+ * The bulk operations {@link #forEach(DoubleConsumer2)}, {@link #removeIf(DoublePredicate2)}, {@link
+ * #replaceAll(DoubleUnaryOperator2)}, the reductions and the mapping operations optionally run in parallel on the
+ * common fork/join pool, which is enabled using {@link #setParallel(boolean)}. In that mode, the given functional
+ * interfaces must be stateless and non-interfering, and {@code forEach} passes the elements in no particular order.
+ * This class is not thread-safe.
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class DoubleList {
+
+    /**
+     * The elements of this list, whereas only the first {@link #size()} elements are in use.
+     */
+    private double[] elements;
+
+    /**
+     * The number of elements of this list.
+     */
+    private int elementCount;
+
+    /**
+     * Whether the bulk operations of this list run in parallel.
+     */
+    private boolean parallel;
+
+    /**
+     * Creates an empty list with a default initial capacity.
+     */
+    public DoubleList() {
+        this(CollectionUtils.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with the given initial capacity.
+     *
+     * @param initialCapacity The number of elements the list can hold without growing
+     * @throws IllegalArgumentException If given initial capacity is negative
+     */
+    public DoubleList(@Nonnegative int initialCapacity) {
+        this(new double[CollectionUtils.checkCapacity(initialCapacity)], false);
+        this.elementCount = 0;
+    }
+
+    /**
+     * Creates a list holding all elements of the given array, which is used as backing array.
+     *
+     * @param array The backing array, all of whose elements are elements of the list
+     * @param parallelMode Whether the bulk operations of the list run in parallel
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    DoubleList(double[] array, boolean parallelMode) {
+        this.elements = array;
+        this.elementCount = array.length;
+        this.parallel = parallelMode;
+    }
+
+    /**
+     * Returns a new {@link DoubleList} holding the given values.
+     *
+     * @param values The elements of the list
+     * @return A new {@code DoubleList} holding the given values.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public static DoubleList of(@Nonnull double... values) {
+        return new DoubleList(values.clone(), false);
+    }
+
+    /**
+     * Returns the number of elements of this list.
+     *
+     * @return The number of elements of this list.
+     */
+    @Nonnegative
+    public int size() {
+        return elementCount;
+    }
+
+    /**
+     * Returns whether this list holds no elements.
+     *
+     * @return {@code true} if this list holds no elements, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return elementCount == 0;
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index The index of the element to be returned
+     * @return The element at the given index.
+     * @throws IndexOutOfBoundsException If given index is negative or not less than the size of this list
+     */
+    public double get(int index) {
+        CollectionUtils.checkIndex(index, elementCount);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at the given index with the given value.
+     *
+     * @param index The index of the element to be replaced
+     * @param value The value to be stored at the given index
+     * @return The element previously at the given index.
+     * @throws IndexOutOfBoundsException If given index is negative or not less than the size of this list
+     */
+    public double set(int index, double value) {
+        CollectionUtils.checkIndex(index, elementCount);
+        double previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Appends the given value to the end of this list.
+     *
+     * @param value The value to be appended
+     */
+    public void add(double value) {
+        ensureCapacity(elementCount + 1);
+        elements[elementCount] = value;
+        elementCount++;
+    }
+
+    /**
+     * Inserts the given value at the given index, shifting the element at that index and all subsequent elements to the
+     * right.
+     *
+     * @param index The index at which the value is to be inserted
+     * @param value The value to be inserted
+     * @throws IndexOutOfBoundsException If given index is negative or greater than the size of this list
+     */
+    public void add(int index, double value) {
+        CollectionUtils.checkIndex(index, elementCount + 1);
+        ensureCapacity(elementCount + 1);
+        System.arraycopy(elements, index, elements, index + 1, elementCount - index);
+        elements[index] = value;
+        elementCount++;
+    }
+
+    /**
+     * Appends all of the given values to the end of this list, in the given order.
+     *
+     * @param values The values to be appended
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void addAll(@Nonnull double... values) {
+        ensureCapacity(elementCount + values.length);
+        System.arraycopy(values, 0, elements, elementCount, values.length);
+        elementCount += values.length;
+    }
+
+    /**
+     * Appends all elements of the given list to the end of this list, in the order of the given list.
+     *
+     * @param list The list whose elements are to be appended
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void addAll(@Nonnull DoubleList list) {
+        int added = list.elementCount;
+        ensureCapacity(elementCount + added);
+        System.arraycopy(list.elements, 0, elements, elementCount, added);
+        elementCount += added;
+    }
+
+    /**
+     * Removes the element at the given index, shifting all subsequent elements to the left.
+     *
+     * @param index The index of the element to be removed
+     * @return The removed element.
+     * @throws IndexOutOfBoundsException If given index is negative or not less than the size of this list
+     */
+    public double removeAt(int index) {
+        CollectionUtils.checkIndex(index, elementCount);
+        double previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, elementCount - index - 1);
+        elementCount--;
+        return previous;
+    }
+
+    /**
+     * Removes all elements of this list, retaining its capacity.
+     */
+    public void clear() {
+        elementCount = 0;
+    }
+
+    /**
+     * Returns whether this list holds the given value.
+     *
+     * @param value The value whose presence is to be tested
+     * @return {@code true} if this list holds the given value, otherwise {@code false}.
+     */
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the given value in this list.
+     *
+     * @param value The value to search for
+     * @return The index of the first occurrence of the given value, or {@code -1} if this list does not hold it.
+     */
+    public int indexOf(double value) {
+        double[] array = elements;
+        for (int i = 0; i < elementCount; i++) {
+            if (Double.doubleToLongBits(array[i]) == Double.doubleToLongBits(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the given value in this list.
+     *
+     * @param value The value to search for
+     * @return The index of the last occurrence of the given value, or {@code -1} if this list does not hold it.
+     */
+    public int lastIndexOf(double value) {
+        double[] array = elements;
+        for (int i = elementCount - 1; i >= 0; i--) {
+            if (Double.doubleToLongBits(array[i]) == Double.doubleToLongBits(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new array holding the elements of this list, in the same order.
+     *
+     * @return A new array holding the elements of this list.
+     */
+    @Nonnull
+    public double[] toArray() {
+        return Arrays.copyOf(elements, elementCount);
+    }
+
+    /**
+     * Returns a new {@link List} holding the elements of this list, each boxed to {@link Double}.
+     *
+     * @return A new {@code List} holding the boxed elements of this list.
+     */
+    @Nonnull
+    public List<Double> boxed() {
+        List<Double> list = new ArrayList<>(elementCount);
+        for (int i = 0; i < elementCount; i++) {
+            list.add(elements[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Grows the capacity of this list, if necessary, so that it can hold at least the given number of elements without
+     * growing again.
+     *
+     * @param minCapacity The desired minimum capacity
+     * @throws OutOfMemoryError If given minimum capacity exceeds the maximum size of an array
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            elements = Arrays.copyOf(elements, CollectionUtils.grow(elements.length, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the capacity of this list to its size.
+     */
+    public void trimToSize() {
+        if (elementCount < elements.length) {
+            elements = Arrays.copyOf(elements, elementCount);
+        }
+    }
+
+    /**
+     * Sets whether the bulk operations of this list run in parallel on the common fork/join pool. The parallel mode is
+     * disabled by default.
+     *
+     * @param parallelMode {@code true} to run bulk operations in parallel, {@code false} to run them sequentially
+     */
+    public void setParallel(boolean parallelMode) {
+        this.parallel = parallelMode;
+    }
+
+    /**
+     * Returns whether the bulk operations of this list run in parallel.
+     *
+     * @return {@code true} if the bulk operations of this list run in parallel, otherwise {@code false}.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Performs the given action for each element of this list. The elements are passed in order, unless the parallel
+     * bulk mode is enabled.
+     *
+     * @param action The action to be performed for each element
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void forEach(@Nonnull DoubleConsumer2 action) {
+        Objects.requireNonNull(action);
+        double[] array = elements;
+        indices().forEach(i -> action.accept(array[i]));
+    }
+
+    /**
+     * Removes all elements of this list which match the given predicate, retaining the order of the remaining elements.
+     * The elements are compacted in place, so if the predicate throws an exception, only the elements matched before
+     * are removed. In the parallel bulk mode, the predicate is applied to all elements before any element is removed,
+     * so this list is unchanged if the predicate throws an exception.
+     *
+     * @param predicate The predicate selecting the elements to be removed
+     * @return {@code true} if any elements have been removed, otherwise {@code false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean removeIf(@Nonnull DoublePredicate2 predicate) {
+        Objects.requireNonNull(predicate);
+        double[] array = elements;
+        int size = elementCount;
+        if (parallel) {
+            boolean[] removed = new boolean[size];
+            indices().forEach(i -> removed[i] = predicate.test(array[i]));
+            int retained = 0;
+            for (int i = 0; i < size; i++) {
+                if (!removed[i]) {
+                    array[retained] = array[i];
+                    retained++;
+                }
+            }
+            elementCount = retained;
+            return retained < size;
+        }
+        int retained = 0;
+        int index = 0;
+        try {
+            while (index < size) {
+                if (!predicate.test(array[index])) {
+                    array[retained] = array[index];
+                    retained++;
+                }
+                index++;
+            }
+        } finally {
+            System.arraycopy(array, index, array, retained, size - index);
+            elementCount = retained + size - index;
+        }
+        return retained < size;
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the given operator to it.
+     *
+     * @param operator The operator to be applied to each element
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void replaceAll(@Nonnull DoubleUnaryOperator2 operator) {
+        Objects.requireNonNull(operator);
+        double[] array = elements;
+        indices().forEach(i -> array[i] = operator.applyAsDouble(array[i]));
+    }
+
+    /**
+     * Reduces the elements of this list using the given identity value and associative accumulation operator.
+     *
+     * @param identity The identity value of the accumulation operator
+     * @param accumulator The associative operator combining two values
+     * @return The result of the reduction.
+     * @throws NullPointerException If given accumulator is {@code null}
+     */
+    public double reduce(double identity, @Nonnull DoubleBinaryOperator2 accumulator) {
+        Objects.requireNonNull(accumulator);
+        return stream().reduce(identity, accumulator);
+    }
+
+    /**
+     * Reduces the elements of this list using the given associative accumulation operator.
+     *
+     * @param accumulator The associative operator combining two values
+     * @return An {@link OptionalDouble} holding the result of the reduction, or an empty one if this list is empty.
+     * @throws NullPointerException If given accumulator is {@code null}
+     */
+    @Nonnull
+    public OptionalDouble reduce(@Nonnull DoubleBinaryOperator2 accumulator) {
+        Objects.requireNonNull(accumulator);
+        return stream().reduce(accumulator);
+    }
+
+    /**
+     * Returns whether any element of this list matches the given predicate.
+     *
+     * @param predicate The predicate to be applied to the elements
+     * @return {@code true} if any element of this list matches the given predicate, otherwise {@code false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean anyMatch(@Nonnull DoublePredicate2 predicate) {
+        Objects.requireNonNull(predicate);
+        return stream().anyMatch(predicate);
+    }
+
+    /**
+     * Returns whether all elements of this list match the given predicate.
+     *
+     * @param predicate The predicate to be applied to the elements
+     * @return {@code true} if all elements of this list match the given predicate or this list is empty, otherwise
+     * {@code false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean allMatch(@Nonnull DoublePredicate2 predicate) {
+        Objects.requireNonNull(predicate);
+        return stream().allMatch(predicate);
+    }
+
+    /**
+     * Returns a new {@link DoubleList} holding the results of applying the given operator to the elements of this list,
+     * in the same order. The operator is applied in parallel if the parallel bulk mode is enabled.
+     *
+     * @param mapper The operator to be applied to each element
+     * @return A new {@code DoubleList} holding the results of applying the given operator to the elements of this list.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public DoubleList map(@Nonnull DoubleUnaryOperator2 mapper) {
+        Objects.requireNonNull(mapper);
+        double[] array = elements;
+        double[] results = new double[elementCount];
+        indices().forEach(i -> results[i] = mapper.applyAsDouble(array[i]));
+        return new DoubleList(results, parallel);
+    }
+
+    /**
+     * Returns a new {@link IntList} holding the results of applying the given function to the elements of this list, in
+     * the same order. The function is applied in parallel if the parallel bulk mode is enabled.
+     *
+     * @param mapper The function to be applied to each element
+     * @return A new {@code IntList} holding the results of applying the given function to the elements of this list.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public IntList mapToInt(@Nonnull DoubleToIntFunction2 mapper) {
+        Objects.requireNonNull(mapper);
+        double[] array = elements;
+        int[] results = new int[elementCount];
+        indices().forEach(i -> results[i] = mapper.applyAsInt(array[i]));
+        return new IntList(results, parallel);
+    }
+
+    /**
+     * Returns a new {@link LongList} holding the results of applying the given function to the elements of this list,
+     * in the same order. The function is applied in parallel if the parallel bulk mode is enabled.
+     *
+     * @param mapper The function to be applied to each element
+     * @return A new {@code LongList} holding the results of applying the given function to the elements of this list.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public LongList mapToLong(@Nonnull DoubleToLongFunction2 mapper) {
+        Objects.requireNonNull(mapper);
+        double[] array = elements;
+        long[] results = new long[elementCount];
+        indices().forEach(i -> results[i] = mapper.applyAsLong(array[i]));
+        return new LongList(results, parallel);
+    }
+
+    /**
+     * Returns a new {@link FloatList} holding the results of applying the given function to the elements of this list,
+     * in the same order. The function is applied in parallel if the parallel bulk mode is enabled.
+     *
+     * @param mapper The function to be applied to each element
+     * @return A new {@code FloatList} holding the results of applying the given function to the elements of this list.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public FloatList mapToFloat(@Nonnull DoubleToFloatFunction mapper) {
+        Objects.requireNonNull(mapper);
+        double[] array = elements;
+        float[] results = new float[elementCount];
+        indices().forEach(i -> results[i] = mapper.applyAsFloat(array[i]));
+        return new FloatList(results, parallel);
+    }
+
+    /**
+     * Returns a new {@link ShortList} holding the results of applying the given function to the elements of this list,
+     * in the same order. The function is applied in parallel if the parallel bulk mode is enabled.
+     *
+     * @param mapper The function to be applied to each element
+     * @return A new {@code ShortList} holding the results of applying the given function to the elements of this list.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public ShortList mapToShort(@Nonnull DoubleToShortFunction mapper) {
+        Objects.requireNonNull(mapper);
+        double[] array = elements;
+        short[] results = new short[elementCount];
+        indices().forEach(i -> results[i] = mapper.applyAsShort(array[i]));
+        return new ShortList(results, parallel);
+    }
+
+    /**
+     * Returns a new {@link ByteList} holding the results of applying the given function to the elements of this list,
+     * in the same order. The function is applied in parallel if the parallel bulk mode is enabled.
+     *
+     * @param mapper The function to be applied to each element
+     * @return A new {@code ByteList} holding the results of applying the given function to the elements of this list.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public ByteList mapToByte(@Nonnull DoubleToByteFunction mapper) {
+        Objects.requireNonNull(mapper);
+        double[] array = elements;
+        byte[] results = new byte[elementCount];
+        indices().forEach(i -> results[i] = mapper.applyAsByte(array[i]));
+        return new ByteList(results, parallel);
+    }
+
+    /**
+     * Returns a new {@link CharList} holding the results of applying the given function to the elements of this list,
+     * in the same order. The function is applied in parallel if the parallel bulk mode is enabled.
+     *
+     * @param mapper The function to be applied to each element
+     * @return A new {@code CharList} holding the results of applying the given function to the elements of this list.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public CharList mapToChar(@Nonnull DoubleToCharFunction mapper) {
+        Objects.requireNonNull(mapper);
+        double[] array = elements;
+        char[] results = new char[elementCount];
+        indices().forEach(i -> results[i] = mapper.applyAsChar(array[i]));
+        return new CharList(results, parallel);
+    }
+
+    /**
+     * Returns a new {@link List} holding the results of applying the given function to the elements of this list, in
+     * the same order. The function is applied in parallel if the parallel bulk mode is enabled.
+     *
+     * @param <R> The type of the elements of the returned list
+     * @param mapper The function to be applied to each element
+     * @return A new {@code List} holding the results of applying the given function to the elements of this list.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public <R> List<R> mapToObj(@Nonnull DoubleFunction2<? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        double[] array = elements;
+        Object[] results = new Object[elementCount];
+        indices().forEach(i -> results[i] = mapper.apply(array[i]));
+        @SuppressWarnings("unchecked")
+        List<R> list = (List<R>) Arrays.asList(results);
+        return list;
+    }
+
+    /**
+     * Returns a stream over the elements of this list, which is parallel if the parallel bulk mode is enabled. This
+     * list must not be structurally modified while the stream is in use.
+     *
+     * @return A stream over the elements of this list.
+     * @see Arrays#stream(double[], int, int)
+     */
+    @Nonnull
+    public DoubleStream stream() {
+        DoubleStream stream = Arrays.stream(elements, 0, elementCount);
+        return parallel ? stream.parallel() : stream;
+    }
+
+    /**
+     * Compares the given object with this list for equality. Returns {@code true} if the given object is also a list of
+     * {@code double} values holding equal elements in the same order.
+     *
+     * @param obj The object to be compared with this list
+     * @return {@code true} if the given object is equal to this list, otherwise {@code false}.
+     */
+    @Override
+    public boolean equals(@CheckForNull Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DoubleList) || ((DoubleList) obj).elementCount != elementCount) {
+            return false;
+        }
+        DoubleList other = (DoubleList) obj;
+        double[] array = elements;
+        for (int i = 0; i < elementCount; i++) {
+            if (Double.doubleToLongBits(array[i]) != Double.doubleToLongBits(other.elements[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code of this list, which is computed like the hash code of a {@link List} holding the boxed
+     * elements of this list.
+     *
+     * @return The hash code of this list.
+     */
+    @Override
+    public int hashCode() {
+        double[] array = elements;
+        int hash = 1;
+        for (int i = 0; i < elementCount; i++) {
+            hash = 31 * hash + Double.hashCode(array[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the string representation of this list, which lists its elements like {@link Arrays#toString(double[])}.
+     *
+     * @return The string representation of this list.
+     */
+    @Nonnull
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(elementCount * 4 + 2).append('[');
+        for (int i = 0; i < elementCount; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Returns a stream over the indices of the elements of this list, which is parallel if the parallel bulk mode is
+     * enabled.
+     *
+     * @return A stream over the indices of the elements of this list.
+     */
+    private IntStream indices() {
+        IntStream indices = IntStream.range(0, elementCount);
+        return parallel ? indices.parallel() : indices;
+    }
+}
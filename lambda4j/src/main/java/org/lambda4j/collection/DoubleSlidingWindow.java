@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import org.lambda4j.algebra.DoubleGroup;
+import org.lambda4j.algebra.DoubleMonoid;
+import org.lambda4j.algebra.DoubleSemigroup;
+
+/**
+ * A sliding window over a sequence of {@code double} values, which maintains the combination of the values it holds
+ * under an associative operator, such as the sum, minimum or maximum. Values are added at the end of the window and
+ * evicted from its start, and the combination of all values of the window is returned by {@link #aggregate()}. Adding,
+ * evicting and aggregating take amortized constant time, regardless of the number of values in the window, and the
+ * values are held in primitive ring buffers, which only grow if the window does.
+ * <p>
+ * Since only associativity is required, any {@link DoubleSemigroup} is supported. The window keeps its values in two
+ * stacks: an older part, holding the combination of each value with all younger values of that part, and a younger
+ * part, of which only the overall combination is held. Evicting from an empty older part turns the younger part into
+ * the older one, combining each of its values once. If the operator is a {@link DoubleGroup}, the window rather keeps a
+ * single running combination and removes an evicted value by combining its inverse, which saves one buffer. If the
+ * operator is a {@link DoubleMonoid}, an empty window aggregates to its identity.
+ * <p>
+ * A window is either unbounded, so that values are only evicted by {@link #evict()}, or bounded by a number of values,
+ * using {@link #ofCount(int, DoubleSemigroup)}, or by a span of time, using {@link #ofSpan(long, DoubleSemigroup)}.
+ * This class is not thread-safe.
+ *
+ * @see DoubleSemigroup
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class DoubleSlidingWindow {
+
+    /**
+     * The initial length of the ring buffers of a window, unless it is bounded by a smaller number of values.
+     */
+    private static final int INITIAL_LENGTH = 16;
+
+    /**
+     * The message of the exception thrown when evicting from or aggregating an empty window.
+     */
+    private static final String EMPTY_MESSAGE = "Window is empty";
+
+    /**
+     * The associative operator combining the values of this window.
+     */
+    private final DoubleSemigroup semigroup;
+
+    /**
+     * The operator of this window if it is a group, otherwise {@code null}.
+     */
+    @CheckForNull
+    private final DoubleGroup group;
+
+    /**
+     * The maximum number of values of this window.
+     */
+    private final int maxCount;
+
+    /**
+     * The span of time covered by this window, or {@code 0} if this window is not bounded by time.
+     */
+    private final long span;
+
+    /**
+     * The ring buffer of the values of this window, whose length is a power of two.
+     */
+    private double[] values;
+
+    /**
+     * The ring buffer of the combinations of each value of the older part with all younger values of that part, or
+     * {@code null} if the operator of this window is a group.
+     */
+    @CheckForNull
+    private double[] suffixes;
+
+    /**
+     * The ring buffer of the timestamps of the values of this window, or {@code null} if this window is not bounded by
+     * time.
+     */
+    @CheckForNull
+    private long[] timestamps;
+
+    /**
+     * The index of the oldest value of this window in the ring buffers.
+     */
+    private int head;
+
+    /**
+     * The number of values of this window.
+     */
+    private int valueCount;
+
+    /**
+     * The number of values of the older part of this window.
+     */
+    private int olderCount;
+
+    /**
+     * The combination of all values of the younger part of this window, or of all values of this window if its operator
+     * is a group.
+     */
+    private double combination;
+
+    /**
+     * Creates an empty, unbounded window combining its values using the given operator.
+     *
+     * @param operator The associative operator combining the values of the window
+     * @throws NullPointerException If given operator is {@code null}
+     */
+    public DoubleSlidingWindow(@Nonnull DoubleSemigroup operator) {
+        this(operator, CollectionUtils.MAX_TABLE_SIZE, 0L);
+    }
+
+    /**
+     * Creates an empty window combining its values using the given operator, which is bounded by the given number of
+     * values and span of time.
+     *
+     * @param windowOperator The associative operator combining the values of the window
+     * @param count The maximum number of values of the window
+     * @param time The span of time covered by the window, or {@code 0} if the window is not bounded by time
+     * @throws NullPointerException If given operator is {@code null}
+     */
+    private DoubleSlidingWindow(DoubleSemigroup windowOperator, int count, long time) {
+        this.semigroup = Objects.requireNonNull(windowOperator);
+        this.group = windowOperator instanceof DoubleGroup ? (DoubleGroup) windowOperator : null;
+        this.maxCount = count;
+        this.span = time;
+        int length = Integer.highestOneBit(Math.min(count, INITIAL_LENGTH) - 1) << 1;
+        this.values = new double[Math.max(length, 1)];
+        this.suffixes = group == null ? new double[values.length] : null;
+        this.timestamps = time > 0L ? new long[values.length] : null;
+        if (group != null) {
+            this.combination = group.identity();
+        }
+    }
+
+    /**
+     * Returns an empty window combining its values using the given operator, which holds at most the given number of
+     * values. Once it is full, adding a value evicts the oldest one.
+     *
+     * @param count The maximum number of values of the window
+     * @param operator The associative operator combining the values of the window
+     * @return An empty window holding at most the given number of values.
+     * @throws NullPointerException If given operator is {@code null}
+     * @throws IllegalArgumentException If given count is less than {@code 1} or greater than {@code 2^30}
+     */
+    @Nonnull
+    public static DoubleSlidingWindow ofCount(int count, @Nonnull DoubleSemigroup operator) {
+        if (count < 1 || count > CollectionUtils.MAX_TABLE_SIZE) {
+            throw new IllegalArgumentException("Count out of range: " + count);
+        }
+        return new DoubleSlidingWindow(operator, count, 0L);
+    }
+
+    /**
+     * Returns an empty window combining its values using the given operator, which holds the values whose timestamps
+     * lie within the given span of time before the timestamp of its youngest value. A value added with timestamp {@code
+     * t} evicts all values whose timestamps are less than or equal to {@code t - span}.
+     *
+     * @param span The span of time covered by the window, in the unit of the timestamps
+     * @param operator The associative operator combining the values of the window
+     * @return An empty window holding the values within the given span of time.
+     * @throws NullPointerException If given operator is {@code null}
+     * @throws IllegalArgumentException If given span is less than {@code 1}
+     * @see #add(long, double)
+     */
+    @Nonnull
+    public static DoubleSlidingWindow ofSpan(long span, @Nonnull DoubleSemigroup operator) {
+        if (span < 1L) {
+            throw new IllegalArgumentException("Span must be positive: " + span);
+        }
+        return new DoubleSlidingWindow(operator, CollectionUtils.MAX_TABLE_SIZE, span);
+    }
+
+    /**
+     * Returns the number of values of this window.
+     *
+     * @return The number of values of this window.
+     */
+    @Nonnegative
+    public int size() {
+        return valueCount;
+    }
+
+    /**
+     * Returns whether this window holds no values.
+     *
+     * @return {@code true} if this window holds no values, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return valueCount == 0;
+    }
+
+    /**
+     * Adds the given value at the end of this window. If this window holds the maximum number of values, its oldest
+     * value is evicted first.
+     *
+     * @param value The value to be added
+     * @throws IllegalStateException If this window is bounded by time
+     * @see #add(long, double)
+     */
+    public void add(double value) {
+        if (timestamps != null) {
+            throw new IllegalStateException("Window is bounded by time");
+        }
+        push(value);
+    }
+
+    /**
+     * Adds the given value with the given timestamp at the end of this window, after evicting all values which are no
+     * longer within the span of time of this window.
+     *
+     * @param timestamp The timestamp of the value, which must not be less than the one of the youngest value
+     * @param value The value to be added
+     * @throws IllegalStateException If this window is not bounded by time
+     * @throws IllegalArgumentException If given timestamp is less than the timestamp of the youngest value
+     * @see #advance(long)
+     */
+    public void add(long timestamp, double value) {
+        advance(timestamp);
+        if (valueCount > 0 && timestamp < timestamps[(head + valueCount - 1) & (values.length - 1)]) {
+            throw new IllegalArgumentException("Timestamp precedes the youngest value: " + timestamp);
+        }
+        push(value);
+        timestamps[(head + valueCount - 1) & (values.length - 1)] = timestamp;
+    }
+
+    /**
+     * Evicts all values whose timestamps are less than or equal to the given timestamp minus the span of time of this
+     * window, without adding a value.
+     *
+     * @param timestamp The current timestamp
+     * @throws IllegalStateException If this window is not bounded by time
+     */
+    public void advance(long timestamp) {
+        if (timestamps == null) {
+            throw new IllegalStateException("Window is not bounded by time");
+        }
+        while (valueCount > 0 && timestamp - timestamps[head] >= span) {
+            evict();
+        }
+    }
+
+    /**
+     * Removes the oldest value from this window and returns it.
+     *
+     * @return The evicted value.
+     * @throws NoSuchElementException If this window is empty
+     */
+    public double evict() {
+        if (valueCount == 0) {
+            throw new NoSuchElementException(EMPTY_MESSAGE);
+        }
+        double value = values[head];
+        if (group == null) {
+            if (olderCount == 0) {
+                flip();
+            }
+            olderCount--;
+        } else {
+            combination = valueCount == 1 ? group.identity() : group.applyAsDouble(group.inverse(value), combination);
+        }
+        head = (head + 1) & (values.length - 1);
+        valueCount--;
+        return value;
+    }
+
+    /**
+     * Returns the combination of all values of this window, from the oldest to the youngest one, under the operator of
+     * this window.
+     *
+     * @return The combination of all values of this window, or the identity if this window is empty and its operator is
+     * a monoid.
+     * @throws NoSuchElementException If this window is empty and its operator is not a monoid
+     */
+    public double aggregate() {
+        if (valueCount == 0) {
+            if (semigroup instanceof DoubleMonoid) {
+                return ((DoubleMonoid) semigroup).identity();
+            }
+            throw new NoSuchElementException(EMPTY_MESSAGE);
+        }
+        if (group != null || olderCount == 0) {
+            return combination;
+        }
+        double older = suffixes[head];
+        return olderCount == valueCount ? older : semigroup.applyAsDouble(older, combination);
+    }
+
+    /**
+     * Removes all values from this window.
+     */
+    public void clear() {
+        head = 0;
+        valueCount = 0;
+        olderCount = 0;
+        if (group != null) {
+            combination = group.identity();
+        }
+    }
+
+    /**
+     * Returns the string representation of this window, which lists its values from the oldest to the youngest one.
+     *
+     * @return The string representation of this window.
+     */
+    @Nonnull
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder().append('[');
+        for (int i = 0; i < valueCount; i++) {
+            builder.append(i > 0 ? ", " : "").append(values[(head + i) & (values.length - 1)]);
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Adds the given value at the end of this window, evicting the oldest value if this window is full, and growing the
+     * ring buffers if they are.
+     *
+     * @param value The value to be added
+     */
+    private void push(double value) {
+        if (valueCount == maxCount) {
+            evict();
+        }
+        if (valueCount == values.length) {
+            grow();
+        }
+        values[(head + valueCount) & (values.length - 1)] = value;
+        if (group != null) {
+            combination = group.applyAsDouble(combination, value);
+        } else {
+            combination = valueCount == olderCount ? value : semigroup.applyAsDouble(combination, value);
+        }
+        valueCount++;
+    }
+
+    /**
+     * Turns the younger part of this window into its older part, storing the combination of each value with all younger
+     * values.
+     */
+    private void flip() {
+        int mask = values.length - 1;
+        int index = (head + valueCount - 1) & mask;
+        double suffix = values[index];
+        suffixes[index] = suffix;
+        for (int i = valueCount - 2; i >= 0; i--) {
+            index = (head + i) & mask;
+            suffix = semigroup.applyAsDouble(values[index], suffix);
+            suffixes[index] = suffix;
+        }
+        olderCount = valueCount;
+    }
+
+    /**
+     * Doubles the length of the ring buffers of this window, moving the oldest value to the start of the buffers.
+     */
+    private void grow() {
+        int length = values.length;
+        double[] grownValues = new double[length * 2];
+        copy(values, grownValues);
+        values = grownValues;
+        if (suffixes != null) {
+            double[] grownSuffixes = new double[length * 2];
+            copy(suffixes, grownSuffixes);
+            suffixes = grownSuffixes;
+        }
+        if (timestamps != null) {
+            long[] grownTimestamps = new long[length * 2];
+            System.arraycopy(timestamps, head, grownTimestamps, 0, length - head);
+            System.arraycopy(timestamps, 0, grownTimestamps, length - head, head);
+            timestamps = grownTimestamps;
+        }
+        head = 0;
+    }
+
+    /**
+     * Copies the given full ring buffer to the start of the given array, beginning with the oldest value.
+     *
+     * @param ring The full ring buffer to be copied
+     * @param array The array to which the ring buffer is copied
+     */
+    private void copy(double[] ring, double[] array) {
+        System.arraycopy(ring, head, array, 0, ring.length - head);
+        System.arraycopy(ring, 0, array, ring.length - head, head);
+    }
+}
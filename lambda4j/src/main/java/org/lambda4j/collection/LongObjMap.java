@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import org.lambda4j.consumer.bi.obj.ObjLongConsumer2;
+import org.lambda4j.function.LongFunction2;
+import org.lambda4j.function.bi.BiFunction2;
+import org.lambda4j.function.bi.obj.ObjLongFunction;
+import org.lambda4j.predicate.bi.obj.ObjLongPredicate;
+
+/**
+ * A hash map from {@code long} keys to object values, which uses open addressing with linear probing, whose {@code
+ * compute}, {@code merge} and bulk operations take the functional interfaces of this library, so that neither keys nor
+ * values are boxed.
+ * <p>
+ * The keys and values are stored in two parallel primitive arrays, whereas {@code 0} marks a free slot. The entry of
+ * the key {@code 0} is stored in an extra slot at the end of the arrays, so it never collides with any other key.
+ * Removed entries are not marked by tombstones, instead the subsequent entries of their cluster are shifted back, so
+ * lookups never slow down by removals. The table grows when it becomes more than three quarters full.
+ * <p>
+ * This map does not permit {@code null} values. As in {@link java.util.Map}, a {@code null} result of a remapping
+ * function removes the entry. The functions given to the {@code compute} methods must not modify this map. This class
+ * is not thread-safe, see {@link ConcurrentLongObjMap} for a thread-safe variant.
+ *
+ * @param <V> The type of the values of this map
+ *
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class LongObjMap<V> {
+
+    /**
+     * The key marking a free slot of the table.
+     */
+    private static final long FREE = 0L;
+    /**
+     * The keys of this map, whose length is a power of two plus the extra slot of the free key.
+     */
+    private long[] keys;
+
+    /**
+     * The values of this map, which are stored in the slot of their key.
+     */
+    private V[] values;
+
+    /**
+     * The mask of the slot indices of the table, which is its capacity minus one.
+     */
+    private int mask;
+
+    /**
+     * The number of entries of this map.
+     */
+    private int elementCount;
+
+    /**
+     * Whether this map contains an entry for the key marking a free slot, which is stored in the extra slot.
+     */
+    private boolean containsFree;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongObjMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map, which can hold the given number of entries without growing.
+     *
+     * @param expectedSize The expected number of entries of the map
+     * @throws IllegalArgumentException If given expected size is negative
+     */
+    public LongObjMap(@Nonnegative int expectedSize) {
+        allocate(CollectionUtils.tableSize(expectedSize));
+    }
+
+    /**
+     * Returns the number of entries of this map.
+     *
+     * @return The number of entries of this map.
+     */
+    @Nonnegative
+    public int size() {
+        return elementCount;
+    }
+
+    /**
+     * Returns whether this map holds no entries.
+     *
+     * @return {@code true} if this map holds no entries, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return elementCount == 0;
+    }
+
+    /**
+     * Returns whether this map holds an entry for the given key.
+     *
+     * @param key The key whose presence is to be tested
+     * @return {@code true} if this map holds an entry for the given key, otherwise {@code false}.
+     */
+    public boolean containsKey(long key) {
+        return occupied(find(key));
+    }
+
+    /**
+     * Returns the value to which the given key is mapped.
+     *
+     * @param key The key whose associated value is to be returned
+     * @return The value to which the given key is mapped, or {@code null} if the key is absent.
+     */
+    @CheckForNull
+    public V get(long key) {
+        int slot = find(key);
+        return occupied(slot) ? values[slot] : null;
+    }
+
+    /**
+     * Associates the given value with the given key, replacing the value previously associated with it.
+     *
+     * @param key The key with which the given value is to be associated
+     * @param value The value to be associated with the given key
+     * @return The value previously associated with the given key, or {@code null} if the key was absent.
+     * @throws NullPointerException If given value is {@code null}
+     */
+    @CheckForNull
+    public V put(long key, @Nonnull V value) {
+        Objects.requireNonNull(value);
+        int slot = find(key);
+        if (occupied(slot)) {
+            V previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insertAt(slot, key, value);
+        return null;
+    }
+
+    /**
+     * Removes the entry of the given key, if it is present.
+     *
+     * @param key The key whose entry is to be removed
+     * @return The value previously associated with the given key, or {@code null} if the key was absent.
+     */
+    @CheckForNull
+    public V remove(long key) {
+        int slot = find(key);
+        if (!occupied(slot)) {
+            return null;
+        }
+        V previous = values[slot];
+        removeAt(slot);
+        return previous;
+    }
+
+    /**
+     * Returns the value to which the given key is mapped, computing it using the given function and entering it into
+     * this map if the key is absent, unless the function returns {@code null}.
+     *
+     * @param key The key whose associated value is to be returned
+     * @param mappingFunction The function computing the value of an absent key
+     * @return The present or computed value associated with the given key, or {@code null} if the key is absent and the
+     * function returns {@code null}.
+     * @throws NullPointerException If given mapping function is {@code null}
+     */
+    @CheckForNull
+    public V computeIfAbsent(long key, @Nonnull LongFunction2<? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        int slot = find(key);
+        if (occupied(slot)) {
+            return values[slot];
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            insertAt(slot, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Computes the value of the given key from its present value, or {@code null} if it is absent, and the key. If the
+     * function returns {@code null}, the entry of the key is removed.
+     *
+     * @param key The key whose associated value is to be computed
+     * @param remappingFunction The function computing the new value from the present value or {@code null} and the key
+     * @return The computed value associated with the given key, or {@code null} if there is none.
+     * @throws NullPointerException If given remapping function is {@code null}
+     */
+    @CheckForNull
+    public V compute(long key, @Nonnull ObjLongFunction<? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        int slot = find(key);
+        boolean present = occupied(slot);
+        V value = remappingFunction.apply(present ? values[slot] : null, key);
+        if (value == null) {
+            if (present) {
+                removeAt(slot);
+            }
+        } else if (present) {
+            values[slot] = value;
+        } else {
+            insertAt(slot, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Enters the given value into this map if the given key is absent, otherwise replaces its present value with the
+     * result of applying the given function to the present and the given value. If the function returns {@code null},
+     * the entry of the key is removed.
+     *
+     * @param key The key with which the resulting value is to be associated
+     * @param value The value to be entered, or merged with the present value
+     * @param remappingFunction The function merging the present and the given value
+     * @return The value associated with the given key after this operation, or {@code null} if there is none.
+     * @throws NullPointerException If given value or remapping function is {@code null}
+     */
+    @CheckForNull
+    public V merge(long key, @Nonnull V value,
+            @Nonnull BiFunction2<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        Objects.requireNonNull(value);
+        int slot = find(key);
+        if (!occupied(slot)) {
+            insertAt(slot, key, value);
+            return value;
+        }
+        V merged = remappingFunction.apply(values[slot], value);
+        if (merged == null) {
+            removeAt(slot);
+        } else {
+            values[slot] = merged;
+        }
+        return merged;
+    }
+
+    /**
+     * Removes all entries of this map, retaining the capacity of its table.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        Arrays.fill(values, null);
+        containsFree = false;
+        elementCount = 0;
+    }
+
+    /**
+     * Performs the given action for each entry of this map, in no particular order.
+     *
+     * @param action The action to be performed for each entry
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void forEach(@Nonnull ObjLongConsumer2<? super V> action) {
+        Objects.requireNonNull(action);
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (occupied(slot)) {
+                action.accept(values[slot], keys[slot]);
+            }
+        }
+    }
+
+    /**
+     * Removes all entries of this map which match the given predicate. The predicate is applied to all entries before
+     * any entry is removed.
+     *
+     * @param predicate The predicate selecting the entries to be removed
+     * @return {@code true} if any entries have been removed, otherwise {@code false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean removeIf(@Nonnull ObjLongPredicate<? super V> predicate) {
+        Objects.requireNonNull(predicate);
+        LongList removed = new LongList();
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (occupied(slot) && predicate.test(values[slot], keys[slot])) {
+                removed.add(keys[slot]);
+            }
+        }
+        removed.forEach(this::remove);
+        return !removed.isEmpty();
+    }
+
+    /**
+     * Compares the given object with this map for equality. Returns {@code true} if the given object is also a map of
+     * the same type holding equal entries.
+     *
+     * @param obj The object to be compared with this map
+     * @return {@code true} if the given object is equal to this map, otherwise {@code false}.
+     */
+    @Override
+    public boolean equals(@CheckForNull Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LongObjMap) || ((LongObjMap<?>) obj).elementCount != elementCount) {
+            return false;
+        }
+        LongObjMap<?> other = (LongObjMap<?>) obj;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (occupied(slot)) {
+                int otherSlot = other.find(keys[slot]);
+                if (!other.occupied(otherSlot) || !values[slot].equals(other.values[otherSlot])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code of this map, which is computed like the hash code of a {@link java.util.Map} holding the
+     * boxed entries of this map.
+     *
+     * @return The hash code of this map.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (occupied(slot)) {
+                hash += Long.hashCode(keys[slot]) ^ values[slot].hashCode();
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the string representation of this map, which lists its entries in no particular order like {@link
+     * java.util.AbstractMap#toString()}.
+     *
+     * @return The string representation of this map.
+     */
+    @Nonnull
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder().append('{');
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (occupied(slot)) {
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(keys[slot]).append('=').append(values[slot]);
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Returns the slot of the given key, or the free slot at which the probe sequence of the given key ends if it is
+     * absent. The key marking a free slot is always assigned the extra slot at the end of the table.
+     *
+     * @param key The key to be looked up
+     * @return The slot of the given key, or the free slot at which it is to be inserted.
+     */
+    private int find(long key) {
+        if (key == FREE) {
+            return mask + 1;
+        }
+        long[] table = keys;
+        int slot = CollectionUtils.mix(key) & mask;
+        while (table[slot] != FREE && table[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns whether the given slot holds an entry.
+     *
+     * @param slot The slot to be tested
+     * @return {@code true} if the given slot holds an entry, otherwise {@code false}.
+     */
+    private boolean occupied(int slot) {
+        return slot > mask ? containsFree : keys[slot] != FREE;
+    }
+
+    /**
+     * Enters the given entry into the given free slot, growing the table if it becomes too full.
+     *
+     * @param slot The free slot at which the entry is to be entered
+     * @param key The key of the entry
+     * @param value The value of the entry
+     */
+    private void insertAt(int slot, long key, V value) {
+        keys[slot] = key;
+        values[slot] = value;
+        elementCount++;
+        if (slot > mask) {
+            containsFree = true;
+        } else if (elementCount > mask + 1 - ((mask + 1) >>> 2)) {
+            rehash((mask + 1) << 1);
+        }
+    }
+
+    /**
+     * Removes the entry at the given slot.
+     *
+     * @param slot The slot of the entry to be removed
+     */
+    private void removeAt(int slot) {
+        if (slot > mask) {
+            containsFree = false;
+            values[slot] = null;
+        } else {
+            shiftKeys(slot);
+        }
+        elementCount--;
+    }
+
+    /**
+     * Removes the entry at the given slot by shifting back the subsequent entries of its cluster, which would not be
+     * reachable from the home slot of their key anymore otherwise.
+     *
+     * @param slot The slot of the entry to be removed
+     */
+    private void shiftKeys(int slot) {
+        long[] table = keys;
+        int gap = slot;
+        int current = (slot + 1) & mask;
+        while (table[current] != FREE) {
+            int home = CollectionUtils.mix(table[current]) & mask;
+            if (((current - home) & mask) >= ((current - gap) & mask)) {
+                table[gap] = table[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        table[gap] = FREE;
+        values[gap] = null;
+    }
+
+    /**
+     * Allocates an empty table of the given capacity.
+     *
+     * @param capacity The capacity of the table, which is a power of two
+     */
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        mask = capacity - 1;
+        keys = new long[capacity + 1];
+        values = (V[]) new Object[capacity + 1];
+    }
+
+    /**
+     * Moves all entries of this map into a new table of the given capacity.
+     *
+     * @param capacity The capacity of the new table, which is a power of two
+     * @throws OutOfMemoryError If given capacity exceeds the maximum capacity of a hash table
+     */
+    private void rehash(int capacity) {
+        if (capacity > CollectionUtils.MAX_TABLE_SIZE || capacity <= 0) {
+            throw new OutOfMemoryError("Required table size too large");
+        }
+        long[] oldKeys = keys;
+        V[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length - 1; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+        keys[mask + 1] = oldKeys[oldKeys.length - 1];
+        values[mask + 1] = oldValues[oldValues.length - 1];
+    }
+}
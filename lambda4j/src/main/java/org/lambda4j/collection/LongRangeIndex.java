@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import org.lambda4j.algebra.LongGroup;
+import org.lambda4j.algebra.LongMonoid;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+
+/**
+ * An index over an array of {@code long} values, which answers the combination of any range of the values under an
+ * associative operator with an identity, such as their sum, minimum or maximum, and allows single values to be
+ * replaced. Both take logarithmic time in the number of values, and the index is backed by flat primitive arrays.
+ * <p>
+ * Generally, the index is a segment tree, holding the combination of each node of a binary tree over the values in an
+ * array of twice the number of values, and the order of the values is respected, so that the operator need not be
+ * commutative. If the operator is a commutative {@link LongGroup}, the index rather is a Fenwick tree, which holds a
+ * single combination per value and answers a range by combining the inverse of the combination of the values before the
+ * range with the combination of the values up to its end.
+ * <p>
+ * The index is built from an array in linear time, optionally in parallel, in which case the nodes of each level of the
+ * tree are computed by the threads of the pool of the given {@link Parallelism}. The index does not keep a reference to
+ * the given array. This class is not thread-safe.
+ *
+ * @see LongMonoid
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class LongRangeIndex {
+
+    /**
+     * The configuration building an index sequentially, since its grain is never exceeded.
+     */
+    private static final Parallelism SEQUENTIAL = Parallelism.common().withGrain(Integer.MAX_VALUE);
+
+    /**
+     * The operator combining the values of this index.
+     */
+    private final LongMonoid monoid;
+
+    /**
+     * The operator of this index if it is a Fenwick tree, otherwise {@code null}.
+     */
+    @CheckForNull
+    private final LongGroup group;
+
+    /**
+     * The number of values of this index.
+     */
+    private final int valueCount;
+
+    /**
+     * The nodes of the tree. A segment tree holds the values at the indices from the number of values on, and the
+     * combination of nodes {@code 2 * i} and {@code 2 * i + 1} at index {@code i}. A Fenwick tree holds the combination
+     * of the values from index {@code i - (i & -i)} (inclusive) to index {@code i} (exclusive) at index {@code i}.
+     */
+    private final long[] tree;
+
+    /**
+     * The values of this index if it is a Fenwick tree, otherwise {@code null}.
+     */
+    @CheckForNull
+    private final long[] elements;
+
+    /**
+     * Creates an index over the given values, which combines them using the given operator.
+     *
+     * @param values The values to be indexed
+     * @param operator The associative operator with identity combining the values
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws OutOfMemoryError If given array exceeds the maximum size of an index
+     */
+    public LongRangeIndex(@Nonnull long[] values, @Nonnull LongMonoid operator) {
+        this(values, operator, SEQUENTIAL);
+    }
+
+    /**
+     * Creates an index over the given values, which combines them using the given operator, and builds the index in
+     * parallel.
+     *
+     * @param values The values to be indexed
+     * @param operator The associative operator with identity combining the values
+     * @param parallelism The configuration of the parallel execution
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws OutOfMemoryError If given array exceeds the maximum size of an index
+     */
+    public LongRangeIndex(@Nonnull long[] values, @Nonnull LongMonoid operator, @Nonnull Parallelism parallelism) {
+        Objects.requireNonNull(parallelism);
+        this.monoid = Objects.requireNonNull(operator);
+        this.valueCount = values.length;
+        if (valueCount > CollectionUtils.MAX_ARRAY_SIZE / 2) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        if (operator instanceof LongGroup && operator.isCommutative()) {
+            this.group = (LongGroup) operator;
+            this.elements = values.clone();
+            this.tree = new long[valueCount + 1];
+            System.arraycopy(values, 0, tree, 1, valueCount);
+            buildFenwickTree(parallelism);
+        } else {
+            this.group = null;
+            this.elements = null;
+            this.tree = new long[valueCount * 2];
+            System.arraycopy(values, 0, tree, valueCount, valueCount);
+            buildSegmentTree(parallelism);
+        }
+    }
+
+    /**
+     * Returns the number of values of this index.
+     *
+     * @return The number of values of this index.
+     */
+    @Nonnegative
+    public int size() {
+        return valueCount;
+    }
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index The index of the value to be returned
+     * @return The value at the given index.
+     * @throws IndexOutOfBoundsException If given index is negative or not less than the size of this index
+     */
+    public long get(int index) {
+        CollectionUtils.checkIndex(index, valueCount);
+        return elements == null ? tree[valueCount + index] : elements[index];
+    }
+
+    /**
+     * Replaces the value at the given index with the given value, updating the combinations holding it.
+     *
+     * @param index The index of the value to be replaced
+     * @param value The value to be stored at the given index
+     * @throws IndexOutOfBoundsException If given index is negative or not less than the size of this index
+     */
+    public void set(int index, long value) {
+        CollectionUtils.checkIndex(index, valueCount);
+        if (group == null) {
+            int node = valueCount + index;
+            tree[node] = value;
+            for (node /= 2; node > 0; node /= 2) {
+                tree[node] = monoid.applyAsLong(tree[2 * node], tree[2 * node + 1]);
+            }
+        } else {
+            long delta = group.applyAsLong(group.inverse(elements[index]), value);
+            elements[index] = value;
+            for (int node = index + 1; node <= valueCount; node += node & -node) {
+                tree[node] = group.applyAsLong(tree[node], delta);
+            }
+        }
+    }
+
+    /**
+     * Returns the combination of all values of this index.
+     *
+     * @return The combination of all values of this index, or the identity if it is empty.
+     */
+    public long aggregate() {
+        return aggregate(0, valueCount);
+    }
+
+    /**
+     * Returns the combination of the values from the given start index (inclusive) to the given end index (exclusive),
+     * from first to last.
+     *
+     * @param fromIndex The index of the first value to be combined (inclusive)
+     * @param toIndex The index of the last value to be combined (exclusive)
+     * @return The combination of the values of the given range, or the identity if it is empty.
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * size of this index
+     */
+    public long aggregate(int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, valueCount);
+        if (group != null) {
+            return group.applyAsLong(group.inverse(prefix(fromIndex)), prefix(toIndex));
+        }
+        long left = monoid.identity();
+        long right = monoid.identity();
+        int low = fromIndex + valueCount;
+        int high = toIndex + valueCount;
+        while (low < high) {
+            if ((low & 1) == 1) {
+                left = monoid.applyAsLong(left, tree[low]);
+                low++;
+            }
+            if ((high & 1) == 1) {
+                high--;
+                right = monoid.applyAsLong(tree[high], right);
+            }
+            low /= 2;
+            high /= 2;
+        }
+        return monoid.applyAsLong(left, right);
+    }
+
+    /**
+     * Returns a new array holding the values of this index.
+     *
+     * @return A new array holding the values of this index.
+     */
+    @Nonnull
+    public long[] toArray() {
+        return elements == null ? Arrays.copyOfRange(tree, valueCount, tree.length) : elements.clone();
+    }
+
+    /**
+     * Returns the string representation of this index, which lists its values.
+     *
+     * @return The string representation of this index.
+     */
+    @Nonnull
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Computes the inner nodes of the segment tree from its leaves, level by level from the leaves to the root, where
+     * the nodes of each level are computed in parallel.
+     *
+     * @param parallelism The configuration of the parallel execution
+     */
+    private void buildSegmentTree(Parallelism parallelism) {
+        int levels = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(valueCount - 1, 0));
+        for (int level = levels - 1; level >= 0; level--) {
+            int start = 1 << level;
+            parallelism.forRange(start, Math.min(start * 2, valueCount), (fromIndex, toIndex) -> {
+                for (int node = fromIndex; node < toIndex; node++) {
+                    tree[node] = monoid.applyAsLong(tree[2 * node], tree[2 * node + 1]);
+                }
+            });
+        }
+    }
+
+    /**
+     * Computes the nodes of the Fenwick tree from the values it holds, level by level, where a node of level {@code k}
+     * covers {@code 2^k} values and is combined from nodes of lower levels. The nodes of each level are computed in
+     * parallel.
+     *
+     * @param parallelism The configuration of the parallel execution
+     */
+    private void buildFenwickTree(Parallelism parallelism) {
+        for (int level = 1; level < Integer.SIZE - 1 && 1 << level <= valueCount; level++) {
+            int width = 1 << level;
+            parallelism.forRange(0, (valueCount / width + 1) / 2, (fromIndex, toIndex) -> {
+                for (int pair = fromIndex; pair < toIndex; pair++) {
+                    combineChildren((2 * pair + 1) * width, width);
+                }
+            });
+        }
+    }
+
+    /**
+     * Combines the given node of the Fenwick tree, which holds a single value yet, with the nodes covering the values
+     * before that value within the range of the given node.
+     *
+     * @param node The node to be combined
+     * @param width The number of values covered by the given node
+     */
+    private void combineChildren(int node, int width) {
+        long combination = tree[node];
+        for (int child = 1; child < width; child *= 2) {
+            combination = group.applyAsLong(combination, tree[node - child]);
+        }
+        tree[node] = combination;
+    }
+
+    /**
+     * Returns the combination of the values before the given index, which must be a Fenwick tree.
+     *
+     * @param toIndex The index of the last value to be combined (exclusive)
+     * @return The combination of the values before the given index.
+     */
+    private long prefix(int toIndex) {
+        long prefix = group.identity();
+        for (int node = toIndex; node > 0; node -= node & -node) {
+            prefix = group.applyAsLong(tree[node], prefix);
+        }
+        return prefix;
+    }
+
+}
@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import org.lambda4j.consumer.LongConsumer2;
+import org.lambda4j.operator.binary.LongBinaryOperator2;
+import org.lambda4j.predicate.LongPredicate2;
+
+/**
+ * A set of {@code long} values backed by an open-addressing hash table with linear probing, whose bulk operations take
+ * the {@code long} specializations of this library, e.g. a {@link LongPredicate2}, so that neither the elements nor the
+ * arguments of the functional interfaces are ever boxed.
+ * <p>
+ * The keys are stored in a single primitive array, whereas {@code 0L} marks a free slot and is tracked by a separate
+ * flag. Removed keys are not marked by tombstones, instead the subsequent keys of their cluster are shifted back, so
+ * lookups never slow down by removals. The table grows when it becomes more than three quarters full.
+ * <p>
+ * The bulk operations optionally run in parallel on the common fork/join pool, which is enabled using {@link
+ * #setParallel(boolean)}. In that mode, the given functional interfaces must be stateless and non-interfering. This
+ * class is not thread-safe.
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class LongSet {
+
+    /**
+     * The key marking a free slot of the table.
+     */
+    private static final long FREE = 0L;
+
+    /**
+     * The hash table holding the keys of this set, whose length is a power of two.
+     */
+    private long[] keys;
+
+    /**
+     * The number of keys of this set, including the free key if it is contained.
+     */
+    private int elementCount;
+
+    /**
+     * Whether this set contains the key marking a free slot.
+     */
+    private boolean containsFree;
+
+    /**
+     * Whether the bulk operations of this set run in parallel.
+     */
+    private boolean parallel;
+
+    /**
+     * Creates an empty set.
+     */
+    public LongSet() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty set, which can hold the given number of elements without growing.
+     *
+     * @param expectedSize The expected number of elements of the set
+     * @throws IllegalArgumentException If given expected size is negative
+     */
+    public LongSet(@Nonnegative int expectedSize) {
+        this.keys = new long[CollectionUtils.tableSize(expectedSize)];
+    }
+
+    /**
+     * Returns a new {@link LongSet} holding the given values.
+     *
+     * @param values The elements of the set, which may contain duplicates
+     * @return A new {@code LongSet} holding the given values.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public static LongSet of(@Nonnull long... values) {
+        LongSet set = new LongSet(values.length);
+        set.addAll(values);
+        return set;
+    }
+
+    /**
+     * Returns the number of elements of this set.
+     *
+     * @return The number of elements of this set.
+     */
+    @Nonnegative
+    public int size() {
+        return elementCount;
+    }
+
+    /**
+     * Returns whether this set holds no elements.
+     *
+     * @return {@code true} if this set holds no elements, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return elementCount == 0;
+    }
+
+    /**
+     * Returns whether this set holds the given value.
+     *
+     * @param value The value whose presence is to be tested
+     * @return {@code true} if this set holds the given value, otherwise {@code false}.
+     */
+    public boolean contains(long value) {
+        if (value == FREE) {
+            return containsFree;
+        }
+        return keys[slot(value)] == value;
+    }
+
+    /**
+     * Adds the given value to this set, if it is not already present.
+     *
+     * @param value The value to be added
+     * @return {@code true} if this set did not already hold the given value, otherwise {@code false}.
+     */
+    public boolean add(long value) {
+        if (value == FREE) {
+            boolean added = !containsFree;
+            containsFree = true;
+            elementCount += added ? 1 : 0;
+            return added;
+        }
+        int slot = slot(value);
+        if (keys[slot] == value) {
+            return false;
+        }
+        keys[slot] = value;
+        elementCount++;
+        if (elementCount > keys.length - (keys.length >>> 2)) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Adds all of the given values to this set.
+     *
+     * @param values The values to be added
+     * @return {@code true} if this set changed as a result of the call, otherwise {@code false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean addAll(@Nonnull long... values) {
+        boolean modified = false;
+        for (long value : values) {
+            modified |= add(value);
+        }
+        return modified;
+    }
+
+    /**
+     * Removes the given value from this set, if it is present.
+     *
+     * @param value The value to be removed
+     * @return {@code true} if this set held the given value, otherwise {@code false}.
+     */
+    public boolean remove(long value) {
+        if (value == FREE) {
+            boolean removed = containsFree;
+            containsFree = false;
+            elementCount -= removed ? 1 : 0;
+            return removed;
+        }
+        int slot = slot(value);
+        if (keys[slot] != value) {
+            return false;
+        }
+        shiftKeys(slot);
+        elementCount--;
+        return true;
+    }
+
+    /**
+     * Removes all elements of this set, retaining the capacity of its hash table.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        containsFree = false;
+        elementCount = 0;
+    }
+
+    /**
+     * Returns a new array holding the elements of this set, in no particular order.
+     *
+     * @return A new array holding the elements of this set.
+     */
+    @Nonnull
+    public long[] toArray() {
+        return stream().toArray();
+    }
+
+    /**
+     * Sets whether the bulk operations of this set run in parallel on the common fork/join pool. The parallel mode is
+     * disabled by default.
+     *
+     * @param parallelMode {@code true} to run bulk operations in parallel, {@code false} to run them sequentially
+     */
+    public void setParallel(boolean parallelMode) {
+        this.parallel = parallelMode;
+    }
+
+    /**
+     * Returns whether the bulk operations of this set run in parallel.
+     *
+     * @return {@code true} if the bulk operations of this set run in parallel, otherwise {@code false}.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Performs the given action for each element of this set, in no particular order.
+     *
+     * @param action The action to be performed for each element
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void forEach(@Nonnull LongConsumer2 action) {
+        Objects.requireNonNull(action);
+        stream().forEach(action);
+    }
+
+    /**
+     * Removes all elements of this set which match the given predicate. The predicate is applied to all elements before
+     * any element is removed, so this set is unchanged if the predicate throws an exception.
+     *
+     * @param predicate The predicate selecting the elements to be removed
+     * @return {@code true} if any elements have been removed, otherwise {@code false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean removeIf(@Nonnull LongPredicate2 predicate) {
+        Objects.requireNonNull(predicate);
+        long[] removed = stream().filter(predicate).toArray();
+        for (long value : removed) {
+            remove(value);
+        }
+        return removed.length > 0;
+    }
+
+    /**
+     * Reduces the elements of this set using the given identity value and associative and commutative accumulation
+     * operator.
+     *
+     * @param identity The identity value of the accumulation operator
+     * @param accumulator The associative and commutative operator combining two values
+     * @return The result of the reduction.
+     * @throws NullPointerException If given accumulator is {@code null}
+     */
+    public long reduce(long identity, @Nonnull LongBinaryOperator2 accumulator) {
+        Objects.requireNonNull(accumulator);
+        return stream().reduce(identity, accumulator);
+    }
+
+    /**
+     * Reduces the elements of this set using the given associative and commutative accumulation operator.
+     *
+     * @param accumulator The associative and commutative operator combining two values
+     * @return An {@link OptionalLong} holding the result of the reduction, or an empty one if this set is empty.
+     * @throws NullPointerException If given accumulator is {@code null}
+     */
+    @Nonnull
+    public OptionalLong reduce(@Nonnull LongBinaryOperator2 accumulator) {
+        Objects.requireNonNull(accumulator);
+        return stream().reduce(accumulator);
+    }
+
+    /**
+     * Returns whether any element of this set matches the given predicate.
+     *
+     * @param predicate The predicate to be applied to the elements
+     * @return {@code true} if any element of this set matches the given predicate, otherwise {@code false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean anyMatch(@Nonnull LongPredicate2 predicate) {
+        Objects.requireNonNull(predicate);
+        return stream().anyMatch(predicate);
+    }
+
+    /**
+     * Returns whether all elements of this set match the given predicate.
+     *
+     * @param predicate The predicate to be applied to the elements
+     * @return {@code true} if all elements of this set match the given predicate or this set is empty, otherwise {@code
+     * false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean allMatch(@Nonnull LongPredicate2 predicate) {
+        Objects.requireNonNull(predicate);
+        return stream().allMatch(predicate);
+    }
+
+    /**
+     * Returns a stream over the elements of this set, in no particular order, which is parallel if the parallel bulk
+     * mode is enabled. This set must not be modified while the stream is in use.
+     *
+     * @return A stream over the elements of this set.
+     */
+    @Nonnull
+    public LongStream stream() {
+        LongStream stream = Arrays.stream(keys).filter(key -> key != FREE);
+        if (containsFree) {
+            stream = LongStream.concat(LongStream.of(FREE), stream);
+        }
+        return parallel ? stream.parallel() : stream;
+    }
+
+    /**
+     * Compares the given object with this set for equality. Returns {@code true} if the given object is also a set of
+     * {@code long} values holding the same elements.
+     *
+     * @param obj The object to be compared with this set
+     * @return {@code true} if the given object is equal to this set, otherwise {@code false}.
+     */
+    @Override
+    public boolean equals(@CheckForNull Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LongSet) || ((LongSet) obj).elementCount != elementCount) {
+            return false;
+        }
+        LongSet other = (LongSet) obj;
+        if (containsFree != other.containsFree) {
+            return false;
+        }
+        for (long key : keys) {
+            if (key != FREE && !other.contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code of this set, which is computed like the hash code of a {@link java.util.Set} holding the
+     * boxed elements of this set.
+     *
+     * @return The hash code of this set.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (long key : keys) {
+            hash += Long.hashCode(key);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the string representation of this set, which lists its elements in no particular order.
+     *
+     * @return The string representation of this set.
+     */
+    @Nonnull
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Returns the slot of the table holding the given key, or the free slot at which the probe sequence of the given
+     * key ends, if the key is absent. The table always holds at least one free slot.
+     *
+     * @param key The key to be looked up, which is not the free key
+     * @return The slot holding the given key, or the free slot at which it is to be inserted.
+     */
+    private int slot(long key) {
+        long[] table = keys;
+        int mask = table.length - 1;
+        int slot = CollectionUtils.mix(key) & mask;
+        while (table[slot] != FREE && table[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Moves all keys of this set into a new table of the given capacity.
+     *
+     * @param capacity The capacity of the new table, which is a power of two
+     * @throws OutOfMemoryError If given capacity exceeds the maximum capacity of a hash table
+     */
+    private void rehash(int capacity) {
+        if (capacity > CollectionUtils.MAX_TABLE_SIZE || capacity <= 0) {
+            throw new OutOfMemoryError("Required table size too large");
+        }
+        long[] old = keys;
+        keys = new long[capacity];
+        for (long key : old) {
+            if (key != FREE) {
+                keys[slot(key)] = key;
+            }
+        }
+    }
+
+    /**
+     * Removes the key at the given slot by shifting back the subsequent keys of its cluster, which would not be
+     * reachable from their home slot anymore otherwise.
+     *
+     * @param slot The slot of the key to be removed
+     */
+    private void shiftKeys(int slot) {
+        long[] table = keys;
+        int mask = table.length - 1;
+        int gap = slot;
+        int current = (slot + 1) & mask;
+        while (table[current] != FREE) {
+            int home = CollectionUtils.mix(table[current]) & mask;
+            if (((current - home) & mask) >= ((current - gap) & mask)) {
+                table[gap] = table[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        table[gap] = FREE;
+    }
+}
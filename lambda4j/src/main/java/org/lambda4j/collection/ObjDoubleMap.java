@@ -0,0 +1,522 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import org.lambda4j.consumer.bi.obj.ObjDoubleConsumer2;
+import org.lambda4j.function.bi.obj.ObjDoubleToDoubleFunction;
+import org.lambda4j.function.to.ToDoubleFunction2;
+import org.lambda4j.operator.binary.DoubleBinaryOperator2;
+import org.lambda4j.predicate.bi.obj.ObjDoublePredicate;
+
+/**
+ * A hash map from object keys to {@code double} values, which uses open addressing with linear probing, whose {@code
+ * compute}, {@code merge} and bulk operations take the functional interfaces of this library, so that neither keys nor
+ * values are boxed.
+ * <p>
+ * The keys and values are stored in two parallel arrays, whereas {@code null} marks a free slot, so this map does not
+ * permit {@code null} keys. Removed entries are not marked by tombstones, instead the subsequent entries of their
+ * cluster are shifted back, so lookups never slow down by removals. The table grows when it becomes more than three
+ * quarters full.
+ * <p>
+ * Absent keys are mapped to a default value, which is {@code 0.0} unless given otherwise. It is returned by lookups of
+ * absent keys and passed to {@link #compute(K, ObjDoubleToDoubleFunction)} for them. The functions given to the {@code
+ * compute} methods must not modify this map. This class is not thread-safe, see {@link ConcurrentObjDoubleMap} for a
+ * thread-safe variant.
+ *
+ * @param <K> The type of the keys of this map
+ *
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class ObjDoubleMap<K> {
+
+    /**
+     * The keys of this map, whose length is a power of two.
+     */
+    private K[] keys;
+
+    /**
+     * The values of this map, which are stored in the slot of their key.
+     */
+    private double[] values;
+
+    /**
+     * The mask of the slot indices of the table, which is its capacity minus one.
+     */
+    private int mask;
+
+    /**
+     * The number of entries of this map.
+     */
+    private int elementCount;
+
+    /**
+     * The value to which absent keys are mapped.
+     */
+    private final double defaultValue;
+
+    /**
+     * Creates an empty map, whose default value is {@code 0.0}.
+     */
+    public ObjDoubleMap() {
+        this(0, 0.0);
+    }
+
+    /**
+     * Creates an empty map, which can hold the given number of entries without growing and whose default value is
+     * {@code 0.0}.
+     *
+     * @param expectedSize The expected number of entries of the map
+     * @throws IllegalArgumentException If given expected size is negative
+     */
+    public ObjDoubleMap(@Nonnegative int expectedSize) {
+        this(expectedSize, 0.0);
+    }
+
+    /**
+     * Creates an empty map, which can hold the given number of entries without growing and maps absent keys to the
+     * given default value.
+     *
+     * @param expectedSize The expected number of entries of the map
+     * @param absentValue The value to which absent keys are mapped
+     * @throws IllegalArgumentException If given expected size is negative
+     */
+    public ObjDoubleMap(@Nonnegative int expectedSize, double absentValue) {
+        this.defaultValue = absentValue;
+        allocate(CollectionUtils.tableSize(expectedSize));
+    }
+
+    /**
+     * Returns the number of entries of this map.
+     *
+     * @return The number of entries of this map.
+     */
+    @Nonnegative
+    public int size() {
+        return elementCount;
+    }
+
+    /**
+     * Returns whether this map holds no entries.
+     *
+     * @return {@code true} if this map holds no entries, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return elementCount == 0;
+    }
+
+    /**
+     * Returns the value to which absent keys are mapped.
+     *
+     * @return The value to which absent keys are mapped.
+     */
+    public double getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * Returns whether this map holds an entry for the given key.
+     *
+     * @param key The key whose presence is to be tested
+     * @return {@code true} if this map holds an entry for the given key, otherwise {@code false}.
+     * @throws NullPointerException If given key is {@code null}
+     */
+    public boolean containsKey(@Nonnull K key) {
+        return occupied(find(key));
+    }
+
+    /**
+     * Returns the value to which the given key is mapped.
+     *
+     * @param key The key whose associated value is to be returned
+     * @return The value to which the given key is mapped, or the default value of this map if the key is absent.
+     * @throws NullPointerException If given key is {@code null}
+     */
+    public double get(@Nonnull K key) {
+        int slot = find(key);
+        return occupied(slot) ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Associates the given value with the given key, replacing the value previously associated with it.
+     *
+     * @param key The key with which the given value is to be associated
+     * @param value The value to be associated with the given key
+     * @return The value previously associated with the given key, or the default value of this map if the key was
+     * absent.
+     * @throws NullPointerException If given key is {@code null}
+     */
+    public double put(@Nonnull K key, double value) {
+        int slot = find(key);
+        if (occupied(slot)) {
+            double previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insertAt(slot, key, value);
+        return defaultValue;
+    }
+
+    /**
+     * Removes the entry of the given key, if it is present.
+     *
+     * @param key The key whose entry is to be removed
+     * @return The value previously associated with the given key, or the default value of this map if the key was
+     * absent.
+     * @throws NullPointerException If given key is {@code null}
+     */
+    public double remove(@Nonnull K key) {
+        int slot = find(key);
+        if (!occupied(slot)) {
+            return defaultValue;
+        }
+        double previous = values[slot];
+        removeAt(slot);
+        return previous;
+    }
+
+    /**
+     * Returns the value to which the given key is mapped, computing it using the given function and entering it into
+     * this map if the key is absent.
+     *
+     * @param key The key whose associated value is to be returned
+     * @param mappingFunction The function computing the value of an absent key
+     * @return The present or computed value associated with the given key.
+     * @throws NullPointerException If given mapping function is {@code null}
+     * @throws NullPointerException If given key is {@code null}
+     */
+    public double computeIfAbsent(@Nonnull K key, @Nonnull ToDoubleFunction2<? super K> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        int slot = find(key);
+        if (occupied(slot)) {
+            return values[slot];
+        }
+        double value = mappingFunction.applyAsDouble(key);
+        insertAt(slot, key, value);
+        return value;
+    }
+
+    /**
+     * Computes the value of the given key from the key and its present value, or the default value of this map if it is
+     * absent, and enters it into this map.
+     *
+     * @param key The key whose associated value is to be computed
+     * @param remappingFunction The function computing the new value from the key and its present or default value
+     * @return The computed value associated with the given key.
+     * @throws NullPointerException If given remapping function is {@code null}
+     * @throws NullPointerException If given key is {@code null}
+     */
+    public double compute(@Nonnull K key, @Nonnull ObjDoubleToDoubleFunction<? super K> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        int slot = find(key);
+        boolean present = occupied(slot);
+        double value = remappingFunction.applyAsDouble(key, present ? values[slot] : defaultValue);
+        if (present) {
+            values[slot] = value;
+        } else {
+            insertAt(slot, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Enters the given value into this map if the given key is absent, otherwise replaces its present value with the
+     * result of applying the given function to the present and the given value.
+     *
+     * @param key The key with which the resulting value is to be associated
+     * @param value The value to be entered, or merged with the present value
+     * @param remappingFunction The function merging the present and the given value
+     * @return The value associated with the given key after this operation.
+     * @throws NullPointerException If given remapping function is {@code null}
+     * @throws NullPointerException If given key is {@code null}
+     */
+    public double merge(@Nonnull K key, double value, @Nonnull DoubleBinaryOperator2 remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        int slot = find(key);
+        if (occupied(slot)) {
+            double merged = remappingFunction.applyAsDouble(values[slot], value);
+            values[slot] = merged;
+            return merged;
+        }
+        insertAt(slot, key, value);
+        return value;
+    }
+
+    /**
+     * Adds the given increment to the value of the given key, or to the default value of this map if it is absent, for
+     * counting and aggregation without boxing. If the default value is {@code 0}, this is equivalent to {@code
+     * merge(key, increment, Double::sum)}. Otherwise it differs for an absent key, which is associated with the default
+     * value plus the increment, whereas {@code merge} associates it with the increment alone.
+     *
+     * @param key The key whose associated value is to be incremented
+     * @param increment The value to be added
+     * @return The value associated with the given key after this operation.
+     * @throws NullPointerException If given key is {@code null}
+     */
+    public double addTo(@Nonnull K key, double increment) {
+        int slot = find(key);
+        if (occupied(slot)) {
+            values[slot] += increment;
+            return values[slot];
+        }
+        double value = defaultValue + increment;
+        insertAt(slot, key, value);
+        return value;
+    }
+
+    /**
+     * Removes all entries of this map, retaining the capacity of its table.
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        elementCount = 0;
+    }
+
+    /**
+     * Performs the given action for each entry of this map, in no particular order.
+     *
+     * @param action The action to be performed for each entry
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void forEach(@Nonnull ObjDoubleConsumer2<? super K> action) {
+        Objects.requireNonNull(action);
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (occupied(slot)) {
+                action.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Removes all entries of this map which match the given predicate. The predicate is applied to all entries before
+     * any entry is removed.
+     *
+     * @param predicate The predicate selecting the entries to be removed
+     * @return {@code true} if any entries have been removed, otherwise {@code false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean removeIf(@Nonnull ObjDoublePredicate<? super K> predicate) {
+        Objects.requireNonNull(predicate);
+        List<K> removed = new ArrayList<>();
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (occupied(slot) && predicate.test(keys[slot], values[slot])) {
+                removed.add(keys[slot]);
+            }
+        }
+        removed.forEach(this::remove);
+        return !removed.isEmpty();
+    }
+
+    /**
+     * Compares the given object with this map for equality. Returns {@code true} if the given object is also a map of
+     * the same type holding equal entries.
+     *
+     * @param obj The object to be compared with this map
+     * @return {@code true} if the given object is equal to this map, otherwise {@code false}.
+     */
+    @Override
+    public boolean equals(@CheckForNull Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ObjDoubleMap) || ((ObjDoubleMap<?>) obj).elementCount != elementCount) {
+            return false;
+        }
+        ObjDoubleMap<?> other = (ObjDoubleMap<?>) obj;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (occupied(slot)) {
+                int otherSlot = other.findObject(keys[slot]);
+                if (!other.occupied(otherSlot) || Double.doubleToLongBits(other.values[otherSlot])
+                        != Double.doubleToLongBits(values[slot])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code of this map, which is computed like the hash code of a {@link java.util.Map} holding the
+     * boxed entries of this map.
+     *
+     * @return The hash code of this map.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (occupied(slot)) {
+                hash += keys[slot].hashCode() ^ Double.hashCode(values[slot]);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the string representation of this map, which lists its entries in no particular order like {@link
+     * java.util.AbstractMap#toString()}.
+     *
+     * @return The string representation of this map.
+     */
+    @Nonnull
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder().append('{');
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (occupied(slot)) {
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(keys[slot]).append('=').append(values[slot]);
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Returns the slot of the given key, or the free slot at which the probe sequence of the given key ends if it is
+     * absent.
+     *
+     * @param key The key to be looked up
+     * @return The slot of the given key, or the free slot at which it is to be inserted.
+     * @throws NullPointerException If given key is {@code null}
+     */
+    private int find(K key) {
+        K[] table = keys;
+        int slot = CollectionUtils.mix(key.hashCode()) & mask;
+        while (table[slot] != null && !key.equals(table[slot])) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the slot of the given object, if it is a key of this map, or the free slot at which the probe sequence of
+     * the given object ends otherwise.
+     *
+     * @param obj The object to be looked up, which is not {@code null}
+     * @return The slot of the given object, or a free slot.
+     */
+    private int findObject(Object obj) {
+        Object[] table = keys;
+        int slot = CollectionUtils.mix(obj.hashCode()) & mask;
+        while (table[slot] != null && !obj.equals(table[slot])) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns whether the given slot holds an entry.
+     *
+     * @param slot The slot to be tested
+     * @return {@code true} if the given slot holds an entry, otherwise {@code false}.
+     */
+    private boolean occupied(int slot) {
+        return keys[slot] != null;
+    }
+
+    /**
+     * Enters the given entry into the given free slot, growing the table if it becomes too full.
+     *
+     * @param slot The free slot at which the entry is to be entered
+     * @param key The key of the entry
+     * @param value The value of the entry
+     */
+    private void insertAt(int slot, K key, double value) {
+        keys[slot] = key;
+        values[slot] = value;
+        elementCount++;
+        if (elementCount > mask + 1 - ((mask + 1) >>> 2)) {
+            rehash((mask + 1) << 1);
+        }
+    }
+
+    /**
+     * Removes the entry at the given slot.
+     *
+     * @param slot The slot of the entry to be removed
+     */
+    private void removeAt(int slot) {
+        shiftKeys(slot);
+        elementCount--;
+    }
+
+    /**
+     * Removes the entry at the given slot by shifting back the subsequent entries of its cluster, which would not be
+     * reachable from the home slot of their key anymore otherwise.
+     *
+     * @param slot The slot of the entry to be removed
+     */
+    private void shiftKeys(int slot) {
+        K[] table = keys;
+        int gap = slot;
+        int current = (slot + 1) & mask;
+        while (table[current] != null) {
+            int home = CollectionUtils.mix(table[current].hashCode()) & mask;
+            if (((current - home) & mask) >= ((current - gap) & mask)) {
+                table[gap] = table[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        table[gap] = null;
+    }
+
+    /**
+     * Allocates an empty table of the given capacity.
+     *
+     * @param capacity The capacity of the table, which is a power of two
+     */
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        mask = capacity - 1;
+        keys = (K[]) new Object[capacity];
+        values = new double[capacity];
+    }
+
+    /**
+     * Moves all entries of this map into a new table of the given capacity.
+     *
+     * @param capacity The capacity of the new table, which is a power of two
+     * @throws OutOfMemoryError If given capacity exceeds the maximum capacity of a hash table
+     */
+    private void rehash(int capacity) {
+        if (capacity > CollectionUtils.MAX_TABLE_SIZE || capacity <= 0) {
+            throw new OutOfMemoryError("Required table size too large");
+        }
+        K[] oldKeys = keys;
+        double[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
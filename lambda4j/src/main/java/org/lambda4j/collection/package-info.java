@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Provides growable lists, hash sets and hash maps of primitive values, such as {@link
+ * org.lambda4j.collection.IntList} and {@link org.lambda4j.collection.IntIntMap}, whose bulk, {@code compute} and
+ * {@code merge} operations take the functional interfaces of this library, so that primitive values can be processed
+ * without boxing them into {@link java.util.Collection}s. Lists and sets optionally run their bulk operations in
+ * parallel, and every map has a thread-safe segmented variant, such as {@link
+ * org.lambda4j.collection.ConcurrentIntIntMap}.
+ * <p>
+ * Sliding windows, such as {@link org.lambda4j.collection.LongSlidingWindow}, maintain the combination of their values
+ * under an associative operator of {@link org.lambda4j.algebra} while values are added and evicted, taking amortized
+ * constant time per value. Range indexes, such as {@link org.lambda4j.collection.LongRangeIndex}, answer the
+ * combination of any range of an array under such an operator in logarithmic time.
+ */
+package org.lambda4j.collection;
@@ -0,0 +1,443 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collector;
+
+import java.util.IntSummaryStatistics;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.collection.IntIntMap;
+import org.lambda4j.collection.LongLongMap;
+import org.lambda4j.collection.ObjDoubleMap;
+import org.lambda4j.collection.ObjIntMap;
+import org.lambda4j.function.to.ToByteFunction;
+import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.function.to.ToDoubleFunction2;
+import org.lambda4j.function.to.ToFloatFunction;
+import org.lambda4j.function.to.ToIntFunction2;
+import org.lambda4j.function.to.ToLongFunction2;
+import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.operator.binary.ByteBinaryOperator;
+import org.lambda4j.operator.binary.CharBinaryOperator;
+import org.lambda4j.operator.binary.DoubleBinaryOperator2;
+import org.lambda4j.operator.binary.FloatBinaryOperator;
+import org.lambda4j.operator.binary.IntBinaryOperator2;
+import org.lambda4j.operator.binary.LongBinaryOperator2;
+import org.lambda4j.operator.binary.ShortBinaryOperator;
+
+/**
+ * Implementations of {@link Collector} which extract primitive values from the input elements using the functional
+ * interfaces of this library and keep their intermediate state in primitive form, such as {@code float} statistics,
+ * reductions of every primitive type and groupings into the primitive maps of {@link org.lambda4j.collection}. They are
+ * the boxing-free counterparts of {@link java.util.stream.Collectors}, and combine correctly when collecting in
+ * parallel.
+ */
+public final class CollectorUtils {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private CollectorUtils() {
+    }
+
+    /**
+     * Returns a {@link Collector} which reduces the {@code int} values the given function extracts from the input
+     * elements using the given identity value and associative accumulation operator. The partial results are kept in a
+     * {@code int[]}, so neither the extracted values nor the partial results are boxed, only the final result is.
+     *
+     * @param <T> The type of the input elements
+     * @param identity The identity value of the accumulation operator
+     * @param mapper The function extracting the {@code int} value of an input element
+     * @param op The associative operator combining two values
+     * @return A {@code Collector} reducing the {@code int} values of the input elements.
+     * @throws NullPointerException If given mapper or operator is {@code null}
+     * @see java.util.stream.Collectors#reducing(Object, Function, java.util.function.BinaryOperator)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, Integer> reducingInt(int identity, @Nonnull ToIntFunction2<? super T> mapper,
+            @Nonnull IntBinaryOperator2 op) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(op);
+        return Collector.of(() -> new int[] {identity},
+                (state, element) -> state[0] = op.applyAsInt(state[0], mapper.applyAsInt(element)),
+                (state, other) -> {
+                    state[0] = op.applyAsInt(state[0], other[0]);
+                    return state;
+                }, state -> state[0]);
+    }
+
+    /**
+     * Returns a {@link Collector} which reduces the {@code long} values the given function extracts from the input
+     * elements using the given identity value and associative accumulation operator. The partial results are kept in a
+     * {@code long[]}, so neither the extracted values nor the partial results are boxed, only the final result is.
+     *
+     * @param <T> The type of the input elements
+     * @param identity The identity value of the accumulation operator
+     * @param mapper The function extracting the {@code long} value of an input element
+     * @param op The associative operator combining two values
+     * @return A {@code Collector} reducing the {@code long} values of the input elements.
+     * @throws NullPointerException If given mapper or operator is {@code null}
+     * @see java.util.stream.Collectors#reducing(Object, Function, java.util.function.BinaryOperator)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, Long> reducingLong(long identity, @Nonnull ToLongFunction2<? super T> mapper,
+            @Nonnull LongBinaryOperator2 op) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(op);
+        return Collector.of(() -> new long[] {identity},
+                (state, element) -> state[0] = op.applyAsLong(state[0], mapper.applyAsLong(element)),
+                (state, other) -> {
+                    state[0] = op.applyAsLong(state[0], other[0]);
+                    return state;
+                }, state -> state[0]);
+    }
+
+    /**
+     * Returns a {@link Collector} which reduces the {@code double} values the given function extracts from the input
+     * elements using the given identity value and associative accumulation operator. The partial results are kept in a
+     * {@code double[]}, so neither the extracted values nor the partial results are boxed, only the final result is.
+     *
+     * @param <T> The type of the input elements
+     * @param identity The identity value of the accumulation operator
+     * @param mapper The function extracting the {@code double} value of an input element
+     * @param op The associative operator combining two values
+     * @return A {@code Collector} reducing the {@code double} values of the input elements.
+     * @throws NullPointerException If given mapper or operator is {@code null}
+     * @see java.util.stream.Collectors#reducing(Object, Function, java.util.function.BinaryOperator)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, Double> reducingDouble(double identity,
+            @Nonnull ToDoubleFunction2<? super T> mapper, @Nonnull DoubleBinaryOperator2 op) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(op);
+        return Collector.of(() -> new double[] {identity},
+                (state, element) -> state[0] = op.applyAsDouble(state[0], mapper.applyAsDouble(element)),
+                (state, other) -> {
+                    state[0] = op.applyAsDouble(state[0], other[0]);
+                    return state;
+                }, state -> state[0]);
+    }
+
+    /**
+     * Returns a {@link Collector} which reduces the {@code float} values the given function extracts from the input
+     * elements using the given identity value and associative accumulation operator. The partial results are kept in a
+     * {@code float[]}, so neither the extracted values nor the partial results are boxed, only the final result is.
+     *
+     * @param <T> The type of the input elements
+     * @param identity The identity value of the accumulation operator
+     * @param mapper The function extracting the {@code float} value of an input element
+     * @param op The associative operator combining two values
+     * @return A {@code Collector} reducing the {@code float} values of the input elements.
+     * @throws NullPointerException If given mapper or operator is {@code null}
+     * @see java.util.stream.Collectors#reducing(Object, Function, java.util.function.BinaryOperator)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, Float> reducingFloat(float identity, @Nonnull ToFloatFunction<? super T> mapper,
+            @Nonnull FloatBinaryOperator op) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(op);
+        return Collector.of(() -> new float[] {identity},
+                (state, element) -> state[0] = op.applyAsFloat(state[0], mapper.applyAsFloat(element)),
+                (state, other) -> {
+                    state[0] = op.applyAsFloat(state[0], other[0]);
+                    return state;
+                }, state -> state[0]);
+    }
+
+    /**
+     * Returns a {@link Collector} which reduces the {@code short} values the given function extracts from the input
+     * elements using the given identity value and associative accumulation operator. The partial results are kept in a
+     * {@code short[]}, so neither the extracted values nor the partial results are boxed, only the final result is.
+     *
+     * @param <T> The type of the input elements
+     * @param identity The identity value of the accumulation operator
+     * @param mapper The function extracting the {@code short} value of an input element
+     * @param op The associative operator combining two values
+     * @return A {@code Collector} reducing the {@code short} values of the input elements.
+     * @throws NullPointerException If given mapper or operator is {@code null}
+     * @see java.util.stream.Collectors#reducing(Object, Function, java.util.function.BinaryOperator)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, Short> reducingShort(short identity, @Nonnull ToShortFunction<? super T> mapper,
+            @Nonnull ShortBinaryOperator op) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(op);
+        return Collector.of(() -> new short[] {identity},
+                (state, element) -> state[0] = op.applyAsShort(state[0], mapper.applyAsShort(element)),
+                (state, other) -> {
+                    state[0] = op.applyAsShort(state[0], other[0]);
+                    return state;
+                }, state -> state[0]);
+    }
+
+    /**
+     * Returns a {@link Collector} which reduces the {@code byte} values the given function extracts from the input
+     * elements using the given identity value and associative accumulation operator. The partial results are kept in a
+     * {@code byte[]}, so neither the extracted values nor the partial results are boxed, only the final result is.
+     *
+     * @param <T> The type of the input elements
+     * @param identity The identity value of the accumulation operator
+     * @param mapper The function extracting the {@code byte} value of an input element
+     * @param op The associative operator combining two values
+     * @return A {@code Collector} reducing the {@code byte} values of the input elements.
+     * @throws NullPointerException If given mapper or operator is {@code null}
+     * @see java.util.stream.Collectors#reducing(Object, Function, java.util.function.BinaryOperator)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, Byte> reducingByte(byte identity, @Nonnull ToByteFunction<? super T> mapper,
+            @Nonnull ByteBinaryOperator op) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(op);
+        return Collector.of(() -> new byte[] {identity},
+                (state, element) -> state[0] = op.applyAsByte(state[0], mapper.applyAsByte(element)),
+                (state, other) -> {
+                    state[0] = op.applyAsByte(state[0], other[0]);
+                    return state;
+                }, state -> state[0]);
+    }
+
+    /**
+     * Returns a {@link Collector} which reduces the {@code char} values the given function extracts from the input
+     * elements using the given identity value and associative accumulation operator. The partial results are kept in a
+     * {@code char[]}, so neither the extracted values nor the partial results are boxed, only the final result is.
+     *
+     * @param <T> The type of the input elements
+     * @param identity The identity value of the accumulation operator
+     * @param mapper The function extracting the {@code char} value of an input element
+     * @param op The associative operator combining two values
+     * @return A {@code Collector} reducing the {@code char} values of the input elements.
+     * @throws NullPointerException If given mapper or operator is {@code null}
+     * @see java.util.stream.Collectors#reducing(Object, Function, java.util.function.BinaryOperator)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, Character> reducingChar(char identity, @Nonnull ToCharFunction<? super T> mapper,
+            @Nonnull CharBinaryOperator op) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(op);
+        return Collector.of(() -> new char[] {identity},
+                (state, element) -> state[0] = op.applyAsChar(state[0], mapper.applyAsChar(element)),
+                (state, other) -> {
+                    state[0] = op.applyAsChar(state[0], other[0]);
+                    return state;
+                }, state -> state[0]);
+    }
+
+    /**
+     * Returns a {@link Collector} which collects {@link FloatSummaryStatistics} of the {@code float} values the given
+     * function extracts from the input elements, without boxing them.
+     *
+     * @param <T> The type of the input elements
+     * @param mapper The function extracting the {@code float} value of an input element
+     * @return A {@code Collector} collecting statistics of the {@code float} values of the input elements.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see java.util.stream.Collectors#summarizingDouble(java.util.function.ToDoubleFunction)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, FloatSummaryStatistics> summarizingFloat(
+            @Nonnull ToFloatFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return Collector.of(FloatSummaryStatistics::new,
+                (statistics, element) -> statistics.accept(mapper.applyAsFloat(element)),
+                (statistics, other) -> {
+                    statistics.combine(other);
+                    return statistics;
+                }, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a {@link Collector} which collects {@link IntSummaryStatistics} of the {@code short} values the given
+     * function extracts from the input elements. The values are widened to {@code int} without boxing them.
+     *
+     * @param <T> The type of the input elements
+     * @param mapper The function extracting the {@code short} value of an input element
+     * @return A {@code Collector} collecting statistics of the {@code short} values of the input elements.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see java.util.stream.Collectors#summarizingInt(java.util.function.ToIntFunction)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, IntSummaryStatistics> summarizingShort(
+            @Nonnull ToShortFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return Collector.of(IntSummaryStatistics::new,
+                (statistics, element) -> statistics.accept(mapper.applyAsShort(element)),
+                (statistics, other) -> {
+                    statistics.combine(other);
+                    return statistics;
+                }, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a {@link Collector} which collects {@link IntSummaryStatistics} of the {@code byte} values the given
+     * function extracts from the input elements. The values are widened to {@code int} without boxing them.
+     *
+     * @param <T> The type of the input elements
+     * @param mapper The function extracting the {@code byte} value of an input element
+     * @return A {@code Collector} collecting statistics of the {@code byte} values of the input elements.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see java.util.stream.Collectors#summarizingInt(java.util.function.ToIntFunction)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, IntSummaryStatistics> summarizingByte(@Nonnull ToByteFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return Collector.of(IntSummaryStatistics::new,
+                (statistics, element) -> statistics.accept(mapper.applyAsByte(element)),
+                (statistics, other) -> {
+                    statistics.combine(other);
+                    return statistics;
+                }, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a {@link Collector} which collects {@link IntSummaryStatistics} of the {@code char} values the given
+     * function extracts from the input elements. The values are widened to {@code int} without boxing them.
+     *
+     * @param <T> The type of the input elements
+     * @param mapper The function extracting the {@code char} value of an input element
+     * @return A {@code Collector} collecting statistics of the {@code char} values of the input elements.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see java.util.stream.Collectors#summarizingInt(java.util.function.ToIntFunction)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, IntSummaryStatistics> summarizingChar(@Nonnull ToCharFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return Collector.of(IntSummaryStatistics::new,
+                (statistics, element) -> statistics.accept(mapper.applyAsChar(element)),
+                (statistics, other) -> {
+                    statistics.combine(other);
+                    return statistics;
+                }, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a {@link Collector} which groups the input elements by the key the given classifier extracts from them
+     * into an {@link ObjIntMap}, whose value for every key is the reduction of the {@code int} values the given mapper
+     * extracts from the elements of the group using the given associative merge function. Neither the keys nor the
+     * values are boxed. When collecting in parallel, the partial maps are merged using the merge function as well.
+     *
+     * @param <T> The type of the input elements
+     * @param <K> The type of the keys
+     * @param classifier The function extracting the key of an input element
+     * @param mapper The function extracting the {@code int} value of an input element
+     * @param merger The associative function merging the values of elements with the same key
+     * @return A {@code Collector} grouping the input elements into an {@code ObjIntMap}.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see java.util.stream.Collectors#toMap(Function, Function, java.util.function.BinaryOperator)
+     */
+    @Nonnull
+    public static <T, K> Collector<T, ?, ObjIntMap<K>> groupingByInt(
+            @Nonnull Function<? super T, ? extends K> classifier, @Nonnull ToIntFunction2<? super T> mapper,
+            @Nonnull IntBinaryOperator2 merger) {
+        Objects.requireNonNull(classifier);
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(merger);
+        return Collector.of(ObjIntMap::new,
+                (map, element) -> map.merge(classifier.apply(element), mapper.applyAsInt(element), merger),
+                (map, other) -> {
+                    other.forEach((key, value) -> map.merge(key, value, merger));
+                    return map;
+                }, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a {@link Collector} which groups the input elements by the key the given classifier extracts from them
+     * into an {@link ObjDoubleMap}, whose value for every key is the reduction of the {@code double} values the given
+     * mapper extracts from the elements of the group using the given associative merge function. Neither the keys nor
+     * the values are boxed. When collecting in parallel, the partial maps are merged using the merge function as well.
+     *
+     * @param <T> The type of the input elements
+     * @param <K> The type of the keys
+     * @param classifier The function extracting the key of an input element
+     * @param mapper The function extracting the {@code double} value of an input element
+     * @param merger The associative function merging the values of elements with the same key
+     * @return A {@code Collector} grouping the input elements into an {@code ObjDoubleMap}.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see java.util.stream.Collectors#toMap(Function, Function, java.util.function.BinaryOperator)
+     */
+    @Nonnull
+    public static <T, K> Collector<T, ?, ObjDoubleMap<K>> groupingByDouble(
+            @Nonnull Function<? super T, ? extends K> classifier, @Nonnull ToDoubleFunction2<? super T> mapper,
+            @Nonnull DoubleBinaryOperator2 merger) {
+        Objects.requireNonNull(classifier);
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(merger);
+        return Collector.of(ObjDoubleMap::new,
+                (map, element) -> map.merge(classifier.apply(element), mapper.applyAsDouble(element), merger),
+                (map, other) -> {
+                    other.forEach((key, value) -> map.merge(key, value, merger));
+                    return map;
+                }, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a {@link Collector} which groups the input elements by the key the given classifier extracts from them
+     * into an {@link IntIntMap}, whose value for every key is the reduction of the {@code int} values the given mapper
+     * extracts from the elements of the group using the given associative merge function. Neither the keys nor the
+     * values are boxed. When collecting in parallel, the partial maps are merged using the merge function as well.
+     *
+     * @param <T> The type of the input elements
+     * @param classifier The function extracting the key of an input element
+     * @param mapper The function extracting the {@code int} value of an input element
+     * @param merger The associative function merging the values of elements with the same key
+     * @return A {@code Collector} grouping the input elements into an {@code IntIntMap}.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see java.util.stream.Collectors#toMap(Function, Function, java.util.function.BinaryOperator)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, IntIntMap> groupingByIntKey(@Nonnull ToIntFunction2<? super T> classifier,
+            @Nonnull ToIntFunction2<? super T> mapper, @Nonnull IntBinaryOperator2 merger) {
+        Objects.requireNonNull(classifier);
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(merger);
+        return Collector.of(IntIntMap::new,
+                (map, element) -> map.merge(classifier.applyAsInt(element), mapper.applyAsInt(element), merger),
+                (map, other) -> {
+                    other.forEach((key, value) -> map.merge(key, value, merger));
+                    return map;
+                }, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a {@link Collector} which groups the input elements by the key the given classifier extracts from them
+     * into an {@link LongLongMap}, whose value for every key is the reduction of the {@code long} values the given
+     * mapper extracts from the elements of the group using the given associative merge function. Neither the keys nor
+     * the values are boxed. When collecting in parallel, the partial maps are merged using the merge function as well.
+     *
+     * @param <T> The type of the input elements
+     * @param classifier The function extracting the key of an input element
+     * @param mapper The function extracting the {@code long} value of an input element
+     * @param merger The associative function merging the values of elements with the same key
+     * @return A {@code Collector} grouping the input elements into an {@code LongLongMap}.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see java.util.stream.Collectors#toMap(Function, Function, java.util.function.BinaryOperator)
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, LongLongMap> groupingByLongKey(@Nonnull ToLongFunction2<? super T> classifier,
+            @Nonnull ToLongFunction2<? super T> mapper, @Nonnull LongBinaryOperator2 merger) {
+        Objects.requireNonNull(classifier);
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(merger);
+        return Collector.of(LongLongMap::new,
+                (map, element) -> map.merge(classifier.applyAsLong(element), mapper.applyAsLong(element), merger),
+                (map, other) -> {
+                    other.forEach((key, value) -> map.merge(key, value, merger));
+                    return map;
+                }, Collector.Characteristics.IDENTITY_FINISH);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collector;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import org.lambda4j.consumer.FloatConsumer;
+
+/**
+ * A state object for collecting statistics such as count, min, max, sum and average of {@code float} values, which is
+ * the {@code float} counterpart of {@link java.util.DoubleSummaryStatistics}. The values are summed as {@code double}
+ * values, so the sum does not lose precision to the {@code float} rounding of every partial sum.
+ * <p>
+ * This class is not thread-safe, but instances can be collected in parallel by {@link
+ * CollectorUtils#summarizingFloat(org.lambda4j.function.to.ToFloatFunction)}, which combines the partial
+ * statistics of every thread.
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class FloatSummaryStatistics implements FloatConsumer {
+
+    /**
+     * The number of recorded values.
+     */
+    private long count;
+
+    /**
+     * The sum of the recorded values.
+     */
+    private double sum;
+
+    /**
+     * The least recorded value.
+     */
+    private float min = Float.POSITIVE_INFINITY;
+
+    /**
+     * The greatest recorded value.
+     */
+    private float max = Float.NEGATIVE_INFINITY;
+
+    /**
+     * Records the given value into these statistics.
+     *
+     * @param value The value to be recorded
+     */
+    @Override
+    public void accept(float value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Combines the state of the given statistics into these statistics.
+     *
+     * @param other The statistics to be combined into these statistics
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void combine(@Nonnull FloatSummaryStatistics other) {
+        Objects.requireNonNull(other);
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return The number of recorded values.
+     */
+    @Nonnegative
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of the recorded values, or {@code 0} if no values have been recorded. If any recorded value is
+     * {@code NaN}, the sum is {@code NaN}.
+     *
+     * @return The sum of the recorded values.
+     */
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the least recorded value, or {@link Float#POSITIVE_INFINITY} if no values have been recorded. If any
+     * recorded value is {@code NaN}, the result is {@code NaN}.
+     *
+     * @return The least recorded value.
+     */
+    public float getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the greatest recorded value, or {@link Float#NEGATIVE_INFINITY} if no values have been recorded. If any
+     * recorded value is {@code NaN}, the result is {@code NaN}.
+     *
+     * @return The greatest recorded value.
+     */
+    public float getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the arithmetic mean of the recorded values, or {@code 0} if no values have been recorded.
+     *
+     * @return The arithmetic mean of the recorded values.
+     */
+    public double getAverage() {
+        return count > 0L ? sum / count : 0.0;
+    }
+
+    /**
+     * Returns the string representation of these statistics, which lists them like {@link
+     * java.util.DoubleSummaryStatistics#toString()}.
+     *
+     * @return The string representation of these statistics.
+     */
+    @Nonnull
+    @Override
+    public String toString() {
+        return String.format("%s{count=%d, sum=%f, min=%f, average=%f, max=%f}", getClass().getSimpleName(), count, sum,
+                min, getAverage(), max);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Provides implementations of {@link java.util.stream.Collector} which extract primitive values from the input elements
+ * using the functional interfaces of this library and keep their intermediate state in primitive form, as well as the
+ * {@link org.lambda4j.collector.FloatSummaryStatistics} the JDK lacks.
+ */
+package org.lambda4j.collector;
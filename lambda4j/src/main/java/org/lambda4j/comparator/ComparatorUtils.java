@@ -0,0 +1,670 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.comparator;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+/**
+ * This class implements utils for primitive comparators, which sort and search primitive arrays in the order imposed by
+ * a primitive comparator, e.g. an {@link IntComparator}. In contrast to sorting boxed arrays using a {@link
+ * java.util.Comparator}, neither the arrays nor the compared values are boxed, and sorting allocates no memory.
+ * <p>
+ * The sort methods use introsort, a quicksort which falls back to heapsort once its recursion gets too deep, so sorting
+ * takes {@code O(n log n)} time in the worst case. The sort is not stable, so values which are equal according to the
+ * comparator may be reordered.
+ *
+ * @see java.util.Arrays
+ */
+public final class ComparatorUtils {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ComparatorUtils() {
+
+    }
+
+    /**
+     * Sorts the given array into the order imposed by the given {@link IntComparator}.
+     *
+     * @param array The array to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    public static void sort(@Nonnull int[] array, @Nonnull IntComparator comparator) {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the given array into the order imposed by the given {@link IntComparator}.
+     *
+     * @param array The array to be sorted
+     * @param fromIndex The index of the first element to be sorted
+     * @param toIndex The index after the last element to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static void sort(@Nonnull int[] array, int fromIndex, int toIndex, @Nonnull IntComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        IntSorter.sort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+    }
+
+    /**
+     * Searches the given array, which is sorted into the order imposed by the given {@link IntComparator}, for the
+     * given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the array, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see java.util.Arrays#binarySearch(Object[], Object, java.util.Comparator)
+     */
+    public static int binarySearch(@Nonnull int[] array, int key, @Nonnull IntComparator comparator) {
+        Objects.requireNonNull(array);
+        return binarySearch(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Searches the given range of the given array, which is sorted into the order imposed by the given {@link
+     * IntComparator}, for the given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param fromIndex The index of the first element to be searched
+     * @param toIndex The index after the last element to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the range, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static int binarySearch(@Nonnull int[] array, int fromIndex, int toIndex, int key,
+            @Nonnull IntComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = comparator.compare(array[middle], key);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Sorts the given array into the order imposed by the given {@link LongComparator}.
+     *
+     * @param array The array to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    public static void sort(@Nonnull long[] array, @Nonnull LongComparator comparator) {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the given array into the order imposed by the given {@link LongComparator}.
+     *
+     * @param array The array to be sorted
+     * @param fromIndex The index of the first element to be sorted
+     * @param toIndex The index after the last element to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static void sort(@Nonnull long[] array, int fromIndex, int toIndex, @Nonnull LongComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        LongSorter.sort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+    }
+
+    /**
+     * Searches the given array, which is sorted into the order imposed by the given {@link LongComparator}, for the
+     * given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the array, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see java.util.Arrays#binarySearch(Object[], Object, java.util.Comparator)
+     */
+    public static int binarySearch(@Nonnull long[] array, long key, @Nonnull LongComparator comparator) {
+        Objects.requireNonNull(array);
+        return binarySearch(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Searches the given range of the given array, which is sorted into the order imposed by the given {@link
+     * LongComparator}, for the given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param fromIndex The index of the first element to be searched
+     * @param toIndex The index after the last element to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the range, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static int binarySearch(@Nonnull long[] array, int fromIndex, int toIndex, long key,
+            @Nonnull LongComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = comparator.compare(array[middle], key);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Sorts the given array into the order imposed by the given {@link DoubleComparator}.
+     *
+     * @param array The array to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    public static void sort(@Nonnull double[] array, @Nonnull DoubleComparator comparator) {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the given array into the order imposed by the given {@link DoubleComparator}.
+     *
+     * @param array The array to be sorted
+     * @param fromIndex The index of the first element to be sorted
+     * @param toIndex The index after the last element to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static void sort(@Nonnull double[] array, int fromIndex, int toIndex, @Nonnull DoubleComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        DoubleSorter.sort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+    }
+
+    /**
+     * Searches the given array, which is sorted into the order imposed by the given {@link DoubleComparator}, for the
+     * given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the array, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see java.util.Arrays#binarySearch(Object[], Object, java.util.Comparator)
+     */
+    public static int binarySearch(@Nonnull double[] array, double key, @Nonnull DoubleComparator comparator) {
+        Objects.requireNonNull(array);
+        return binarySearch(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Searches the given range of the given array, which is sorted into the order imposed by the given {@link
+     * DoubleComparator}, for the given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param fromIndex The index of the first element to be searched
+     * @param toIndex The index after the last element to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the range, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static int binarySearch(@Nonnull double[] array, int fromIndex, int toIndex, double key,
+            @Nonnull DoubleComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = comparator.compare(array[middle], key);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Sorts the given array into the order imposed by the given {@link FloatComparator}.
+     *
+     * @param array The array to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    public static void sort(@Nonnull float[] array, @Nonnull FloatComparator comparator) {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the given array into the order imposed by the given {@link FloatComparator}.
+     *
+     * @param array The array to be sorted
+     * @param fromIndex The index of the first element to be sorted
+     * @param toIndex The index after the last element to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static void sort(@Nonnull float[] array, int fromIndex, int toIndex, @Nonnull FloatComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        FloatSorter.sort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+    }
+
+    /**
+     * Searches the given array, which is sorted into the order imposed by the given {@link FloatComparator}, for the
+     * given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the array, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see java.util.Arrays#binarySearch(Object[], Object, java.util.Comparator)
+     */
+    public static int binarySearch(@Nonnull float[] array, float key, @Nonnull FloatComparator comparator) {
+        Objects.requireNonNull(array);
+        return binarySearch(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Searches the given range of the given array, which is sorted into the order imposed by the given {@link
+     * FloatComparator}, for the given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param fromIndex The index of the first element to be searched
+     * @param toIndex The index after the last element to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the range, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static int binarySearch(@Nonnull float[] array, int fromIndex, int toIndex, float key,
+            @Nonnull FloatComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = comparator.compare(array[middle], key);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Sorts the given array into the order imposed by the given {@link ShortComparator}.
+     *
+     * @param array The array to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    public static void sort(@Nonnull short[] array, @Nonnull ShortComparator comparator) {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the given array into the order imposed by the given {@link ShortComparator}.
+     *
+     * @param array The array to be sorted
+     * @param fromIndex The index of the first element to be sorted
+     * @param toIndex The index after the last element to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static void sort(@Nonnull short[] array, int fromIndex, int toIndex, @Nonnull ShortComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        ShortSorter.sort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+    }
+
+    /**
+     * Searches the given array, which is sorted into the order imposed by the given {@link ShortComparator}, for the
+     * given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the array, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see java.util.Arrays#binarySearch(Object[], Object, java.util.Comparator)
+     */
+    public static int binarySearch(@Nonnull short[] array, short key, @Nonnull ShortComparator comparator) {
+        Objects.requireNonNull(array);
+        return binarySearch(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Searches the given range of the given array, which is sorted into the order imposed by the given {@link
+     * ShortComparator}, for the given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param fromIndex The index of the first element to be searched
+     * @param toIndex The index after the last element to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the range, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static int binarySearch(@Nonnull short[] array, int fromIndex, int toIndex, short key,
+            @Nonnull ShortComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = comparator.compare(array[middle], key);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Sorts the given array into the order imposed by the given {@link ByteComparator}.
+     *
+     * @param array The array to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    public static void sort(@Nonnull byte[] array, @Nonnull ByteComparator comparator) {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the given array into the order imposed by the given {@link ByteComparator}.
+     *
+     * @param array The array to be sorted
+     * @param fromIndex The index of the first element to be sorted
+     * @param toIndex The index after the last element to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static void sort(@Nonnull byte[] array, int fromIndex, int toIndex, @Nonnull ByteComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        ByteSorter.sort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+    }
+
+    /**
+     * Searches the given array, which is sorted into the order imposed by the given {@link ByteComparator}, for the
+     * given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the array, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see java.util.Arrays#binarySearch(Object[], Object, java.util.Comparator)
+     */
+    public static int binarySearch(@Nonnull byte[] array, byte key, @Nonnull ByteComparator comparator) {
+        Objects.requireNonNull(array);
+        return binarySearch(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Searches the given range of the given array, which is sorted into the order imposed by the given {@link
+     * ByteComparator}, for the given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param fromIndex The index of the first element to be searched
+     * @param toIndex The index after the last element to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the range, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static int binarySearch(@Nonnull byte[] array, int fromIndex, int toIndex, byte key,
+            @Nonnull ByteComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = comparator.compare(array[middle], key);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Sorts the given array into the order imposed by the given {@link CharComparator}.
+     *
+     * @param array The array to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    public static void sort(@Nonnull char[] array, @Nonnull CharComparator comparator) {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the given array into the order imposed by the given {@link CharComparator}.
+     *
+     * @param array The array to be sorted
+     * @param fromIndex The index of the first element to be sorted
+     * @param toIndex The index after the last element to be sorted
+     * @param comparator The comparator determining the order of the array
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static void sort(@Nonnull char[] array, int fromIndex, int toIndex, @Nonnull CharComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        CharSorter.sort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+    }
+
+    /**
+     * Searches the given array, which is sorted into the order imposed by the given {@link CharComparator}, for the
+     * given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the array, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see java.util.Arrays#binarySearch(Object[], Object, java.util.Comparator)
+     */
+    public static int binarySearch(@Nonnull char[] array, char key, @Nonnull CharComparator comparator) {
+        Objects.requireNonNull(array);
+        return binarySearch(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Searches the given range of the given array, which is sorted into the order imposed by the given {@link
+     * CharComparator}, for the given key using binary search.
+     *
+     * @param array The array to be searched
+     * @param fromIndex The index of the first element to be searched
+     * @param toIndex The index after the last element to be searched
+     * @param key The value to be searched for
+     * @param comparator The comparator the array is sorted by
+     * @return The index of the given key, if it is contained in the range, otherwise {@code (-(insertion point) - 1)},
+     * whereas the insertion point is the index at which the key would be inserted into the array.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    public static int binarySearch(@Nonnull char[] array, int fromIndex, int toIndex, char key,
+            @Nonnull CharComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = comparator.compare(array[middle], key);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Checks that the given range is within the bounds of an array of the given length.
+     *
+     * @param length The length of the array
+     * @param fromIndex The index of the first element of the range
+     * @param toIndex The index after the last element of the range
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than given
+     * length
+     */
+    private static void checkRange(int length, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    /**
+     * Returns the recursion depth of quicksort, after which introsort falls back to heapsort, for a range of the given
+     * length.
+     *
+     * @param length The length of the range to be sorted
+     * @return The recursion depth after which heapsort is used, which is twice the binary logarithm of the length.
+     */
+    private static int depthLimit(int length) {
+        return 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(length, 1)));
+    }
+}
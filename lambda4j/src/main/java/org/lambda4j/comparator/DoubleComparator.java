@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.comparator;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
+
+/**
+ * Represents a comparison function, which imposes a total ordering on {@code double} values. This is the {@code
+ * double}-consuming primitive specialization of {@link Comparator}, which compares its operands without boxing them.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #compare(double, double)}.
+ *
+ * @see Comparator
+ */
+@FunctionalInterface
+public interface DoubleComparator {
+
+    /**
+     * Constructs a {@link DoubleComparator} based on a lambda expression or a method reference. Thereby the given
+     * lambda expression or method reference is returned on an as-is basis to implicitly transform it to the desired
+     * type. With this method, it is possible to ensure that correct type is used from lambda expression or method
+     * reference.
+     *
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code DoubleComparator} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    @CheckForNull
+    @Nullable
+    static DoubleComparator of(@Nullable DoubleComparator expression) {
+        return expression;
+    }
+
+    /**
+     * Returns a {@link DoubleComparator} which represents the given boxed comparator, so that it can be used with the
+     * primitive methods of this library. If the given comparator has been returned by {@link #boxed()}, the {@code
+     * DoubleComparator} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * comparator calls the given comparator, boxing its primitive arguments.
+     *
+     * @param comparator The boxed comparator to be represented
+     * @return A {@code DoubleComparator} which represents the given boxed comparator.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static DoubleComparator unboxed(@Nonnull Comparator<? super Double> comparator) {
+        Objects.requireNonNull(comparator);
+        Object original = Composition.getOriginal(comparator, Kind.BOXING);
+        if (original instanceof DoubleComparator) {
+            return (DoubleComparator) original;
+        }
+        return (value1, value2) -> comparator.compare(value1, value2);
+    }
+
+    /**
+     * Returns a {@link DoubleComparator} which compares {@code double} values in their natural order, as defined by
+     * {@link Double#compare(double, double)}.
+     *
+     * @return A {@code DoubleComparator} which compares {@code double} values in their natural order.
+     * @see Comparator#naturalOrder()
+     */
+    @Nonnull
+    static DoubleComparator naturalOrder() {
+        return Double::compare;
+    }
+
+    /**
+     * Returns a {@link DoubleComparator} which compares {@code double} values in the reverse of their natural order.
+     *
+     * @return A {@code DoubleComparator} which compares {@code double} values in the reverse of their natural order.
+     * @see Comparator#reverseOrder()
+     */
+    @Nonnull
+    static DoubleComparator reverseOrder() {
+        return (value1, value2) -> Double.compare(value2, value1);
+    }
+
+    /**
+     * Returns a {@link DoubleComparator} which compares {@code double} values by the {@link Comparable} key extracted
+     * by the given function.
+     *
+     * @param <U> The type of the key
+     * @param keyExtractor The function extracting the key to be compared
+     * @return A {@code DoubleComparator} which compares {@code double} values by the extracted key.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Comparator#comparing(java.util.function.Function)
+     */
+    @Nonnull
+    static <U extends Comparable<? super U>> DoubleComparator comparing(
+            @Nonnull DoubleFunction<? extends U> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        return (value1, value2) -> keyExtractor.apply(value1).compareTo(keyExtractor.apply(value2));
+    }
+
+    /**
+     * Returns a {@link DoubleComparator} which compares {@code double} values by the key extracted by the given
+     * function using the given {@link Comparator}.
+     *
+     * @param <U> The type of the key
+     * @param keyExtractor The function extracting the key to be compared
+     * @param keyComparator The comparator comparing the extracted keys
+     * @return A {@code DoubleComparator} which compares {@code double} values by the extracted key.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see Comparator#comparing(java.util.function.Function, Comparator)
+     */
+    @Nonnull
+    static <U> DoubleComparator comparing(@Nonnull DoubleFunction<? extends U> keyExtractor,
+            @Nonnull Comparator<? super U> keyComparator) {
+        Objects.requireNonNull(keyExtractor);
+        Objects.requireNonNull(keyComparator);
+        return (value1, value2) -> keyComparator.compare(keyExtractor.apply(value1), keyExtractor.apply(value2));
+    }
+
+    /**
+     * Returns a {@link DoubleComparator} which compares {@code double} values by the {@code int} key extracted by the
+     * given function, without boxing either the values or the keys.
+     *
+     * @param keyExtractor The function extracting the key to be compared
+     * @return A {@code DoubleComparator} which compares {@code double} values by the extracted key.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static DoubleComparator comparingInt(@Nonnull DoubleToIntFunction keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        return (value1, value2) -> Integer.compare(keyExtractor.applyAsInt(value1), keyExtractor.applyAsInt(value2));
+    }
+
+    /**
+     * Returns a {@link DoubleComparator} which compares {@code double} values by the {@code long} key extracted by the
+     * given function, without boxing either the values or the keys.
+     *
+     * @param keyExtractor The function extracting the key to be compared
+     * @return A {@code DoubleComparator} which compares {@code double} values by the extracted key.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static DoubleComparator comparingLong(@Nonnull DoubleToLongFunction keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        return (value1, value2) -> Long.compare(keyExtractor.applyAsLong(value1), keyExtractor.applyAsLong(value2));
+    }
+
+    /**
+     * Returns a {@link DoubleComparator} which compares {@code double} values by the {@code double} key extracted by
+     * the given function, without boxing either the values or the keys.
+     *
+     * @param keyExtractor The function extracting the key to be compared
+     * @return A {@code DoubleComparator} which compares {@code double} values by the extracted key.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static DoubleComparator comparingDouble(@Nonnull DoubleUnaryOperator keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        return (value1, value2) -> Double.compare(keyExtractor.applyAsDouble(value1),
+                keyExtractor.applyAsDouble(value2));
+    }
+
+    /**
+     * Compares its two arguments for order. Returns a negative integer, zero, or a positive integer as the first
+     * argument is less than, equal to, or greater than the second.
+     *
+     * @param value1 The first value to be compared
+     * @param value2 The second value to be compared
+     * @return A negative integer, zero, or a positive integer as the first argument is less than, equal to, or greater
+     * than the second.
+     * @see Comparator#compare(Object, Object)
+     */
+    int compare(double value1, double value2);
+
+    /**
+     * Returns a {@link DoubleComparator} which imposes the reverse ordering of this comparator.
+     *
+     * @return A {@code DoubleComparator} which imposes the reverse ordering of this comparator.
+     * @see Comparator#reversed()
+     */
+    @Nonnull
+    default DoubleComparator reversed() {
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof DoubleComparator) {
+            return (DoubleComparator) original;
+        }
+        /**
+         * A {@code DoubleComparator} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements DoubleComparator {
+
+            /**
+             * Creates the reversal of this {@code DoubleComparator}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, DoubleComparator.this);
+            }
+
+            @Override
+            public int compare(double value1, double value2) {
+                return DoubleComparator.this.compare(value2, value1);
+            }
+        }
+
+        return new Reversal();
+    }
+
+    /**
+     * Returns a lexicographic-order {@link DoubleComparator} with another comparator. If this comparator considers two
+     * values equal, the other comparator is used to determine their order.
+     *
+     * @param other The comparator to be used if this comparator considers two values equal
+     * @return A lexicographic-order comparator composed of this comparator and then the other comparator.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Comparator#thenComparing(Comparator)
+     */
+    @Nonnull
+    default DoubleComparator thenComparing(@Nonnull DoubleComparator other) {
+        Objects.requireNonNull(other);
+        return (value1, value2) -> {
+            int result = compare(value1, value2);
+            return result == 0 ? other.compare(value1, value2) : result;
+        };
+    }
+
+    /**
+     * Returns a lexicographic-order {@link DoubleComparator}, which compares values this comparator considers equal by
+     * the {@link Comparable} key extracted by the given function.
+     *
+     * @param <U> The type of the key
+     * @param keyExtractor The function extracting the key to be compared
+     * @return A lexicographic-order comparator composed of this comparator and then the comparison of the extracted
+     * key.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Comparator#thenComparing(java.util.function.Function)
+     */
+    @Nonnull
+    default <U extends Comparable<? super U>> DoubleComparator thenComparing(
+            @Nonnull DoubleFunction<? extends U> keyExtractor) {
+        return thenComparing(comparing(keyExtractor));
+    }
+
+    /**
+     * Returns a lexicographic-order {@link DoubleComparator}, which compares values this comparator considers equal by
+     * the {@code int} key extracted by the given function.
+     *
+     * @param keyExtractor The function extracting the key to be compared
+     * @return A lexicographic-order comparator composed of this comparator and then the comparison of the extracted
+     * key.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Comparator#thenComparingInt(java.util.function.ToIntFunction)
+     */
+    @Nonnull
+    default DoubleComparator thenComparingInt(@Nonnull DoubleToIntFunction keyExtractor) {
+        return thenComparing(comparingInt(keyExtractor));
+    }
+
+    /**
+     * Returns a lexicographic-order {@link DoubleComparator}, which compares values this comparator considers equal by
+     * the {@code long} key extracted by the given function.
+     *
+     * @param keyExtractor The function extracting the key to be compared
+     * @return A lexicographic-order comparator composed of this comparator and then the comparison of the extracted
+     * key.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Comparator#thenComparingLong(java.util.function.ToLongFunction)
+     */
+    @Nonnull
+    default DoubleComparator thenComparingLong(@Nonnull DoubleToLongFunction keyExtractor) {
+        return thenComparing(comparingLong(keyExtractor));
+    }
+
+    /**
+     * Returns a lexicographic-order {@link DoubleComparator}, which compares values this comparator considers equal by
+     * the {@code double} key extracted by the given function.
+     *
+     * @param keyExtractor The function extracting the key to be compared
+     * @return A lexicographic-order comparator composed of this comparator and then the comparison of the extracted
+     * key.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Comparator#thenComparingDouble(java.util.function.ToDoubleFunction)
+     */
+    @Nonnull
+    default DoubleComparator thenComparingDouble(@Nonnull DoubleUnaryOperator keyExtractor) {
+        return thenComparing(comparingDouble(keyExtractor));
+    }
+
+    /**
+     * Returns a {@link Comparator} which represents this {@link DoubleComparator}. Thereby the operands of the returned
+     * comparator are unboxed before they are compared by this comparator.
+     *
+     * @return A {@code Comparator} which represents this {@code DoubleComparator}.
+     */
+    @Nonnull
+    default Comparator<Double> boxed() {
+        /**
+         * A {@code Comparator} which applies this {@code DoubleComparator} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Comparator<Double> {
+
+            /**
+             * Creates the boxed variant of this {@code DoubleComparator}.
+             */
+            Boxed() {
+                super(DoubleComparator.this);
+            }
+
+            @Override
+            public int compare(Double o1, Double o2) {
+                return DoubleComparator.this.compare(o1, o2);
+            }
+        }
+
+        return new Boxed();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.comparator;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Sorts {@code float} arrays into the order imposed by a {@link FloatComparator} using introsort, on behalf of {@link
+ * ComparatorUtils}.
+ */
+final class FloatSorter {
+
+    /**
+     * The length of a range from which on it is sorted by quicksort rather than insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private FloatSorter() {
+
+    }
+
+    /**
+     * Sorts the given inclusive range of the given array using introsort.
+     *
+     * @param array The array to be sorted
+     * @param first The index of the first element to be sorted
+     * @param last The index of the last element to be sorted
+     * @param depth The remaining recursion depth, after which heapsort is used
+     * @param comparator The comparator determining the order of the array
+     */
+    static void sort(@Nonnull float[] array, int first, int last, int depth, @Nonnull FloatComparator comparator) {
+        int low = first;
+        int high = last;
+        int remaining = depth;
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            if (remaining == 0) {
+                heapSort(array, low, high, comparator);
+                return;
+            }
+            remaining--;
+            int pivot = partition(array, low, high, comparator);
+            if (pivot - low < high - pivot) {
+                sort(array, low, pivot - 1, remaining, comparator);
+                low = pivot + 1;
+            } else {
+                sort(array, pivot + 1, high, remaining, comparator);
+                high = pivot - 1;
+            }
+        }
+        insertionSort(array, low, high, comparator);
+    }
+
+    /**
+     * Partitions the given inclusive range of the given array around the median of its first, middle and last element.
+     *
+     * @param array The array to be partitioned
+     * @param low The index of the first element of the range, which has at least three elements
+     * @param high The index of the last element of the range
+     * @param comparator The comparator determining the order of the array
+     * @return The final index of the pivot element.
+     */
+    private static int partition(float[] array, int low, int high, FloatComparator comparator) {
+        int middle = (low + high) >>> 1;
+        if (comparator.compare(array[middle], array[low]) < 0) {
+            swap(array, middle, low);
+        }
+        if (comparator.compare(array[high], array[low]) < 0) {
+            swap(array, high, low);
+        }
+        if (comparator.compare(array[high], array[middle]) < 0) {
+            swap(array, high, middle);
+        }
+        swap(array, middle, high - 1);
+        float pivot = array[high - 1];
+        int left = low;
+        int right = high - 1;
+        boolean crossed = false;
+        while (!crossed) {
+            do {
+                left++;
+            } while (comparator.compare(array[left], pivot) < 0);
+            do {
+                right--;
+            } while (comparator.compare(pivot, array[right]) < 0);
+            crossed = left >= right;
+            if (!crossed) {
+                swap(array, left, right);
+            }
+        }
+        swap(array, left, high - 1);
+        return left;
+    }
+
+    /**
+     * Sorts the given inclusive range of the given array using heapsort.
+     *
+     * @param array The array to be sorted
+     * @param low The index of the first element to be sorted
+     * @param high The index of the last element to be sorted
+     * @param comparator The comparator determining the order of the array
+     */
+    private static void heapSort(float[] array, int low, int high, FloatComparator comparator) {
+        int size = high - low + 1;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, size, comparator);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(array, low, low + end);
+            siftDown(array, low, 0, end, comparator);
+        }
+    }
+
+    /**
+     * Restores the heap property of the heap starting at the given offset of the given array, by moving the element at
+     * the given root down.
+     *
+     * @param array The array holding the heap
+     * @param offset The index of the first element of the heap
+     * @param root The heap index of the element to be moved down
+     * @param size The number of elements of the heap
+     * @param comparator The comparator determining the order of the array
+     */
+    private static void siftDown(float[] array, int offset, int root, int size, FloatComparator comparator) {
+        int parent = root;
+        int child = 2 * parent + 1;
+        while (child < size) {
+            if (child + 1 < size && comparator.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (comparator.compare(array[offset + parent], array[offset + child]) >= 0) {
+                return;
+            }
+            swap(array, offset + parent, offset + child);
+            parent = child;
+            child = 2 * parent + 1;
+        }
+    }
+
+    /**
+     * Sorts the given inclusive range of the given array using insertion sort.
+     *
+     * @param array The array to be sorted
+     * @param low The index of the first element to be sorted
+     * @param high The index of the last element to be sorted
+     * @param comparator The comparator determining the order of the array
+     */
+    private static void insertionSort(float[] array, int low, int high, FloatComparator comparator) {
+        for (int i = low + 1; i <= high; i++) {
+            float value = array[i];
+            int j = i;
+            while (j > low && comparator.compare(array[j - 1], value) > 0) {
+                j--;
+            }
+            System.arraycopy(array, j, array, j + 1, i - j);
+            array[j] = value;
+        }
+    }
+
+    /**
+     * Swaps the elements at the given indices of the given array.
+     *
+     * @param array The array whose elements are to be swapped
+     * @param i The index of the first element
+     * @param j The index of the second element
+     */
+    private static void swap(float[] array, int i, int j) {
+        float value = array[i];
+        array[i] = array[j];
+        array[j] = value;
+    }
+}
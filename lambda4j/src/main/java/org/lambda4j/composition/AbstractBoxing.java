@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.composition.Composition.Kind;
+
+/**
+ * The base class of the functional interfaces returned by {@code boxed()}, which apply a primitive functional interface
+ * to boxed arguments. It exposes the primitive original through {@link #unboxed()}, so that composing methods and
+ * {@code unboxed(...)} factories can reach it by a type check and a field read.
+ */
+@SuppressWarnings({"PMD.AbstractClassWithoutAbstractMethod", "PMD.BeanMembersShouldSerialize"})
+public abstract class AbstractBoxing extends AbstractCanonical {
+
+    /**
+     * The primitive functional interface applied by this one.
+     */
+    private final Object original;
+
+    /**
+     * Creates a boxed functional interface applying the given primitive one.
+     *
+     * @param primitive The primitive functional interface to be applied
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    protected AbstractBoxing(@Nonnull Object primitive) {
+        super(Kind.BOXING, Objects.requireNonNull(primitive));
+        this.original = primitive;
+    }
+
+    /**
+     * Returns the primitive functional interface applied by this one.
+     *
+     * @return The primitive functional interface applied by this one.
+     */
+    @Nonnull
+    public final Object unboxed() {
+        return original;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.Lambda;
+import org.lambda4j.composition.Composition.Kind;
+
+/**
+ * The base class of the canonical functional interfaces, such as identities, constants and negations, which holds the
+ * {@link Composition node} describing how a functional interface has been built. The factories of canonical
+ * functional interfaces return instances of small final classes extending this one, so that
+ * {@link Composition#of(Object)} merely reads the node of a canonical functional interface.
+ */
+@SuppressWarnings("PMD.AbstractClassWithoutAbstractMethod")
+public abstract class AbstractCanonical implements Lambda.Canonical {
+
+    /**
+     * The node describing how this functional interface has been built.
+     */
+    private final Composition node;
+
+    /**
+     * Creates a canonical functional interface described by a node of the given kind with the given operands.
+     *
+     * @param kind The kind of the node
+     * @param operands The operands of the node, which are taken over without copying them
+     * @throws NullPointerException If given kind or operand array is {@code null}
+     * @throws IllegalArgumentException If given kind is {@link Kind#OPAQUE}
+     */
+    protected AbstractCanonical(@Nonnull Kind kind, @Nonnull Object... operands) {
+        Objects.requireNonNull(kind);
+        Objects.requireNonNull(operands);
+        if (kind == Kind.OPAQUE) {
+            throw new IllegalArgumentException("Canonical functional interface must not be opaque");
+        }
+        this.node = new Composition(kind, operands);
+    }
+
+    /**
+     * Returns the node describing how this functional interface has been built.
+     *
+     * @return The node describing how this functional interface has been built.
+     */
+    @Nonnull
+    final Composition getNode() {
+        return node;
+    }
+}
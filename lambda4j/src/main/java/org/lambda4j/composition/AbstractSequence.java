@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.composition.Composition.Kind;
+
+/**
+ * The base class of the consumers and runnables returned by {@code andThen(...)}, which perform a sequence of
+ * operations in a single loop. Its node holds the performed operations, so that appending to a sequence copies them
+ * into a new array instead of nesting the sequence.
+ */
+@SuppressWarnings("PMD.AbstractClassWithoutAbstractMethod")
+public abstract class AbstractSequence extends AbstractCanonical {
+
+    /**
+     * Creates a sequence performing the given operations.
+     *
+     * @param operations The performed operations, which are taken over without copying them
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    protected AbstractSequence(@Nonnull Object[] operations) {
+        super(Kind.SEQUENCE, operations);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.predicate.LongPredicate2;
+
+/**
+ * A {@link LongPredicate2} representing the logical AND or OR of several predicates, whose evaluation order adapts to
+ * the workload. The pass rate and the cost of each predicate are profiled by sampling, and the predicates are
+ * periodically reordered, so that the cheapest and most decisive ones are evaluated first and short-circuit the others.
+ * <p>
+ * As the predicates may be evaluated in any order, they must not have side effects, and none of them may rely on
+ * another one having been evaluated before, such as a {@code null} check. Combinations depending on the order are
+ * built by {@link LongPredicate2#and(LongPredicate)} and {@link LongPredicate2#or(LongPredicate)}, or by {@link
+ * #ordered()}.
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class AdaptiveLongPredicate implements LongPredicate2 {
+
+    /**
+     * The combined predicates in construction order.
+     */
+    private final LongPredicate[] predicates;
+
+    /**
+     * The result of a predicate which decides the result of the combination, which is {@code false} for a conjunction
+     * and {@code true} for a disjunction.
+     */
+    private final boolean decisive;
+
+    /**
+     * The evaluation order of the predicates.
+     */
+    private final AdaptiveOrder order;
+
+    /**
+     * Creates an adaptive combination of the given predicates.
+     *
+     * @param combinedPredicates The predicates to be combined
+     * @param decisiveResult The result of a predicate which decides the result of the combination
+     */
+    private AdaptiveLongPredicate(@Nonnull LongPredicate[] combinedPredicates, boolean decisiveResult) {
+        this.predicates = combinedPredicates.clone();
+        for (LongPredicate predicate : predicates) {
+            Objects.requireNonNull(predicate);
+        }
+        this.decisive = decisiveResult;
+        this.order = new AdaptiveOrder(predicates.length);
+    }
+
+    /**
+     * Returns a predicate which represents the logical AND of the given predicates, whose evaluation order adapts to
+     * the workload. The returned predicate is {@code true} if no predicates are given.
+     *
+     * @param predicates The predicates to be combined
+     * @return A predicate which represents the logical AND of the given predicates.
+     * @throws NullPointerException If given array or one of its predicates is {@code null}
+     */
+    @Nonnull
+    public static AdaptiveLongPredicate allOf(@Nonnull LongPredicate... predicates) {
+        return new AdaptiveLongPredicate(predicates, false);
+    }
+
+    /**
+     * Returns a predicate which represents the logical OR of the given predicates, whose evaluation order adapts to
+     * the workload. The returned predicate is {@code false} if no predicates are given.
+     *
+     * @param predicates The predicates to be combined
+     * @return A predicate which represents the logical OR of the given predicates.
+     * @throws NullPointerException If given array or one of its predicates is {@code null}
+     */
+    @Nonnull
+    public static AdaptiveLongPredicate anyOf(@Nonnull LongPredicate... predicates) {
+        return new AdaptiveLongPredicate(predicates, true);
+    }
+
+    /**
+     * Applies the combined predicates to the given argument in the current evaluation order, until one of them decides
+     * the result.
+     *
+     * @param value The argument to the predicates
+     * @return The logical AND or OR of the results of the predicates.
+     */
+    @Override
+    public boolean test(long value) {
+        int[] indexes = order.getIndexes();
+        if (order.isSampling()) {
+            long[] elapsed = new long[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                long start = System.nanoTime();
+                boolean result = predicates[indexes[i]].test(value);
+                elapsed[i] = System.nanoTime() - start;
+                if (result == decisive) {
+                    order.profile(indexes, elapsed, i + 1, true);
+                    return decisive;
+                }
+            }
+            order.profile(indexes, elapsed, indexes.length, false);
+            return !decisive;
+        }
+        for (int index : indexes) {
+            if (predicates[index].test(value) == decisive) {
+                return decisive;
+            }
+        }
+        return !decisive;
+    }
+
+    /**
+     * Returns a predicate which combines the predicates of this one in the same way, but always evaluates them in
+     * construction order, and does not profile them.
+     *
+     * @return A predicate which evaluates the combined predicates in construction order.
+     */
+    @Nonnull
+    public LongPredicate2 ordered() {
+        LongPredicate[] stages = predicates.clone();
+        boolean result = decisive;
+        return value -> {
+            for (LongPredicate stage : stages) {
+                if (stage.test(value) == result) {
+                    return result;
+                }
+            }
+            return !result;
+        };
+    }
+
+    /**
+     * Returns the indexes of the combined predicates in the order they are currently evaluated, where an index refers
+     * to the position of a predicate in construction order.
+     *
+     * @return The indexes of the combined predicates in current evaluation order.
+     */
+    @Nonnull
+    public int[] getOrder() {
+        return order.getIndexes().clone();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * The evaluation order of the predicates of an adaptive conjunction or disjunction, which is derived from their
+ * profiles. One in {@value #SAMPLE_INTERVAL} evaluations of the combination is sampled at random, which is to say, the
+ * result and the elapsed time of each evaluated predicate are added to its profile. After a number of recorded
+ * evaluations, the predicates are sorted by the ratio of their average cost to the probability that they decide the
+ * result, which is the optimal order for independent predicates, and the profiles are halved, so that they follow
+ * changes of the workload.
+ * <p>
+ * The probabilities and costs are estimated with a prior of one decisive evaluation and one nanosecond, so a predicate
+ * whose profile is empty or has decayed is moved to the front, where it is sampled again.
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+final class AdaptiveOrder {
+
+    /**
+     * The number of evaluations of the combination per sampled one, which is a power of two.
+     */
+    static final int SAMPLE_INTERVAL = 64;
+
+    /**
+     * The number of recorded evaluations per predicate after which the predicates are reordered.
+     */
+    private static final int EVALUATIONS_PER_REORDER = 256;
+
+    /**
+     * The lock guarding the profiles.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The number of recorded evaluations of each predicate.
+     */
+    private final long[] evaluations;
+
+    /**
+     * The number of recorded evaluations of each predicate which decided the result of the combination.
+     */
+    private final long[] decisions;
+
+    /**
+     * The recorded nanoseconds spent in each predicate.
+     */
+    private final long[] nanos;
+
+    /**
+     * The number of recorded evaluations since the last reordering.
+     */
+    private int recorded;
+
+    /**
+     * The indexes of the predicates in the order they are evaluated, which is never modified but replaced.
+     */
+    private volatile int[] indexes;
+
+    /**
+     * Creates the evaluation order of the given number of predicates, which is initially their construction order.
+     *
+     * @param size The number of predicates
+     */
+    AdaptiveOrder(@Nonnegative int size) {
+        this.evaluations = new long[size];
+        this.decisions = new long[size];
+        this.nanos = new long[size];
+        int[] initial = new int[size];
+        for (int i = 0; i < size; i++) {
+            initial[i] = i;
+        }
+        this.indexes = initial;
+    }
+
+    /**
+     * Returns the indexes of the predicates in the order they are to be evaluated. The returned array must not be
+     * modified.
+     *
+     * @return The indexes of the predicates in the order they are to be evaluated.
+     */
+    @Nonnull
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    int[] getIndexes() {
+        return indexes;
+    }
+
+    /**
+     * Checks if an evaluation of the combination is to be sampled, which is decided at random, so that the evaluations
+     * do not share a counter.
+     *
+     * @return {@code true} if the evaluation is to be sampled, otherwise {@code false}.
+     */
+    boolean isSampling() {
+        return (ThreadLocalRandom.current().nextInt() & (SAMPLE_INTERVAL - 1)) == 0;
+    }
+
+    /**
+     * Adds a sampled evaluation of the combination to the profiles of the evaluated predicates, and reorders the
+     * predicates if enough evaluations have been recorded. None of the evaluated predicates but the last one decided
+     * the result of the combination.
+     *
+     * @param evaluated The indexes of the predicates in the order they have been evaluated
+     * @param elapsed The nanoseconds spent in each evaluated predicate, in the order they have been evaluated
+     * @param count The number of evaluated predicates
+     * @param decided {@code true} if the last evaluated predicate decided the result of the combination
+     */
+    void profile(@Nonnull int[] evaluated, @Nonnull long[] elapsed, @Nonnegative int count, boolean decided) {
+        synchronized (lock) {
+            for (int i = 0; i < count; i++) {
+                evaluations[evaluated[i]]++;
+                nanos[evaluated[i]] += Math.max(elapsed[i], 0L);
+            }
+            if (decided) {
+                decisions[evaluated[count - 1]]++;
+            }
+            recorded += count;
+            if (recorded >= EVALUATIONS_PER_REORDER * evaluations.length) {
+                reorder();
+            }
+        }
+    }
+
+    /**
+     * Sorts the predicates by their ranks, and halves their profiles. This method is called while holding the lock.
+     */
+    private void reorder() {
+        int size = evaluations.length;
+        double[] ranks = new double[size];
+        for (int i = 0; i < size; i++) {
+            double cost = (nanos[i] + 1d) / (evaluations[i] + 1d);
+            double probability = (decisions[i] + 1d) / (evaluations[i] + 2d);
+            ranks[i] = cost / probability;
+            evaluations[i] /= 2;
+            decisions[i] /= 2;
+            nanos[i] /= 2;
+        }
+        int[] sorted = indexes.clone();
+        // insertion sort, which is stable and keeps the current order of predicates of equal rank
+        for (int i = 1; i < size; i++) {
+            int index = sorted[i];
+            int j = i;
+            while (j > 0 && ranks[sorted[j - 1]] > ranks[index]) {
+                j--;
+            }
+            System.arraycopy(sorted, j, sorted, j + 1, i - j);
+            sorted[j] = index;
+        }
+        recorded = 0;
+        indexes = sorted;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+import org.lambda4j.function.Function2;
+
+/**
+ * Utility methods for boxed functional interfaces, which fuse a boxed function followed by another boxed function into
+ * one function passing the value between them without boxing it.
+ * <p>
+ * The functions returned by {@code boxed()} expose their primitive original through {@link AbstractBoxing#unboxed()}.
+ * If the original of the first function returns the primitive type accepted by the original of the second function, the
+ * fused function calls both originals directly, so that only its own argument and result are boxed. This is done for
+ * the primitive types {@code int}, {@code long} and {@code double}, which the functional interfaces of the JDK
+ * specialize for.
+ */
+@SuppressWarnings("unchecked")
+public final class BoxingUtils {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BoxingUtils() {
+    }
+
+    /**
+     * Fuses the given boxed functions into one function, which applies the primitive original of the first function
+     * and then the primitive original of the second one, passing the intermediate value between them without boxing
+     * it.
+     *
+     * @param <T> The type of the argument to the fused function
+     * @param <R> The type of return value from the fused function
+     * @param first The boxed function to be applied first
+     * @param second The boxed function to be applied second
+     * @return The fused function, or {@code null} if one of given functions has no primitive original, or the
+     * originals do not pass a value of a primitive type supported by this class.
+     */
+    @CheckForNull
+    public static <T, R> Function2<T, R> fuse(@Nullable Object first, @Nullable Object second) {
+        if (!(first instanceof AbstractBoxing) || !(second instanceof AbstractBoxing)) {
+            return null;
+        }
+        return (Function2<T, R>) fuseOriginals(((AbstractBoxing) first).unboxed(), ((AbstractBoxing) second).unboxed());
+    }
+
+    /**
+     * Fuses the given primitive originals of boxed functions into one function, if the first one returns the primitive
+     * type accepted by the second one.
+     *
+     * @param producer The primitive original of the boxed function to be applied first
+     * @param consumer The primitive original of the boxed function to be applied second
+     * @return The fused function, or {@code null} if the originals do not pass a value of a supported primitive type.
+     */
+    @CheckForNull
+    private static Function2<Object, Object> fuseOriginals(@Nullable Object producer, @Nullable Object consumer) {
+        ToIntFunction<Object> intProducer = producingInt(producer);
+        IntFunction<Object> intConsumer = consumingInt(consumer);
+        if (intProducer != null && intConsumer != null) {
+            return t -> intConsumer.apply(intProducer.applyAsInt(t));
+        }
+        ToLongFunction<Object> longProducer = producingLong(producer);
+        LongFunction<Object> longConsumer = consumingLong(consumer);
+        if (longProducer != null && longConsumer != null) {
+            return t -> longConsumer.apply(longProducer.applyAsLong(t));
+        }
+        ToDoubleFunction<Object> doubleProducer = producingDouble(producer);
+        DoubleFunction<Object> doubleConsumer = consumingDouble(consumer);
+        if (doubleProducer != null && doubleConsumer != null) {
+            return t -> doubleConsumer.apply(doubleProducer.applyAsDouble(t));
+        }
+        return null;
+    }
+
+    /**
+     * Returns the given primitive original as a function of boxed arguments returning {@code int} values, if it
+     * returns {@code int} values.
+     *
+     * @param function The primitive original of a boxed function
+     * @return The given primitive original as a function returning {@code int} values, or {@code null} if it does
+     * not return {@code int} values.
+     */
+    @CheckForNull
+    private static ToIntFunction<Object> producingInt(@Nullable Object function) {
+        if (function instanceof ToIntFunction) {
+            return (ToIntFunction<Object>) function;
+        }
+        if (function instanceof IntUnaryOperator) {
+            IntUnaryOperator operator = (IntUnaryOperator) function;
+            return t -> operator.applyAsInt((Integer) t);
+        }
+        if (function instanceof LongToIntFunction) {
+            LongToIntFunction converter = (LongToIntFunction) function;
+            return t -> converter.applyAsInt((Long) t);
+        }
+        if (function instanceof DoubleToIntFunction) {
+            DoubleToIntFunction converter = (DoubleToIntFunction) function;
+            return t -> converter.applyAsInt((Double) t);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the given primitive original as a function of {@code int} arguments returning boxed values, if it
+     * accepts {@code int} arguments.
+     *
+     * @param function The primitive original of a boxed function
+     * @return The given primitive original as a function accepting {@code int} arguments, or {@code null} if it does
+     * not accept {@code int} arguments.
+     */
+    @CheckForNull
+    private static IntFunction<Object> consumingInt(@Nullable Object function) {
+        if (function instanceof IntFunction) {
+            return (IntFunction<Object>) function;
+        }
+        if (function instanceof IntUnaryOperator) {
+            return ((IntUnaryOperator) function)::applyAsInt;
+        }
+        if (function instanceof IntToLongFunction) {
+            return ((IntToLongFunction) function)::applyAsLong;
+        }
+        if (function instanceof IntToDoubleFunction) {
+            return ((IntToDoubleFunction) function)::applyAsDouble;
+        }
+        if (function instanceof IntPredicate) {
+            return ((IntPredicate) function)::test;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the given primitive original as a function of boxed arguments returning {@code long} values, if it
+     * returns {@code long} values.
+     *
+     * @param function The primitive original of a boxed function
+     * @return The given primitive original as a function returning {@code long} values, or {@code null} if it does
+     * not return {@code long} values.
+     */
+    @CheckForNull
+    private static ToLongFunction<Object> producingLong(@Nullable Object function) {
+        if (function instanceof ToLongFunction) {
+            return (ToLongFunction<Object>) function;
+        }
+        if (function instanceof LongUnaryOperator) {
+            LongUnaryOperator operator = (LongUnaryOperator) function;
+            return t -> operator.applyAsLong((Long) t);
+        }
+        if (function instanceof IntToLongFunction) {
+            IntToLongFunction converter = (IntToLongFunction) function;
+            return t -> converter.applyAsLong((Integer) t);
+        }
+        if (function instanceof DoubleToLongFunction) {
+            DoubleToLongFunction converter = (DoubleToLongFunction) function;
+            return t -> converter.applyAsLong((Double) t);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the given primitive original as a function of {@code long} arguments returning boxed values, if it
+     * accepts {@code long} arguments.
+     *
+     * @param function The primitive original of a boxed function
+     * @return The given primitive original as a function accepting {@code long} arguments, or {@code null} if it does
+     * not accept {@code long} arguments.
+     */
+    @CheckForNull
+    private static LongFunction<Object> consumingLong(@Nullable Object function) {
+        if (function instanceof LongFunction) {
+            return (LongFunction<Object>) function;
+        }
+        if (function instanceof LongUnaryOperator) {
+            return ((LongUnaryOperator) function)::applyAsLong;
+        }
+        if (function instanceof LongToIntFunction) {
+            return ((LongToIntFunction) function)::applyAsInt;
+        }
+        if (function instanceof LongToDoubleFunction) {
+            return ((LongToDoubleFunction) function)::applyAsDouble;
+        }
+        if (function instanceof LongPredicate) {
+            return ((LongPredicate) function)::test;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the given primitive original as a function of boxed arguments returning {@code double} values, if it
+     * returns {@code double} values.
+     *
+     * @param function The primitive original of a boxed function
+     * @return The given primitive original as a function returning {@code double} values, or {@code null} if it does
+     * not return {@code double} values.
+     */
+    @CheckForNull
+    private static ToDoubleFunction<Object> producingDouble(@Nullable Object function) {
+        if (function instanceof ToDoubleFunction) {
+            return (ToDoubleFunction<Object>) function;
+        }
+        if (function instanceof DoubleUnaryOperator) {
+            DoubleUnaryOperator operator = (DoubleUnaryOperator) function;
+            return t -> operator.applyAsDouble((Double) t);
+        }
+        if (function instanceof IntToDoubleFunction) {
+            IntToDoubleFunction converter = (IntToDoubleFunction) function;
+            return t -> converter.applyAsDouble((Integer) t);
+        }
+        if (function instanceof LongToDoubleFunction) {
+            LongToDoubleFunction converter = (LongToDoubleFunction) function;
+            return t -> converter.applyAsDouble((Long) t);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the given primitive original as a function of {@code double} arguments returning boxed values, if it
+     * accepts {@code double} arguments.
+     *
+     * @param function The primitive original of a boxed function
+     * @return The given primitive original as a function accepting {@code double} arguments, or {@code null} if it does
+     * not accept {@code double} arguments.
+     */
+    @CheckForNull
+    private static DoubleFunction<Object> consumingDouble(@Nullable Object function) {
+        if (function instanceof DoubleFunction) {
+            return (DoubleFunction<Object>) function;
+        }
+        if (function instanceof DoubleUnaryOperator) {
+            return ((DoubleUnaryOperator) function)::applyAsDouble;
+        }
+        if (function instanceof DoubleToIntFunction) {
+            return ((DoubleToIntFunction) function)::applyAsInt;
+        }
+        if (function instanceof DoubleToLongFunction) {
+            return ((DoubleToLongFunction) function)::applyAsLong;
+        }
+        if (function instanceof DoublePredicate) {
+            return ((DoublePredicate) function)::test;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.lambda4j.consumer.DoubleConsumer2;
+
+/**
+ * A mutable {@link DoubleConsumer2} which performs the consumers added to it in the order they have been added, such as
+ * the listeners to which events are dispatched.
+ * <p>
+ * The consumers are held in an array, which is replaced by a modified copy whenever a consumer is added or removed. So
+ * {@link #accept(double)} iterates a snapshot of the consumers without locking, and performs each of them at the same
+ * call depth. A consumer added or removed while a value is accepted takes effect for the next value. Unlike a sequence
+ * composed by {@link DoubleConsumer2#andThen(DoubleConsumer)}, a composite consumer stays the same instance when it is
+ * modified, so compositions of it observe later modifications.
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class CompositeDoubleConsumer implements DoubleConsumer2 {
+
+    /**
+     * The lock guarding the replacement of the consumers.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The consumers of this composite consumer, which are never modified but replaced by modified copies.
+     */
+    private volatile DoubleConsumer[] consumers;
+
+    /**
+     * Creates a composite consumer which performs the given consumers.
+     *
+     * @param initialConsumers The consumers to be performed initially
+     * @throws NullPointerException If given array or one of its consumers is {@code null}
+     */
+    public CompositeDoubleConsumer(@Nonnull DoubleConsumer... initialConsumers) {
+        DoubleConsumer[] copy = initialConsumers.clone();
+        for (DoubleConsumer consumer : copy) {
+            Objects.requireNonNull(consumer);
+        }
+        this.consumers = copy;
+    }
+
+    /**
+     * Performs the consumers of this composite consumer in sequence on the given argument. If a consumer throws an
+     * exception, it is relayed to the caller, and the following consumers are not performed.
+     *
+     * @param value The argument to the consumers
+     */
+    @Override
+    public void accept(double value) {
+        for (DoubleConsumer consumer : consumers) {
+            consumer.accept(value);
+        }
+    }
+
+    /**
+     * Adds the given consumer, which is performed after all consumers added before.
+     *
+     * @param consumer The consumer to be added
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void add(@Nonnull DoubleConsumer consumer) {
+        Objects.requireNonNull(consumer);
+        synchronized (lock) {
+            DoubleConsumer[] current = consumers;
+            DoubleConsumer[] copy = Arrays.copyOf(current, current.length + 1);
+            copy[current.length] = consumer;
+            consumers = copy;
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the given consumer.
+     *
+     * @param consumer The consumer to be removed
+     * @return {@code true} if given consumer has been removed, otherwise {@code false}.
+     */
+    public boolean remove(@Nullable DoubleConsumer consumer) {
+        synchronized (lock) {
+            DoubleConsumer[] current = consumers;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].equals(consumer)) {
+                    DoubleConsumer[] copy = Arrays.copyOf(current, current.length - 1);
+                    System.arraycopy(current, i + 1, copy, i, copy.length - i);
+                    consumers = copy;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of consumers of this composite consumer.
+     *
+     * @return The number of consumers of this composite consumer.
+     */
+    @Nonnegative
+    public int size() {
+        return consumers.length;
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A node of the composition model, which describes how a functional interface of this library has been built. The
+ * canonical functional interfaces returned by the factories {@code identity()}, {@code constant(ret)}, {@code
+ * alwaysTrue()}, {@code alwaysFalse()}, {@code onlyFirst(...)}, {@code onlySecond(...)} and {@code onlyThird(...)}, as
+ * well as by the methods {@code negate()}, {@code reversed()}, {@code boxed()} and the {@code andThen(...)} methods of
+ * consumers and runnables, the {@code isEqual(target)} methods of the {@code Object}, {@code int} and {@code long}
+ * predicates, and the {@code compose(before)} methods of these and of the {@code double} predicates, record their node
+ * when they are created. All other functional interfaces are {@link Kind#OPAQUE opaque}.
+ * <p>
+ * The composing methods of the functional interfaces consult these nodes to simplify a composition when it is built,
+ * instead of nesting another lambda which keeps paying for the dispatch of a trivial stage:
+ * <ul>
+ * <li>Composing an identity with another function before or after it returns the other function.</li>
+ * <li>A constant followed by another function becomes a constant, whose value is computed by applying the other
+ * function once while composing.</li>
+ * <li>The logical AND of a constant {@code false} predicate and another predicate is the constant one, and the logical
+ * AND of a constant {@code true} predicate and another predicate is the other one. The logical OR is simplified
+ * likewise.</li>
+ * <li>The negation of a constant predicate is the opposite constant, the negation of a negation is the original
+ * predicate, and the reversal of a reversal is the original function.</li>
+ * <li>A boxed functional interface is unboxed to its primitive original, and a boxed function followed by another boxed
+ * function passes the value between them without boxing it.</li>
+ * <li>A consumer or runnable followed by another one becomes a {@link Kind#SEQUENCE sequence}, which performs the
+ * operations of both in a single loop. As the operations of sequences are taken over instead of nesting them, a chain
+ * of any length is dispatched at a constant depth.</li>
+ * </ul>
+ * Beyond the composing methods, the nodes let other parts of this library analyze how functional interfaces are built,
+ * such as a {@link PredicateSet}, which shares the functions that several predicates are composed with.
+ * <p>
+ * The canonical functional interfaces extend {@link AbstractCanonical}, which holds their node, so looking up the node
+ * of a functional interface is a type check and a field read.
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class Composition {
+
+    /**
+     * The node of all functional interfaces whose structure is not known.
+     */
+    private static final Composition OPAQUE = new Composition(Kind.OPAQUE, new Object[0]);
+
+    /**
+     * The kind of this node.
+     */
+    private final Kind kind;
+
+    /**
+     * The operands of this node, which are the value of a constant or equality, or the functional interfaces from which
+     * the described one has been built.
+     */
+    private final Object[] operands;
+
+    /**
+     * Creates a node of the given kind with the given operands, which are taken over without copying them.
+     *
+     * @param nodeKind The kind of the node
+     * @param nodeOperands The operands of the node
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    Composition(Kind nodeKind, Object[] nodeOperands) {
+        this.kind = nodeKind;
+        this.operands = nodeOperands;
+    }
+
+    /**
+     * Returns the node describing how the given functional interface has been built.
+     *
+     * @param function The functional interface to be described
+     * @return The node describing the given functional interface, which is of kind {@link Kind#OPAQUE} if its
+     * structure is not known.
+     */
+    @Nonnull
+    public static Composition of(@Nullable Object function) {
+        if (function instanceof AbstractCanonical) {
+            return ((AbstractCanonical) function).getNode();
+        }
+        return OPAQUE;
+    }
+
+    /**
+     * Checks if the given functional interface is an identity, which returns its argument unchanged.
+     *
+     * @param function The functional interface to be checked
+     * @return {@code true} if given functional interface is an identity, otherwise {@code false}.
+     */
+    public static boolean isIdentity(@Nullable Object function) {
+        return of(function).kind == Kind.IDENTITY;
+    }
+
+    /**
+     * Checks if the given functional interface is a constant, which ignores its arguments.
+     *
+     * @param function The functional interface to be checked
+     * @return {@code true} if given functional interface is a constant, otherwise {@code false}.
+     */
+    public static boolean isConstant(@Nullable Object function) {
+        return of(function).kind == Kind.CONSTANT;
+    }
+
+    /**
+     * Checks if the given functional interface is a constant returning the given {@code boolean} value.
+     *
+     * @param function The functional interface to be checked
+     * @param value The value of the constant
+     * @return {@code true} if given functional interface is a constant returning given value, otherwise {@code
+     * false}.
+     */
+    public static boolean isConstant(@Nullable Object function, boolean value) {
+        Composition node = of(function);
+        return node.kind == Kind.CONSTANT && Boolean.valueOf(value).equals(node.operands[0]);
+    }
+
+    /**
+     * Returns the functional interface from which the given one has been built by an involution like a negation or a
+     * reversal, which undoes itself when applied twice.
+     *
+     * @param function The functional interface built by the involution
+     * @param kind The kind of the involution
+     * @return The functional interface from which given one has been built, or {@code null} if given one has not been
+     * built by the given kind of involution.
+     */
+    @CheckForNull
+    public static Object getOriginal(@Nullable Object function, @Nonnull Kind kind) {
+        Composition node = of(function);
+        return node.kind == kind ? node.operands[0] : null;
+    }
+
+    /**
+     * Returns the operations of the given consumers or runnables which are to be performed in sequence. If any of
+     * them is a {@link Kind#SEQUENCE sequence} itself, its operations are copied instead of it, so that the returned
+     * operations are never sequences.
+     *
+     * @param <S> The type of the operations
+     * @param first The consumer or runnable to be performed first
+     * @param second The consumer or runnable to be performed second
+     * @param prototype An array of the type of the operations, as used by {@link Arrays#copyOf(Object[], int)}
+     * @return The operations of the given consumers or runnables in the order they are to be performed.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public static <S> S[] flatten(@Nonnull Object first, @Nonnull Object second, @Nonnull S[] prototype) {
+        Objects.requireNonNull(first);
+        Objects.requireNonNull(second);
+        Objects.requireNonNull(prototype);
+        int firstCount = countStages(first);
+        S[] stages = Arrays.copyOf(prototype, firstCount + countStages(second));
+        copyStages(first, stages, 0);
+        copyStages(second, stages, firstCount);
+        return stages;
+    }
+
+    /**
+     * Returns the number of operations of the given consumer or runnable, which is the number of its operands if it is
+     * a sequence, or one otherwise.
+     *
+     * @param function The consumer or runnable
+     * @return The number of operations of the given consumer or runnable.
+     */
+    private static int countStages(@Nonnull Object function) {
+        return function instanceof AbstractSequence ? ((AbstractSequence) function).getNode().operands.length : 1;
+    }
+
+    /**
+     * Copies the operations of the given consumer or runnable, which are its operands if it is a sequence, or itself
+     * otherwise, into the given array starting at the given index.
+     *
+     * @param function The consumer or runnable
+     * @param stages The array into which the operations are copied
+     * @param fromIndex The index at which the first operation is stored
+     */
+    private static void copyStages(@Nonnull Object function, @Nonnull Object[] stages, int fromIndex) {
+        if (function instanceof AbstractSequence) {
+            Object[] operations = ((AbstractSequence) function).getNode().operands;
+            System.arraycopy(operations, 0, stages, fromIndex, operations.length);
+        } else {
+            stages[fromIndex] = function;
+        }
+    }
+
+    /**
+     * Returns the kind of this node.
+     *
+     * @return The kind of this node.
+     */
+    @Nonnull
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the operands of this node, which are the value of a constant or equality, or the functional interfaces
+     * from which the described one has been built.
+     *
+     * @return The unmodifiable list of operands of this node.
+     */
+    @Nonnull
+    public List<Object> getOperands() {
+        return Collections.unmodifiableList(Arrays.asList(operands));
+    }
+
+    /**
+     * Returns the string representation of this node, which describes the functional interfaces among its operands
+     * by their nodes, such as {@code negation(onlyFirst(opaque))}.
+     *
+     * @return The string representation of this node.
+     */
+    @Nonnull
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(kind.toString());
+        if (operands.length > 0) {
+            builder.append('(');
+            for (int i = 0; i < operands.length; i++) {
+                Object operand = operands[i];
+                builder.append(i > 0 ? ", " : "").append(kind.hasValue() ? operand : of(operand));
+            }
+            builder.append(')');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The kinds of nodes of the composition model.
+     */
+    public enum Kind {
+
+        /**
+         * A functional interface whose structure is not known.
+         */
+        OPAQUE("opaque"),
+
+        /**
+         * A functional interface returning its argument unchanged, as created by {@code identity()}.
+         */
+        IDENTITY("identity"),
+
+        /**
+         * A functional interface ignoring its arguments and returning a constant value, as created by {@code
+         * constant(ret)}, {@code alwaysTrue()} and {@code alwaysFalse()}. Its operand is the returned value.
+         */
+        CONSTANT("constant"),
+
+        /**
+         * A predicate returning the logical negation of another one, as created by {@code negate()}. Its operand is
+         * the negated predicate.
+         */
+        NEGATION("negation"),
+
+        /**
+         * A function applying another one to its arguments in reversed order, as created by {@code reversed()}. Its
+         * operand is the reversed function.
+         */
+        REVERSAL("reversal"),
+
+        /**
+         * A function applying another one to its first argument only, as created by {@code onlyFirst(...)}. Its
+         * operand is the applied function.
+         */
+        ONLY_FIRST("onlyFirst"),
+
+        /**
+         * A function applying another one to its second argument only, as created by {@code onlySecond(...)}. Its
+         * operand is the applied function.
+         */
+        ONLY_SECOND("onlySecond"),
+
+        /**
+         * A function applying another one to its third argument only, as created by {@code onlyThird(...)}. Its
+         * operand is the applied function.
+         */
+        ONLY_THIRD("onlyThird"),
+
+        /**
+         * A functional interface of boxed types applying a primitive one, as created by {@code boxed()}. Its operand is
+         * the applied primitive functional interface.
+         */
+        BOXING("boxing"),
+
+        /**
+         * A consumer or runnable performing the operations of others in sequence, as created by {@code andThen(...)}.
+         * Its operands are the performed operations, none of which is a sequence itself.
+         */
+        SEQUENCE("sequence"),
+
+        /**
+         * A predicate testing if its argument is equal to a value, as created by {@code isEqual(target)}. Its operand
+         * is the value, which is boxed for primitive predicates.
+         */
+        EQUALITY("isEqual"),
+
+        /**
+         * A predicate applying another one to the result of a function, as created by {@code compose(before)}. Its
+         * operands are the applied predicate and the function.
+         */
+        COMPOSITION("composition");
+
+        /**
+         * The name of this kind in string representations of nodes.
+         */
+        private final String label;
+
+        /**
+         * Creates a kind of nodes with the given name.
+         *
+         * @param kindLabel The name of the kind in string representations of nodes
+         */
+        Kind(String kindLabel) {
+            this.label = kindLabel;
+        }
+
+        /**
+         * Checks if the operands of nodes of this kind are values rather than functional interfaces.
+         *
+         * @return {@code true} if the operands of nodes of this kind are values, otherwise {@code false}.
+         */
+        boolean hasValue() {
+            return this == CONSTANT || this == EQUALITY;
+        }
+
+        /**
+         * Returns the name of this kind in string representations of nodes.
+         *
+         * @return The name of this kind in string representations of nodes.
+         */
+        @Nonnull
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+}
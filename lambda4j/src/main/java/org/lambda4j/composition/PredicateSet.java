@@ -0,0 +1,492 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import org.lambda4j.collection.IntList;
+import org.lambda4j.collection.IntObjMap;
+import org.lambda4j.collection.LongObjMap;
+import org.lambda4j.composition.Composition.Kind;
+import org.lambda4j.kernel.BitmapUtils;
+
+/**
+ * A set of predicates, called rules, which are tested together against an argument, and which report the rules
+ * matching it as a bitmap. Each rule is identified by the index at which it has been added, which is the index of its
+ * bit in the bitmap.
+ * <p>
+ * The rules are analyzed by their {@link Composition} when they are added. Rules which have been built by {@code
+ * compose(before)} are grouped by their function {@code before}, the extractor, so that each extractor is applied only
+ * once per argument, no matter how many rules share it. Among the rules of an extractor, those which test the extracted
+ * value for equality, as built by {@code isEqual(target)} of the {@code Object}, {@code int} and {@code long}
+ * predicates, are indexed by their values, so that all of them are tested by a single hash lookup. So matching an
+ * argument takes time in the number of distinct extractors and of other rules, rather than in the number of rules.
+ * <p>
+ * Extractors are shared if they are equal, which means for lambdas and method references that they are the same
+ * instance, so rules should be built from a common extractor, such as a constant. Equalities are only indexed if their
+ * value is {@code null}, a string, an enum constant or a boxed primitive value, whose {@link Object#hashCode()} is
+ * known to be consistent with {@link Object#equals(Object)}. Equalities with values of other types are tested one by
+ * one, just like other rules. As extractors are applied once for all of their rules, neither extractors nor rules
+ * should have side effects.
+ * <p>
+ * This set is not thread-safe. Once all rules have been added, it may be matched against arguments concurrently.
+ *
+ * @param <T> The type of the argument to the rules
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class PredicateSet<T> {
+
+    /**
+     * The types of the values of equalities which are indexed, as their hash codes are consistent with their equality.
+     */
+    private static final Set<Class<?>> INDEXED_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class));
+
+    /**
+     * The groups of rules sharing an extractor, by their extractors.
+     */
+    @SuppressWarnings("PMD.UseConcurrentHashMap")
+    private final Map<Object, Group<T>> groups = new LinkedHashMap<>();
+
+    /**
+     * The ids of the rules which have not been built by {@code compose(before)}.
+     */
+    private final IntList opaqueIds = new IntList();
+
+    /**
+     * The rules which have not been built by {@code compose(before)}, in the order of {@link #opaqueIds}.
+     */
+    private final List<Predicate<? super T>> opaqueRules = new ArrayList<>();
+
+    /**
+     * The number of rules of this set.
+     */
+    private int ruleCount;
+
+    /**
+     * Adds the given rule to this set, and returns its id.
+     *
+     * @param rule The rule to be added
+     * @return The id of the added rule, which is the number of rules added before.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnegative
+    public int add(@Nonnull Predicate<? super T> rule) {
+        Objects.requireNonNull(rule);
+        int id = ruleCount;
+        Composition node = Composition.of(rule);
+        if (node.getKind() == Kind.COMPOSITION) {
+            Object predicate = node.getOperands().get(0);
+            Object extractor = node.getOperands().get(1);
+            Group<T> group = groups.get(extractor);
+            if (group == null) {
+                group = newGroup(extractor, predicate);
+                groups.put(extractor, group);
+            }
+            if (group.add(id, predicate)) {
+                ruleCount++;
+                return id;
+            }
+        }
+        opaqueIds.add(id);
+        opaqueRules.add(rule);
+        ruleCount++;
+        return id;
+    }
+
+    /**
+     * Returns the number of rules of this set.
+     *
+     * @return The number of rules of this set.
+     */
+    @Nonnegative
+    public int size() {
+        return ruleCount;
+    }
+
+    /**
+     * Returns the ids of the rules of this set which match the given argument.
+     *
+     * @param t The argument to the rules
+     * @return A bitmap of {@link BitmapUtils#length(int)} words for the number of rules, whose bit of the id of a rule
+     * is set if the rule matches given argument.
+     */
+    @Nonnull
+    public long[] match(T t) {
+        long[] results = new long[BitmapUtils.length(ruleCount)];
+        match(t, results);
+        return results;
+    }
+
+    /**
+     * Stores the ids of the rules of this set which match the given argument into the given bitmap. The bits of the
+     * bitmap for all rules are cleared before.
+     *
+     * @param t The argument to the rules
+     * @param results The bitmap, whose bit of the id of a rule is set if the rule matches given argument
+     * @throws NullPointerException If given bitmap is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given bitmap holds fewer bits than the number of rules
+     */
+    public void match(T t, @Nonnull long[] results) {
+        BitmapUtils.clear(results, ruleCount);
+        for (Group<T> group : groups.values()) {
+            group.match(t, results);
+        }
+        for (int i = 0; i < opaqueRules.size(); i++) {
+            if (opaqueRules.get(i).test(t)) {
+                BitmapUtils.set(results, opaqueIds.get(i));
+            }
+        }
+    }
+
+    /**
+     * Creates the group of rules for the given extractor, whose type is derived from the type of the given predicate
+     * the extractor is composed with.
+     *
+     * @param <T> The type of the argument to the rules
+     * @param extractor The extractor of the group
+     * @param predicate The predicate which is applied to the results of the extractor
+     * @return The group of rules for given extractor.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private static <T> Group<T> newGroup(@Nonnull Object extractor, @Nonnull Object predicate) {
+        if (predicate instanceof IntPredicate) {
+            return new IntGroup<>((ToIntFunction<? super T>) extractor);
+        } else if (predicate instanceof LongPredicate) {
+            return new LongGroup<>((ToLongFunction<? super T>) extractor);
+        } else if (predicate instanceof DoublePredicate) {
+            return new DoubleGroup<>((ToDoubleFunction<? super T>) extractor);
+        }
+        return new ObjGroup<>((Function<? super T, ?>) extractor);
+    }
+
+    /**
+     * Checks if an equality with the given value is indexed by the hash code of the value.
+     *
+     * @param value The value of the equality
+     * @return {@code true} if an equality with given value is indexed, otherwise {@code false}.
+     */
+    private static boolean isIndexed(@CheckForNull Object value) {
+        return value == null || value instanceof Enum || INDEXED_TYPES.contains(value.getClass());
+    }
+
+    /**
+     * Sets the bits of the given ids of rules, if any.
+     *
+     * @param matches The ids of the matching rules
+     * @param results The bitmap of the matching rules
+     */
+    private static void setAll(@CheckForNull IntList matches, @Nonnull long[] results) {
+        if (matches != null) {
+            for (int i = 0; i < matches.size(); i++) {
+                BitmapUtils.set(results, matches.get(i));
+            }
+        }
+    }
+
+    /**
+     * The rules sharing an extractor.
+     *
+     * @param <T> The type of the argument to the rules
+     */
+    private interface Group<T> {
+
+        /**
+         * Adds a rule applying the given predicate to the results of the extractor of this group.
+         *
+         * @param id The id of the rule
+         * @param predicate The predicate of the rule
+         * @return {@code true} if the rule has been added, or {@code false} if given predicate does not take the
+         * results of the extractor of this group.
+         */
+        boolean add(@Nonnegative int id, @Nonnull Object predicate);
+
+        /**
+         * Applies the extractor of this group to the given argument, and sets the bits of the rules of this group
+         * which match the result.
+         *
+         * @param t The argument to the extractor
+         * @param results The bitmap of the matching rules
+         */
+        void match(T t, @Nonnull long[] results);
+    }
+
+    /**
+     * The rules sharing an extractor returning objects.
+     *
+     * @param <T> The type of the argument to the rules
+     */
+    private static final class ObjGroup<T> implements Group<T> {
+
+        /**
+         * The ids of the rules of this group which are not indexed, in the order their predicates have been added.
+         */
+        private final IntList ids = new IntList();
+
+        /**
+         * The extractor of this group.
+         */
+        private final Function<? super T, ?> extractor;
+
+        /**
+         * The ids of the rules testing for equality, by the values they are testing for.
+         */
+        @SuppressWarnings("PMD.UseConcurrentHashMap")
+        private final Map<Object, IntList> equalities = new HashMap<>();
+
+        /**
+         * The predicates of the rules which are not indexed.
+         */
+        private final List<Predicate<Object>> predicates = new ArrayList<>();
+
+        /**
+         * Creates an empty group of the given extractor.
+         *
+         * @param groupExtractor The extractor of the group
+         */
+        ObjGroup(@Nonnull Function<? super T, ?> groupExtractor) {
+            this.extractor = groupExtractor;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean add(@Nonnegative int id, @Nonnull Object predicate) {
+            if (!(predicate instanceof Predicate)) {
+                return false;
+            }
+            Composition node = Composition.of(predicate);
+            if (node.getKind() == Kind.EQUALITY && isIndexed(node.getOperands().get(0))) {
+                equalities.computeIfAbsent(node.getOperands().get(0), value -> new IntList()).add(id);
+            } else {
+                ids.add(id);
+                predicates.add((Predicate<Object>) predicate);
+            }
+            return true;
+        }
+
+        @Override
+        public void match(T t, @Nonnull long[] results) {
+            Object value = extractor.apply(t);
+            setAll(equalities.get(value), results);
+            for (int i = 0; i < predicates.size(); i++) {
+                if (predicates.get(i).test(value)) {
+                    BitmapUtils.set(results, ids.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * The rules sharing an extractor returning {@code int} values.
+     *
+     * @param <T> The type of the argument to the rules
+     */
+    private static final class IntGroup<T> implements Group<T> {
+
+        /**
+         * The ids of the rules of this group which are not indexed, in the order their predicates have been added.
+         */
+        private final IntList ids = new IntList();
+
+        /**
+         * The extractor of this group.
+         */
+        private final ToIntFunction<? super T> extractor;
+
+        /**
+         * The ids of the rules testing for equality, by the values they are testing for.
+         */
+        private final IntObjMap<IntList> equalities = new IntObjMap<>();
+
+        /**
+         * The predicates of the rules which are not indexed.
+         */
+        private final List<IntPredicate> predicates = new ArrayList<>();
+
+        /**
+         * Creates an empty group of the given extractor.
+         *
+         * @param groupExtractor The extractor of the group
+         */
+        IntGroup(@Nonnull ToIntFunction<? super T> groupExtractor) {
+            this.extractor = groupExtractor;
+        }
+
+        @Override
+        public boolean add(@Nonnegative int id, @Nonnull Object predicate) {
+            if (!(predicate instanceof IntPredicate)) {
+                return false;
+            }
+            Composition node = Composition.of(predicate);
+            if (node.getKind() == Kind.EQUALITY) {
+                equalities.computeIfAbsent((Integer) node.getOperands().get(0), value -> new IntList()).add(id);
+            } else {
+                ids.add(id);
+                predicates.add((IntPredicate) predicate);
+            }
+            return true;
+        }
+
+        @Override
+        public void match(T t, @Nonnull long[] results) {
+            int value = extractor.applyAsInt(t);
+            setAll(equalities.get(value), results);
+            for (int i = 0; i < predicates.size(); i++) {
+                if (predicates.get(i).test(value)) {
+                    BitmapUtils.set(results, ids.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * The rules sharing an extractor returning {@code long} values.
+     *
+     * @param <T> The type of the argument to the rules
+     */
+    private static final class LongGroup<T> implements Group<T> {
+
+        /**
+         * The ids of the rules of this group which are not indexed, in the order their predicates have been added.
+         */
+        private final IntList ids = new IntList();
+
+        /**
+         * The extractor of this group.
+         */
+        private final ToLongFunction<? super T> extractor;
+
+        /**
+         * The ids of the rules testing for equality, by the values they are testing for.
+         */
+        private final LongObjMap<IntList> equalities = new LongObjMap<>();
+
+        /**
+         * The predicates of the rules which are not indexed.
+         */
+        private final List<LongPredicate> predicates = new ArrayList<>();
+
+        /**
+         * Creates an empty group of the given extractor.
+         *
+         * @param groupExtractor The extractor of the group
+         */
+        LongGroup(@Nonnull ToLongFunction<? super T> groupExtractor) {
+            this.extractor = groupExtractor;
+        }
+
+        @Override
+        public boolean add(@Nonnegative int id, @Nonnull Object predicate) {
+            if (!(predicate instanceof LongPredicate)) {
+                return false;
+            }
+            Composition node = Composition.of(predicate);
+            if (node.getKind() == Kind.EQUALITY) {
+                equalities.computeIfAbsent((Long) node.getOperands().get(0), value -> new IntList()).add(id);
+            } else {
+                ids.add(id);
+                predicates.add((LongPredicate) predicate);
+            }
+            return true;
+        }
+
+        @Override
+        public void match(T t, @Nonnull long[] results) {
+            long value = extractor.applyAsLong(t);
+            setAll(equalities.get(value), results);
+            for (int i = 0; i < predicates.size(); i++) {
+                if (predicates.get(i).test(value)) {
+                    BitmapUtils.set(results, ids.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * The rules sharing an extractor returning {@code double} values, which are not indexed, as the equality of {@code
+     * double} values differs from the one of their boxes for {@code NaN} and signed zeros.
+     *
+     * @param <T> The type of the argument to the rules
+     */
+    private static final class DoubleGroup<T> implements Group<T> {
+
+        /**
+         * The ids of the rules of this group which are not indexed, in the order their predicates have been added.
+         */
+        private final IntList ids = new IntList();
+
+        /**
+         * The extractor of this group.
+         */
+        private final ToDoubleFunction<? super T> extractor;
+
+        /**
+         * The predicates of the rules.
+         */
+        private final List<DoublePredicate> predicates = new ArrayList<>();
+
+        /**
+         * Creates an empty group of the given extractor.
+         *
+         * @param groupExtractor The extractor of the group
+         */
+        DoubleGroup(@Nonnull ToDoubleFunction<? super T> groupExtractor) {
+            this.extractor = groupExtractor;
+        }
+
+        @Override
+        public boolean add(@Nonnegative int id, @Nonnull Object predicate) {
+            if (!(predicate instanceof DoublePredicate)) {
+                return false;
+            }
+            ids.add(id);
+            predicates.add((DoublePredicate) predicate);
+            return true;
+        }
+
+        @Override
+        public void match(T t, @Nonnull long[] results) {
+            double value = extractor.applyAsDouble(t);
+            for (int i = 0; i < predicates.size(); i++) {
+                if (predicates.get(i).test(value)) {
+                    BitmapUtils.set(results, ids.get(i));
+                }
+            }
+        }
+    }
+}
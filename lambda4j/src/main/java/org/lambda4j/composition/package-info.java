@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Provides the composition model, which records how canonical functional interfaces like identities, constants and
+ * negations have been built, so that the composing methods of all functional interfaces can simplify compositions when
+ * they are built instead of nesting lambdas for trivial stages. It also provides mutable combinators, such as composite
+ * consumers whose consumers can be added and removed, adaptive predicates which reorder their predicates at runtime,
+ * and predicate sets which share the extractors their rules are composed with.
+ */
+package org.lambda4j.composition;
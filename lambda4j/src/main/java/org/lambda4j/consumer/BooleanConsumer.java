@@ -17,6 +17,8 @@
 package org.lambda4j.consumer;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
@@ -28,6 +30,11 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
+import org.lambda4j.kernel.Parallelism;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
@@ -66,6 +73,26 @@ public interface BooleanConsumer extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BooleanConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * BooleanConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned consumer
+     * calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code BooleanConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BooleanConsumer unboxed(@Nonnull Consumer<? super Boolean> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof BooleanConsumer) {
+            return (BooleanConsumer) original;
+        }
+        return value -> consumer.accept(value);
+    }
+
     /**
      * Calls the given {@link BooleanConsumer} with the given argument and returns its result.
      *
@@ -85,6 +112,36 @@ public interface BooleanConsumer extends Lambda {
      */
     void accept(boolean value);
 
+    /**
+     * Applies this consumer to the elements at each index of the given array in parallel. This consumer is applied
+     * concurrently by several threads, in no particular order, so it has to be thread-safe. The arrays are split into
+     * parts, which are applied by the threads of the common {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull boolean[] values) {
+        acceptParallel(values, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of the given array in parallel. This consumer is applied
+     * concurrently by several threads, in no particular order, so it has to be thread-safe. The arrays are split into
+     * parts according to the given configuration, which are applied by the threads of its pool.
+     *
+     * @param values The array of arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    default void acceptParallel(@Nonnull boolean[] values, @Nonnull Parallelism parallelism) {
+        parallelism.forRange(0, values.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -130,6 +187,9 @@ public interface BooleanConsumer extends Lambda {
     @Nonnull
     default BooleanConsumer composeFromBoolean(@Nonnull BooleanUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> accept(before.applyAsBoolean(value));
     }
 
@@ -270,7 +330,8 @@ public interface BooleanConsumer extends Lambda {
      * Returns a composed {@link BooleanConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the
      * composed operation. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link BooleanConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -280,10 +341,28 @@ public interface BooleanConsumer extends Lambda {
     @Nonnull
     default BooleanConsumer andThen(@Nonnull BooleanConsumer after) {
         Objects.requireNonNull(after);
-        return value -> {
-            accept(value);
-            after.accept(value);
-        };
+        BooleanConsumer[] consumers = Composition.flatten(this, after, new BooleanConsumer[0]);
+        /**
+         * A {@code BooleanConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements BooleanConsumer {
+
+            /**
+             * Creates the sequence of this {@code BooleanConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(boolean value) {
+                for (BooleanConsumer consumer : consumers) {
+                    consumer.accept(value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -305,6 +384,24 @@ public interface BooleanConsumer extends Lambda {
      */
     @Nonnull
     default Consumer2<Boolean> boxed() {
-        return this::accept;
+        /**
+         * A {@code Consumer2} which applies this {@code BooleanConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Consumer2<Boolean> {
+
+            /**
+             * Creates the boxed variant of this {@code BooleanConsumer}.
+             */
+            Boxed() {
+                super(BooleanConsumer.this);
+            }
+
+            @Override
+            public void accept(Boolean t) {
+                BooleanConsumer.this.accept(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
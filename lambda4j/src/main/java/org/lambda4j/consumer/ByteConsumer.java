@@ -17,6 +17,8 @@
 package org.lambda4j.consumer;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -24,6 +26,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.function.conversion.BooleanToByteFunction;
 import org.lambda4j.function.conversion.CharToByteFunction;
 import org.lambda4j.function.conversion.DoubleToByteFunction;
@@ -32,6 +38,7 @@ import org.lambda4j.function.conversion.IntToByteFunction;
 import org.lambda4j.function.conversion.LongToByteFunction;
 import org.lambda4j.function.conversion.ShortToByteFunction;
 import org.lambda4j.function.to.ToByteFunction;
+import org.lambda4j.kernel.Parallelism;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
 
 /**
@@ -66,6 +73,26 @@ public interface ByteConsumer extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ByteConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * ByteConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned consumer
+     * calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code ByteConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static ByteConsumer unboxed(@Nonnull Consumer<? super Byte> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof ByteConsumer) {
+            return (ByteConsumer) original;
+        }
+        return value -> consumer.accept(value);
+    }
+
     /**
      * Calls the given {@link ByteConsumer} with the given argument and returns its result.
      *
@@ -85,6 +112,36 @@ public interface ByteConsumer extends Lambda {
      */
     void accept(byte value);
 
+    /**
+     * Applies this consumer to the elements at each index of the given array in parallel. This consumer is applied
+     * concurrently by several threads, in no particular order, so it has to be thread-safe. The arrays are split into
+     * parts, which are applied by the threads of the common {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull byte[] values) {
+        acceptParallel(values, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of the given array in parallel. This consumer is applied
+     * concurrently by several threads, in no particular order, so it has to be thread-safe. The arrays are split into
+     * parts according to the given configuration, which are applied by the threads of its pool.
+     *
+     * @param values The array of arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    default void acceptParallel(@Nonnull byte[] values, @Nonnull Parallelism parallelism) {
+        parallelism.forRange(0, values.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -149,6 +206,9 @@ public interface ByteConsumer extends Lambda {
     @Nonnull
     default ByteConsumer composeFromByte(@Nonnull ByteUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> accept(before.applyAsByte(value));
     }
 
@@ -269,7 +329,9 @@ public interface ByteConsumer extends Lambda {
     /**
      * Returns a composed {@link ByteConsumer} that performs, in sequence, this consumer followed by the {@code after}
      * consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the composed
-     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed.
+     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed. If
+     * either of them is such a composed consumer itself, the performed operations are taken over, so that a chain of
+     * {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ByteConsumer} that performs, in sequence, this consumer followed by the {@code after}
@@ -279,10 +341,28 @@ public interface ByteConsumer extends Lambda {
     @Nonnull
     default ByteConsumer andThen(@Nonnull ByteConsumer after) {
         Objects.requireNonNull(after);
-        return value -> {
-            accept(value);
-            after.accept(value);
-        };
+        ByteConsumer[] consumers = Composition.flatten(this, after, new ByteConsumer[0]);
+        /**
+         * A {@code ByteConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ByteConsumer {
+
+            /**
+             * Creates the sequence of this {@code ByteConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(byte value) {
+                for (ByteConsumer consumer : consumers) {
+                    consumer.accept(value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -304,6 +384,24 @@ public interface ByteConsumer extends Lambda {
      */
     @Nonnull
     default Consumer2<Byte> boxed() {
-        return this::accept;
+        /**
+         * A {@code Consumer2} which applies this {@code ByteConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Consumer2<Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code ByteConsumer}.
+             */
+            Boxed() {
+                super(ByteConsumer.this);
+            }
+
+            @Override
+            public void accept(Byte t) {
+                ByteConsumer.this.accept(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
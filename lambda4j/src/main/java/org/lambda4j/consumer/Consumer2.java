@@ -17,6 +17,7 @@
 package org.lambda4j.consumer;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
@@ -29,11 +30,14 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
 import org.lambda4j.function.CharFunction;
 import org.lambda4j.function.FloatFunction;
 import org.lambda4j.function.ShortFunction;
+import org.lambda4j.kernel.Parallelism;
 
 /**
  * Represents an operation that accepts one input argument and returns no result. Unlike most other functional
@@ -90,6 +94,36 @@ public interface Consumer2<T> extends Lambda, Consumer<T> {
     @Override
     void accept(T t);
 
+    /**
+     * Applies this consumer to the elements at each index of the given array in parallel. This consumer is applied
+     * concurrently by several threads, in no particular order, so it has to be thread-safe. The arrays are split into
+     * parts, which are applied by the threads of the common {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull T[] values) {
+        acceptParallel(values, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of the given array in parallel. This consumer is applied
+     * concurrently by several threads, in no particular order, so it has to be thread-safe. The arrays are split into
+     * parts according to the given configuration, which are applied by the threads of its pool.
+     *
+     * @param values The array of arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    default void acceptParallel(@Nonnull T[] values, @Nonnull Parallelism parallelism) {
+        parallelism.forRange(0, values.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -274,7 +308,9 @@ public interface Consumer2<T> extends Lambda, Consumer<T> {
     /**
      * Returns a composed {@link Consumer2} that performs, in sequence, this consumer followed by the {@code after}
      * consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the composed
-     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed.
+     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed. If
+     * either of them is such a composed consumer itself, the performed operations are taken over, so that a chain of
+     * {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link Consumer2} that performs, in sequence, this consumer followed by the {@code after}
@@ -285,10 +321,29 @@ public interface Consumer2<T> extends Lambda, Consumer<T> {
     @Nonnull
     default Consumer2<T> andThen(@Nonnull Consumer<? super T> after) {
         Objects.requireNonNull(after);
-        return t -> {
-            accept(t);
-            after.accept(t);
-        };
+        @SuppressWarnings("unchecked")
+        Consumer<? super T>[] consumers = (Consumer<? super T>[]) Composition.flatten(this, after, new Consumer<?>[0]);
+        /**
+         * A {@code Consumer2} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements Consumer2<T> {
+
+            /**
+             * Creates the sequence of this {@code Consumer2} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(T t) {
+                for (Consumer<? super T> consumer : consumers) {
+                    consumer.accept(t);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
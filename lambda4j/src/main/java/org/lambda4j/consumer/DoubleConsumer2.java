@@ -17,6 +17,8 @@
 package org.lambda4j.consumer;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.IntToDoubleFunction;
@@ -29,11 +31,16 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.function.conversion.BooleanToDoubleFunction;
 import org.lambda4j.function.conversion.ByteToDoubleFunction;
 import org.lambda4j.function.conversion.CharToDoubleFunction;
 import org.lambda4j.function.conversion.FloatToDoubleFunction;
 import org.lambda4j.function.conversion.ShortToDoubleFunction;
+import org.lambda4j.kernel.Parallelism;
 
 /**
  * Represents an operation that accepts one {@code double}-valued input argument and returns no result. This is a
@@ -68,6 +75,26 @@ public interface DoubleConsumer2 extends Lambda, DoubleConsumer {
         return expression;
     }
 
+    /**
+     * Returns a {@link DoubleConsumer2} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * DoubleConsumer2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code DoubleConsumer2} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static DoubleConsumer2 unboxed(@Nonnull Consumer<? super Double> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof DoubleConsumer2) {
+            return (DoubleConsumer2) original;
+        }
+        return value -> consumer.accept(value);
+    }
+
     /**
      * Calls the given {@link DoubleConsumer} with the given argument and returns its result.
      *
@@ -88,6 +115,36 @@ public interface DoubleConsumer2 extends Lambda, DoubleConsumer {
     @Override
     void accept(double value);
 
+    /**
+     * Applies this consumer to the elements at each index of the given array in parallel. This consumer is applied
+     * concurrently by several threads, in no particular order, so it has to be thread-safe. The arrays are split into
+     * parts, which are applied by the threads of the common {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull double[] values) {
+        acceptParallel(values, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of the given array in parallel. This consumer is applied
+     * concurrently by several threads, in no particular order, so it has to be thread-safe. The arrays are split into
+     * parts according to the given configuration, which are applied by the threads of its pool.
+     *
+     * @param values The array of arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    default void acceptParallel(@Nonnull double[] values, @Nonnull Parallelism parallelism) {
+        parallelism.forRange(0, values.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -190,6 +247,9 @@ public interface DoubleConsumer2 extends Lambda, DoubleConsumer {
     @Nonnull
     default DoubleConsumer2 composeFromDouble(@Nonnull DoubleUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> accept(before.applyAsDouble(value));
     }
 
@@ -273,7 +333,8 @@ public interface DoubleConsumer2 extends Lambda, DoubleConsumer {
      * Returns a composed {@link DoubleConsumer2} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the
      * composed operation. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link DoubleConsumer2} that performs, in sequence, this consumer followed by the {@code
@@ -284,10 +345,28 @@ public interface DoubleConsumer2 extends Lambda, DoubleConsumer {
     @Nonnull
     default DoubleConsumer2 andThen(@Nonnull DoubleConsumer after) {
         Objects.requireNonNull(after);
-        return value -> {
-            accept(value);
-            after.accept(value);
-        };
+        DoubleConsumer[] consumers = Composition.flatten(this, after, new DoubleConsumer[0]);
+        /**
+         * A {@code DoubleConsumer2} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements DoubleConsumer2 {
+
+            /**
+             * Creates the sequence of this {@code DoubleConsumer2} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(double value) {
+                for (DoubleConsumer consumer : consumers) {
+                    consumer.accept(value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -309,6 +388,24 @@ public interface DoubleConsumer2 extends Lambda, DoubleConsumer {
      */
     @Nonnull
     default Consumer2<Double> boxed() {
-        return this::accept;
+        /**
+         * A {@code Consumer2} which applies this {@code DoubleConsumer2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Consumer2<Double> {
+
+            /**
+             * Creates the boxed variant of this {@code DoubleConsumer2}.
+             */
+            Boxed() {
+                super(DoubleConsumer2.this);
+            }
+
+            @Override
+            public void accept(Double t) {
+                DoubleConsumer2.this.accept(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -17,6 +17,8 @@
 package org.lambda4j.consumer;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.IntConsumer;
 import java.util.function.IntUnaryOperator;
@@ -29,11 +31,16 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.function.conversion.BooleanToIntFunction;
 import org.lambda4j.function.conversion.ByteToIntFunction;
 import org.lambda4j.function.conversion.CharToIntFunction;
 import org.lambda4j.function.conversion.FloatToIntFunction;
 import org.lambda4j.function.conversion.ShortToIntFunction;
+import org.lambda4j.kernel.Parallelism;
 
 /**
  * Represents an operation that accepts one {@code int}-valued input argument and returns no result. This is a primitive
@@ -68,6 +75,26 @@ public interface IntConsumer2 extends Lambda, IntConsumer {
         return expression;
     }
 
+    /**
+     * Returns a {@link IntConsumer2} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * IntConsumer2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code IntConsumer2} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static IntConsumer2 unboxed(@Nonnull Consumer<? super Integer> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof IntConsumer2) {
+            return (IntConsumer2) original;
+        }
+        return value -> consumer.accept(value);
+    }
+
     /**
      * Calls the given {@link IntConsumer} with the given argument and returns its result.
      *
@@ -88,6 +115,36 @@ public interface IntConsumer2 extends Lambda, IntConsumer {
     @Override
     void accept(int value);
 
+    /**
+     * Applies this consumer to the elements at each index of the given array in parallel. This consumer is applied
+     * concurrently by several threads, in no particular order, so it has to be thread-safe. The arrays are split into
+     * parts, which are applied by the threads of the common {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull int[] values) {
+        acceptParallel(values, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of the given array in parallel. This consumer is applied
+     * concurrently by several threads, in no particular order, so it has to be thread-safe. The arrays are split into
+     * parts according to the given configuration, which are applied by the threads of its pool.
+     *
+     * @param values The array of arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    default void acceptParallel(@Nonnull int[] values, @Nonnull Parallelism parallelism) {
+        parallelism.forRange(0, values.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -228,6 +285,9 @@ public interface IntConsumer2 extends Lambda, IntConsumer {
     @Nonnull
     default IntConsumer2 composeFromInt(@Nonnull IntUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> accept(before.applyAsInt(value));
     }
 
@@ -272,7 +332,9 @@ public interface IntConsumer2 extends Lambda, IntConsumer {
     /**
      * Returns a composed {@link IntConsumer2} that performs, in sequence, this consumer followed by the {@code after}
      * consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the composed
-     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed.
+     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed. If
+     * either of them is such a composed consumer itself, the performed operations are taken over, so that a chain of
+     * {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link IntConsumer2} that performs, in sequence, this consumer followed by the {@code after}
@@ -283,10 +345,28 @@ public interface IntConsumer2 extends Lambda, IntConsumer {
     @Nonnull
     default IntConsumer2 andThen(@Nonnull IntConsumer after) {
         Objects.requireNonNull(after);
-        return value -> {
-            accept(value);
-            after.accept(value);
-        };
+        IntConsumer[] consumers = Composition.flatten(this, after, new IntConsumer[0]);
+        /**
+         * A {@code IntConsumer2} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements IntConsumer2 {
+
+            /**
+             * Creates the sequence of this {@code IntConsumer2} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(int value) {
+                for (IntConsumer consumer : consumers) {
+                    consumer.accept(value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -308,6 +388,24 @@ public interface IntConsumer2 extends Lambda, IntConsumer {
      */
     @Nonnull
     default Consumer2<Integer> boxed() {
-        return this::accept;
+        /**
+         * A {@code Consumer2} which applies this {@code IntConsumer2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Consumer2<Integer> {
+
+            /**
+             * Creates the boxed variant of this {@code IntConsumer2}.
+             */
+            Boxed() {
+                super(IntConsumer2.this);
+            }
+
+            @Override
+            public void accept(Integer t) {
+                IntConsumer2.this.accept(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -17,6 +17,8 @@
 package org.lambda4j.consumer;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -24,6 +26,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.function.conversion.BooleanToShortFunction;
 import org.lambda4j.function.conversion.ByteToShortFunction;
 import org.lambda4j.function.conversion.CharToShortFunction;
@@ -32,6 +38,7 @@ import org.lambda4j.function.conversion.FloatToShortFunction;
 import org.lambda4j.function.conversion.IntToShortFunction;
 import org.lambda4j.function.conversion.LongToShortFunction;
 import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.kernel.Parallelism;
 import org.lambda4j.operator.unary.ShortUnaryOperator;
 
 /**
@@ -66,6 +73,26 @@ public interface ShortConsumer extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ShortConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * ShortConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned consumer
+     * calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code ShortConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static ShortConsumer unboxed(@Nonnull Consumer<? super Short> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof ShortConsumer) {
+            return (ShortConsumer) original;
+        }
+        return value -> consumer.accept(value);
+    }
+
     /**
      * Calls the given {@link ShortConsumer} with the given argument and returns its result.
      *
@@ -85,6 +112,36 @@ public interface ShortConsumer extends Lambda {
      */
     void accept(short value);
 
+    /**
+     * Applies this consumer to the elements at each index of the given array in parallel. This consumer is applied
+     * concurrently by several threads, in no particular order, so it has to be thread-safe. The arrays are split into
+     * parts, which are applied by the threads of the common {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull short[] values) {
+        acceptParallel(values, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of the given array in parallel. This consumer is applied
+     * concurrently by several threads, in no particular order, so it has to be thread-safe. The arrays are split into
+     * parts according to the given configuration, which are applied by the threads of its pool.
+     *
+     * @param values The array of arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    default void acceptParallel(@Nonnull short[] values, @Nonnull Parallelism parallelism) {
+        parallelism.forRange(0, values.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -263,13 +320,18 @@ public interface ShortConsumer extends Lambda {
     @Nonnull
     default ShortConsumer composeFromShort(@Nonnull ShortUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> accept(before.applyAsShort(value));
     }
 
     /**
      * Returns a composed {@link ShortConsumer} that performs, in sequence, this consumer followed by the {@code after}
      * consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the composed
-     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed.
+     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed. If
+     * either of them is such a composed consumer itself, the performed operations are taken over, so that a chain of
+     * {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ShortConsumer} that performs, in sequence, this consumer followed by the {@code after}
@@ -279,10 +341,28 @@ public interface ShortConsumer extends Lambda {
     @Nonnull
     default ShortConsumer andThen(@Nonnull ShortConsumer after) {
         Objects.requireNonNull(after);
-        return value -> {
-            accept(value);
-            after.accept(value);
-        };
+        ShortConsumer[] consumers = Composition.flatten(this, after, new ShortConsumer[0]);
+        /**
+         * A {@code ShortConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ShortConsumer {
+
+            /**
+             * Creates the sequence of this {@code ShortConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(short value) {
+                for (ShortConsumer consumer : consumers) {
+                    consumer.accept(value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -304,6 +384,24 @@ public interface ShortConsumer extends Lambda {
      */
     @Nonnull
     default Consumer2<Short> boxed() {
-        return this::accept;
+        /**
+         * A {@code Consumer2} which applies this {@code ShortConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Consumer2<Short> {
+
+            /**
+             * Creates the boxed variant of this {@code ShortConsumer}.
+             */
+            Boxed() {
+                super(ShortConsumer.this);
+            }
+
+            @Override
+            public void accept(Short t) {
+                ShortConsumer.this.accept(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.operator.unary.ThrowableBooleanUnaryOperator;
 import org.lambda4j.predicate.ThrowableBytePredicate;
@@ -272,7 +274,8 @@ public interface ThrowableBooleanConsumer<X extends Throwable> extends Lambda {
     /**
      * Returns a composed {@link ThrowableBooleanConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableBooleanConsumer} that performs, in sequence, this consumer followed by the
@@ -282,10 +285,30 @@ public interface ThrowableBooleanConsumer<X extends Throwable> extends Lambda {
     @Nonnull
     default ThrowableBooleanConsumer<X> andThen(@Nonnull ThrowableBooleanConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return value -> {
-            acceptThrows(value);
-            after.acceptThrows(value);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableBooleanConsumer<? extends X>[] consumers = (ThrowableBooleanConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableBooleanConsumer<?>[0]);
+        /**
+         * A {@code ThrowableBooleanConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableBooleanConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableBooleanConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(boolean value) throws X {
+                for (ThrowableBooleanConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
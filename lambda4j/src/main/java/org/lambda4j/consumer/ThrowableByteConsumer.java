@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.function.conversion.ThrowableBooleanToByteFunction;
 import org.lambda4j.function.conversion.ThrowableCharToByteFunction;
@@ -274,7 +276,8 @@ public interface ThrowableByteConsumer<X extends Throwable> extends Lambda {
     /**
      * Returns a composed {@link ThrowableByteConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableByteConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -284,10 +287,30 @@ public interface ThrowableByteConsumer<X extends Throwable> extends Lambda {
     @Nonnull
     default ThrowableByteConsumer<X> andThen(@Nonnull ThrowableByteConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return value -> {
-            acceptThrows(value);
-            after.acceptThrows(value);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableByteConsumer<? extends X>[] consumers = (ThrowableByteConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableByteConsumer<?>[0]);
+        /**
+         * A {@code ThrowableByteConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableByteConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableByteConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(byte value) throws X {
+                for (ThrowableByteConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
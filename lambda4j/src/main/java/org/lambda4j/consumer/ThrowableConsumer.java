@@ -26,6 +26,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.function.ThrowableBooleanFunction;
 import org.lambda4j.function.ThrowableByteFunction;
@@ -297,7 +299,8 @@ public interface ThrowableConsumer<T, X extends Throwable> extends Lambda, Consu
     /**
      * Returns a composed {@link ThrowableConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -307,10 +310,30 @@ public interface ThrowableConsumer<T, X extends Throwable> extends Lambda, Consu
     @Nonnull
     default ThrowableConsumer<T, X> andThen(@Nonnull ThrowableConsumer<? super T, ? extends X> after) {
         Objects.requireNonNull(after);
-        return t -> {
-            acceptThrows(t);
-            after.acceptThrows(t);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableConsumer<? super T, ? extends X>[] consumers = (ThrowableConsumer<? super T, ? extends X>[])
+                Composition.flatten(this, after, new ThrowableConsumer<?, ?>[0]);
+        /**
+         * A {@code ThrowableConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableConsumer<T, X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(T t) throws X {
+                for (ThrowableConsumer<? super T, ? extends X> consumer : consumers) {
+                    consumer.acceptThrows(t);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -26,6 +26,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.function.conversion.ThrowableBooleanToDoubleFunction;
 import org.lambda4j.function.conversion.ThrowableByteToDoubleFunction;
@@ -294,7 +296,8 @@ public interface ThrowableDoubleConsumer<X extends Throwable> extends Lambda, Do
     /**
      * Returns a composed {@link ThrowableDoubleConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableDoubleConsumer} that performs, in sequence, this consumer followed by the
@@ -304,10 +307,30 @@ public interface ThrowableDoubleConsumer<X extends Throwable> extends Lambda, Do
     @Nonnull
     default ThrowableDoubleConsumer<X> andThen(@Nonnull ThrowableDoubleConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return value -> {
-            acceptThrows(value);
-            after.acceptThrows(value);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableDoubleConsumer<? extends X>[] consumers = (ThrowableDoubleConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableDoubleConsumer<?>[0]);
+        /**
+         * A {@code ThrowableDoubleConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableDoubleConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableDoubleConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(double value) throws X {
+                for (ThrowableDoubleConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -26,6 +26,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.function.conversion.ThrowableBooleanToIntFunction;
 import org.lambda4j.function.conversion.ThrowableByteToIntFunction;
@@ -290,7 +292,8 @@ public interface ThrowableIntConsumer<X extends Throwable> extends Lambda, IntCo
     /**
      * Returns a composed {@link ThrowableIntConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableIntConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -300,10 +303,30 @@ public interface ThrowableIntConsumer<X extends Throwable> extends Lambda, IntCo
     @Nonnull
     default ThrowableIntConsumer<X> andThen(@Nonnull ThrowableIntConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return value -> {
-            acceptThrows(value);
-            after.acceptThrows(value);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableIntConsumer<? extends X>[] consumers =
+                (ThrowableIntConsumer<? extends X>[]) Composition.flatten(this, after, new ThrowableIntConsumer<?>[0]);
+        /**
+         * A {@code ThrowableIntConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableIntConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableIntConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(int value) throws X {
+                for (ThrowableIntConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
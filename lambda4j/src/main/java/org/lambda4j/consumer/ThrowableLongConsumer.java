@@ -26,6 +26,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.function.conversion.ThrowableBooleanToLongFunction;
 import org.lambda4j.function.conversion.ThrowableByteToLongFunction;
@@ -293,7 +295,8 @@ public interface ThrowableLongConsumer<X extends Throwable> extends Lambda, Long
     /**
      * Returns a composed {@link ThrowableLongConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableLongConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -303,10 +306,30 @@ public interface ThrowableLongConsumer<X extends Throwable> extends Lambda, Long
     @Nonnull
     default ThrowableLongConsumer<X> andThen(@Nonnull ThrowableLongConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return value -> {
-            acceptThrows(value);
-            after.acceptThrows(value);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableLongConsumer<? extends X>[] consumers = (ThrowableLongConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableLongConsumer<?>[0]);
+        /**
+         * A {@code ThrowableLongConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableLongConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableLongConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(long value) throws X {
+                for (ThrowableLongConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
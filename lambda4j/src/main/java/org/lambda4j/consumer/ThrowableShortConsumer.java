@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.function.conversion.ThrowableBooleanToShortFunction;
 import org.lambda4j.function.conversion.ThrowableByteToShortFunction;
@@ -274,7 +276,8 @@ public interface ThrowableShortConsumer<X extends Throwable> extends Lambda {
     /**
      * Returns a composed {@link ThrowableShortConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableShortConsumer} that performs, in sequence, this consumer followed by the
@@ -284,10 +287,30 @@ public interface ThrowableShortConsumer<X extends Throwable> extends Lambda {
     @Nonnull
     default ThrowableShortConsumer<X> andThen(@Nonnull ThrowableShortConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return value -> {
-            acceptThrows(value);
-            after.acceptThrows(value);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableShortConsumer<? extends X>[] consumers = (ThrowableShortConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableShortConsumer<?>[0]);
+        /**
+         * A {@code ThrowableShortConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableShortConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableShortConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(short value) throws X {
+                for (ThrowableShortConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -17,6 +17,8 @@
 package org.lambda4j.consumer.bi;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -24,6 +26,11 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.function.conversion.BooleanToCharFunction;
 import org.lambda4j.function.conversion.ByteToCharFunction;
@@ -33,6 +40,8 @@ import org.lambda4j.function.conversion.IntToCharFunction;
 import org.lambda4j.function.conversion.LongToCharFunction;
 import org.lambda4j.function.conversion.ShortToCharFunction;
 import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 import org.lambda4j.operator.unary.CharUnaryOperator;
 
 /**
@@ -67,6 +76,26 @@ public interface BiCharConsumer extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiCharConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * BiCharConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned consumer
+     * calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code BiCharConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiCharConsumer unboxed(@Nonnull BiConsumer<? super Character, ? super Character> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof BiCharConsumer) {
+            return (BiCharConsumer) original;
+        }
+        return (value1, value2) -> consumer.accept(value1, value2);
+    }
+
     /**
      * Calls the given {@link BiCharConsumer} with the given arguments and returns its result.
      *
@@ -92,7 +121,25 @@ public interface BiCharConsumer extends Lambda {
     @Nonnull
     static BiCharConsumer onlyFirst(@Nonnull CharConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2) -> consumer.accept(value1);
+        /**
+         * A {@code BiCharConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiCharConsumer {
+
+            /**
+             * Creates a {@code BiCharConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(char value1, char value2) {
+                consumer.accept(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -107,7 +154,25 @@ public interface BiCharConsumer extends Lambda {
     @Nonnull
     static BiCharConsumer onlySecond(@Nonnull CharConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2) -> consumer.accept(value2);
+        /**
+         * A {@code BiCharConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiCharConsumer {
+
+            /**
+             * Creates a {@code BiCharConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(char value1, char value2) {
+                consumer.accept(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -129,6 +194,43 @@ public interface BiCharConsumer extends Lambda {
         return value2 -> accept(value1, value2);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull char[] values1, @Nonnull char[] values2) {
+        acceptParallel(values1, values2, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull char[] values1, @Nonnull char[] values2, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -225,6 +327,9 @@ public interface BiCharConsumer extends Lambda {
             @Nonnull CharUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> accept(before1.applyAsChar(value1), before2.applyAsChar(value2));
     }
 
@@ -341,7 +446,9 @@ public interface BiCharConsumer extends Lambda {
     /**
      * Returns a composed {@link BiCharConsumer} that performs, in sequence, this consumer followed by the {@code after}
      * consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the composed
-     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed.
+     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed. If
+     * either of them is such a composed consumer itself, the performed operations are taken over, so that a chain of
+     * {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link BiCharConsumer} that performs, in sequence, this consumer followed by the {@code after}
@@ -351,10 +458,28 @@ public interface BiCharConsumer extends Lambda {
     @Nonnull
     default BiCharConsumer andThen(@Nonnull BiCharConsumer after) {
         Objects.requireNonNull(after);
-        return (value1, value2) -> {
-            accept(value1, value2);
-            after.accept(value1, value2);
-        };
+        BiCharConsumer[] consumers = Composition.flatten(this, after, new BiCharConsumer[0]);
+        /**
+         * A {@code BiCharConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements BiCharConsumer {
+
+            /**
+             * Creates the sequence of this {@code BiCharConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(char value1, char value2) {
+                for (BiCharConsumer consumer : consumers) {
+                    consumer.accept(value1, value2);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -364,7 +489,29 @@ public interface BiCharConsumer extends Lambda {
      */
     @Nonnull
     default BiCharConsumer reversed() {
-        return (value2, value1) -> accept(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiCharConsumer) {
+            return (BiCharConsumer) original;
+        }
+        /**
+         * A {@code BiCharConsumer} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiCharConsumer {
+
+            /**
+             * Creates the reversal of this {@code BiCharConsumer}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiCharConsumer.this);
+            }
+
+            @Override
+            public void accept(char value2, char value1) {
+                BiCharConsumer.this.accept(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -376,6 +523,24 @@ public interface BiCharConsumer extends Lambda {
      */
     @Nonnull
     default BiConsumer2<Character, Character> boxed() {
-        return this::accept;
+        /**
+         * A {@code BiConsumer2} which applies this {@code BiCharConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiConsumer2<Character, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code BiCharConsumer}.
+             */
+            Boxed() {
+                super(BiCharConsumer.this);
+            }
+
+            @Override
+            public void accept(Character t, Character u) {
+                BiCharConsumer.this.accept(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -17,6 +17,7 @@
 package org.lambda4j.consumer.bi;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
@@ -32,12 +33,18 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
 import org.lambda4j.function.CharFunction;
 import org.lambda4j.function.FloatFunction;
 import org.lambda4j.function.ShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 
 /**
  * Represents an operation that accepts two input arguments and returns no result. Unlike most other functional
@@ -104,7 +111,25 @@ public interface BiConsumer2<T, U> extends Lambda, BiConsumer<T, U> {
     @Nonnull
     static <T, U> BiConsumer2<T, U> onlyFirst(@Nonnull Consumer<? super T> consumer) {
         Objects.requireNonNull(consumer);
-        return (t, u) -> consumer.accept(t);
+        /**
+         * A {@code BiConsumer2} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiConsumer2<T, U> {
+
+            /**
+             * Creates a {@code BiConsumer2} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(T t, U u) {
+                consumer.accept(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -121,7 +146,25 @@ public interface BiConsumer2<T, U> extends Lambda, BiConsumer<T, U> {
     @Nonnull
     static <T, U> BiConsumer2<T, U> onlySecond(@Nonnull Consumer<? super U> consumer) {
         Objects.requireNonNull(consumer);
-        return (t, u) -> consumer.accept(u);
+        /**
+         * A {@code BiConsumer2} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiConsumer2<T, U> {
+
+            /**
+             * Creates a {@code BiConsumer2} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(T t, U u) {
+                consumer.accept(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -156,6 +199,43 @@ public interface BiConsumer2<T, U> extends Lambda, BiConsumer<T, U> {
         return u -> accept(t, u);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull T[] values1, @Nonnull U[] values2) {
+        acceptParallel(values1, values2, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -368,7 +448,9 @@ public interface BiConsumer2<T, U> extends Lambda, BiConsumer<T, U> {
     /**
      * Returns a composed {@link BiConsumer2} that performs, in sequence, this consumer followed by the {@code after}
      * consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the composed
-     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed.
+     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed. If
+     * either of them is such a composed consumer itself, the performed operations are taken over, so that a chain of
+     * {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link BiConsumer2} that performs, in sequence, this consumer followed by the {@code after}
@@ -379,10 +461,30 @@ public interface BiConsumer2<T, U> extends Lambda, BiConsumer<T, U> {
     @Nonnull
     default BiConsumer2<T, U> andThen(@Nonnull BiConsumer<? super T, ? super U> after) {
         Objects.requireNonNull(after);
-        return (t, u) -> {
-            accept(t, u);
-            after.accept(t, u);
-        };
+        @SuppressWarnings("unchecked")
+        BiConsumer<? super T, ? super U>[] consumers =
+                (BiConsumer<? super T, ? super U>[]) Composition.flatten(this, after, new BiConsumer<?, ?>[0]);
+        /**
+         * A {@code BiConsumer2} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements BiConsumer2<T, U> {
+
+            /**
+             * Creates the sequence of this {@code BiConsumer2} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(T t, U u) {
+                for (BiConsumer<? super T, ? super U> consumer : consumers) {
+                    consumer.accept(t, u);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -401,7 +503,30 @@ public interface BiConsumer2<T, U> extends Lambda, BiConsumer<T, U> {
      * @return A reversed version of this consumer.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default BiConsumer2<U, T> reversed() {
-        return (u, t) -> accept(t, u);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiConsumer2) {
+            return (BiConsumer2<U, T>) original;
+        }
+        /**
+         * A {@code BiConsumer2} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiConsumer2<U, T> {
+
+            /**
+             * Creates the reversal of this {@code BiConsumer2}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiConsumer2.this);
+            }
+
+            @Override
+            public void accept(U u, T t) {
+                BiConsumer2.this.accept(t, u);
+            }
+        }
+
+        return new Reversal();
     }
 }
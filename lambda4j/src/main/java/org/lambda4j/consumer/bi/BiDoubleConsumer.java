@@ -17,6 +17,8 @@
 package org.lambda4j.consumer.bi;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.IntToDoubleFunction;
@@ -29,12 +31,19 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.DoubleConsumer2;
 import org.lambda4j.function.conversion.BooleanToDoubleFunction;
 import org.lambda4j.function.conversion.ByteToDoubleFunction;
 import org.lambda4j.function.conversion.CharToDoubleFunction;
 import org.lambda4j.function.conversion.FloatToDoubleFunction;
 import org.lambda4j.function.conversion.ShortToDoubleFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 
 /**
  * Represents an operation that accepts two {@code double}-valued input arguments and returns no result. This is a
@@ -69,6 +78,26 @@ public interface BiDoubleConsumer extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiDoubleConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * BiDoubleConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * consumer calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code BiDoubleConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiDoubleConsumer unboxed(@Nonnull BiConsumer<? super Double, ? super Double> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof BiDoubleConsumer) {
+            return (BiDoubleConsumer) original;
+        }
+        return (value1, value2) -> consumer.accept(value1, value2);
+    }
+
     /**
      * Calls the given {@link BiDoubleConsumer} with the given arguments and returns its result.
      *
@@ -94,7 +123,25 @@ public interface BiDoubleConsumer extends Lambda {
     @Nonnull
     static BiDoubleConsumer onlyFirst(@Nonnull DoubleConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2) -> consumer.accept(value1);
+        /**
+         * A {@code BiDoubleConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiDoubleConsumer {
+
+            /**
+             * Creates a {@code BiDoubleConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(double value1, double value2) {
+                consumer.accept(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -109,7 +156,25 @@ public interface BiDoubleConsumer extends Lambda {
     @Nonnull
     static BiDoubleConsumer onlySecond(@Nonnull DoubleConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2) -> consumer.accept(value2);
+        /**
+         * A {@code BiDoubleConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiDoubleConsumer {
+
+            /**
+             * Creates a {@code BiDoubleConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(double value1, double value2) {
+                consumer.accept(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -131,6 +196,44 @@ public interface BiDoubleConsumer extends Lambda {
         return value2 -> accept(value1, value2);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull double[] values1, @Nonnull double[] values2) {
+        acceptParallel(values1, values2, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull double[] values1, @Nonnull double[] values2,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -249,6 +352,9 @@ public interface BiDoubleConsumer extends Lambda {
             @Nonnull DoubleUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> accept(before1.applyAsDouble(value1), before2.applyAsDouble(value2));
     }
 
@@ -344,7 +450,8 @@ public interface BiDoubleConsumer extends Lambda {
      * Returns a composed {@link BiDoubleConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the
      * composed operation. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link BiDoubleConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -354,10 +461,28 @@ public interface BiDoubleConsumer extends Lambda {
     @Nonnull
     default BiDoubleConsumer andThen(@Nonnull BiDoubleConsumer after) {
         Objects.requireNonNull(after);
-        return (value1, value2) -> {
-            accept(value1, value2);
-            after.accept(value1, value2);
-        };
+        BiDoubleConsumer[] consumers = Composition.flatten(this, after, new BiDoubleConsumer[0]);
+        /**
+         * A {@code BiDoubleConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements BiDoubleConsumer {
+
+            /**
+             * Creates the sequence of this {@code BiDoubleConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(double value1, double value2) {
+                for (BiDoubleConsumer consumer : consumers) {
+                    consumer.accept(value1, value2);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -367,7 +492,29 @@ public interface BiDoubleConsumer extends Lambda {
      */
     @Nonnull
     default BiDoubleConsumer reversed() {
-        return (value2, value1) -> accept(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiDoubleConsumer) {
+            return (BiDoubleConsumer) original;
+        }
+        /**
+         * A {@code BiDoubleConsumer} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiDoubleConsumer {
+
+            /**
+             * Creates the reversal of this {@code BiDoubleConsumer}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiDoubleConsumer.this);
+            }
+
+            @Override
+            public void accept(double value2, double value1) {
+                BiDoubleConsumer.this.accept(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -379,6 +526,24 @@ public interface BiDoubleConsumer extends Lambda {
      */
     @Nonnull
     default BiConsumer2<Double, Double> boxed() {
-        return this::accept;
+        /**
+         * A {@code BiConsumer2} which applies this {@code BiDoubleConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiConsumer2<Double, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code BiDoubleConsumer}.
+             */
+            Boxed() {
+                super(BiDoubleConsumer.this);
+            }
+
+            @Override
+            public void accept(Double t, Double u) {
+                BiDoubleConsumer.this.accept(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -17,6 +17,8 @@
 package org.lambda4j.consumer.bi;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 import java.util.function.DoubleToLongFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.LongConsumer;
@@ -29,12 +31,19 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.LongConsumer2;
 import org.lambda4j.function.conversion.BooleanToLongFunction;
 import org.lambda4j.function.conversion.ByteToLongFunction;
 import org.lambda4j.function.conversion.CharToLongFunction;
 import org.lambda4j.function.conversion.FloatToLongFunction;
 import org.lambda4j.function.conversion.ShortToLongFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 
 /**
  * Represents an operation that accepts two {@code long}-valued input arguments and returns no result. This is a
@@ -68,6 +77,26 @@ public interface BiLongConsumer extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiLongConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * BiLongConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned consumer
+     * calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code BiLongConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiLongConsumer unboxed(@Nonnull BiConsumer<? super Long, ? super Long> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof BiLongConsumer) {
+            return (BiLongConsumer) original;
+        }
+        return (value1, value2) -> consumer.accept(value1, value2);
+    }
+
     /**
      * Calls the given {@link BiLongConsumer} with the given arguments and returns its result.
      *
@@ -93,7 +122,25 @@ public interface BiLongConsumer extends Lambda {
     @Nonnull
     static BiLongConsumer onlyFirst(@Nonnull LongConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2) -> consumer.accept(value1);
+        /**
+         * A {@code BiLongConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiLongConsumer {
+
+            /**
+             * Creates a {@code BiLongConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(long value1, long value2) {
+                consumer.accept(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -108,7 +155,25 @@ public interface BiLongConsumer extends Lambda {
     @Nonnull
     static BiLongConsumer onlySecond(@Nonnull LongConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2) -> consumer.accept(value2);
+        /**
+         * A {@code BiLongConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiLongConsumer {
+
+            /**
+             * Creates a {@code BiLongConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(long value1, long value2) {
+                consumer.accept(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -130,6 +195,43 @@ public interface BiLongConsumer extends Lambda {
         return value2 -> accept(value1, value2);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull long[] values1, @Nonnull long[] values2) {
+        acceptParallel(values1, values2, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull long[] values1, @Nonnull long[] values2, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -314,6 +416,9 @@ public interface BiLongConsumer extends Lambda {
             @Nonnull LongUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> accept(before1.applyAsLong(value1), before2.applyAsLong(value2));
     }
 
@@ -342,7 +447,9 @@ public interface BiLongConsumer extends Lambda {
     /**
      * Returns a composed {@link BiLongConsumer} that performs, in sequence, this consumer followed by the {@code after}
      * consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the composed
-     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed.
+     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed. If
+     * either of them is such a composed consumer itself, the performed operations are taken over, so that a chain of
+     * {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link BiLongConsumer} that performs, in sequence, this consumer followed by the {@code after}
@@ -352,10 +459,28 @@ public interface BiLongConsumer extends Lambda {
     @Nonnull
     default BiLongConsumer andThen(@Nonnull BiLongConsumer after) {
         Objects.requireNonNull(after);
-        return (value1, value2) -> {
-            accept(value1, value2);
-            after.accept(value1, value2);
-        };
+        BiLongConsumer[] consumers = Composition.flatten(this, after, new BiLongConsumer[0]);
+        /**
+         * A {@code BiLongConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements BiLongConsumer {
+
+            /**
+             * Creates the sequence of this {@code BiLongConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(long value1, long value2) {
+                for (BiLongConsumer consumer : consumers) {
+                    consumer.accept(value1, value2);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -365,7 +490,29 @@ public interface BiLongConsumer extends Lambda {
      */
     @Nonnull
     default BiLongConsumer reversed() {
-        return (value2, value1) -> accept(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiLongConsumer) {
+            return (BiLongConsumer) original;
+        }
+        /**
+         * A {@code BiLongConsumer} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiLongConsumer {
+
+            /**
+             * Creates the reversal of this {@code BiLongConsumer}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiLongConsumer.this);
+            }
+
+            @Override
+            public void accept(long value2, long value1) {
+                BiLongConsumer.this.accept(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -377,6 +524,24 @@ public interface BiLongConsumer extends Lambda {
      */
     @Nonnull
     default BiConsumer2<Long, Long> boxed() {
-        return this::accept;
+        /**
+         * A {@code BiConsumer2} which applies this {@code BiLongConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiConsumer2<Long, Long> {
+
+            /**
+             * Creates the boxed variant of this {@code BiLongConsumer}.
+             */
+            Boxed() {
+                super(BiLongConsumer.this);
+            }
+
+            @Override
+            public void accept(Long t, Long u) {
+                BiLongConsumer.this.accept(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
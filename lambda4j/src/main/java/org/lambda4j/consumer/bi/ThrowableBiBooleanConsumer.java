@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableBooleanConsumer;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.operator.unary.ThrowableBooleanUnaryOperator;
@@ -351,7 +353,8 @@ public interface ThrowableBiBooleanConsumer<X extends Throwable> extends Lambda
     /**
      * Returns a composed {@link ThrowableBiBooleanConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableBiBooleanConsumer} that performs, in sequence, this consumer followed by the
@@ -361,10 +364,30 @@ public interface ThrowableBiBooleanConsumer<X extends Throwable> extends Lambda
     @Nonnull
     default ThrowableBiBooleanConsumer<X> andThen(@Nonnull ThrowableBiBooleanConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return (value1, value2) -> {
-            acceptThrows(value1, value2);
-            after.acceptThrows(value1, value2);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableBiBooleanConsumer<? extends X>[] consumers = (ThrowableBiBooleanConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableBiBooleanConsumer<?>[0]);
+        /**
+         * A {@code ThrowableBiBooleanConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableBiBooleanConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableBiBooleanConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(boolean value1, boolean value2) throws X {
+                for (ThrowableBiBooleanConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value1, value2);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -28,6 +28,8 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableConsumer;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.function.ThrowableBooleanFunction;
@@ -399,7 +401,8 @@ public interface ThrowableBiConsumer<T, U, X extends Throwable> extends Lambda,
     /**
      * Returns a composed {@link ThrowableBiConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableBiConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -410,10 +413,31 @@ public interface ThrowableBiConsumer<T, U, X extends Throwable> extends Lambda,
     default ThrowableBiConsumer<T, U, X> andThen(
             @Nonnull ThrowableBiConsumer<? super T, ? super U, ? extends X> after) {
         Objects.requireNonNull(after);
-        return (t, u) -> {
-            acceptThrows(t, u);
-            after.acceptThrows(t, u);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableBiConsumer<? super T, ? super U, ? extends X>[] consumers =
+                (ThrowableBiConsumer<? super T, ? super U, ? extends X>[])
+                        Composition.flatten(this, after, new ThrowableBiConsumer<?, ?, ?>[0]);
+        /**
+         * A {@code ThrowableBiConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableBiConsumer<T, U, X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableBiConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(T t, U u) throws X {
+                for (ThrowableBiConsumer<? super T, ? super U, ? extends X> consumer : consumers) {
+                    consumer.acceptThrows(t, u);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableDoubleConsumer;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.function.conversion.ThrowableBooleanToDoubleFunction;
@@ -364,7 +366,8 @@ public interface ThrowableBiDoubleConsumer<X extends Throwable> extends Lambda {
     /**
      * Returns a composed {@link ThrowableBiDoubleConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableBiDoubleConsumer} that performs, in sequence, this consumer followed by the
@@ -374,10 +377,30 @@ public interface ThrowableBiDoubleConsumer<X extends Throwable> extends Lambda {
     @Nonnull
     default ThrowableBiDoubleConsumer<X> andThen(@Nonnull ThrowableBiDoubleConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return (value1, value2) -> {
-            acceptThrows(value1, value2);
-            after.acceptThrows(value1, value2);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableBiDoubleConsumer<? extends X>[] consumers = (ThrowableBiDoubleConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableBiDoubleConsumer<?>[0]);
+        /**
+         * A {@code ThrowableBiDoubleConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableBiDoubleConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableBiDoubleConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(double value1, double value2) throws X {
+                for (ThrowableBiDoubleConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value1, value2);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableFloatConsumer;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.function.conversion.ThrowableBooleanToFloatFunction;
@@ -353,7 +355,8 @@ public interface ThrowableBiFloatConsumer<X extends Throwable> extends Lambda {
     /**
      * Returns a composed {@link ThrowableBiFloatConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableBiFloatConsumer} that performs, in sequence, this consumer followed by the
@@ -363,10 +366,30 @@ public interface ThrowableBiFloatConsumer<X extends Throwable> extends Lambda {
     @Nonnull
     default ThrowableBiFloatConsumer<X> andThen(@Nonnull ThrowableBiFloatConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return (value1, value2) -> {
-            acceptThrows(value1, value2);
-            after.acceptThrows(value1, value2);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableBiFloatConsumer<? extends X>[] consumers = (ThrowableBiFloatConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableBiFloatConsumer<?>[0]);
+        /**
+         * A {@code ThrowableBiFloatConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableBiFloatConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableBiFloatConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(float value1, float value2) throws X {
+                for (ThrowableBiFloatConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value1, value2);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
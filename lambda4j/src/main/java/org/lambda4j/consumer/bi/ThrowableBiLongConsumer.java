@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableLongConsumer;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.function.conversion.ThrowableBooleanToLongFunction;
@@ -352,7 +354,8 @@ public interface ThrowableBiLongConsumer<X extends Throwable> extends Lambda {
     /**
      * Returns a composed {@link ThrowableBiLongConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableBiLongConsumer} that performs, in sequence, this consumer followed by the
@@ -362,10 +365,30 @@ public interface ThrowableBiLongConsumer<X extends Throwable> extends Lambda {
     @Nonnull
     default ThrowableBiLongConsumer<X> andThen(@Nonnull ThrowableBiLongConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return (value1, value2) -> {
-            acceptThrows(value1, value2);
-            after.acceptThrows(value1, value2);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableBiLongConsumer<? extends X>[] consumers = (ThrowableBiLongConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableBiLongConsumer<?>[0]);
+        /**
+         * A {@code ThrowableBiLongConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableBiLongConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableBiLongConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(long value1, long value2) throws X {
+                for (ThrowableBiLongConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value1, value2);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -17,6 +17,8 @@
 package org.lambda4j.consumer.bi.obj;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
@@ -29,6 +31,11 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.consumer.bi.BiBooleanConsumer;
@@ -53,6 +60,8 @@ import org.lambda4j.function.conversion.IntToCharFunction;
 import org.lambda4j.function.conversion.LongToCharFunction;
 import org.lambda4j.function.conversion.ShortToCharFunction;
 import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 import org.lambda4j.operator.unary.CharUnaryOperator;
 
 /**
@@ -89,6 +98,28 @@ public interface ObjCharConsumer<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjCharConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * ObjCharConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned consumer
+     * calls the given consumer, boxing its primitive arguments.
+     *
+     * @param <T> The type of the first argument to the consumer
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code ObjCharConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjCharConsumer<T> unboxed(@Nonnull BiConsumer<? super T, ? super Character> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof ObjCharConsumer) {
+            return (ObjCharConsumer<T>) original;
+        }
+        return (t, value) -> consumer.accept(t, value);
+    }
+
     /**
      * Calls the given {@link ObjCharConsumer} with the given arguments and returns its result.
      *
@@ -116,7 +147,25 @@ public interface ObjCharConsumer<T> extends Lambda {
     @Nonnull
     static <T> ObjCharConsumer<T> onlyFirst(@Nonnull Consumer<? super T> consumer) {
         Objects.requireNonNull(consumer);
-        return (t, value) -> consumer.accept(t);
+        /**
+         * A {@code ObjCharConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjCharConsumer<T> {
+
+            /**
+             * Creates a {@code ObjCharConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(T t, char value) {
+                consumer.accept(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -132,7 +181,25 @@ public interface ObjCharConsumer<T> extends Lambda {
     @Nonnull
     static <T> ObjCharConsumer<T> onlySecond(@Nonnull CharConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (t, value) -> consumer.accept(value);
+        /**
+         * A {@code ObjCharConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjCharConsumer<T> {
+
+            /**
+             * Creates a {@code ObjCharConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(T t, char value) {
+                consumer.accept(value);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -165,6 +232,43 @@ public interface ObjCharConsumer<T> extends Lambda {
         return t -> accept(t, value);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull T[] values1, @Nonnull char[] values2) {
+        acceptParallel(values1, values2, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull T[] values1, @Nonnull char[] values2, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -378,7 +482,8 @@ public interface ObjCharConsumer<T> extends Lambda {
      * Returns a composed {@link ObjCharConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the
      * composed operation. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ObjCharConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -388,10 +493,30 @@ public interface ObjCharConsumer<T> extends Lambda {
     @Nonnull
     default ObjCharConsumer<T> andThen(@Nonnull ObjCharConsumer<? super T> after) {
         Objects.requireNonNull(after);
-        return (t, value) -> {
-            accept(t, value);
-            after.accept(t, value);
-        };
+        @SuppressWarnings("unchecked")
+        ObjCharConsumer<? super T>[] consumers =
+                (ObjCharConsumer<? super T>[]) Composition.flatten(this, after, new ObjCharConsumer<?>[0]);
+        /**
+         * A {@code ObjCharConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ObjCharConsumer<T> {
+
+            /**
+             * Creates the sequence of this {@code ObjCharConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(T t, char value) {
+                for (ObjCharConsumer<? super T> consumer : consumers) {
+                    consumer.accept(t, value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -403,6 +528,24 @@ public interface ObjCharConsumer<T> extends Lambda {
      */
     @Nonnull
     default BiConsumer2<T, Character> boxed() {
-        return this::accept;
+        /**
+         * A {@code BiConsumer2} which applies this {@code ObjCharConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiConsumer2<T, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjCharConsumer}.
+             */
+            Boxed() {
+                super(ObjCharConsumer.this);
+            }
+
+            @Override
+            public void accept(T t, Character u) {
+                ObjCharConsumer.this.accept(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
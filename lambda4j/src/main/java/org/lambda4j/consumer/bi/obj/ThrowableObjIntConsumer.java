@@ -26,6 +26,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableConsumer;
 import org.lambda4j.consumer.ThrowableIntConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiBooleanConsumer;
@@ -413,7 +415,8 @@ public interface ThrowableObjIntConsumer<T, X extends Throwable> extends Lambda,
     /**
      * Returns a composed {@link ThrowableObjIntConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableObjIntConsumer} that performs, in sequence, this consumer followed by the
@@ -424,10 +427,31 @@ public interface ThrowableObjIntConsumer<T, X extends Throwable> extends Lambda,
     default ThrowableObjIntConsumer<T, X> andThen(
             @Nonnull ThrowableObjIntConsumer<? super T, ? extends X> after) {
         Objects.requireNonNull(after);
-        return (t, value) -> {
-            acceptThrows(t, value);
-            after.acceptThrows(t, value);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableObjIntConsumer<? super T, ? extends X>[] consumers =
+                (ThrowableObjIntConsumer<? super T, ? extends X>[])
+                        Composition.flatten(this, after, new ThrowableObjIntConsumer<?, ?>[0]);
+        /**
+         * A {@code ThrowableObjIntConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableObjIntConsumer<T, X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableObjIntConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(T t, int value) throws X {
+                for (ThrowableObjIntConsumer<? super T, ? extends X> consumer : consumers) {
+                    consumer.acceptThrows(t, value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -26,6 +26,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableConsumer;
 import org.lambda4j.consumer.ThrowableLongConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiBooleanConsumer;
@@ -413,7 +415,8 @@ public interface ThrowableObjLongConsumer<T, X extends Throwable> extends Lambda
     /**
      * Returns a composed {@link ThrowableObjLongConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableObjLongConsumer} that performs, in sequence, this consumer followed by the
@@ -424,10 +427,31 @@ public interface ThrowableObjLongConsumer<T, X extends Throwable> extends Lambda
     default ThrowableObjLongConsumer<T, X> andThen(
             @Nonnull ThrowableObjLongConsumer<? super T, ? extends X> after) {
         Objects.requireNonNull(after);
-        return (t, value) -> {
-            acceptThrows(t, value);
-            after.acceptThrows(t, value);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableObjLongConsumer<? super T, ? extends X>[] consumers =
+                (ThrowableObjLongConsumer<? super T, ? extends X>[])
+                        Composition.flatten(this, after, new ThrowableObjLongConsumer<?, ?>[0]);
+        /**
+         * A {@code ThrowableObjLongConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableObjLongConsumer<T, X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableObjLongConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(T t, long value) throws X {
+                for (ThrowableObjLongConsumer<? super T, ? extends X> consumer : consumers) {
+                    consumer.acceptThrows(t, value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
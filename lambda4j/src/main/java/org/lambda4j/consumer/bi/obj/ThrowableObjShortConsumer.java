@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableConsumer;
 import org.lambda4j.consumer.ThrowableShortConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiBooleanConsumer;
@@ -393,7 +395,8 @@ public interface ThrowableObjShortConsumer<T, X extends Throwable> extends Lambd
     /**
      * Returns a composed {@link ThrowableObjShortConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableObjShortConsumer} that performs, in sequence, this consumer followed by the
@@ -404,10 +407,31 @@ public interface ThrowableObjShortConsumer<T, X extends Throwable> extends Lambd
     default ThrowableObjShortConsumer<T, X> andThen(
             @Nonnull ThrowableObjShortConsumer<? super T, ? extends X> after) {
         Objects.requireNonNull(after);
-        return (t, value) -> {
-            acceptThrows(t, value);
-            after.acceptThrows(t, value);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableObjShortConsumer<? super T, ? extends X>[] consumers =
+                (ThrowableObjShortConsumer<? super T, ? extends X>[])
+                        Composition.flatten(this, after, new ThrowableObjShortConsumer<?, ?>[0]);
+        /**
+         * A {@code ThrowableObjShortConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableObjShortConsumer<T, X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableObjShortConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(T t, short value) throws X {
+                for (ThrowableObjShortConsumer<? super T, ? extends X> consumer : consumers) {
+                    consumer.acceptThrows(t, value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableBooleanConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiBooleanConsumer;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
@@ -421,7 +423,8 @@ public interface ThrowableTriBooleanConsumer<X extends Throwable> extends Lambda
     /**
      * Returns a composed {@link ThrowableTriBooleanConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableTriBooleanConsumer} that performs, in sequence, this consumer followed by the
@@ -431,10 +434,30 @@ public interface ThrowableTriBooleanConsumer<X extends Throwable> extends Lambda
     @Nonnull
     default ThrowableTriBooleanConsumer<X> andThen(@Nonnull ThrowableTriBooleanConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return (value1, value2, value3) -> {
-            acceptThrows(value1, value2, value3);
-            after.acceptThrows(value1, value2, value3);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableTriBooleanConsumer<? extends X>[] consumers = (ThrowableTriBooleanConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableTriBooleanConsumer<?>[0]);
+        /**
+         * A {@code ThrowableTriBooleanConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableTriBooleanConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableTriBooleanConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(boolean value1, boolean value2, boolean value3) throws X {
+                for (ThrowableTriBooleanConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value1, value2, value3);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
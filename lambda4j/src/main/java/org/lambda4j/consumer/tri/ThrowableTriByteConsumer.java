@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableByteConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiByteConsumer;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
@@ -431,7 +433,8 @@ public interface ThrowableTriByteConsumer<X extends Throwable> extends Lambda {
     /**
      * Returns a composed {@link ThrowableTriByteConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableTriByteConsumer} that performs, in sequence, this consumer followed by the
@@ -441,10 +444,30 @@ public interface ThrowableTriByteConsumer<X extends Throwable> extends Lambda {
     @Nonnull
     default ThrowableTriByteConsumer<X> andThen(@Nonnull ThrowableTriByteConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return (value1, value2, value3) -> {
-            acceptThrows(value1, value2, value3);
-            after.acceptThrows(value1, value2, value3);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableTriByteConsumer<? extends X>[] consumers = (ThrowableTriByteConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableTriByteConsumer<?>[0]);
+        /**
+         * A {@code ThrowableTriByteConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableTriByteConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableTriByteConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(byte value1, byte value2, byte value3) throws X {
+                for (ThrowableTriByteConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value1, value2, value3);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
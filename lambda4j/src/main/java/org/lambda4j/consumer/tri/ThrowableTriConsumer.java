@@ -27,6 +27,8 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiConsumer;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
@@ -458,7 +460,8 @@ public interface ThrowableTriConsumer<T, U, V, X extends Throwable> extends Lamb
     /**
      * Returns a composed {@link ThrowableTriConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableTriConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -469,10 +472,31 @@ public interface ThrowableTriConsumer<T, U, V, X extends Throwable> extends Lamb
     default ThrowableTriConsumer<T, U, V, X> andThen(
             @Nonnull ThrowableTriConsumer<? super T, ? super U, ? super V, ? extends X> after) {
         Objects.requireNonNull(after);
-        return (t, u, v) -> {
-            acceptThrows(t, u, v);
-            after.acceptThrows(t, u, v);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableTriConsumer<? super T, ? super U, ? super V, ? extends X>[] consumers =
+                (ThrowableTriConsumer<? super T, ? super U, ? super V, ? extends X>[])
+                        Composition.flatten(this, after, new ThrowableTriConsumer<?, ?, ?, ?>[0]);
+        /**
+         * A {@code ThrowableTriConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableTriConsumer<T, U, V, X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableTriConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(T t, U u, V v) throws X {
+                for (ThrowableTriConsumer<? super T, ? super U, ? super V, ? extends X> consumer : consumers) {
+                    consumer.acceptThrows(t, u, v);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableFloatConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiFloatConsumer;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
@@ -434,7 +436,8 @@ public interface ThrowableTriFloatConsumer<X extends Throwable> extends Lambda {
     /**
      * Returns a composed {@link ThrowableTriFloatConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableTriFloatConsumer} that performs, in sequence, this consumer followed by the
@@ -444,10 +447,30 @@ public interface ThrowableTriFloatConsumer<X extends Throwable> extends Lambda {
     @Nonnull
     default ThrowableTriFloatConsumer<X> andThen(@Nonnull ThrowableTriFloatConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return (value1, value2, value3) -> {
-            acceptThrows(value1, value2, value3);
-            after.acceptThrows(value1, value2, value3);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableTriFloatConsumer<? extends X>[] consumers = (ThrowableTriFloatConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableTriFloatConsumer<?>[0]);
+        /**
+         * A {@code ThrowableTriFloatConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableTriFloatConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableTriFloatConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(float value1, float value2, float value3) throws X {
+                for (ThrowableTriFloatConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value1, value2, value3);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableIntConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiIntConsumer;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
@@ -430,7 +432,8 @@ public interface ThrowableTriIntConsumer<X extends Throwable> extends Lambda {
     /**
      * Returns a composed {@link ThrowableTriIntConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableTriIntConsumer} that performs, in sequence, this consumer followed by the
@@ -440,10 +443,30 @@ public interface ThrowableTriIntConsumer<X extends Throwable> extends Lambda {
     @Nonnull
     default ThrowableTriIntConsumer<X> andThen(@Nonnull ThrowableTriIntConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return (value1, value2, value3) -> {
-            acceptThrows(value1, value2, value3);
-            after.acceptThrows(value1, value2, value3);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableTriIntConsumer<? extends X>[] consumers = (ThrowableTriIntConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableTriIntConsumer<?>[0]);
+        /**
+         * A {@code ThrowableTriIntConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableTriIntConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableTriIntConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(int value1, int value2, int value3) throws X {
+                for (ThrowableTriIntConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value1, value2, value3);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
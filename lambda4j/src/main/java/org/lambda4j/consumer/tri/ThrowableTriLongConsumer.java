@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableLongConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiLongConsumer;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
@@ -431,7 +433,8 @@ public interface ThrowableTriLongConsumer<X extends Throwable> extends Lambda {
     /**
      * Returns a composed {@link ThrowableTriLongConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableTriLongConsumer} that performs, in sequence, this consumer followed by the
@@ -441,10 +444,30 @@ public interface ThrowableTriLongConsumer<X extends Throwable> extends Lambda {
     @Nonnull
     default ThrowableTriLongConsumer<X> andThen(@Nonnull ThrowableTriLongConsumer<? extends X> after) {
         Objects.requireNonNull(after);
-        return (value1, value2, value3) -> {
-            acceptThrows(value1, value2, value3);
-            after.acceptThrows(value1, value2, value3);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableTriLongConsumer<? extends X>[] consumers = (ThrowableTriLongConsumer<? extends X>[])
+                Composition.flatten(this, after, new ThrowableTriLongConsumer<?>[0]);
+        /**
+         * A {@code ThrowableTriLongConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableTriLongConsumer<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableTriLongConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(long value1, long value2, long value3) throws X {
+                for (ThrowableTriLongConsumer<? extends X> consumer : consumers) {
+                    consumer.acceptThrows(value1, value2, value3);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
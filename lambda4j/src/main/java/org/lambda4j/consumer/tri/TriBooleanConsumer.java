@@ -17,6 +17,7 @@
 package org.lambda4j.consumer.tri;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
@@ -28,8 +29,15 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.bi.BiBooleanConsumer;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
@@ -69,6 +77,27 @@ public interface TriBooleanConsumer extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriBooleanConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * TriBooleanConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * consumer calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code TriBooleanConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriBooleanConsumer unboxed(
+            @Nonnull TriConsumer<? super Boolean, ? super Boolean, ? super Boolean> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof TriBooleanConsumer) {
+            return (TriBooleanConsumer) original;
+        }
+        return (value1, value2, value3) -> consumer.accept(value1, value2, value3);
+    }
+
     /**
      * Calls the given {@link TriBooleanConsumer} with the given arguments and returns its result.
      *
@@ -95,7 +124,25 @@ public interface TriBooleanConsumer extends Lambda {
     @Nonnull
     static TriBooleanConsumer onlyFirst(@Nonnull BooleanConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value1);
+        /**
+         * A {@code TriBooleanConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriBooleanConsumer {
+
+            /**
+             * Creates a {@code TriBooleanConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(boolean value1, boolean value2, boolean value3) {
+                consumer.accept(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -110,7 +157,25 @@ public interface TriBooleanConsumer extends Lambda {
     @Nonnull
     static TriBooleanConsumer onlySecond(@Nonnull BooleanConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value2);
+        /**
+         * A {@code TriBooleanConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriBooleanConsumer {
+
+            /**
+             * Creates a {@code TriBooleanConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(boolean value1, boolean value2, boolean value3) {
+                consumer.accept(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -125,7 +190,25 @@ public interface TriBooleanConsumer extends Lambda {
     @Nonnull
     static TriBooleanConsumer onlyThird(@Nonnull BooleanConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value3);
+        /**
+         * A {@code TriBooleanConsumer} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriBooleanConsumer {
+
+            /**
+             * Creates a {@code TriBooleanConsumer} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, consumer);
+            }
+
+            @Override
+            public void accept(boolean value1, boolean value2, boolean value3) {
+                consumer.accept(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
@@ -160,6 +243,47 @@ public interface TriBooleanConsumer extends Lambda {
         return value3 -> accept(value1, value2, value3);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3) {
+        acceptParallel(values1, values2, values3, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -217,6 +341,9 @@ public interface TriBooleanConsumer extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> accept(before1.applyAsBoolean(value1), before2.applyAsBoolean(value2),
                 before3.applyAsBoolean(value3));
     }
@@ -393,7 +520,8 @@ public interface TriBooleanConsumer extends Lambda {
      * Returns a composed {@link TriBooleanConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the
      * composed operation. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link TriBooleanConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -403,10 +531,28 @@ public interface TriBooleanConsumer extends Lambda {
     @Nonnull
     default TriBooleanConsumer andThen(@Nonnull TriBooleanConsumer after) {
         Objects.requireNonNull(after);
-        return (value1, value2, value3) -> {
-            accept(value1, value2, value3);
-            after.accept(value1, value2, value3);
-        };
+        TriBooleanConsumer[] consumers = Composition.flatten(this, after, new TriBooleanConsumer[0]);
+        /**
+         * A {@code TriBooleanConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements TriBooleanConsumer {
+
+            /**
+             * Creates the sequence of this {@code TriBooleanConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(boolean value1, boolean value2, boolean value3) {
+                for (TriBooleanConsumer consumer : consumers) {
+                    consumer.accept(value1, value2, value3);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -416,7 +562,29 @@ public interface TriBooleanConsumer extends Lambda {
      */
     @Nonnull
     default TriBooleanConsumer reversed() {
-        return (value3, value2, value1) -> accept(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriBooleanConsumer) {
+            return (TriBooleanConsumer) original;
+        }
+        /**
+         * A {@code TriBooleanConsumer} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriBooleanConsumer {
+
+            /**
+             * Creates the reversal of this {@code TriBooleanConsumer}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriBooleanConsumer.this);
+            }
+
+            @Override
+            public void accept(boolean value3, boolean value2, boolean value1) {
+                TriBooleanConsumer.this.accept(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -428,6 +596,24 @@ public interface TriBooleanConsumer extends Lambda {
      */
     @Nonnull
     default TriConsumer<Boolean, Boolean, Boolean> boxed() {
-        return this::accept;
+        /**
+         * A {@code TriConsumer} which applies this {@code TriBooleanConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriConsumer<Boolean, Boolean, Boolean> {
+
+            /**
+             * Creates the boxed variant of this {@code TriBooleanConsumer}.
+             */
+            Boxed() {
+                super(TriBooleanConsumer.this);
+            }
+
+            @Override
+            public void accept(Boolean t, Boolean u, Boolean v) {
+                TriBooleanConsumer.this.accept(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -17,6 +17,7 @@
 package org.lambda4j.consumer.tri;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -24,6 +25,11 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.ByteConsumer;
 import org.lambda4j.consumer.bi.BiByteConsumer;
 import org.lambda4j.function.conversion.BooleanToByteFunction;
@@ -34,6 +40,8 @@ import org.lambda4j.function.conversion.IntToByteFunction;
 import org.lambda4j.function.conversion.LongToByteFunction;
 import org.lambda4j.function.conversion.ShortToByteFunction;
 import org.lambda4j.function.to.ToByteFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
 
 /**
@@ -68,6 +76,26 @@ public interface TriByteConsumer extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriByteConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * TriByteConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned consumer
+     * calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code TriByteConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriByteConsumer unboxed(@Nonnull TriConsumer<? super Byte, ? super Byte, ? super Byte> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof TriByteConsumer) {
+            return (TriByteConsumer) original;
+        }
+        return (value1, value2, value3) -> consumer.accept(value1, value2, value3);
+    }
+
     /**
      * Calls the given {@link TriByteConsumer} with the given arguments and returns its result.
      *
@@ -94,7 +122,25 @@ public interface TriByteConsumer extends Lambda {
     @Nonnull
     static TriByteConsumer onlyFirst(@Nonnull ByteConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value1);
+        /**
+         * A {@code TriByteConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriByteConsumer {
+
+            /**
+             * Creates a {@code TriByteConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(byte value1, byte value2, byte value3) {
+                consumer.accept(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -109,7 +155,25 @@ public interface TriByteConsumer extends Lambda {
     @Nonnull
     static TriByteConsumer onlySecond(@Nonnull ByteConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value2);
+        /**
+         * A {@code TriByteConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriByteConsumer {
+
+            /**
+             * Creates a {@code TriByteConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(byte value1, byte value2, byte value3) {
+                consumer.accept(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -124,7 +188,25 @@ public interface TriByteConsumer extends Lambda {
     @Nonnull
     static TriByteConsumer onlyThird(@Nonnull ByteConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value3);
+        /**
+         * A {@code TriByteConsumer} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriByteConsumer {
+
+            /**
+             * Creates a {@code TriByteConsumer} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, consumer);
+            }
+
+            @Override
+            public void accept(byte value1, byte value2, byte value3) {
+                consumer.accept(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
@@ -159,6 +241,47 @@ public interface TriByteConsumer extends Lambda {
         return value3 -> accept(value1, value2, value3);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] values3) {
+        acceptParallel(values1, values2, values3, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] values3,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -241,6 +364,9 @@ public interface TriByteConsumer extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> accept(before1.applyAsByte(value1), before2.applyAsByte(value2),
                 before3.applyAsByte(value3));
     }
@@ -399,7 +525,8 @@ public interface TriByteConsumer extends Lambda {
      * Returns a composed {@link TriByteConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the
      * composed operation. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link TriByteConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -409,10 +536,28 @@ public interface TriByteConsumer extends Lambda {
     @Nonnull
     default TriByteConsumer andThen(@Nonnull TriByteConsumer after) {
         Objects.requireNonNull(after);
-        return (value1, value2, value3) -> {
-            accept(value1, value2, value3);
-            after.accept(value1, value2, value3);
-        };
+        TriByteConsumer[] consumers = Composition.flatten(this, after, new TriByteConsumer[0]);
+        /**
+         * A {@code TriByteConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements TriByteConsumer {
+
+            /**
+             * Creates the sequence of this {@code TriByteConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(byte value1, byte value2, byte value3) {
+                for (TriByteConsumer consumer : consumers) {
+                    consumer.accept(value1, value2, value3);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -422,7 +567,29 @@ public interface TriByteConsumer extends Lambda {
      */
     @Nonnull
     default TriByteConsumer reversed() {
-        return (value3, value2, value1) -> accept(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriByteConsumer) {
+            return (TriByteConsumer) original;
+        }
+        /**
+         * A {@code TriByteConsumer} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriByteConsumer {
+
+            /**
+             * Creates the reversal of this {@code TriByteConsumer}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriByteConsumer.this);
+            }
+
+            @Override
+            public void accept(byte value3, byte value2, byte value1) {
+                TriByteConsumer.this.accept(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -434,6 +601,24 @@ public interface TriByteConsumer extends Lambda {
      */
     @Nonnull
     default TriConsumer<Byte, Byte, Byte> boxed() {
-        return this::accept;
+        /**
+         * A {@code TriConsumer} which applies this {@code TriByteConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriConsumer<Byte, Byte, Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code TriByteConsumer}.
+             */
+            Boxed() {
+                super(TriByteConsumer.this);
+            }
+
+            @Override
+            public void accept(Byte t, Byte u, Byte v) {
+                TriByteConsumer.this.accept(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -17,6 +17,7 @@
 package org.lambda4j.consumer.tri;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -24,6 +25,11 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.consumer.bi.BiCharConsumer;
 import org.lambda4j.function.conversion.BooleanToCharFunction;
@@ -34,6 +40,8 @@ import org.lambda4j.function.conversion.IntToCharFunction;
 import org.lambda4j.function.conversion.LongToCharFunction;
 import org.lambda4j.function.conversion.ShortToCharFunction;
 import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 import org.lambda4j.operator.unary.CharUnaryOperator;
 
 /**
@@ -68,6 +76,27 @@ public interface TriCharConsumer extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriCharConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * TriCharConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned consumer
+     * calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code TriCharConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriCharConsumer unboxed(
+            @Nonnull TriConsumer<? super Character, ? super Character, ? super Character> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof TriCharConsumer) {
+            return (TriCharConsumer) original;
+        }
+        return (value1, value2, value3) -> consumer.accept(value1, value2, value3);
+    }
+
     /**
      * Calls the given {@link TriCharConsumer} with the given arguments and returns its result.
      *
@@ -94,7 +123,25 @@ public interface TriCharConsumer extends Lambda {
     @Nonnull
     static TriCharConsumer onlyFirst(@Nonnull CharConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value1);
+        /**
+         * A {@code TriCharConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriCharConsumer {
+
+            /**
+             * Creates a {@code TriCharConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(char value1, char value2, char value3) {
+                consumer.accept(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -109,7 +156,25 @@ public interface TriCharConsumer extends Lambda {
     @Nonnull
     static TriCharConsumer onlySecond(@Nonnull CharConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value2);
+        /**
+         * A {@code TriCharConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriCharConsumer {
+
+            /**
+             * Creates a {@code TriCharConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(char value1, char value2, char value3) {
+                consumer.accept(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -124,7 +189,25 @@ public interface TriCharConsumer extends Lambda {
     @Nonnull
     static TriCharConsumer onlyThird(@Nonnull CharConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value3);
+        /**
+         * A {@code TriCharConsumer} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriCharConsumer {
+
+            /**
+             * Creates a {@code TriCharConsumer} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, consumer);
+            }
+
+            @Override
+            public void accept(char value1, char value2, char value3) {
+                consumer.accept(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
@@ -159,6 +242,47 @@ public interface TriCharConsumer extends Lambda {
         return value3 -> accept(value1, value2, value3);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull char[] values1, @Nonnull char[] values2, @Nonnull char[] values3) {
+        acceptParallel(values1, values2, values3, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull char[] values1, @Nonnull char[] values2, @Nonnull char[] values3,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -266,6 +390,9 @@ public interface TriCharConsumer extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> accept(before1.applyAsChar(value1), before2.applyAsChar(value2),
                 before3.applyAsChar(value3));
     }
@@ -399,7 +526,8 @@ public interface TriCharConsumer extends Lambda {
      * Returns a composed {@link TriCharConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the
      * composed operation. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link TriCharConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -409,10 +537,28 @@ public interface TriCharConsumer extends Lambda {
     @Nonnull
     default TriCharConsumer andThen(@Nonnull TriCharConsumer after) {
         Objects.requireNonNull(after);
-        return (value1, value2, value3) -> {
-            accept(value1, value2, value3);
-            after.accept(value1, value2, value3);
-        };
+        TriCharConsumer[] consumers = Composition.flatten(this, after, new TriCharConsumer[0]);
+        /**
+         * A {@code TriCharConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements TriCharConsumer {
+
+            /**
+             * Creates the sequence of this {@code TriCharConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(char value1, char value2, char value3) {
+                for (TriCharConsumer consumer : consumers) {
+                    consumer.accept(value1, value2, value3);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -422,7 +568,29 @@ public interface TriCharConsumer extends Lambda {
      */
     @Nonnull
     default TriCharConsumer reversed() {
-        return (value3, value2, value1) -> accept(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriCharConsumer) {
+            return (TriCharConsumer) original;
+        }
+        /**
+         * A {@code TriCharConsumer} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriCharConsumer {
+
+            /**
+             * Creates the reversal of this {@code TriCharConsumer}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriCharConsumer.this);
+            }
+
+            @Override
+            public void accept(char value3, char value2, char value1) {
+                TriCharConsumer.this.accept(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -434,6 +602,24 @@ public interface TriCharConsumer extends Lambda {
      */
     @Nonnull
     default TriConsumer<Character, Character, Character> boxed() {
-        return this::accept;
+        /**
+         * A {@code TriConsumer} which applies this {@code TriCharConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriConsumer<Character, Character, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code TriCharConsumer}.
+             */
+            Boxed() {
+                super(TriCharConsumer.this);
+            }
+
+            @Override
+            public void accept(Character t, Character u, Character v) {
+                TriCharConsumer.this.accept(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -17,6 +17,7 @@
 package org.lambda4j.consumer.tri;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
@@ -31,6 +32,10 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.consumer.bi.BiConsumer2;
 import org.lambda4j.function.BooleanFunction;
@@ -38,6 +43,8 @@ import org.lambda4j.function.ByteFunction;
 import org.lambda4j.function.CharFunction;
 import org.lambda4j.function.FloatFunction;
 import org.lambda4j.function.ShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 
 /**
  * Represents an operation that accepts three input arguments and returns no result. Unlike most other functional
@@ -108,7 +115,25 @@ public interface TriConsumer<T, U, V> extends Lambda {
     @Nonnull
     static <T, U, V> TriConsumer<T, U, V> onlyFirst(@Nonnull Consumer<? super T> consumer) {
         Objects.requireNonNull(consumer);
-        return (t, u, v) -> consumer.accept(t);
+        /**
+         * A {@code TriConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriConsumer<T, U, V> {
+
+            /**
+             * Creates a {@code TriConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(T t, U u, V v) {
+                consumer.accept(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -126,7 +151,25 @@ public interface TriConsumer<T, U, V> extends Lambda {
     @Nonnull
     static <T, U, V> TriConsumer<T, U, V> onlySecond(@Nonnull Consumer<? super U> consumer) {
         Objects.requireNonNull(consumer);
-        return (t, u, v) -> consumer.accept(u);
+        /**
+         * A {@code TriConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriConsumer<T, U, V> {
+
+            /**
+             * Creates a {@code TriConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(T t, U u, V v) {
+                consumer.accept(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -144,7 +187,25 @@ public interface TriConsumer<T, U, V> extends Lambda {
     @Nonnull
     static <T, U, V> TriConsumer<T, U, V> onlyThird(@Nonnull Consumer<? super V> consumer) {
         Objects.requireNonNull(consumer);
-        return (t, u, v) -> consumer.accept(v);
+        /**
+         * A {@code TriConsumer} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriConsumer<T, U, V> {
+
+            /**
+             * Creates a {@code TriConsumer} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, consumer);
+            }
+
+            @Override
+            public void accept(T t, U u, V v) {
+                consumer.accept(v);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
@@ -191,6 +252,47 @@ public interface TriConsumer<T, U, V> extends Lambda {
         return v -> accept(t, u, v);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull V[] values3) {
+        acceptParallel(values1, values2, values3, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull V[] values3,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -423,7 +525,9 @@ public interface TriConsumer<T, U, V> extends Lambda {
     /**
      * Returns a composed {@link TriConsumer} that performs, in sequence, this consumer followed by the {@code after}
      * consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the composed
-     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed.
+     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed. If
+     * either of them is such a composed consumer itself, the performed operations are taken over, so that a chain of
+     * {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link TriConsumer} that performs, in sequence, this consumer followed by the {@code after}
@@ -433,10 +537,30 @@ public interface TriConsumer<T, U, V> extends Lambda {
     @Nonnull
     default TriConsumer<T, U, V> andThen(@Nonnull TriConsumer<? super T, ? super U, ? super V> after) {
         Objects.requireNonNull(after);
-        return (t, u, v) -> {
-            accept(t, u, v);
-            after.accept(t, u, v);
-        };
+        @SuppressWarnings("unchecked")
+        TriConsumer<? super T, ? super U, ? super V>[] consumers = (TriConsumer<? super T, ? super U, ? super V>[])
+                Composition.flatten(this, after, new TriConsumer<?, ?, ?>[0]);
+        /**
+         * A {@code TriConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements TriConsumer<T, U, V> {
+
+            /**
+             * Creates the sequence of this {@code TriConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(T t, U u, V v) {
+                for (TriConsumer<? super T, ? super U, ? super V> consumer : consumers) {
+                    consumer.accept(t, u, v);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -455,7 +579,30 @@ public interface TriConsumer<T, U, V> extends Lambda {
      * @return A reversed version of this consumer.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default TriConsumer<V, U, T> reversed() {
-        return (v, u, t) -> accept(t, u, v);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriConsumer) {
+            return (TriConsumer<V, U, T>) original;
+        }
+        /**
+         * A {@code TriConsumer} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriConsumer<V, U, T> {
+
+            /**
+             * Creates the reversal of this {@code TriConsumer}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriConsumer.this);
+            }
+
+            @Override
+            public void accept(V v, U u, T t) {
+                TriConsumer.this.accept(t, u, v);
+            }
+        }
+
+        return new Reversal();
     }
 }
@@ -17,6 +17,7 @@
 package org.lambda4j.consumer.tri;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.IntToDoubleFunction;
@@ -29,6 +30,11 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.DoubleConsumer2;
 import org.lambda4j.consumer.bi.BiDoubleConsumer;
 import org.lambda4j.function.conversion.BooleanToDoubleFunction;
@@ -36,6 +42,8 @@ import org.lambda4j.function.conversion.ByteToDoubleFunction;
 import org.lambda4j.function.conversion.CharToDoubleFunction;
 import org.lambda4j.function.conversion.FloatToDoubleFunction;
 import org.lambda4j.function.conversion.ShortToDoubleFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 
 /**
  * Represents an operation that accepts three {@code double}-valued input arguments and returns no result. This is a
@@ -70,6 +78,26 @@ public interface TriDoubleConsumer extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriDoubleConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * TriDoubleConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * consumer calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code TriDoubleConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriDoubleConsumer unboxed(@Nonnull TriConsumer<? super Double, ? super Double, ? super Double> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof TriDoubleConsumer) {
+            return (TriDoubleConsumer) original;
+        }
+        return (value1, value2, value3) -> consumer.accept(value1, value2, value3);
+    }
+
     /**
      * Calls the given {@link TriDoubleConsumer} with the given arguments and returns its result.
      *
@@ -96,7 +124,25 @@ public interface TriDoubleConsumer extends Lambda {
     @Nonnull
     static TriDoubleConsumer onlyFirst(@Nonnull DoubleConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value1);
+        /**
+         * A {@code TriDoubleConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriDoubleConsumer {
+
+            /**
+             * Creates a {@code TriDoubleConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(double value1, double value2, double value3) {
+                consumer.accept(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -111,7 +157,25 @@ public interface TriDoubleConsumer extends Lambda {
     @Nonnull
     static TriDoubleConsumer onlySecond(@Nonnull DoubleConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value2);
+        /**
+         * A {@code TriDoubleConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriDoubleConsumer {
+
+            /**
+             * Creates a {@code TriDoubleConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(double value1, double value2, double value3) {
+                consumer.accept(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -126,7 +190,25 @@ public interface TriDoubleConsumer extends Lambda {
     @Nonnull
     static TriDoubleConsumer onlyThird(@Nonnull DoubleConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value3);
+        /**
+         * A {@code TriDoubleConsumer} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriDoubleConsumer {
+
+            /**
+             * Creates a {@code TriDoubleConsumer} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, consumer);
+            }
+
+            @Override
+            public void accept(double value1, double value2, double value3) {
+                consumer.accept(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
@@ -161,6 +243,47 @@ public interface TriDoubleConsumer extends Lambda {
         return value3 -> accept(value1, value2, value3);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull double[] values1, @Nonnull double[] values2, @Nonnull double[] values3) {
+        acceptParallel(values1, values2, values3, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull double[] values1, @Nonnull double[] values2, @Nonnull double[] values3,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -293,6 +416,9 @@ public interface TriDoubleConsumer extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> accept(before1.applyAsDouble(value1), before2.applyAsDouble(value2),
                 before3.applyAsDouble(value3));
     }
@@ -401,7 +527,8 @@ public interface TriDoubleConsumer extends Lambda {
      * Returns a composed {@link TriDoubleConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the
      * composed operation. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link TriDoubleConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -411,10 +538,28 @@ public interface TriDoubleConsumer extends Lambda {
     @Nonnull
     default TriDoubleConsumer andThen(@Nonnull TriDoubleConsumer after) {
         Objects.requireNonNull(after);
-        return (value1, value2, value3) -> {
-            accept(value1, value2, value3);
-            after.accept(value1, value2, value3);
-        };
+        TriDoubleConsumer[] consumers = Composition.flatten(this, after, new TriDoubleConsumer[0]);
+        /**
+         * A {@code TriDoubleConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements TriDoubleConsumer {
+
+            /**
+             * Creates the sequence of this {@code TriDoubleConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(double value1, double value2, double value3) {
+                for (TriDoubleConsumer consumer : consumers) {
+                    consumer.accept(value1, value2, value3);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -424,7 +569,29 @@ public interface TriDoubleConsumer extends Lambda {
      */
     @Nonnull
     default TriDoubleConsumer reversed() {
-        return (value3, value2, value1) -> accept(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriDoubleConsumer) {
+            return (TriDoubleConsumer) original;
+        }
+        /**
+         * A {@code TriDoubleConsumer} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriDoubleConsumer {
+
+            /**
+             * Creates the reversal of this {@code TriDoubleConsumer}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriDoubleConsumer.this);
+            }
+
+            @Override
+            public void accept(double value3, double value2, double value1) {
+                TriDoubleConsumer.this.accept(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -436,6 +603,24 @@ public interface TriDoubleConsumer extends Lambda {
      */
     @Nonnull
     default TriConsumer<Double, Double, Double> boxed() {
-        return this::accept;
+        /**
+         * A {@code TriConsumer} which applies this {@code TriDoubleConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriConsumer<Double, Double, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code TriDoubleConsumer}.
+             */
+            Boxed() {
+                super(TriDoubleConsumer.this);
+            }
+
+            @Override
+            public void accept(Double t, Double u, Double v) {
+                TriDoubleConsumer.this.accept(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
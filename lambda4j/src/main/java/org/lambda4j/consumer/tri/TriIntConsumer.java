@@ -17,6 +17,7 @@
 package org.lambda4j.consumer.tri;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.IntConsumer;
 import java.util.function.IntUnaryOperator;
@@ -29,6 +30,11 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.IntConsumer2;
 import org.lambda4j.consumer.bi.BiIntConsumer;
 import org.lambda4j.function.conversion.BooleanToIntFunction;
@@ -36,6 +42,8 @@ import org.lambda4j.function.conversion.ByteToIntFunction;
 import org.lambda4j.function.conversion.CharToIntFunction;
 import org.lambda4j.function.conversion.FloatToIntFunction;
 import org.lambda4j.function.conversion.ShortToIntFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 
 /**
  * Represents an operation that accepts three {@code int}-valued input arguments and returns no result. This is a
@@ -69,6 +77,26 @@ public interface TriIntConsumer extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriIntConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * TriIntConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned consumer
+     * calls the given consumer, boxing its primitive arguments.
+     *
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code TriIntConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriIntConsumer unboxed(@Nonnull TriConsumer<? super Integer, ? super Integer, ? super Integer> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof TriIntConsumer) {
+            return (TriIntConsumer) original;
+        }
+        return (value1, value2, value3) -> consumer.accept(value1, value2, value3);
+    }
+
     /**
      * Calls the given {@link TriIntConsumer} with the given arguments and returns its result.
      *
@@ -95,7 +123,25 @@ public interface TriIntConsumer extends Lambda {
     @Nonnull
     static TriIntConsumer onlyFirst(@Nonnull IntConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value1);
+        /**
+         * A {@code TriIntConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriIntConsumer {
+
+            /**
+             * Creates a {@code TriIntConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(int value1, int value2, int value3) {
+                consumer.accept(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -110,7 +156,25 @@ public interface TriIntConsumer extends Lambda {
     @Nonnull
     static TriIntConsumer onlySecond(@Nonnull IntConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value2);
+        /**
+         * A {@code TriIntConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriIntConsumer {
+
+            /**
+             * Creates a {@code TriIntConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(int value1, int value2, int value3) {
+                consumer.accept(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -125,7 +189,25 @@ public interface TriIntConsumer extends Lambda {
     @Nonnull
     static TriIntConsumer onlyThird(@Nonnull IntConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (value1, value2, value3) -> consumer.accept(value3);
+        /**
+         * A {@code TriIntConsumer} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriIntConsumer {
+
+            /**
+             * Creates a {@code TriIntConsumer} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, consumer);
+            }
+
+            @Override
+            public void accept(int value1, int value2, int value3) {
+                consumer.accept(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
@@ -160,6 +242,47 @@ public interface TriIntConsumer extends Lambda {
         return value3 -> accept(value1, value2, value3);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull int[] values3) {
+        acceptParallel(values1, values2, values3, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull int[] values3,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -342,6 +465,9 @@ public interface TriIntConsumer extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> accept(before1.applyAsInt(value1), before2.applyAsInt(value2),
                 before3.applyAsInt(value3));
     }
@@ -399,7 +525,9 @@ public interface TriIntConsumer extends Lambda {
     /**
      * Returns a composed {@link TriIntConsumer} that performs, in sequence, this consumer followed by the {@code after}
      * consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the composed
-     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed.
+     * operation. If performing this consumer throws an exception, the {@code after} consumer will not be performed. If
+     * either of them is such a composed consumer itself, the performed operations are taken over, so that a chain of
+     * {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link TriIntConsumer} that performs, in sequence, this consumer followed by the {@code after}
@@ -409,10 +537,28 @@ public interface TriIntConsumer extends Lambda {
     @Nonnull
     default TriIntConsumer andThen(@Nonnull TriIntConsumer after) {
         Objects.requireNonNull(after);
-        return (value1, value2, value3) -> {
-            accept(value1, value2, value3);
-            after.accept(value1, value2, value3);
-        };
+        TriIntConsumer[] consumers = Composition.flatten(this, after, new TriIntConsumer[0]);
+        /**
+         * A {@code TriIntConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements TriIntConsumer {
+
+            /**
+             * Creates the sequence of this {@code TriIntConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(int value1, int value2, int value3) {
+                for (TriIntConsumer consumer : consumers) {
+                    consumer.accept(value1, value2, value3);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -422,7 +568,29 @@ public interface TriIntConsumer extends Lambda {
      */
     @Nonnull
     default TriIntConsumer reversed() {
-        return (value3, value2, value1) -> accept(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriIntConsumer) {
+            return (TriIntConsumer) original;
+        }
+        /**
+         * A {@code TriIntConsumer} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriIntConsumer {
+
+            /**
+             * Creates the reversal of this {@code TriIntConsumer}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriIntConsumer.this);
+            }
+
+            @Override
+            public void accept(int value3, int value2, int value1) {
+                TriIntConsumer.this.accept(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -434,6 +602,24 @@ public interface TriIntConsumer extends Lambda {
      */
     @Nonnull
     default TriConsumer<Integer, Integer, Integer> boxed() {
-        return this::accept;
+        /**
+         * A {@code TriConsumer} which applies this {@code TriIntConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriConsumer<Integer, Integer, Integer> {
+
+            /**
+             * Creates the boxed variant of this {@code TriIntConsumer}.
+             */
+            Boxed() {
+                super(TriIntConsumer.this);
+            }
+
+            @Override
+            public void accept(Integer t, Integer u, Integer v) {
+                TriIntConsumer.this.accept(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
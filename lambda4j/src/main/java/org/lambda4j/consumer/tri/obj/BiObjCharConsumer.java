@@ -17,6 +17,7 @@
 package org.lambda4j.consumer.tri.obj;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
@@ -31,6 +32,11 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.consumer.bi.BiConsumer2;
@@ -57,6 +63,8 @@ import org.lambda4j.function.conversion.IntToCharFunction;
 import org.lambda4j.function.conversion.LongToCharFunction;
 import org.lambda4j.function.conversion.ShortToCharFunction;
 import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 import org.lambda4j.operator.unary.CharUnaryOperator;
 
 /**
@@ -96,6 +104,30 @@ public interface BiObjCharConsumer<T, U> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiObjCharConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * BiObjCharConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * consumer calls the given consumer, boxing its primitive arguments.
+     *
+     * @param <T> The type of the first argument to the consumer
+     * @param <U> The type of the second argument to the consumer
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code BiObjCharConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U> BiObjCharConsumer<T, U> unboxed(
+            @Nonnull TriConsumer<? super T, ? super U, ? super Character> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof BiObjCharConsumer) {
+            return (BiObjCharConsumer<T, U>) original;
+        }
+        return (t, u, value) -> consumer.accept(t, u, value);
+    }
+
     /**
      * Calls the given {@link BiObjCharConsumer} with the given arguments and returns its result.
      *
@@ -126,7 +158,25 @@ public interface BiObjCharConsumer<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjCharConsumer<T, U> onlyFirst(@Nonnull Consumer<? super T> consumer) {
         Objects.requireNonNull(consumer);
-        return (t, u, value) -> consumer.accept(t);
+        /**
+         * A {@code BiObjCharConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiObjCharConsumer<T, U> {
+
+            /**
+             * Creates a {@code BiObjCharConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(T t, U u, char value) {
+                consumer.accept(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -143,7 +193,25 @@ public interface BiObjCharConsumer<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjCharConsumer<T, U> onlySecond(@Nonnull Consumer<? super U> consumer) {
         Objects.requireNonNull(consumer);
-        return (t, u, value) -> consumer.accept(u);
+        /**
+         * A {@code BiObjCharConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiObjCharConsumer<T, U> {
+
+            /**
+             * Creates a {@code BiObjCharConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(T t, U u, char value) {
+                consumer.accept(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -160,7 +228,25 @@ public interface BiObjCharConsumer<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjCharConsumer<T, U> onlyThird(@Nonnull CharConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (t, u, value) -> consumer.accept(value);
+        /**
+         * A {@code BiObjCharConsumer} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements BiObjCharConsumer<T, U> {
+
+            /**
+             * Creates a {@code BiObjCharConsumer} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, consumer);
+            }
+
+            @Override
+            public void accept(T t, U u, char value) {
+                consumer.accept(value);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
@@ -231,6 +317,47 @@ public interface BiObjCharConsumer<T, U> extends Lambda {
         return u -> accept(t, u, value);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull char[] values3) {
+        acceptParallel(values1, values2, values3, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull char[] values3,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -471,7 +598,8 @@ public interface BiObjCharConsumer<T, U> extends Lambda {
      * Returns a composed {@link BiObjCharConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the
      * composed operation. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link BiObjCharConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -481,10 +609,30 @@ public interface BiObjCharConsumer<T, U> extends Lambda {
     @Nonnull
     default BiObjCharConsumer<T, U> andThen(@Nonnull BiObjCharConsumer<? super T, ? super U> after) {
         Objects.requireNonNull(after);
-        return (t, u, value) -> {
-            accept(t, u, value);
-            after.accept(t, u, value);
-        };
+        @SuppressWarnings("unchecked")
+        BiObjCharConsumer<? super T, ? super U>[] consumers = (BiObjCharConsumer<? super T, ? super U>[])
+                Composition.flatten(this, after, new BiObjCharConsumer<?, ?>[0]);
+        /**
+         * A {@code BiObjCharConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements BiObjCharConsumer<T, U> {
+
+            /**
+             * Creates the sequence of this {@code BiObjCharConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(T t, U u, char value) {
+                for (BiObjCharConsumer<? super T, ? super U> consumer : consumers) {
+                    consumer.accept(t, u, value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -506,6 +654,24 @@ public interface BiObjCharConsumer<T, U> extends Lambda {
      */
     @Nonnull
     default TriConsumer<T, U, Character> boxed() {
-        return this::accept;
+        /**
+         * A {@code TriConsumer} which applies this {@code BiObjCharConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriConsumer<T, U, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code BiObjCharConsumer}.
+             */
+            Boxed() {
+                super(BiObjCharConsumer.this);
+            }
+
+            @Override
+            public void accept(T t, U u, Character v) {
+                BiObjCharConsumer.this.accept(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -17,6 +17,7 @@
 package org.lambda4j.consumer.tri.obj;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
@@ -36,6 +37,11 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.consumer.DoubleConsumer2;
 import org.lambda4j.consumer.bi.BiConsumer2;
@@ -59,6 +65,8 @@ import org.lambda4j.function.conversion.ByteToDoubleFunction;
 import org.lambda4j.function.conversion.CharToDoubleFunction;
 import org.lambda4j.function.conversion.FloatToDoubleFunction;
 import org.lambda4j.function.conversion.ShortToDoubleFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 
 /**
  * Represents an operation that accepts two object-valued and one {@code double}-valued input argument and returns no
@@ -97,6 +105,30 @@ public interface BiObjDoubleConsumer<T, U> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiObjDoubleConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * BiObjDoubleConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * consumer calls the given consumer, boxing its primitive arguments.
+     *
+     * @param <T> The type of the first argument to the consumer
+     * @param <U> The type of the second argument to the consumer
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code BiObjDoubleConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U> BiObjDoubleConsumer<T, U> unboxed(
+            @Nonnull TriConsumer<? super T, ? super U, ? super Double> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof BiObjDoubleConsumer) {
+            return (BiObjDoubleConsumer<T, U>) original;
+        }
+        return (t, u, value) -> consumer.accept(t, u, value);
+    }
+
     /**
      * Calls the given {@link BiObjDoubleConsumer} with the given arguments and returns its result.
      *
@@ -127,7 +159,25 @@ public interface BiObjDoubleConsumer<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjDoubleConsumer<T, U> onlyFirst(@Nonnull Consumer<? super T> consumer) {
         Objects.requireNonNull(consumer);
-        return (t, u, value) -> consumer.accept(t);
+        /**
+         * A {@code BiObjDoubleConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiObjDoubleConsumer<T, U> {
+
+            /**
+             * Creates a {@code BiObjDoubleConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(T t, U u, double value) {
+                consumer.accept(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -144,7 +194,25 @@ public interface BiObjDoubleConsumer<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjDoubleConsumer<T, U> onlySecond(@Nonnull Consumer<? super U> consumer) {
         Objects.requireNonNull(consumer);
-        return (t, u, value) -> consumer.accept(u);
+        /**
+         * A {@code BiObjDoubleConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiObjDoubleConsumer<T, U> {
+
+            /**
+             * Creates a {@code BiObjDoubleConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(T t, U u, double value) {
+                consumer.accept(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -161,7 +229,25 @@ public interface BiObjDoubleConsumer<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjDoubleConsumer<T, U> onlyThird(@Nonnull DoubleConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (t, u, value) -> consumer.accept(value);
+        /**
+         * A {@code BiObjDoubleConsumer} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements BiObjDoubleConsumer<T, U> {
+
+            /**
+             * Creates a {@code BiObjDoubleConsumer} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, consumer);
+            }
+
+            @Override
+            public void accept(T t, U u, double value) {
+                consumer.accept(value);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
@@ -232,6 +318,47 @@ public interface BiObjDoubleConsumer<T, U> extends Lambda {
         return u -> accept(t, u, value);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull double[] values3) {
+        acceptParallel(values1, values2, values3, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull double[] values3,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -473,7 +600,8 @@ public interface BiObjDoubleConsumer<T, U> extends Lambda {
      * Returns a composed {@link BiObjDoubleConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the
      * composed operation. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link BiObjDoubleConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -483,10 +611,30 @@ public interface BiObjDoubleConsumer<T, U> extends Lambda {
     @Nonnull
     default BiObjDoubleConsumer<T, U> andThen(@Nonnull BiObjDoubleConsumer<? super T, ? super U> after) {
         Objects.requireNonNull(after);
-        return (t, u, value) -> {
-            accept(t, u, value);
-            after.accept(t, u, value);
-        };
+        @SuppressWarnings("unchecked")
+        BiObjDoubleConsumer<? super T, ? super U>[] consumers = (BiObjDoubleConsumer<? super T, ? super U>[])
+                Composition.flatten(this, after, new BiObjDoubleConsumer<?, ?>[0]);
+        /**
+         * A {@code BiObjDoubleConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements BiObjDoubleConsumer<T, U> {
+
+            /**
+             * Creates the sequence of this {@code BiObjDoubleConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(T t, U u, double value) {
+                for (BiObjDoubleConsumer<? super T, ? super U> consumer : consumers) {
+                    consumer.accept(t, u, value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -508,6 +656,24 @@ public interface BiObjDoubleConsumer<T, U> extends Lambda {
      */
     @Nonnull
     default TriConsumer<T, U, Double> boxed() {
-        return this::accept;
+        /**
+         * A {@code TriConsumer} which applies this {@code BiObjDoubleConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriConsumer<T, U, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code BiObjDoubleConsumer}.
+             */
+            Boxed() {
+                super(BiObjDoubleConsumer.this);
+            }
+
+            @Override
+            public void accept(T t, U u, Double v) {
+                BiObjDoubleConsumer.this.accept(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
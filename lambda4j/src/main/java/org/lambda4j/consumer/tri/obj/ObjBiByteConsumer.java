@@ -17,6 +17,7 @@
 package org.lambda4j.consumer.tri.obj;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
@@ -29,6 +30,11 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.ByteConsumer;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.consumer.bi.BiByteConsumer;
@@ -55,6 +61,8 @@ import org.lambda4j.function.conversion.IntToByteFunction;
 import org.lambda4j.function.conversion.LongToByteFunction;
 import org.lambda4j.function.conversion.ShortToByteFunction;
 import org.lambda4j.function.to.ToByteFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
 
 /**
@@ -92,6 +100,28 @@ public interface ObjBiByteConsumer<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjBiByteConsumer} which represents the given boxed consumer, so that it can be used with the
+     * primitive methods of this library. If the given consumer has been returned by {@link #boxed()}, the {@code
+     * ObjBiByteConsumer} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * consumer calls the given consumer, boxing its primitive arguments.
+     *
+     * @param <T> The type of the first argument to the consumer
+     * @param consumer The boxed consumer to be represented
+     * @return A {@code ObjBiByteConsumer} which represents the given boxed consumer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjBiByteConsumer<T> unboxed(@Nonnull TriConsumer<? super T, ? super Byte, ? super Byte> consumer) {
+        Objects.requireNonNull(consumer);
+        Object original = Composition.getOriginal(consumer, Kind.BOXING);
+        if (original instanceof ObjBiByteConsumer) {
+            return (ObjBiByteConsumer<T>) original;
+        }
+        return (t, value1, value2) -> consumer.accept(t, value1, value2);
+    }
+
     /**
      * Calls the given {@link ObjBiByteConsumer} with the given arguments and returns its result.
      *
@@ -120,7 +150,25 @@ public interface ObjBiByteConsumer<T> extends Lambda {
     @Nonnull
     static <T> ObjBiByteConsumer<T> onlyFirst(@Nonnull Consumer<? super T> consumer) {
         Objects.requireNonNull(consumer);
-        return (t, value1, value2) -> consumer.accept(t);
+        /**
+         * A {@code ObjBiByteConsumer} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjBiByteConsumer<T> {
+
+            /**
+             * Creates a {@code ObjBiByteConsumer} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, consumer);
+            }
+
+            @Override
+            public void accept(T t, byte value1, byte value2) {
+                consumer.accept(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -136,7 +184,25 @@ public interface ObjBiByteConsumer<T> extends Lambda {
     @Nonnull
     static <T> ObjBiByteConsumer<T> onlySecond(@Nonnull ByteConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (t, value1, value2) -> consumer.accept(value1);
+        /**
+         * A {@code ObjBiByteConsumer} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjBiByteConsumer<T> {
+
+            /**
+             * Creates a {@code ObjBiByteConsumer} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, consumer);
+            }
+
+            @Override
+            public void accept(T t, byte value1, byte value2) {
+                consumer.accept(value1);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -152,7 +218,25 @@ public interface ObjBiByteConsumer<T> extends Lambda {
     @Nonnull
     static <T> ObjBiByteConsumer<T> onlyThird(@Nonnull ByteConsumer consumer) {
         Objects.requireNonNull(consumer);
-        return (t, value1, value2) -> consumer.accept(value2);
+        /**
+         * A {@code ObjBiByteConsumer} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements ObjBiByteConsumer<T> {
+
+            /**
+             * Creates a {@code ObjBiByteConsumer} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, consumer);
+            }
+
+            @Override
+            public void accept(T t, byte value1, byte value2) {
+                consumer.accept(value2);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
@@ -210,6 +294,47 @@ public interface ObjBiByteConsumer<T> extends Lambda {
         return t -> accept(t, value1, value2);
     }
 
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     * @see Parallelism#common()
+     */
+    default void acceptParallel(@Nonnull T[] values1, @Nonnull byte[] values2, @Nonnull byte[] values3) {
+        acceptParallel(values1, values2, values3, Parallelism.common());
+    }
+
+    /**
+     * Applies this consumer to the elements at each index of each array in parallel. Each array has to hold at least as
+     * many elements as the first one. This consumer is applied concurrently by several threads, in no particular order,
+     * so it has to be thread-safe. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the consumer
+     * @param values2 The array of second arguments to the consumer
+     * @param values3 The array of third arguments to the consumer
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given arrays is shorter than the first one
+     */
+    default void acceptParallel(@Nonnull T[] values1, @Nonnull byte[] values2, @Nonnull byte[] values3,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        parallelism.forRange(0, values1.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                accept(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this consumer.
      *
@@ -450,7 +575,8 @@ public interface ObjBiByteConsumer<T> extends Lambda {
      * Returns a composed {@link ObjBiByteConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer. If evaluation of either operation throws an exception, it is relayed to the caller of the
      * composed operation. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ObjBiByteConsumer} that performs, in sequence, this consumer followed by the {@code
@@ -460,10 +586,30 @@ public interface ObjBiByteConsumer<T> extends Lambda {
     @Nonnull
     default ObjBiByteConsumer<T> andThen(@Nonnull ObjBiByteConsumer<? super T> after) {
         Objects.requireNonNull(after);
-        return (t, value1, value2) -> {
-            accept(t, value1, value2);
-            after.accept(t, value1, value2);
-        };
+        @SuppressWarnings("unchecked")
+        ObjBiByteConsumer<? super T>[] consumers =
+                (ObjBiByteConsumer<? super T>[]) Composition.flatten(this, after, new ObjBiByteConsumer<?>[0]);
+        /**
+         * A {@code ObjBiByteConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ObjBiByteConsumer<T> {
+
+            /**
+             * Creates the sequence of this {@code ObjBiByteConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void accept(T t, byte value1, byte value2) {
+                for (ObjBiByteConsumer<? super T> consumer : consumers) {
+                    consumer.accept(t, value1, value2);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -475,6 +621,24 @@ public interface ObjBiByteConsumer<T> extends Lambda {
      */
     @Nonnull
     default TriConsumer<T, Byte, Byte> boxed() {
-        return this::accept;
+        /**
+         * A {@code TriConsumer} which applies this {@code ObjBiByteConsumer} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriConsumer<T, Byte, Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjBiByteConsumer}.
+             */
+            Boxed() {
+                super(ObjBiByteConsumer.this);
+            }
+
+            @Override
+            public void accept(T t, Byte u, Byte v) {
+                ObjBiByteConsumer.this.accept(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
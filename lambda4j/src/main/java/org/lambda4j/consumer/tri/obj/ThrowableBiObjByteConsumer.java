@@ -27,6 +27,8 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableByteConsumer;
 import org.lambda4j.consumer.ThrowableConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiConsumer;
@@ -500,7 +502,8 @@ public interface ThrowableBiObjByteConsumer<T, U, X extends Throwable> extends L
     /**
      * Returns a composed {@link ThrowableBiObjByteConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableBiObjByteConsumer} that performs, in sequence, this consumer followed by the
@@ -511,10 +514,31 @@ public interface ThrowableBiObjByteConsumer<T, U, X extends Throwable> extends L
     default ThrowableBiObjByteConsumer<T, U, X> andThen(
             @Nonnull ThrowableBiObjByteConsumer<? super T, ? super U, ? extends X> after) {
         Objects.requireNonNull(after);
-        return (t, u, value) -> {
-            acceptThrows(t, u, value);
-            after.acceptThrows(t, u, value);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableBiObjByteConsumer<? super T, ? super U, ? extends X>[] consumers =
+                (ThrowableBiObjByteConsumer<? super T, ? super U, ? extends X>[])
+                        Composition.flatten(this, after, new ThrowableBiObjByteConsumer<?, ?, ?>[0]);
+        /**
+         * A {@code ThrowableBiObjByteConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableBiObjByteConsumer<T, U, X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableBiObjByteConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(T t, U u, byte value) throws X {
+                for (ThrowableBiObjByteConsumer<? super T, ? super U, ? extends X> consumer : consumers) {
+                    consumer.acceptThrows(t, u, value);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableBooleanConsumer;
 import org.lambda4j.consumer.ThrowableConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiBooleanConsumer;
@@ -479,7 +481,8 @@ public interface ThrowableObjBiBooleanConsumer<T, X extends Throwable> extends L
     /**
      * Returns a composed {@link ThrowableObjBiBooleanConsumer} that performs, in sequence, this consumer followed by
      * the {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not
-     * be performed.
+     * be performed. If either of them is such a composed consumer itself, the performed operations are taken over, so
+     * that a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableObjBiBooleanConsumer} that performs, in sequence, this consumer followed by
@@ -490,10 +493,32 @@ public interface ThrowableObjBiBooleanConsumer<T, X extends Throwable> extends L
     default ThrowableObjBiBooleanConsumer<T, X> andThen(
             @Nonnull ThrowableObjBiBooleanConsumer<? super T, ? extends X> after) {
         Objects.requireNonNull(after);
-        return (t, value1, value2) -> {
-            acceptThrows(t, value1, value2);
-            after.acceptThrows(t, value1, value2);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableObjBiBooleanConsumer<? super T, ? extends X>[] consumers =
+                (ThrowableObjBiBooleanConsumer<? super T, ? extends X>[])
+                        Composition.flatten(this, after, new ThrowableObjBiBooleanConsumer<?, ?>[0]);
+        /**
+         * A {@code ThrowableObjBiBooleanConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableObjBiBooleanConsumer<T, X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableObjBiBooleanConsumer} followed by the {@code after}
+             * consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(T t, boolean value1, boolean value2) throws X {
+                for (ThrowableObjBiBooleanConsumer<? super T, ? extends X> consumer : consumers) {
+                    consumer.acceptThrows(t, value1, value2);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
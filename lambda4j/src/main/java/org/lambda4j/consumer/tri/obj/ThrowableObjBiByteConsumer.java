@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableByteConsumer;
 import org.lambda4j.consumer.ThrowableConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiByteConsumer;
@@ -479,7 +481,8 @@ public interface ThrowableObjBiByteConsumer<T, X extends Throwable> extends Lamb
     /**
      * Returns a composed {@link ThrowableObjBiByteConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableObjBiByteConsumer} that performs, in sequence, this consumer followed by the
@@ -490,10 +493,31 @@ public interface ThrowableObjBiByteConsumer<T, X extends Throwable> extends Lamb
     default ThrowableObjBiByteConsumer<T, X> andThen(
             @Nonnull ThrowableObjBiByteConsumer<? super T, ? extends X> after) {
         Objects.requireNonNull(after);
-        return (t, value1, value2) -> {
-            acceptThrows(t, value1, value2);
-            after.acceptThrows(t, value1, value2);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableObjBiByteConsumer<? super T, ? extends X>[] consumers =
+                (ThrowableObjBiByteConsumer<? super T, ? extends X>[])
+                        Composition.flatten(this, after, new ThrowableObjBiByteConsumer<?, ?>[0]);
+        /**
+         * A {@code ThrowableObjBiByteConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableObjBiByteConsumer<T, X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableObjBiByteConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(T t, byte value1, byte value2) throws X {
+                for (ThrowableObjBiByteConsumer<? super T, ? extends X> consumer : consumers) {
+                    consumer.acceptThrows(t, value1, value2);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
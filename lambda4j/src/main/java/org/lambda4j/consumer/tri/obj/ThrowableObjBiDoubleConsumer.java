@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableConsumer;
 import org.lambda4j.consumer.ThrowableDoubleConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiDoubleConsumer;
@@ -487,7 +489,8 @@ public interface ThrowableObjBiDoubleConsumer<T, X extends Throwable> extends La
     /**
      * Returns a composed {@link ThrowableObjBiDoubleConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableObjBiDoubleConsumer} that performs, in sequence, this consumer followed by the
@@ -498,10 +501,31 @@ public interface ThrowableObjBiDoubleConsumer<T, X extends Throwable> extends La
     default ThrowableObjBiDoubleConsumer<T, X> andThen(
             @Nonnull ThrowableObjBiDoubleConsumer<? super T, ? extends X> after) {
         Objects.requireNonNull(after);
-        return (t, value1, value2) -> {
-            acceptThrows(t, value1, value2);
-            after.acceptThrows(t, value1, value2);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableObjBiDoubleConsumer<? super T, ? extends X>[] consumers =
+                (ThrowableObjBiDoubleConsumer<? super T, ? extends X>[])
+                        Composition.flatten(this, after, new ThrowableObjBiDoubleConsumer<?, ?>[0]);
+        /**
+         * A {@code ThrowableObjBiDoubleConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableObjBiDoubleConsumer<T, X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableObjBiDoubleConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(T t, double value1, double value2) throws X {
+                for (ThrowableObjBiDoubleConsumer<? super T, ? extends X> consumer : consumers) {
+                    consumer.acceptThrows(t, value1, value2);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
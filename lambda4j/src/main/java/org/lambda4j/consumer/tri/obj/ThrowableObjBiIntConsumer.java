@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.consumer.ThrowableConsumer;
 import org.lambda4j.consumer.ThrowableIntConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiIntConsumer;
@@ -478,7 +480,8 @@ public interface ThrowableObjBiIntConsumer<T, X extends Throwable> extends Lambd
     /**
      * Returns a composed {@link ThrowableObjBiIntConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer. If performing this consumer throws an exception, the {@code after} consumer will not be
-     * performed.
+     * performed. If either of them is such a composed consumer itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The consumer to apply after this consumer is applied
      * @return A composed {@link ThrowableObjBiIntConsumer} that performs, in sequence, this consumer followed by the
@@ -489,10 +492,31 @@ public interface ThrowableObjBiIntConsumer<T, X extends Throwable> extends Lambd
     default ThrowableObjBiIntConsumer<T, X> andThen(
             @Nonnull ThrowableObjBiIntConsumer<? super T, ? extends X> after) {
         Objects.requireNonNull(after);
-        return (t, value1, value2) -> {
-            acceptThrows(t, value1, value2);
-            after.acceptThrows(t, value1, value2);
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableObjBiIntConsumer<? super T, ? extends X>[] consumers =
+                (ThrowableObjBiIntConsumer<? super T, ? extends X>[])
+                        Composition.flatten(this, after, new ThrowableObjBiIntConsumer<?, ?>[0]);
+        /**
+         * A {@code ThrowableObjBiIntConsumer} which performs a sequence of consumers in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableObjBiIntConsumer<T, X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableObjBiIntConsumer} followed by the {@code after} consumer.
+             */
+            Sequence() {
+                super(consumers);
+            }
+
+            @Override
+            public void acceptThrows(T t, int value1, int value2) throws X {
+                for (ThrowableObjBiIntConsumer<? super T, ? extends X> consumer : consumers) {
+                    consumer.acceptThrows(t, value1, value2);
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
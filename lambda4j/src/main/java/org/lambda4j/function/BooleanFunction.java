@@ -16,10 +16,9 @@
 
 package org.lambda4j.function;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -36,6 +35,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.function.conversion.BooleanToByteFunction;
 import org.lambda4j.function.conversion.BooleanToCharFunction;
@@ -48,6 +51,11 @@ import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.to.ToCharFunction;
 import org.lambda4j.function.to.ToFloatFunction;
 import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
@@ -87,6 +95,28 @@ public interface BooleanFunction<R> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BooleanFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BooleanFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given function, boxing its primitive arguments.
+     *
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code BooleanFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R> BooleanFunction<R> unboxed(@Nonnull Function<? super Boolean, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BooleanFunction) {
+            return (BooleanFunction<R>) original;
+        }
+        return value -> function.apply(value);
+    }
+
     /**
      * Lifts a partial {@link BooleanFunction} into a total {@link BooleanFunction} that returns an {@link Optional}
      * result.
@@ -118,7 +148,9 @@ public interface BooleanFunction<R> extends Lambda {
     }
 
     /**
-     * Creates a {@link BooleanFunction} which always returns a given value.
+     * Creates a {@link BooleanFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <R> The type of return value from the function
      * @param ret The return value for the constant
@@ -126,7 +158,25 @@ public interface BooleanFunction<R> extends Lambda {
      */
     @Nonnull
     static <R> BooleanFunction<R> constant(R ret) {
-        return value -> ret;
+        /**
+         * A {@code BooleanFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BooleanFunction<R> {
+
+            /**
+             * Creates a constant {@code BooleanFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(boolean value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -137,6 +187,43 @@ public interface BooleanFunction<R> extends Lambda {
      */
     R apply(boolean value);
 
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull boolean[] values, @Nonnull R[] results) {
+        applyParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull boolean[] values, @Nonnull R[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -182,6 +269,9 @@ public interface BooleanFunction<R> extends Lambda {
     @Nonnull
     default BooleanFunction<R> composeFromBoolean(@Nonnull BooleanUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> apply(before.applyAsBoolean(value));
     }
 
@@ -329,10 +419,15 @@ public interface BooleanFunction<R> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BooleanFunction<S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanFunction.constant(after.apply(apply(false)));
+        }
         return value -> after.apply(apply(value));
     }
 
@@ -348,10 +443,15 @@ public interface BooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanUnaryOperator andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanUnaryOperator.constant(after.test(apply(false)));
+        }
         return value -> after.test(apply(value));
     }
 
@@ -367,10 +467,15 @@ public interface BooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToByteFunction andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToByteFunction.constant(after.applyAsByte(apply(false)));
+        }
         return value -> after.applyAsByte(apply(value));
     }
 
@@ -386,10 +491,15 @@ public interface BooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToCharFunction andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToCharFunction.constant(after.applyAsChar(apply(false)));
+        }
         return value -> after.applyAsChar(apply(value));
     }
 
@@ -405,10 +515,15 @@ public interface BooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToDoubleFunction andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToDoubleFunction.constant(after.applyAsDouble(apply(false)));
+        }
         return value -> after.applyAsDouble(apply(value));
     }
 
@@ -424,10 +539,15 @@ public interface BooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToFloatFunction andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToFloatFunction.constant(after.applyAsFloat(apply(false)));
+        }
         return value -> after.applyAsFloat(apply(value));
     }
 
@@ -443,10 +563,15 @@ public interface BooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToIntFunction andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToIntFunction.constant(after.applyAsInt(apply(false)));
+        }
         return value -> after.applyAsInt(apply(value));
     }
 
@@ -462,10 +587,15 @@ public interface BooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToLongFunction andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToLongFunction.constant(after.applyAsLong(apply(false)));
+        }
         return value -> after.applyAsLong(apply(value));
     }
 
@@ -481,10 +611,15 @@ public interface BooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToShortFunction andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToShortFunction.constant(after.applyAsShort(apply(false)));
+        }
         return value -> after.applyAsShort(apply(value));
     }
 
@@ -543,13 +678,110 @@ public interface BooleanFunction<R> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Boolean, R> cache = new ConcurrentHashMap<>();
-            return (BooleanFunction<R> & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::apply);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BooleanFunction}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BooleanFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BooleanFunction<R> memoized(@Nonnull MemoStore<Boolean, R> store) {
+        Objects.requireNonNull(store);
+        return (BooleanFunction<R> & Memoized) value -> {
+            return store.computeIfAbsent(value, this::apply);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BooleanFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BooleanFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BooleanFunction<R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BooleanFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BooleanFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BooleanFunction<R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Boolean, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BooleanFunction<R> & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::apply);
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link BooleanFunction}, which applies this function once to each of the 2
+     * possible input arguments in advance, and afterwards answers every call by a lookup in a table of 2 results
+     * holding the results. In contrast to {@link #memoized()}, no values are computed or cached on demand, so the
+     * returned function neither synchronizes nor allocates.
+     * <p>
+     * This function has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code BooleanFunction}.
+     * @implSpec If this function is already compiled, it is returned itself. Any exception thrown by this function
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned function is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default BooleanFunction<R> compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        @SuppressWarnings("unchecked")
+        R[] table = (R[]) new Object[2];
+        for (int i = 0; i < 2; i++) {
+            table[i] = apply((i & 1) != 0);
+        }
+        return (BooleanFunction<R> & Memoized & Compiled) value -> table[value ? 1 : 0];
+    }
+
     /**
      * Returns a composed {@link Function2} which represents this {@link BooleanFunction}. Thereby the primitive input
      * argument for this function is autoboxed. This method provides the possibility to use this {@code BooleanFunction}
@@ -559,6 +791,24 @@ public interface BooleanFunction<R> extends Lambda {
      */
     @Nonnull
     default Function2<Boolean, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code Function2} which applies this {@code BooleanFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Function2<Boolean, R> {
+
+            /**
+             * Creates the boxed variant of this {@code BooleanFunction}.
+             */
+            Boxed() {
+                super(BooleanFunction.this);
+            }
+
+            @Override
+            public R apply(Boolean t) {
+                return BooleanFunction.this.apply(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
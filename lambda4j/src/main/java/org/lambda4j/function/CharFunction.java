@@ -16,10 +16,9 @@
 
 package org.lambda4j.function;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -33,6 +32,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.function.conversion.BooleanToCharFunction;
 import org.lambda4j.function.conversion.ByteToCharFunction;
@@ -51,6 +54,11 @@ import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.to.ToCharFunction;
 import org.lambda4j.function.to.ToFloatFunction;
 import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.CharUnaryOperator;
 import org.lambda4j.predicate.CharPredicate;
 
@@ -87,6 +95,28 @@ public interface CharFunction<R> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link CharFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * CharFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given function, boxing its primitive arguments.
+     *
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code CharFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R> CharFunction<R> unboxed(@Nonnull Function<? super Character, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof CharFunction) {
+            return (CharFunction<R>) original;
+        }
+        return value -> function.apply(value);
+    }
+
     /**
      * Lifts a partial {@link CharFunction} into a total {@link CharFunction} that returns an {@link Optional} result.
      *
@@ -117,7 +147,8 @@ public interface CharFunction<R> extends Lambda {
     }
 
     /**
-     * Creates a {@link CharFunction} which always returns a given value.
+     * Creates a {@link CharFunction} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <R> The type of return value from the function
      * @param ret The return value for the constant
@@ -125,7 +156,25 @@ public interface CharFunction<R> extends Lambda {
      */
     @Nonnull
     static <R> CharFunction<R> constant(R ret) {
-        return value -> ret;
+        /**
+         * A {@code CharFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements CharFunction<R> {
+
+            /**
+             * Creates a constant {@code CharFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(char value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -136,6 +185,43 @@ public interface CharFunction<R> extends Lambda {
      */
     R apply(char value);
 
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull char[] values, @Nonnull R[] results) {
+        applyParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull char[] values, @Nonnull R[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -219,6 +305,9 @@ public interface CharFunction<R> extends Lambda {
     @Nonnull
     default CharFunction<R> composeFromChar(@Nonnull CharUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> apply(before.applyAsChar(value));
     }
 
@@ -328,10 +417,15 @@ public interface CharFunction<R> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> CharFunction<S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharFunction.constant(after.apply(apply('\0')));
+        }
         return value -> after.apply(apply(value));
     }
 
@@ -347,10 +441,15 @@ public interface CharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharPredicate andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharPredicate.constant(after.test(apply('\0')));
+        }
         return value -> after.test(apply(value));
     }
 
@@ -366,10 +465,15 @@ public interface CharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToByteFunction andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharToByteFunction.constant(after.applyAsByte(apply('\0')));
+        }
         return value -> after.applyAsByte(apply(value));
     }
 
@@ -385,10 +489,15 @@ public interface CharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharUnaryOperator andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharUnaryOperator.constant(after.applyAsChar(apply('\0')));
+        }
         return value -> after.applyAsChar(apply(value));
     }
 
@@ -404,10 +513,15 @@ public interface CharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToDoubleFunction andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharToDoubleFunction.constant(after.applyAsDouble(apply('\0')));
+        }
         return value -> after.applyAsDouble(apply(value));
     }
 
@@ -423,10 +537,15 @@ public interface CharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToFloatFunction andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharToFloatFunction.constant(after.applyAsFloat(apply('\0')));
+        }
         return value -> after.applyAsFloat(apply(value));
     }
 
@@ -442,10 +561,15 @@ public interface CharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToIntFunction andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharToIntFunction.constant(after.applyAsInt(apply('\0')));
+        }
         return value -> after.applyAsInt(apply(value));
     }
 
@@ -461,10 +585,15 @@ public interface CharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToLongFunction andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharToLongFunction.constant(after.applyAsLong(apply('\0')));
+        }
         return value -> after.applyAsLong(apply(value));
     }
 
@@ -480,10 +609,15 @@ public interface CharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToShortFunction andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharToShortFunction.constant(after.applyAsShort(apply('\0')));
+        }
         return value -> after.applyAsShort(apply(value));
     }
 
@@ -542,13 +676,82 @@ public interface CharFunction<R> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Character, R> cache = new ConcurrentHashMap<>();
-            return (CharFunction<R> & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::apply);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link CharFunction}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code CharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default CharFunction<R> memoized(@Nonnull MemoStore<Character, R> store) {
+        Objects.requireNonNull(store);
+        return (CharFunction<R> & Memoized) value -> {
+            return store.computeIfAbsent(value, this::apply);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link CharFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code CharFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default CharFunction<R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link CharFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code CharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default CharFunction<R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Character, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (CharFunction<R> & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::apply);
+        };
+    }
+
     /**
      * Returns a composed {@link Function2} which represents this {@link CharFunction}. Thereby the primitive input
      * argument for this function is autoboxed. This method provides the possibility to use this {@code CharFunction}
@@ -558,6 +761,24 @@ public interface CharFunction<R> extends Lambda {
      */
     @Nonnull
     default Function2<Character, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code Function2} which applies this {@code CharFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Function2<Character, R> {
+
+            /**
+             * Creates the boxed variant of this {@code CharFunction}.
+             */
+            Boxed() {
+                super(CharFunction.this);
+            }
+
+            @Override
+            public R apply(Character t) {
+                return CharFunction.this.apply(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,10 +16,9 @@
 
 package org.lambda4j.function;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoubleUnaryOperator;
@@ -37,6 +36,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.DoubleConsumer2;
 import org.lambda4j.function.conversion.BooleanToDoubleFunction;
 import org.lambda4j.function.conversion.ByteToDoubleFunction;
@@ -53,6 +56,11 @@ import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.to.ToCharFunction;
 import org.lambda4j.function.to.ToFloatFunction;
 import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.DoubleUnaryOperator2;
 import org.lambda4j.predicate.DoublePredicate2;
 
@@ -90,6 +98,28 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
         return expression;
     }
 
+    /**
+     * Returns a {@link DoubleFunction2} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * DoubleFunction2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given function, boxing its primitive arguments.
+     *
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code DoubleFunction2} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R> DoubleFunction2<R> unboxed(@Nonnull Function<? super Double, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof DoubleFunction2) {
+            return (DoubleFunction2<R>) original;
+        }
+        return value -> function.apply(value);
+    }
+
     /**
      * Lifts a partial {@link DoubleFunction} into a total {@link DoubleFunction2} that returns an {@link Optional}
      * result.
@@ -121,7 +151,9 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
     }
 
     /**
-     * Creates a {@link DoubleFunction2} which always returns a given value.
+     * Creates a {@link DoubleFunction2} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <R> The type of return value from the function
      * @param ret The return value for the constant
@@ -129,7 +161,25 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
      */
     @Nonnull
     static <R> DoubleFunction2<R> constant(R ret) {
-        return value -> ret;
+        /**
+         * A {@code DoubleFunction2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements DoubleFunction2<R> {
+
+            /**
+             * Creates a constant {@code DoubleFunction2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(double value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -141,6 +191,43 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
     @Override
     R apply(double value);
 
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull double[] values, @Nonnull R[] results) {
+        applyParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull double[] values, @Nonnull R[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -243,6 +330,9 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
     @Nonnull
     default DoubleFunction2<R> composeFromDouble(@Nonnull DoubleUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> apply(before.applyAsDouble(value));
     }
 
@@ -333,10 +423,15 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> DoubleFunction2<S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleFunction2.constant(after.apply(apply(0d)));
+        }
         return value -> after.apply(apply(value));
     }
 
@@ -352,10 +447,15 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoublePredicate2 andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoublePredicate2.constant(after.test(apply(0d)));
+        }
         return value -> after.test(apply(value));
     }
 
@@ -371,10 +471,15 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToByteFunction andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleToByteFunction.constant(after.applyAsByte(apply(0d)));
+        }
         return value -> after.applyAsByte(apply(value));
     }
 
@@ -390,10 +495,15 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToCharFunction andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleToCharFunction.constant(after.applyAsChar(apply(0d)));
+        }
         return value -> after.applyAsChar(apply(value));
     }
 
@@ -409,10 +519,15 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleUnaryOperator2 andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleUnaryOperator2.constant(after.applyAsDouble(apply(0d)));
+        }
         return value -> after.applyAsDouble(apply(value));
     }
 
@@ -428,10 +543,15 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToFloatFunction andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleToFloatFunction.constant(after.applyAsFloat(apply(0d)));
+        }
         return value -> after.applyAsFloat(apply(value));
     }
 
@@ -447,10 +567,15 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToIntFunction2 andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleToIntFunction2.constant(after.applyAsInt(apply(0d)));
+        }
         return value -> after.applyAsInt(apply(value));
     }
 
@@ -466,10 +591,15 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToLongFunction2 andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleToLongFunction2.constant(after.applyAsLong(apply(0d)));
+        }
         return value -> after.applyAsLong(apply(value));
     }
 
@@ -485,10 +615,15 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToShortFunction andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleToShortFunction.constant(after.applyAsShort(apply(0d)));
+        }
         return value -> after.applyAsShort(apply(value));
     }
 
@@ -547,13 +682,82 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Double, R> cache = new ConcurrentHashMap<>();
-            return (DoubleFunction2<R> & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::apply);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link DoubleFunction2}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code DoubleFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default DoubleFunction2<R> memoized(@Nonnull MemoStore<Double, R> store) {
+        Objects.requireNonNull(store);
+        return (DoubleFunction2<R> & Memoized) value -> {
+            return store.computeIfAbsent(value, this::apply);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link DoubleFunction2}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code DoubleFunction2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default DoubleFunction2<R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link DoubleFunction2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code DoubleFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default DoubleFunction2<R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Double, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (DoubleFunction2<R> & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::apply);
+        };
+    }
+
     /**
      * Returns a composed {@link Function2} which represents this {@link DoubleFunction2}. Thereby the primitive input
      * argument for this function is autoboxed. This method provides the possibility to use this {@code DoubleFunction2}
@@ -563,6 +767,24 @@ public interface DoubleFunction2<R> extends Lambda, DoubleFunction<R> {
      */
     @Nonnull
     default Function2<Double, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code Function2} which applies this {@code DoubleFunction2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Function2<Double, R> {
+
+            /**
+             * Creates the boxed variant of this {@code DoubleFunction2}.
+             */
+            Boxed() {
+                super(DoubleFunction2.this);
+            }
+
+            @Override
+            public R apply(Double t) {
+                return DoubleFunction2.this.apply(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,10 +16,9 @@
 
 package org.lambda4j.function;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -33,6 +32,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.FloatConsumer;
 import org.lambda4j.function.conversion.BooleanToFloatFunction;
 import org.lambda4j.function.conversion.ByteToFloatFunction;
@@ -51,6 +54,11 @@ import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.to.ToCharFunction;
 import org.lambda4j.function.to.ToFloatFunction;
 import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
 import org.lambda4j.predicate.FloatPredicate;
 
@@ -87,6 +95,28 @@ public interface FloatFunction<R> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link FloatFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * FloatFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given function, boxing its primitive arguments.
+     *
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code FloatFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R> FloatFunction<R> unboxed(@Nonnull Function<? super Float, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof FloatFunction) {
+            return (FloatFunction<R>) original;
+        }
+        return value -> function.apply(value);
+    }
+
     /**
      * Lifts a partial {@link FloatFunction} into a total {@link FloatFunction} that returns an {@link Optional}
      * result.
@@ -118,7 +148,8 @@ public interface FloatFunction<R> extends Lambda {
     }
 
     /**
-     * Creates a {@link FloatFunction} which always returns a given value.
+     * Creates a {@link FloatFunction} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <R> The type of return value from the function
      * @param ret The return value for the constant
@@ -126,7 +157,25 @@ public interface FloatFunction<R> extends Lambda {
      */
     @Nonnull
     static <R> FloatFunction<R> constant(R ret) {
-        return value -> ret;
+        /**
+         * A {@code FloatFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements FloatFunction<R> {
+
+            /**
+             * Creates a constant {@code FloatFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(float value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -137,6 +186,43 @@ public interface FloatFunction<R> extends Lambda {
      */
     R apply(float value);
 
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull float[] values, @Nonnull R[] results) {
+        applyParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull float[] values, @Nonnull R[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -258,6 +344,9 @@ public interface FloatFunction<R> extends Lambda {
     @Nonnull
     default FloatFunction<R> composeFromFloat(@Nonnull FloatUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> apply(before.applyAsFloat(value));
     }
 
@@ -329,10 +418,15 @@ public interface FloatFunction<R> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> FloatFunction<S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatFunction.constant(after.apply(apply(0f)));
+        }
         return value -> after.apply(apply(value));
     }
 
@@ -348,10 +442,15 @@ public interface FloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatPredicate andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatPredicate.constant(after.test(apply(0f)));
+        }
         return value -> after.test(apply(value));
     }
 
@@ -367,10 +466,15 @@ public interface FloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatToByteFunction andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatToByteFunction.constant(after.applyAsByte(apply(0f)));
+        }
         return value -> after.applyAsByte(apply(value));
     }
 
@@ -386,10 +490,15 @@ public interface FloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatToCharFunction andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatToCharFunction.constant(after.applyAsChar(apply(0f)));
+        }
         return value -> after.applyAsChar(apply(value));
     }
 
@@ -405,10 +514,15 @@ public interface FloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatToDoubleFunction andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatToDoubleFunction.constant(after.applyAsDouble(apply(0f)));
+        }
         return value -> after.applyAsDouble(apply(value));
     }
 
@@ -424,10 +538,15 @@ public interface FloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatUnaryOperator andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatUnaryOperator.constant(after.applyAsFloat(apply(0f)));
+        }
         return value -> after.applyAsFloat(apply(value));
     }
 
@@ -443,10 +562,15 @@ public interface FloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatToIntFunction andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatToIntFunction.constant(after.applyAsInt(apply(0f)));
+        }
         return value -> after.applyAsInt(apply(value));
     }
 
@@ -462,10 +586,15 @@ public interface FloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatToLongFunction andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatToLongFunction.constant(after.applyAsLong(apply(0f)));
+        }
         return value -> after.applyAsLong(apply(value));
     }
 
@@ -481,10 +610,15 @@ public interface FloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatToShortFunction andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatToShortFunction.constant(after.applyAsShort(apply(0f)));
+        }
         return value -> after.applyAsShort(apply(value));
     }
 
@@ -543,13 +677,82 @@ public interface FloatFunction<R> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Float, R> cache = new ConcurrentHashMap<>();
-            return (FloatFunction<R> & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::apply);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link FloatFunction}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code FloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default FloatFunction<R> memoized(@Nonnull MemoStore<Float, R> store) {
+        Objects.requireNonNull(store);
+        return (FloatFunction<R> & Memoized) value -> {
+            return store.computeIfAbsent(value, this::apply);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link FloatFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code FloatFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default FloatFunction<R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link FloatFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code FloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default FloatFunction<R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Float, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (FloatFunction<R> & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::apply);
+        };
+    }
+
     /**
      * Returns a composed {@link Function2} which represents this {@link FloatFunction}. Thereby the primitive input
      * argument for this function is autoboxed. This method provides the possibility to use this {@code FloatFunction}
@@ -559,6 +762,24 @@ public interface FloatFunction<R> extends Lambda {
      */
     @Nonnull
     default Function2<Float, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code Function2} which applies this {@code FloatFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Function2<Float, R> {
+
+            /**
+             * Creates the boxed variant of this {@code FloatFunction}.
+             */
+            Boxed() {
+                super(FloatFunction.this);
+            }
+
+            @Override
+            public R apply(Float t) {
+                return FloatFunction.this.apply(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,10 +16,9 @@
 
 package org.lambda4j.function;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
@@ -36,6 +35,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.BoxingUtils;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.to.ToCharFunction;
@@ -44,6 +47,12 @@ import org.lambda4j.function.to.ToFloatFunction;
 import org.lambda4j.function.to.ToIntFunction2;
 import org.lambda4j.function.to.ToLongFunction2;
 import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
+import org.lambda4j.memoization.WarmUp;
 import org.lambda4j.predicate.Predicate2;
 
 /**
@@ -119,11 +128,30 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
      */
     @Nonnull
     static <T> Function2<T, T> identity() {
-        return t -> t;
+        /**
+         * A {@code Function2} which always returns its input argument.
+         */
+        final class Identity extends AbstractCanonical implements Function2<T, T> {
+
+            /**
+             * Creates the identity {@code Function2}.
+             */
+            Identity() {
+                super(Kind.IDENTITY);
+            }
+
+            @Override
+            public T apply(T t) {
+                return t;
+            }
+        }
+
+        return new Identity();
     }
 
     /**
-     * Creates a {@link Function2} which always returns a given value.
+     * Creates a {@link Function2} which always returns a given value. If it is composed with a following function, that
+     * function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <T> The type of the argument to the function
      * @param <R> The type of return value from the function
@@ -132,7 +160,25 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
      */
     @Nonnull
     static <T, R> Function2<T, R> constant(R ret) {
-        return t -> ret;
+        /**
+         * A {@code Function2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements Function2<T, R> {
+
+            /**
+             * Creates a constant {@code Function2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(T t) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -144,6 +190,43 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
     @Override
     R apply(T t);
 
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull T[] values, @Nonnull R[] results) {
+        applyParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull T[] values, @Nonnull R[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -166,11 +249,17 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
      * applies this function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote If both functions have been returned by {@code boxed()} of primitive functions passing an {@code
+     * int}, {@code long} or {@code double} value, the composed function passes it without boxing it.
      */
     @Override
     @Nonnull
     default <A> Function2<A, R> compose(@Nonnull Function<? super A, ? extends T> before) {
         Objects.requireNonNull(before);
+        Function2<A, R> fused = BoxingUtils.fuse(before, this);
+        if (fused != null) {
+            return fused;
+        }
         return a -> apply(before.apply(a));
     }
 
@@ -337,11 +426,22 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If both functions have been returned by {@code boxed()} of primitive functions passing an {@code
+     * int}, {@code long} or {@code double} value, the composed function passes it without boxing it. If this function
+     * is a constant, {@code after} is applied to its value once while composing, rather than on every call of the
+     * composed operation, so an exception thrown by it is thrown by this method.
      */
     @Override
     @Nonnull
     default <S> Function2<T, S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Function2.constant(after.apply(apply(null)));
+        }
+        Function2<T, S> fused = BoxingUtils.fuse(this, after);
+        if (fused != null) {
+            return fused;
+        }
         return t -> after.apply(apply(t));
     }
 
@@ -357,10 +457,15 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default Predicate2<T> andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Predicate2.constant(after.test(apply(null)));
+        }
         return t -> after.test(apply(t));
     }
 
@@ -376,10 +481,15 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteFunction<T> andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteFunction.constant(after.applyAsByte(apply(null)));
+        }
         return t -> after.applyAsByte(apply(t));
     }
 
@@ -395,10 +505,15 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharFunction<T> andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharFunction.constant(after.applyAsChar(apply(null)));
+        }
         return t -> after.applyAsChar(apply(t));
     }
 
@@ -414,10 +529,15 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleFunction2<T> andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToDoubleFunction2.constant(after.applyAsDouble(apply(null)));
+        }
         return t -> after.applyAsDouble(apply(t));
     }
 
@@ -433,10 +553,15 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToFloatFunction<T> andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToFloatFunction.constant(after.applyAsFloat(apply(null)));
+        }
         return t -> after.applyAsFloat(apply(t));
     }
 
@@ -452,10 +577,15 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntFunction2<T> andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntFunction2.constant(after.applyAsInt(apply(null)));
+        }
         return t -> after.applyAsInt(apply(t));
     }
 
@@ -471,10 +601,15 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongFunction2<T> andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongFunction2.constant(after.applyAsLong(apply(null)));
+        }
         return t -> after.applyAsLong(apply(t));
     }
 
@@ -490,10 +625,15 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortFunction<T> andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortFunction.constant(after.applyAsShort(apply(null)));
+        }
         return t -> after.applyAsShort(apply(t));
     }
 
@@ -552,10 +692,97 @@ public interface Function2<T, R> extends Lambda, Function<T, R> {
         if (isMemoized()) {
             return this;
         } else {
-            Map<T, R> cache = new ConcurrentHashMap<>();
-            return (Function2<T, R> & Memoized) t -> {
-                return cache.computeIfAbsent(t, this::apply);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link Function2}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code Function2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default Function2<T, R> memoized(@Nonnull MemoStore<T, R> store) {
+        Objects.requireNonNull(store);
+        return (Function2<T, R> & Memoized) t -> {
+            return store.computeIfAbsent(t, this::apply);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link Function2}. In contrast to {@link #memoized()},
+     * the returned function samples the hit rate of its cache and the computation cost of this function at runtime, and
+     * switches between passing through, caching every value and caching a bounded number of values, whichever is
+     * cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code Function2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default Function2<T, R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link Function2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code Function2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default Function2<T, R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<T, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (Function2<T, R> & Memoized) t -> {
+            return memoizer.computeIfAbsent(t, this::apply);
+        };
+    }
+
+    /**
+     * Starts a warm-up of this {@link Function2}, which computes the values of all given keys in parallel using the
+     * given {@link ForkJoinPool}. If this function is memoized, its cache is populated with these values, so that it
+     * serves them from the cache afterwards.
+     *
+     * @param keys The keys whose values are to be computed
+     * @param pool The pool computing the values
+     * @return The started warm-up, which reports its progress and can be cancelled.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @see #memoized()
+     * @see WarmUp
+     */
+    @Nonnull
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    default WarmUp warmUp(@Nonnull Iterable<? extends T> keys, @Nonnull ForkJoinPool pool) {
+        return WarmUp.of(keys, this::apply, pool);
+    }
 }
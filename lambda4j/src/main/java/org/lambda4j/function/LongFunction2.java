@@ -16,10 +16,9 @@
 
 package org.lambda4j.function;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoubleToLongFunction;
 import java.util.function.Function;
@@ -37,6 +36,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.LongConsumer2;
 import org.lambda4j.function.conversion.BooleanToLongFunction;
 import org.lambda4j.function.conversion.ByteToLongFunction;
@@ -53,6 +56,12 @@ import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.to.ToCharFunction;
 import org.lambda4j.function.to.ToFloatFunction;
 import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
+import org.lambda4j.memoization.WarmUp;
 import org.lambda4j.operator.unary.LongUnaryOperator2;
 import org.lambda4j.predicate.LongPredicate2;
 
@@ -90,6 +99,28 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
         return expression;
     }
 
+    /**
+     * Returns a {@link LongFunction2} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * LongFunction2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given function, boxing its primitive arguments.
+     *
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code LongFunction2} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R> LongFunction2<R> unboxed(@Nonnull Function<? super Long, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof LongFunction2) {
+            return (LongFunction2<R>) original;
+        }
+        return value -> function.apply(value);
+    }
+
     /**
      * Lifts a partial {@link LongFunction} into a total {@link LongFunction2} that returns an {@link Optional} result.
      *
@@ -120,7 +151,8 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
     }
 
     /**
-     * Creates a {@link LongFunction2} which always returns a given value.
+     * Creates a {@link LongFunction2} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <R> The type of return value from the function
      * @param ret The return value for the constant
@@ -128,7 +160,25 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
      */
     @Nonnull
     static <R> LongFunction2<R> constant(R ret) {
-        return value -> ret;
+        /**
+         * A {@code LongFunction2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements LongFunction2<R> {
+
+            /**
+             * Creates a constant {@code LongFunction2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(long value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -140,6 +190,43 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
     @Override
     R apply(long value);
 
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull long[] values, @Nonnull R[] results) {
+        applyParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull long[] values, @Nonnull R[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -299,6 +386,9 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
     @Nonnull
     default LongFunction2<R> composeFromLong(@Nonnull LongUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> apply(before.applyAsLong(value));
     }
 
@@ -332,10 +422,15 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> LongFunction2<S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongFunction2.constant(after.apply(apply(0L)));
+        }
         return value -> after.apply(apply(value));
     }
 
@@ -351,10 +446,15 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongPredicate2 andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongPredicate2.constant(after.test(apply(0L)));
+        }
         return value -> after.test(apply(value));
     }
 
@@ -370,10 +470,15 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToByteFunction andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongToByteFunction.constant(after.applyAsByte(apply(0L)));
+        }
         return value -> after.applyAsByte(apply(value));
     }
 
@@ -389,10 +494,15 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToCharFunction andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongToCharFunction.constant(after.applyAsChar(apply(0L)));
+        }
         return value -> after.applyAsChar(apply(value));
     }
 
@@ -408,10 +518,15 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToDoubleFunction2 andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongToDoubleFunction2.constant(after.applyAsDouble(apply(0L)));
+        }
         return value -> after.applyAsDouble(apply(value));
     }
 
@@ -427,10 +542,15 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToFloatFunction andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongToFloatFunction.constant(after.applyAsFloat(apply(0L)));
+        }
         return value -> after.applyAsFloat(apply(value));
     }
 
@@ -446,10 +566,15 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToIntFunction2 andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongToIntFunction2.constant(after.applyAsInt(apply(0L)));
+        }
         return value -> after.applyAsInt(apply(value));
     }
 
@@ -465,10 +590,15 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongUnaryOperator2 andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongUnaryOperator2.constant(after.applyAsLong(apply(0L)));
+        }
         return value -> after.applyAsLong(apply(value));
     }
 
@@ -484,10 +614,15 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToShortFunction andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongToShortFunction.constant(after.applyAsShort(apply(0L)));
+        }
         return value -> after.applyAsShort(apply(value));
     }
 
@@ -546,13 +681,102 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Long, R> cache = new ConcurrentHashMap<>();
-            return (LongFunction2<R> & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::apply);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link LongFunction2}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code LongFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default LongFunction2<R> memoized(@Nonnull MemoStore<Long, R> store) {
+        Objects.requireNonNull(store);
+        return (LongFunction2<R> & Memoized) value -> {
+            return store.computeIfAbsent(value, this::apply);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link LongFunction2}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code LongFunction2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default LongFunction2<R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link LongFunction2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code LongFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default LongFunction2<R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Long, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (LongFunction2<R> & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::apply);
+        };
+    }
+
+    /**
+     * Starts a warm-up of this {@link LongFunction2}, which computes the values of all keys of the given range in
+     * parallel using the given {@link ForkJoinPool}. If this function is memoized, its cache is populated with these
+     * values, so that it serves them from the cache afterwards. The keys are never boxed.
+     *
+     * @param startInclusive The first key of the range
+     * @param endExclusive The key following the last key of the range
+     * @param pool The pool computing the values
+     * @return The started warm-up, which reports its progress and can be cancelled.
+     * @throws NullPointerException If given pool is {@code null}
+     * @throws IllegalArgumentException If given start is greater than given end
+     * @see #memoized()
+     * @see WarmUp
+     */
+    @Nonnull
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    default WarmUp warmUp(long startInclusive, long endExclusive, @Nonnull ForkJoinPool pool) {
+        return WarmUp.ofLongRange(startInclusive, endExclusive, this::apply, pool);
+    }
+
     /**
      * Returns a composed {@link Function2} which represents this {@link LongFunction2}. Thereby the primitive input
      * argument for this function is autoboxed. This method provides the possibility to use this {@code LongFunction2}
@@ -562,6 +786,24 @@ public interface LongFunction2<R> extends Lambda, LongFunction<R> {
      */
     @Nonnull
     default Function2<Long, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code Function2} which applies this {@code LongFunction2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Function2<Long, R> {
+
+            /**
+             * Creates the boxed variant of this {@code LongFunction2}.
+             */
+            Boxed() {
+                super(LongFunction2.this);
+            }
+
+            @Override
+            public R apply(Long t) {
+                return LongFunction2.this.apply(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,10 +16,8 @@
 
 package org.lambda4j.function;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -51,6 +49,9 @@ import org.lambda4j.function.to.ThrowableToFloatFunction;
 import org.lambda4j.function.to.ThrowableToIntFunction;
 import org.lambda4j.function.to.ThrowableToLongFunction;
 import org.lambda4j.function.to.ThrowableToShortFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.ThrowableFloatUnaryOperator;
 import org.lambda4j.predicate.ThrowableFloatPredicate;
 import org.lambda4j.predicate.ThrowablePredicate;
@@ -552,13 +553,82 @@ public interface ThrowableFloatFunction<R, X extends Throwable> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Float, R> cache = new ConcurrentHashMap<>();
-            return (ThrowableFloatFunction<R, X> & Memoized) value -> {
-                return cache.computeIfAbsent(value, ThrowableFunction.of(this::applyThrows));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableFloatFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableFloatFunction<R, X> memoized(@Nonnull MemoStore<Float, R> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableFloatFunction<R, X> & Memoized) value -> {
+            return store.computeIfAbsent(value, ThrowableFunction.of(this::applyThrows));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableFloatFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableFloatFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableFloatFunction<R, X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableFloatFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableFloatFunction<R, X> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Float, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableFloatFunction<R, X> & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, ThrowableFunction.of(this::applyThrows));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableFunction} which represents this {@link ThrowableFloatFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -16,10 +16,10 @@
 
 package org.lambda4j.function.bi;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -35,11 +35,14 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.BiBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
+import org.lambda4j.function.Function2;
 import org.lambda4j.function.bi.conversion.BiBooleanToByteFunction;
 import org.lambda4j.function.bi.conversion.BiBooleanToCharFunction;
 import org.lambda4j.function.bi.conversion.BiBooleanToDoubleFunction;
@@ -51,12 +54,18 @@ import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.to.ToCharFunction;
 import org.lambda4j.function.to.ToFloatFunction;
 import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.BooleanBinaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.ShortPredicate;
+import org.lambda4j.tuple.BooleanBooleanPair;
 
 /**
  * Represents an operation that accepts two {@code boolean}-valued input arguments and produces a result. This is a
@@ -92,6 +101,29 @@ public interface BiBooleanFunction<R> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiBooleanFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BiBooleanFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments.
+     *
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code BiBooleanFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R> BiBooleanFunction<R> unboxed(
+            @Nonnull BiFunction<? super Boolean, ? super Boolean, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiBooleanFunction) {
+            return (BiBooleanFunction<R>) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
     /**
      * Constructs a {@link BiBooleanFunction} based on a curried lambda expression. Thereby the given curried lambda
      * expression is converted to the desired uncurried type of same arity. With this method, it is possible to uncurry
@@ -159,7 +191,25 @@ public interface BiBooleanFunction<R> extends Lambda {
     @Nonnull
     static <R> BiBooleanFunction<R> onlyFirst(@Nonnull BooleanFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.apply(value1);
+        /**
+         * A {@code BiBooleanFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiBooleanFunction<R> {
+
+            /**
+             * Creates a {@code BiBooleanFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public R apply(boolean value1, boolean value2) {
+                return function.apply(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -175,11 +225,31 @@ public interface BiBooleanFunction<R> extends Lambda {
     @Nonnull
     static <R> BiBooleanFunction<R> onlySecond(@Nonnull BooleanFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.apply(value2);
+        /**
+         * A {@code BiBooleanFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiBooleanFunction<R> {
+
+            /**
+             * Creates a {@code BiBooleanFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public R apply(boolean value1, boolean value2) {
+                return function.apply(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiBooleanFunction} which always returns a given value.
+     * Creates a {@link BiBooleanFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <R> The type of return value from the function
      * @param ret The return value for the constant
@@ -187,7 +257,25 @@ public interface BiBooleanFunction<R> extends Lambda {
      */
     @Nonnull
     static <R> BiBooleanFunction<R> constant(R ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiBooleanFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiBooleanFunction<R> {
+
+            /**
+             * Creates a constant {@code BiBooleanFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(boolean value1, boolean value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -199,6 +287,19 @@ public interface BiBooleanFunction<R> extends Lambda {
      */
     R apply(boolean value1, boolean value2);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BooleanBooleanPair
+     */
+    default R apply(@Nonnull BooleanBooleanPair tuple) {
+        Objects.requireNonNull(tuple);
+        return apply(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BooleanFunction} as result.
      *
@@ -210,6 +311,47 @@ public interface BiBooleanFunction<R> extends Lambda {
         return value2 -> apply(value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull R[] results) {
+        applyParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull R[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -262,6 +404,9 @@ public interface BiBooleanFunction<R> extends Lambda {
             @Nonnull BooleanUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> apply(before1.applyAsBoolean(value1), before2.applyAsBoolean(value2));
     }
 
@@ -429,10 +574,15 @@ public interface BiBooleanFunction<R> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiBooleanFunction<S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanFunction.constant(after.apply(apply(false, false)));
+        }
         return (value1, value2) -> after.apply(apply(value1, value2));
     }
 
@@ -448,10 +598,15 @@ public interface BiBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanBinaryOperator andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanBinaryOperator.constant(after.test(apply(false, false)));
+        }
         return (value1, value2) -> after.test(apply(value1, value2));
     }
 
@@ -467,10 +622,15 @@ public interface BiBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToByteFunction andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToByteFunction.constant(after.applyAsByte(apply(false, false)));
+        }
         return (value1, value2) -> after.applyAsByte(apply(value1, value2));
     }
 
@@ -486,10 +646,15 @@ public interface BiBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToCharFunction andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToCharFunction.constant(after.applyAsChar(apply(false, false)));
+        }
         return (value1, value2) -> after.applyAsChar(apply(value1, value2));
     }
 
@@ -505,10 +670,15 @@ public interface BiBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToDoubleFunction andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToDoubleFunction.constant(after.applyAsDouble(apply(false, false)));
+        }
         return (value1, value2) -> after.applyAsDouble(apply(value1, value2));
     }
 
@@ -524,10 +694,15 @@ public interface BiBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToFloatFunction andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToFloatFunction.constant(after.applyAsFloat(apply(false, false)));
+        }
         return (value1, value2) -> after.applyAsFloat(apply(value1, value2));
     }
 
@@ -543,10 +718,15 @@ public interface BiBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToIntFunction andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToIntFunction.constant(after.applyAsInt(apply(false, false)));
+        }
         return (value1, value2) -> after.applyAsInt(apply(value1, value2));
     }
 
@@ -562,10 +742,15 @@ public interface BiBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToLongFunction andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToLongFunction.constant(after.applyAsLong(apply(false, false)));
+        }
         return (value1, value2) -> after.applyAsLong(apply(value1, value2));
     }
 
@@ -581,10 +766,15 @@ public interface BiBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToShortFunction andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToShortFunction.constant(after.applyAsShort(apply(false, false)));
+        }
         return (value1, value2) -> after.applyAsShort(apply(value1, value2));
     }
 
@@ -614,14 +804,47 @@ public interface BiBooleanFunction<R> extends Lambda {
         return value1 -> value2 -> apply(value1, value2);
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default Function2<BooleanBooleanPair, R> tupled() {
+        return this::apply;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
      * @return A reversed version of this function.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default BiBooleanFunction<R> reversed() {
-        return (value2, value1) -> apply(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiBooleanFunction) {
+            return (BiBooleanFunction<R>) original;
+        }
+        /**
+         * A {@code BiBooleanFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiBooleanFunction<R> {
+
+            /**
+             * Creates the reversal of this {@code BiBooleanFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiBooleanFunction.this);
+            }
+
+            @Override
+            public R apply(boolean value2, boolean value1) {
+                return BiBooleanFunction.this.apply(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -643,11 +866,113 @@ public interface BiBooleanFunction<R> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Boolean, Boolean>, R> cache = new ConcurrentHashMap<>();
-            return (BiBooleanFunction<R> & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2), key -> apply(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiBooleanFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiBooleanFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiBooleanFunction<R> memoized(@Nonnull MemoStore<BooleanBooleanPair, R> store) {
+        Objects.requireNonNull(store);
+        return (BiBooleanFunction<R> & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    key -> apply(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiBooleanFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiBooleanFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiBooleanFunction<R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiBooleanFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiBooleanFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiBooleanFunction<R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<BooleanBooleanPair, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiBooleanFunction<R> & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    key -> apply(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link BiBooleanFunction}, which applies this function once to each of the 4
+     * possible combinations of input arguments in advance, and afterwards answers every call by a lookup in a table of
+     * 4 results holding the results. In contrast to {@link #memoized()}, no values are computed or cached on demand, so
+     * the returned function neither synchronizes nor allocates.
+     * <p>
+     * This function has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code BiBooleanFunction}.
+     * @implSpec If this function is already compiled, it is returned itself. Any exception thrown by this function
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned function is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default BiBooleanFunction<R> compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        @SuppressWarnings("unchecked")
+        R[] table = (R[]) new Object[4];
+        for (int i = 0; i < 4; i++) {
+            table[i] = apply((i & 1) != 0, (i & 2) != 0);
         }
+        return (BiBooleanFunction<R> & Memoized & Compiled) (value1, value2) -> {
+            int index = (value1 ? 1 : 0) | (value2 ? 2 : 0);
+            return table[index];
+        };
     }
 
     /**
@@ -659,6 +984,24 @@ public interface BiBooleanFunction<R> extends Lambda {
      */
     @Nonnull
     default BiFunction2<Boolean, Boolean, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code BiFunction2} which applies this {@code BiBooleanFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<Boolean, Boolean, R> {
+
+            /**
+             * Creates the boxed variant of this {@code BiBooleanFunction}.
+             */
+            Boxed() {
+                super(BiBooleanFunction.this);
+            }
+
+            @Override
+            public R apply(Boolean t, Boolean u) {
+                return BiBooleanFunction.this.apply(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
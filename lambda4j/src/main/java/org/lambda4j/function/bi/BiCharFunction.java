@@ -16,10 +16,10 @@
 
 package org.lambda4j.function.bi;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -32,11 +32,14 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.BiCharConsumer;
 import org.lambda4j.function.CharFunction;
+import org.lambda4j.function.Function2;
 import org.lambda4j.function.bi.conversion.BiCharToByteFunction;
 import org.lambda4j.function.bi.conversion.BiCharToDoubleFunction;
 import org.lambda4j.function.bi.conversion.BiCharToFloatFunction;
@@ -54,9 +57,15 @@ import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.to.ToCharFunction;
 import org.lambda4j.function.to.ToFloatFunction;
 import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.CharBinaryOperator;
 import org.lambda4j.operator.unary.CharUnaryOperator;
 import org.lambda4j.predicate.bi.BiCharPredicate;
+import org.lambda4j.tuple.CharCharPair;
 
 /**
  * Represents an operation that accepts two {@code char}-valued input arguments and produces a result. This is a
@@ -91,6 +100,29 @@ public interface BiCharFunction<R> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiCharFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BiCharFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given function, boxing its primitive arguments.
+     *
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code BiCharFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R> BiCharFunction<R> unboxed(
+            @Nonnull BiFunction<? super Character, ? super Character, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiCharFunction) {
+            return (BiCharFunction<R>) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
     /**
      * Constructs a {@link BiCharFunction} based on a curried lambda expression. Thereby the given curried lambda
      * expression is converted to the desired uncurried type of same arity. With this method, it is possible to uncurry
@@ -158,7 +190,25 @@ public interface BiCharFunction<R> extends Lambda {
     @Nonnull
     static <R> BiCharFunction<R> onlyFirst(@Nonnull CharFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.apply(value1);
+        /**
+         * A {@code BiCharFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiCharFunction<R> {
+
+            /**
+             * Creates a {@code BiCharFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public R apply(char value1, char value2) {
+                return function.apply(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -174,11 +224,30 @@ public interface BiCharFunction<R> extends Lambda {
     @Nonnull
     static <R> BiCharFunction<R> onlySecond(@Nonnull CharFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.apply(value2);
+        /**
+         * A {@code BiCharFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiCharFunction<R> {
+
+            /**
+             * Creates a {@code BiCharFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public R apply(char value1, char value2) {
+                return function.apply(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiCharFunction} which always returns a given value.
+     * Creates a {@link BiCharFunction} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <R> The type of return value from the function
      * @param ret The return value for the constant
@@ -186,7 +255,25 @@ public interface BiCharFunction<R> extends Lambda {
      */
     @Nonnull
     static <R> BiCharFunction<R> constant(R ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiCharFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiCharFunction<R> {
+
+            /**
+             * Creates a constant {@code BiCharFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(char value1, char value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -198,6 +285,19 @@ public interface BiCharFunction<R> extends Lambda {
      */
     R apply(char value1, char value2);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see CharCharPair
+     */
+    default R apply(@Nonnull CharCharPair tuple) {
+        Objects.requireNonNull(tuple);
+        return apply(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link CharFunction} as result.
      *
@@ -209,6 +309,47 @@ public interface BiCharFunction<R> extends Lambda {
         return value2 -> apply(value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull char[] values1, @Nonnull char[] values2, @Nonnull R[] results) {
+        applyParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull char[] values1, @Nonnull char[] values2, @Nonnull R[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -305,6 +446,9 @@ public interface BiCharFunction<R> extends Lambda {
             @Nonnull CharUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> apply(before1.applyAsChar(value1), before2.applyAsChar(value2));
     }
 
@@ -429,10 +573,15 @@ public interface BiCharFunction<R> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiCharFunction<S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharFunction.constant(after.apply(apply('\0', '\0')));
+        }
         return (value1, value2) -> after.apply(apply(value1, value2));
     }
 
@@ -448,10 +597,15 @@ public interface BiCharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharPredicate andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharPredicate.constant(after.test(apply('\0', '\0')));
+        }
         return (value1, value2) -> after.test(apply(value1, value2));
     }
 
@@ -467,10 +621,15 @@ public interface BiCharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToByteFunction andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToByteFunction.constant(after.applyAsByte(apply('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsByte(apply(value1, value2));
     }
 
@@ -486,10 +645,15 @@ public interface BiCharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharBinaryOperator andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharBinaryOperator.constant(after.applyAsChar(apply('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsChar(apply(value1, value2));
     }
 
@@ -505,10 +669,15 @@ public interface BiCharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToDoubleFunction andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToDoubleFunction.constant(after.applyAsDouble(apply('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsDouble(apply(value1, value2));
     }
 
@@ -524,10 +693,15 @@ public interface BiCharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToFloatFunction andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToFloatFunction.constant(after.applyAsFloat(apply('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsFloat(apply(value1, value2));
     }
 
@@ -543,10 +717,15 @@ public interface BiCharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToIntFunction andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToIntFunction.constant(after.applyAsInt(apply('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsInt(apply(value1, value2));
     }
 
@@ -562,10 +741,15 @@ public interface BiCharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToLongFunction andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToLongFunction.constant(after.applyAsLong(apply('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsLong(apply(value1, value2));
     }
 
@@ -581,10 +765,15 @@ public interface BiCharFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToShortFunction andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToShortFunction.constant(after.applyAsShort(apply('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsShort(apply(value1, value2));
     }
 
@@ -614,14 +803,47 @@ public interface BiCharFunction<R> extends Lambda {
         return value1 -> value2 -> apply(value1, value2);
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default Function2<CharCharPair, R> tupled() {
+        return this::apply;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
      * @return A reversed version of this function.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default BiCharFunction<R> reversed() {
-        return (value2, value1) -> apply(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiCharFunction) {
+            return (BiCharFunction<R>) original;
+        }
+        /**
+         * A {@code BiCharFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiCharFunction<R> {
+
+            /**
+             * Creates the reversal of this {@code BiCharFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiCharFunction.this);
+            }
+
+            @Override
+            public R apply(char value2, char value1) {
+                return BiCharFunction.this.apply(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -643,13 +865,83 @@ public interface BiCharFunction<R> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Character, Character>, R> cache = new ConcurrentHashMap<>();
-            return (BiCharFunction<R> & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2), key -> apply(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link BiCharFunction}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiCharFunction<R> memoized(@Nonnull MemoStore<CharCharPair, R> store) {
+        Objects.requireNonNull(store);
+        return (BiCharFunction<R> & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(CharCharPair.of(value1, value2), key -> apply(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiCharFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiCharFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiCharFunction<R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiCharFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiCharFunction<R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<CharCharPair, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiCharFunction<R> & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(CharCharPair.of(value1, value2),
+                    key -> apply(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link BiCharFunction}. Thereby the primitive input
      * argument for this function is autoboxed. This method provides the possibility to use this {@code BiCharFunction}
@@ -659,6 +951,24 @@ public interface BiCharFunction<R> extends Lambda {
      */
     @Nonnull
     default BiFunction2<Character, Character, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code BiFunction2} which applies this {@code BiCharFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<Character, Character, R> {
+
+            /**
+             * Creates the boxed variant of this {@code BiCharFunction}.
+             */
+            Boxed() {
+                super(BiCharFunction.this);
+            }
+
+            @Override
+            public R apply(Character t, Character u) {
+                return BiCharFunction.this.apply(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,10 +16,9 @@
 
 package org.lambda4j.function.bi;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
@@ -39,6 +38,9 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.BiConsumer2;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -57,6 +59,11 @@ import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.to.ToCharFunction;
 import org.lambda4j.function.to.ToFloatFunction;
 import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.predicate.bi.BiPredicate2;
 
 /**
@@ -171,7 +178,25 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
     @Nonnull
     static <T, U, R> BiFunction2<T, U, R> onlyFirst(@Nonnull Function<? super T, ? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, u) -> function.apply(t);
+        /**
+         * A {@code BiFunction2} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiFunction2<T, U, R> {
+
+            /**
+             * Creates a {@code BiFunction2} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public R apply(T t, U u) {
+                return function.apply(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -189,11 +214,30 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
     @Nonnull
     static <T, U, R> BiFunction2<T, U, R> onlySecond(@Nonnull Function<? super U, ? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, u) -> function.apply(u);
+        /**
+         * A {@code BiFunction2} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiFunction2<T, U, R> {
+
+            /**
+             * Creates a {@code BiFunction2} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public R apply(T t, U u) {
+                return function.apply(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiFunction2} which always returns a given value.
+     * Creates a {@link BiFunction2} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <T> The type of the first argument to the function
      * @param <U> The type of the second argument to the function
@@ -203,7 +247,25 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
      */
     @Nonnull
     static <T, U, R> BiFunction2<T, U, R> constant(R ret) {
-        return (t, u) -> ret;
+        /**
+         * A {@code BiFunction2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiFunction2<T, U, R> {
+
+            /**
+             * Creates a constant {@code BiFunction2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(T t, U u) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -240,6 +302,47 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
         return u -> apply(t, u);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull R[] results) {
+        applyParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull R[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -460,11 +563,16 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Override
     @Nonnull
     default <S> BiFunction2<T, U, S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFunction2.constant(after.apply(apply(null, null)));
+        }
         return (t, u) -> after.apply(apply(t, u));
     }
 
@@ -480,10 +588,15 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiPredicate2<T, U> andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiPredicate2.constant(after.test(apply(null, null)));
+        }
         return (t, u) -> after.test(apply(t, u));
     }
 
@@ -499,10 +612,15 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteBiFunction<T, U> andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteBiFunction.constant(after.applyAsByte(apply(null, null)));
+        }
         return (t, u) -> after.applyAsByte(apply(t, u));
     }
 
@@ -518,10 +636,15 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharBiFunction<T, U> andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharBiFunction.constant(after.applyAsChar(apply(null, null)));
+        }
         return (t, u) -> after.applyAsChar(apply(t, u));
     }
 
@@ -537,10 +660,15 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleBiFunction2<T, U> andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToDoubleBiFunction2.constant(after.applyAsDouble(apply(null, null)));
+        }
         return (t, u) -> after.applyAsDouble(apply(t, u));
     }
 
@@ -556,10 +684,15 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToFloatBiFunction<T, U> andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToFloatBiFunction.constant(after.applyAsFloat(apply(null, null)));
+        }
         return (t, u) -> after.applyAsFloat(apply(t, u));
     }
 
@@ -575,10 +708,15 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntBiFunction2<T, U> andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntBiFunction2.constant(after.applyAsInt(apply(null, null)));
+        }
         return (t, u) -> after.applyAsInt(apply(t, u));
     }
 
@@ -594,10 +732,15 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongBiFunction2<T, U> andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongBiFunction2.constant(after.applyAsLong(apply(null, null)));
+        }
         return (t, u) -> after.applyAsLong(apply(t, u));
     }
 
@@ -613,10 +756,15 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortBiFunction<T, U> andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortBiFunction.constant(after.applyAsShort(apply(null, null)));
+        }
         return (t, u) -> after.applyAsShort(apply(t, u));
     }
 
@@ -662,8 +810,31 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
      * @return A reversed version of this function.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default BiFunction2<U, T, R> reversed() {
-        return (u, t) -> apply(t, u);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiFunction2) {
+            return (BiFunction2<U, T, R>) original;
+        }
+        /**
+         * A {@code BiFunction2} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiFunction2<U, T, R> {
+
+            /**
+             * Creates the reversal of this {@code BiFunction2}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiFunction2.this);
+            }
+
+            @Override
+            public R apply(U u, T t) {
+                return BiFunction2.this.apply(t, u);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -685,10 +856,79 @@ public interface BiFunction2<T, U, R> extends Lambda, BiFunction<T, U, R> {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, U>, R> cache = new ConcurrentHashMap<>();
-            return (BiFunction2<T, U, R> & Memoized) (t, u) -> {
-                return cache.computeIfAbsent(Pair.of(t, u), key -> apply(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiFunction2}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiFunction2<T, U, R> memoized(@Nonnull MemoStore<Pair<T, U>, R> store) {
+        Objects.requireNonNull(store);
+        return (BiFunction2<T, U, R> & Memoized) (t, u) -> {
+            return store.computeIfAbsent(Pair.of(t, u), key -> apply(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiFunction2}. In contrast to {@link #memoized()},
+     * the returned function samples the hit rate of its cache and the computation cost of this function at runtime, and
+     * switches between passing through, caching every value and caching a bounded number of values, whichever is
+     * cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiFunction2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiFunction2<T, U, R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiFunction2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiFunction2<T, U, R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Pair<T, U>, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiFunction2<T, U, R> & Memoized) (t, u) -> {
+            return memoizer.computeIfAbsent(Pair.of(t, u), key -> apply(key.getLeft(), key.getRight()));
+        };
+    }
 }
@@ -16,10 +16,8 @@
 
 package org.lambda4j.function.bi;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -27,8 +25,6 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
 import org.lambda4j.consumer.ThrowableConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiDoubleConsumer;
@@ -55,10 +51,14 @@ import org.lambda4j.function.to.ThrowableToFloatFunction;
 import org.lambda4j.function.to.ThrowableToIntFunction;
 import org.lambda4j.function.to.ThrowableToLongFunction;
 import org.lambda4j.function.to.ThrowableToShortFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.ThrowableDoubleBinaryOperator;
 import org.lambda4j.operator.unary.ThrowableDoubleUnaryOperator;
 import org.lambda4j.predicate.ThrowablePredicate;
 import org.lambda4j.predicate.bi.ThrowableBiDoublePredicate;
+import org.lambda4j.tuple.DoubleDoublePair;
 import org.lambda4j.util.ThrowableUtils;
 
 /**
@@ -219,6 +219,20 @@ public interface ThrowableBiDoubleFunction<R, X extends Throwable> extends Lambd
      */
     R applyThrows(double value1, double value2) throws X;
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this functions action
+     * @see DoubleDoublePair
+     */
+    default R applyThrows(@Nonnull DoubleDoublePair tuple) throws X {
+        Objects.requireNonNull(tuple);
+        return applyThrows(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link ThrowableDoubleFunction} as
      * result.
@@ -643,6 +657,16 @@ public interface ThrowableBiDoubleFunction<R, X extends Throwable> extends Lambd
         return value1 -> value2 -> applyThrows(value1, value2);
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ThrowableFunction<DoubleDoublePair, R, X> tupled() {
+        return this::applyThrows;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -672,14 +696,85 @@ public interface ThrowableBiDoubleFunction<R, X extends Throwable> extends Lambd
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Double, Double>, R> cache = new ConcurrentHashMap<>();
-            return (ThrowableBiDoubleFunction<R, X> & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        ThrowableFunction.of(key -> applyThrows(key.getLeft(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableBiDoubleFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableBiDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableBiDoubleFunction<R, X> memoized(@Nonnull MemoStore<DoubleDoublePair, R> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableBiDoubleFunction<R, X> & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(DoubleDoublePair.of(value1, value2),
+                    ThrowableFunction.of(key -> applyThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBiDoubleFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBiDoubleFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableBiDoubleFunction<R, X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBiDoubleFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBiDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableBiDoubleFunction<R, X> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<DoubleDoublePair, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableBiDoubleFunction<R, X> & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(DoubleDoublePair.of(value1, value2),
+                    ThrowableFunction.of(key -> applyThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableBiFunction} which represents this {@link ThrowableBiDoubleFunction}. Thereby
      * the primitive input argument for this function is autoboxed. This method provides the possibility to use this
@@ -16,9 +16,10 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -34,9 +35,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.BiBooleanConsumer;
 import org.lambda4j.function.bi.BiBooleanFunction;
 import org.lambda4j.function.bi.BiFunction2;
@@ -46,6 +49,12 @@ import org.lambda4j.function.conversion.DoubleToByteFunction;
 import org.lambda4j.function.conversion.DoubleToCharFunction;
 import org.lambda4j.function.conversion.DoubleToFloatFunction;
 import org.lambda4j.function.conversion.DoubleToShortFunction;
+import org.lambda4j.function.to.ToDoubleFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.BooleanBinaryOperator;
 import org.lambda4j.operator.binary.DoubleBinaryOperator2;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
@@ -53,6 +62,7 @@ import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.ShortPredicate;
+import org.lambda4j.tuple.BooleanBooleanPair;
 
 /**
  * Represents an operation that accepts two {@code boolean}-valued input arguments and produces a {@code double}-valued
@@ -86,6 +96,48 @@ public interface BiBooleanToDoubleFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiBooleanToDoubleFunction} which represents the given boxed function, so that it can be used
+     * with the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the
+     * {@code BiBooleanToDoubleFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the
+     * returned function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BiBooleanToDoubleFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiBooleanToDoubleFunction unboxed(
+            @Nonnull BiFunction<? super Boolean, ? super Boolean, ? extends Double> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiBooleanToDoubleFunction) {
+            return (BiBooleanToDoubleFunction) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link BiBooleanToDoubleFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiBooleanFunction} that returns an {@link OptionalDouble} result. The result of
+     * the given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiBooleanToDoubleFunction} lifted into a total {@code BiBooleanFunction} that returns an
+     * {@code OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiBooleanFunction<OptionalDouble> lift(
+            @Nonnull BooleanBinaryOperator isDefined, @Nonnull BiBooleanToDoubleFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.applyAsBoolean(value1, value2)
+                ? OptionalDouble.of(partial.applyAsDouble(value1, value2))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link BiBooleanToDoubleFunction} with the given arguments and returns its result.
      *
@@ -112,7 +164,25 @@ public interface BiBooleanToDoubleFunction extends Lambda {
     @Nonnull
     static BiBooleanToDoubleFunction onlyFirst(@Nonnull BooleanToDoubleFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsDouble(value1);
+        /**
+         * A {@code BiBooleanToDoubleFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiBooleanToDoubleFunction {
+
+            /**
+             * Creates a {@code BiBooleanToDoubleFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public double applyAsDouble(boolean value1, boolean value2) {
+                return function.applyAsDouble(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -127,18 +197,56 @@ public interface BiBooleanToDoubleFunction extends Lambda {
     @Nonnull
     static BiBooleanToDoubleFunction onlySecond(@Nonnull BooleanToDoubleFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsDouble(value2);
+        /**
+         * A {@code BiBooleanToDoubleFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiBooleanToDoubleFunction {
+
+            /**
+             * Creates a {@code BiBooleanToDoubleFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public double applyAsDouble(boolean value1, boolean value2) {
+                return function.applyAsDouble(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiBooleanToDoubleFunction} which always returns a given value.
+     * Creates a {@link BiBooleanToDoubleFunction} which always returns a given value. If it is composed with a
+     * following function, that function is applied to the value once when composing, and the composed function is a
+     * constant as well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiBooleanToDoubleFunction} which always returns a given value.
      */
     @Nonnull
     static BiBooleanToDoubleFunction constant(double ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiBooleanToDoubleFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiBooleanToDoubleFunction {
+
+            /**
+             * Creates a constant {@code BiBooleanToDoubleFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public double applyAsDouble(boolean value1, boolean value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -150,6 +258,19 @@ public interface BiBooleanToDoubleFunction extends Lambda {
      */
     double applyAsDouble(boolean value1, boolean value2);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BooleanBooleanPair
+     */
+    default double applyAsDouble(@Nonnull BooleanBooleanPair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsDouble(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BooleanToDoubleFunction} as
      * result.
@@ -162,6 +283,48 @@ public interface BiBooleanToDoubleFunction extends Lambda {
         return value2 -> applyAsDouble(value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsDoubleParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2,
+            @Nonnull double[] results) {
+        applyAsDoubleParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDoubleParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2,
+            @Nonnull double[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsDouble(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -214,6 +377,9 @@ public interface BiBooleanToDoubleFunction extends Lambda {
             @Nonnull BooleanUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsDouble(before1.applyAsBoolean(value1), before2.applyAsBoolean(value2));
     }
 
@@ -382,10 +548,15 @@ public interface BiBooleanToDoubleFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiBooleanFunction<S> andThen(@Nonnull DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanFunction.constant(after.apply(applyAsDouble(false, false)));
+        }
         return (value1, value2) -> after.apply(applyAsDouble(value1, value2));
     }
 
@@ -401,10 +572,15 @@ public interface BiBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanBinaryOperator andThenToBoolean(@Nonnull DoublePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanBinaryOperator.constant(after.test(applyAsDouble(false, false)));
+        }
         return (value1, value2) -> after.test(applyAsDouble(value1, value2));
     }
 
@@ -420,10 +596,15 @@ public interface BiBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToByteFunction andThenToByte(@Nonnull DoubleToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToByteFunction.constant(after.applyAsByte(applyAsDouble(false, false)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsDouble(value1, value2));
     }
 
@@ -439,10 +620,15 @@ public interface BiBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToCharFunction andThenToChar(@Nonnull DoubleToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToCharFunction.constant(after.applyAsChar(applyAsDouble(false, false)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsDouble(value1, value2));
     }
 
@@ -458,10 +644,18 @@ public interface BiBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToDoubleFunction andThenToDouble(@Nonnull DoubleUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsDouble(false, false)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsDouble(value1, value2));
     }
 
@@ -477,10 +671,15 @@ public interface BiBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToFloatFunction andThenToFloat(@Nonnull DoubleToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToFloatFunction.constant(after.applyAsFloat(applyAsDouble(false, false)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsDouble(value1, value2));
     }
 
@@ -496,10 +695,15 @@ public interface BiBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToIntFunction andThenToInt(@Nonnull DoubleToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToIntFunction.constant(after.applyAsInt(applyAsDouble(false, false)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsDouble(value1, value2));
     }
 
@@ -515,10 +719,15 @@ public interface BiBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToLongFunction andThenToLong(@Nonnull DoubleToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToLongFunction.constant(after.applyAsLong(applyAsDouble(false, false)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsDouble(value1, value2));
     }
 
@@ -534,10 +743,15 @@ public interface BiBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToShortFunction andThenToShort(@Nonnull DoubleToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToShortFunction.constant(after.applyAsShort(applyAsDouble(false, false)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsDouble(value1, value2));
     }
 
@@ -557,6 +771,16 @@ public interface BiBooleanToDoubleFunction extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsDouble(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToDoubleFunction2<BooleanBooleanPair> tupled() {
+        return this::applyAsDouble;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -564,7 +788,29 @@ public interface BiBooleanToDoubleFunction extends Lambda {
      */
     @Nonnull
     default BiBooleanToDoubleFunction reversed() {
-        return (value2, value1) -> applyAsDouble(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiBooleanToDoubleFunction) {
+            return (BiBooleanToDoubleFunction) original;
+        }
+        /**
+         * A {@code BiBooleanToDoubleFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiBooleanToDoubleFunction {
+
+            /**
+             * Creates the reversal of this {@code BiBooleanToDoubleFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiBooleanToDoubleFunction.this);
+            }
+
+            @Override
+            public double applyAsDouble(boolean value2, boolean value1) {
+                return BiBooleanToDoubleFunction.this.applyAsDouble(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -586,14 +832,115 @@ public interface BiBooleanToDoubleFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Boolean, Boolean>, Double> cache = new ConcurrentHashMap<>();
-            return (BiBooleanToDoubleFunction & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsDouble(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link BiBooleanToDoubleFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiBooleanToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiBooleanToDoubleFunction memoized(@Nonnull MemoStore<BooleanBooleanPair, Double> store) {
+        Objects.requireNonNull(store);
+        return (BiBooleanToDoubleFunction & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    key -> applyAsDouble(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiBooleanToDoubleFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiBooleanToDoubleFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiBooleanToDoubleFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiBooleanToDoubleFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiBooleanToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiBooleanToDoubleFunction adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<BooleanBooleanPair, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiBooleanToDoubleFunction & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    key -> applyAsDouble(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link BiBooleanToDoubleFunction}, which applies this function once to each of
+     * the 4 possible combinations of input arguments in advance, and afterwards answers every call by a lookup in a
+     * table of 4 {@code double} values holding the results. In contrast to {@link #memoized()}, no values are computed
+     * or cached on demand, so the returned function neither synchronizes nor allocates.
+     * <p>
+     * This function has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code BiBooleanToDoubleFunction}.
+     * @implSpec If this function is already compiled, it is returned itself. Any exception thrown by this function
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned function is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default BiBooleanToDoubleFunction compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        double[] table = new double[4];
+        for (int i = 0; i < 4; i++) {
+            table[i] = applyAsDouble((i & 1) != 0, (i & 2) != 0);
+        }
+        return (BiBooleanToDoubleFunction & Memoized & Compiled) (value1, value2) -> {
+            int index = (value1 ? 1 : 0) | (value2 ? 2 : 0);
+            return table[index];
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link BiBooleanToDoubleFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -603,6 +950,24 @@ public interface BiBooleanToDoubleFunction extends Lambda {
      */
     @Nonnull
     default BiFunction2<Boolean, Boolean, Double> boxed() {
-        return this::applyAsDouble;
+        /**
+         * A {@code BiFunction2} which applies this {@code BiBooleanToDoubleFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<Boolean, Boolean, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code BiBooleanToDoubleFunction}.
+             */
+            Boxed() {
+                super(BiBooleanToDoubleFunction.this);
+            }
+
+            @Override
+            public Double apply(Boolean t, Boolean u) {
+                return BiBooleanToDoubleFunction.this.applyAsDouble(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,10 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongConsumer;
@@ -34,9 +35,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.BiBooleanConsumer;
 import org.lambda4j.function.bi.BiBooleanFunction;
 import org.lambda4j.function.bi.BiFunction2;
@@ -46,13 +49,21 @@ import org.lambda4j.function.conversion.LongToByteFunction;
 import org.lambda4j.function.conversion.LongToCharFunction;
 import org.lambda4j.function.conversion.LongToFloatFunction;
 import org.lambda4j.function.conversion.LongToShortFunction;
+import org.lambda4j.function.to.ToLongFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.BooleanBinaryOperator;
 import org.lambda4j.operator.binary.LongBinaryOperator2;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.ShortPredicate;
+import org.lambda4j.tuple.BooleanBooleanPair;
 
 /**
  * Represents an operation that accepts two {@code boolean}-valued input arguments and produces a {@code long}-valued
@@ -86,6 +97,48 @@ public interface BiBooleanToLongFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiBooleanToLongFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BiBooleanToLongFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BiBooleanToLongFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiBooleanToLongFunction unboxed(
+            @Nonnull BiFunction<? super Boolean, ? super Boolean, ? extends Long> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiBooleanToLongFunction) {
+            return (BiBooleanToLongFunction) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link BiBooleanToLongFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiBooleanFunction} that returns an {@link OptionalLong} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiBooleanToLongFunction} lifted into a total {@code BiBooleanFunction} that returns an
+     * {@code OptionalLong} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiBooleanFunction<OptionalLong> lift(
+            @Nonnull BooleanBinaryOperator isDefined, @Nonnull BiBooleanToLongFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.applyAsBoolean(value1, value2)
+                ? OptionalUtils.ofLong(partial.applyAsLong(value1, value2))
+                : OptionalLong.empty();
+    }
+
     /**
      * Calls the given {@link BiBooleanToLongFunction} with the given arguments and returns its result.
      *
@@ -112,7 +165,25 @@ public interface BiBooleanToLongFunction extends Lambda {
     @Nonnull
     static BiBooleanToLongFunction onlyFirst(@Nonnull BooleanToLongFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsLong(value1);
+        /**
+         * A {@code BiBooleanToLongFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiBooleanToLongFunction {
+
+            /**
+             * Creates a {@code BiBooleanToLongFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public long applyAsLong(boolean value1, boolean value2) {
+                return function.applyAsLong(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -127,18 +198,56 @@ public interface BiBooleanToLongFunction extends Lambda {
     @Nonnull
     static BiBooleanToLongFunction onlySecond(@Nonnull BooleanToLongFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsLong(value2);
+        /**
+         * A {@code BiBooleanToLongFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiBooleanToLongFunction {
+
+            /**
+             * Creates a {@code BiBooleanToLongFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public long applyAsLong(boolean value1, boolean value2) {
+                return function.applyAsLong(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiBooleanToLongFunction} which always returns a given value.
+     * Creates a {@link BiBooleanToLongFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiBooleanToLongFunction} which always returns a given value.
      */
     @Nonnull
     static BiBooleanToLongFunction constant(long ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiBooleanToLongFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiBooleanToLongFunction {
+
+            /**
+             * Creates a constant {@code BiBooleanToLongFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public long applyAsLong(boolean value1, boolean value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -150,6 +259,19 @@ public interface BiBooleanToLongFunction extends Lambda {
      */
     long applyAsLong(boolean value1, boolean value2);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BooleanBooleanPair
+     */
+    default long applyAsLong(@Nonnull BooleanBooleanPair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsLong(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BooleanToLongFunction} as
      * result.
@@ -162,6 +284,47 @@ public interface BiBooleanToLongFunction extends Lambda {
         return value2 -> applyAsLong(value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsLongParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull long[] results) {
+        applyAsLongParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsLongParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull long[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsLong(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -214,6 +377,9 @@ public interface BiBooleanToLongFunction extends Lambda {
             @Nonnull BooleanUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsLong(before1.applyAsBoolean(value1), before2.applyAsBoolean(value2));
     }
 
@@ -382,10 +548,15 @@ public interface BiBooleanToLongFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiBooleanFunction<S> andThen(@Nonnull LongFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanFunction.constant(after.apply(applyAsLong(false, false)));
+        }
         return (value1, value2) -> after.apply(applyAsLong(value1, value2));
     }
 
@@ -401,10 +572,15 @@ public interface BiBooleanToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanBinaryOperator andThenToBoolean(@Nonnull LongPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanBinaryOperator.constant(after.test(applyAsLong(false, false)));
+        }
         return (value1, value2) -> after.test(applyAsLong(value1, value2));
     }
 
@@ -420,10 +596,15 @@ public interface BiBooleanToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToByteFunction andThenToByte(@Nonnull LongToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToByteFunction.constant(after.applyAsByte(applyAsLong(false, false)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsLong(value1, value2));
     }
 
@@ -439,10 +620,15 @@ public interface BiBooleanToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToCharFunction andThenToChar(@Nonnull LongToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToCharFunction.constant(after.applyAsChar(applyAsLong(false, false)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsLong(value1, value2));
     }
 
@@ -458,10 +644,15 @@ public interface BiBooleanToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToDoubleFunction andThenToDouble(@Nonnull LongToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsLong(false, false)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsLong(value1, value2));
     }
 
@@ -477,10 +668,15 @@ public interface BiBooleanToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToFloatFunction andThenToFloat(@Nonnull LongToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToFloatFunction.constant(after.applyAsFloat(applyAsLong(false, false)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsLong(value1, value2));
     }
 
@@ -496,10 +692,15 @@ public interface BiBooleanToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToIntFunction andThenToInt(@Nonnull LongToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToIntFunction.constant(after.applyAsInt(applyAsLong(false, false)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsLong(value1, value2));
     }
 
@@ -515,10 +716,18 @@ public interface BiBooleanToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToLongFunction andThenToLong(@Nonnull LongUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiBooleanToLongFunction.constant(after.applyAsLong(applyAsLong(false, false)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsLong(value1, value2));
     }
 
@@ -534,10 +743,15 @@ public interface BiBooleanToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToShortFunction andThenToShort(@Nonnull LongToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToShortFunction.constant(after.applyAsShort(applyAsLong(false, false)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsLong(value1, value2));
     }
 
@@ -557,6 +771,16 @@ public interface BiBooleanToLongFunction extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsLong(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToLongFunction2<BooleanBooleanPair> tupled() {
+        return this::applyAsLong;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -564,7 +788,29 @@ public interface BiBooleanToLongFunction extends Lambda {
      */
     @Nonnull
     default BiBooleanToLongFunction reversed() {
-        return (value2, value1) -> applyAsLong(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiBooleanToLongFunction) {
+            return (BiBooleanToLongFunction) original;
+        }
+        /**
+         * A {@code BiBooleanToLongFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiBooleanToLongFunction {
+
+            /**
+             * Creates the reversal of this {@code BiBooleanToLongFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiBooleanToLongFunction.this);
+            }
+
+            @Override
+            public long applyAsLong(boolean value2, boolean value1) {
+                return BiBooleanToLongFunction.this.applyAsLong(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -586,14 +832,114 @@ public interface BiBooleanToLongFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Boolean, Boolean>, Long> cache = new ConcurrentHashMap<>();
-            return (BiBooleanToLongFunction & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsLong(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link BiBooleanToLongFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiBooleanToLongFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiBooleanToLongFunction memoized(@Nonnull MemoStore<BooleanBooleanPair, Long> store) {
+        Objects.requireNonNull(store);
+        return (BiBooleanToLongFunction & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    key -> applyAsLong(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiBooleanToLongFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiBooleanToLongFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiBooleanToLongFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiBooleanToLongFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiBooleanToLongFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiBooleanToLongFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<BooleanBooleanPair, Long> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiBooleanToLongFunction & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    key -> applyAsLong(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link BiBooleanToLongFunction}, which applies this function once to each of
+     * the 4 possible combinations of input arguments in advance, and afterwards answers every call by a lookup in a
+     * table of 4 {@code long} values holding the results. In contrast to {@link #memoized()}, no values are computed or
+     * cached on demand, so the returned function neither synchronizes nor allocates.
+     * <p>
+     * This function has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code BiBooleanToLongFunction}.
+     * @implSpec If this function is already compiled, it is returned itself. Any exception thrown by this function
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned function is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default BiBooleanToLongFunction compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        long[] table = new long[4];
+        for (int i = 0; i < 4; i++) {
+            table[i] = applyAsLong((i & 1) != 0, (i & 2) != 0);
+        }
+        return (BiBooleanToLongFunction & Memoized & Compiled) (value1, value2) -> {
+            int index = (value1 ? 1 : 0) | (value2 ? 2 : 0);
+            return table[index];
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link BiBooleanToLongFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -603,6 +949,24 @@ public interface BiBooleanToLongFunction extends Lambda {
      */
     @Nonnull
     default BiFunction2<Boolean, Boolean, Long> boxed() {
-        return this::applyAsLong;
+        /**
+         * A {@code BiFunction2} which applies this {@code BiBooleanToLongFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<Boolean, Boolean, Long> {
+
+            /**
+             * Creates the boxed variant of this {@code BiBooleanToLongFunction}.
+             */
+            Boxed() {
+                super(BiBooleanToLongFunction.this);
+            }
+
+            @Override
+            public Long apply(Boolean t, Boolean u) {
+                return BiBooleanToLongFunction.this.applyAsLong(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
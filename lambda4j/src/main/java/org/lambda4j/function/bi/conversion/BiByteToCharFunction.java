@@ -16,18 +16,20 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.consumer.bi.BiByteConsumer;
 import org.lambda4j.function.CharFunction;
@@ -48,12 +50,20 @@ import org.lambda4j.function.conversion.IntToByteFunction;
 import org.lambda4j.function.conversion.LongToByteFunction;
 import org.lambda4j.function.conversion.ShortToByteFunction;
 import org.lambda4j.function.to.ToByteFunction;
+import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.ByteBinaryOperator;
 import org.lambda4j.operator.binary.CharBinaryOperator;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
 import org.lambda4j.operator.unary.CharUnaryOperator;
+import org.lambda4j.optional.OptionalChar;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.bi.BiBytePredicate;
+import org.lambda4j.tuple.ByteBytePair;
 
 /**
  * Represents an operation that accepts two {@code byte}-valued input arguments and produces a {@code char}-valued
@@ -87,6 +97,47 @@ public interface BiByteToCharFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiByteToCharFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BiByteToCharFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BiByteToCharFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiByteToCharFunction unboxed(@Nonnull BiFunction<? super Byte, ? super Byte, ? extends Character> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiByteToCharFunction) {
+            return (BiByteToCharFunction) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link BiByteToCharFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiByteFunction} that returns an {@link OptionalChar} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiByteToCharFunction} lifted into a total {@code BiByteFunction} that returns an {@code
+     * OptionalChar} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiByteFunction<OptionalChar> lift(
+            @Nonnull BiBytePredicate isDefined, @Nonnull BiByteToCharFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.test(value1, value2)
+                ? OptionalChar.of(partial.applyAsChar(value1, value2))
+                : OptionalChar.empty();
+    }
+
     /**
      * Calls the given {@link BiByteToCharFunction} with the given arguments and returns its result.
      *
@@ -113,7 +164,25 @@ public interface BiByteToCharFunction extends Lambda {
     @Nonnull
     static BiByteToCharFunction onlyFirst(@Nonnull ByteToCharFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsChar(value1);
+        /**
+         * A {@code BiByteToCharFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiByteToCharFunction {
+
+            /**
+             * Creates a {@code BiByteToCharFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public char applyAsChar(byte value1, byte value2) {
+                return function.applyAsChar(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -128,18 +197,56 @@ public interface BiByteToCharFunction extends Lambda {
     @Nonnull
     static BiByteToCharFunction onlySecond(@Nonnull ByteToCharFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsChar(value2);
+        /**
+         * A {@code BiByteToCharFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiByteToCharFunction {
+
+            /**
+             * Creates a {@code BiByteToCharFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public char applyAsChar(byte value1, byte value2) {
+                return function.applyAsChar(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiByteToCharFunction} which always returns a given value.
+     * Creates a {@link BiByteToCharFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiByteToCharFunction} which always returns a given value.
      */
     @Nonnull
     static BiByteToCharFunction constant(char ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiByteToCharFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiByteToCharFunction {
+
+            /**
+             * Creates a constant {@code BiByteToCharFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public char applyAsChar(byte value1, byte value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -151,6 +258,19 @@ public interface BiByteToCharFunction extends Lambda {
      */
     char applyAsChar(byte value1, byte value2);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ByteBytePair
+     */
+    default char applyAsChar(@Nonnull ByteBytePair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsChar(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link ByteToCharFunction} as result.
      *
@@ -162,6 +282,47 @@ public interface BiByteToCharFunction extends Lambda {
         return value2 -> applyAsChar(value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsCharParallel(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull char[] results) {
+        applyAsCharParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsCharParallel(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull char[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsChar(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -236,6 +397,9 @@ public interface BiByteToCharFunction extends Lambda {
             @Nonnull ByteUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsChar(before1.applyAsByte(value1), before2.applyAsByte(value2));
     }
 
@@ -382,10 +546,15 @@ public interface BiByteToCharFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiByteFunction<S> andThen(@Nonnull CharFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteFunction.constant(after.apply(applyAsChar((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.apply(applyAsChar(value1, value2));
     }
 
@@ -401,10 +570,15 @@ public interface BiByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBytePredicate andThenToBoolean(@Nonnull CharPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBytePredicate.constant(after.test(applyAsChar((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.test(applyAsChar(value1, value2));
     }
 
@@ -420,10 +594,15 @@ public interface BiByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteBinaryOperator andThenToByte(@Nonnull CharToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ByteBinaryOperator.constant(after.applyAsByte(applyAsChar((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsChar(value1, value2));
     }
 
@@ -439,10 +618,18 @@ public interface BiByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToCharFunction andThenToChar(@Nonnull CharUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiByteToCharFunction.constant(after.applyAsChar(applyAsChar((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsChar(value1, value2));
     }
 
@@ -458,10 +645,15 @@ public interface BiByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToDoubleFunction andThenToDouble(@Nonnull CharToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToDoubleFunction.constant(after.applyAsDouble(applyAsChar((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsChar(value1, value2));
     }
 
@@ -477,10 +669,15 @@ public interface BiByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToFloatFunction andThenToFloat(@Nonnull CharToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToFloatFunction.constant(after.applyAsFloat(applyAsChar((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsChar(value1, value2));
     }
 
@@ -496,10 +693,15 @@ public interface BiByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToIntFunction andThenToInt(@Nonnull CharToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToIntFunction.constant(after.applyAsInt(applyAsChar((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsChar(value1, value2));
     }
 
@@ -515,10 +717,15 @@ public interface BiByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToLongFunction andThenToLong(@Nonnull CharToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToLongFunction.constant(after.applyAsLong(applyAsChar((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsChar(value1, value2));
     }
 
@@ -534,10 +741,15 @@ public interface BiByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToShortFunction andThenToShort(@Nonnull CharToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToShortFunction.constant(after.applyAsShort(applyAsChar((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsChar(value1, value2));
     }
 
@@ -557,6 +769,16 @@ public interface BiByteToCharFunction extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsChar(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToCharFunction<ByteBytePair> tupled() {
+        return this::applyAsChar;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -564,7 +786,29 @@ public interface BiByteToCharFunction extends Lambda {
      */
     @Nonnull
     default BiByteToCharFunction reversed() {
-        return (value2, value1) -> applyAsChar(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiByteToCharFunction) {
+            return (BiByteToCharFunction) original;
+        }
+        /**
+         * A {@code BiByteToCharFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiByteToCharFunction {
+
+            /**
+             * Creates the reversal of this {@code BiByteToCharFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiByteToCharFunction.this);
+            }
+
+            @Override
+            public char applyAsChar(byte value2, byte value1) {
+                return BiByteToCharFunction.this.applyAsChar(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -586,14 +830,114 @@ public interface BiByteToCharFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Byte, Byte>, Character> cache = new ConcurrentHashMap<>();
-            return (BiByteToCharFunction & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsChar(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link BiByteToCharFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiByteToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiByteToCharFunction memoized(@Nonnull MemoStore<ByteBytePair, Character> store) {
+        Objects.requireNonNull(store);
+        return (BiByteToCharFunction & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(ByteBytePair.of(value1, value2),
+                    key -> applyAsChar(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiByteToCharFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiByteToCharFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiByteToCharFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiByteToCharFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiByteToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiByteToCharFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<ByteBytePair, Character> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiByteToCharFunction & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(ByteBytePair.of(value1, value2),
+                    key -> applyAsChar(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link BiByteToCharFunction}, which applies this function once to each of the
+     * 65,536 possible combinations of input arguments in advance, and afterwards answers every call by a lookup in a
+     * table of 65,536 {@code char} values holding the results. In contrast to {@link #memoized()}, no values are
+     * computed or cached on demand, so the returned function neither synchronizes nor allocates.
+     * <p>
+     * This function has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code BiByteToCharFunction}.
+     * @implSpec If this function is already compiled, it is returned itself. Any exception thrown by this function
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned function is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default BiByteToCharFunction compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        char[] table = new char[65536];
+        for (int i = 0; i < 65536; i++) {
+            table[i] = applyAsChar((byte) (i >>> 8), (byte) i);
+        }
+        return (BiByteToCharFunction & Memoized & Compiled) (value1, value2) -> {
+            int index = (value1 & 0xFF) << 8 | value2 & 0xFF;
+            return table[index];
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link BiByteToCharFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -603,6 +947,24 @@ public interface BiByteToCharFunction extends Lambda {
      */
     @Nonnull
     default BiFunction2<Byte, Byte, Character> boxed() {
-        return this::applyAsChar;
+        /**
+         * A {@code BiFunction2} which applies this {@code BiByteToCharFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<Byte, Byte, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code BiByteToCharFunction}.
+             */
+            Boxed() {
+                super(BiByteToCharFunction.this);
+            }
+
+            @Override
+            public Character apply(Byte t, Byte u) {
+                return BiByteToCharFunction.this.applyAsChar(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,10 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
 import java.util.function.LongPredicate;
@@ -31,9 +32,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.BiCharConsumer;
 import org.lambda4j.function.bi.BiCharFunction;
 import org.lambda4j.function.bi.BiFunction2;
@@ -50,10 +53,18 @@ import org.lambda4j.function.conversion.LongToFloatFunction;
 import org.lambda4j.function.conversion.LongToShortFunction;
 import org.lambda4j.function.conversion.ShortToCharFunction;
 import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.function.to.ToLongFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.CharBinaryOperator;
 import org.lambda4j.operator.binary.LongBinaryOperator2;
 import org.lambda4j.operator.unary.CharUnaryOperator;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.bi.BiCharPredicate;
+import org.lambda4j.tuple.CharCharPair;
 
 /**
  * Represents an operation that accepts two {@code char}-valued input arguments and produces a {@code long}-valued
@@ -87,6 +98,48 @@ public interface BiCharToLongFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiCharToLongFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BiCharToLongFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BiCharToLongFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiCharToLongFunction unboxed(
+            @Nonnull BiFunction<? super Character, ? super Character, ? extends Long> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiCharToLongFunction) {
+            return (BiCharToLongFunction) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link BiCharToLongFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiCharFunction} that returns an {@link OptionalLong} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiCharToLongFunction} lifted into a total {@code BiCharFunction} that returns an {@code
+     * OptionalLong} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiCharFunction<OptionalLong> lift(
+            @Nonnull BiCharPredicate isDefined, @Nonnull BiCharToLongFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.test(value1, value2)
+                ? OptionalUtils.ofLong(partial.applyAsLong(value1, value2))
+                : OptionalLong.empty();
+    }
+
     /**
      * Calls the given {@link BiCharToLongFunction} with the given arguments and returns its result.
      *
@@ -113,7 +166,25 @@ public interface BiCharToLongFunction extends Lambda {
     @Nonnull
     static BiCharToLongFunction onlyFirst(@Nonnull CharToLongFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsLong(value1);
+        /**
+         * A {@code BiCharToLongFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiCharToLongFunction {
+
+            /**
+             * Creates a {@code BiCharToLongFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public long applyAsLong(char value1, char value2) {
+                return function.applyAsLong(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -128,18 +199,56 @@ public interface BiCharToLongFunction extends Lambda {
     @Nonnull
     static BiCharToLongFunction onlySecond(@Nonnull CharToLongFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsLong(value2);
+        /**
+         * A {@code BiCharToLongFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiCharToLongFunction {
+
+            /**
+             * Creates a {@code BiCharToLongFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public long applyAsLong(char value1, char value2) {
+                return function.applyAsLong(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiCharToLongFunction} which always returns a given value.
+     * Creates a {@link BiCharToLongFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiCharToLongFunction} which always returns a given value.
      */
     @Nonnull
     static BiCharToLongFunction constant(long ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiCharToLongFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiCharToLongFunction {
+
+            /**
+             * Creates a constant {@code BiCharToLongFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public long applyAsLong(char value1, char value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -151,6 +260,19 @@ public interface BiCharToLongFunction extends Lambda {
      */
     long applyAsLong(char value1, char value2);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see CharCharPair
+     */
+    default long applyAsLong(@Nonnull CharCharPair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsLong(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link CharToLongFunction} as result.
      *
@@ -162,6 +284,47 @@ public interface BiCharToLongFunction extends Lambda {
         return value2 -> applyAsLong(value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsLongParallel(@Nonnull char[] values1, @Nonnull char[] values2, @Nonnull long[] results) {
+        applyAsLongParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsLongParallel(@Nonnull char[] values1, @Nonnull char[] values2, @Nonnull long[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsLong(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -258,6 +421,9 @@ public interface BiCharToLongFunction extends Lambda {
             @Nonnull CharUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsLong(before1.applyAsChar(value1), before2.applyAsChar(value2));
     }
 
@@ -382,10 +548,15 @@ public interface BiCharToLongFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiCharFunction<S> andThen(@Nonnull LongFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharFunction.constant(after.apply(applyAsLong('\0', '\0')));
+        }
         return (value1, value2) -> after.apply(applyAsLong(value1, value2));
     }
 
@@ -401,10 +572,15 @@ public interface BiCharToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharPredicate andThenToBoolean(@Nonnull LongPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharPredicate.constant(after.test(applyAsLong('\0', '\0')));
+        }
         return (value1, value2) -> after.test(applyAsLong(value1, value2));
     }
 
@@ -420,10 +596,15 @@ public interface BiCharToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToByteFunction andThenToByte(@Nonnull LongToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToByteFunction.constant(after.applyAsByte(applyAsLong('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsLong(value1, value2));
     }
 
@@ -439,10 +620,15 @@ public interface BiCharToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharBinaryOperator andThenToChar(@Nonnull LongToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharBinaryOperator.constant(after.applyAsChar(applyAsLong('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsLong(value1, value2));
     }
 
@@ -458,10 +644,15 @@ public interface BiCharToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToDoubleFunction andThenToDouble(@Nonnull LongToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToDoubleFunction.constant(after.applyAsDouble(applyAsLong('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsLong(value1, value2));
     }
 
@@ -477,10 +668,15 @@ public interface BiCharToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToFloatFunction andThenToFloat(@Nonnull LongToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToFloatFunction.constant(after.applyAsFloat(applyAsLong('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsLong(value1, value2));
     }
 
@@ -496,10 +692,15 @@ public interface BiCharToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToIntFunction andThenToInt(@Nonnull LongToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToIntFunction.constant(after.applyAsInt(applyAsLong('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsLong(value1, value2));
     }
 
@@ -515,10 +716,18 @@ public interface BiCharToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToLongFunction andThenToLong(@Nonnull LongUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiCharToLongFunction.constant(after.applyAsLong(applyAsLong('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsLong(value1, value2));
     }
 
@@ -534,10 +743,15 @@ public interface BiCharToLongFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToShortFunction andThenToShort(@Nonnull LongToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToShortFunction.constant(after.applyAsShort(applyAsLong('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsLong(value1, value2));
     }
 
@@ -557,6 +771,16 @@ public interface BiCharToLongFunction extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsLong(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToLongFunction2<CharCharPair> tupled() {
+        return this::applyAsLong;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -564,7 +788,29 @@ public interface BiCharToLongFunction extends Lambda {
      */
     @Nonnull
     default BiCharToLongFunction reversed() {
-        return (value2, value1) -> applyAsLong(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiCharToLongFunction) {
+            return (BiCharToLongFunction) original;
+        }
+        /**
+         * A {@code BiCharToLongFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiCharToLongFunction {
+
+            /**
+             * Creates the reversal of this {@code BiCharToLongFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiCharToLongFunction.this);
+            }
+
+            @Override
+            public long applyAsLong(char value2, char value1) {
+                return BiCharToLongFunction.this.applyAsLong(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -586,14 +832,84 @@ public interface BiCharToLongFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Character, Character>, Long> cache = new ConcurrentHashMap<>();
-            return (BiCharToLongFunction & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsLong(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiCharToLongFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiCharToLongFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiCharToLongFunction memoized(@Nonnull MemoStore<CharCharPair, Long> store) {
+        Objects.requireNonNull(store);
+        return (BiCharToLongFunction & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(CharCharPair.of(value1, value2),
+                    key -> applyAsLong(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiCharToLongFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiCharToLongFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiCharToLongFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiCharToLongFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiCharToLongFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiCharToLongFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<CharCharPair, Long> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiCharToLongFunction & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(CharCharPair.of(value1, value2),
+                    key -> applyAsLong(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link BiCharToLongFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -603,6 +919,24 @@ public interface BiCharToLongFunction extends Lambda {
      */
     @Nonnull
     default BiFunction2<Character, Character, Long> boxed() {
-        return this::applyAsLong;
+        /**
+         * A {@code BiFunction2} which applies this {@code BiCharToLongFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<Character, Character, Long> {
+
+            /**
+             * Creates the boxed variant of this {@code BiCharToLongFunction}.
+             */
+            Boxed() {
+                super(BiCharToLongFunction.this);
+            }
+
+            @Override
+            public Long apply(Character t, Character u) {
+                return BiCharToLongFunction.this.applyAsLong(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
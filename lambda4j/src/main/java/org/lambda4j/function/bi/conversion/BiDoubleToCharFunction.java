@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.IntToDoubleFunction;
 import java.util.function.LongToDoubleFunction;
@@ -29,9 +29,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.consumer.bi.BiDoubleConsumer;
 import org.lambda4j.function.CharFunction;
@@ -49,11 +51,19 @@ import org.lambda4j.function.conversion.CharToShortFunction;
 import org.lambda4j.function.conversion.DoubleToCharFunction;
 import org.lambda4j.function.conversion.FloatToDoubleFunction;
 import org.lambda4j.function.conversion.ShortToDoubleFunction;
+import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.CharBinaryOperator;
 import org.lambda4j.operator.binary.DoubleBinaryOperator2;
 import org.lambda4j.operator.unary.CharUnaryOperator;
+import org.lambda4j.optional.OptionalChar;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.bi.BiDoublePredicate;
+import org.lambda4j.tuple.DoubleDoublePair;
 
 /**
  * Represents an operation that accepts two {@code double}-valued input arguments and produces a {@code char}-valued
@@ -87,6 +97,48 @@ public interface BiDoubleToCharFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiDoubleToCharFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BiDoubleToCharFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BiDoubleToCharFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiDoubleToCharFunction unboxed(
+            @Nonnull BiFunction<? super Double, ? super Double, ? extends Character> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiDoubleToCharFunction) {
+            return (BiDoubleToCharFunction) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link BiDoubleToCharFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiDoubleFunction} that returns an {@link OptionalChar} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiDoubleToCharFunction} lifted into a total {@code BiDoubleFunction} that returns an
+     * {@code OptionalChar} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiDoubleFunction<OptionalChar> lift(
+            @Nonnull BiDoublePredicate isDefined, @Nonnull BiDoubleToCharFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.test(value1, value2)
+                ? OptionalChar.of(partial.applyAsChar(value1, value2))
+                : OptionalChar.empty();
+    }
+
     /**
      * Calls the given {@link BiDoubleToCharFunction} with the given arguments and returns its result.
      *
@@ -113,7 +165,25 @@ public interface BiDoubleToCharFunction extends Lambda {
     @Nonnull
     static BiDoubleToCharFunction onlyFirst(@Nonnull DoubleToCharFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsChar(value1);
+        /**
+         * A {@code BiDoubleToCharFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiDoubleToCharFunction {
+
+            /**
+             * Creates a {@code BiDoubleToCharFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public char applyAsChar(double value1, double value2) {
+                return function.applyAsChar(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -128,18 +198,56 @@ public interface BiDoubleToCharFunction extends Lambda {
     @Nonnull
     static BiDoubleToCharFunction onlySecond(@Nonnull DoubleToCharFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsChar(value2);
+        /**
+         * A {@code BiDoubleToCharFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiDoubleToCharFunction {
+
+            /**
+             * Creates a {@code BiDoubleToCharFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public char applyAsChar(double value1, double value2) {
+                return function.applyAsChar(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiDoubleToCharFunction} which always returns a given value.
+     * Creates a {@link BiDoubleToCharFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiDoubleToCharFunction} which always returns a given value.
      */
     @Nonnull
     static BiDoubleToCharFunction constant(char ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiDoubleToCharFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiDoubleToCharFunction {
+
+            /**
+             * Creates a constant {@code BiDoubleToCharFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public char applyAsChar(double value1, double value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -151,6 +259,19 @@ public interface BiDoubleToCharFunction extends Lambda {
      */
     char applyAsChar(double value1, double value2);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see DoubleDoublePair
+     */
+    default char applyAsChar(@Nonnull DoubleDoublePair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsChar(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link DoubleToCharFunction} as
      * result.
@@ -163,6 +284,47 @@ public interface BiDoubleToCharFunction extends Lambda {
         return value2 -> applyAsChar(value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsCharParallel(@Nonnull double[] values1, @Nonnull double[] values2, @Nonnull char[] results) {
+        applyAsCharParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsCharParallel(@Nonnull double[] values1, @Nonnull double[] values2, @Nonnull char[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsChar(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -281,6 +443,9 @@ public interface BiDoubleToCharFunction extends Lambda {
             @Nonnull DoubleUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsChar(before1.applyAsDouble(value1), before2.applyAsDouble(value2));
     }
 
@@ -383,10 +548,15 @@ public interface BiDoubleToCharFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiDoubleFunction<S> andThen(@Nonnull CharFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleFunction.constant(after.apply(applyAsChar(0d, 0d)));
+        }
         return (value1, value2) -> after.apply(applyAsChar(value1, value2));
     }
 
@@ -402,10 +572,15 @@ public interface BiDoubleToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoublePredicate andThenToBoolean(@Nonnull CharPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoublePredicate.constant(after.test(applyAsChar(0d, 0d)));
+        }
         return (value1, value2) -> after.test(applyAsChar(value1, value2));
     }
 
@@ -421,10 +596,15 @@ public interface BiDoubleToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToByteFunction andThenToByte(@Nonnull CharToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToByteFunction.constant(after.applyAsByte(applyAsChar(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsChar(value1, value2));
     }
 
@@ -440,10 +620,18 @@ public interface BiDoubleToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToCharFunction andThenToChar(@Nonnull CharUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiDoubleToCharFunction.constant(after.applyAsChar(applyAsChar(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsChar(value1, value2));
     }
 
@@ -459,10 +647,15 @@ public interface BiDoubleToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleBinaryOperator2 andThenToDouble(@Nonnull CharToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleBinaryOperator2.constant(after.applyAsDouble(applyAsChar(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsChar(value1, value2));
     }
 
@@ -478,10 +671,15 @@ public interface BiDoubleToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToFloatFunction andThenToFloat(@Nonnull CharToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToFloatFunction.constant(after.applyAsFloat(applyAsChar(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsChar(value1, value2));
     }
 
@@ -497,10 +695,15 @@ public interface BiDoubleToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToIntFunction andThenToInt(@Nonnull CharToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToIntFunction.constant(after.applyAsInt(applyAsChar(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsChar(value1, value2));
     }
 
@@ -516,10 +719,15 @@ public interface BiDoubleToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToLongFunction andThenToLong(@Nonnull CharToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToLongFunction.constant(after.applyAsLong(applyAsChar(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsChar(value1, value2));
     }
 
@@ -535,10 +743,15 @@ public interface BiDoubleToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToShortFunction andThenToShort(@Nonnull CharToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToShortFunction.constant(after.applyAsShort(applyAsChar(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsChar(value1, value2));
     }
 
@@ -558,6 +771,16 @@ public interface BiDoubleToCharFunction extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsChar(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToCharFunction<DoubleDoublePair> tupled() {
+        return this::applyAsChar;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -565,7 +788,29 @@ public interface BiDoubleToCharFunction extends Lambda {
      */
     @Nonnull
     default BiDoubleToCharFunction reversed() {
-        return (value2, value1) -> applyAsChar(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiDoubleToCharFunction) {
+            return (BiDoubleToCharFunction) original;
+        }
+        /**
+         * A {@code BiDoubleToCharFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiDoubleToCharFunction {
+
+            /**
+             * Creates the reversal of this {@code BiDoubleToCharFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiDoubleToCharFunction.this);
+            }
+
+            @Override
+            public char applyAsChar(double value2, double value1) {
+                return BiDoubleToCharFunction.this.applyAsChar(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -587,14 +832,84 @@ public interface BiDoubleToCharFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Double, Double>, Character> cache = new ConcurrentHashMap<>();
-            return (BiDoubleToCharFunction & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsChar(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiDoubleToCharFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiDoubleToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiDoubleToCharFunction memoized(@Nonnull MemoStore<DoubleDoublePair, Character> store) {
+        Objects.requireNonNull(store);
+        return (BiDoubleToCharFunction & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(DoubleDoublePair.of(value1, value2),
+                    key -> applyAsChar(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiDoubleToCharFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiDoubleToCharFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiDoubleToCharFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiDoubleToCharFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiDoubleToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiDoubleToCharFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<DoubleDoublePair, Character> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiDoubleToCharFunction & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(DoubleDoublePair.of(value1, value2),
+                    key -> applyAsChar(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link BiDoubleToCharFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -604,6 +919,24 @@ public interface BiDoubleToCharFunction extends Lambda {
      */
     @Nonnull
     default BiFunction2<Double, Double, Character> boxed() {
-        return this::applyAsChar;
+        /**
+         * A {@code BiFunction2} which applies this {@code BiDoubleToCharFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<Double, Double, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code BiDoubleToCharFunction}.
+             */
+            Boxed() {
+                super(BiDoubleToCharFunction.this);
+            }
+
+            @Override
+            public Character apply(Double t, Double u) {
+                return BiDoubleToCharFunction.this.applyAsChar(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
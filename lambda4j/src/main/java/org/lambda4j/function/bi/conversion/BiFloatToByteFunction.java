@@ -16,18 +16,20 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.ByteConsumer;
 import org.lambda4j.consumer.bi.BiFloatConsumer;
 import org.lambda4j.function.ByteFunction;
@@ -47,13 +49,21 @@ import org.lambda4j.function.conversion.FloatToByteFunction;
 import org.lambda4j.function.conversion.IntToFloatFunction;
 import org.lambda4j.function.conversion.LongToFloatFunction;
 import org.lambda4j.function.conversion.ShortToFloatFunction;
+import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.to.ToFloatFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.ByteBinaryOperator;
 import org.lambda4j.operator.binary.FloatBinaryOperator;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
+import org.lambda4j.optional.OptionalByte;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.bi.BiFloatPredicate;
+import org.lambda4j.tuple.FloatFloatPair;
 
 /**
  * Represents an operation that accepts two {@code float}-valued input arguments and produces a {@code byte}-valued
@@ -87,6 +97,47 @@ public interface BiFloatToByteFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiFloatToByteFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BiFloatToByteFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BiFloatToByteFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiFloatToByteFunction unboxed(@Nonnull BiFunction<? super Float, ? super Float, ? extends Byte> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiFloatToByteFunction) {
+            return (BiFloatToByteFunction) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link BiFloatToByteFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiFloatFunction} that returns an {@link OptionalByte} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiFloatToByteFunction} lifted into a total {@code BiFloatFunction} that returns an
+     * {@code OptionalByte} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiFloatFunction<OptionalByte> lift(
+            @Nonnull BiFloatPredicate isDefined, @Nonnull BiFloatToByteFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.test(value1, value2)
+                ? OptionalByte.of(partial.applyAsByte(value1, value2))
+                : OptionalByte.empty();
+    }
+
     /**
      * Calls the given {@link BiFloatToByteFunction} with the given arguments and returns its result.
      *
@@ -113,7 +164,25 @@ public interface BiFloatToByteFunction extends Lambda {
     @Nonnull
     static BiFloatToByteFunction onlyFirst(@Nonnull FloatToByteFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsByte(value1);
+        /**
+         * A {@code BiFloatToByteFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiFloatToByteFunction {
+
+            /**
+             * Creates a {@code BiFloatToByteFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public byte applyAsByte(float value1, float value2) {
+                return function.applyAsByte(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -128,18 +197,56 @@ public interface BiFloatToByteFunction extends Lambda {
     @Nonnull
     static BiFloatToByteFunction onlySecond(@Nonnull FloatToByteFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsByte(value2);
+        /**
+         * A {@code BiFloatToByteFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiFloatToByteFunction {
+
+            /**
+             * Creates a {@code BiFloatToByteFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public byte applyAsByte(float value1, float value2) {
+                return function.applyAsByte(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiFloatToByteFunction} which always returns a given value.
+     * Creates a {@link BiFloatToByteFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiFloatToByteFunction} which always returns a given value.
      */
     @Nonnull
     static BiFloatToByteFunction constant(byte ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiFloatToByteFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiFloatToByteFunction {
+
+            /**
+             * Creates a constant {@code BiFloatToByteFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public byte applyAsByte(float value1, float value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -151,6 +258,19 @@ public interface BiFloatToByteFunction extends Lambda {
      */
     byte applyAsByte(float value1, float value2);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see FloatFloatPair
+     */
+    default byte applyAsByte(@Nonnull FloatFloatPair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsByte(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link FloatToByteFunction} as
      * result.
@@ -163,6 +283,47 @@ public interface BiFloatToByteFunction extends Lambda {
         return value2 -> applyAsByte(value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsByteParallel(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull byte[] results) {
+        applyAsByteParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsByteParallel(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull byte[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsByte(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -303,6 +464,9 @@ public interface BiFloatToByteFunction extends Lambda {
             @Nonnull FloatUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsByte(before1.applyAsFloat(value1), before2.applyAsFloat(value2));
     }
 
@@ -383,10 +547,15 @@ public interface BiFloatToByteFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiFloatFunction<S> andThen(@Nonnull ByteFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatFunction.constant(after.apply(applyAsByte(0f, 0f)));
+        }
         return (value1, value2) -> after.apply(applyAsByte(value1, value2));
     }
 
@@ -402,10 +571,15 @@ public interface BiFloatToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatPredicate andThenToBoolean(@Nonnull BytePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatPredicate.constant(after.test(applyAsByte(0f, 0f)));
+        }
         return (value1, value2) -> after.test(applyAsByte(value1, value2));
     }
 
@@ -421,10 +595,18 @@ public interface BiFloatToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToByteFunction andThenToByte(@Nonnull ByteUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiFloatToByteFunction.constant(after.applyAsByte(applyAsByte(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsByte(value1, value2));
     }
 
@@ -440,10 +622,15 @@ public interface BiFloatToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToCharFunction andThenToChar(@Nonnull ByteToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToCharFunction.constant(after.applyAsChar(applyAsByte(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsByte(value1, value2));
     }
 
@@ -459,10 +646,15 @@ public interface BiFloatToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToDoubleFunction andThenToDouble(@Nonnull ByteToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToDoubleFunction.constant(after.applyAsDouble(applyAsByte(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsByte(value1, value2));
     }
 
@@ -478,10 +670,15 @@ public interface BiFloatToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatBinaryOperator andThenToFloat(@Nonnull ByteToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatBinaryOperator.constant(after.applyAsFloat(applyAsByte(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsByte(value1, value2));
     }
 
@@ -497,10 +694,15 @@ public interface BiFloatToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToIntFunction andThenToInt(@Nonnull ByteToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToIntFunction.constant(after.applyAsInt(applyAsByte(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsByte(value1, value2));
     }
 
@@ -516,10 +718,15 @@ public interface BiFloatToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToLongFunction andThenToLong(@Nonnull ByteToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToLongFunction.constant(after.applyAsLong(applyAsByte(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsByte(value1, value2));
     }
 
@@ -535,10 +742,15 @@ public interface BiFloatToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToShortFunction andThenToShort(@Nonnull ByteToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToShortFunction.constant(after.applyAsShort(applyAsByte(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsByte(value1, value2));
     }
 
@@ -558,6 +770,16 @@ public interface BiFloatToByteFunction extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsByte(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToByteFunction<FloatFloatPair> tupled() {
+        return this::applyAsByte;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -565,7 +787,29 @@ public interface BiFloatToByteFunction extends Lambda {
      */
     @Nonnull
     default BiFloatToByteFunction reversed() {
-        return (value2, value1) -> applyAsByte(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiFloatToByteFunction) {
+            return (BiFloatToByteFunction) original;
+        }
+        /**
+         * A {@code BiFloatToByteFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiFloatToByteFunction {
+
+            /**
+             * Creates the reversal of this {@code BiFloatToByteFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiFloatToByteFunction.this);
+            }
+
+            @Override
+            public byte applyAsByte(float value2, float value1) {
+                return BiFloatToByteFunction.this.applyAsByte(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -587,14 +831,84 @@ public interface BiFloatToByteFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Float, Float>, Byte> cache = new ConcurrentHashMap<>();
-            return (BiFloatToByteFunction & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsByte(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiFloatToByteFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiFloatToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiFloatToByteFunction memoized(@Nonnull MemoStore<FloatFloatPair, Byte> store) {
+        Objects.requireNonNull(store);
+        return (BiFloatToByteFunction & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(FloatFloatPair.of(value1, value2),
+                    key -> applyAsByte(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiFloatToByteFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiFloatToByteFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiFloatToByteFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiFloatToByteFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiFloatToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiFloatToByteFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<FloatFloatPair, Byte> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiFloatToByteFunction & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(FloatFloatPair.of(value1, value2),
+                    key -> applyAsByte(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link BiFloatToByteFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -604,6 +918,24 @@ public interface BiFloatToByteFunction extends Lambda {
      */
     @Nonnull
     default BiFunction2<Float, Float, Byte> boxed() {
-        return this::applyAsByte;
+        /**
+         * A {@code BiFunction2} which applies this {@code BiFloatToByteFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<Float, Float, Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code BiFloatToByteFunction}.
+             */
+            Boxed() {
+                super(BiFloatToByteFunction.this);
+            }
+
+            @Override
+            public Byte apply(Float t, Float u) {
+                return BiFloatToByteFunction.this.applyAsByte(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
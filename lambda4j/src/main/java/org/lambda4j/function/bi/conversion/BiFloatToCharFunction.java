@@ -16,18 +16,20 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.consumer.bi.BiFloatConsumer;
 import org.lambda4j.function.CharFunction;
@@ -47,13 +49,21 @@ import org.lambda4j.function.conversion.FloatToCharFunction;
 import org.lambda4j.function.conversion.IntToFloatFunction;
 import org.lambda4j.function.conversion.LongToFloatFunction;
 import org.lambda4j.function.conversion.ShortToFloatFunction;
+import org.lambda4j.function.to.ToCharFunction;
 import org.lambda4j.function.to.ToFloatFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.CharBinaryOperator;
 import org.lambda4j.operator.binary.FloatBinaryOperator;
 import org.lambda4j.operator.unary.CharUnaryOperator;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
+import org.lambda4j.optional.OptionalChar;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.bi.BiFloatPredicate;
+import org.lambda4j.tuple.FloatFloatPair;
 
 /**
  * Represents an operation that accepts two {@code float}-valued input arguments and produces a {@code char}-valued
@@ -87,6 +97,48 @@ public interface BiFloatToCharFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiFloatToCharFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BiFloatToCharFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BiFloatToCharFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiFloatToCharFunction unboxed(
+            @Nonnull BiFunction<? super Float, ? super Float, ? extends Character> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiFloatToCharFunction) {
+            return (BiFloatToCharFunction) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link BiFloatToCharFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiFloatFunction} that returns an {@link OptionalChar} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiFloatToCharFunction} lifted into a total {@code BiFloatFunction} that returns an
+     * {@code OptionalChar} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiFloatFunction<OptionalChar> lift(
+            @Nonnull BiFloatPredicate isDefined, @Nonnull BiFloatToCharFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.test(value1, value2)
+                ? OptionalChar.of(partial.applyAsChar(value1, value2))
+                : OptionalChar.empty();
+    }
+
     /**
      * Calls the given {@link BiFloatToCharFunction} with the given arguments and returns its result.
      *
@@ -113,7 +165,25 @@ public interface BiFloatToCharFunction extends Lambda {
     @Nonnull
     static BiFloatToCharFunction onlyFirst(@Nonnull FloatToCharFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsChar(value1);
+        /**
+         * A {@code BiFloatToCharFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiFloatToCharFunction {
+
+            /**
+             * Creates a {@code BiFloatToCharFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public char applyAsChar(float value1, float value2) {
+                return function.applyAsChar(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -128,18 +198,56 @@ public interface BiFloatToCharFunction extends Lambda {
     @Nonnull
     static BiFloatToCharFunction onlySecond(@Nonnull FloatToCharFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsChar(value2);
+        /**
+         * A {@code BiFloatToCharFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiFloatToCharFunction {
+
+            /**
+             * Creates a {@code BiFloatToCharFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public char applyAsChar(float value1, float value2) {
+                return function.applyAsChar(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiFloatToCharFunction} which always returns a given value.
+     * Creates a {@link BiFloatToCharFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiFloatToCharFunction} which always returns a given value.
      */
     @Nonnull
     static BiFloatToCharFunction constant(char ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiFloatToCharFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiFloatToCharFunction {
+
+            /**
+             * Creates a constant {@code BiFloatToCharFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public char applyAsChar(float value1, float value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -151,6 +259,19 @@ public interface BiFloatToCharFunction extends Lambda {
      */
     char applyAsChar(float value1, float value2);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see FloatFloatPair
+     */
+    default char applyAsChar(@Nonnull FloatFloatPair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsChar(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link FloatToCharFunction} as
      * result.
@@ -163,6 +284,47 @@ public interface BiFloatToCharFunction extends Lambda {
         return value2 -> applyAsChar(value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsCharParallel(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull char[] results) {
+        applyAsCharParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsCharParallel(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull char[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsChar(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -303,6 +465,9 @@ public interface BiFloatToCharFunction extends Lambda {
             @Nonnull FloatUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsChar(before1.applyAsFloat(value1), before2.applyAsFloat(value2));
     }
 
@@ -383,10 +548,15 @@ public interface BiFloatToCharFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiFloatFunction<S> andThen(@Nonnull CharFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatFunction.constant(after.apply(applyAsChar(0f, 0f)));
+        }
         return (value1, value2) -> after.apply(applyAsChar(value1, value2));
     }
 
@@ -402,10 +572,15 @@ public interface BiFloatToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatPredicate andThenToBoolean(@Nonnull CharPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatPredicate.constant(after.test(applyAsChar(0f, 0f)));
+        }
         return (value1, value2) -> after.test(applyAsChar(value1, value2));
     }
 
@@ -421,10 +596,15 @@ public interface BiFloatToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToByteFunction andThenToByte(@Nonnull CharToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToByteFunction.constant(after.applyAsByte(applyAsChar(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsChar(value1, value2));
     }
 
@@ -440,10 +620,18 @@ public interface BiFloatToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToCharFunction andThenToChar(@Nonnull CharUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiFloatToCharFunction.constant(after.applyAsChar(applyAsChar(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsChar(value1, value2));
     }
 
@@ -459,10 +647,15 @@ public interface BiFloatToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToDoubleFunction andThenToDouble(@Nonnull CharToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToDoubleFunction.constant(after.applyAsDouble(applyAsChar(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsChar(value1, value2));
     }
 
@@ -478,10 +671,15 @@ public interface BiFloatToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatBinaryOperator andThenToFloat(@Nonnull CharToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatBinaryOperator.constant(after.applyAsFloat(applyAsChar(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsChar(value1, value2));
     }
 
@@ -497,10 +695,15 @@ public interface BiFloatToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToIntFunction andThenToInt(@Nonnull CharToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToIntFunction.constant(after.applyAsInt(applyAsChar(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsChar(value1, value2));
     }
 
@@ -516,10 +719,15 @@ public interface BiFloatToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToLongFunction andThenToLong(@Nonnull CharToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToLongFunction.constant(after.applyAsLong(applyAsChar(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsChar(value1, value2));
     }
 
@@ -535,10 +743,15 @@ public interface BiFloatToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToShortFunction andThenToShort(@Nonnull CharToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToShortFunction.constant(after.applyAsShort(applyAsChar(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsChar(value1, value2));
     }
 
@@ -558,6 +771,16 @@ public interface BiFloatToCharFunction extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsChar(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToCharFunction<FloatFloatPair> tupled() {
+        return this::applyAsChar;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -565,7 +788,29 @@ public interface BiFloatToCharFunction extends Lambda {
      */
     @Nonnull
     default BiFloatToCharFunction reversed() {
-        return (value2, value1) -> applyAsChar(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiFloatToCharFunction) {
+            return (BiFloatToCharFunction) original;
+        }
+        /**
+         * A {@code BiFloatToCharFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiFloatToCharFunction {
+
+            /**
+             * Creates the reversal of this {@code BiFloatToCharFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiFloatToCharFunction.this);
+            }
+
+            @Override
+            public char applyAsChar(float value2, float value1) {
+                return BiFloatToCharFunction.this.applyAsChar(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -587,14 +832,84 @@ public interface BiFloatToCharFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Float, Float>, Character> cache = new ConcurrentHashMap<>();
-            return (BiFloatToCharFunction & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsChar(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiFloatToCharFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiFloatToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiFloatToCharFunction memoized(@Nonnull MemoStore<FloatFloatPair, Character> store) {
+        Objects.requireNonNull(store);
+        return (BiFloatToCharFunction & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(FloatFloatPair.of(value1, value2),
+                    key -> applyAsChar(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiFloatToCharFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiFloatToCharFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiFloatToCharFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiFloatToCharFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiFloatToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiFloatToCharFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<FloatFloatPair, Character> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiFloatToCharFunction & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(FloatFloatPair.of(value1, value2),
+                    key -> applyAsChar(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link BiFloatToCharFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -604,6 +919,24 @@ public interface BiFloatToCharFunction extends Lambda {
      */
     @Nonnull
     default BiFunction2<Float, Float, Character> boxed() {
-        return this::applyAsChar;
+        /**
+         * A {@code BiFunction2} which applies this {@code BiFloatToCharFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<Float, Float, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code BiFloatToCharFunction}.
+             */
+            Boxed() {
+                super(BiFloatToCharFunction.this);
+            }
+
+            @Override
+            public Character apply(Float t, Float u) {
+                return BiFloatToCharFunction.this.applyAsChar(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,10 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
@@ -31,9 +32,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.BiFloatConsumer;
 import org.lambda4j.function.bi.BiFloatFunction;
 import org.lambda4j.function.bi.BiFunction2;
@@ -50,10 +53,18 @@ import org.lambda4j.function.conversion.IntToShortFunction;
 import org.lambda4j.function.conversion.LongToFloatFunction;
 import org.lambda4j.function.conversion.ShortToFloatFunction;
 import org.lambda4j.function.to.ToFloatFunction;
+import org.lambda4j.function.to.ToIntFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.FloatBinaryOperator;
 import org.lambda4j.operator.binary.IntBinaryOperator2;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.bi.BiFloatPredicate;
+import org.lambda4j.tuple.FloatFloatPair;
 
 /**
  * Represents an operation that accepts two {@code float}-valued input arguments and produces a {@code int}-valued
@@ -87,6 +98,47 @@ public interface BiFloatToIntFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiFloatToIntFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BiFloatToIntFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BiFloatToIntFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiFloatToIntFunction unboxed(@Nonnull BiFunction<? super Float, ? super Float, ? extends Integer> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiFloatToIntFunction) {
+            return (BiFloatToIntFunction) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link BiFloatToIntFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiFloatFunction} that returns an {@link OptionalInt} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiFloatToIntFunction} lifted into a total {@code BiFloatFunction} that returns an {@code
+     * OptionalInt} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiFloatFunction<OptionalInt> lift(
+            @Nonnull BiFloatPredicate isDefined, @Nonnull BiFloatToIntFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.test(value1, value2)
+                ? OptionalUtils.ofInt(partial.applyAsInt(value1, value2))
+                : OptionalInt.empty();
+    }
+
     /**
      * Calls the given {@link BiFloatToIntFunction} with the given arguments and returns its result.
      *
@@ -113,7 +165,25 @@ public interface BiFloatToIntFunction extends Lambda {
     @Nonnull
     static BiFloatToIntFunction onlyFirst(@Nonnull FloatToIntFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsInt(value1);
+        /**
+         * A {@code BiFloatToIntFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiFloatToIntFunction {
+
+            /**
+             * Creates a {@code BiFloatToIntFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public int applyAsInt(float value1, float value2) {
+                return function.applyAsInt(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -128,18 +198,56 @@ public interface BiFloatToIntFunction extends Lambda {
     @Nonnull
     static BiFloatToIntFunction onlySecond(@Nonnull FloatToIntFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsInt(value2);
+        /**
+         * A {@code BiFloatToIntFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiFloatToIntFunction {
+
+            /**
+             * Creates a {@code BiFloatToIntFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public int applyAsInt(float value1, float value2) {
+                return function.applyAsInt(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiFloatToIntFunction} which always returns a given value.
+     * Creates a {@link BiFloatToIntFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiFloatToIntFunction} which always returns a given value.
      */
     @Nonnull
     static BiFloatToIntFunction constant(int ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiFloatToIntFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiFloatToIntFunction {
+
+            /**
+             * Creates a constant {@code BiFloatToIntFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public int applyAsInt(float value1, float value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -151,6 +259,19 @@ public interface BiFloatToIntFunction extends Lambda {
      */
     int applyAsInt(float value1, float value2);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see FloatFloatPair
+     */
+    default int applyAsInt(@Nonnull FloatFloatPair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsInt(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link FloatToIntFunction} as result.
      *
@@ -162,6 +283,47 @@ public interface BiFloatToIntFunction extends Lambda {
         return value2 -> applyAsInt(value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsIntParallel(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull int[] results) {
+        applyAsIntParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsIntParallel(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull int[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsInt(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -302,6 +464,9 @@ public interface BiFloatToIntFunction extends Lambda {
             @Nonnull FloatUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsInt(before1.applyAsFloat(value1), before2.applyAsFloat(value2));
     }
 
@@ -382,10 +547,15 @@ public interface BiFloatToIntFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiFloatFunction<S> andThen(@Nonnull IntFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatFunction.constant(after.apply(applyAsInt(0f, 0f)));
+        }
         return (value1, value2) -> after.apply(applyAsInt(value1, value2));
     }
 
@@ -401,10 +571,15 @@ public interface BiFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatPredicate andThenToBoolean(@Nonnull IntPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatPredicate.constant(after.test(applyAsInt(0f, 0f)));
+        }
         return (value1, value2) -> after.test(applyAsInt(value1, value2));
     }
 
@@ -420,10 +595,15 @@ public interface BiFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToByteFunction andThenToByte(@Nonnull IntToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToByteFunction.constant(after.applyAsByte(applyAsInt(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsInt(value1, value2));
     }
 
@@ -439,10 +619,15 @@ public interface BiFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToCharFunction andThenToChar(@Nonnull IntToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToCharFunction.constant(after.applyAsChar(applyAsInt(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsInt(value1, value2));
     }
 
@@ -458,10 +643,15 @@ public interface BiFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToDoubleFunction andThenToDouble(@Nonnull IntToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToDoubleFunction.constant(after.applyAsDouble(applyAsInt(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsInt(value1, value2));
     }
 
@@ -477,10 +667,15 @@ public interface BiFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatBinaryOperator andThenToFloat(@Nonnull IntToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatBinaryOperator.constant(after.applyAsFloat(applyAsInt(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsInt(value1, value2));
     }
 
@@ -496,10 +691,18 @@ public interface BiFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToIntFunction andThenToInt(@Nonnull IntUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiFloatToIntFunction.constant(after.applyAsInt(applyAsInt(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsInt(value1, value2));
     }
 
@@ -515,10 +718,15 @@ public interface BiFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToLongFunction andThenToLong(@Nonnull IntToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToLongFunction.constant(after.applyAsLong(applyAsInt(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsInt(value1, value2));
     }
 
@@ -534,10 +742,15 @@ public interface BiFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToShortFunction andThenToShort(@Nonnull IntToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToShortFunction.constant(after.applyAsShort(applyAsInt(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsInt(value1, value2));
     }
 
@@ -557,6 +770,16 @@ public interface BiFloatToIntFunction extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsInt(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToIntFunction2<FloatFloatPair> tupled() {
+        return this::applyAsInt;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -564,7 +787,29 @@ public interface BiFloatToIntFunction extends Lambda {
      */
     @Nonnull
     default BiFloatToIntFunction reversed() {
-        return (value2, value1) -> applyAsInt(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiFloatToIntFunction) {
+            return (BiFloatToIntFunction) original;
+        }
+        /**
+         * A {@code BiFloatToIntFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiFloatToIntFunction {
+
+            /**
+             * Creates the reversal of this {@code BiFloatToIntFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiFloatToIntFunction.this);
+            }
+
+            @Override
+            public int applyAsInt(float value2, float value1) {
+                return BiFloatToIntFunction.this.applyAsInt(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -586,13 +831,84 @@ public interface BiFloatToIntFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Float, Float>, Integer> cache = new ConcurrentHashMap<>();
-            return (BiFloatToIntFunction & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2), key -> applyAsInt(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiFloatToIntFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiFloatToIntFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiFloatToIntFunction memoized(@Nonnull MemoStore<FloatFloatPair, Integer> store) {
+        Objects.requireNonNull(store);
+        return (BiFloatToIntFunction & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(FloatFloatPair.of(value1, value2),
+                    key -> applyAsInt(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiFloatToIntFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiFloatToIntFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiFloatToIntFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiFloatToIntFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiFloatToIntFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiFloatToIntFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<FloatFloatPair, Integer> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiFloatToIntFunction & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(FloatFloatPair.of(value1, value2),
+                    key -> applyAsInt(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link BiFloatToIntFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -602,6 +918,24 @@ public interface BiFloatToIntFunction extends Lambda {
      */
     @Nonnull
     default BiFunction2<Float, Float, Integer> boxed() {
-        return this::applyAsInt;
+        /**
+         * A {@code BiFunction2} which applies this {@code BiFloatToIntFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<Float, Float, Integer> {
+
+            /**
+             * Creates the boxed variant of this {@code BiFloatToIntFunction}.
+             */
+            Boxed() {
+                super(BiFloatToIntFunction.this);
+            }
+
+            @Override
+            public Integer apply(Float t, Float u) {
+                return BiFloatToIntFunction.this.applyAsInt(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
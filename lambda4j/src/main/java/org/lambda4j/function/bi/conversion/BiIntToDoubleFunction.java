@@ -16,9 +16,10 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -35,9 +36,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.BiIntConsumer;
 import org.lambda4j.function.bi.BiFunction2;
 import org.lambda4j.function.bi.BiIntFunction;
@@ -52,9 +55,16 @@ import org.lambda4j.function.conversion.DoubleToShortFunction;
 import org.lambda4j.function.conversion.FloatToIntFunction;
 import org.lambda4j.function.conversion.IntToDoubleFunction2;
 import org.lambda4j.function.conversion.ShortToIntFunction;
+import org.lambda4j.function.to.ToDoubleFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.DoubleBinaryOperator2;
 import org.lambda4j.operator.binary.IntBinaryOperator2;
 import org.lambda4j.predicate.bi.BiIntPredicate;
+import org.lambda4j.tuple.IntIntPair;
 
 /**
  * Represents an operation that accepts two {@code int}-valued input arguments and produces a {@code double}-valued
@@ -88,6 +98,48 @@ public interface BiIntToDoubleFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiIntToDoubleFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BiIntToDoubleFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BiIntToDoubleFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiIntToDoubleFunction unboxed(
+            @Nonnull BiFunction<? super Integer, ? super Integer, ? extends Double> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiIntToDoubleFunction) {
+            return (BiIntToDoubleFunction) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link BiIntToDoubleFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiIntFunction} that returns an {@link OptionalDouble} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiIntToDoubleFunction} lifted into a total {@code BiIntFunction} that returns an {@code
+     * OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiIntFunction<OptionalDouble> lift(
+            @Nonnull BiIntPredicate isDefined, @Nonnull BiIntToDoubleFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.test(value1, value2)
+                ? OptionalDouble.of(partial.applyAsDouble(value1, value2))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link BiIntToDoubleFunction} with the given arguments and returns its result.
      *
@@ -114,7 +166,25 @@ public interface BiIntToDoubleFunction extends Lambda {
     @Nonnull
     static BiIntToDoubleFunction onlyFirst(@Nonnull IntToDoubleFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsDouble(value1);
+        /**
+         * A {@code BiIntToDoubleFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiIntToDoubleFunction {
+
+            /**
+             * Creates a {@code BiIntToDoubleFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public double applyAsDouble(int value1, int value2) {
+                return function.applyAsDouble(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -129,18 +199,56 @@ public interface BiIntToDoubleFunction extends Lambda {
     @Nonnull
     static BiIntToDoubleFunction onlySecond(@Nonnull IntToDoubleFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsDouble(value2);
+        /**
+         * A {@code BiIntToDoubleFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiIntToDoubleFunction {
+
+            /**
+             * Creates a {@code BiIntToDoubleFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public double applyAsDouble(int value1, int value2) {
+                return function.applyAsDouble(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiIntToDoubleFunction} which always returns a given value.
+     * Creates a {@link BiIntToDoubleFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiIntToDoubleFunction} which always returns a given value.
      */
     @Nonnull
     static BiIntToDoubleFunction constant(double ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiIntToDoubleFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiIntToDoubleFunction {
+
+            /**
+             * Creates a constant {@code BiIntToDoubleFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public double applyAsDouble(int value1, int value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -152,6 +260,19 @@ public interface BiIntToDoubleFunction extends Lambda {
      */
     double applyAsDouble(int value1, int value2);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see IntIntPair
+     */
+    default double applyAsDouble(@Nonnull IntIntPair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsDouble(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link IntToDoubleFunction2} as
      * result.
@@ -164,6 +285,47 @@ public interface BiIntToDoubleFunction extends Lambda {
         return value2 -> applyAsDouble(value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsDoubleParallel(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull double[] results) {
+        applyAsDoubleParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDoubleParallel(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull double[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsDouble(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -326,6 +488,9 @@ public interface BiIntToDoubleFunction extends Lambda {
             @Nonnull IntUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsDouble(before1.applyAsInt(value1), before2.applyAsInt(value2));
     }
 
@@ -384,10 +549,15 @@ public interface BiIntToDoubleFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiIntFunction<S> andThen(@Nonnull DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntFunction.constant(after.apply(applyAsDouble(0, 0)));
+        }
         return (value1, value2) -> after.apply(applyAsDouble(value1, value2));
     }
 
@@ -403,10 +573,15 @@ public interface BiIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntPredicate andThenToBoolean(@Nonnull DoublePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntPredicate.constant(after.test(applyAsDouble(0, 0)));
+        }
         return (value1, value2) -> after.test(applyAsDouble(value1, value2));
     }
 
@@ -422,10 +597,15 @@ public interface BiIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToByteFunction andThenToByte(@Nonnull DoubleToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToByteFunction.constant(after.applyAsByte(applyAsDouble(0, 0)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsDouble(value1, value2));
     }
 
@@ -441,10 +621,15 @@ public interface BiIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToCharFunction andThenToChar(@Nonnull DoubleToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToCharFunction.constant(after.applyAsChar(applyAsDouble(0, 0)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsDouble(value1, value2));
     }
 
@@ -460,10 +645,18 @@ public interface BiIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToDoubleFunction andThenToDouble(@Nonnull DoubleUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiIntToDoubleFunction.constant(after.applyAsDouble(applyAsDouble(0, 0)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsDouble(value1, value2));
     }
 
@@ -479,10 +672,15 @@ public interface BiIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToFloatFunction andThenToFloat(@Nonnull DoubleToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToFloatFunction.constant(after.applyAsFloat(applyAsDouble(0, 0)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsDouble(value1, value2));
     }
 
@@ -498,10 +696,15 @@ public interface BiIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntBinaryOperator2 andThenToInt(@Nonnull DoubleToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntBinaryOperator2.constant(after.applyAsInt(applyAsDouble(0, 0)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsDouble(value1, value2));
     }
 
@@ -517,10 +720,15 @@ public interface BiIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToLongFunction andThenToLong(@Nonnull DoubleToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToLongFunction.constant(after.applyAsLong(applyAsDouble(0, 0)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsDouble(value1, value2));
     }
 
@@ -536,10 +744,15 @@ public interface BiIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToShortFunction andThenToShort(@Nonnull DoubleToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToShortFunction.constant(after.applyAsShort(applyAsDouble(0, 0)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsDouble(value1, value2));
     }
 
@@ -559,6 +772,16 @@ public interface BiIntToDoubleFunction extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsDouble(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToDoubleFunction2<IntIntPair> tupled() {
+        return this::applyAsDouble;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -566,7 +789,29 @@ public interface BiIntToDoubleFunction extends Lambda {
      */
     @Nonnull
     default BiIntToDoubleFunction reversed() {
-        return (value2, value1) -> applyAsDouble(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiIntToDoubleFunction) {
+            return (BiIntToDoubleFunction) original;
+        }
+        /**
+         * A {@code BiIntToDoubleFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiIntToDoubleFunction {
+
+            /**
+             * Creates the reversal of this {@code BiIntToDoubleFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiIntToDoubleFunction.this);
+            }
+
+            @Override
+            public double applyAsDouble(int value2, int value1) {
+                return BiIntToDoubleFunction.this.applyAsDouble(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -588,14 +833,84 @@ public interface BiIntToDoubleFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Integer, Integer>, Double> cache = new ConcurrentHashMap<>();
-            return (BiIntToDoubleFunction & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsDouble(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiIntToDoubleFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiIntToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiIntToDoubleFunction memoized(@Nonnull MemoStore<IntIntPair, Double> store) {
+        Objects.requireNonNull(store);
+        return (BiIntToDoubleFunction & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(IntIntPair.of(value1, value2),
+                    key -> applyAsDouble(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiIntToDoubleFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiIntToDoubleFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiIntToDoubleFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiIntToDoubleFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiIntToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiIntToDoubleFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<IntIntPair, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiIntToDoubleFunction & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(IntIntPair.of(value1, value2),
+                    key -> applyAsDouble(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link BiIntToDoubleFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -605,6 +920,24 @@ public interface BiIntToDoubleFunction extends Lambda {
      */
     @Nonnull
     default BiFunction2<Integer, Integer, Double> boxed() {
-        return this::applyAsDouble;
+        /**
+         * A {@code BiFunction2} which applies this {@code BiIntToDoubleFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<Integer, Integer, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code BiIntToDoubleFunction}.
+             */
+            Boxed() {
+                super(BiIntToDoubleFunction.this);
+            }
+
+            @Override
+            public Double apply(Integer t, Integer u) {
+                return BiIntToDoubleFunction.this.applyAsDouble(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
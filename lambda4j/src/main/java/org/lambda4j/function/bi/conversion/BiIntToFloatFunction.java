@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongToIntFunction;
@@ -29,9 +29,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.FloatConsumer;
 import org.lambda4j.consumer.bi.BiIntConsumer;
 import org.lambda4j.function.FloatFunction;
@@ -49,11 +51,19 @@ import org.lambda4j.function.conversion.FloatToLongFunction;
 import org.lambda4j.function.conversion.FloatToShortFunction;
 import org.lambda4j.function.conversion.IntToFloatFunction;
 import org.lambda4j.function.conversion.ShortToIntFunction;
+import org.lambda4j.function.to.ToFloatFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.FloatBinaryOperator;
 import org.lambda4j.operator.binary.IntBinaryOperator2;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
+import org.lambda4j.optional.OptionalFloat;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.bi.BiIntPredicate;
+import org.lambda4j.tuple.IntIntPair;
 
 /**
  * Represents an operation that accepts two {@code int}-valued input arguments and produces a {@code float}-valued
@@ -87,6 +97,47 @@ public interface BiIntToFloatFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiIntToFloatFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BiIntToFloatFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BiIntToFloatFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiIntToFloatFunction unboxed(
+            @Nonnull BiFunction<? super Integer, ? super Integer, ? extends Float> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiIntToFloatFunction) {
+            return (BiIntToFloatFunction) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link BiIntToFloatFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiIntFunction} that returns an {@link OptionalFloat} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiIntToFloatFunction} lifted into a total {@code BiIntFunction} that returns an {@code
+     * OptionalFloat} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiIntFunction<OptionalFloat> lift(@Nonnull BiIntPredicate isDefined, @Nonnull BiIntToFloatFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.test(value1, value2)
+                ? OptionalFloat.of(partial.applyAsFloat(value1, value2))
+                : OptionalFloat.empty();
+    }
+
     /**
      * Calls the given {@link BiIntToFloatFunction} with the given arguments and returns its result.
      *
@@ -113,7 +164,25 @@ public interface BiIntToFloatFunction extends Lambda {
     @Nonnull
     static BiIntToFloatFunction onlyFirst(@Nonnull IntToFloatFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsFloat(value1);
+        /**
+         * A {@code BiIntToFloatFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiIntToFloatFunction {
+
+            /**
+             * Creates a {@code BiIntToFloatFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public float applyAsFloat(int value1, int value2) {
+                return function.applyAsFloat(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -128,18 +197,56 @@ public interface BiIntToFloatFunction extends Lambda {
     @Nonnull
     static BiIntToFloatFunction onlySecond(@Nonnull IntToFloatFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2) -> function.applyAsFloat(value2);
+        /**
+         * A {@code BiIntToFloatFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiIntToFloatFunction {
+
+            /**
+             * Creates a {@code BiIntToFloatFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public float applyAsFloat(int value1, int value2) {
+                return function.applyAsFloat(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiIntToFloatFunction} which always returns a given value.
+     * Creates a {@link BiIntToFloatFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiIntToFloatFunction} which always returns a given value.
      */
     @Nonnull
     static BiIntToFloatFunction constant(float ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiIntToFloatFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiIntToFloatFunction {
+
+            /**
+             * Creates a constant {@code BiIntToFloatFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public float applyAsFloat(int value1, int value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -151,6 +258,19 @@ public interface BiIntToFloatFunction extends Lambda {
      */
     float applyAsFloat(int value1, int value2);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see IntIntPair
+     */
+    default float applyAsFloat(@Nonnull IntIntPair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsFloat(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link IntToFloatFunction} as result.
      *
@@ -162,6 +282,47 @@ public interface BiIntToFloatFunction extends Lambda {
         return value2 -> applyAsFloat(value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsFloatParallel(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull float[] results) {
+        applyAsFloatParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsFloatParallel(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull float[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsFloat(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -324,6 +485,9 @@ public interface BiIntToFloatFunction extends Lambda {
             @Nonnull IntUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsFloat(before1.applyAsInt(value1), before2.applyAsInt(value2));
     }
 
@@ -382,10 +546,15 @@ public interface BiIntToFloatFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiIntFunction<S> andThen(@Nonnull FloatFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntFunction.constant(after.apply(applyAsFloat(0, 0)));
+        }
         return (value1, value2) -> after.apply(applyAsFloat(value1, value2));
     }
 
@@ -401,10 +570,15 @@ public interface BiIntToFloatFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntPredicate andThenToBoolean(@Nonnull FloatPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntPredicate.constant(after.test(applyAsFloat(0, 0)));
+        }
         return (value1, value2) -> after.test(applyAsFloat(value1, value2));
     }
 
@@ -420,10 +594,15 @@ public interface BiIntToFloatFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToByteFunction andThenToByte(@Nonnull FloatToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToByteFunction.constant(after.applyAsByte(applyAsFloat(0, 0)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsFloat(value1, value2));
     }
 
@@ -439,10 +618,15 @@ public interface BiIntToFloatFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToCharFunction andThenToChar(@Nonnull FloatToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToCharFunction.constant(after.applyAsChar(applyAsFloat(0, 0)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsFloat(value1, value2));
     }
 
@@ -458,10 +642,15 @@ public interface BiIntToFloatFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToDoubleFunction andThenToDouble(@Nonnull FloatToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToDoubleFunction.constant(after.applyAsDouble(applyAsFloat(0, 0)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsFloat(value1, value2));
     }
 
@@ -477,10 +666,18 @@ public interface BiIntToFloatFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToFloatFunction andThenToFloat(@Nonnull FloatUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiIntToFloatFunction.constant(after.applyAsFloat(applyAsFloat(0, 0)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsFloat(value1, value2));
     }
 
@@ -496,10 +693,15 @@ public interface BiIntToFloatFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntBinaryOperator2 andThenToInt(@Nonnull FloatToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntBinaryOperator2.constant(after.applyAsInt(applyAsFloat(0, 0)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsFloat(value1, value2));
     }
 
@@ -515,10 +717,15 @@ public interface BiIntToFloatFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToLongFunction andThenToLong(@Nonnull FloatToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToLongFunction.constant(after.applyAsLong(applyAsFloat(0, 0)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsFloat(value1, value2));
     }
 
@@ -534,10 +741,15 @@ public interface BiIntToFloatFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToShortFunction andThenToShort(@Nonnull FloatToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToShortFunction.constant(after.applyAsShort(applyAsFloat(0, 0)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsFloat(value1, value2));
     }
 
@@ -557,6 +769,16 @@ public interface BiIntToFloatFunction extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsFloat(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToFloatFunction<IntIntPair> tupled() {
+        return this::applyAsFloat;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -564,7 +786,29 @@ public interface BiIntToFloatFunction extends Lambda {
      */
     @Nonnull
     default BiIntToFloatFunction reversed() {
-        return (value2, value1) -> applyAsFloat(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiIntToFloatFunction) {
+            return (BiIntToFloatFunction) original;
+        }
+        /**
+         * A {@code BiIntToFloatFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiIntToFloatFunction {
+
+            /**
+             * Creates the reversal of this {@code BiIntToFloatFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiIntToFloatFunction.this);
+            }
+
+            @Override
+            public float applyAsFloat(int value2, int value1) {
+                return BiIntToFloatFunction.this.applyAsFloat(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -586,14 +830,84 @@ public interface BiIntToFloatFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Integer, Integer>, Float> cache = new ConcurrentHashMap<>();
-            return (BiIntToFloatFunction & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsFloat(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiIntToFloatFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiIntToFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiIntToFloatFunction memoized(@Nonnull MemoStore<IntIntPair, Float> store) {
+        Objects.requireNonNull(store);
+        return (BiIntToFloatFunction & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(IntIntPair.of(value1, value2),
+                    key -> applyAsFloat(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiIntToFloatFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiIntToFloatFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiIntToFloatFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiIntToFloatFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiIntToFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiIntToFloatFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<IntIntPair, Float> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiIntToFloatFunction & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(IntIntPair.of(value1, value2),
+                    key -> applyAsFloat(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link BiIntToFloatFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -603,6 +917,24 @@ public interface BiIntToFloatFunction extends Lambda {
      */
     @Nonnull
     default BiFunction2<Integer, Integer, Float> boxed() {
-        return this::applyAsFloat;
+        /**
+         * A {@code BiFunction2} which applies this {@code BiIntToFloatFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<Integer, Integer, Float> {
+
+            /**
+             * Creates the boxed variant of this {@code BiIntToFloatFunction}.
+             */
+            Boxed() {
+                super(BiIntToFloatFunction.this);
+            }
+
+            @Override
+            public Float apply(Integer t, Integer u) {
+                return BiIntToFloatFunction.this.applyAsFloat(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
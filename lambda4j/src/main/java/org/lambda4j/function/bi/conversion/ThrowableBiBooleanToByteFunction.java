@@ -16,9 +16,7 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -26,8 +24,6 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
 import org.lambda4j.consumer.ThrowableByteConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiBooleanConsumer;
@@ -44,10 +40,15 @@ import org.lambda4j.function.conversion.ThrowableByteToFloatFunction;
 import org.lambda4j.function.conversion.ThrowableByteToIntFunction;
 import org.lambda4j.function.conversion.ThrowableByteToLongFunction;
 import org.lambda4j.function.conversion.ThrowableByteToShortFunction;
+import org.lambda4j.function.to.ThrowableToByteFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.ThrowableBooleanBinaryOperator;
 import org.lambda4j.operator.binary.ThrowableByteBinaryOperator;
 import org.lambda4j.operator.unary.ThrowableBooleanUnaryOperator;
 import org.lambda4j.operator.unary.ThrowableByteUnaryOperator;
+import org.lambda4j.optional.OptionalByte;
 import org.lambda4j.predicate.ThrowableBytePredicate;
 import org.lambda4j.predicate.ThrowableCharPredicate;
 import org.lambda4j.predicate.ThrowableDoublePredicate;
@@ -56,6 +57,7 @@ import org.lambda4j.predicate.ThrowableIntPredicate;
 import org.lambda4j.predicate.ThrowableLongPredicate;
 import org.lambda4j.predicate.ThrowablePredicate;
 import org.lambda4j.predicate.ThrowableShortPredicate;
+import org.lambda4j.tuple.BooleanBooleanPair;
 import org.lambda4j.util.ThrowableUtils;
 
 /**
@@ -94,6 +96,29 @@ public interface ThrowableBiBooleanToByteFunction<X extends Throwable> extends L
         return expression;
     }
 
+    /**
+     * Lifts a partial {@link ThrowableBiBooleanToByteFunction}, which is only defined for the arguments accepted by the
+     * given predicate, into a total {@link ThrowableBiBooleanFunction} that returns an {@link OptionalByte} result. The
+     * result of the given function is not boxed.
+     *
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ThrowableBiBooleanToByteFunction} lifted into a total {@code ThrowableBiBooleanFunction}
+     * that returns an {@code OptionalByte} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <X extends Throwable> ThrowableBiBooleanFunction<OptionalByte, X> lift(
+            @Nonnull ThrowableBooleanBinaryOperator<? extends X> isDefined,
+            @Nonnull ThrowableBiBooleanToByteFunction<? extends X> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.applyAsBooleanThrows(value1, value2)
+                ? OptionalByte.of(partial.applyAsByteThrows(value1, value2))
+                : OptionalByte.empty();
+    }
+
     /**
      * Calls the given {@link ThrowableBiBooleanToByteFunction} with the given arguments and returns its result.
      *
@@ -167,6 +192,20 @@ public interface ThrowableBiBooleanToByteFunction<X extends Throwable> extends L
      */
     byte applyAsByteThrows(boolean value1, boolean value2) throws X;
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this functions action
+     * @see BooleanBooleanPair
+     */
+    default byte applyAsByteThrows(@Nonnull BooleanBooleanPair tuple) throws X {
+        Objects.requireNonNull(tuple);
+        return applyAsByteThrows(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link ThrowableBooleanToByteFunction}
      * as result.
@@ -571,6 +610,16 @@ public interface ThrowableBiBooleanToByteFunction<X extends Throwable> extends L
         return (value1, value2) -> consumer.acceptThrows(applyAsByteThrows(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ThrowableToByteFunction<BooleanBooleanPair, X> tupled() {
+        return this::applyAsByteThrows;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -600,14 +649,85 @@ public interface ThrowableBiBooleanToByteFunction<X extends Throwable> extends L
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Boolean, Boolean>, Byte> cache = new ConcurrentHashMap<>();
-            return (ThrowableBiBooleanToByteFunction<X> & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        ThrowableFunction.of(key -> applyAsByteThrows(key.getLeft(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableBiBooleanToByteFunction}, which caches its values in
+     * the given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the
+     * input parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose
+     * how and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableBiBooleanToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableBiBooleanToByteFunction<X> memoized(@Nonnull MemoStore<BooleanBooleanPair, Byte> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableBiBooleanToByteFunction<X> & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    ThrowableFunction.of(key -> applyAsByteThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBiBooleanToByteFunction}. In contrast to
+     * {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBiBooleanToByteFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableBiBooleanToByteFunction<X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBiBooleanToByteFunction}, which uses the
+     * given {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBiBooleanToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableBiBooleanToByteFunction<X> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<BooleanBooleanPair, Byte> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableBiBooleanToByteFunction<X> & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    ThrowableFunction.of(key -> applyAsByteThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableBiFunction} which represents this {@link ThrowableBiBooleanToByteFunction}.
      * Thereby the primitive input argument for this function is autoboxed. This method provides the possibility to use
@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -26,8 +25,6 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
 import org.lambda4j.consumer.ThrowableDoubleConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiBooleanConsumer;
@@ -44,6 +41,10 @@ import org.lambda4j.function.conversion.ThrowableDoubleToFloatFunction;
 import org.lambda4j.function.conversion.ThrowableDoubleToIntFunction;
 import org.lambda4j.function.conversion.ThrowableDoubleToLongFunction;
 import org.lambda4j.function.conversion.ThrowableDoubleToShortFunction;
+import org.lambda4j.function.to.ThrowableToDoubleFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.ThrowableBooleanBinaryOperator;
 import org.lambda4j.operator.binary.ThrowableDoubleBinaryOperator;
 import org.lambda4j.operator.unary.ThrowableBooleanUnaryOperator;
@@ -56,6 +57,7 @@ import org.lambda4j.predicate.ThrowableIntPredicate;
 import org.lambda4j.predicate.ThrowableLongPredicate;
 import org.lambda4j.predicate.ThrowablePredicate;
 import org.lambda4j.predicate.ThrowableShortPredicate;
+import org.lambda4j.tuple.BooleanBooleanPair;
 import org.lambda4j.util.ThrowableUtils;
 
 /**
@@ -94,6 +96,29 @@ public interface ThrowableBiBooleanToDoubleFunction<X extends Throwable> extends
         return expression;
     }
 
+    /**
+     * Lifts a partial {@link ThrowableBiBooleanToDoubleFunction}, which is only defined for the arguments accepted by
+     * the given predicate, into a total {@link ThrowableBiBooleanFunction} that returns an {@link OptionalDouble}
+     * result. The result of the given function is not boxed.
+     *
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ThrowableBiBooleanToDoubleFunction} lifted into a total {@code
+     * ThrowableBiBooleanFunction} that returns an {@code OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <X extends Throwable> ThrowableBiBooleanFunction<OptionalDouble, X> lift(
+            @Nonnull ThrowableBooleanBinaryOperator<? extends X> isDefined,
+            @Nonnull ThrowableBiBooleanToDoubleFunction<? extends X> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.applyAsBooleanThrows(value1, value2)
+                ? OptionalDouble.of(partial.applyAsDoubleThrows(value1, value2))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link ThrowableBiBooleanToDoubleFunction} with the given arguments and returns its result.
      *
@@ -167,6 +192,20 @@ public interface ThrowableBiBooleanToDoubleFunction<X extends Throwable> extends
      */
     double applyAsDoubleThrows(boolean value1, boolean value2) throws X;
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this functions action
+     * @see BooleanBooleanPair
+     */
+    default double applyAsDoubleThrows(@Nonnull BooleanBooleanPair tuple) throws X {
+        Objects.requireNonNull(tuple);
+        return applyAsDoubleThrows(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link
      * ThrowableBooleanToDoubleFunction} as result.
@@ -574,6 +613,16 @@ public interface ThrowableBiBooleanToDoubleFunction<X extends Throwable> extends
         return (value1, value2) -> consumer.acceptThrows(applyAsDoubleThrows(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ThrowableToDoubleFunction<BooleanBooleanPair, X> tupled() {
+        return this::applyAsDoubleThrows;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -603,14 +652,85 @@ public interface ThrowableBiBooleanToDoubleFunction<X extends Throwable> extends
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Boolean, Boolean>, Double> cache = new ConcurrentHashMap<>();
-            return (ThrowableBiBooleanToDoubleFunction<X> & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        ThrowableFunction.of(key -> applyAsDoubleThrows(key.getLeft(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableBiBooleanToDoubleFunction}, which caches its values
+     * in the given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the
+     * input parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose
+     * how and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableBiBooleanToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableBiBooleanToDoubleFunction<X> memoized(@Nonnull MemoStore<BooleanBooleanPair, Double> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableBiBooleanToDoubleFunction<X> & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    ThrowableFunction.of(key -> applyAsDoubleThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBiBooleanToDoubleFunction}. In contrast
+     * to {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBiBooleanToDoubleFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableBiBooleanToDoubleFunction<X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBiBooleanToDoubleFunction}, which uses
+     * the given {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer
+     * allows to observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBiBooleanToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableBiBooleanToDoubleFunction<X> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<BooleanBooleanPair, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableBiBooleanToDoubleFunction<X> & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    ThrowableFunction.of(key -> applyAsDoubleThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableBiFunction} which represents this {@link ThrowableBiBooleanToDoubleFunction}.
      * Thereby the primitive input argument for this function is autoboxed. This method provides the possibility to use
@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.bi.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalInt;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -26,8 +25,6 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
 import org.lambda4j.consumer.ThrowableIntConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiByteConsumer;
@@ -51,12 +48,18 @@ import org.lambda4j.function.conversion.ThrowableIntToShortFunction;
 import org.lambda4j.function.conversion.ThrowableLongToByteFunction;
 import org.lambda4j.function.conversion.ThrowableShortToByteFunction;
 import org.lambda4j.function.to.ThrowableToByteFunction;
+import org.lambda4j.function.to.ThrowableToIntFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.ThrowableByteBinaryOperator;
 import org.lambda4j.operator.binary.ThrowableIntBinaryOperator;
 import org.lambda4j.operator.unary.ThrowableByteUnaryOperator;
 import org.lambda4j.operator.unary.ThrowableIntUnaryOperator;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.ThrowableIntPredicate;
 import org.lambda4j.predicate.bi.ThrowableBiBytePredicate;
+import org.lambda4j.tuple.ByteBytePair;
 import org.lambda4j.util.ThrowableUtils;
 
 /**
@@ -94,6 +97,29 @@ public interface ThrowableBiByteToIntFunction<X extends Throwable> extends Lambd
         return expression;
     }
 
+    /**
+     * Lifts a partial {@link ThrowableBiByteToIntFunction}, which is only defined for the arguments accepted by the
+     * given predicate, into a total {@link ThrowableBiByteFunction} that returns an {@link OptionalInt} result. The
+     * result of the given function is not boxed.
+     *
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ThrowableBiByteToIntFunction} lifted into a total {@code ThrowableBiByteFunction} that
+     * returns an {@code OptionalInt} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <X extends Throwable> ThrowableBiByteFunction<OptionalInt, X> lift(
+            @Nonnull ThrowableBiBytePredicate<? extends X> isDefined,
+            @Nonnull ThrowableBiByteToIntFunction<? extends X> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.testThrows(value1, value2)
+                ? OptionalUtils.ofInt(partial.applyAsIntThrows(value1, value2))
+                : OptionalInt.empty();
+    }
+
     /**
      * Calls the given {@link ThrowableBiByteToIntFunction} with the given arguments and returns its result.
      *
@@ -167,6 +193,20 @@ public interface ThrowableBiByteToIntFunction<X extends Throwable> extends Lambd
      */
     int applyAsIntThrows(byte value1, byte value2) throws X;
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this functions action
+     * @see ByteBytePair
+     */
+    default int applyAsIntThrows(@Nonnull ByteBytePair tuple) throws X {
+        Objects.requireNonNull(tuple);
+        return applyAsIntThrows(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link ThrowableByteToIntFunction} as
      * result.
@@ -577,6 +617,16 @@ public interface ThrowableBiByteToIntFunction<X extends Throwable> extends Lambd
         return (value1, value2) -> consumer.acceptThrows(applyAsIntThrows(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ThrowableToIntFunction<ByteBytePair, X> tupled() {
+        return this::applyAsIntThrows;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -606,14 +656,85 @@ public interface ThrowableBiByteToIntFunction<X extends Throwable> extends Lambd
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Byte, Byte>, Integer> cache = new ConcurrentHashMap<>();
-            return (ThrowableBiByteToIntFunction<X> & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        ThrowableFunction.of(key -> applyAsIntThrows(key.getLeft(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableBiByteToIntFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableBiByteToIntFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableBiByteToIntFunction<X> memoized(@Nonnull MemoStore<ByteBytePair, Integer> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableBiByteToIntFunction<X> & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(ByteBytePair.of(value1, value2),
+                    ThrowableFunction.of(key -> applyAsIntThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBiByteToIntFunction}. In contrast to
+     * {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBiByteToIntFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableBiByteToIntFunction<X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBiByteToIntFunction}, which uses the
+     * given {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBiByteToIntFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableBiByteToIntFunction<X> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<ByteBytePair, Integer> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableBiByteToIntFunction<X> & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(ByteBytePair.of(value1, value2),
+                    ThrowableFunction.of(key -> applyAsIntThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableBiFunction} which represents this {@link ThrowableBiByteToIntFunction}.
      * Thereby the primitive input argument for this function is autoboxed. This method provides the possibility to use
@@ -16,10 +16,10 @@
 
 package org.lambda4j.function.bi.obj;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -35,9 +35,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.obj.ObjBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -54,11 +56,17 @@ import org.lambda4j.function.bi.BiFunction2;
 import org.lambda4j.function.bi.BiIntFunction;
 import org.lambda4j.function.bi.BiLongFunction;
 import org.lambda4j.function.bi.BiShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.ShortPredicate;
+import org.lambda4j.tuple.ObjBooleanPair;
 
 /**
  * Represents an operation that accepts one object-valued and one {@code boolean}-valued input argument and produces a
@@ -96,6 +104,30 @@ public interface ObjBooleanFunction<T, R> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjBooleanFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ObjBooleanFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code ObjBooleanFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, R> ObjBooleanFunction<T, R> unboxed(
+            @Nonnull BiFunction<? super T, ? super Boolean, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ObjBooleanFunction) {
+            return (ObjBooleanFunction<T, R>) original;
+        }
+        return (t, value) -> function.apply(t, value);
+    }
+
     /**
      * Lifts a partial {@link ObjBooleanFunction} into a total {@link ObjBooleanFunction} that returns an {@link
      * Optional} result.
@@ -144,7 +176,25 @@ public interface ObjBooleanFunction<T, R> extends Lambda {
     @Nonnull
     static <T, R> ObjBooleanFunction<T, R> onlyFirst(@Nonnull Function<? super T, ? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, value) -> function.apply(t);
+        /**
+         * A {@code ObjBooleanFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjBooleanFunction<T, R> {
+
+            /**
+             * Creates a {@code ObjBooleanFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public R apply(T t, boolean value) {
+                return function.apply(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -161,11 +211,31 @@ public interface ObjBooleanFunction<T, R> extends Lambda {
     @Nonnull
     static <T, R> ObjBooleanFunction<T, R> onlySecond(@Nonnull BooleanFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, value) -> function.apply(value);
+        /**
+         * A {@code ObjBooleanFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjBooleanFunction<T, R> {
+
+            /**
+             * Creates a {@code ObjBooleanFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public R apply(T t, boolean value) {
+                return function.apply(value);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link ObjBooleanFunction} which always returns a given value.
+     * Creates a {@link ObjBooleanFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the function
      * @param <R> The type of return value from the function
@@ -174,7 +244,25 @@ public interface ObjBooleanFunction<T, R> extends Lambda {
      */
     @Nonnull
     static <T, R> ObjBooleanFunction<T, R> constant(R ret) {
-        return (t, value) -> ret;
+        /**
+         * A {@code ObjBooleanFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjBooleanFunction<T, R> {
+
+            /**
+             * Creates a constant {@code ObjBooleanFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(T t, boolean value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -186,6 +274,19 @@ public interface ObjBooleanFunction<T, R> extends Lambda {
      */
     R apply(T t, boolean value);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ObjBooleanPair
+     */
+    default R apply(@Nonnull ObjBooleanPair<T> tuple) {
+        Objects.requireNonNull(tuple);
+        return apply(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BooleanFunction} as result.
      *
@@ -208,6 +309,47 @@ public interface ObjBooleanFunction<T, R> extends Lambda {
         return t -> apply(t, value);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull T[] values1, @Nonnull boolean[] values2, @Nonnull R[] results) {
+        applyParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull T[] values1, @Nonnull boolean[] values2, @Nonnull R[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -428,10 +570,15 @@ public interface ObjBooleanFunction<T, R> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ObjBooleanFunction<T, S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanFunction.constant(after.apply(apply(null, false)));
+        }
         return (t, value) -> after.apply(apply(t, value));
     }
 
@@ -451,6 +598,16 @@ public interface ObjBooleanFunction<T, R> extends Lambda {
         return (t, value) -> consumer.accept(apply(t, value));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default Function2<ObjBooleanPair<T>, R> tupled() {
+        return this::apply;
+    }
+
     /**
      * Returns a memoized (caching) version of this {@link ObjBooleanFunction}. Whenever it is called, the mapping
      * between the input parameters and the return value is preserved in a cache, making subsequent calls returning the
@@ -470,13 +627,82 @@ public interface ObjBooleanFunction<T, R> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, Boolean>, R> cache = new ConcurrentHashMap<>();
-            return (ObjBooleanFunction<T, R> & Memoized) (t, value) -> {
-                return cache.computeIfAbsent(Pair.of(t, value), key -> apply(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ObjBooleanFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ObjBooleanFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ObjBooleanFunction<T, R> memoized(@Nonnull MemoStore<ObjBooleanPair<T>, R> store) {
+        Objects.requireNonNull(store);
+        return (ObjBooleanFunction<T, R> & Memoized) (t, value) -> {
+            return store.computeIfAbsent(ObjBooleanPair.of(t, value), key -> apply(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBooleanFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ObjBooleanFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ObjBooleanFunction<T, R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBooleanFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ObjBooleanFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ObjBooleanFunction<T, R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<ObjBooleanPair<T>, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ObjBooleanFunction<T, R> & Memoized) (t, value) -> {
+            return memoizer.computeIfAbsent(ObjBooleanPair.of(t, value), key -> apply(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link ObjBooleanFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -486,6 +712,24 @@ public interface ObjBooleanFunction<T, R> extends Lambda {
      */
     @Nonnull
     default BiFunction2<T, Boolean, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code BiFunction2} which applies this {@code ObjBooleanFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<T, Boolean, R> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjBooleanFunction}.
+             */
+            Boxed() {
+                super(ObjBooleanFunction.this);
+            }
+
+            @Override
+            public R apply(T t, Boolean u) {
+                return ObjBooleanFunction.this.apply(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
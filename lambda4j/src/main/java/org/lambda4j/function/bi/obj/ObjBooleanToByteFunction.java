@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.bi.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -33,9 +33,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.ByteConsumer;
 import org.lambda4j.consumer.bi.obj.ObjBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -60,14 +62,21 @@ import org.lambda4j.function.conversion.ByteToIntFunction;
 import org.lambda4j.function.conversion.ByteToLongFunction;
 import org.lambda4j.function.conversion.ByteToShortFunction;
 import org.lambda4j.function.to.ToByteFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.ByteBinaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
+import org.lambda4j.optional.OptionalByte;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.ShortPredicate;
 import org.lambda4j.predicate.bi.obj.ObjBooleanPredicate;
+import org.lambda4j.tuple.ObjBooleanPair;
 
 /**
  * Represents an operation that accepts one object-valued and one {@code boolean}-valued input argument and produces a
@@ -103,6 +112,51 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjBooleanToByteFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ObjBooleanToByteFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ObjBooleanToByteFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjBooleanToByteFunction<T> unboxed(
+            @Nonnull BiFunction<? super T, ? super Boolean, ? extends Byte> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ObjBooleanToByteFunction) {
+            return (ObjBooleanToByteFunction<T>) original;
+        }
+        return (t, value) -> function.apply(t, value);
+    }
+
+    /**
+     * Lifts a partial {@link ObjBooleanToByteFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link ObjBooleanFunction} that returns an {@link OptionalByte} result. The result of the
+     * given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ObjBooleanToByteFunction} lifted into a total {@code ObjBooleanFunction} that returns an
+     * {@code OptionalByte} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T> ObjBooleanFunction<T, OptionalByte> lift(
+            @Nonnull ObjBooleanPredicate<? super T> isDefined, @Nonnull ObjBooleanToByteFunction<? super T> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, value) -> isDefined.test(t, value)
+                ? OptionalByte.of(partial.applyAsByte(t, value))
+                : OptionalByte.empty();
+    }
+
     /**
      * Calls the given {@link ObjBooleanToByteFunction} with the given arguments and returns its result.
      *
@@ -131,7 +185,25 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjBooleanToByteFunction<T> onlyFirst(@Nonnull ToByteFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, value) -> function.applyAsByte(t);
+        /**
+         * A {@code ObjBooleanToByteFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjBooleanToByteFunction<T> {
+
+            /**
+             * Creates a {@code ObjBooleanToByteFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public byte applyAsByte(T t, boolean value) {
+                return function.applyAsByte(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -147,11 +219,31 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjBooleanToByteFunction<T> onlySecond(@Nonnull BooleanToByteFunction function) {
         Objects.requireNonNull(function);
-        return (t, value) -> function.applyAsByte(value);
+        /**
+         * A {@code ObjBooleanToByteFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjBooleanToByteFunction<T> {
+
+            /**
+             * Creates a {@code ObjBooleanToByteFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public byte applyAsByte(T t, boolean value) {
+                return function.applyAsByte(value);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link ObjBooleanToByteFunction} which always returns a given value.
+     * Creates a {@link ObjBooleanToByteFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the function
      * @param ret The return value for the constant
@@ -159,7 +251,25 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjBooleanToByteFunction<T> constant(byte ret) {
-        return (t, value) -> ret;
+        /**
+         * A {@code ObjBooleanToByteFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjBooleanToByteFunction<T> {
+
+            /**
+             * Creates a constant {@code ObjBooleanToByteFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public byte applyAsByte(T t, boolean value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -171,6 +281,19 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
      */
     byte applyAsByte(T t, boolean value);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ObjBooleanPair
+     */
+    default byte applyAsByte(@Nonnull ObjBooleanPair<T> tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsByte(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BooleanToByteFunction} as
      * result.
@@ -194,6 +317,47 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
         return t -> applyAsByte(t, value);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsByteParallel(@Nonnull T[] values1, @Nonnull boolean[] values2, @Nonnull byte[] results) {
+        applyAsByteParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsByteParallel(@Nonnull T[] values1, @Nonnull boolean[] values2, @Nonnull byte[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsByte(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -414,10 +578,15 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ObjBooleanFunction<T, S> andThen(@Nonnull ByteFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanFunction.constant(after.apply(applyAsByte(null, false)));
+        }
         return (t, value) -> after.apply(applyAsByte(t, value));
     }
 
@@ -433,10 +602,15 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanPredicate<T> andThenToBoolean(@Nonnull BytePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanPredicate.constant(after.test(applyAsByte(null, false)));
+        }
         return (t, value) -> after.test(applyAsByte(t, value));
     }
 
@@ -452,10 +626,18 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToByteFunction<T> andThenToByte(@Nonnull ByteUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToByteFunction.constant(after.applyAsByte(applyAsByte(null, false)));
+        }
         return (t, value) -> after.applyAsByte(applyAsByte(t, value));
     }
 
@@ -471,10 +653,15 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToCharFunction<T> andThenToChar(@Nonnull ByteToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToCharFunction.constant(after.applyAsChar(applyAsByte(null, false)));
+        }
         return (t, value) -> after.applyAsChar(applyAsByte(t, value));
     }
 
@@ -490,10 +677,15 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToDoubleFunction<T> andThenToDouble(@Nonnull ByteToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsByte(null, false)));
+        }
         return (t, value) -> after.applyAsDouble(applyAsByte(t, value));
     }
 
@@ -509,10 +701,15 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToFloatFunction<T> andThenToFloat(@Nonnull ByteToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToFloatFunction.constant(after.applyAsFloat(applyAsByte(null, false)));
+        }
         return (t, value) -> after.applyAsFloat(applyAsByte(t, value));
     }
 
@@ -528,10 +725,15 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToIntFunction<T> andThenToInt(@Nonnull ByteToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToIntFunction.constant(after.applyAsInt(applyAsByte(null, false)));
+        }
         return (t, value) -> after.applyAsInt(applyAsByte(t, value));
     }
 
@@ -547,10 +749,15 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToLongFunction<T> andThenToLong(@Nonnull ByteToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToLongFunction.constant(after.applyAsLong(applyAsByte(null, false)));
+        }
         return (t, value) -> after.applyAsLong(applyAsByte(t, value));
     }
 
@@ -566,10 +773,15 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToShortFunction<T> andThenToShort(@Nonnull ByteToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToShortFunction.constant(after.applyAsShort(applyAsByte(null, false)));
+        }
         return (t, value) -> after.applyAsShort(applyAsByte(t, value));
     }
 
@@ -589,6 +801,16 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
         return (t, value) -> consumer.accept(applyAsByte(t, value));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToByteFunction<ObjBooleanPair<T>> tupled() {
+        return this::applyAsByte;
+    }
+
     /**
      * Returns a memoized (caching) version of this {@link ObjBooleanToByteFunction}. Whenever it is called, the mapping
      * between the input parameters and the return value is preserved in a cache, making subsequent calls returning the
@@ -608,13 +830,85 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, Boolean>, Byte> cache = new ConcurrentHashMap<>();
-            return (ObjBooleanToByteFunction<T> & Memoized) (t, value) -> {
-                return cache.computeIfAbsent(Pair.of(t, value), key -> applyAsByte(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ObjBooleanToByteFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ObjBooleanToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ObjBooleanToByteFunction<T> memoized(@Nonnull MemoStore<ObjBooleanPair<T>, Byte> store) {
+        Objects.requireNonNull(store);
+        return (ObjBooleanToByteFunction<T> & Memoized) (t, value) -> {
+            return store.computeIfAbsent(ObjBooleanPair.of(t, value),
+                    key -> applyAsByte(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBooleanToByteFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ObjBooleanToByteFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ObjBooleanToByteFunction<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBooleanToByteFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ObjBooleanToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ObjBooleanToByteFunction<T> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<ObjBooleanPair<T>, Byte> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ObjBooleanToByteFunction<T> & Memoized) (t, value) -> {
+            return memoizer.computeIfAbsent(ObjBooleanPair.of(t, value),
+                    key -> applyAsByte(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link ObjBooleanToByteFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -624,6 +918,24 @@ public interface ObjBooleanToByteFunction<T> extends Lambda {
      */
     @Nonnull
     default BiFunction2<T, Boolean, Byte> boxed() {
-        return this::applyAsByte;
+        /**
+         * A {@code BiFunction2} which applies this {@code ObjBooleanToByteFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<T, Boolean, Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjBooleanToByteFunction}.
+             */
+            Boxed() {
+                super(ObjBooleanToByteFunction.this);
+            }
+
+            @Override
+            public Byte apply(T t, Boolean u) {
+                return ObjBooleanToByteFunction.this.applyAsByte(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
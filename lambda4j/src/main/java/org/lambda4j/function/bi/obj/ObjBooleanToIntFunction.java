@@ -16,9 +16,10 @@
 
 package org.lambda4j.function.bi.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -38,9 +39,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.obj.ObjBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -62,13 +65,20 @@ import org.lambda4j.function.conversion.IntToCharFunction;
 import org.lambda4j.function.conversion.IntToFloatFunction;
 import org.lambda4j.function.conversion.IntToShortFunction;
 import org.lambda4j.function.to.ToIntFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.IntBinaryOperator2;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.ShortPredicate;
 import org.lambda4j.predicate.bi.obj.ObjBooleanPredicate;
+import org.lambda4j.tuple.ObjBooleanPair;
 
 /**
  * Represents an operation that accepts one object-valued and one {@code boolean}-valued input argument and produces a
@@ -104,6 +114,51 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjBooleanToIntFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ObjBooleanToIntFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ObjBooleanToIntFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjBooleanToIntFunction<T> unboxed(
+            @Nonnull BiFunction<? super T, ? super Boolean, ? extends Integer> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ObjBooleanToIntFunction) {
+            return (ObjBooleanToIntFunction<T>) original;
+        }
+        return (t, value) -> function.apply(t, value);
+    }
+
+    /**
+     * Lifts a partial {@link ObjBooleanToIntFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link ObjBooleanFunction} that returns an {@link OptionalInt} result. The result of the
+     * given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ObjBooleanToIntFunction} lifted into a total {@code ObjBooleanFunction} that returns an
+     * {@code OptionalInt} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T> ObjBooleanFunction<T, OptionalInt> lift(
+            @Nonnull ObjBooleanPredicate<? super T> isDefined, @Nonnull ObjBooleanToIntFunction<? super T> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, value) -> isDefined.test(t, value)
+                ? OptionalUtils.ofInt(partial.applyAsInt(t, value))
+                : OptionalInt.empty();
+    }
+
     /**
      * Calls the given {@link ObjBooleanToIntFunction} with the given arguments and returns its result.
      *
@@ -132,7 +187,25 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjBooleanToIntFunction<T> onlyFirst(@Nonnull ToIntFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, value) -> function.applyAsInt(t);
+        /**
+         * A {@code ObjBooleanToIntFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjBooleanToIntFunction<T> {
+
+            /**
+             * Creates a {@code ObjBooleanToIntFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public int applyAsInt(T t, boolean value) {
+                return function.applyAsInt(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -148,11 +221,31 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjBooleanToIntFunction<T> onlySecond(@Nonnull BooleanToIntFunction function) {
         Objects.requireNonNull(function);
-        return (t, value) -> function.applyAsInt(value);
+        /**
+         * A {@code ObjBooleanToIntFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjBooleanToIntFunction<T> {
+
+            /**
+             * Creates a {@code ObjBooleanToIntFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public int applyAsInt(T t, boolean value) {
+                return function.applyAsInt(value);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link ObjBooleanToIntFunction} which always returns a given value.
+     * Creates a {@link ObjBooleanToIntFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the function
      * @param ret The return value for the constant
@@ -160,7 +253,25 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjBooleanToIntFunction<T> constant(int ret) {
-        return (t, value) -> ret;
+        /**
+         * A {@code ObjBooleanToIntFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjBooleanToIntFunction<T> {
+
+            /**
+             * Creates a constant {@code ObjBooleanToIntFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public int applyAsInt(T t, boolean value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -172,6 +283,19 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
      */
     int applyAsInt(T t, boolean value);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ObjBooleanPair
+     */
+    default int applyAsInt(@Nonnull ObjBooleanPair<T> tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsInt(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BooleanToIntFunction} as
      * result.
@@ -195,6 +319,47 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
         return t -> applyAsInt(t, value);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsIntParallel(@Nonnull T[] values1, @Nonnull boolean[] values2, @Nonnull int[] results) {
+        applyAsIntParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsIntParallel(@Nonnull T[] values1, @Nonnull boolean[] values2, @Nonnull int[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsInt(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -415,10 +580,15 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ObjBooleanFunction<T, S> andThen(@Nonnull IntFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanFunction.constant(after.apply(applyAsInt(null, false)));
+        }
         return (t, value) -> after.apply(applyAsInt(t, value));
     }
 
@@ -434,10 +604,15 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanPredicate<T> andThenToBoolean(@Nonnull IntPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanPredicate.constant(after.test(applyAsInt(null, false)));
+        }
         return (t, value) -> after.test(applyAsInt(t, value));
     }
 
@@ -453,10 +628,15 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToByteFunction<T> andThenToByte(@Nonnull IntToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToByteFunction.constant(after.applyAsByte(applyAsInt(null, false)));
+        }
         return (t, value) -> after.applyAsByte(applyAsInt(t, value));
     }
 
@@ -472,10 +652,15 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToCharFunction<T> andThenToChar(@Nonnull IntToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToCharFunction.constant(after.applyAsChar(applyAsInt(null, false)));
+        }
         return (t, value) -> after.applyAsChar(applyAsInt(t, value));
     }
 
@@ -491,10 +676,15 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToDoubleFunction<T> andThenToDouble(@Nonnull IntToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsInt(null, false)));
+        }
         return (t, value) -> after.applyAsDouble(applyAsInt(t, value));
     }
 
@@ -510,10 +700,15 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToFloatFunction<T> andThenToFloat(@Nonnull IntToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToFloatFunction.constant(after.applyAsFloat(applyAsInt(null, false)));
+        }
         return (t, value) -> after.applyAsFloat(applyAsInt(t, value));
     }
 
@@ -529,10 +724,18 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToIntFunction<T> andThenToInt(@Nonnull IntUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToIntFunction.constant(after.applyAsInt(applyAsInt(null, false)));
+        }
         return (t, value) -> after.applyAsInt(applyAsInt(t, value));
     }
 
@@ -548,10 +751,15 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToLongFunction<T> andThenToLong(@Nonnull IntToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToLongFunction.constant(after.applyAsLong(applyAsInt(null, false)));
+        }
         return (t, value) -> after.applyAsLong(applyAsInt(t, value));
     }
 
@@ -567,10 +775,15 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBooleanToShortFunction<T> andThenToShort(@Nonnull IntToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBooleanToShortFunction.constant(after.applyAsShort(applyAsInt(null, false)));
+        }
         return (t, value) -> after.applyAsShort(applyAsInt(t, value));
     }
 
@@ -590,6 +803,16 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
         return (t, value) -> consumer.accept(applyAsInt(t, value));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToIntFunction2<ObjBooleanPair<T>> tupled() {
+        return this::applyAsInt;
+    }
+
     /**
      * Returns a memoized (caching) version of this {@link ObjBooleanToIntFunction}. Whenever it is called, the mapping
      * between the input parameters and the return value is preserved in a cache, making subsequent calls returning the
@@ -609,13 +832,84 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, Boolean>, Integer> cache = new ConcurrentHashMap<>();
-            return (ObjBooleanToIntFunction<T> & Memoized) (t, value) -> {
-                return cache.computeIfAbsent(Pair.of(t, value), key -> applyAsInt(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ObjBooleanToIntFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ObjBooleanToIntFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ObjBooleanToIntFunction<T> memoized(@Nonnull MemoStore<ObjBooleanPair<T>, Integer> store) {
+        Objects.requireNonNull(store);
+        return (ObjBooleanToIntFunction<T> & Memoized) (t, value) -> {
+            return store.computeIfAbsent(ObjBooleanPair.of(t, value), key -> applyAsInt(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBooleanToIntFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ObjBooleanToIntFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ObjBooleanToIntFunction<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBooleanToIntFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ObjBooleanToIntFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ObjBooleanToIntFunction<T> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<ObjBooleanPair<T>, Integer> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ObjBooleanToIntFunction<T> & Memoized) (t, value) -> {
+            return memoizer.computeIfAbsent(ObjBooleanPair.of(t, value),
+                    key -> applyAsInt(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link ObjBooleanToIntFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -625,6 +919,24 @@ public interface ObjBooleanToIntFunction<T> extends Lambda {
      */
     @Nonnull
     default BiFunction2<T, Boolean, Integer> boxed() {
-        return this::applyAsInt;
+        /**
+         * A {@code BiFunction2} which applies this {@code ObjBooleanToIntFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<T, Boolean, Integer> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjBooleanToIntFunction}.
+             */
+            Boxed() {
+                super(ObjBooleanToIntFunction.this);
+            }
+
+            @Override
+            public Integer apply(T t, Boolean u) {
+                return ObjBooleanToIntFunction.this.applyAsInt(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.bi.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -29,9 +29,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.consumer.bi.obj.ObjByteConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -63,11 +65,18 @@ import org.lambda4j.function.conversion.LongToByteFunction;
 import org.lambda4j.function.conversion.ShortToByteFunction;
 import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.CharBinaryOperator;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
 import org.lambda4j.operator.unary.CharUnaryOperator;
+import org.lambda4j.optional.OptionalChar;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.bi.obj.ObjBytePredicate;
+import org.lambda4j.tuple.ObjBytePair;
 
 /**
  * Represents an operation that accepts one object-valued and one {@code byte}-valued input argument and produces a
@@ -103,6 +112,51 @@ public interface ObjByteToCharFunction<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjByteToCharFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ObjByteToCharFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ObjByteToCharFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjByteToCharFunction<T> unboxed(
+            @Nonnull BiFunction<? super T, ? super Byte, ? extends Character> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ObjByteToCharFunction) {
+            return (ObjByteToCharFunction<T>) original;
+        }
+        return (t, value) -> function.apply(t, value);
+    }
+
+    /**
+     * Lifts a partial {@link ObjByteToCharFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link ObjByteFunction} that returns an {@link OptionalChar} result. The result of the
+     * given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ObjByteToCharFunction} lifted into a total {@code ObjByteFunction} that returns an
+     * {@code OptionalChar} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T> ObjByteFunction<T, OptionalChar> lift(
+            @Nonnull ObjBytePredicate<? super T> isDefined, @Nonnull ObjByteToCharFunction<? super T> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, value) -> isDefined.test(t, value)
+                ? OptionalChar.of(partial.applyAsChar(t, value))
+                : OptionalChar.empty();
+    }
+
     /**
      * Calls the given {@link ObjByteToCharFunction} with the given arguments and returns its result.
      *
@@ -131,7 +185,25 @@ public interface ObjByteToCharFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjByteToCharFunction<T> onlyFirst(@Nonnull ToCharFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, value) -> function.applyAsChar(t);
+        /**
+         * A {@code ObjByteToCharFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjByteToCharFunction<T> {
+
+            /**
+             * Creates a {@code ObjByteToCharFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public char applyAsChar(T t, byte value) {
+                return function.applyAsChar(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -147,11 +219,31 @@ public interface ObjByteToCharFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjByteToCharFunction<T> onlySecond(@Nonnull ByteToCharFunction function) {
         Objects.requireNonNull(function);
-        return (t, value) -> function.applyAsChar(value);
+        /**
+         * A {@code ObjByteToCharFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjByteToCharFunction<T> {
+
+            /**
+             * Creates a {@code ObjByteToCharFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public char applyAsChar(T t, byte value) {
+                return function.applyAsChar(value);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link ObjByteToCharFunction} which always returns a given value.
+     * Creates a {@link ObjByteToCharFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the function
      * @param ret The return value for the constant
@@ -159,7 +251,25 @@ public interface ObjByteToCharFunction<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjByteToCharFunction<T> constant(char ret) {
-        return (t, value) -> ret;
+        /**
+         * A {@code ObjByteToCharFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjByteToCharFunction<T> {
+
+            /**
+             * Creates a constant {@code ObjByteToCharFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public char applyAsChar(T t, byte value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -171,6 +281,19 @@ public interface ObjByteToCharFunction<T> extends Lambda {
      */
     char applyAsChar(T t, byte value);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ObjBytePair
+     */
+    default char applyAsChar(@Nonnull ObjBytePair<T> tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsChar(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link ByteToCharFunction} as result.
      *
@@ -193,6 +316,47 @@ public interface ObjByteToCharFunction<T> extends Lambda {
         return t -> applyAsChar(t, value);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsCharParallel(@Nonnull T[] values1, @Nonnull byte[] values2, @Nonnull char[] results) {
+        applyAsCharParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsCharParallel(@Nonnull T[] values1, @Nonnull byte[] values2, @Nonnull char[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsChar(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -413,10 +577,15 @@ public interface ObjByteToCharFunction<T> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ObjByteFunction<T, S> andThen(@Nonnull CharFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjByteFunction.constant(after.apply(applyAsChar(null, (byte) 0)));
+        }
         return (t, value) -> after.apply(applyAsChar(t, value));
     }
 
@@ -432,10 +601,15 @@ public interface ObjByteToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBytePredicate<T> andThenToBoolean(@Nonnull CharPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBytePredicate.constant(after.test(applyAsChar(null, (byte) 0)));
+        }
         return (t, value) -> after.test(applyAsChar(t, value));
     }
 
@@ -451,10 +625,15 @@ public interface ObjByteToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjByteToByteFunction<T> andThenToByte(@Nonnull CharToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjByteToByteFunction.constant(after.applyAsByte(applyAsChar(null, (byte) 0)));
+        }
         return (t, value) -> after.applyAsByte(applyAsChar(t, value));
     }
 
@@ -470,10 +649,18 @@ public interface ObjByteToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjByteToCharFunction<T> andThenToChar(@Nonnull CharUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ObjByteToCharFunction.constant(after.applyAsChar(applyAsChar(null, (byte) 0)));
+        }
         return (t, value) -> after.applyAsChar(applyAsChar(t, value));
     }
 
@@ -489,10 +676,15 @@ public interface ObjByteToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjByteToDoubleFunction<T> andThenToDouble(@Nonnull CharToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjByteToDoubleFunction.constant(after.applyAsDouble(applyAsChar(null, (byte) 0)));
+        }
         return (t, value) -> after.applyAsDouble(applyAsChar(t, value));
     }
 
@@ -508,10 +700,15 @@ public interface ObjByteToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjByteToFloatFunction<T> andThenToFloat(@Nonnull CharToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjByteToFloatFunction.constant(after.applyAsFloat(applyAsChar(null, (byte) 0)));
+        }
         return (t, value) -> after.applyAsFloat(applyAsChar(t, value));
     }
 
@@ -527,10 +724,15 @@ public interface ObjByteToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjByteToIntFunction<T> andThenToInt(@Nonnull CharToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjByteToIntFunction.constant(after.applyAsInt(applyAsChar(null, (byte) 0)));
+        }
         return (t, value) -> after.applyAsInt(applyAsChar(t, value));
     }
 
@@ -546,10 +748,15 @@ public interface ObjByteToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjByteToLongFunction<T> andThenToLong(@Nonnull CharToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjByteToLongFunction.constant(after.applyAsLong(applyAsChar(null, (byte) 0)));
+        }
         return (t, value) -> after.applyAsLong(applyAsChar(t, value));
     }
 
@@ -565,10 +772,15 @@ public interface ObjByteToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjByteToShortFunction<T> andThenToShort(@Nonnull CharToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjByteToShortFunction.constant(after.applyAsShort(applyAsChar(null, (byte) 0)));
+        }
         return (t, value) -> after.applyAsShort(applyAsChar(t, value));
     }
 
@@ -588,6 +800,16 @@ public interface ObjByteToCharFunction<T> extends Lambda {
         return (t, value) -> consumer.accept(applyAsChar(t, value));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToCharFunction<ObjBytePair<T>> tupled() {
+        return this::applyAsChar;
+    }
+
     /**
      * Returns a memoized (caching) version of this {@link ObjByteToCharFunction}. Whenever it is called, the mapping
      * between the input parameters and the return value is preserved in a cache, making subsequent calls returning the
@@ -607,13 +829,83 @@ public interface ObjByteToCharFunction<T> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, Byte>, Character> cache = new ConcurrentHashMap<>();
-            return (ObjByteToCharFunction<T> & Memoized) (t, value) -> {
-                return cache.computeIfAbsent(Pair.of(t, value), key -> applyAsChar(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ObjByteToCharFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ObjByteToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ObjByteToCharFunction<T> memoized(@Nonnull MemoStore<ObjBytePair<T>, Character> store) {
+        Objects.requireNonNull(store);
+        return (ObjByteToCharFunction<T> & Memoized) (t, value) -> {
+            return store.computeIfAbsent(ObjBytePair.of(t, value), key -> applyAsChar(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjByteToCharFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ObjByteToCharFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ObjByteToCharFunction<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjByteToCharFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ObjByteToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ObjByteToCharFunction<T> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<ObjBytePair<T>, Character> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ObjByteToCharFunction<T> & Memoized) (t, value) -> {
+            return memoizer.computeIfAbsent(ObjBytePair.of(t, value),
+                    key -> applyAsChar(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link ObjByteToCharFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -623,6 +915,24 @@ public interface ObjByteToCharFunction<T> extends Lambda {
      */
     @Nonnull
     default BiFunction2<T, Byte, Character> boxed() {
-        return this::applyAsChar;
+        /**
+         * A {@code BiFunction2} which applies this {@code ObjByteToCharFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<T, Byte, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjByteToCharFunction}.
+             */
+            Boxed() {
+                super(ObjByteToCharFunction.this);
+            }
+
+            @Override
+            public Character apply(T t, Byte u) {
+                return ObjByteToCharFunction.this.applyAsChar(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,10 @@
 
 package org.lambda4j.function.bi.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -37,9 +38,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.obj.ObjDoubleConsumer2;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -65,9 +68,15 @@ import org.lambda4j.function.conversion.DoubleToShortFunction;
 import org.lambda4j.function.conversion.FloatToDoubleFunction;
 import org.lambda4j.function.conversion.ShortToDoubleFunction;
 import org.lambda4j.function.to.ToDoubleFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.DoubleBinaryOperator2;
 import org.lambda4j.operator.unary.DoubleUnaryOperator2;
 import org.lambda4j.predicate.bi.obj.ObjDoublePredicate;
+import org.lambda4j.tuple.ObjDoublePair;
 
 /**
  * Represents an operation that accepts one object-valued and one {@code double}-valued input argument and produces a
@@ -103,6 +112,51 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjDoubleToDoubleFunction} which represents the given boxed function, so that it can be used
+     * with the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the
+     * {@code ObjDoubleToDoubleFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the
+     * returned function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ObjDoubleToDoubleFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjDoubleToDoubleFunction<T> unboxed(
+            @Nonnull BiFunction<? super T, ? super Double, ? extends Double> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ObjDoubleToDoubleFunction) {
+            return (ObjDoubleToDoubleFunction<T>) original;
+        }
+        return (t, value) -> function.apply(t, value);
+    }
+
+    /**
+     * Lifts a partial {@link ObjDoubleToDoubleFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link ObjDoubleFunction} that returns an {@link OptionalDouble} result. The result of
+     * the given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ObjDoubleToDoubleFunction} lifted into a total {@code ObjDoubleFunction} that returns an
+     * {@code OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T> ObjDoubleFunction<T, OptionalDouble> lift(
+            @Nonnull ObjDoublePredicate<? super T> isDefined, @Nonnull ObjDoubleToDoubleFunction<? super T> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, value) -> isDefined.test(t, value)
+                ? OptionalDouble.of(partial.applyAsDouble(t, value))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link ObjDoubleToDoubleFunction} with the given arguments and returns its result.
      *
@@ -131,7 +185,25 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjDoubleToDoubleFunction<T> onlyFirst(@Nonnull ToDoubleFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, value) -> function.applyAsDouble(t);
+        /**
+         * A {@code ObjDoubleToDoubleFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjDoubleToDoubleFunction<T> {
+
+            /**
+             * Creates a {@code ObjDoubleToDoubleFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public double applyAsDouble(T t, double value) {
+                return function.applyAsDouble(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -147,11 +219,31 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjDoubleToDoubleFunction<T> onlySecond(@Nonnull DoubleUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (t, value) -> operator.applyAsDouble(value);
+        /**
+         * A {@code ObjDoubleToDoubleFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjDoubleToDoubleFunction<T> {
+
+            /**
+             * Creates a {@code ObjDoubleToDoubleFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, operator);
+            }
+
+            @Override
+            public double applyAsDouble(T t, double value) {
+                return operator.applyAsDouble(value);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link ObjDoubleToDoubleFunction} which always returns a given value.
+     * Creates a {@link ObjDoubleToDoubleFunction} which always returns a given value. If it is composed with a
+     * following function, that function is applied to the value once when composing, and the composed function is a
+     * constant as well.
      *
      * @param <T> The type of the first argument to the function
      * @param ret The return value for the constant
@@ -159,7 +251,25 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjDoubleToDoubleFunction<T> constant(double ret) {
-        return (t, value) -> ret;
+        /**
+         * A {@code ObjDoubleToDoubleFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjDoubleToDoubleFunction<T> {
+
+            /**
+             * Creates a constant {@code ObjDoubleToDoubleFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public double applyAsDouble(T t, double value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -171,6 +281,19 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
      */
     double applyAsDouble(T t, double value);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ObjDoublePair
+     */
+    default double applyAsDouble(@Nonnull ObjDoublePair<T> tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsDouble(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this operator partially to some arguments of this one, producing a {@link DoubleUnaryOperator2} as
      * result.
@@ -194,6 +317,47 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
         return t -> applyAsDouble(t, value);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsDoubleParallel(@Nonnull T[] values1, @Nonnull double[] values2, @Nonnull double[] results) {
+        applyAsDoubleParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDoubleParallel(@Nonnull T[] values1, @Nonnull double[] values2, @Nonnull double[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsDouble(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -414,10 +578,15 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ObjDoubleFunction<T, S> andThen(@Nonnull DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleFunction.constant(after.apply(applyAsDouble(null, 0d)));
+        }
         return (t, value) -> after.apply(applyAsDouble(t, value));
     }
 
@@ -433,10 +602,15 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoublePredicate<T> andThenToBoolean(@Nonnull DoublePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoublePredicate.constant(after.test(applyAsDouble(null, 0d)));
+        }
         return (t, value) -> after.test(applyAsDouble(t, value));
     }
 
@@ -452,10 +626,15 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToByteFunction<T> andThenToByte(@Nonnull DoubleToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToByteFunction.constant(after.applyAsByte(applyAsDouble(null, 0d)));
+        }
         return (t, value) -> after.applyAsByte(applyAsDouble(t, value));
     }
 
@@ -471,10 +650,15 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToCharFunction<T> andThenToChar(@Nonnull DoubleToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToCharFunction.constant(after.applyAsChar(applyAsDouble(null, 0d)));
+        }
         return (t, value) -> after.applyAsChar(applyAsDouble(t, value));
     }
 
@@ -490,10 +674,18 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToDoubleFunction<T> andThenToDouble(@Nonnull DoubleUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToDoubleFunction.constant(after.applyAsDouble(applyAsDouble(null, 0d)));
+        }
         return (t, value) -> after.applyAsDouble(applyAsDouble(t, value));
     }
 
@@ -509,10 +701,15 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToFloatFunction<T> andThenToFloat(@Nonnull DoubleToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToFloatFunction.constant(after.applyAsFloat(applyAsDouble(null, 0d)));
+        }
         return (t, value) -> after.applyAsFloat(applyAsDouble(t, value));
     }
 
@@ -528,10 +725,15 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToIntFunction<T> andThenToInt(@Nonnull DoubleToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToIntFunction.constant(after.applyAsInt(applyAsDouble(null, 0d)));
+        }
         return (t, value) -> after.applyAsInt(applyAsDouble(t, value));
     }
 
@@ -547,10 +749,15 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToLongFunction<T> andThenToLong(@Nonnull DoubleToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToLongFunction.constant(after.applyAsLong(applyAsDouble(null, 0d)));
+        }
         return (t, value) -> after.applyAsLong(applyAsDouble(t, value));
     }
 
@@ -566,10 +773,15 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToShortFunction<T> andThenToShort(@Nonnull DoubleToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToShortFunction.constant(after.applyAsShort(applyAsDouble(null, 0d)));
+        }
         return (t, value) -> after.applyAsShort(applyAsDouble(t, value));
     }
 
@@ -589,6 +801,16 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
         return (t, value) -> consumer.accept(applyAsDouble(t, value));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToDoubleFunction2<ObjDoublePair<T>> tupled() {
+        return this::applyAsDouble;
+    }
+
     /**
      * Returns a memoized (caching) version of this {@link ObjDoubleToDoubleFunction}. Whenever it is called, the
      * mapping between the input parameters and the return value is preserved in a cache, making subsequent calls
@@ -608,13 +830,85 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, Double>, Double> cache = new ConcurrentHashMap<>();
-            return (ObjDoubleToDoubleFunction<T> & Memoized) (t, value) -> {
-                return cache.computeIfAbsent(Pair.of(t, value), key -> applyAsDouble(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ObjDoubleToDoubleFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ObjDoubleToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ObjDoubleToDoubleFunction<T> memoized(@Nonnull MemoStore<ObjDoublePair<T>, Double> store) {
+        Objects.requireNonNull(store);
+        return (ObjDoubleToDoubleFunction<T> & Memoized) (t, value) -> {
+            return store.computeIfAbsent(ObjDoublePair.of(t, value),
+                    key -> applyAsDouble(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjDoubleToDoubleFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ObjDoubleToDoubleFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ObjDoubleToDoubleFunction<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjDoubleToDoubleFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ObjDoubleToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ObjDoubleToDoubleFunction<T> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<ObjDoublePair<T>, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ObjDoubleToDoubleFunction<T> & Memoized) (t, value) -> {
+            return memoizer.computeIfAbsent(ObjDoublePair.of(t, value),
+                    key -> applyAsDouble(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link ObjDoubleToDoubleFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -624,6 +918,24 @@ public interface ObjDoubleToDoubleFunction<T> extends Lambda {
      */
     @Nonnull
     default BiFunction2<T, Double, Double> boxed() {
-        return this::applyAsDouble;
+        /**
+         * A {@code BiFunction2} which applies this {@code ObjDoubleToDoubleFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<T, Double, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjDoubleToDoubleFunction}.
+             */
+            Boxed() {
+                super(ObjDoubleToDoubleFunction.this);
+            }
+
+            @Override
+            public Double apply(T t, Double u) {
+                return ObjDoubleToDoubleFunction.this.applyAsDouble(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
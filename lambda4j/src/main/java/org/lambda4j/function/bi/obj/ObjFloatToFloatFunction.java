@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.bi.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -29,9 +29,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.FloatConsumer;
 import org.lambda4j.consumer.bi.obj.ObjFloatConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -62,10 +64,17 @@ import org.lambda4j.function.conversion.IntToFloatFunction;
 import org.lambda4j.function.conversion.LongToFloatFunction;
 import org.lambda4j.function.conversion.ShortToFloatFunction;
 import org.lambda4j.function.to.ToFloatFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.FloatBinaryOperator;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
+import org.lambda4j.optional.OptionalFloat;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.bi.obj.ObjFloatPredicate;
+import org.lambda4j.tuple.ObjFloatPair;
 
 /**
  * Represents an operation that accepts one object-valued and one {@code float}-valued input argument and produces a
@@ -101,6 +110,51 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjFloatToFloatFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ObjFloatToFloatFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ObjFloatToFloatFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjFloatToFloatFunction<T> unboxed(
+            @Nonnull BiFunction<? super T, ? super Float, ? extends Float> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ObjFloatToFloatFunction) {
+            return (ObjFloatToFloatFunction<T>) original;
+        }
+        return (t, value) -> function.apply(t, value);
+    }
+
+    /**
+     * Lifts a partial {@link ObjFloatToFloatFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link ObjFloatFunction} that returns an {@link OptionalFloat} result. The result of the
+     * given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ObjFloatToFloatFunction} lifted into a total {@code ObjFloatFunction} that returns an
+     * {@code OptionalFloat} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T> ObjFloatFunction<T, OptionalFloat> lift(
+            @Nonnull ObjFloatPredicate<? super T> isDefined, @Nonnull ObjFloatToFloatFunction<? super T> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, value) -> isDefined.test(t, value)
+                ? OptionalFloat.of(partial.applyAsFloat(t, value))
+                : OptionalFloat.empty();
+    }
+
     /**
      * Calls the given {@link ObjFloatToFloatFunction} with the given arguments and returns its result.
      *
@@ -129,7 +183,25 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjFloatToFloatFunction<T> onlyFirst(@Nonnull ToFloatFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, value) -> function.applyAsFloat(t);
+        /**
+         * A {@code ObjFloatToFloatFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjFloatToFloatFunction<T> {
+
+            /**
+             * Creates a {@code ObjFloatToFloatFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public float applyAsFloat(T t, float value) {
+                return function.applyAsFloat(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -145,11 +217,31 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjFloatToFloatFunction<T> onlySecond(@Nonnull FloatUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (t, value) -> operator.applyAsFloat(value);
+        /**
+         * A {@code ObjFloatToFloatFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjFloatToFloatFunction<T> {
+
+            /**
+             * Creates a {@code ObjFloatToFloatFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, operator);
+            }
+
+            @Override
+            public float applyAsFloat(T t, float value) {
+                return operator.applyAsFloat(value);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link ObjFloatToFloatFunction} which always returns a given value.
+     * Creates a {@link ObjFloatToFloatFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the function
      * @param ret The return value for the constant
@@ -157,7 +249,25 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjFloatToFloatFunction<T> constant(float ret) {
-        return (t, value) -> ret;
+        /**
+         * A {@code ObjFloatToFloatFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjFloatToFloatFunction<T> {
+
+            /**
+             * Creates a constant {@code ObjFloatToFloatFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public float applyAsFloat(T t, float value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -169,6 +279,19 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
      */
     float applyAsFloat(T t, float value);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ObjFloatPair
+     */
+    default float applyAsFloat(@Nonnull ObjFloatPair<T> tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsFloat(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this operator partially to some arguments of this one, producing a {@link FloatUnaryOperator} as result.
      *
@@ -191,6 +314,47 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
         return t -> applyAsFloat(t, value);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsFloatParallel(@Nonnull T[] values1, @Nonnull float[] values2, @Nonnull float[] results) {
+        applyAsFloatParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsFloatParallel(@Nonnull T[] values1, @Nonnull float[] values2, @Nonnull float[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsFloat(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -411,10 +575,15 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ObjFloatFunction<T, S> andThen(@Nonnull FloatFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjFloatFunction.constant(after.apply(applyAsFloat(null, 0f)));
+        }
         return (t, value) -> after.apply(applyAsFloat(t, value));
     }
 
@@ -430,10 +599,15 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjFloatPredicate<T> andThenToBoolean(@Nonnull FloatPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjFloatPredicate.constant(after.test(applyAsFloat(null, 0f)));
+        }
         return (t, value) -> after.test(applyAsFloat(t, value));
     }
 
@@ -449,10 +623,15 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjFloatToByteFunction<T> andThenToByte(@Nonnull FloatToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjFloatToByteFunction.constant(after.applyAsByte(applyAsFloat(null, 0f)));
+        }
         return (t, value) -> after.applyAsByte(applyAsFloat(t, value));
     }
 
@@ -468,10 +647,15 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjFloatToCharFunction<T> andThenToChar(@Nonnull FloatToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjFloatToCharFunction.constant(after.applyAsChar(applyAsFloat(null, 0f)));
+        }
         return (t, value) -> after.applyAsChar(applyAsFloat(t, value));
     }
 
@@ -487,10 +671,15 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjFloatToDoubleFunction<T> andThenToDouble(@Nonnull FloatToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjFloatToDoubleFunction.constant(after.applyAsDouble(applyAsFloat(null, 0f)));
+        }
         return (t, value) -> after.applyAsDouble(applyAsFloat(t, value));
     }
 
@@ -506,10 +695,18 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjFloatToFloatFunction<T> andThenToFloat(@Nonnull FloatUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ObjFloatToFloatFunction.constant(after.applyAsFloat(applyAsFloat(null, 0f)));
+        }
         return (t, value) -> after.applyAsFloat(applyAsFloat(t, value));
     }
 
@@ -525,10 +722,15 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjFloatToIntFunction<T> andThenToInt(@Nonnull FloatToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjFloatToIntFunction.constant(after.applyAsInt(applyAsFloat(null, 0f)));
+        }
         return (t, value) -> after.applyAsInt(applyAsFloat(t, value));
     }
 
@@ -544,10 +746,15 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjFloatToLongFunction<T> andThenToLong(@Nonnull FloatToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjFloatToLongFunction.constant(after.applyAsLong(applyAsFloat(null, 0f)));
+        }
         return (t, value) -> after.applyAsLong(applyAsFloat(t, value));
     }
 
@@ -563,10 +770,15 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjFloatToShortFunction<T> andThenToShort(@Nonnull FloatToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjFloatToShortFunction.constant(after.applyAsShort(applyAsFloat(null, 0f)));
+        }
         return (t, value) -> after.applyAsShort(applyAsFloat(t, value));
     }
 
@@ -586,6 +798,16 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
         return (t, value) -> consumer.accept(applyAsFloat(t, value));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToFloatFunction<ObjFloatPair<T>> tupled() {
+        return this::applyAsFloat;
+    }
+
     /**
      * Returns a memoized (caching) version of this {@link ObjFloatToFloatFunction}. Whenever it is called, the mapping
      * between the input parameters and the return value is preserved in a cache, making subsequent calls returning the
@@ -605,13 +827,83 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, Float>, Float> cache = new ConcurrentHashMap<>();
-            return (ObjFloatToFloatFunction<T> & Memoized) (t, value) -> {
-                return cache.computeIfAbsent(Pair.of(t, value), key -> applyAsFloat(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ObjFloatToFloatFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ObjFloatToFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ObjFloatToFloatFunction<T> memoized(@Nonnull MemoStore<ObjFloatPair<T>, Float> store) {
+        Objects.requireNonNull(store);
+        return (ObjFloatToFloatFunction<T> & Memoized) (t, value) -> {
+            return store.computeIfAbsent(ObjFloatPair.of(t, value), key -> applyAsFloat(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjFloatToFloatFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ObjFloatToFloatFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ObjFloatToFloatFunction<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjFloatToFloatFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ObjFloatToFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ObjFloatToFloatFunction<T> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<ObjFloatPair<T>, Float> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ObjFloatToFloatFunction<T> & Memoized) (t, value) -> {
+            return memoizer.computeIfAbsent(ObjFloatPair.of(t, value),
+                    key -> applyAsFloat(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link ObjFloatToFloatFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -621,6 +913,24 @@ public interface ObjFloatToFloatFunction<T> extends Lambda {
      */
     @Nonnull
     default BiFunction2<T, Float, Float> boxed() {
-        return this::applyAsFloat;
+        /**
+         * A {@code BiFunction2} which applies this {@code ObjFloatToFloatFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<T, Float, Float> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjFloatToFloatFunction}.
+             */
+            Boxed() {
+                super(ObjFloatToFloatFunction.this);
+            }
+
+            @Override
+            public Float apply(T t, Float u) {
+                return ObjFloatToFloatFunction.this.applyAsFloat(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,7 @@
 
 package org.lambda4j.function.bi.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -26,8 +24,6 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
 import org.lambda4j.consumer.ThrowableFloatConsumer;
 import org.lambda4j.consumer.bi.obj.ThrowableObjBooleanConsumer;
@@ -58,9 +54,13 @@ import org.lambda4j.function.conversion.ThrowableFloatToIntFunction;
 import org.lambda4j.function.conversion.ThrowableFloatToLongFunction;
 import org.lambda4j.function.conversion.ThrowableFloatToShortFunction;
 import org.lambda4j.function.to.ThrowableToFloatFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.ThrowableFloatBinaryOperator;
 import org.lambda4j.operator.unary.ThrowableBooleanUnaryOperator;
 import org.lambda4j.operator.unary.ThrowableFloatUnaryOperator;
+import org.lambda4j.optional.OptionalFloat;
 import org.lambda4j.predicate.ThrowableBytePredicate;
 import org.lambda4j.predicate.ThrowableCharPredicate;
 import org.lambda4j.predicate.ThrowableDoublePredicate;
@@ -70,6 +70,7 @@ import org.lambda4j.predicate.ThrowableLongPredicate;
 import org.lambda4j.predicate.ThrowablePredicate;
 import org.lambda4j.predicate.ThrowableShortPredicate;
 import org.lambda4j.predicate.bi.obj.ThrowableObjBooleanPredicate;
+import org.lambda4j.tuple.ObjBooleanPair;
 import org.lambda4j.util.ThrowableUtils;
 
 /**
@@ -110,6 +111,30 @@ public interface ThrowableObjBooleanToFloatFunction<T, X extends Throwable> exte
         return expression;
     }
 
+    /**
+     * Lifts a partial {@link ThrowableObjBooleanToFloatFunction}, which is only defined for the arguments accepted by
+     * the given predicate, into a total {@link ThrowableObjBooleanFunction} that returns an {@link OptionalFloat}
+     * result. The result of the given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ThrowableObjBooleanToFloatFunction} lifted into a total {@code
+     * ThrowableObjBooleanFunction} that returns an {@code OptionalFloat} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T, X extends Throwable> ThrowableObjBooleanFunction<T, OptionalFloat, X> lift(
+            @Nonnull ThrowableObjBooleanPredicate<? super T, ? extends X> isDefined,
+            @Nonnull ThrowableObjBooleanToFloatFunction<? super T, ? extends X> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, value) -> isDefined.testThrows(t, value)
+                ? OptionalFloat.of(partial.applyAsFloatThrows(t, value))
+                : OptionalFloat.empty();
+    }
+
     /**
      * Calls the given {@link ThrowableObjBooleanToFloatFunction} with the given arguments and returns its result.
      *
@@ -188,6 +213,20 @@ public interface ThrowableObjBooleanToFloatFunction<T, X extends Throwable> exte
      */
     float applyAsFloatThrows(T t, boolean value) throws X;
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this functions action
+     * @see ObjBooleanPair
+     */
+    default float applyAsFloatThrows(@Nonnull ObjBooleanPair<T> tuple) throws X {
+        Objects.requireNonNull(tuple);
+        return applyAsFloatThrows(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link
      * ThrowableBooleanToFloatFunction} as result.
@@ -608,6 +647,16 @@ public interface ThrowableObjBooleanToFloatFunction<T, X extends Throwable> exte
         return (t, value) -> consumer.acceptThrows(applyAsFloatThrows(t, value));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ThrowableToFloatFunction<ObjBooleanPair<T>, X> tupled() {
+        return this::applyAsFloatThrows;
+    }
+
     /**
      * Returns a memoized (caching) version of this {@link ThrowableObjBooleanToFloatFunction}. Whenever it is called,
      * the mapping between the input parameters and the return value is preserved in a cache, making subsequent calls
@@ -627,14 +676,85 @@ public interface ThrowableObjBooleanToFloatFunction<T, X extends Throwable> exte
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, Boolean>, Float> cache = new ConcurrentHashMap<>();
-            return (ThrowableObjBooleanToFloatFunction<T, X> & Memoized) (t, value) -> {
-                return cache.computeIfAbsent(Pair.of(t, value),
-                        ThrowableFunction.of(key -> applyAsFloatThrows(key.getLeft(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableObjBooleanToFloatFunction}, which caches its values
+     * in the given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the
+     * input parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose
+     * how and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableObjBooleanToFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableObjBooleanToFloatFunction<T, X> memoized(@Nonnull MemoStore<ObjBooleanPair<T>, Float> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableObjBooleanToFloatFunction<T, X> & Memoized) (t, value) -> {
+            return store.computeIfAbsent(ObjBooleanPair.of(t, value),
+                    ThrowableFunction.of(key -> applyAsFloatThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableObjBooleanToFloatFunction}. In contrast
+     * to {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableObjBooleanToFloatFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableObjBooleanToFloatFunction<T, X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableObjBooleanToFloatFunction}, which uses
+     * the given {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer
+     * allows to observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableObjBooleanToFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableObjBooleanToFloatFunction<T, X> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<ObjBooleanPair<T>, Float> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableObjBooleanToFloatFunction<T, X> & Memoized) (t, value) -> {
+            return memoizer.computeIfAbsent(ObjBooleanPair.of(t, value),
+                    ThrowableFunction.of(key -> applyAsFloatThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableBiFunction} which represents this {@link ThrowableObjBooleanToFloatFunction}.
      * Thereby the primitive input argument for this function is autoboxed. This method provides the possibility to use
@@ -16,9 +16,7 @@
 
 package org.lambda4j.function.bi.to;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -56,8 +54,12 @@ import org.lambda4j.function.conversion.ThrowableCharToIntFunction;
 import org.lambda4j.function.conversion.ThrowableCharToLongFunction;
 import org.lambda4j.function.conversion.ThrowableCharToShortFunction;
 import org.lambda4j.function.to.ThrowableToCharFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.ThrowableCharBinaryOperator;
 import org.lambda4j.operator.unary.ThrowableCharUnaryOperator;
+import org.lambda4j.optional.OptionalChar;
 import org.lambda4j.predicate.ThrowableCharPredicate;
 import org.lambda4j.predicate.bi.ThrowableBiPredicate;
 import org.lambda4j.util.ThrowableUtils;
@@ -101,6 +103,31 @@ public interface ThrowableToCharBiFunction<T, U, X extends Throwable> extends La
         return expression;
     }
 
+    /**
+     * Lifts a partial {@link ThrowableToCharBiFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link ThrowableBiFunction} that returns an {@link OptionalChar} result. The result of
+     * the given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ThrowableToCharBiFunction} lifted into a total {@code ThrowableBiFunction} that returns
+     * an {@code OptionalChar} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T, U, X extends Throwable> ThrowableBiFunction<T, U, OptionalChar, X> lift(
+            @Nonnull ThrowableBiPredicate<? super T, ? super U, ? extends X> isDefined,
+            @Nonnull ThrowableToCharBiFunction<? super T, ? super U, ? extends X> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, u) -> isDefined.testThrows(t, u)
+                ? OptionalChar.of(partial.applyAsCharThrows(t, u))
+                : OptionalChar.empty();
+    }
+
     /**
      * Calls the given {@link ThrowableToCharBiFunction} with the given arguments and returns its result.
      *
@@ -640,14 +667,85 @@ public interface ThrowableToCharBiFunction<T, U, X extends Throwable> extends La
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, U>, Character> cache = new ConcurrentHashMap<>();
-            return (ThrowableToCharBiFunction<T, U, X> & Memoized) (t, u) -> {
-                return cache.computeIfAbsent(Pair.of(t, u),
-                        ThrowableFunction.of(key -> applyAsCharThrows(key.getLeft(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableToCharBiFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableToCharBiFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableToCharBiFunction<T, U, X> memoized(@Nonnull MemoStore<Pair<T, U>, Character> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableToCharBiFunction<T, U, X> & Memoized) (t, u) -> {
+            return store.computeIfAbsent(Pair.of(t, u),
+                    ThrowableFunction.of(key -> applyAsCharThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableToCharBiFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableToCharBiFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableToCharBiFunction<T, U, X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableToCharBiFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableToCharBiFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableToCharBiFunction<T, U, X> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Pair<T, U>, Character> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableToCharBiFunction<T, U, X> & Memoized) (t, u) -> {
+            return memoizer.computeIfAbsent(Pair.of(t, u),
+                    ThrowableFunction.of(key -> applyAsCharThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableBiFunction} which represents this {@link ThrowableToCharBiFunction}. Thereby
      * the primitive input argument for this function is autoboxed. This method provides the possibility to use this
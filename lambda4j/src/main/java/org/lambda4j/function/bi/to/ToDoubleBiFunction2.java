@@ -16,9 +16,10 @@
 
 package org.lambda4j.function.bi.to;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -39,6 +40,10 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.BiConsumer2;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -58,6 +63,11 @@ import org.lambda4j.function.conversion.DoubleToCharFunction;
 import org.lambda4j.function.conversion.DoubleToFloatFunction;
 import org.lambda4j.function.conversion.DoubleToShortFunction;
 import org.lambda4j.function.to.ToDoubleFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.DoubleBinaryOperator2;
 import org.lambda4j.predicate.bi.BiPredicate2;
 
@@ -98,6 +108,51 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
         return expression;
     }
 
+    /**
+     * Returns a {@link ToDoubleBiFunction2} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ToDoubleBiFunction2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ToDoubleBiFunction2} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U> ToDoubleBiFunction2<T, U> unboxed(
+            @Nonnull BiFunction<? super T, ? super U, ? extends Double> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ToDoubleBiFunction2) {
+            return (ToDoubleBiFunction2<T, U>) original;
+        }
+        return (t, u) -> function.apply(t, u);
+    }
+
+    /**
+     * Lifts a partial {@link ToDoubleBiFunction2}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiFunction2} that returns an {@link OptionalDouble} result. The result of the
+     * given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ToDoubleBiFunction2} lifted into a total {@code BiFunction2} that returns an {@code
+     * OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T, U> BiFunction2<T, U, OptionalDouble> lift(@Nonnull BiPredicate2<? super T, ? super U> isDefined,
+            @Nonnull ToDoubleBiFunction2<? super T, ? super U> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, u) -> isDefined.test(t, u) ? OptionalDouble.of(partial.applyAsDouble(t, u)) : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link ToDoubleBiFunction} with the given arguments and returns its result.
      *
@@ -128,7 +183,25 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
     @Nonnull
     static <T, U> ToDoubleBiFunction2<T, U> onlyFirst(@Nonnull ToDoubleFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, u) -> function.applyAsDouble(t);
+        /**
+         * A {@code ToDoubleBiFunction2} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ToDoubleBiFunction2<T, U> {
+
+            /**
+             * Creates a {@code ToDoubleBiFunction2} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public double applyAsDouble(T t, U u) {
+                return function.applyAsDouble(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -145,11 +218,31 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
     @Nonnull
     static <T, U> ToDoubleBiFunction2<T, U> onlySecond(@Nonnull ToDoubleFunction<? super U> function) {
         Objects.requireNonNull(function);
-        return (t, u) -> function.applyAsDouble(u);
+        /**
+         * A {@code ToDoubleBiFunction2} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ToDoubleBiFunction2<T, U> {
+
+            /**
+             * Creates a {@code ToDoubleBiFunction2} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public double applyAsDouble(T t, U u) {
+                return function.applyAsDouble(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link ToDoubleBiFunction2} which always returns a given value.
+     * Creates a {@link ToDoubleBiFunction2} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the function
      * @param <U> The type of the second argument to the function
@@ -158,7 +251,25 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
      */
     @Nonnull
     static <T, U> ToDoubleBiFunction2<T, U> constant(double ret) {
-        return (t, u) -> ret;
+        /**
+         * A {@code ToDoubleBiFunction2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ToDoubleBiFunction2<T, U> {
+
+            /**
+             * Creates a constant {@code ToDoubleBiFunction2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public double applyAsDouble(T t, U u) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -195,6 +306,47 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
         return u -> applyAsDouble(t, u);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsDoubleParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull double[] results) {
+        applyAsDoubleParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDoubleParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull double[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsDouble(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -415,10 +567,15 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiFunction2<T, U, S> andThen(@Nonnull DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFunction2.constant(after.apply(applyAsDouble(null, null)));
+        }
         return (t, u) -> after.apply(applyAsDouble(t, u));
     }
 
@@ -434,10 +591,15 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiPredicate2<T, U> andThenToBoolean(@Nonnull DoublePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiPredicate2.constant(after.test(applyAsDouble(null, null)));
+        }
         return (t, u) -> after.test(applyAsDouble(t, u));
     }
 
@@ -453,10 +615,15 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteBiFunction<T, U> andThenToByte(@Nonnull DoubleToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteBiFunction.constant(after.applyAsByte(applyAsDouble(null, null)));
+        }
         return (t, u) -> after.applyAsByte(applyAsDouble(t, u));
     }
 
@@ -472,10 +639,15 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharBiFunction<T, U> andThenToChar(@Nonnull DoubleToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharBiFunction.constant(after.applyAsChar(applyAsDouble(null, null)));
+        }
         return (t, u) -> after.applyAsChar(applyAsDouble(t, u));
     }
 
@@ -495,6 +667,9 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
     @Nonnull
     default ToDoubleBiFunction2<T, U> andThenToDouble(@Nonnull DoubleUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
         return (t, u) -> after.applyAsDouble(applyAsDouble(t, u));
     }
 
@@ -510,10 +685,15 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToFloatBiFunction<T, U> andThenToFloat(@Nonnull DoubleToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToFloatBiFunction.constant(after.applyAsFloat(applyAsDouble(null, null)));
+        }
         return (t, u) -> after.applyAsFloat(applyAsDouble(t, u));
     }
 
@@ -529,10 +709,15 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntBiFunction2<T, U> andThenToInt(@Nonnull DoubleToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntBiFunction2.constant(after.applyAsInt(applyAsDouble(null, null)));
+        }
         return (t, u) -> after.applyAsInt(applyAsDouble(t, u));
     }
 
@@ -548,10 +733,15 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongBiFunction2<T, U> andThenToLong(@Nonnull DoubleToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongBiFunction2.constant(after.applyAsLong(applyAsDouble(null, null)));
+        }
         return (t, u) -> after.applyAsLong(applyAsDouble(t, u));
     }
 
@@ -567,10 +757,15 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortBiFunction<T, U> andThenToShort(@Nonnull DoubleToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortBiFunction.constant(after.applyAsShort(applyAsDouble(null, null)));
+        }
         return (t, u) -> after.applyAsShort(applyAsDouble(t, u));
     }
 
@@ -606,8 +801,31 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
      * @return A reversed version of this function.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default ToDoubleBiFunction2<U, T> reversed() {
-        return (u, t) -> applyAsDouble(t, u);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof ToDoubleBiFunction2) {
+            return (ToDoubleBiFunction2<U, T>) original;
+        }
+        /**
+         * A {@code ToDoubleBiFunction2} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements ToDoubleBiFunction2<U, T> {
+
+            /**
+             * Creates the reversal of this {@code ToDoubleBiFunction2}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, ToDoubleBiFunction2.this);
+            }
+
+            @Override
+            public double applyAsDouble(U u, T t) {
+                return ToDoubleBiFunction2.this.applyAsDouble(t, u);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -629,13 +847,82 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, U>, Double> cache = new ConcurrentHashMap<>();
-            return (ToDoubleBiFunction2<T, U> & Memoized) (t, u) -> {
-                return cache.computeIfAbsent(Pair.of(t, u), key -> applyAsDouble(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ToDoubleBiFunction2}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ToDoubleBiFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ToDoubleBiFunction2<T, U> memoized(@Nonnull MemoStore<Pair<T, U>, Double> store) {
+        Objects.requireNonNull(store);
+        return (ToDoubleBiFunction2<T, U> & Memoized) (t, u) -> {
+            return store.computeIfAbsent(Pair.of(t, u), key -> applyAsDouble(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToDoubleBiFunction2}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ToDoubleBiFunction2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ToDoubleBiFunction2<T, U> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToDoubleBiFunction2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ToDoubleBiFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ToDoubleBiFunction2<T, U> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Pair<T, U>, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ToDoubleBiFunction2<T, U> & Memoized) (t, u) -> {
+            return memoizer.computeIfAbsent(Pair.of(t, u), key -> applyAsDouble(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link ToDoubleBiFunction2}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -645,6 +932,24 @@ public interface ToDoubleBiFunction2<T, U> extends Lambda, ToDoubleBiFunction<T,
      */
     @Nonnull
     default BiFunction2<T, U, Double> boxed() {
-        return this::applyAsDouble;
+        /**
+         * A {@code BiFunction2} which applies this {@code ToDoubleBiFunction2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<T, U, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code ToDoubleBiFunction2}.
+             */
+            Boxed() {
+                super(ToDoubleBiFunction2.this);
+            }
+
+            @Override
+            public Double apply(T t, U u) {
+                return ToDoubleBiFunction2.this.applyAsDouble(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.bi.to;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -32,6 +32,10 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.FloatConsumer;
 import org.lambda4j.consumer.bi.BiConsumer2;
 import org.lambda4j.function.BooleanFunction;
@@ -54,8 +58,14 @@ import org.lambda4j.function.conversion.FloatToIntFunction;
 import org.lambda4j.function.conversion.FloatToLongFunction;
 import org.lambda4j.function.conversion.FloatToShortFunction;
 import org.lambda4j.function.to.ToFloatFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.FloatBinaryOperator;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
+import org.lambda4j.optional.OptionalFloat;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.bi.BiPredicate2;
 
@@ -95,6 +105,50 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ToFloatBiFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ToFloatBiFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ToFloatBiFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U> ToFloatBiFunction<T, U> unboxed(@Nonnull BiFunction<? super T, ? super U, ? extends Float> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ToFloatBiFunction) {
+            return (ToFloatBiFunction<T, U>) original;
+        }
+        return (t, u) -> function.apply(t, u);
+    }
+
+    /**
+     * Lifts a partial {@link ToFloatBiFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiFunction2} that returns an {@link OptionalFloat} result. The result of the given
+     * function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ToFloatBiFunction} lifted into a total {@code BiFunction2} that returns an {@code
+     * OptionalFloat} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T, U> BiFunction2<T, U, OptionalFloat> lift(@Nonnull BiPredicate2<? super T, ? super U> isDefined,
+            @Nonnull ToFloatBiFunction<? super T, ? super U> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, u) -> isDefined.test(t, u) ? OptionalFloat.of(partial.applyAsFloat(t, u)) : OptionalFloat.empty();
+    }
+
     /**
      * Calls the given {@link ToFloatBiFunction} with the given arguments and returns its result.
      *
@@ -125,7 +179,25 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
     @Nonnull
     static <T, U> ToFloatBiFunction<T, U> onlyFirst(@Nonnull ToFloatFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, u) -> function.applyAsFloat(t);
+        /**
+         * A {@code ToFloatBiFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ToFloatBiFunction<T, U> {
+
+            /**
+             * Creates a {@code ToFloatBiFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public float applyAsFloat(T t, U u) {
+                return function.applyAsFloat(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -142,11 +214,31 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
     @Nonnull
     static <T, U> ToFloatBiFunction<T, U> onlySecond(@Nonnull ToFloatFunction<? super U> function) {
         Objects.requireNonNull(function);
-        return (t, u) -> function.applyAsFloat(u);
+        /**
+         * A {@code ToFloatBiFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ToFloatBiFunction<T, U> {
+
+            /**
+             * Creates a {@code ToFloatBiFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public float applyAsFloat(T t, U u) {
+                return function.applyAsFloat(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link ToFloatBiFunction} which always returns a given value.
+     * Creates a {@link ToFloatBiFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the function
      * @param <U> The type of the second argument to the function
@@ -155,7 +247,25 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> ToFloatBiFunction<T, U> constant(float ret) {
-        return (t, u) -> ret;
+        /**
+         * A {@code ToFloatBiFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ToFloatBiFunction<T, U> {
+
+            /**
+             * Creates a constant {@code ToFloatBiFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public float applyAsFloat(T t, U u) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -191,6 +301,47 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
         return u -> applyAsFloat(t, u);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsFloatParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull float[] results) {
+        applyAsFloatParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsFloatParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull float[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsFloat(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -411,10 +562,15 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiFunction2<T, U, S> andThen(@Nonnull FloatFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFunction2.constant(after.apply(applyAsFloat(null, null)));
+        }
         return (t, u) -> after.apply(applyAsFloat(t, u));
     }
 
@@ -430,10 +586,15 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiPredicate2<T, U> andThenToBoolean(@Nonnull FloatPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiPredicate2.constant(after.test(applyAsFloat(null, null)));
+        }
         return (t, u) -> after.test(applyAsFloat(t, u));
     }
 
@@ -449,10 +610,15 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteBiFunction<T, U> andThenToByte(@Nonnull FloatToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteBiFunction.constant(after.applyAsByte(applyAsFloat(null, null)));
+        }
         return (t, u) -> after.applyAsByte(applyAsFloat(t, u));
     }
 
@@ -468,10 +634,15 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharBiFunction<T, U> andThenToChar(@Nonnull FloatToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharBiFunction.constant(after.applyAsChar(applyAsFloat(null, null)));
+        }
         return (t, u) -> after.applyAsChar(applyAsFloat(t, u));
     }
 
@@ -487,10 +658,15 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleBiFunction2<T, U> andThenToDouble(@Nonnull FloatToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToDoubleBiFunction2.constant(after.applyAsDouble(applyAsFloat(null, null)));
+        }
         return (t, u) -> after.applyAsDouble(applyAsFloat(t, u));
     }
 
@@ -510,6 +686,9 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
     @Nonnull
     default ToFloatBiFunction<T, U> andThenToFloat(@Nonnull FloatUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
         return (t, u) -> after.applyAsFloat(applyAsFloat(t, u));
     }
 
@@ -525,10 +704,15 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntBiFunction2<T, U> andThenToInt(@Nonnull FloatToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntBiFunction2.constant(after.applyAsInt(applyAsFloat(null, null)));
+        }
         return (t, u) -> after.applyAsInt(applyAsFloat(t, u));
     }
 
@@ -544,10 +728,15 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongBiFunction2<T, U> andThenToLong(@Nonnull FloatToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongBiFunction2.constant(after.applyAsLong(applyAsFloat(null, null)));
+        }
         return (t, u) -> after.applyAsLong(applyAsFloat(t, u));
     }
 
@@ -563,10 +752,15 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortBiFunction<T, U> andThenToShort(@Nonnull FloatToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortBiFunction.constant(after.applyAsShort(applyAsFloat(null, null)));
+        }
         return (t, u) -> after.applyAsShort(applyAsFloat(t, u));
     }
 
@@ -602,8 +796,31 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
      * @return A reversed version of this function.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default ToFloatBiFunction<U, T> reversed() {
-        return (u, t) -> applyAsFloat(t, u);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof ToFloatBiFunction) {
+            return (ToFloatBiFunction<U, T>) original;
+        }
+        /**
+         * A {@code ToFloatBiFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements ToFloatBiFunction<U, T> {
+
+            /**
+             * Creates the reversal of this {@code ToFloatBiFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, ToFloatBiFunction.this);
+            }
+
+            @Override
+            public float applyAsFloat(U u, T t) {
+                return ToFloatBiFunction.this.applyAsFloat(t, u);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -625,13 +842,82 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, U>, Float> cache = new ConcurrentHashMap<>();
-            return (ToFloatBiFunction<T, U> & Memoized) (t, u) -> {
-                return cache.computeIfAbsent(Pair.of(t, u), key -> applyAsFloat(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ToFloatBiFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ToFloatBiFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ToFloatBiFunction<T, U> memoized(@Nonnull MemoStore<Pair<T, U>, Float> store) {
+        Objects.requireNonNull(store);
+        return (ToFloatBiFunction<T, U> & Memoized) (t, u) -> {
+            return store.computeIfAbsent(Pair.of(t, u), key -> applyAsFloat(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToFloatBiFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ToFloatBiFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ToFloatBiFunction<T, U> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToFloatBiFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ToFloatBiFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ToFloatBiFunction<T, U> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Pair<T, U>, Float> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ToFloatBiFunction<T, U> & Memoized) (t, u) -> {
+            return memoizer.computeIfAbsent(Pair.of(t, u), key -> applyAsFloat(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link ToFloatBiFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -641,6 +927,24 @@ public interface ToFloatBiFunction<T, U> extends Lambda {
      */
     @Nonnull
     default BiFunction2<T, U, Float> boxed() {
-        return this::applyAsFloat;
+        /**
+         * A {@code BiFunction2} which applies this {@code ToFloatBiFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<T, U, Float> {
+
+            /**
+             * Creates the boxed variant of this {@code ToFloatBiFunction}.
+             */
+            Boxed() {
+                super(ToFloatBiFunction.this);
+            }
+
+            @Override
+            public Float apply(T t, U u) {
+                return ToFloatBiFunction.this.applyAsFloat(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
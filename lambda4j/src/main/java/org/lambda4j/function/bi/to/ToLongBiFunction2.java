@@ -16,9 +16,10 @@
 
 package org.lambda4j.function.bi.to;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -39,6 +40,10 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.BiConsumer2;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -58,7 +63,13 @@ import org.lambda4j.function.conversion.LongToCharFunction;
 import org.lambda4j.function.conversion.LongToFloatFunction;
 import org.lambda4j.function.conversion.LongToShortFunction;
 import org.lambda4j.function.to.ToLongFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.LongBinaryOperator2;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.bi.BiPredicate2;
 
 /**
@@ -98,6 +109,50 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
         return expression;
     }
 
+    /**
+     * Returns a {@link ToLongBiFunction2} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ToLongBiFunction2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ToLongBiFunction2} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U> ToLongBiFunction2<T, U> unboxed(@Nonnull BiFunction<? super T, ? super U, ? extends Long> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ToLongBiFunction2) {
+            return (ToLongBiFunction2<T, U>) original;
+        }
+        return (t, u) -> function.apply(t, u);
+    }
+
+    /**
+     * Lifts a partial {@link ToLongBiFunction2}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiFunction2} that returns an {@link OptionalLong} result. The result of the given
+     * function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ToLongBiFunction2} lifted into a total {@code BiFunction2} that returns an {@code
+     * OptionalLong} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T, U> BiFunction2<T, U, OptionalLong> lift(@Nonnull BiPredicate2<? super T, ? super U> isDefined,
+            @Nonnull ToLongBiFunction2<? super T, ? super U> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, u) -> isDefined.test(t, u) ? OptionalUtils.ofLong(partial.applyAsLong(t, u)) : OptionalLong.empty();
+    }
+
     /**
      * Calls the given {@link ToLongBiFunction} with the given arguments and returns its result.
      *
@@ -128,7 +183,25 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
     @Nonnull
     static <T, U> ToLongBiFunction2<T, U> onlyFirst(@Nonnull ToLongFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, u) -> function.applyAsLong(t);
+        /**
+         * A {@code ToLongBiFunction2} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ToLongBiFunction2<T, U> {
+
+            /**
+             * Creates a {@code ToLongBiFunction2} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public long applyAsLong(T t, U u) {
+                return function.applyAsLong(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -145,11 +218,31 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
     @Nonnull
     static <T, U> ToLongBiFunction2<T, U> onlySecond(@Nonnull ToLongFunction<? super U> function) {
         Objects.requireNonNull(function);
-        return (t, u) -> function.applyAsLong(u);
+        /**
+         * A {@code ToLongBiFunction2} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ToLongBiFunction2<T, U> {
+
+            /**
+             * Creates a {@code ToLongBiFunction2} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public long applyAsLong(T t, U u) {
+                return function.applyAsLong(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link ToLongBiFunction2} which always returns a given value.
+     * Creates a {@link ToLongBiFunction2} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the function
      * @param <U> The type of the second argument to the function
@@ -158,7 +251,25 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
      */
     @Nonnull
     static <T, U> ToLongBiFunction2<T, U> constant(long ret) {
-        return (t, u) -> ret;
+        /**
+         * A {@code ToLongBiFunction2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ToLongBiFunction2<T, U> {
+
+            /**
+             * Creates a constant {@code ToLongBiFunction2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public long applyAsLong(T t, U u) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -195,6 +306,47 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
         return u -> applyAsLong(t, u);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsLongParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull long[] results) {
+        applyAsLongParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsLongParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull long[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsLong(values1[i], values2[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -415,10 +567,15 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiFunction2<T, U, S> andThen(@Nonnull LongFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFunction2.constant(after.apply(applyAsLong(null, null)));
+        }
         return (t, u) -> after.apply(applyAsLong(t, u));
     }
 
@@ -434,10 +591,15 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiPredicate2<T, U> andThenToBoolean(@Nonnull LongPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiPredicate2.constant(after.test(applyAsLong(null, null)));
+        }
         return (t, u) -> after.test(applyAsLong(t, u));
     }
 
@@ -453,10 +615,15 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteBiFunction<T, U> andThenToByte(@Nonnull LongToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteBiFunction.constant(after.applyAsByte(applyAsLong(null, null)));
+        }
         return (t, u) -> after.applyAsByte(applyAsLong(t, u));
     }
 
@@ -472,10 +639,15 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharBiFunction<T, U> andThenToChar(@Nonnull LongToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharBiFunction.constant(after.applyAsChar(applyAsLong(null, null)));
+        }
         return (t, u) -> after.applyAsChar(applyAsLong(t, u));
     }
 
@@ -491,10 +663,15 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleBiFunction2<T, U> andThenToDouble(@Nonnull LongToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToDoubleBiFunction2.constant(after.applyAsDouble(applyAsLong(null, null)));
+        }
         return (t, u) -> after.applyAsDouble(applyAsLong(t, u));
     }
 
@@ -510,10 +687,15 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToFloatBiFunction<T, U> andThenToFloat(@Nonnull LongToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToFloatBiFunction.constant(after.applyAsFloat(applyAsLong(null, null)));
+        }
         return (t, u) -> after.applyAsFloat(applyAsLong(t, u));
     }
 
@@ -529,10 +711,15 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntBiFunction2<T, U> andThenToInt(@Nonnull LongToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntBiFunction2.constant(after.applyAsInt(applyAsLong(null, null)));
+        }
         return (t, u) -> after.applyAsInt(applyAsLong(t, u));
     }
 
@@ -552,6 +739,9 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
     @Nonnull
     default ToLongBiFunction2<T, U> andThenToLong(@Nonnull LongUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
         return (t, u) -> after.applyAsLong(applyAsLong(t, u));
     }
 
@@ -567,10 +757,15 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortBiFunction<T, U> andThenToShort(@Nonnull LongToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortBiFunction.constant(after.applyAsShort(applyAsLong(null, null)));
+        }
         return (t, u) -> after.applyAsShort(applyAsLong(t, u));
     }
 
@@ -606,8 +801,31 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
      * @return A reversed version of this function.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default ToLongBiFunction2<U, T> reversed() {
-        return (u, t) -> applyAsLong(t, u);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof ToLongBiFunction2) {
+            return (ToLongBiFunction2<U, T>) original;
+        }
+        /**
+         * A {@code ToLongBiFunction2} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements ToLongBiFunction2<U, T> {
+
+            /**
+             * Creates the reversal of this {@code ToLongBiFunction2}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, ToLongBiFunction2.this);
+            }
+
+            @Override
+            public long applyAsLong(U u, T t) {
+                return ToLongBiFunction2.this.applyAsLong(t, u);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -629,13 +847,82 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, U>, Long> cache = new ConcurrentHashMap<>();
-            return (ToLongBiFunction2<T, U> & Memoized) (t, u) -> {
-                return cache.computeIfAbsent(Pair.of(t, u), key -> applyAsLong(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ToLongBiFunction2}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ToLongBiFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ToLongBiFunction2<T, U> memoized(@Nonnull MemoStore<Pair<T, U>, Long> store) {
+        Objects.requireNonNull(store);
+        return (ToLongBiFunction2<T, U> & Memoized) (t, u) -> {
+            return store.computeIfAbsent(Pair.of(t, u), key -> applyAsLong(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToLongBiFunction2}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ToLongBiFunction2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ToLongBiFunction2<T, U> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToLongBiFunction2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ToLongBiFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ToLongBiFunction2<T, U> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Pair<T, U>, Long> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ToLongBiFunction2<T, U> & Memoized) (t, u) -> {
+            return memoizer.computeIfAbsent(Pair.of(t, u), key -> applyAsLong(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} which represents this {@link ToLongBiFunction2}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -645,6 +932,24 @@ public interface ToLongBiFunction2<T, U> extends Lambda, ToLongBiFunction<T, U>
      */
     @Nonnull
     default BiFunction2<T, U, Long> boxed() {
-        return this::applyAsLong;
+        /**
+         * A {@code BiFunction2} which applies this {@code ToLongBiFunction2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiFunction2<T, U, Long> {
+
+            /**
+             * Creates the boxed variant of this {@code ToLongBiFunction2}.
+             */
+            Boxed() {
+                super(ToLongBiFunction2.this);
+            }
+
+            @Override
+            public Long apply(T t, U u) {
+                return ToLongBiFunction2.this.applyAsLong(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,10 +16,10 @@
 
 package org.lambda4j.function.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoublePredicate;
+import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
@@ -30,14 +30,24 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.ByteConsumer;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
 import org.lambda4j.function.Function2;
 import org.lambda4j.function.to.ToByteFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
+import org.lambda4j.optional.OptionalByte;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
@@ -75,6 +85,47 @@ public interface BooleanToByteFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BooleanToByteFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BooleanToByteFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BooleanToByteFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BooleanToByteFunction unboxed(@Nonnull Function<? super Boolean, ? extends Byte> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BooleanToByteFunction) {
+            return (BooleanToByteFunction) original;
+        }
+        return value -> function.apply(value);
+    }
+
+    /**
+     * Lifts a partial {@link BooleanToByteFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BooleanFunction} that returns an {@link OptionalByte} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BooleanToByteFunction} lifted into a total {@code BooleanFunction} that returns an
+     * {@code OptionalByte} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BooleanFunction<OptionalByte> lift(
+            @Nonnull BooleanUnaryOperator isDefined, @Nonnull BooleanToByteFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return value -> isDefined.applyAsBoolean(value)
+                ? OptionalByte.of(partial.applyAsByte(value))
+                : OptionalByte.empty();
+    }
+
     /**
      * Calls the given {@link BooleanToByteFunction} with the given argument and returns its result.
      *
@@ -89,14 +140,34 @@ public interface BooleanToByteFunction extends Lambda {
     }
 
     /**
-     * Creates a {@link BooleanToByteFunction} which always returns a given value.
+     * Creates a {@link BooleanToByteFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BooleanToByteFunction} which always returns a given value.
      */
     @Nonnull
     static BooleanToByteFunction constant(byte ret) {
-        return value -> ret;
+        /**
+         * A {@code BooleanToByteFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BooleanToByteFunction {
+
+            /**
+             * Creates a constant {@code BooleanToByteFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public byte applyAsByte(boolean value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -107,6 +178,98 @@ public interface BooleanToByteFunction extends Lambda {
      */
     byte applyAsByte(boolean value);
 
+    /**
+     * Applies this function to the elements at each index and stores the results at that index of the given result
+     * array, whose length determines the number of applied elements.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsByte(@Nonnull boolean[] values, @Nonnull byte[] results) {
+        applyAsByte(values, results, 0, results.length);
+    }
+
+    /**
+     * Applies this function to the elements at each index from the given start index (inclusive) to the given end index
+     * (exclusive), and stores the results at that index of the given result array.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this function to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsByte(@Nonnull boolean[] values, @Nonnull byte[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsByte(values[i]);
+        }
+    }
+
+    /**
+     * Applies this function to the elements at the first given number of indices of the given selection vector, and
+     * stores the results at these indices of the given result array, whose other elements are left unchanged.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsByte(@Nonnull boolean[] values, @Nonnull byte[] results, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsByte(values[index]);
+        }
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsByteParallel(@Nonnull boolean[] values, @Nonnull byte[] results) {
+        applyAsByteParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsByteParallel(@Nonnull boolean[] values, @Nonnull byte[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsByte(values, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -152,6 +315,9 @@ public interface BooleanToByteFunction extends Lambda {
     @Nonnull
     default BooleanToByteFunction composeFromBoolean(@Nonnull BooleanUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> applyAsByte(before.applyAsBoolean(value));
     }
 
@@ -299,10 +465,15 @@ public interface BooleanToByteFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BooleanFunction<S> andThen(@Nonnull ByteFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanFunction.constant(after.apply(applyAsByte(false)));
+        }
         return value -> after.apply(applyAsByte(value));
     }
 
@@ -318,10 +489,15 @@ public interface BooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanUnaryOperator andThenToBoolean(@Nonnull BytePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanUnaryOperator.constant(after.test(applyAsByte(false)));
+        }
         return value -> after.test(applyAsByte(value));
     }
 
@@ -337,10 +513,18 @@ public interface BooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToByteFunction andThenToByte(@Nonnull ByteUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanToByteFunction.constant(after.applyAsByte(applyAsByte(false)));
+        }
         return value -> after.applyAsByte(applyAsByte(value));
     }
 
@@ -356,10 +540,15 @@ public interface BooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToCharFunction andThenToChar(@Nonnull ByteToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToCharFunction.constant(after.applyAsChar(applyAsByte(false)));
+        }
         return value -> after.applyAsChar(applyAsByte(value));
     }
 
@@ -375,10 +564,15 @@ public interface BooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToDoubleFunction andThenToDouble(@Nonnull ByteToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToDoubleFunction.constant(after.applyAsDouble(applyAsByte(false)));
+        }
         return value -> after.applyAsDouble(applyAsByte(value));
     }
 
@@ -394,10 +588,15 @@ public interface BooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToFloatFunction andThenToFloat(@Nonnull ByteToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToFloatFunction.constant(after.applyAsFloat(applyAsByte(false)));
+        }
         return value -> after.applyAsFloat(applyAsByte(value));
     }
 
@@ -413,10 +612,15 @@ public interface BooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToIntFunction andThenToInt(@Nonnull ByteToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToIntFunction.constant(after.applyAsInt(applyAsByte(false)));
+        }
         return value -> after.applyAsInt(applyAsByte(value));
     }
 
@@ -432,10 +636,15 @@ public interface BooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToLongFunction andThenToLong(@Nonnull ByteToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToLongFunction.constant(after.applyAsLong(applyAsByte(false)));
+        }
         return value -> after.applyAsLong(applyAsByte(value));
     }
 
@@ -451,10 +660,15 @@ public interface BooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToShortFunction andThenToShort(@Nonnull ByteToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanToShortFunction.constant(after.applyAsShort(applyAsByte(false)));
+        }
         return value -> after.applyAsShort(applyAsByte(value));
     }
 
@@ -503,13 +717,109 @@ public interface BooleanToByteFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Boolean, Byte> cache = new ConcurrentHashMap<>();
-            return (BooleanToByteFunction & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::applyAsByte);
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link BooleanToByteFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BooleanToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BooleanToByteFunction memoized(@Nonnull MemoStore<Boolean, Byte> store) {
+        Objects.requireNonNull(store);
+        return (BooleanToByteFunction & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsByte);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BooleanToByteFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BooleanToByteFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BooleanToByteFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BooleanToByteFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BooleanToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BooleanToByteFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Boolean, Byte> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BooleanToByteFunction & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::applyAsByte);
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link BooleanToByteFunction}, which applies this function once to each of the
+     * 2 possible input arguments in advance, and afterwards answers every call by a lookup in a table of 2 {@code byte}
+     * values holding the results. In contrast to {@link #memoized()}, no values are computed or cached on demand, so
+     * the returned function neither synchronizes nor allocates.
+     * <p>
+     * This function has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code BooleanToByteFunction}.
+     * @implSpec If this function is already compiled, it is returned itself. Any exception thrown by this function
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned function is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default BooleanToByteFunction compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        byte[] table = new byte[2];
+        for (int i = 0; i < 2; i++) {
+            table[i] = applyAsByte((i & 1) != 0);
+        }
+        return (BooleanToByteFunction & Memoized & Compiled) value -> table[value ? 1 : 0];
+    }
+
     /**
      * Returns a composed {@link Function2} which represents this {@link BooleanToByteFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -519,6 +829,24 @@ public interface BooleanToByteFunction extends Lambda {
      */
     @Nonnull
     default Function2<Boolean, Byte> boxed() {
-        return this::applyAsByte;
+        /**
+         * A {@code Function2} which applies this {@code BooleanToByteFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Function2<Boolean, Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code BooleanToByteFunction}.
+             */
+            Boxed() {
+                super(BooleanToByteFunction.this);
+            }
+
+            @Override
+            public Byte apply(Boolean t) {
+                return BooleanToByteFunction.this.applyAsByte(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,11 +16,12 @@
 
 package org.lambda4j.function.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
@@ -36,12 +37,22 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.DoubleConsumer2;
 import org.lambda4j.function.DoubleFunction2;
 import org.lambda4j.function.Function2;
 import org.lambda4j.function.to.ToIntFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.DoubleUnaryOperator2;
 import org.lambda4j.operator.unary.IntUnaryOperator2;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.DoublePredicate2;
 
 /**
@@ -77,6 +88,45 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
         return expression;
     }
 
+    /**
+     * Returns a {@link DoubleToIntFunction2} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * DoubleToIntFunction2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code DoubleToIntFunction2} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static DoubleToIntFunction2 unboxed(@Nonnull Function<? super Double, ? extends Integer> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof DoubleToIntFunction2) {
+            return (DoubleToIntFunction2) original;
+        }
+        return value -> function.apply(value);
+    }
+
+    /**
+     * Lifts a partial {@link DoubleToIntFunction2}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link DoubleFunction2} that returns an {@link OptionalInt} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code DoubleToIntFunction2} lifted into a total {@code DoubleFunction2} that returns an {@code
+     * OptionalInt} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static DoubleFunction2<OptionalInt> lift(
+            @Nonnull DoublePredicate2 isDefined, @Nonnull DoubleToIntFunction2 partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return value -> isDefined.test(value) ? OptionalUtils.ofInt(partial.applyAsInt(value)) : OptionalInt.empty();
+    }
+
     /**
      * Calls the given {@link DoubleToIntFunction} with the given argument and returns its result.
      *
@@ -91,14 +141,34 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
     }
 
     /**
-     * Creates a {@link DoubleToIntFunction2} which always returns a given value.
+     * Creates a {@link DoubleToIntFunction2} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code DoubleToIntFunction2} which always returns a given value.
      */
     @Nonnull
     static DoubleToIntFunction2 constant(int ret) {
-        return value -> ret;
+        /**
+         * A {@code DoubleToIntFunction2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements DoubleToIntFunction2 {
+
+            /**
+             * Creates a constant {@code DoubleToIntFunction2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public int applyAsInt(double value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -110,6 +180,98 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
     @Override
     int applyAsInt(double value);
 
+    /**
+     * Applies this function to the elements at each index and stores the results at that index of the given result
+     * array, whose length determines the number of applied elements.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsInt(@Nonnull double[] values, @Nonnull int[] results) {
+        applyAsInt(values, results, 0, results.length);
+    }
+
+    /**
+     * Applies this function to the elements at each index from the given start index (inclusive) to the given end index
+     * (exclusive), and stores the results at that index of the given result array.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this function to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsInt(@Nonnull double[] values, @Nonnull int[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsInt(values[i]);
+        }
+    }
+
+    /**
+     * Applies this function to the elements at the first given number of indices of the given selection vector, and
+     * stores the results at these indices of the given result array, whose other elements are left unchanged.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsInt(@Nonnull double[] values, @Nonnull int[] results, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsInt(values[index]);
+        }
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsIntParallel(@Nonnull double[] values, @Nonnull int[] results) {
+        applyAsIntParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsIntParallel(@Nonnull double[] values, @Nonnull int[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsInt(values, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -212,6 +374,9 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
     @Nonnull
     default DoubleToIntFunction2 composeFromDouble(@Nonnull DoubleUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> applyAsInt(before.applyAsDouble(value));
     }
 
@@ -302,10 +467,15 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> DoubleFunction2<S> andThen(@Nonnull IntFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleFunction2.constant(after.apply(applyAsInt(0d)));
+        }
         return value -> after.apply(applyAsInt(value));
     }
 
@@ -321,10 +491,15 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoublePredicate2 andThenToBoolean(@Nonnull IntPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoublePredicate2.constant(after.test(applyAsInt(0d)));
+        }
         return value -> after.test(applyAsInt(value));
     }
 
@@ -340,10 +515,15 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToByteFunction andThenToByte(@Nonnull IntToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleToByteFunction.constant(after.applyAsByte(applyAsInt(0d)));
+        }
         return value -> after.applyAsByte(applyAsInt(value));
     }
 
@@ -359,10 +539,15 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToCharFunction andThenToChar(@Nonnull IntToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleToCharFunction.constant(after.applyAsChar(applyAsInt(0d)));
+        }
         return value -> after.applyAsChar(applyAsInt(value));
     }
 
@@ -378,10 +563,15 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleUnaryOperator2 andThenToDouble(@Nonnull IntToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleUnaryOperator2.constant(after.applyAsDouble(applyAsInt(0d)));
+        }
         return value -> after.applyAsDouble(applyAsInt(value));
     }
 
@@ -397,10 +587,15 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToFloatFunction andThenToFloat(@Nonnull IntToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleToFloatFunction.constant(after.applyAsFloat(applyAsInt(0d)));
+        }
         return value -> after.applyAsFloat(applyAsInt(value));
     }
 
@@ -416,10 +611,18 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToIntFunction2 andThenToInt(@Nonnull IntUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return DoubleToIntFunction2.constant(after.applyAsInt(applyAsInt(0d)));
+        }
         return value -> after.applyAsInt(applyAsInt(value));
     }
 
@@ -435,10 +638,15 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToLongFunction2 andThenToLong(@Nonnull IntToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleToLongFunction2.constant(after.applyAsLong(applyAsInt(0d)));
+        }
         return value -> after.applyAsLong(applyAsInt(value));
     }
 
@@ -454,10 +662,15 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToShortFunction andThenToShort(@Nonnull IntToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleToShortFunction.constant(after.applyAsShort(applyAsInt(0d)));
+        }
         return value -> after.applyAsShort(applyAsInt(value));
     }
 
@@ -506,13 +719,82 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Double, Integer> cache = new ConcurrentHashMap<>();
-            return (DoubleToIntFunction2 & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::applyAsInt);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link DoubleToIntFunction2}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code DoubleToIntFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default DoubleToIntFunction2 memoized(@Nonnull MemoStore<Double, Integer> store) {
+        Objects.requireNonNull(store);
+        return (DoubleToIntFunction2 & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsInt);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link DoubleToIntFunction2}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code DoubleToIntFunction2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default DoubleToIntFunction2 adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link DoubleToIntFunction2}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code DoubleToIntFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default DoubleToIntFunction2 adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Double, Integer> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (DoubleToIntFunction2 & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::applyAsInt);
+        };
+    }
+
     /**
      * Returns a composed {@link Function2} which represents this {@link DoubleToIntFunction2}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -522,6 +804,24 @@ public interface DoubleToIntFunction2 extends Lambda, DoubleToIntFunction {
      */
     @Nonnull
     default Function2<Double, Integer> boxed() {
-        return this::applyAsInt;
+        /**
+         * A {@code Function2} which applies this {@code DoubleToIntFunction2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Function2<Double, Integer> {
+
+            /**
+             * Creates the boxed variant of this {@code DoubleToIntFunction2}.
+             */
+            Boxed() {
+                super(DoubleToIntFunction2.this);
+            }
+
+            @Override
+            public Integer apply(Double t) {
+                return DoubleToIntFunction2.this.applyAsInt(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
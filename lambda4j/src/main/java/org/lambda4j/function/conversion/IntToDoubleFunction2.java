@@ -16,15 +16,16 @@
 
 package org.lambda4j.function.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.DoubleToLongFunction;
 import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
 import java.util.function.IntToDoubleFunction;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongToIntFunction;
@@ -36,10 +37,19 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.IntConsumer2;
 import org.lambda4j.function.Function2;
 import org.lambda4j.function.IntFunction2;
 import org.lambda4j.function.to.ToDoubleFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.DoubleUnaryOperator2;
 import org.lambda4j.operator.unary.IntUnaryOperator2;
 import org.lambda4j.predicate.IntPredicate2;
@@ -77,6 +87,46 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
         return expression;
     }
 
+    /**
+     * Returns a {@link IntToDoubleFunction2} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * IntToDoubleFunction2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code IntToDoubleFunction2} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static IntToDoubleFunction2 unboxed(@Nonnull Function<? super Integer, ? extends Double> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof IntToDoubleFunction2) {
+            return (IntToDoubleFunction2) original;
+        }
+        return value -> function.apply(value);
+    }
+
+    /**
+     * Lifts a partial {@link IntToDoubleFunction2}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link IntFunction2} that returns an {@link OptionalDouble} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code IntToDoubleFunction2} lifted into a total {@code IntFunction2} that returns an {@code
+     * OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static IntFunction2<OptionalDouble> lift(@Nonnull IntPredicate2 isDefined, @Nonnull IntToDoubleFunction2 partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return value -> isDefined.test(value)
+                ? OptionalDouble.of(partial.applyAsDouble(value))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link IntToDoubleFunction} with the given argument and returns its result.
      *
@@ -91,14 +141,34 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
     }
 
     /**
-     * Creates a {@link IntToDoubleFunction2} which always returns a given value.
+     * Creates a {@link IntToDoubleFunction2} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code IntToDoubleFunction2} which always returns a given value.
      */
     @Nonnull
     static IntToDoubleFunction2 constant(double ret) {
-        return value -> ret;
+        /**
+         * A {@code IntToDoubleFunction2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements IntToDoubleFunction2 {
+
+            /**
+             * Creates a constant {@code IntToDoubleFunction2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public double applyAsDouble(int value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -110,6 +180,98 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
     @Override
     double applyAsDouble(int value);
 
+    /**
+     * Applies this function to the elements at each index and stores the results at that index of the given result
+     * array, whose length determines the number of applied elements.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDouble(@Nonnull int[] values, @Nonnull double[] results) {
+        applyAsDouble(values, results, 0, results.length);
+    }
+
+    /**
+     * Applies this function to the elements at each index from the given start index (inclusive) to the given end index
+     * (exclusive), and stores the results at that index of the given result array.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this function to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsDouble(@Nonnull int[] values, @Nonnull double[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsDouble(values[i]);
+        }
+    }
+
+    /**
+     * Applies this function to the elements at the first given number of indices of the given selection vector, and
+     * stores the results at these indices of the given result array, whose other elements are left unchanged.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsDouble(@Nonnull int[] values, @Nonnull double[] results, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsDouble(values[index]);
+        }
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsDoubleParallel(@Nonnull int[] values, @Nonnull double[] results) {
+        applyAsDoubleParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDoubleParallel(@Nonnull int[] values, @Nonnull double[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsDouble(values, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -250,6 +412,9 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
     @Nonnull
     default IntToDoubleFunction2 composeFromInt(@Nonnull IntUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> applyAsDouble(before.applyAsInt(value));
     }
 
@@ -302,10 +467,15 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> IntFunction2<S> andThen(@Nonnull DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntFunction2.constant(after.apply(applyAsDouble(0)));
+        }
         return value -> after.apply(applyAsDouble(value));
     }
 
@@ -321,10 +491,15 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntPredicate2 andThenToBoolean(@Nonnull DoublePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntPredicate2.constant(after.test(applyAsDouble(0)));
+        }
         return value -> after.test(applyAsDouble(value));
     }
 
@@ -340,10 +515,15 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToByteFunction andThenToByte(@Nonnull DoubleToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntToByteFunction.constant(after.applyAsByte(applyAsDouble(0)));
+        }
         return value -> after.applyAsByte(applyAsDouble(value));
     }
 
@@ -359,10 +539,15 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToCharFunction andThenToChar(@Nonnull DoubleToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntToCharFunction.constant(after.applyAsChar(applyAsDouble(0)));
+        }
         return value -> after.applyAsChar(applyAsDouble(value));
     }
 
@@ -378,10 +563,18 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToDoubleFunction2 andThenToDouble(@Nonnull DoubleUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return IntToDoubleFunction2.constant(after.applyAsDouble(applyAsDouble(0)));
+        }
         return value -> after.applyAsDouble(applyAsDouble(value));
     }
 
@@ -397,10 +590,15 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToFloatFunction andThenToFloat(@Nonnull DoubleToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntToFloatFunction.constant(after.applyAsFloat(applyAsDouble(0)));
+        }
         return value -> after.applyAsFloat(applyAsDouble(value));
     }
 
@@ -416,10 +614,15 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntUnaryOperator2 andThenToInt(@Nonnull DoubleToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntUnaryOperator2.constant(after.applyAsInt(applyAsDouble(0)));
+        }
         return value -> after.applyAsInt(applyAsDouble(value));
     }
 
@@ -435,10 +638,15 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToLongFunction2 andThenToLong(@Nonnull DoubleToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntToLongFunction2.constant(after.applyAsLong(applyAsDouble(0)));
+        }
         return value -> after.applyAsLong(applyAsDouble(value));
     }
 
@@ -454,10 +662,15 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToShortFunction andThenToShort(@Nonnull DoubleToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntToShortFunction.constant(after.applyAsShort(applyAsDouble(0)));
+        }
         return value -> after.applyAsShort(applyAsDouble(value));
     }
 
@@ -506,13 +719,82 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Integer, Double> cache = new ConcurrentHashMap<>();
-            return (IntToDoubleFunction2 & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::applyAsDouble);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link IntToDoubleFunction2}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code IntToDoubleFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default IntToDoubleFunction2 memoized(@Nonnull MemoStore<Integer, Double> store) {
+        Objects.requireNonNull(store);
+        return (IntToDoubleFunction2 & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsDouble);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link IntToDoubleFunction2}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code IntToDoubleFunction2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default IntToDoubleFunction2 adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link IntToDoubleFunction2}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code IntToDoubleFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default IntToDoubleFunction2 adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Integer, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (IntToDoubleFunction2 & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::applyAsDouble);
+        };
+    }
+
     /**
      * Returns a composed {@link Function2} which represents this {@link IntToDoubleFunction2}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -522,6 +804,24 @@ public interface IntToDoubleFunction2 extends Lambda, IntToDoubleFunction {
      */
     @Nonnull
     default Function2<Integer, Double> boxed() {
-        return this::applyAsDouble;
+        /**
+         * A {@code Function2} which applies this {@code IntToDoubleFunction2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Function2<Integer, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code IntToDoubleFunction2}.
+             */
+            Boxed() {
+                super(IntToDoubleFunction2.this);
+            }
+
+            @Override
+            public Double apply(Integer t) {
+                return IntToDoubleFunction2.this.applyAsDouble(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
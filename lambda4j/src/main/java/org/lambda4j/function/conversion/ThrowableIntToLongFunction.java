@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalLong;
 import java.util.function.Function;
 import java.util.function.IntToLongFunction;
 
@@ -36,8 +35,14 @@ import org.lambda4j.function.ThrowableIntFunction;
 import org.lambda4j.function.ThrowableLongFunction;
 import org.lambda4j.function.to.ThrowableToIntFunction;
 import org.lambda4j.function.to.ThrowableToLongFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.LongMemoStore;
+import org.lambda4j.memoization.MemoStore;
+import org.lambda4j.memoization.SharedLongMemoTable;
 import org.lambda4j.operator.unary.ThrowableIntUnaryOperator;
 import org.lambda4j.operator.unary.ThrowableLongUnaryOperator;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.ThrowableIntPredicate;
 import org.lambda4j.predicate.ThrowableLongPredicate;
 import org.lambda4j.util.ThrowableUtils;
@@ -78,6 +83,29 @@ public interface ThrowableIntToLongFunction<X extends Throwable> extends Lambda,
         return expression;
     }
 
+    /**
+     * Lifts a partial {@link ThrowableIntToLongFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link ThrowableIntFunction} that returns an {@link OptionalLong} result. The result of
+     * the given function is not boxed.
+     *
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ThrowableIntToLongFunction} lifted into a total {@code ThrowableIntFunction} that
+     * returns an {@code OptionalLong} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <X extends Throwable> ThrowableIntFunction<OptionalLong, X> lift(
+            @Nonnull ThrowableIntPredicate<? extends X> isDefined,
+            @Nonnull ThrowableIntToLongFunction<? extends X> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return value -> isDefined.testThrows(value)
+                ? OptionalUtils.ofLong(partial.applyAsLongThrows(value))
+                : OptionalLong.empty();
+    }
+
     /**
      * Calls the given {@link ThrowableIntToLongFunction} with the given argument and returns its result.
      *
@@ -522,13 +550,104 @@ public interface ThrowableIntToLongFunction<X extends Throwable> extends Lambda,
         if (isMemoized()) {
             return this;
         } else {
-            Map<Integer, Long> cache = new ConcurrentHashMap<>();
-            return (ThrowableIntToLongFunction<X> & Memoized) value -> {
-                return cache.computeIfAbsent(value, ThrowableFunction.of(this::applyAsLongThrows));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableIntToLongFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableIntToLongFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableIntToLongFunction<X> memoized(@Nonnull MemoStore<Integer, Long> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableIntToLongFunction<X> & Memoized) value -> {
+            return store.computeIfAbsent(value, ThrowableFunction.of(this::applyAsLongThrows));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableIntToLongFunction}. In contrast to
+     * {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableIntToLongFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableIntToLongFunction<X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableIntToLongFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableIntToLongFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableIntToLongFunction<X> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Integer, Long> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableIntToLongFunction<X> & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, ThrowableFunction.of(this::applyAsLongThrows));
+        };
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableIntToLongFunction}, which caches its values in the
+     * given {@link LongMemoStore}. In contrast to {@link #memoized(MemoStore)}, keys and values are never boxed.
+     * <p>
+     * Using a {@link SharedLongMemoTable}, which lives in a memory-mapped file, all processes on the same host which
+     * open the same file share the cached values, so a value computed by one process is served from the cache in all
+     * other processes.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableIntToLongFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see LongMemoStore
+     */
+    @Nonnull
+    default ThrowableIntToLongFunction<X> memoizedLong(@Nonnull LongMemoStore store) {
+        Objects.requireNonNull(store);
+        return (ThrowableIntToLongFunction<X> & Memoized) value -> {
+            return store.computeIfAbsent(value, key -> applyAsLong((int) key));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableFunction} which represents this {@link ThrowableIntToLongFunction}. Thereby
      * the primitive input argument for this function is autoboxed. This method provides the possibility to use this
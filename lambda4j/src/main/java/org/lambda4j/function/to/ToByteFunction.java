@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.to;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -30,6 +29,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.ByteConsumer;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.function.BooleanFunction;
@@ -51,7 +54,13 @@ import org.lambda4j.function.conversion.FloatToByteFunction;
 import org.lambda4j.function.conversion.IntToByteFunction;
 import org.lambda4j.function.conversion.LongToByteFunction;
 import org.lambda4j.function.conversion.ShortToByteFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
+import org.lambda4j.optional.OptionalByte;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.Predicate2;
 
@@ -88,6 +97,48 @@ public interface ToByteFunction<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ToByteFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ToByteFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given function, unboxing the results.
+     *
+     * @param <T> The type of the argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ToByteFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ToByteFunction<T> unboxed(@Nonnull Function<? super T, ? extends Byte> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ToByteFunction) {
+            return (ToByteFunction<T>) original;
+        }
+        return t -> function.apply(t);
+    }
+
+    /**
+     * Lifts a partial {@link ToByteFunction}, which is only defined for the arguments accepted by the given predicate,
+     * into a total {@link Function2} that returns an {@link OptionalByte} result. The result of the given function is
+     * not boxed.
+     *
+     * @param <T> The type of the argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ToByteFunction} lifted into a total {@code Function2} that returns an {@code
+     * OptionalByte} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T> Function2<T, OptionalByte> lift(
+            @Nonnull Predicate2<? super T> isDefined, @Nonnull ToByteFunction<? super T> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return t -> isDefined.test(t) ? OptionalByte.of(partial.applyAsByte(t)) : OptionalByte.empty();
+    }
+
     /**
      * Calls the given {@link ToByteFunction} with the given argument and returns its result.
      *
@@ -103,7 +154,8 @@ public interface ToByteFunction<T> extends Lambda {
     }
 
     /**
-     * Creates a {@link ToByteFunction} which always returns a given value.
+     * Creates a {@link ToByteFunction} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <T> The type of the argument to the function
      * @param ret The return value for the constant
@@ -111,7 +163,25 @@ public interface ToByteFunction<T> extends Lambda {
      */
     @Nonnull
     static <T> ToByteFunction<T> constant(byte ret) {
-        return t -> ret;
+        /**
+         * A {@code ToByteFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ToByteFunction<T> {
+
+            /**
+             * Creates a constant {@code ToByteFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public byte applyAsByte(T t) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -122,6 +192,43 @@ public interface ToByteFunction<T> extends Lambda {
      */
     byte applyAsByte(T t);
 
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsByteParallel(@Nonnull T[] values, @Nonnull byte[] results) {
+        applyAsByteParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsByteParallel(@Nonnull T[] values, @Nonnull byte[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsByte(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -314,10 +421,15 @@ public interface ToByteFunction<T> extends Lambda {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> Function2<T, S> andThen(@Nonnull ByteFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Function2.constant(after.apply(applyAsByte(null)));
+        }
         return t -> after.apply(applyAsByte(t));
     }
 
@@ -333,10 +445,15 @@ public interface ToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default Predicate2<T> andThenToBoolean(@Nonnull BytePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Predicate2.constant(after.test(applyAsByte(null)));
+        }
         return t -> after.test(applyAsByte(t));
     }
 
@@ -352,10 +469,18 @@ public interface ToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteFunction<T> andThenToByte(@Nonnull ByteUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ToByteFunction.constant(after.applyAsByte(applyAsByte(null)));
+        }
         return t -> after.applyAsByte(applyAsByte(t));
     }
 
@@ -371,10 +496,15 @@ public interface ToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharFunction<T> andThenToChar(@Nonnull ByteToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharFunction.constant(after.applyAsChar(applyAsByte(null)));
+        }
         return t -> after.applyAsChar(applyAsByte(t));
     }
 
@@ -390,10 +520,15 @@ public interface ToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleFunction2<T> andThenToDouble(@Nonnull ByteToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToDoubleFunction2.constant(after.applyAsDouble(applyAsByte(null)));
+        }
         return t -> after.applyAsDouble(applyAsByte(t));
     }
 
@@ -409,10 +544,15 @@ public interface ToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToFloatFunction<T> andThenToFloat(@Nonnull ByteToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToFloatFunction.constant(after.applyAsFloat(applyAsByte(null)));
+        }
         return t -> after.applyAsFloat(applyAsByte(t));
     }
 
@@ -428,10 +568,15 @@ public interface ToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntFunction2<T> andThenToInt(@Nonnull ByteToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntFunction2.constant(after.applyAsInt(applyAsByte(null)));
+        }
         return t -> after.applyAsInt(applyAsByte(t));
     }
 
@@ -447,10 +592,15 @@ public interface ToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongFunction2<T> andThenToLong(@Nonnull ByteToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongFunction2.constant(after.applyAsLong(applyAsByte(null)));
+        }
         return t -> after.applyAsLong(applyAsByte(t));
     }
 
@@ -466,10 +616,15 @@ public interface ToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortFunction<T> andThenToShort(@Nonnull ByteToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortFunction.constant(after.applyAsShort(applyAsByte(null)));
+        }
         return t -> after.applyAsShort(applyAsByte(t));
     }
 
@@ -518,13 +673,82 @@ public interface ToByteFunction<T> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<T, Byte> cache = new ConcurrentHashMap<>();
-            return (ToByteFunction<T> & Memoized) t -> {
-                return cache.computeIfAbsent(t, this::applyAsByte);
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ToByteFunction}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ToByteFunction<T> memoized(@Nonnull MemoStore<T, Byte> store) {
+        Objects.requireNonNull(store);
+        return (ToByteFunction<T> & Memoized) t -> {
+            return store.computeIfAbsent(t, this::applyAsByte);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToByteFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ToByteFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ToByteFunction<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToByteFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ToByteFunction<T> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<T, Byte> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ToByteFunction<T> & Memoized) t -> {
+            return memoizer.computeIfAbsent(t, this::applyAsByte);
+        };
+    }
+
     /**
      * Returns a composed {@link Function2} which represents this {@link ToByteFunction}. Thereby the primitive input
      * argument for this function is autoboxed. This method provides the possibility to use this {@code ToByteFunction}
@@ -534,6 +758,24 @@ public interface ToByteFunction<T> extends Lambda {
      */
     @Nonnull
     default Function2<T, Byte> boxed() {
-        return this::applyAsByte;
+        /**
+         * A {@code Function2} which applies this {@code ToByteFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Function2<T, Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code ToByteFunction}.
+             */
+            Boxed() {
+                super(ToByteFunction.this);
+            }
+
+            @Override
+            public Byte apply(T t) {
+                return ToByteFunction.this.applyAsByte(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.to;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -30,6 +29,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.function.BooleanFunction;
@@ -51,7 +54,13 @@ import org.lambda4j.function.conversion.FloatToCharFunction;
 import org.lambda4j.function.conversion.IntToCharFunction;
 import org.lambda4j.function.conversion.LongToCharFunction;
 import org.lambda4j.function.conversion.ShortToCharFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.CharUnaryOperator;
+import org.lambda4j.optional.OptionalChar;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.Predicate2;
 
@@ -88,6 +97,48 @@ public interface ToCharFunction<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ToCharFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ToCharFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given function, unboxing the results.
+     *
+     * @param <T> The type of the argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ToCharFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ToCharFunction<T> unboxed(@Nonnull Function<? super T, ? extends Character> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ToCharFunction) {
+            return (ToCharFunction<T>) original;
+        }
+        return t -> function.apply(t);
+    }
+
+    /**
+     * Lifts a partial {@link ToCharFunction}, which is only defined for the arguments accepted by the given predicate,
+     * into a total {@link Function2} that returns an {@link OptionalChar} result. The result of the given function is
+     * not boxed.
+     *
+     * @param <T> The type of the argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ToCharFunction} lifted into a total {@code Function2} that returns an {@code
+     * OptionalChar} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T> Function2<T, OptionalChar> lift(
+            @Nonnull Predicate2<? super T> isDefined, @Nonnull ToCharFunction<? super T> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return t -> isDefined.test(t) ? OptionalChar.of(partial.applyAsChar(t)) : OptionalChar.empty();
+    }
+
     /**
      * Calls the given {@link ToCharFunction} with the given argument and returns its result.
      *
@@ -103,7 +154,8 @@ public interface ToCharFunction<T> extends Lambda {
     }
 
     /**
-     * Creates a {@link ToCharFunction} which always returns a given value.
+     * Creates a {@link ToCharFunction} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <T> The type of the argument to the function
      * @param ret The return value for the constant
@@ -111,7 +163,25 @@ public interface ToCharFunction<T> extends Lambda {
      */
     @Nonnull
     static <T> ToCharFunction<T> constant(char ret) {
-        return t -> ret;
+        /**
+         * A {@code ToCharFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ToCharFunction<T> {
+
+            /**
+             * Creates a constant {@code ToCharFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public char applyAsChar(T t) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -122,6 +192,43 @@ public interface ToCharFunction<T> extends Lambda {
      */
     char applyAsChar(T t);
 
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsCharParallel(@Nonnull T[] values, @Nonnull char[] results) {
+        applyAsCharParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsCharParallel(@Nonnull T[] values, @Nonnull char[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsChar(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -314,10 +421,15 @@ public interface ToCharFunction<T> extends Lambda {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> Function2<T, S> andThen(@Nonnull CharFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Function2.constant(after.apply(applyAsChar(null)));
+        }
         return t -> after.apply(applyAsChar(t));
     }
 
@@ -333,10 +445,15 @@ public interface ToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default Predicate2<T> andThenToBoolean(@Nonnull CharPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Predicate2.constant(after.test(applyAsChar(null)));
+        }
         return t -> after.test(applyAsChar(t));
     }
 
@@ -352,10 +469,15 @@ public interface ToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteFunction<T> andThenToByte(@Nonnull CharToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteFunction.constant(after.applyAsByte(applyAsChar(null)));
+        }
         return t -> after.applyAsByte(applyAsChar(t));
     }
 
@@ -371,10 +493,18 @@ public interface ToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharFunction<T> andThenToChar(@Nonnull CharUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ToCharFunction.constant(after.applyAsChar(applyAsChar(null)));
+        }
         return t -> after.applyAsChar(applyAsChar(t));
     }
 
@@ -390,10 +520,15 @@ public interface ToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleFunction2<T> andThenToDouble(@Nonnull CharToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToDoubleFunction2.constant(after.applyAsDouble(applyAsChar(null)));
+        }
         return t -> after.applyAsDouble(applyAsChar(t));
     }
 
@@ -409,10 +544,15 @@ public interface ToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToFloatFunction<T> andThenToFloat(@Nonnull CharToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToFloatFunction.constant(after.applyAsFloat(applyAsChar(null)));
+        }
         return t -> after.applyAsFloat(applyAsChar(t));
     }
 
@@ -428,10 +568,15 @@ public interface ToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntFunction2<T> andThenToInt(@Nonnull CharToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntFunction2.constant(after.applyAsInt(applyAsChar(null)));
+        }
         return t -> after.applyAsInt(applyAsChar(t));
     }
 
@@ -447,10 +592,15 @@ public interface ToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongFunction2<T> andThenToLong(@Nonnull CharToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongFunction2.constant(after.applyAsLong(applyAsChar(null)));
+        }
         return t -> after.applyAsLong(applyAsChar(t));
     }
 
@@ -466,10 +616,15 @@ public interface ToCharFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortFunction<T> andThenToShort(@Nonnull CharToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortFunction.constant(after.applyAsShort(applyAsChar(null)));
+        }
         return t -> after.applyAsShort(applyAsChar(t));
     }
 
@@ -518,13 +673,82 @@ public interface ToCharFunction<T> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<T, Character> cache = new ConcurrentHashMap<>();
-            return (ToCharFunction<T> & Memoized) t -> {
-                return cache.computeIfAbsent(t, this::applyAsChar);
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ToCharFunction}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ToCharFunction<T> memoized(@Nonnull MemoStore<T, Character> store) {
+        Objects.requireNonNull(store);
+        return (ToCharFunction<T> & Memoized) t -> {
+            return store.computeIfAbsent(t, this::applyAsChar);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToCharFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ToCharFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ToCharFunction<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToCharFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ToCharFunction<T> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<T, Character> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ToCharFunction<T> & Memoized) t -> {
+            return memoizer.computeIfAbsent(t, this::applyAsChar);
+        };
+    }
+
     /**
      * Returns a composed {@link Function2} which represents this {@link ToCharFunction}. Thereby the primitive input
      * argument for this function is autoboxed. This method provides the possibility to use this {@code ToCharFunction}
@@ -534,6 +758,24 @@ public interface ToCharFunction<T> extends Lambda {
      */
     @Nonnull
     default Function2<T, Character> boxed() {
-        return this::applyAsChar;
+        /**
+         * A {@code Function2} which applies this {@code ToCharFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Function2<T, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code ToCharFunction}.
+             */
+            Boxed() {
+                super(ToCharFunction.this);
+            }
+
+            @Override
+            public Character apply(T t) {
+                return ToCharFunction.this.applyAsChar(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.to;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -36,6 +36,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -54,6 +58,11 @@ import org.lambda4j.function.conversion.FloatToDoubleFunction;
 import org.lambda4j.function.conversion.IntToDoubleFunction2;
 import org.lambda4j.function.conversion.LongToDoubleFunction2;
 import org.lambda4j.function.conversion.ShortToDoubleFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.DoubleUnaryOperator2;
 import org.lambda4j.predicate.Predicate2;
 
@@ -92,6 +101,48 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
         return expression;
     }
 
+    /**
+     * Returns a {@link ToDoubleFunction2} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ToDoubleFunction2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, unboxing the results.
+     *
+     * @param <T> The type of the argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ToDoubleFunction2} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ToDoubleFunction2<T> unboxed(@Nonnull Function<? super T, ? extends Double> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ToDoubleFunction2) {
+            return (ToDoubleFunction2<T>) original;
+        }
+        return t -> function.apply(t);
+    }
+
+    /**
+     * Lifts a partial {@link ToDoubleFunction2}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link Function2} that returns an {@link OptionalDouble} result. The result of the given
+     * function is not boxed.
+     *
+     * @param <T> The type of the argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ToDoubleFunction2} lifted into a total {@code Function2} that returns an {@code
+     * OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T> Function2<T, OptionalDouble> lift(
+            @Nonnull Predicate2<? super T> isDefined, @Nonnull ToDoubleFunction2<? super T> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return t -> isDefined.test(t) ? OptionalDouble.of(partial.applyAsDouble(t)) : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link ToDoubleFunction} with the given argument and returns its result.
      *
@@ -107,7 +158,9 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
     }
 
     /**
-     * Creates a {@link ToDoubleFunction2} which always returns a given value.
+     * Creates a {@link ToDoubleFunction2} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the argument to the function
      * @param ret The return value for the constant
@@ -115,7 +168,25 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
      */
     @Nonnull
     static <T> ToDoubleFunction2<T> constant(double ret) {
-        return t -> ret;
+        /**
+         * A {@code ToDoubleFunction2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ToDoubleFunction2<T> {
+
+            /**
+             * Creates a constant {@code ToDoubleFunction2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public double applyAsDouble(T t) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -127,6 +198,44 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
     @Override
     double applyAsDouble(T t);
 
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsDoubleParallel(@Nonnull T[] values, @Nonnull double[] results) {
+        applyAsDoubleParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDoubleParallel(@Nonnull T[] values, @Nonnull double[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsDouble(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -319,10 +428,15 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> Function2<T, S> andThen(@Nonnull DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Function2.constant(after.apply(applyAsDouble(null)));
+        }
         return t -> after.apply(applyAsDouble(t));
     }
 
@@ -338,10 +452,15 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default Predicate2<T> andThenToBoolean(@Nonnull DoublePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Predicate2.constant(after.test(applyAsDouble(null)));
+        }
         return t -> after.test(applyAsDouble(t));
     }
 
@@ -357,10 +476,15 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteFunction<T> andThenToByte(@Nonnull DoubleToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteFunction.constant(after.applyAsByte(applyAsDouble(null)));
+        }
         return t -> after.applyAsByte(applyAsDouble(t));
     }
 
@@ -376,10 +500,15 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharFunction<T> andThenToChar(@Nonnull DoubleToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharFunction.constant(after.applyAsChar(applyAsDouble(null)));
+        }
         return t -> after.applyAsChar(applyAsDouble(t));
     }
 
@@ -395,10 +524,18 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleFunction2<T> andThenToDouble(@Nonnull DoubleUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ToDoubleFunction2.constant(after.applyAsDouble(applyAsDouble(null)));
+        }
         return t -> after.applyAsDouble(applyAsDouble(t));
     }
 
@@ -414,10 +551,15 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToFloatFunction<T> andThenToFloat(@Nonnull DoubleToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToFloatFunction.constant(after.applyAsFloat(applyAsDouble(null)));
+        }
         return t -> after.applyAsFloat(applyAsDouble(t));
     }
 
@@ -433,10 +575,15 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntFunction2<T> andThenToInt(@Nonnull DoubleToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntFunction2.constant(after.applyAsInt(applyAsDouble(null)));
+        }
         return t -> after.applyAsInt(applyAsDouble(t));
     }
 
@@ -452,10 +599,15 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongFunction2<T> andThenToLong(@Nonnull DoubleToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongFunction2.constant(after.applyAsLong(applyAsDouble(null)));
+        }
         return t -> after.applyAsLong(applyAsDouble(t));
     }
 
@@ -471,10 +623,15 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortFunction<T> andThenToShort(@Nonnull DoubleToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortFunction.constant(after.applyAsShort(applyAsDouble(null)));
+        }
         return t -> after.applyAsShort(applyAsDouble(t));
     }
 
@@ -523,13 +680,82 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
         if (isMemoized()) {
             return this;
         } else {
-            Map<T, Double> cache = new ConcurrentHashMap<>();
-            return (ToDoubleFunction2<T> & Memoized) t -> {
-                return cache.computeIfAbsent(t, this::applyAsDouble);
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ToDoubleFunction2}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ToDoubleFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ToDoubleFunction2<T> memoized(@Nonnull MemoStore<T, Double> store) {
+        Objects.requireNonNull(store);
+        return (ToDoubleFunction2<T> & Memoized) t -> {
+            return store.computeIfAbsent(t, this::applyAsDouble);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToDoubleFunction2}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ToDoubleFunction2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ToDoubleFunction2<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToDoubleFunction2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ToDoubleFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ToDoubleFunction2<T> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<T, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ToDoubleFunction2<T> & Memoized) t -> {
+            return memoizer.computeIfAbsent(t, this::applyAsDouble);
+        };
+    }
+
     /**
      * Returns a composed {@link Function2} which represents this {@link ToDoubleFunction2}. Thereby the primitive input
      * argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -539,6 +765,24 @@ public interface ToDoubleFunction2<T> extends Lambda, ToDoubleFunction<T> {
      */
     @Nonnull
     default Function2<T, Double> boxed() {
-        return this::applyAsDouble;
+        /**
+         * A {@code Function2} which applies this {@code ToDoubleFunction2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Function2<T, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code ToDoubleFunction2}.
+             */
+            Boxed() {
+                super(ToDoubleFunction2.this);
+            }
+
+            @Override
+            public Double apply(T t) {
+                return ToDoubleFunction2.this.applyAsDouble(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
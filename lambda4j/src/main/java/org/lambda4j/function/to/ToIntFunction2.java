@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.to;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
@@ -36,6 +36,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -54,7 +58,13 @@ import org.lambda4j.function.conversion.IntToFloatFunction;
 import org.lambda4j.function.conversion.IntToShortFunction;
 import org.lambda4j.function.conversion.LongToIntFunction2;
 import org.lambda4j.function.conversion.ShortToIntFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.IntUnaryOperator2;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.Predicate2;
 
 /**
@@ -91,6 +101,48 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
         return expression;
     }
 
+    /**
+     * Returns a {@link ToIntFunction2} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ToIntFunction2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given function, unboxing the results.
+     *
+     * @param <T> The type of the argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ToIntFunction2} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ToIntFunction2<T> unboxed(@Nonnull Function<? super T, ? extends Integer> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ToIntFunction2) {
+            return (ToIntFunction2<T>) original;
+        }
+        return t -> function.apply(t);
+    }
+
+    /**
+     * Lifts a partial {@link ToIntFunction2}, which is only defined for the arguments accepted by the given predicate,
+     * into a total {@link Function2} that returns an {@link OptionalInt} result. The result of the given function is
+     * not boxed.
+     *
+     * @param <T> The type of the argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ToIntFunction2} lifted into a total {@code Function2} that returns an {@code
+     * OptionalInt} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T> Function2<T, OptionalInt> lift(
+            @Nonnull Predicate2<? super T> isDefined, @Nonnull ToIntFunction2<? super T> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return t -> isDefined.test(t) ? OptionalUtils.ofInt(partial.applyAsInt(t)) : OptionalInt.empty();
+    }
+
     /**
      * Calls the given {@link ToIntFunction} with the given argument and returns its result.
      *
@@ -106,7 +158,8 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
     }
 
     /**
-     * Creates a {@link ToIntFunction2} which always returns a given value.
+     * Creates a {@link ToIntFunction2} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <T> The type of the argument to the function
      * @param ret The return value for the constant
@@ -114,7 +167,25 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
      */
     @Nonnull
     static <T> ToIntFunction2<T> constant(int ret) {
-        return t -> ret;
+        /**
+         * A {@code ToIntFunction2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ToIntFunction2<T> {
+
+            /**
+             * Creates a constant {@code ToIntFunction2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public int applyAsInt(T t) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -126,6 +197,43 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
     @Override
     int applyAsInt(T t);
 
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsIntParallel(@Nonnull T[] values, @Nonnull int[] results) {
+        applyAsIntParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsIntParallel(@Nonnull T[] values, @Nonnull int[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsInt(values[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -318,10 +426,15 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> Function2<T, S> andThen(@Nonnull IntFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Function2.constant(after.apply(applyAsInt(null)));
+        }
         return t -> after.apply(applyAsInt(t));
     }
 
@@ -337,10 +450,15 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default Predicate2<T> andThenToBoolean(@Nonnull IntPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Predicate2.constant(after.test(applyAsInt(null)));
+        }
         return t -> after.test(applyAsInt(t));
     }
 
@@ -356,10 +474,15 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteFunction<T> andThenToByte(@Nonnull IntToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteFunction.constant(after.applyAsByte(applyAsInt(null)));
+        }
         return t -> after.applyAsByte(applyAsInt(t));
     }
 
@@ -375,10 +498,15 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharFunction<T> andThenToChar(@Nonnull IntToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharFunction.constant(after.applyAsChar(applyAsInt(null)));
+        }
         return t -> after.applyAsChar(applyAsInt(t));
     }
 
@@ -394,10 +522,15 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleFunction2<T> andThenToDouble(@Nonnull IntToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToDoubleFunction2.constant(after.applyAsDouble(applyAsInt(null)));
+        }
         return t -> after.applyAsDouble(applyAsInt(t));
     }
 
@@ -413,10 +546,15 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToFloatFunction<T> andThenToFloat(@Nonnull IntToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToFloatFunction.constant(after.applyAsFloat(applyAsInt(null)));
+        }
         return t -> after.applyAsFloat(applyAsInt(t));
     }
 
@@ -432,10 +570,18 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntFunction2<T> andThenToInt(@Nonnull IntUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ToIntFunction2.constant(after.applyAsInt(applyAsInt(null)));
+        }
         return t -> after.applyAsInt(applyAsInt(t));
     }
 
@@ -451,10 +597,15 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongFunction2<T> andThenToLong(@Nonnull IntToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongFunction2.constant(after.applyAsLong(applyAsInt(null)));
+        }
         return t -> after.applyAsLong(applyAsInt(t));
     }
 
@@ -470,10 +621,15 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortFunction<T> andThenToShort(@Nonnull IntToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortFunction.constant(after.applyAsShort(applyAsInt(null)));
+        }
         return t -> after.applyAsShort(applyAsInt(t));
     }
 
@@ -522,13 +678,82 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
         if (isMemoized()) {
             return this;
         } else {
-            Map<T, Integer> cache = new ConcurrentHashMap<>();
-            return (ToIntFunction2<T> & Memoized) t -> {
-                return cache.computeIfAbsent(t, this::applyAsInt);
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ToIntFunction2}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ToIntFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ToIntFunction2<T> memoized(@Nonnull MemoStore<T, Integer> store) {
+        Objects.requireNonNull(store);
+        return (ToIntFunction2<T> & Memoized) t -> {
+            return store.computeIfAbsent(t, this::applyAsInt);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToIntFunction2}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ToIntFunction2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ToIntFunction2<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToIntFunction2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ToIntFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ToIntFunction2<T> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<T, Integer> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ToIntFunction2<T> & Memoized) t -> {
+            return memoizer.computeIfAbsent(t, this::applyAsInt);
+        };
+    }
+
     /**
      * Returns a composed {@link Function2} which represents this {@link ToIntFunction2}. Thereby the primitive input
      * argument for this function is autoboxed. This method provides the possibility to use this {@code ToIntFunction2}
@@ -538,6 +763,24 @@ public interface ToIntFunction2<T> extends Lambda, ToIntFunction<T> {
      */
     @Nonnull
     default Function2<T, Integer> boxed() {
-        return this::applyAsInt;
+        /**
+         * A {@code Function2} which applies this {@code ToIntFunction2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Function2<T, Integer> {
+
+            /**
+             * Creates the boxed variant of this {@code ToIntFunction2}.
+             */
+            Boxed() {
+                super(ToIntFunction2.this);
+            }
+
+            @Override
+            public Integer apply(T t) {
+                return ToIntFunction2.this.applyAsInt(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,10 +16,8 @@
 
 package org.lambda4j.function.tri;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -27,8 +25,6 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
 import org.lambda4j.consumer.ThrowableConsumer;
 import org.lambda4j.consumer.tri.ThrowableTriFloatConsumer;
@@ -56,10 +52,14 @@ import org.lambda4j.function.tri.conversion.ThrowableTriFloatToDoubleFunction;
 import org.lambda4j.function.tri.conversion.ThrowableTriFloatToIntFunction;
 import org.lambda4j.function.tri.conversion.ThrowableTriFloatToLongFunction;
 import org.lambda4j.function.tri.conversion.ThrowableTriFloatToShortFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.ThrowableFloatTernaryOperator;
 import org.lambda4j.operator.unary.ThrowableFloatUnaryOperator;
 import org.lambda4j.predicate.ThrowablePredicate;
 import org.lambda4j.predicate.tri.ThrowableTriFloatPredicate;
+import org.lambda4j.tuple.FloatTriple;
 import org.lambda4j.util.ThrowableUtils;
 
 /**
@@ -242,6 +242,20 @@ public interface ThrowableTriFloatFunction<R, X extends Throwable> extends Lambd
      */
     R applyThrows(float value1, float value2, float value3) throws X;
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this functions action
+     * @see FloatTriple
+     */
+    default R applyThrows(@Nonnull FloatTriple tuple) throws X {
+        Objects.requireNonNull(tuple);
+        return applyThrows(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link ThrowableBiFloatFunction} as
      * result.
@@ -715,6 +729,16 @@ public interface ThrowableTriFloatFunction<R, X extends Throwable> extends Lambd
         return value1 -> value2 -> value3 -> applyThrows(value1, value2, value3);
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ThrowableFunction<FloatTriple, R, X> tupled() {
+        return this::applyThrows;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -744,14 +768,84 @@ public interface ThrowableTriFloatFunction<R, X extends Throwable> extends Lambd
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Float, Float, Float>, R> cache = new ConcurrentHashMap<>();
-            return (ThrowableTriFloatFunction<R, X> & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        ThrowableFunction.of(key -> applyThrows(key.getLeft(), key.getMiddle(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableTriFloatFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableTriFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableTriFloatFunction<R, X> memoized(@Nonnull MemoStore<FloatTriple, R> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableTriFloatFunction<R, X> & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(FloatTriple.of(value1, value2, value3),
+                    ThrowableFunction.of(key -> applyThrows(key.getLeft(), key.getMiddle(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableTriFloatFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableTriFloatFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableTriFloatFunction<R, X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableTriFloatFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableTriFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableTriFloatFunction<R, X> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<FloatTriple, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableTriFloatFunction<R, X> & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(FloatTriple.of(value1, value2, value3),
+                    ThrowableFunction.of(key -> applyThrows(key.getLeft(), key.getMiddle(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableTriFunction} which represents this {@link ThrowableTriFloatFunction}. Thereby
      * the primitive input argument for this function is autoboxed. This method provides the possibility to use this
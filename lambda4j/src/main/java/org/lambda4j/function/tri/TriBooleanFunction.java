@@ -16,10 +16,9 @@
 
 package org.lambda4j.function.tri;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -35,11 +34,14 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.tri.TriBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
+import org.lambda4j.function.Function2;
 import org.lambda4j.function.bi.BiBooleanFunction;
 import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.to.ToCharFunction;
@@ -52,12 +54,18 @@ import org.lambda4j.function.tri.conversion.TriBooleanToFloatFunction;
 import org.lambda4j.function.tri.conversion.TriBooleanToIntFunction;
 import org.lambda4j.function.tri.conversion.TriBooleanToLongFunction;
 import org.lambda4j.function.tri.conversion.TriBooleanToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.BooleanTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.ShortPredicate;
+import org.lambda4j.tuple.BooleanTriple;
 
 /**
  * Represents an operation that accepts three {@code boolean}-valued input arguments and produces a result. This is a
@@ -93,6 +101,29 @@ public interface TriBooleanFunction<R> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriBooleanFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * TriBooleanFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments.
+     *
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code TriBooleanFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R> TriBooleanFunction<R> unboxed(
+            @Nonnull TriFunction<? super Boolean, ? super Boolean, ? super Boolean, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof TriBooleanFunction) {
+            return (TriBooleanFunction<R>) original;
+        }
+        return (value1, value2, value3) -> function.apply(value1, value2, value3);
+    }
+
     /**
      * Constructs a {@link TriBooleanFunction} based on a curried lambda expression. Thereby the given curried lambda
      * expression is converted to the desired uncurried type of same arity. With this method, it is possible to uncurry
@@ -163,7 +194,25 @@ public interface TriBooleanFunction<R> extends Lambda {
     @Nonnull
     static <R> TriBooleanFunction<R> onlyFirst(@Nonnull BooleanFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.apply(value1);
+        /**
+         * A {@code TriBooleanFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriBooleanFunction<R> {
+
+            /**
+             * Creates a {@code TriBooleanFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public R apply(boolean value1, boolean value2, boolean value3) {
+                return function.apply(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -179,7 +228,25 @@ public interface TriBooleanFunction<R> extends Lambda {
     @Nonnull
     static <R> TriBooleanFunction<R> onlySecond(@Nonnull BooleanFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.apply(value2);
+        /**
+         * A {@code TriBooleanFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriBooleanFunction<R> {
+
+            /**
+             * Creates a {@code TriBooleanFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public R apply(boolean value1, boolean value2, boolean value3) {
+                return function.apply(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -195,11 +262,31 @@ public interface TriBooleanFunction<R> extends Lambda {
     @Nonnull
     static <R> TriBooleanFunction<R> onlyThird(@Nonnull BooleanFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.apply(value3);
+        /**
+         * A {@code TriBooleanFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriBooleanFunction<R> {
+
+            /**
+             * Creates a {@code TriBooleanFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public R apply(boolean value1, boolean value2, boolean value3) {
+                return function.apply(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriBooleanFunction} which always returns a given value.
+     * Creates a {@link TriBooleanFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <R> The type of return value from the function
      * @param ret The return value for the constant
@@ -207,7 +294,25 @@ public interface TriBooleanFunction<R> extends Lambda {
      */
     @Nonnull
     static <R> TriBooleanFunction<R> constant(R ret) {
-        return (value1, value2, value3) -> ret;
+        /**
+         * A {@code TriBooleanFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriBooleanFunction<R> {
+
+            /**
+             * Creates a constant {@code TriBooleanFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(boolean value1, boolean value2, boolean value3) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -220,6 +325,19 @@ public interface TriBooleanFunction<R> extends Lambda {
      */
     R apply(boolean value1, boolean value2, boolean value3);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BooleanTriple
+     */
+    default R apply(@Nonnull BooleanTriple tuple) {
+        Objects.requireNonNull(tuple);
+        return apply(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BiBooleanFunction} as result.
      *
@@ -243,6 +361,51 @@ public interface TriBooleanFunction<R> extends Lambda {
         return value3 -> apply(value1, value2, value3);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull R[] results) {
+        applyParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull R[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -300,6 +463,9 @@ public interface TriBooleanFunction<R> extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> apply(before1.applyAsBoolean(value1), before2.applyAsBoolean(value2),
                 before3.applyAsBoolean(value3));
     }
@@ -483,10 +649,15 @@ public interface TriBooleanFunction<R> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriBooleanFunction<S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanFunction.constant(after.apply(apply(false, false, false)));
+        }
         return (value1, value2, value3) -> after.apply(apply(value1, value2, value3));
     }
 
@@ -502,10 +673,15 @@ public interface TriBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanTernaryOperator andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanTernaryOperator.constant(after.test(apply(false, false, false)));
+        }
         return (value1, value2, value3) -> after.test(apply(value1, value2, value3));
     }
 
@@ -521,10 +697,15 @@ public interface TriBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToByteFunction andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToByteFunction.constant(after.applyAsByte(apply(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsByte(apply(value1, value2, value3));
     }
 
@@ -540,10 +721,15 @@ public interface TriBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToCharFunction andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToCharFunction.constant(after.applyAsChar(apply(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsChar(apply(value1, value2, value3));
     }
 
@@ -559,10 +745,15 @@ public interface TriBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToDoubleFunction andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToDoubleFunction.constant(after.applyAsDouble(apply(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsDouble(apply(value1, value2, value3));
     }
 
@@ -578,10 +769,15 @@ public interface TriBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToFloatFunction andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToFloatFunction.constant(after.applyAsFloat(apply(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsFloat(apply(value1, value2, value3));
     }
 
@@ -597,10 +793,15 @@ public interface TriBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToIntFunction andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToIntFunction.constant(after.applyAsInt(apply(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsInt(apply(value1, value2, value3));
     }
 
@@ -616,10 +817,15 @@ public interface TriBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToLongFunction andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToLongFunction.constant(after.applyAsLong(apply(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsLong(apply(value1, value2, value3));
     }
 
@@ -635,10 +841,15 @@ public interface TriBooleanFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToShortFunction andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToShortFunction.constant(after.applyAsShort(apply(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsShort(apply(value1, value2, value3));
     }
 
@@ -668,14 +879,47 @@ public interface TriBooleanFunction<R> extends Lambda {
         return value1 -> value2 -> value3 -> apply(value1, value2, value3);
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default Function2<BooleanTriple, R> tupled() {
+        return this::apply;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
      * @return A reversed version of this function.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default TriBooleanFunction<R> reversed() {
-        return (value3, value2, value1) -> apply(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriBooleanFunction) {
+            return (TriBooleanFunction<R>) original;
+        }
+        /**
+         * A {@code TriBooleanFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriBooleanFunction<R> {
+
+            /**
+             * Creates the reversal of this {@code TriBooleanFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriBooleanFunction.this);
+            }
+
+            @Override
+            public R apply(boolean value3, boolean value2, boolean value1) {
+                return TriBooleanFunction.this.apply(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -697,14 +941,115 @@ public interface TriBooleanFunction<R> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Boolean, Boolean, Boolean>, R> cache = new ConcurrentHashMap<>();
-            return (TriBooleanFunction<R> & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link TriBooleanFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code TriBooleanFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriBooleanFunction<R> memoized(@Nonnull MemoStore<BooleanTriple, R> store) {
+        Objects.requireNonNull(store);
+        return (TriBooleanFunction<R> & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriBooleanFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriBooleanFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriBooleanFunction<R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriBooleanFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code TriBooleanFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriBooleanFunction<R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<BooleanTriple, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriBooleanFunction<R> & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link TriBooleanFunction}, which applies this function once to each of the 8
+     * possible combinations of input arguments in advance, and afterwards answers every call by a lookup in a table of
+     * 8 results holding the results. In contrast to {@link #memoized()}, no values are computed or cached on demand, so
+     * the returned function neither synchronizes nor allocates.
+     * <p>
+     * This function has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code TriBooleanFunction}.
+     * @implSpec If this function is already compiled, it is returned itself. Any exception thrown by this function
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned function is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default TriBooleanFunction<R> compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        @SuppressWarnings("unchecked")
+        R[] table = (R[]) new Object[8];
+        for (int i = 0; i < 8; i++) {
+            table[i] = apply((i & 1) != 0, (i & 2) != 0, (i & 4) != 0);
+        }
+        return (TriBooleanFunction<R> & Memoized & Compiled) (value1, value2, value3) -> {
+            int index = (value1 ? 1 : 0) | (value2 ? 2 : 0) | (value3 ? 4 : 0);
+            return table[index];
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link TriBooleanFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -714,6 +1059,24 @@ public interface TriBooleanFunction<R> extends Lambda {
      */
     @Nonnull
     default TriFunction<Boolean, Boolean, Boolean, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code TriFunction} which applies this {@code TriBooleanFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<Boolean, Boolean, Boolean, R> {
+
+            /**
+             * Creates the boxed variant of this {@code TriBooleanFunction}.
+             */
+            Boxed() {
+                super(TriBooleanFunction.this);
+            }
+
+            @Override
+            public R apply(Boolean t, Boolean u, Boolean v) {
+                return TriBooleanFunction.this.apply(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
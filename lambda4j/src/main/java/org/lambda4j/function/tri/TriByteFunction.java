@@ -16,10 +16,9 @@
 
 package org.lambda4j.function.tri;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -32,11 +31,14 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.tri.TriByteConsumer;
 import org.lambda4j.function.ByteFunction;
+import org.lambda4j.function.Function2;
 import org.lambda4j.function.bi.BiByteFunction;
 import org.lambda4j.function.conversion.BooleanToByteFunction;
 import org.lambda4j.function.conversion.CharToByteFunction;
@@ -55,9 +57,15 @@ import org.lambda4j.function.tri.conversion.TriByteToFloatFunction;
 import org.lambda4j.function.tri.conversion.TriByteToIntFunction;
 import org.lambda4j.function.tri.conversion.TriByteToLongFunction;
 import org.lambda4j.function.tri.conversion.TriByteToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.ByteTernaryOperator;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
 import org.lambda4j.predicate.tri.TriBytePredicate;
+import org.lambda4j.tuple.ByteTriple;
 
 /**
  * Represents an operation that accepts three {@code byte}-valued input arguments and produces a result. This is a
@@ -92,6 +100,29 @@ public interface TriByteFunction<R> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriByteFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * TriByteFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given function, boxing its primitive arguments.
+     *
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code TriByteFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R> TriByteFunction<R> unboxed(
+            @Nonnull TriFunction<? super Byte, ? super Byte, ? super Byte, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof TriByteFunction) {
+            return (TriByteFunction<R>) original;
+        }
+        return (value1, value2, value3) -> function.apply(value1, value2, value3);
+    }
+
     /**
      * Constructs a {@link TriByteFunction} based on a curried lambda expression. Thereby the given curried lambda
      * expression is converted to the desired uncurried type of same arity. With this method, it is possible to uncurry
@@ -161,7 +192,25 @@ public interface TriByteFunction<R> extends Lambda {
     @Nonnull
     static <R> TriByteFunction<R> onlyFirst(@Nonnull ByteFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.apply(value1);
+        /**
+         * A {@code TriByteFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriByteFunction<R> {
+
+            /**
+             * Creates a {@code TriByteFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public R apply(byte value1, byte value2, byte value3) {
+                return function.apply(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -177,7 +226,25 @@ public interface TriByteFunction<R> extends Lambda {
     @Nonnull
     static <R> TriByteFunction<R> onlySecond(@Nonnull ByteFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.apply(value2);
+        /**
+         * A {@code TriByteFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriByteFunction<R> {
+
+            /**
+             * Creates a {@code TriByteFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public R apply(byte value1, byte value2, byte value3) {
+                return function.apply(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -193,11 +260,31 @@ public interface TriByteFunction<R> extends Lambda {
     @Nonnull
     static <R> TriByteFunction<R> onlyThird(@Nonnull ByteFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.apply(value3);
+        /**
+         * A {@code TriByteFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriByteFunction<R> {
+
+            /**
+             * Creates a {@code TriByteFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public R apply(byte value1, byte value2, byte value3) {
+                return function.apply(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriByteFunction} which always returns a given value.
+     * Creates a {@link TriByteFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <R> The type of return value from the function
      * @param ret The return value for the constant
@@ -205,7 +292,25 @@ public interface TriByteFunction<R> extends Lambda {
      */
     @Nonnull
     static <R> TriByteFunction<R> constant(R ret) {
-        return (value1, value2, value3) -> ret;
+        /**
+         * A {@code TriByteFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriByteFunction<R> {
+
+            /**
+             * Creates a constant {@code TriByteFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(byte value1, byte value2, byte value3) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -218,6 +323,19 @@ public interface TriByteFunction<R> extends Lambda {
      */
     R apply(byte value1, byte value2, byte value3);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ByteTriple
+     */
+    default R apply(@Nonnull ByteTriple tuple) {
+        Objects.requireNonNull(tuple);
+        return apply(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BiByteFunction} as result.
      *
@@ -241,6 +359,51 @@ public interface TriByteFunction<R> extends Lambda {
         return value3 -> apply(value1, value2, value3);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] values3,
+            @Nonnull R[] results) {
+        applyParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] values3,
+            @Nonnull R[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -323,6 +486,9 @@ public interface TriByteFunction<R> extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> apply(before1.applyAsByte(value1), before2.applyAsByte(value2),
                 before3.applyAsByte(value3));
     }
@@ -488,10 +654,15 @@ public interface TriByteFunction<R> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriByteFunction<S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteFunction.constant(after.apply(apply((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.apply(apply(value1, value2, value3));
     }
 
@@ -507,10 +678,15 @@ public interface TriByteFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBytePredicate andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBytePredicate.constant(after.test(apply((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.test(apply(value1, value2, value3));
     }
 
@@ -526,10 +702,15 @@ public interface TriByteFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteTernaryOperator andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ByteTernaryOperator.constant(after.applyAsByte(apply((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsByte(apply(value1, value2, value3));
     }
 
@@ -545,10 +726,15 @@ public interface TriByteFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToCharFunction andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToCharFunction.constant(after.applyAsChar(apply((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsChar(apply(value1, value2, value3));
     }
 
@@ -564,10 +750,15 @@ public interface TriByteFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToDoubleFunction andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToDoubleFunction.constant(after.applyAsDouble(apply((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsDouble(apply(value1, value2, value3));
     }
 
@@ -583,10 +774,15 @@ public interface TriByteFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToFloatFunction andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToFloatFunction.constant(after.applyAsFloat(apply((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsFloat(apply(value1, value2, value3));
     }
 
@@ -602,10 +798,15 @@ public interface TriByteFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToIntFunction andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToIntFunction.constant(after.applyAsInt(apply((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsInt(apply(value1, value2, value3));
     }
 
@@ -621,10 +822,15 @@ public interface TriByteFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToLongFunction andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToLongFunction.constant(after.applyAsLong(apply((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsLong(apply(value1, value2, value3));
     }
 
@@ -640,10 +846,15 @@ public interface TriByteFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToShortFunction andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToShortFunction.constant(after.applyAsShort(apply((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsShort(apply(value1, value2, value3));
     }
 
@@ -673,14 +884,47 @@ public interface TriByteFunction<R> extends Lambda {
         return value1 -> value2 -> value3 -> apply(value1, value2, value3);
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default Function2<ByteTriple, R> tupled() {
+        return this::apply;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
      * @return A reversed version of this function.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default TriByteFunction<R> reversed() {
-        return (value3, value2, value1) -> apply(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriByteFunction) {
+            return (TriByteFunction<R>) original;
+        }
+        /**
+         * A {@code TriByteFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriByteFunction<R> {
+
+            /**
+             * Creates the reversal of this {@code TriByteFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriByteFunction.this);
+            }
+
+            @Override
+            public R apply(byte value3, byte value2, byte value1) {
+                return TriByteFunction.this.apply(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -702,14 +946,84 @@ public interface TriByteFunction<R> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Byte, Byte, Byte>, R> cache = new ConcurrentHashMap<>();
-            return (TriByteFunction<R> & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link TriByteFunction}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code TriByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriByteFunction<R> memoized(@Nonnull MemoStore<ByteTriple, R> store) {
+        Objects.requireNonNull(store);
+        return (TriByteFunction<R> & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(ByteTriple.of(value1, value2, value3),
+                    key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriByteFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriByteFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriByteFunction<R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriByteFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code TriByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriByteFunction<R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<ByteTriple, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriByteFunction<R> & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(ByteTriple.of(value1, value2, value3),
+                    key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link TriByteFunction}. Thereby the primitive input
      * argument for this function is autoboxed. This method provides the possibility to use this {@code TriByteFunction}
@@ -719,6 +1033,24 @@ public interface TriByteFunction<R> extends Lambda {
      */
     @Nonnull
     default TriFunction<Byte, Byte, Byte, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code TriFunction} which applies this {@code TriByteFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<Byte, Byte, Byte, R> {
+
+            /**
+             * Creates the boxed variant of this {@code TriByteFunction}.
+             */
+            Boxed() {
+                super(TriByteFunction.this);
+            }
+
+            @Override
+            public R apply(Byte t, Byte u, Byte v) {
+                return TriByteFunction.this.apply(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
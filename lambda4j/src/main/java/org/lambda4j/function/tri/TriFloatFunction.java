@@ -16,10 +16,9 @@
 
 package org.lambda4j.function.tri;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -32,11 +31,14 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.tri.TriFloatConsumer;
 import org.lambda4j.function.FloatFunction;
+import org.lambda4j.function.Function2;
 import org.lambda4j.function.bi.BiFloatFunction;
 import org.lambda4j.function.conversion.BooleanToFloatFunction;
 import org.lambda4j.function.conversion.ByteToFloatFunction;
@@ -55,9 +57,15 @@ import org.lambda4j.function.tri.conversion.TriFloatToDoubleFunction;
 import org.lambda4j.function.tri.conversion.TriFloatToIntFunction;
 import org.lambda4j.function.tri.conversion.TriFloatToLongFunction;
 import org.lambda4j.function.tri.conversion.TriFloatToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.FloatTernaryOperator;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
 import org.lambda4j.predicate.tri.TriFloatPredicate;
+import org.lambda4j.tuple.FloatTriple;
 
 /**
  * Represents an operation that accepts three {@code float}-valued input arguments and produces a result. This is a
@@ -93,6 +101,29 @@ public interface TriFloatFunction<R> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriFloatFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * TriFloatFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments.
+     *
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code TriFloatFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R> TriFloatFunction<R> unboxed(
+            @Nonnull TriFunction<? super Float, ? super Float, ? super Float, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof TriFloatFunction) {
+            return (TriFloatFunction<R>) original;
+        }
+        return (value1, value2, value3) -> function.apply(value1, value2, value3);
+    }
+
     /**
      * Constructs a {@link TriFloatFunction} based on a curried lambda expression. Thereby the given curried lambda
      * expression is converted to the desired uncurried type of same arity. With this method, it is possible to uncurry
@@ -162,7 +193,25 @@ public interface TriFloatFunction<R> extends Lambda {
     @Nonnull
     static <R> TriFloatFunction<R> onlyFirst(@Nonnull FloatFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.apply(value1);
+        /**
+         * A {@code TriFloatFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriFloatFunction<R> {
+
+            /**
+             * Creates a {@code TriFloatFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public R apply(float value1, float value2, float value3) {
+                return function.apply(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -178,7 +227,25 @@ public interface TriFloatFunction<R> extends Lambda {
     @Nonnull
     static <R> TriFloatFunction<R> onlySecond(@Nonnull FloatFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.apply(value2);
+        /**
+         * A {@code TriFloatFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriFloatFunction<R> {
+
+            /**
+             * Creates a {@code TriFloatFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public R apply(float value1, float value2, float value3) {
+                return function.apply(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -194,11 +261,31 @@ public interface TriFloatFunction<R> extends Lambda {
     @Nonnull
     static <R> TriFloatFunction<R> onlyThird(@Nonnull FloatFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.apply(value3);
+        /**
+         * A {@code TriFloatFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriFloatFunction<R> {
+
+            /**
+             * Creates a {@code TriFloatFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public R apply(float value1, float value2, float value3) {
+                return function.apply(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriFloatFunction} which always returns a given value.
+     * Creates a {@link TriFloatFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <R> The type of return value from the function
      * @param ret The return value for the constant
@@ -206,7 +293,25 @@ public interface TriFloatFunction<R> extends Lambda {
      */
     @Nonnull
     static <R> TriFloatFunction<R> constant(R ret) {
-        return (value1, value2, value3) -> ret;
+        /**
+         * A {@code TriFloatFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriFloatFunction<R> {
+
+            /**
+             * Creates a constant {@code TriFloatFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(float value1, float value2, float value3) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -219,6 +324,19 @@ public interface TriFloatFunction<R> extends Lambda {
      */
     R apply(float value1, float value2, float value3);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see FloatTriple
+     */
+    default R apply(@Nonnull FloatTriple tuple) {
+        Objects.requireNonNull(tuple);
+        return apply(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BiFloatFunction} as result.
      *
@@ -242,6 +360,51 @@ public interface TriFloatFunction<R> extends Lambda {
         return value3 -> apply(value1, value2, value3);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull float[] values3,
+            @Nonnull R[] results) {
+        applyParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull float[] values3,
+            @Nonnull R[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -399,6 +562,9 @@ public interface TriFloatFunction<R> extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> apply(before1.applyAsFloat(value1), before2.applyAsFloat(value2),
                 before3.applyAsFloat(value3));
     }
@@ -489,10 +655,15 @@ public interface TriFloatFunction<R> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriFloatFunction<S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatFunction.constant(after.apply(apply(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.apply(apply(value1, value2, value3));
     }
 
@@ -508,10 +679,15 @@ public interface TriFloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatPredicate andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatPredicate.constant(after.test(apply(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.test(apply(value1, value2, value3));
     }
 
@@ -527,10 +703,15 @@ public interface TriFloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatToByteFunction andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatToByteFunction.constant(after.applyAsByte(apply(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsByte(apply(value1, value2, value3));
     }
 
@@ -546,10 +727,15 @@ public interface TriFloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatToCharFunction andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatToCharFunction.constant(after.applyAsChar(apply(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsChar(apply(value1, value2, value3));
     }
 
@@ -565,10 +751,15 @@ public interface TriFloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatToDoubleFunction andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatToDoubleFunction.constant(after.applyAsDouble(apply(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsDouble(apply(value1, value2, value3));
     }
 
@@ -584,10 +775,15 @@ public interface TriFloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatTernaryOperator andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatTernaryOperator.constant(after.applyAsFloat(apply(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsFloat(apply(value1, value2, value3));
     }
 
@@ -603,10 +799,15 @@ public interface TriFloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatToIntFunction andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatToIntFunction.constant(after.applyAsInt(apply(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsInt(apply(value1, value2, value3));
     }
 
@@ -622,10 +823,15 @@ public interface TriFloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatToLongFunction andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatToLongFunction.constant(after.applyAsLong(apply(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsLong(apply(value1, value2, value3));
     }
 
@@ -641,10 +847,15 @@ public interface TriFloatFunction<R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatToShortFunction andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatToShortFunction.constant(after.applyAsShort(apply(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsShort(apply(value1, value2, value3));
     }
 
@@ -674,14 +885,47 @@ public interface TriFloatFunction<R> extends Lambda {
         return value1 -> value2 -> value3 -> apply(value1, value2, value3);
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default Function2<FloatTriple, R> tupled() {
+        return this::apply;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
      * @return A reversed version of this function.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default TriFloatFunction<R> reversed() {
-        return (value3, value2, value1) -> apply(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriFloatFunction) {
+            return (TriFloatFunction<R>) original;
+        }
+        /**
+         * A {@code TriFloatFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriFloatFunction<R> {
+
+            /**
+             * Creates the reversal of this {@code TriFloatFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriFloatFunction.this);
+            }
+
+            @Override
+            public R apply(float value3, float value2, float value1) {
+                return TriFloatFunction.this.apply(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -703,14 +947,84 @@ public interface TriFloatFunction<R> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Float, Float, Float>, R> cache = new ConcurrentHashMap<>();
-            return (TriFloatFunction<R> & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link TriFloatFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code TriFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriFloatFunction<R> memoized(@Nonnull MemoStore<FloatTriple, R> store) {
+        Objects.requireNonNull(store);
+        return (TriFloatFunction<R> & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(FloatTriple.of(value1, value2, value3),
+                    key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriFloatFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriFloatFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriFloatFunction<R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriFloatFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code TriFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriFloatFunction<R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<FloatTriple, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriFloatFunction<R> & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(FloatTriple.of(value1, value2, value3),
+                    key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link TriFloatFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -720,6 +1034,24 @@ public interface TriFloatFunction<R> extends Lambda {
      */
     @Nonnull
     default TriFunction<Float, Float, Float, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code TriFunction} which applies this {@code TriFloatFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<Float, Float, Float, R> {
+
+            /**
+             * Creates the boxed variant of this {@code TriFloatFunction}.
+             */
+            Boxed() {
+                super(TriFloatFunction.this);
+            }
+
+            @Override
+            public R apply(Float t, Float u, Float v) {
+                return TriFloatFunction.this.apply(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,10 +16,9 @@
 
 package org.lambda4j.function.tri;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
@@ -38,6 +37,9 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.tri.TriConsumer;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -57,6 +59,11 @@ import org.lambda4j.function.tri.to.ToFloatTriFunction;
 import org.lambda4j.function.tri.to.ToIntTriFunction;
 import org.lambda4j.function.tri.to.ToLongTriFunction;
 import org.lambda4j.function.tri.to.ToShortTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.predicate.tri.TriPredicate;
 
 /**
@@ -178,7 +185,25 @@ public interface TriFunction<T, U, V, R> extends Lambda {
     @Nonnull
     static <T, U, V, R> TriFunction<T, U, V, R> onlyFirst(@Nonnull Function<? super T, ? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, u, v) -> function.apply(t);
+        /**
+         * A {@code TriFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriFunction<T, U, V, R> {
+
+            /**
+             * Creates a {@code TriFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public R apply(T t, U u, V v) {
+                return function.apply(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -197,7 +222,25 @@ public interface TriFunction<T, U, V, R> extends Lambda {
     @Nonnull
     static <T, U, V, R> TriFunction<T, U, V, R> onlySecond(@Nonnull Function<? super U, ? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, u, v) -> function.apply(u);
+        /**
+         * A {@code TriFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriFunction<T, U, V, R> {
+
+            /**
+             * Creates a {@code TriFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public R apply(T t, U u, V v) {
+                return function.apply(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -216,11 +259,30 @@ public interface TriFunction<T, U, V, R> extends Lambda {
     @Nonnull
     static <T, U, V, R> TriFunction<T, U, V, R> onlyThird(@Nonnull Function<? super V, ? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, u, v) -> function.apply(v);
+        /**
+         * A {@code TriFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriFunction<T, U, V, R> {
+
+            /**
+             * Creates a {@code TriFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public R apply(T t, U u, V v) {
+                return function.apply(v);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriFunction} which always returns a given value.
+     * Creates a {@link TriFunction} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <T> The type of the first argument to the function
      * @param <U> The type of the second argument to the function
@@ -231,7 +293,25 @@ public interface TriFunction<T, U, V, R> extends Lambda {
      */
     @Nonnull
     static <T, U, V, R> TriFunction<T, U, V, R> constant(R ret) {
-        return (t, u, v) -> ret;
+        /**
+         * A {@code TriFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriFunction<T, U, V, R> {
+
+            /**
+             * Creates a constant {@code TriFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(T t, U u, V v) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -280,6 +360,50 @@ public interface TriFunction<T, U, V, R> extends Lambda {
         return v -> apply(t, u, v);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull V[] values3, @Nonnull R[] results) {
+        applyParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull V[] values3, @Nonnull R[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -519,10 +643,15 @@ public interface TriFunction<T, U, V, R> extends Lambda {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriFunction<T, U, V, S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFunction.constant(after.apply(apply(null, null, null)));
+        }
         return (t, u, v) -> after.apply(apply(t, u, v));
     }
 
@@ -538,10 +667,15 @@ public interface TriFunction<T, U, V, R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriPredicate<T, U, V> andThenToBoolean(@Nonnull Predicate<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriPredicate.constant(after.test(apply(null, null, null)));
+        }
         return (t, u, v) -> after.test(apply(t, u, v));
     }
 
@@ -557,10 +691,15 @@ public interface TriFunction<T, U, V, R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteTriFunction<T, U, V> andThenToByte(@Nonnull ToByteFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteTriFunction.constant(after.applyAsByte(apply(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsByte(apply(t, u, v));
     }
 
@@ -576,10 +715,15 @@ public interface TriFunction<T, U, V, R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharTriFunction<T, U, V> andThenToChar(@Nonnull ToCharFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharTriFunction.constant(after.applyAsChar(apply(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsChar(apply(t, u, v));
     }
 
@@ -595,10 +739,15 @@ public interface TriFunction<T, U, V, R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleTriFunction<T, U, V> andThenToDouble(@Nonnull ToDoubleFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToDoubleTriFunction.constant(after.applyAsDouble(apply(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsDouble(apply(t, u, v));
     }
 
@@ -614,10 +763,15 @@ public interface TriFunction<T, U, V, R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToFloatTriFunction<T, U, V> andThenToFloat(@Nonnull ToFloatFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToFloatTriFunction.constant(after.applyAsFloat(apply(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsFloat(apply(t, u, v));
     }
 
@@ -633,10 +787,15 @@ public interface TriFunction<T, U, V, R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntTriFunction<T, U, V> andThenToInt(@Nonnull ToIntFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntTriFunction.constant(after.applyAsInt(apply(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsInt(apply(t, u, v));
     }
 
@@ -652,10 +811,15 @@ public interface TriFunction<T, U, V, R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongTriFunction<T, U, V> andThenToLong(@Nonnull ToLongFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongTriFunction.constant(after.applyAsLong(apply(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsLong(apply(t, u, v));
     }
 
@@ -671,10 +835,15 @@ public interface TriFunction<T, U, V, R> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortTriFunction<T, U, V> andThenToShort(@Nonnull ToShortFunction<? super R> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortTriFunction.constant(after.applyAsShort(apply(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsShort(apply(t, u, v));
     }
 
@@ -720,8 +889,31 @@ public interface TriFunction<T, U, V, R> extends Lambda {
      * @return A reversed version of this function.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default TriFunction<V, U, T, R> reversed() {
-        return (v, u, t) -> apply(t, u, v);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriFunction) {
+            return (TriFunction<V, U, T, R>) original;
+        }
+        /**
+         * A {@code TriFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriFunction<V, U, T, R> {
+
+            /**
+             * Creates the reversal of this {@code TriFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriFunction.this);
+            }
+
+            @Override
+            public R apply(V v, U u, T t) {
+                return TriFunction.this.apply(t, u, v);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -743,11 +935,81 @@ public interface TriFunction<T, U, V, R> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, U, V>, R> cache = new ConcurrentHashMap<>();
-            return (TriFunction<T, U, V, R> & Memoized) (t, u, v) -> {
-                return cache.computeIfAbsent(Triple.of(t, u, v),
-                        key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link TriFunction}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code TriFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriFunction<T, U, V, R> memoized(@Nonnull MemoStore<Triple<T, U, V>, R> store) {
+        Objects.requireNonNull(store);
+        return (TriFunction<T, U, V, R> & Memoized) (t, u, v) -> {
+            return store.computeIfAbsent(Triple.of(t, u, v),
+                    key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriFunction}. In contrast to {@link #memoized()},
+     * the returned function samples the hit rate of its cache and the computation cost of this function at runtime, and
+     * switches between passing through, caching every value and caching a bounded number of values, whichever is
+     * cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriFunction<T, U, V, R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code TriFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriFunction<T, U, V, R> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Triple<T, U, V>, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriFunction<T, U, V, R> & Memoized) (t, u, v) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, u, v),
+                    key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
 }
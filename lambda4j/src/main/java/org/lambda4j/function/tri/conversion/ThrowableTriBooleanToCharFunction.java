@@ -16,9 +16,7 @@
 
 package org.lambda4j.function.tri.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -26,8 +24,6 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
 import org.lambda4j.consumer.ThrowableCharConsumer;
 import org.lambda4j.consumer.tri.ThrowableTriBooleanConsumer;
@@ -42,13 +38,18 @@ import org.lambda4j.function.conversion.ThrowableCharToFloatFunction;
 import org.lambda4j.function.conversion.ThrowableCharToIntFunction;
 import org.lambda4j.function.conversion.ThrowableCharToLongFunction;
 import org.lambda4j.function.conversion.ThrowableCharToShortFunction;
+import org.lambda4j.function.to.ThrowableToCharFunction;
 import org.lambda4j.function.tri.ThrowableTriBooleanFunction;
 import org.lambda4j.function.tri.ThrowableTriFunction;
 import org.lambda4j.function.tri.to.ThrowableToCharTriFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.ThrowableBooleanTernaryOperator;
 import org.lambda4j.operator.ternary.ThrowableCharTernaryOperator;
 import org.lambda4j.operator.unary.ThrowableBooleanUnaryOperator;
 import org.lambda4j.operator.unary.ThrowableCharUnaryOperator;
+import org.lambda4j.optional.OptionalChar;
 import org.lambda4j.predicate.ThrowableBytePredicate;
 import org.lambda4j.predicate.ThrowableCharPredicate;
 import org.lambda4j.predicate.ThrowableDoublePredicate;
@@ -57,6 +58,7 @@ import org.lambda4j.predicate.ThrowableIntPredicate;
 import org.lambda4j.predicate.ThrowableLongPredicate;
 import org.lambda4j.predicate.ThrowablePredicate;
 import org.lambda4j.predicate.ThrowableShortPredicate;
+import org.lambda4j.tuple.BooleanTriple;
 import org.lambda4j.util.ThrowableUtils;
 
 /**
@@ -96,6 +98,29 @@ public interface ThrowableTriBooleanToCharFunction<X extends Throwable> extends
         return expression;
     }
 
+    /**
+     * Lifts a partial {@link ThrowableTriBooleanToCharFunction}, which is only defined for the arguments accepted by
+     * the given predicate, into a total {@link ThrowableTriBooleanFunction} that returns an {@link OptionalChar}
+     * result. The result of the given function is not boxed.
+     *
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ThrowableTriBooleanToCharFunction} lifted into a total {@code
+     * ThrowableTriBooleanFunction} that returns an {@code OptionalChar} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <X extends Throwable> ThrowableTriBooleanFunction<OptionalChar, X> lift(
+            @Nonnull ThrowableBooleanTernaryOperator<? extends X> isDefined,
+            @Nonnull ThrowableTriBooleanToCharFunction<? extends X> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2, value3) -> isDefined.applyAsBooleanThrows(value1, value2, value3)
+                ? OptionalChar.of(partial.applyAsCharThrows(value1, value2, value3))
+                : OptionalChar.empty();
+    }
+
     /**
      * Calls the given {@link ThrowableTriBooleanToCharFunction} with the given arguments and returns its result.
      *
@@ -188,6 +213,20 @@ public interface ThrowableTriBooleanToCharFunction<X extends Throwable> extends
      */
     char applyAsCharThrows(boolean value1, boolean value2, boolean value3) throws X;
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this functions action
+     * @see BooleanTriple
+     */
+    default char applyAsCharThrows(@Nonnull BooleanTriple tuple) throws X {
+        Objects.requireNonNull(tuple);
+        return applyAsCharThrows(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link
      * ThrowableBiBooleanToCharFunction} as result.
@@ -644,6 +683,16 @@ public interface ThrowableTriBooleanToCharFunction<X extends Throwable> extends
         return (value1, value2, value3) -> consumer.acceptThrows(applyAsCharThrows(value1, value2, value3));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ThrowableToCharFunction<BooleanTriple, X> tupled() {
+        return this::applyAsCharThrows;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -673,14 +722,85 @@ public interface ThrowableTriBooleanToCharFunction<X extends Throwable> extends
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Boolean, Boolean, Boolean>, Character> cache = new ConcurrentHashMap<>();
-            return (ThrowableTriBooleanToCharFunction<X> & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        ThrowableFunction.of(key -> applyAsCharThrows(key.getLeft(), key.getMiddle(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableTriBooleanToCharFunction}, which caches its values
+     * in the given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the
+     * input parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose
+     * how and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableTriBooleanToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableTriBooleanToCharFunction<X> memoized(@Nonnull MemoStore<BooleanTriple, Character> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableTriBooleanToCharFunction<X> & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    ThrowableFunction.of(key -> applyAsCharThrows(key.getLeft(), key.getMiddle(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableTriBooleanToCharFunction}. In contrast
+     * to {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableTriBooleanToCharFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableTriBooleanToCharFunction<X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableTriBooleanToCharFunction}, which uses
+     * the given {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer
+     * allows to observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableTriBooleanToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableTriBooleanToCharFunction<X> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<BooleanTriple, Character> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableTriBooleanToCharFunction<X> & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    ThrowableFunction.of(key -> applyAsCharThrows(key.getLeft(), key.getMiddle(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableTriFunction} which represents this {@link ThrowableTriBooleanToCharFunction}.
      * Thereby the primitive input argument for this function is autoboxed. This method provides the possibility to use
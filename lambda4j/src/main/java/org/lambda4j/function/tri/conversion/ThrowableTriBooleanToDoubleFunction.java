@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.tri.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -26,8 +25,6 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
 import org.lambda4j.consumer.ThrowableDoubleConsumer;
 import org.lambda4j.consumer.tri.ThrowableTriBooleanConsumer;
@@ -42,9 +39,13 @@ import org.lambda4j.function.conversion.ThrowableDoubleToFloatFunction;
 import org.lambda4j.function.conversion.ThrowableDoubleToIntFunction;
 import org.lambda4j.function.conversion.ThrowableDoubleToLongFunction;
 import org.lambda4j.function.conversion.ThrowableDoubleToShortFunction;
+import org.lambda4j.function.to.ThrowableToDoubleFunction;
 import org.lambda4j.function.tri.ThrowableTriBooleanFunction;
 import org.lambda4j.function.tri.ThrowableTriFunction;
 import org.lambda4j.function.tri.to.ThrowableToDoubleTriFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.ThrowableBooleanTernaryOperator;
 import org.lambda4j.operator.ternary.ThrowableDoubleTernaryOperator;
 import org.lambda4j.operator.unary.ThrowableBooleanUnaryOperator;
@@ -57,6 +58,7 @@ import org.lambda4j.predicate.ThrowableIntPredicate;
 import org.lambda4j.predicate.ThrowableLongPredicate;
 import org.lambda4j.predicate.ThrowablePredicate;
 import org.lambda4j.predicate.ThrowableShortPredicate;
+import org.lambda4j.tuple.BooleanTriple;
 import org.lambda4j.util.ThrowableUtils;
 
 /**
@@ -96,6 +98,29 @@ public interface ThrowableTriBooleanToDoubleFunction<X extends Throwable> extend
         return expression;
     }
 
+    /**
+     * Lifts a partial {@link ThrowableTriBooleanToDoubleFunction}, which is only defined for the arguments accepted by
+     * the given predicate, into a total {@link ThrowableTriBooleanFunction} that returns an {@link OptionalDouble}
+     * result. The result of the given function is not boxed.
+     *
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ThrowableTriBooleanToDoubleFunction} lifted into a total {@code
+     * ThrowableTriBooleanFunction} that returns an {@code OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <X extends Throwable> ThrowableTriBooleanFunction<OptionalDouble, X> lift(
+            @Nonnull ThrowableBooleanTernaryOperator<? extends X> isDefined,
+            @Nonnull ThrowableTriBooleanToDoubleFunction<? extends X> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2, value3) -> isDefined.applyAsBooleanThrows(value1, value2, value3)
+                ? OptionalDouble.of(partial.applyAsDoubleThrows(value1, value2, value3))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link ThrowableTriBooleanToDoubleFunction} with the given arguments and returns its result.
      *
@@ -188,6 +213,20 @@ public interface ThrowableTriBooleanToDoubleFunction<X extends Throwable> extend
      */
     double applyAsDoubleThrows(boolean value1, boolean value2, boolean value3) throws X;
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this functions action
+     * @see BooleanTriple
+     */
+    default double applyAsDoubleThrows(@Nonnull BooleanTriple tuple) throws X {
+        Objects.requireNonNull(tuple);
+        return applyAsDoubleThrows(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link
      * ThrowableBiBooleanToDoubleFunction} as result.
@@ -645,6 +684,16 @@ public interface ThrowableTriBooleanToDoubleFunction<X extends Throwable> extend
         return (value1, value2, value3) -> consumer.acceptThrows(applyAsDoubleThrows(value1, value2, value3));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ThrowableToDoubleFunction<BooleanTriple, X> tupled() {
+        return this::applyAsDoubleThrows;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -674,14 +723,85 @@ public interface ThrowableTriBooleanToDoubleFunction<X extends Throwable> extend
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Boolean, Boolean, Boolean>, Double> cache = new ConcurrentHashMap<>();
-            return (ThrowableTriBooleanToDoubleFunction<X> & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3), ThrowableFunction.of(
-                        key -> applyAsDoubleThrows(key.getLeft(), key.getMiddle(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableTriBooleanToDoubleFunction}, which caches its values
+     * in the given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the
+     * input parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose
+     * how and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableTriBooleanToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableTriBooleanToDoubleFunction<X> memoized(@Nonnull MemoStore<BooleanTriple, Double> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableTriBooleanToDoubleFunction<X> & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    ThrowableFunction.of(key -> applyAsDoubleThrows(key.getLeft(), key.getMiddle(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableTriBooleanToDoubleFunction}. In contrast
+     * to {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableTriBooleanToDoubleFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableTriBooleanToDoubleFunction<X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableTriBooleanToDoubleFunction}, which uses
+     * the given {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer
+     * allows to observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableTriBooleanToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableTriBooleanToDoubleFunction<X> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<BooleanTriple, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableTriBooleanToDoubleFunction<X> & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    ThrowableFunction.of(key -> applyAsDoubleThrows(key.getLeft(), key.getMiddle(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableTriFunction} which represents this {@link
      * ThrowableTriBooleanToDoubleFunction}. Thereby the primitive input argument for this function is autoboxed. This
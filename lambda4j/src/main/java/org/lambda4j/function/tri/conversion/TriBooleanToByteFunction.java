@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.tri.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
@@ -29,9 +28,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.ByteConsumer;
 import org.lambda4j.consumer.tri.TriBooleanConsumer;
 import org.lambda4j.function.ByteFunction;
@@ -43,17 +44,25 @@ import org.lambda4j.function.conversion.ByteToFloatFunction;
 import org.lambda4j.function.conversion.ByteToIntFunction;
 import org.lambda4j.function.conversion.ByteToLongFunction;
 import org.lambda4j.function.conversion.ByteToShortFunction;
+import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.tri.TriBooleanFunction;
 import org.lambda4j.function.tri.TriFunction;
 import org.lambda4j.function.tri.to.ToByteTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.BooleanTernaryOperator;
 import org.lambda4j.operator.ternary.ByteTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
+import org.lambda4j.optional.OptionalByte;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.ShortPredicate;
+import org.lambda4j.tuple.BooleanTriple;
 
 /**
  * Represents an operation that accepts three {@code boolean}-valued input arguments and produces a {@code byte}-valued
@@ -87,6 +96,48 @@ public interface TriBooleanToByteFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriBooleanToByteFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * TriBooleanToByteFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code TriBooleanToByteFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriBooleanToByteFunction unboxed(
+            @Nonnull TriFunction<? super Boolean, ? super Boolean, ? super Boolean, ? extends Byte> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof TriBooleanToByteFunction) {
+            return (TriBooleanToByteFunction) original;
+        }
+        return (value1, value2, value3) -> function.apply(value1, value2, value3);
+    }
+
+    /**
+     * Lifts a partial {@link TriBooleanToByteFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link TriBooleanFunction} that returns an {@link OptionalByte} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code TriBooleanToByteFunction} lifted into a total {@code TriBooleanFunction} that returns an
+     * {@code OptionalByte} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static TriBooleanFunction<OptionalByte> lift(
+            @Nonnull BooleanTernaryOperator isDefined, @Nonnull TriBooleanToByteFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2, value3) -> isDefined.applyAsBoolean(value1, value2, value3)
+                ? OptionalByte.of(partial.applyAsByte(value1, value2, value3))
+                : OptionalByte.empty();
+    }
+
     /**
      * Calls the given {@link TriBooleanToByteFunction} with the given arguments and returns its result.
      *
@@ -114,7 +165,25 @@ public interface TriBooleanToByteFunction extends Lambda {
     @Nonnull
     static TriBooleanToByteFunction onlyFirst(@Nonnull BooleanToByteFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsByte(value1);
+        /**
+         * A {@code TriBooleanToByteFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriBooleanToByteFunction {
+
+            /**
+             * Creates a {@code TriBooleanToByteFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public byte applyAsByte(boolean value1, boolean value2, boolean value3) {
+                return function.applyAsByte(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -129,7 +198,25 @@ public interface TriBooleanToByteFunction extends Lambda {
     @Nonnull
     static TriBooleanToByteFunction onlySecond(@Nonnull BooleanToByteFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsByte(value2);
+        /**
+         * A {@code TriBooleanToByteFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriBooleanToByteFunction {
+
+            /**
+             * Creates a {@code TriBooleanToByteFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public byte applyAsByte(boolean value1, boolean value2, boolean value3) {
+                return function.applyAsByte(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -144,18 +231,56 @@ public interface TriBooleanToByteFunction extends Lambda {
     @Nonnull
     static TriBooleanToByteFunction onlyThird(@Nonnull BooleanToByteFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsByte(value3);
+        /**
+         * A {@code TriBooleanToByteFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriBooleanToByteFunction {
+
+            /**
+             * Creates a {@code TriBooleanToByteFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public byte applyAsByte(boolean value1, boolean value2, boolean value3) {
+                return function.applyAsByte(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriBooleanToByteFunction} which always returns a given value.
+     * Creates a {@link TriBooleanToByteFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code TriBooleanToByteFunction} which always returns a given value.
      */
     @Nonnull
     static TriBooleanToByteFunction constant(byte ret) {
-        return (value1, value2, value3) -> ret;
+        /**
+         * A {@code TriBooleanToByteFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriBooleanToByteFunction {
+
+            /**
+             * Creates a constant {@code TriBooleanToByteFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public byte applyAsByte(boolean value1, boolean value2, boolean value3) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -168,6 +293,19 @@ public interface TriBooleanToByteFunction extends Lambda {
      */
     byte applyAsByte(boolean value1, boolean value2, boolean value3);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BooleanTriple
+     */
+    default byte applyAsByte(@Nonnull BooleanTriple tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsByte(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BiBooleanToByteFunction} as
      * result.
@@ -193,6 +331,51 @@ public interface TriBooleanToByteFunction extends Lambda {
         return value3 -> applyAsByte(value1, value2, value3);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsByteParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull byte[] results) {
+        applyAsByteParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsByteParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull byte[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsByte(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -250,6 +433,9 @@ public interface TriBooleanToByteFunction extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> applyAsByte(before1.applyAsBoolean(value1), before2.applyAsBoolean(value2),
                 before3.applyAsBoolean(value3));
     }
@@ -440,10 +626,15 @@ public interface TriBooleanToByteFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriBooleanFunction<S> andThen(@Nonnull ByteFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanFunction.constant(after.apply(applyAsByte(false, false, false)));
+        }
         return (value1, value2, value3) -> after.apply(applyAsByte(value1, value2, value3));
     }
 
@@ -459,10 +650,15 @@ public interface TriBooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanTernaryOperator andThenToBoolean(@Nonnull BytePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanTernaryOperator.constant(after.test(applyAsByte(false, false, false)));
+        }
         return (value1, value2, value3) -> after.test(applyAsByte(value1, value2, value3));
     }
 
@@ -478,10 +674,18 @@ public interface TriBooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToByteFunction andThenToByte(@Nonnull ByteUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return TriBooleanToByteFunction.constant(after.applyAsByte(applyAsByte(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsByte(applyAsByte(value1, value2, value3));
     }
 
@@ -497,10 +701,15 @@ public interface TriBooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToCharFunction andThenToChar(@Nonnull ByteToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToCharFunction.constant(after.applyAsChar(applyAsByte(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsChar(applyAsByte(value1, value2, value3));
     }
 
@@ -516,10 +725,15 @@ public interface TriBooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToDoubleFunction andThenToDouble(@Nonnull ByteToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsByte(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsDouble(applyAsByte(value1, value2, value3));
     }
 
@@ -535,10 +749,15 @@ public interface TriBooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToFloatFunction andThenToFloat(@Nonnull ByteToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToFloatFunction.constant(after.applyAsFloat(applyAsByte(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsFloat(applyAsByte(value1, value2, value3));
     }
 
@@ -554,10 +773,15 @@ public interface TriBooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToIntFunction andThenToInt(@Nonnull ByteToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToIntFunction.constant(after.applyAsInt(applyAsByte(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsInt(applyAsByte(value1, value2, value3));
     }
 
@@ -573,10 +797,15 @@ public interface TriBooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToLongFunction andThenToLong(@Nonnull ByteToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToLongFunction.constant(after.applyAsLong(applyAsByte(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsLong(applyAsByte(value1, value2, value3));
     }
 
@@ -592,10 +821,15 @@ public interface TriBooleanToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToShortFunction andThenToShort(@Nonnull ByteToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToShortFunction.constant(after.applyAsShort(applyAsByte(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsShort(applyAsByte(value1, value2, value3));
     }
 
@@ -615,6 +849,16 @@ public interface TriBooleanToByteFunction extends Lambda {
         return (value1, value2, value3) -> consumer.accept(applyAsByte(value1, value2, value3));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToByteFunction<BooleanTriple> tupled() {
+        return this::applyAsByte;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -622,7 +866,29 @@ public interface TriBooleanToByteFunction extends Lambda {
      */
     @Nonnull
     default TriBooleanToByteFunction reversed() {
-        return (value3, value2, value1) -> applyAsByte(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriBooleanToByteFunction) {
+            return (TriBooleanToByteFunction) original;
+        }
+        /**
+         * A {@code TriBooleanToByteFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriBooleanToByteFunction {
+
+            /**
+             * Creates the reversal of this {@code TriBooleanToByteFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriBooleanToByteFunction.this);
+            }
+
+            @Override
+            public byte applyAsByte(boolean value3, boolean value2, boolean value1) {
+                return TriBooleanToByteFunction.this.applyAsByte(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -644,14 +910,114 @@ public interface TriBooleanToByteFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Boolean, Boolean, Boolean>, Byte> cache = new ConcurrentHashMap<>();
-            return (TriBooleanToByteFunction & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        key -> applyAsByte(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link TriBooleanToByteFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code TriBooleanToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriBooleanToByteFunction memoized(@Nonnull MemoStore<BooleanTriple, Byte> store) {
+        Objects.requireNonNull(store);
+        return (TriBooleanToByteFunction & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    key -> applyAsByte(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriBooleanToByteFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriBooleanToByteFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriBooleanToByteFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriBooleanToByteFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code TriBooleanToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriBooleanToByteFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<BooleanTriple, Byte> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriBooleanToByteFunction & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    key -> applyAsByte(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link TriBooleanToByteFunction}, which applies this function once to each of
+     * the 8 possible combinations of input arguments in advance, and afterwards answers every call by a lookup in a
+     * table of 8 {@code byte} values holding the results. In contrast to {@link #memoized()}, no values are computed or
+     * cached on demand, so the returned function neither synchronizes nor allocates.
+     * <p>
+     * This function has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code TriBooleanToByteFunction}.
+     * @implSpec If this function is already compiled, it is returned itself. Any exception thrown by this function
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned function is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default TriBooleanToByteFunction compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        byte[] table = new byte[8];
+        for (int i = 0; i < 8; i++) {
+            table[i] = applyAsByte((i & 1) != 0, (i & 2) != 0, (i & 4) != 0);
+        }
+        return (TriBooleanToByteFunction & Memoized & Compiled) (value1, value2, value3) -> {
+            int index = (value1 ? 1 : 0) | (value2 ? 2 : 0) | (value3 ? 4 : 0);
+            return table[index];
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link TriBooleanToByteFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -661,6 +1027,24 @@ public interface TriBooleanToByteFunction extends Lambda {
      */
     @Nonnull
     default TriFunction<Boolean, Boolean, Boolean, Byte> boxed() {
-        return this::applyAsByte;
+        /**
+         * A {@code TriFunction} which applies this {@code TriBooleanToByteFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<Boolean, Boolean, Boolean, Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code TriBooleanToByteFunction}.
+             */
+            Boxed() {
+                super(TriBooleanToByteFunction.this);
+            }
+
+            @Override
+            public Byte apply(Boolean t, Boolean u, Boolean v) {
+                return TriBooleanToByteFunction.this.applyAsByte(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.tri.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
@@ -29,9 +28,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.consumer.tri.TriBooleanConsumer;
 import org.lambda4j.function.CharFunction;
@@ -43,17 +44,25 @@ import org.lambda4j.function.conversion.CharToFloatFunction;
 import org.lambda4j.function.conversion.CharToIntFunction;
 import org.lambda4j.function.conversion.CharToLongFunction;
 import org.lambda4j.function.conversion.CharToShortFunction;
+import org.lambda4j.function.to.ToCharFunction;
 import org.lambda4j.function.tri.TriBooleanFunction;
 import org.lambda4j.function.tri.TriFunction;
 import org.lambda4j.function.tri.to.ToCharTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.BooleanTernaryOperator;
 import org.lambda4j.operator.ternary.CharTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.CharUnaryOperator;
+import org.lambda4j.optional.OptionalChar;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.ShortPredicate;
+import org.lambda4j.tuple.BooleanTriple;
 
 /**
  * Represents an operation that accepts three {@code boolean}-valued input arguments and produces a {@code char}-valued
@@ -87,6 +96,48 @@ public interface TriBooleanToCharFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriBooleanToCharFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * TriBooleanToCharFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code TriBooleanToCharFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriBooleanToCharFunction unboxed(
+            @Nonnull TriFunction<? super Boolean, ? super Boolean, ? super Boolean, ? extends Character> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof TriBooleanToCharFunction) {
+            return (TriBooleanToCharFunction) original;
+        }
+        return (value1, value2, value3) -> function.apply(value1, value2, value3);
+    }
+
+    /**
+     * Lifts a partial {@link TriBooleanToCharFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link TriBooleanFunction} that returns an {@link OptionalChar} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code TriBooleanToCharFunction} lifted into a total {@code TriBooleanFunction} that returns an
+     * {@code OptionalChar} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static TriBooleanFunction<OptionalChar> lift(
+            @Nonnull BooleanTernaryOperator isDefined, @Nonnull TriBooleanToCharFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2, value3) -> isDefined.applyAsBoolean(value1, value2, value3)
+                ? OptionalChar.of(partial.applyAsChar(value1, value2, value3))
+                : OptionalChar.empty();
+    }
+
     /**
      * Calls the given {@link TriBooleanToCharFunction} with the given arguments and returns its result.
      *
@@ -114,7 +165,25 @@ public interface TriBooleanToCharFunction extends Lambda {
     @Nonnull
     static TriBooleanToCharFunction onlyFirst(@Nonnull BooleanToCharFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsChar(value1);
+        /**
+         * A {@code TriBooleanToCharFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriBooleanToCharFunction {
+
+            /**
+             * Creates a {@code TriBooleanToCharFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public char applyAsChar(boolean value1, boolean value2, boolean value3) {
+                return function.applyAsChar(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -129,7 +198,25 @@ public interface TriBooleanToCharFunction extends Lambda {
     @Nonnull
     static TriBooleanToCharFunction onlySecond(@Nonnull BooleanToCharFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsChar(value2);
+        /**
+         * A {@code TriBooleanToCharFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriBooleanToCharFunction {
+
+            /**
+             * Creates a {@code TriBooleanToCharFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public char applyAsChar(boolean value1, boolean value2, boolean value3) {
+                return function.applyAsChar(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -144,18 +231,56 @@ public interface TriBooleanToCharFunction extends Lambda {
     @Nonnull
     static TriBooleanToCharFunction onlyThird(@Nonnull BooleanToCharFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsChar(value3);
+        /**
+         * A {@code TriBooleanToCharFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriBooleanToCharFunction {
+
+            /**
+             * Creates a {@code TriBooleanToCharFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public char applyAsChar(boolean value1, boolean value2, boolean value3) {
+                return function.applyAsChar(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriBooleanToCharFunction} which always returns a given value.
+     * Creates a {@link TriBooleanToCharFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code TriBooleanToCharFunction} which always returns a given value.
      */
     @Nonnull
     static TriBooleanToCharFunction constant(char ret) {
-        return (value1, value2, value3) -> ret;
+        /**
+         * A {@code TriBooleanToCharFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriBooleanToCharFunction {
+
+            /**
+             * Creates a constant {@code TriBooleanToCharFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public char applyAsChar(boolean value1, boolean value2, boolean value3) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -168,6 +293,19 @@ public interface TriBooleanToCharFunction extends Lambda {
      */
     char applyAsChar(boolean value1, boolean value2, boolean value3);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BooleanTriple
+     */
+    default char applyAsChar(@Nonnull BooleanTriple tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsChar(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BiBooleanToCharFunction} as
      * result.
@@ -193,6 +331,51 @@ public interface TriBooleanToCharFunction extends Lambda {
         return value3 -> applyAsChar(value1, value2, value3);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsCharParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull char[] results) {
+        applyAsCharParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsCharParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull char[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsChar(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -250,6 +433,9 @@ public interface TriBooleanToCharFunction extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> applyAsChar(before1.applyAsBoolean(value1), before2.applyAsBoolean(value2),
                 before3.applyAsBoolean(value3));
     }
@@ -440,10 +626,15 @@ public interface TriBooleanToCharFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriBooleanFunction<S> andThen(@Nonnull CharFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanFunction.constant(after.apply(applyAsChar(false, false, false)));
+        }
         return (value1, value2, value3) -> after.apply(applyAsChar(value1, value2, value3));
     }
 
@@ -459,10 +650,15 @@ public interface TriBooleanToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanTernaryOperator andThenToBoolean(@Nonnull CharPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanTernaryOperator.constant(after.test(applyAsChar(false, false, false)));
+        }
         return (value1, value2, value3) -> after.test(applyAsChar(value1, value2, value3));
     }
 
@@ -478,10 +674,15 @@ public interface TriBooleanToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToByteFunction andThenToByte(@Nonnull CharToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToByteFunction.constant(after.applyAsByte(applyAsChar(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsByte(applyAsChar(value1, value2, value3));
     }
 
@@ -497,10 +698,18 @@ public interface TriBooleanToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToCharFunction andThenToChar(@Nonnull CharUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return TriBooleanToCharFunction.constant(after.applyAsChar(applyAsChar(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsChar(applyAsChar(value1, value2, value3));
     }
 
@@ -516,10 +725,15 @@ public interface TriBooleanToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToDoubleFunction andThenToDouble(@Nonnull CharToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsChar(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsDouble(applyAsChar(value1, value2, value3));
     }
 
@@ -535,10 +749,15 @@ public interface TriBooleanToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToFloatFunction andThenToFloat(@Nonnull CharToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToFloatFunction.constant(after.applyAsFloat(applyAsChar(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsFloat(applyAsChar(value1, value2, value3));
     }
 
@@ -554,10 +773,15 @@ public interface TriBooleanToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToIntFunction andThenToInt(@Nonnull CharToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToIntFunction.constant(after.applyAsInt(applyAsChar(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsInt(applyAsChar(value1, value2, value3));
     }
 
@@ -573,10 +797,15 @@ public interface TriBooleanToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToLongFunction andThenToLong(@Nonnull CharToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToLongFunction.constant(after.applyAsLong(applyAsChar(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsLong(applyAsChar(value1, value2, value3));
     }
 
@@ -592,10 +821,15 @@ public interface TriBooleanToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToShortFunction andThenToShort(@Nonnull CharToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToShortFunction.constant(after.applyAsShort(applyAsChar(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsShort(applyAsChar(value1, value2, value3));
     }
 
@@ -615,6 +849,16 @@ public interface TriBooleanToCharFunction extends Lambda {
         return (value1, value2, value3) -> consumer.accept(applyAsChar(value1, value2, value3));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToCharFunction<BooleanTriple> tupled() {
+        return this::applyAsChar;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -622,7 +866,29 @@ public interface TriBooleanToCharFunction extends Lambda {
      */
     @Nonnull
     default TriBooleanToCharFunction reversed() {
-        return (value3, value2, value1) -> applyAsChar(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriBooleanToCharFunction) {
+            return (TriBooleanToCharFunction) original;
+        }
+        /**
+         * A {@code TriBooleanToCharFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriBooleanToCharFunction {
+
+            /**
+             * Creates the reversal of this {@code TriBooleanToCharFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriBooleanToCharFunction.this);
+            }
+
+            @Override
+            public char applyAsChar(boolean value3, boolean value2, boolean value1) {
+                return TriBooleanToCharFunction.this.applyAsChar(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -644,14 +910,114 @@ public interface TriBooleanToCharFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Boolean, Boolean, Boolean>, Character> cache = new ConcurrentHashMap<>();
-            return (TriBooleanToCharFunction & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        key -> applyAsChar(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link TriBooleanToCharFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code TriBooleanToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriBooleanToCharFunction memoized(@Nonnull MemoStore<BooleanTriple, Character> store) {
+        Objects.requireNonNull(store);
+        return (TriBooleanToCharFunction & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    key -> applyAsChar(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriBooleanToCharFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriBooleanToCharFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriBooleanToCharFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriBooleanToCharFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code TriBooleanToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriBooleanToCharFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<BooleanTriple, Character> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriBooleanToCharFunction & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    key -> applyAsChar(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link TriBooleanToCharFunction}, which applies this function once to each of
+     * the 8 possible combinations of input arguments in advance, and afterwards answers every call by a lookup in a
+     * table of 8 {@code char} values holding the results. In contrast to {@link #memoized()}, no values are computed or
+     * cached on demand, so the returned function neither synchronizes nor allocates.
+     * <p>
+     * This function has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code TriBooleanToCharFunction}.
+     * @implSpec If this function is already compiled, it is returned itself. Any exception thrown by this function
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned function is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default TriBooleanToCharFunction compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        char[] table = new char[8];
+        for (int i = 0; i < 8; i++) {
+            table[i] = applyAsChar((i & 1) != 0, (i & 2) != 0, (i & 4) != 0);
+        }
+        return (TriBooleanToCharFunction & Memoized & Compiled) (value1, value2, value3) -> {
+            int index = (value1 ? 1 : 0) | (value2 ? 2 : 0) | (value3 ? 4 : 0);
+            return table[index];
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link TriBooleanToCharFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -661,6 +1027,24 @@ public interface TriBooleanToCharFunction extends Lambda {
      */
     @Nonnull
     default TriFunction<Boolean, Boolean, Boolean, Character> boxed() {
-        return this::applyAsChar;
+        /**
+         * A {@code TriFunction} which applies this {@code TriBooleanToCharFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<Boolean, Boolean, Boolean, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code TriBooleanToCharFunction}.
+             */
+            Boxed() {
+                super(TriBooleanToCharFunction.this);
+            }
+
+            @Override
+            public Character apply(Boolean t, Boolean u, Boolean v) {
+                return TriBooleanToCharFunction.this.applyAsChar(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
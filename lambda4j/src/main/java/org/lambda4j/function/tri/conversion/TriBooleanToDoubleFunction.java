@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.tri.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -34,9 +34,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.tri.TriBooleanConsumer;
 import org.lambda4j.function.bi.conversion.BiBooleanToDoubleFunction;
 import org.lambda4j.function.conversion.BooleanToDoubleFunction;
@@ -44,9 +46,15 @@ import org.lambda4j.function.conversion.DoubleToByteFunction;
 import org.lambda4j.function.conversion.DoubleToCharFunction;
 import org.lambda4j.function.conversion.DoubleToFloatFunction;
 import org.lambda4j.function.conversion.DoubleToShortFunction;
+import org.lambda4j.function.to.ToDoubleFunction2;
 import org.lambda4j.function.tri.TriBooleanFunction;
 import org.lambda4j.function.tri.TriFunction;
 import org.lambda4j.function.tri.to.ToDoubleTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.BooleanTernaryOperator;
 import org.lambda4j.operator.ternary.DoubleTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
@@ -54,6 +62,7 @@ import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.ShortPredicate;
+import org.lambda4j.tuple.BooleanTriple;
 
 /**
  * Represents an operation that accepts three {@code boolean}-valued input arguments and produces a {@code
@@ -87,6 +96,48 @@ public interface TriBooleanToDoubleFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriBooleanToDoubleFunction} which represents the given boxed function, so that it can be used
+     * with the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the
+     * {@code TriBooleanToDoubleFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the
+     * returned function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code TriBooleanToDoubleFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriBooleanToDoubleFunction unboxed(
+            @Nonnull TriFunction<? super Boolean, ? super Boolean, ? super Boolean, ? extends Double> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof TriBooleanToDoubleFunction) {
+            return (TriBooleanToDoubleFunction) original;
+        }
+        return (value1, value2, value3) -> function.apply(value1, value2, value3);
+    }
+
+    /**
+     * Lifts a partial {@link TriBooleanToDoubleFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link TriBooleanFunction} that returns an {@link OptionalDouble} result. The result of
+     * the given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code TriBooleanToDoubleFunction} lifted into a total {@code TriBooleanFunction} that returns
+     * an {@code OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static TriBooleanFunction<OptionalDouble> lift(
+            @Nonnull BooleanTernaryOperator isDefined, @Nonnull TriBooleanToDoubleFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2, value3) -> isDefined.applyAsBoolean(value1, value2, value3)
+                ? OptionalDouble.of(partial.applyAsDouble(value1, value2, value3))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link TriBooleanToDoubleFunction} with the given arguments and returns its result.
      *
@@ -115,7 +166,25 @@ public interface TriBooleanToDoubleFunction extends Lambda {
     @Nonnull
     static TriBooleanToDoubleFunction onlyFirst(@Nonnull BooleanToDoubleFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsDouble(value1);
+        /**
+         * A {@code TriBooleanToDoubleFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriBooleanToDoubleFunction {
+
+            /**
+             * Creates a {@code TriBooleanToDoubleFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public double applyAsDouble(boolean value1, boolean value2, boolean value3) {
+                return function.applyAsDouble(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -130,7 +199,25 @@ public interface TriBooleanToDoubleFunction extends Lambda {
     @Nonnull
     static TriBooleanToDoubleFunction onlySecond(@Nonnull BooleanToDoubleFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsDouble(value2);
+        /**
+         * A {@code TriBooleanToDoubleFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriBooleanToDoubleFunction {
+
+            /**
+             * Creates a {@code TriBooleanToDoubleFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public double applyAsDouble(boolean value1, boolean value2, boolean value3) {
+                return function.applyAsDouble(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -145,18 +232,56 @@ public interface TriBooleanToDoubleFunction extends Lambda {
     @Nonnull
     static TriBooleanToDoubleFunction onlyThird(@Nonnull BooleanToDoubleFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsDouble(value3);
+        /**
+         * A {@code TriBooleanToDoubleFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriBooleanToDoubleFunction {
+
+            /**
+             * Creates a {@code TriBooleanToDoubleFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public double applyAsDouble(boolean value1, boolean value2, boolean value3) {
+                return function.applyAsDouble(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriBooleanToDoubleFunction} which always returns a given value.
+     * Creates a {@link TriBooleanToDoubleFunction} which always returns a given value. If it is composed with a
+     * following function, that function is applied to the value once when composing, and the composed function is a
+     * constant as well.
      *
      * @param ret The return value for the constant
      * @return A {@code TriBooleanToDoubleFunction} which always returns a given value.
      */
     @Nonnull
     static TriBooleanToDoubleFunction constant(double ret) {
-        return (value1, value2, value3) -> ret;
+        /**
+         * A {@code TriBooleanToDoubleFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriBooleanToDoubleFunction {
+
+            /**
+             * Creates a constant {@code TriBooleanToDoubleFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public double applyAsDouble(boolean value1, boolean value2, boolean value3) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -169,6 +294,19 @@ public interface TriBooleanToDoubleFunction extends Lambda {
      */
     double applyAsDouble(boolean value1, boolean value2, boolean value3);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BooleanTriple
+     */
+    default double applyAsDouble(@Nonnull BooleanTriple tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsDouble(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BiBooleanToDoubleFunction} as
      * result.
@@ -194,6 +332,51 @@ public interface TriBooleanToDoubleFunction extends Lambda {
         return value3 -> applyAsDouble(value1, value2, value3);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsDoubleParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2,
+            @Nonnull boolean[] values3, @Nonnull double[] results) {
+        applyAsDoubleParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDoubleParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2,
+            @Nonnull boolean[] values3, @Nonnull double[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsDouble(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -251,6 +434,9 @@ public interface TriBooleanToDoubleFunction extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> applyAsDouble(before1.applyAsBoolean(value1), before2.applyAsBoolean(value2),
                 before3.applyAsBoolean(value3));
     }
@@ -441,10 +627,15 @@ public interface TriBooleanToDoubleFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriBooleanFunction<S> andThen(@Nonnull DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanFunction.constant(after.apply(applyAsDouble(false, false, false)));
+        }
         return (value1, value2, value3) -> after.apply(applyAsDouble(value1, value2, value3));
     }
 
@@ -460,10 +651,15 @@ public interface TriBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanTernaryOperator andThenToBoolean(@Nonnull DoublePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanTernaryOperator.constant(after.test(applyAsDouble(false, false, false)));
+        }
         return (value1, value2, value3) -> after.test(applyAsDouble(value1, value2, value3));
     }
 
@@ -479,10 +675,15 @@ public interface TriBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToByteFunction andThenToByte(@Nonnull DoubleToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToByteFunction.constant(after.applyAsByte(applyAsDouble(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsByte(applyAsDouble(value1, value2, value3));
     }
 
@@ -498,10 +699,15 @@ public interface TriBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToCharFunction andThenToChar(@Nonnull DoubleToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToCharFunction.constant(after.applyAsChar(applyAsDouble(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsChar(applyAsDouble(value1, value2, value3));
     }
 
@@ -517,10 +723,18 @@ public interface TriBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToDoubleFunction andThenToDouble(@Nonnull DoubleUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return TriBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsDouble(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsDouble(applyAsDouble(value1, value2, value3));
     }
 
@@ -536,10 +750,15 @@ public interface TriBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToFloatFunction andThenToFloat(@Nonnull DoubleToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToFloatFunction.constant(after.applyAsFloat(applyAsDouble(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsFloat(applyAsDouble(value1, value2, value3));
     }
 
@@ -555,10 +774,15 @@ public interface TriBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToIntFunction andThenToInt(@Nonnull DoubleToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToIntFunction.constant(after.applyAsInt(applyAsDouble(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsInt(applyAsDouble(value1, value2, value3));
     }
 
@@ -574,10 +798,15 @@ public interface TriBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToLongFunction andThenToLong(@Nonnull DoubleToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToLongFunction.constant(after.applyAsLong(applyAsDouble(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsLong(applyAsDouble(value1, value2, value3));
     }
 
@@ -593,10 +822,15 @@ public interface TriBooleanToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToShortFunction andThenToShort(@Nonnull DoubleToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToShortFunction.constant(after.applyAsShort(applyAsDouble(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsShort(applyAsDouble(value1, value2, value3));
     }
 
@@ -616,6 +850,16 @@ public interface TriBooleanToDoubleFunction extends Lambda {
         return (value1, value2, value3) -> consumer.accept(applyAsDouble(value1, value2, value3));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToDoubleFunction2<BooleanTriple> tupled() {
+        return this::applyAsDouble;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -623,7 +867,29 @@ public interface TriBooleanToDoubleFunction extends Lambda {
      */
     @Nonnull
     default TriBooleanToDoubleFunction reversed() {
-        return (value3, value2, value1) -> applyAsDouble(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriBooleanToDoubleFunction) {
+            return (TriBooleanToDoubleFunction) original;
+        }
+        /**
+         * A {@code TriBooleanToDoubleFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriBooleanToDoubleFunction {
+
+            /**
+             * Creates the reversal of this {@code TriBooleanToDoubleFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriBooleanToDoubleFunction.this);
+            }
+
+            @Override
+            public double applyAsDouble(boolean value3, boolean value2, boolean value1) {
+                return TriBooleanToDoubleFunction.this.applyAsDouble(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -645,14 +911,114 @@ public interface TriBooleanToDoubleFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Boolean, Boolean, Boolean>, Double> cache = new ConcurrentHashMap<>();
-            return (TriBooleanToDoubleFunction & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        key -> applyAsDouble(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link TriBooleanToDoubleFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code TriBooleanToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriBooleanToDoubleFunction memoized(@Nonnull MemoStore<BooleanTriple, Double> store) {
+        Objects.requireNonNull(store);
+        return (TriBooleanToDoubleFunction & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    key -> applyAsDouble(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriBooleanToDoubleFunction}. In contrast to
+     * {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriBooleanToDoubleFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriBooleanToDoubleFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriBooleanToDoubleFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code TriBooleanToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriBooleanToDoubleFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<BooleanTriple, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriBooleanToDoubleFunction & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    key -> applyAsDouble(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link TriBooleanToDoubleFunction}, which applies this function once to each
+     * of the 8 possible combinations of input arguments in advance, and afterwards answers every call by a lookup in a
+     * table of 8 {@code double} values holding the results. In contrast to {@link #memoized()}, no values are computed
+     * or cached on demand, so the returned function neither synchronizes nor allocates.
+     * <p>
+     * This function has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code TriBooleanToDoubleFunction}.
+     * @implSpec If this function is already compiled, it is returned itself. Any exception thrown by this function
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned function is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default TriBooleanToDoubleFunction compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        double[] table = new double[8];
+        for (int i = 0; i < 8; i++) {
+            table[i] = applyAsDouble((i & 1) != 0, (i & 2) != 0, (i & 4) != 0);
+        }
+        return (TriBooleanToDoubleFunction & Memoized & Compiled) (value1, value2, value3) -> {
+            int index = (value1 ? 1 : 0) | (value2 ? 2 : 0) | (value3 ? 4 : 0);
+            return table[index];
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link TriBooleanToDoubleFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -662,6 +1028,24 @@ public interface TriBooleanToDoubleFunction extends Lambda {
      */
     @Nonnull
     default TriFunction<Boolean, Boolean, Boolean, Double> boxed() {
-        return this::applyAsDouble;
+        /**
+         * A {@code TriFunction} which applies this {@code TriBooleanToDoubleFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<Boolean, Boolean, Boolean, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code TriBooleanToDoubleFunction}.
+             */
+            Boxed() {
+                super(TriBooleanToDoubleFunction.this);
+            }
+
+            @Override
+            public Double apply(Boolean t, Boolean u, Boolean v) {
+                return TriBooleanToDoubleFunction.this.applyAsDouble(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,18 +16,19 @@
 
 package org.lambda4j.function.tri.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.consumer.tri.TriByteConsumer;
 import org.lambda4j.function.CharFunction;
@@ -46,15 +47,23 @@ import org.lambda4j.function.conversion.IntToByteFunction;
 import org.lambda4j.function.conversion.LongToByteFunction;
 import org.lambda4j.function.conversion.ShortToByteFunction;
 import org.lambda4j.function.to.ToByteFunction;
+import org.lambda4j.function.to.ToCharFunction;
 import org.lambda4j.function.tri.TriByteFunction;
 import org.lambda4j.function.tri.TriFunction;
 import org.lambda4j.function.tri.to.ToCharTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.ByteTernaryOperator;
 import org.lambda4j.operator.ternary.CharTernaryOperator;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
 import org.lambda4j.operator.unary.CharUnaryOperator;
+import org.lambda4j.optional.OptionalChar;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.tri.TriBytePredicate;
+import org.lambda4j.tuple.ByteTriple;
 
 /**
  * Represents an operation that accepts three {@code byte}-valued input arguments and produces a {@code char}-valued
@@ -88,6 +97,48 @@ public interface TriByteToCharFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriByteToCharFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * TriByteToCharFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code TriByteToCharFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriByteToCharFunction unboxed(
+            @Nonnull TriFunction<? super Byte, ? super Byte, ? super Byte, ? extends Character> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof TriByteToCharFunction) {
+            return (TriByteToCharFunction) original;
+        }
+        return (value1, value2, value3) -> function.apply(value1, value2, value3);
+    }
+
+    /**
+     * Lifts a partial {@link TriByteToCharFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link TriByteFunction} that returns an {@link OptionalChar} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code TriByteToCharFunction} lifted into a total {@code TriByteFunction} that returns an
+     * {@code OptionalChar} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static TriByteFunction<OptionalChar> lift(
+            @Nonnull TriBytePredicate isDefined, @Nonnull TriByteToCharFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2, value3) -> isDefined.test(value1, value2, value3)
+                ? OptionalChar.of(partial.applyAsChar(value1, value2, value3))
+                : OptionalChar.empty();
+    }
+
     /**
      * Calls the given {@link TriByteToCharFunction} with the given arguments and returns its result.
      *
@@ -115,7 +166,25 @@ public interface TriByteToCharFunction extends Lambda {
     @Nonnull
     static TriByteToCharFunction onlyFirst(@Nonnull ByteToCharFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsChar(value1);
+        /**
+         * A {@code TriByteToCharFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriByteToCharFunction {
+
+            /**
+             * Creates a {@code TriByteToCharFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public char applyAsChar(byte value1, byte value2, byte value3) {
+                return function.applyAsChar(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -130,7 +199,25 @@ public interface TriByteToCharFunction extends Lambda {
     @Nonnull
     static TriByteToCharFunction onlySecond(@Nonnull ByteToCharFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsChar(value2);
+        /**
+         * A {@code TriByteToCharFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriByteToCharFunction {
+
+            /**
+             * Creates a {@code TriByteToCharFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public char applyAsChar(byte value1, byte value2, byte value3) {
+                return function.applyAsChar(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -145,18 +232,56 @@ public interface TriByteToCharFunction extends Lambda {
     @Nonnull
     static TriByteToCharFunction onlyThird(@Nonnull ByteToCharFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsChar(value3);
+        /**
+         * A {@code TriByteToCharFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriByteToCharFunction {
+
+            /**
+             * Creates a {@code TriByteToCharFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public char applyAsChar(byte value1, byte value2, byte value3) {
+                return function.applyAsChar(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriByteToCharFunction} which always returns a given value.
+     * Creates a {@link TriByteToCharFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code TriByteToCharFunction} which always returns a given value.
      */
     @Nonnull
     static TriByteToCharFunction constant(char ret) {
-        return (value1, value2, value3) -> ret;
+        /**
+         * A {@code TriByteToCharFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriByteToCharFunction {
+
+            /**
+             * Creates a constant {@code TriByteToCharFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public char applyAsChar(byte value1, byte value2, byte value3) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -169,6 +294,19 @@ public interface TriByteToCharFunction extends Lambda {
      */
     char applyAsChar(byte value1, byte value2, byte value3);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ByteTriple
+     */
+    default char applyAsChar(@Nonnull ByteTriple tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsChar(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BiByteToCharFunction} as
      * result.
@@ -193,6 +331,51 @@ public interface TriByteToCharFunction extends Lambda {
         return value3 -> applyAsChar(value1, value2, value3);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsCharParallel(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] values3,
+            @Nonnull char[] results) {
+        applyAsCharParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsCharParallel(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] values3,
+            @Nonnull char[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsChar(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -275,6 +458,9 @@ public interface TriByteToCharFunction extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> applyAsChar(before1.applyAsByte(value1), before2.applyAsByte(value2),
                 before3.applyAsByte(value3));
     }
@@ -440,10 +626,15 @@ public interface TriByteToCharFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriByteFunction<S> andThen(@Nonnull CharFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteFunction.constant(after.apply(applyAsChar((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.apply(applyAsChar(value1, value2, value3));
     }
 
@@ -459,10 +650,15 @@ public interface TriByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBytePredicate andThenToBoolean(@Nonnull CharPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBytePredicate.constant(after.test(applyAsChar((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.test(applyAsChar(value1, value2, value3));
     }
 
@@ -478,10 +674,15 @@ public interface TriByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteTernaryOperator andThenToByte(@Nonnull CharToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ByteTernaryOperator.constant(after.applyAsByte(applyAsChar((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsByte(applyAsChar(value1, value2, value3));
     }
 
@@ -497,10 +698,18 @@ public interface TriByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToCharFunction andThenToChar(@Nonnull CharUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return TriByteToCharFunction.constant(after.applyAsChar(applyAsChar((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsChar(applyAsChar(value1, value2, value3));
     }
 
@@ -516,10 +725,15 @@ public interface TriByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToDoubleFunction andThenToDouble(@Nonnull CharToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToDoubleFunction.constant(after.applyAsDouble(applyAsChar((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsDouble(applyAsChar(value1, value2, value3));
     }
 
@@ -535,10 +749,15 @@ public interface TriByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToFloatFunction andThenToFloat(@Nonnull CharToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToFloatFunction.constant(after.applyAsFloat(applyAsChar((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsFloat(applyAsChar(value1, value2, value3));
     }
 
@@ -554,10 +773,15 @@ public interface TriByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToIntFunction andThenToInt(@Nonnull CharToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToIntFunction.constant(after.applyAsInt(applyAsChar((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsInt(applyAsChar(value1, value2, value3));
     }
 
@@ -573,10 +797,15 @@ public interface TriByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToLongFunction andThenToLong(@Nonnull CharToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToLongFunction.constant(after.applyAsLong(applyAsChar((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsLong(applyAsChar(value1, value2, value3));
     }
 
@@ -592,10 +821,15 @@ public interface TriByteToCharFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToShortFunction andThenToShort(@Nonnull CharToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToShortFunction.constant(after.applyAsShort(applyAsChar((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsShort(applyAsChar(value1, value2, value3));
     }
 
@@ -615,6 +849,16 @@ public interface TriByteToCharFunction extends Lambda {
         return (value1, value2, value3) -> consumer.accept(applyAsChar(value1, value2, value3));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToCharFunction<ByteTriple> tupled() {
+        return this::applyAsChar;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -622,7 +866,29 @@ public interface TriByteToCharFunction extends Lambda {
      */
     @Nonnull
     default TriByteToCharFunction reversed() {
-        return (value3, value2, value1) -> applyAsChar(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriByteToCharFunction) {
+            return (TriByteToCharFunction) original;
+        }
+        /**
+         * A {@code TriByteToCharFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriByteToCharFunction {
+
+            /**
+             * Creates the reversal of this {@code TriByteToCharFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriByteToCharFunction.this);
+            }
+
+            @Override
+            public char applyAsChar(byte value3, byte value2, byte value1) {
+                return TriByteToCharFunction.this.applyAsChar(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -644,14 +910,84 @@ public interface TriByteToCharFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Byte, Byte, Byte>, Character> cache = new ConcurrentHashMap<>();
-            return (TriByteToCharFunction & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        key -> applyAsChar(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link TriByteToCharFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code TriByteToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriByteToCharFunction memoized(@Nonnull MemoStore<ByteTriple, Character> store) {
+        Objects.requireNonNull(store);
+        return (TriByteToCharFunction & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(ByteTriple.of(value1, value2, value3),
+                    key -> applyAsChar(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriByteToCharFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriByteToCharFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriByteToCharFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriByteToCharFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code TriByteToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriByteToCharFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<ByteTriple, Character> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriByteToCharFunction & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(ByteTriple.of(value1, value2, value3),
+                    key -> applyAsChar(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link TriByteToCharFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -661,6 +997,24 @@ public interface TriByteToCharFunction extends Lambda {
      */
     @Nonnull
     default TriFunction<Byte, Byte, Byte, Character> boxed() {
-        return this::applyAsChar;
+        /**
+         * A {@code TriFunction} which applies this {@code TriByteToCharFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<Byte, Byte, Byte, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code TriByteToCharFunction}.
+             */
+            Boxed() {
+                super(TriByteToCharFunction.this);
+            }
+
+            @Override
+            public Character apply(Byte t, Byte u, Byte v) {
+                return TriByteToCharFunction.this.applyAsChar(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
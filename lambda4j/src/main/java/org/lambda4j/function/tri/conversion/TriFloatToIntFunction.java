@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.tri.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
@@ -31,9 +31,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.tri.TriFloatConsumer;
 import org.lambda4j.function.bi.conversion.BiFloatToIntFunction;
 import org.lambda4j.function.conversion.BooleanToFloatFunction;
@@ -48,13 +50,21 @@ import org.lambda4j.function.conversion.IntToShortFunction;
 import org.lambda4j.function.conversion.LongToFloatFunction;
 import org.lambda4j.function.conversion.ShortToFloatFunction;
 import org.lambda4j.function.to.ToFloatFunction;
+import org.lambda4j.function.to.ToIntFunction2;
 import org.lambda4j.function.tri.TriFloatFunction;
 import org.lambda4j.function.tri.TriFunction;
 import org.lambda4j.function.tri.to.ToIntTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.FloatTernaryOperator;
 import org.lambda4j.operator.ternary.IntTernaryOperator;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.tri.TriFloatPredicate;
+import org.lambda4j.tuple.FloatTriple;
 
 /**
  * Represents an operation that accepts three {@code float}-valued input arguments and produces a {@code int}-valued
@@ -88,6 +98,48 @@ public interface TriFloatToIntFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriFloatToIntFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * TriFloatToIntFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code TriFloatToIntFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriFloatToIntFunction unboxed(
+            @Nonnull TriFunction<? super Float, ? super Float, ? super Float, ? extends Integer> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof TriFloatToIntFunction) {
+            return (TriFloatToIntFunction) original;
+        }
+        return (value1, value2, value3) -> function.apply(value1, value2, value3);
+    }
+
+    /**
+     * Lifts a partial {@link TriFloatToIntFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link TriFloatFunction} that returns an {@link OptionalInt} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code TriFloatToIntFunction} lifted into a total {@code TriFloatFunction} that returns an
+     * {@code OptionalInt} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static TriFloatFunction<OptionalInt> lift(
+            @Nonnull TriFloatPredicate isDefined, @Nonnull TriFloatToIntFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2, value3) -> isDefined.test(value1, value2, value3)
+                ? OptionalUtils.ofInt(partial.applyAsInt(value1, value2, value3))
+                : OptionalInt.empty();
+    }
+
     /**
      * Calls the given {@link TriFloatToIntFunction} with the given arguments and returns its result.
      *
@@ -115,7 +167,25 @@ public interface TriFloatToIntFunction extends Lambda {
     @Nonnull
     static TriFloatToIntFunction onlyFirst(@Nonnull FloatToIntFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsInt(value1);
+        /**
+         * A {@code TriFloatToIntFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriFloatToIntFunction {
+
+            /**
+             * Creates a {@code TriFloatToIntFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public int applyAsInt(float value1, float value2, float value3) {
+                return function.applyAsInt(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -130,7 +200,25 @@ public interface TriFloatToIntFunction extends Lambda {
     @Nonnull
     static TriFloatToIntFunction onlySecond(@Nonnull FloatToIntFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsInt(value2);
+        /**
+         * A {@code TriFloatToIntFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriFloatToIntFunction {
+
+            /**
+             * Creates a {@code TriFloatToIntFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public int applyAsInt(float value1, float value2, float value3) {
+                return function.applyAsInt(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -145,18 +233,56 @@ public interface TriFloatToIntFunction extends Lambda {
     @Nonnull
     static TriFloatToIntFunction onlyThird(@Nonnull FloatToIntFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsInt(value3);
+        /**
+         * A {@code TriFloatToIntFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriFloatToIntFunction {
+
+            /**
+             * Creates a {@code TriFloatToIntFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public int applyAsInt(float value1, float value2, float value3) {
+                return function.applyAsInt(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriFloatToIntFunction} which always returns a given value.
+     * Creates a {@link TriFloatToIntFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code TriFloatToIntFunction} which always returns a given value.
      */
     @Nonnull
     static TriFloatToIntFunction constant(int ret) {
-        return (value1, value2, value3) -> ret;
+        /**
+         * A {@code TriFloatToIntFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriFloatToIntFunction {
+
+            /**
+             * Creates a constant {@code TriFloatToIntFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public int applyAsInt(float value1, float value2, float value3) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -169,6 +295,19 @@ public interface TriFloatToIntFunction extends Lambda {
      */
     int applyAsInt(float value1, float value2, float value3);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see FloatTriple
+     */
+    default int applyAsInt(@Nonnull FloatTriple tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsInt(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BiFloatToIntFunction} as
      * result.
@@ -193,6 +332,51 @@ public interface TriFloatToIntFunction extends Lambda {
         return value3 -> applyAsInt(value1, value2, value3);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsIntParallel(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull float[] values3,
+            @Nonnull int[] results) {
+        applyAsIntParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsIntParallel(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull float[] values3,
+            @Nonnull int[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsInt(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -350,6 +534,9 @@ public interface TriFloatToIntFunction extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> applyAsInt(before1.applyAsFloat(value1), before2.applyAsFloat(value2),
                 before3.applyAsFloat(value3));
     }
@@ -440,10 +627,15 @@ public interface TriFloatToIntFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriFloatFunction<S> andThen(@Nonnull IntFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatFunction.constant(after.apply(applyAsInt(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.apply(applyAsInt(value1, value2, value3));
     }
 
@@ -459,10 +651,15 @@ public interface TriFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatPredicate andThenToBoolean(@Nonnull IntPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatPredicate.constant(after.test(applyAsInt(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.test(applyAsInt(value1, value2, value3));
     }
 
@@ -478,10 +675,15 @@ public interface TriFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatToByteFunction andThenToByte(@Nonnull IntToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatToByteFunction.constant(after.applyAsByte(applyAsInt(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsByte(applyAsInt(value1, value2, value3));
     }
 
@@ -497,10 +699,15 @@ public interface TriFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatToCharFunction andThenToChar(@Nonnull IntToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatToCharFunction.constant(after.applyAsChar(applyAsInt(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsChar(applyAsInt(value1, value2, value3));
     }
 
@@ -516,10 +723,15 @@ public interface TriFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatToDoubleFunction andThenToDouble(@Nonnull IntToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatToDoubleFunction.constant(after.applyAsDouble(applyAsInt(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsDouble(applyAsInt(value1, value2, value3));
     }
 
@@ -535,10 +747,15 @@ public interface TriFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatTernaryOperator andThenToFloat(@Nonnull IntToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatTernaryOperator.constant(after.applyAsFloat(applyAsInt(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsFloat(applyAsInt(value1, value2, value3));
     }
 
@@ -554,10 +771,18 @@ public interface TriFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatToIntFunction andThenToInt(@Nonnull IntUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return TriFloatToIntFunction.constant(after.applyAsInt(applyAsInt(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsInt(applyAsInt(value1, value2, value3));
     }
 
@@ -573,10 +798,15 @@ public interface TriFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatToLongFunction andThenToLong(@Nonnull IntToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatToLongFunction.constant(after.applyAsLong(applyAsInt(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsLong(applyAsInt(value1, value2, value3));
     }
 
@@ -592,10 +822,15 @@ public interface TriFloatToIntFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriFloatToShortFunction andThenToShort(@Nonnull IntToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFloatToShortFunction.constant(after.applyAsShort(applyAsInt(0f, 0f, 0f)));
+        }
         return (value1, value2, value3) -> after.applyAsShort(applyAsInt(value1, value2, value3));
     }
 
@@ -615,6 +850,16 @@ public interface TriFloatToIntFunction extends Lambda {
         return (value1, value2, value3) -> consumer.accept(applyAsInt(value1, value2, value3));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToIntFunction2<FloatTriple> tupled() {
+        return this::applyAsInt;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -622,7 +867,29 @@ public interface TriFloatToIntFunction extends Lambda {
      */
     @Nonnull
     default TriFloatToIntFunction reversed() {
-        return (value3, value2, value1) -> applyAsInt(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriFloatToIntFunction) {
+            return (TriFloatToIntFunction) original;
+        }
+        /**
+         * A {@code TriFloatToIntFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriFloatToIntFunction {
+
+            /**
+             * Creates the reversal of this {@code TriFloatToIntFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriFloatToIntFunction.this);
+            }
+
+            @Override
+            public int applyAsInt(float value3, float value2, float value1) {
+                return TriFloatToIntFunction.this.applyAsInt(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -644,14 +911,84 @@ public interface TriFloatToIntFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Float, Float, Float>, Integer> cache = new ConcurrentHashMap<>();
-            return (TriFloatToIntFunction & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        key -> applyAsInt(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link TriFloatToIntFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code TriFloatToIntFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriFloatToIntFunction memoized(@Nonnull MemoStore<FloatTriple, Integer> store) {
+        Objects.requireNonNull(store);
+        return (TriFloatToIntFunction & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(FloatTriple.of(value1, value2, value3),
+                    key -> applyAsInt(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriFloatToIntFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriFloatToIntFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriFloatToIntFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriFloatToIntFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code TriFloatToIntFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriFloatToIntFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<FloatTriple, Integer> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriFloatToIntFunction & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(FloatTriple.of(value1, value2, value3),
+                    key -> applyAsInt(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link TriFloatToIntFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -661,6 +998,24 @@ public interface TriFloatToIntFunction extends Lambda {
      */
     @Nonnull
     default TriFunction<Float, Float, Float, Integer> boxed() {
-        return this::applyAsInt;
+        /**
+         * A {@code TriFunction} which applies this {@code TriFloatToIntFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<Float, Float, Float, Integer> {
+
+            /**
+             * Creates the boxed variant of this {@code TriFloatToIntFunction}.
+             */
+            Boxed() {
+                super(TriFloatToIntFunction.this);
+            }
+
+            @Override
+            public Integer apply(Float t, Float u, Float v) {
+                return TriFloatToIntFunction.this.applyAsInt(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
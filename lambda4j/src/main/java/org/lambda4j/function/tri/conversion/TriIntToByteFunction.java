@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.tri.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongToIntFunction;
@@ -29,9 +28,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.ByteConsumer;
 import org.lambda4j.consumer.tri.TriIntConsumer;
 import org.lambda4j.function.ByteFunction;
@@ -47,14 +48,22 @@ import org.lambda4j.function.conversion.CharToIntFunction;
 import org.lambda4j.function.conversion.FloatToIntFunction;
 import org.lambda4j.function.conversion.IntToByteFunction;
 import org.lambda4j.function.conversion.ShortToIntFunction;
+import org.lambda4j.function.to.ToByteFunction;
 import org.lambda4j.function.tri.TriFunction;
 import org.lambda4j.function.tri.TriIntFunction;
 import org.lambda4j.function.tri.to.ToByteTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.ByteTernaryOperator;
 import org.lambda4j.operator.ternary.IntTernaryOperator;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
+import org.lambda4j.optional.OptionalByte;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.tri.TriIntPredicate;
+import org.lambda4j.tuple.IntTriple;
 
 /**
  * Represents an operation that accepts three {@code int}-valued input arguments and produces a {@code byte}-valued
@@ -88,6 +97,48 @@ public interface TriIntToByteFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriIntToByteFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * TriIntToByteFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code TriIntToByteFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriIntToByteFunction unboxed(
+            @Nonnull TriFunction<? super Integer, ? super Integer, ? super Integer, ? extends Byte> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof TriIntToByteFunction) {
+            return (TriIntToByteFunction) original;
+        }
+        return (value1, value2, value3) -> function.apply(value1, value2, value3);
+    }
+
+    /**
+     * Lifts a partial {@link TriIntToByteFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link TriIntFunction} that returns an {@link OptionalByte} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code TriIntToByteFunction} lifted into a total {@code TriIntFunction} that returns an {@code
+     * OptionalByte} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static TriIntFunction<OptionalByte> lift(
+            @Nonnull TriIntPredicate isDefined, @Nonnull TriIntToByteFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2, value3) -> isDefined.test(value1, value2, value3)
+                ? OptionalByte.of(partial.applyAsByte(value1, value2, value3))
+                : OptionalByte.empty();
+    }
+
     /**
      * Calls the given {@link TriIntToByteFunction} with the given arguments and returns its result.
      *
@@ -115,7 +166,25 @@ public interface TriIntToByteFunction extends Lambda {
     @Nonnull
     static TriIntToByteFunction onlyFirst(@Nonnull IntToByteFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsByte(value1);
+        /**
+         * A {@code TriIntToByteFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriIntToByteFunction {
+
+            /**
+             * Creates a {@code TriIntToByteFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public byte applyAsByte(int value1, int value2, int value3) {
+                return function.applyAsByte(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -130,7 +199,25 @@ public interface TriIntToByteFunction extends Lambda {
     @Nonnull
     static TriIntToByteFunction onlySecond(@Nonnull IntToByteFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsByte(value2);
+        /**
+         * A {@code TriIntToByteFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriIntToByteFunction {
+
+            /**
+             * Creates a {@code TriIntToByteFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public byte applyAsByte(int value1, int value2, int value3) {
+                return function.applyAsByte(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -145,18 +232,56 @@ public interface TriIntToByteFunction extends Lambda {
     @Nonnull
     static TriIntToByteFunction onlyThird(@Nonnull IntToByteFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsByte(value3);
+        /**
+         * A {@code TriIntToByteFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriIntToByteFunction {
+
+            /**
+             * Creates a {@code TriIntToByteFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public byte applyAsByte(int value1, int value2, int value3) {
+                return function.applyAsByte(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriIntToByteFunction} which always returns a given value.
+     * Creates a {@link TriIntToByteFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code TriIntToByteFunction} which always returns a given value.
      */
     @Nonnull
     static TriIntToByteFunction constant(byte ret) {
-        return (value1, value2, value3) -> ret;
+        /**
+         * A {@code TriIntToByteFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriIntToByteFunction {
+
+            /**
+             * Creates a constant {@code TriIntToByteFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public byte applyAsByte(int value1, int value2, int value3) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -169,6 +294,19 @@ public interface TriIntToByteFunction extends Lambda {
      */
     byte applyAsByte(int value1, int value2, int value3);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see IntTriple
+     */
+    default byte applyAsByte(@Nonnull IntTriple tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsByte(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BiIntToByteFunction} as
      * result.
@@ -193,6 +331,51 @@ public interface TriIntToByteFunction extends Lambda {
         return value3 -> applyAsByte(value1, value2, value3);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsByteParallel(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull int[] values3,
+            @Nonnull byte[] results) {
+        applyAsByteParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsByteParallel(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull int[] values3,
+            @Nonnull byte[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsByte(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -375,6 +558,9 @@ public interface TriIntToByteFunction extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> applyAsByte(before1.applyAsInt(value1), before2.applyAsInt(value2),
                 before3.applyAsInt(value3));
     }
@@ -440,10 +626,15 @@ public interface TriIntToByteFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriIntFunction<S> andThen(@Nonnull ByteFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntFunction.constant(after.apply(applyAsByte(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.apply(applyAsByte(value1, value2, value3));
     }
 
@@ -459,10 +650,15 @@ public interface TriIntToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntPredicate andThenToBoolean(@Nonnull BytePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntPredicate.constant(after.test(applyAsByte(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.test(applyAsByte(value1, value2, value3));
     }
 
@@ -478,10 +674,18 @@ public interface TriIntToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntToByteFunction andThenToByte(@Nonnull ByteUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return TriIntToByteFunction.constant(after.applyAsByte(applyAsByte(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsByte(applyAsByte(value1, value2, value3));
     }
 
@@ -497,10 +701,15 @@ public interface TriIntToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntToCharFunction andThenToChar(@Nonnull ByteToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntToCharFunction.constant(after.applyAsChar(applyAsByte(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsChar(applyAsByte(value1, value2, value3));
     }
 
@@ -516,10 +725,15 @@ public interface TriIntToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntToDoubleFunction andThenToDouble(@Nonnull ByteToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntToDoubleFunction.constant(after.applyAsDouble(applyAsByte(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsDouble(applyAsByte(value1, value2, value3));
     }
 
@@ -535,10 +749,15 @@ public interface TriIntToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntToFloatFunction andThenToFloat(@Nonnull ByteToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntToFloatFunction.constant(after.applyAsFloat(applyAsByte(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsFloat(applyAsByte(value1, value2, value3));
     }
 
@@ -554,10 +773,15 @@ public interface TriIntToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntTernaryOperator andThenToInt(@Nonnull ByteToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntTernaryOperator.constant(after.applyAsInt(applyAsByte(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsInt(applyAsByte(value1, value2, value3));
     }
 
@@ -573,10 +797,15 @@ public interface TriIntToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntToLongFunction andThenToLong(@Nonnull ByteToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntToLongFunction.constant(after.applyAsLong(applyAsByte(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsLong(applyAsByte(value1, value2, value3));
     }
 
@@ -592,10 +821,15 @@ public interface TriIntToByteFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntToShortFunction andThenToShort(@Nonnull ByteToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntToShortFunction.constant(after.applyAsShort(applyAsByte(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsShort(applyAsByte(value1, value2, value3));
     }
 
@@ -615,6 +849,16 @@ public interface TriIntToByteFunction extends Lambda {
         return (value1, value2, value3) -> consumer.accept(applyAsByte(value1, value2, value3));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToByteFunction<IntTriple> tupled() {
+        return this::applyAsByte;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -622,7 +866,29 @@ public interface TriIntToByteFunction extends Lambda {
      */
     @Nonnull
     default TriIntToByteFunction reversed() {
-        return (value3, value2, value1) -> applyAsByte(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriIntToByteFunction) {
+            return (TriIntToByteFunction) original;
+        }
+        /**
+         * A {@code TriIntToByteFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriIntToByteFunction {
+
+            /**
+             * Creates the reversal of this {@code TriIntToByteFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriIntToByteFunction.this);
+            }
+
+            @Override
+            public byte applyAsByte(int value3, int value2, int value1) {
+                return TriIntToByteFunction.this.applyAsByte(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -644,14 +910,84 @@ public interface TriIntToByteFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Integer, Integer, Integer>, Byte> cache = new ConcurrentHashMap<>();
-            return (TriIntToByteFunction & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        key -> applyAsByte(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link TriIntToByteFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code TriIntToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriIntToByteFunction memoized(@Nonnull MemoStore<IntTriple, Byte> store) {
+        Objects.requireNonNull(store);
+        return (TriIntToByteFunction & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(IntTriple.of(value1, value2, value3),
+                    key -> applyAsByte(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriIntToByteFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriIntToByteFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriIntToByteFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriIntToByteFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code TriIntToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriIntToByteFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<IntTriple, Byte> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriIntToByteFunction & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(IntTriple.of(value1, value2, value3),
+                    key -> applyAsByte(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link TriIntToByteFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -661,6 +997,24 @@ public interface TriIntToByteFunction extends Lambda {
      */
     @Nonnull
     default TriFunction<Integer, Integer, Integer, Byte> boxed() {
-        return this::applyAsByte;
+        /**
+         * A {@code TriFunction} which applies this {@code TriIntToByteFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<Integer, Integer, Integer, Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code TriIntToByteFunction}.
+             */
+            Boxed() {
+                super(TriIntToByteFunction.this);
+            }
+
+            @Override
+            public Byte apply(Integer t, Integer u, Integer v) {
+                return TriIntToByteFunction.this.applyAsByte(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.tri.conversion;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -35,9 +35,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.tri.TriIntConsumer;
 import org.lambda4j.function.bi.conversion.BiIntToDoubleFunction;
 import org.lambda4j.function.conversion.BooleanToIntFunction;
@@ -50,12 +52,19 @@ import org.lambda4j.function.conversion.DoubleToShortFunction;
 import org.lambda4j.function.conversion.FloatToIntFunction;
 import org.lambda4j.function.conversion.IntToDoubleFunction2;
 import org.lambda4j.function.conversion.ShortToIntFunction;
+import org.lambda4j.function.to.ToDoubleFunction2;
 import org.lambda4j.function.tri.TriFunction;
 import org.lambda4j.function.tri.TriIntFunction;
 import org.lambda4j.function.tri.to.ToDoubleTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.DoubleTernaryOperator;
 import org.lambda4j.operator.ternary.IntTernaryOperator;
 import org.lambda4j.predicate.tri.TriIntPredicate;
+import org.lambda4j.tuple.IntTriple;
 
 /**
  * Represents an operation that accepts three {@code int}-valued input arguments and produces a {@code double}-valued
@@ -89,6 +98,48 @@ public interface TriIntToDoubleFunction extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriIntToDoubleFunction} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * TriIntToDoubleFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code TriIntToDoubleFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriIntToDoubleFunction unboxed(
+            @Nonnull TriFunction<? super Integer, ? super Integer, ? super Integer, ? extends Double> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof TriIntToDoubleFunction) {
+            return (TriIntToDoubleFunction) original;
+        }
+        return (value1, value2, value3) -> function.apply(value1, value2, value3);
+    }
+
+    /**
+     * Lifts a partial {@link TriIntToDoubleFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link TriIntFunction} that returns an {@link OptionalDouble} result. The result of the
+     * given function is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code TriIntToDoubleFunction} lifted into a total {@code TriIntFunction} that returns an
+     * {@code OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static TriIntFunction<OptionalDouble> lift(
+            @Nonnull TriIntPredicate isDefined, @Nonnull TriIntToDoubleFunction partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2, value3) -> isDefined.test(value1, value2, value3)
+                ? OptionalDouble.of(partial.applyAsDouble(value1, value2, value3))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link TriIntToDoubleFunction} with the given arguments and returns its result.
      *
@@ -116,7 +167,25 @@ public interface TriIntToDoubleFunction extends Lambda {
     @Nonnull
     static TriIntToDoubleFunction onlyFirst(@Nonnull IntToDoubleFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsDouble(value1);
+        /**
+         * A {@code TriIntToDoubleFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriIntToDoubleFunction {
+
+            /**
+             * Creates a {@code TriIntToDoubleFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public double applyAsDouble(int value1, int value2, int value3) {
+                return function.applyAsDouble(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -131,7 +200,25 @@ public interface TriIntToDoubleFunction extends Lambda {
     @Nonnull
     static TriIntToDoubleFunction onlySecond(@Nonnull IntToDoubleFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsDouble(value2);
+        /**
+         * A {@code TriIntToDoubleFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriIntToDoubleFunction {
+
+            /**
+             * Creates a {@code TriIntToDoubleFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public double applyAsDouble(int value1, int value2, int value3) {
+                return function.applyAsDouble(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -146,18 +233,56 @@ public interface TriIntToDoubleFunction extends Lambda {
     @Nonnull
     static TriIntToDoubleFunction onlyThird(@Nonnull IntToDoubleFunction function) {
         Objects.requireNonNull(function);
-        return (value1, value2, value3) -> function.applyAsDouble(value3);
+        /**
+         * A {@code TriIntToDoubleFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriIntToDoubleFunction {
+
+            /**
+             * Creates a {@code TriIntToDoubleFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public double applyAsDouble(int value1, int value2, int value3) {
+                return function.applyAsDouble(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriIntToDoubleFunction} which always returns a given value.
+     * Creates a {@link TriIntToDoubleFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code TriIntToDoubleFunction} which always returns a given value.
      */
     @Nonnull
     static TriIntToDoubleFunction constant(double ret) {
-        return (value1, value2, value3) -> ret;
+        /**
+         * A {@code TriIntToDoubleFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriIntToDoubleFunction {
+
+            /**
+             * Creates a constant {@code TriIntToDoubleFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public double applyAsDouble(int value1, int value2, int value3) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -170,6 +295,19 @@ public interface TriIntToDoubleFunction extends Lambda {
      */
     double applyAsDouble(int value1, int value2, int value3);
 
+    /**
+     * Applies this function to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the function
+     * @return The return value from the function, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see IntTriple
+     */
+    default double applyAsDouble(@Nonnull IntTriple tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsDouble(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
     /**
      * Applies this function partially to some arguments of this one, producing a {@link BiIntToDoubleFunction} as
      * result.
@@ -195,6 +333,51 @@ public interface TriIntToDoubleFunction extends Lambda {
         return value3 -> applyAsDouble(value1, value2, value3);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsDoubleParallel(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull int[] values3,
+            @Nonnull double[] results) {
+        applyAsDoubleParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDoubleParallel(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull int[] values3,
+            @Nonnull double[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsDouble(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -377,6 +560,9 @@ public interface TriIntToDoubleFunction extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> applyAsDouble(before1.applyAsInt(value1), before2.applyAsInt(value2),
                 before3.applyAsInt(value3));
     }
@@ -442,10 +628,15 @@ public interface TriIntToDoubleFunction extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriIntFunction<S> andThen(@Nonnull DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntFunction.constant(after.apply(applyAsDouble(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.apply(applyAsDouble(value1, value2, value3));
     }
 
@@ -461,10 +652,15 @@ public interface TriIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntPredicate andThenToBoolean(@Nonnull DoublePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntPredicate.constant(after.test(applyAsDouble(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.test(applyAsDouble(value1, value2, value3));
     }
 
@@ -480,10 +676,15 @@ public interface TriIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntToByteFunction andThenToByte(@Nonnull DoubleToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntToByteFunction.constant(after.applyAsByte(applyAsDouble(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsByte(applyAsDouble(value1, value2, value3));
     }
 
@@ -499,10 +700,15 @@ public interface TriIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntToCharFunction andThenToChar(@Nonnull DoubleToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntToCharFunction.constant(after.applyAsChar(applyAsDouble(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsChar(applyAsDouble(value1, value2, value3));
     }
 
@@ -518,10 +724,18 @@ public interface TriIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntToDoubleFunction andThenToDouble(@Nonnull DoubleUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return TriIntToDoubleFunction.constant(after.applyAsDouble(applyAsDouble(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsDouble(applyAsDouble(value1, value2, value3));
     }
 
@@ -537,10 +751,15 @@ public interface TriIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntToFloatFunction andThenToFloat(@Nonnull DoubleToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntToFloatFunction.constant(after.applyAsFloat(applyAsDouble(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsFloat(applyAsDouble(value1, value2, value3));
     }
 
@@ -556,10 +775,15 @@ public interface TriIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntTernaryOperator andThenToInt(@Nonnull DoubleToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntTernaryOperator.constant(after.applyAsInt(applyAsDouble(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsInt(applyAsDouble(value1, value2, value3));
     }
 
@@ -575,10 +799,15 @@ public interface TriIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntToLongFunction andThenToLong(@Nonnull DoubleToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntToLongFunction.constant(after.applyAsLong(applyAsDouble(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsLong(applyAsDouble(value1, value2, value3));
     }
 
@@ -594,10 +823,15 @@ public interface TriIntToDoubleFunction extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriIntToShortFunction andThenToShort(@Nonnull DoubleToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriIntToShortFunction.constant(after.applyAsShort(applyAsDouble(0, 0, 0)));
+        }
         return (value1, value2, value3) -> after.applyAsShort(applyAsDouble(value1, value2, value3));
     }
 
@@ -617,6 +851,16 @@ public interface TriIntToDoubleFunction extends Lambda {
         return (value1, value2, value3) -> consumer.accept(applyAsDouble(value1, value2, value3));
     }
 
+    /**
+     * Returns a tupled version of this function.
+     *
+     * @return A tupled version of this function.
+     */
+    @Nonnull
+    default ToDoubleFunction2<IntTriple> tupled() {
+        return this::applyAsDouble;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -624,7 +868,29 @@ public interface TriIntToDoubleFunction extends Lambda {
      */
     @Nonnull
     default TriIntToDoubleFunction reversed() {
-        return (value3, value2, value1) -> applyAsDouble(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriIntToDoubleFunction) {
+            return (TriIntToDoubleFunction) original;
+        }
+        /**
+         * A {@code TriIntToDoubleFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriIntToDoubleFunction {
+
+            /**
+             * Creates the reversal of this {@code TriIntToDoubleFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriIntToDoubleFunction.this);
+            }
+
+            @Override
+            public double applyAsDouble(int value3, int value2, int value1) {
+                return TriIntToDoubleFunction.this.applyAsDouble(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -646,14 +912,84 @@ public interface TriIntToDoubleFunction extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Integer, Integer, Integer>, Double> cache = new ConcurrentHashMap<>();
-            return (TriIntToDoubleFunction & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        key -> applyAsDouble(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link TriIntToDoubleFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code TriIntToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriIntToDoubleFunction memoized(@Nonnull MemoStore<IntTriple, Double> store) {
+        Objects.requireNonNull(store);
+        return (TriIntToDoubleFunction & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(IntTriple.of(value1, value2, value3),
+                    key -> applyAsDouble(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriIntToDoubleFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriIntToDoubleFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriIntToDoubleFunction adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriIntToDoubleFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code TriIntToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriIntToDoubleFunction adaptivelyMemoized(@Nonnull AdaptiveMemoizer<IntTriple, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriIntToDoubleFunction & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(IntTriple.of(value1, value2, value3),
+                    key -> applyAsDouble(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link TriIntToDoubleFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -663,6 +999,24 @@ public interface TriIntToDoubleFunction extends Lambda {
      */
     @Nonnull
     default TriFunction<Integer, Integer, Integer, Double> boxed() {
-        return this::applyAsDouble;
+        /**
+         * A {@code TriFunction} which applies this {@code TriIntToDoubleFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<Integer, Integer, Integer, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code TriIntToDoubleFunction}.
+             */
+            Boxed() {
+                super(TriIntToDoubleFunction.this);
+            }
+
+            @Override
+            public Double apply(Integer t, Integer u, Integer v) {
+                return TriIntToDoubleFunction.this.applyAsDouble(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,10 +16,9 @@
 
 package org.lambda4j.function.tri.obj;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -39,6 +38,10 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.tri.obj.BiObjBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -57,6 +60,11 @@ import org.lambda4j.function.tri.TriFunction;
 import org.lambda4j.function.tri.TriIntFunction;
 import org.lambda4j.function.tri.TriLongFunction;
 import org.lambda4j.function.tri.TriShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
@@ -101,6 +109,31 @@ public interface BiObjBooleanFunction<T, U, R> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiObjBooleanFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BiObjBooleanFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code BiObjBooleanFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U, R> BiObjBooleanFunction<T, U, R> unboxed(
+            @Nonnull TriFunction<? super T, ? super U, ? super Boolean, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiObjBooleanFunction) {
+            return (BiObjBooleanFunction<T, U, R>) original;
+        }
+        return (t, u, value) -> function.apply(t, u, value);
+    }
+
     /**
      * Lifts a partial {@link BiObjBooleanFunction} into a total {@link BiObjBooleanFunction} that returns an {@link
      * Optional} result.
@@ -154,7 +187,25 @@ public interface BiObjBooleanFunction<T, U, R> extends Lambda {
     @Nonnull
     static <T, U, R> BiObjBooleanFunction<T, U, R> onlyFirst(@Nonnull Function<? super T, ? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, u, value) -> function.apply(t);
+        /**
+         * A {@code BiObjBooleanFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiObjBooleanFunction<T, U, R> {
+
+            /**
+             * Creates a {@code BiObjBooleanFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public R apply(T t, U u, boolean value) {
+                return function.apply(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -173,7 +224,25 @@ public interface BiObjBooleanFunction<T, U, R> extends Lambda {
     static <T, U, R> BiObjBooleanFunction<T, U, R> onlySecond(
             @Nonnull Function<? super U, ? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, u, value) -> function.apply(u);
+        /**
+         * A {@code BiObjBooleanFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiObjBooleanFunction<T, U, R> {
+
+            /**
+             * Creates a {@code BiObjBooleanFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public R apply(T t, U u, boolean value) {
+                return function.apply(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -191,11 +260,31 @@ public interface BiObjBooleanFunction<T, U, R> extends Lambda {
     @Nonnull
     static <T, U, R> BiObjBooleanFunction<T, U, R> onlyThird(@Nonnull BooleanFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, u, value) -> function.apply(value);
+        /**
+         * A {@code BiObjBooleanFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements BiObjBooleanFunction<T, U, R> {
+
+            /**
+             * Creates a {@code BiObjBooleanFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public R apply(T t, U u, boolean value) {
+                return function.apply(value);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link BiObjBooleanFunction} which always returns a given value.
+     * Creates a {@link BiObjBooleanFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the function
      * @param <U> The type of the second argument to the function
@@ -205,7 +294,25 @@ public interface BiObjBooleanFunction<T, U, R> extends Lambda {
      */
     @Nonnull
     static <T, U, R> BiObjBooleanFunction<T, U, R> constant(R ret) {
-        return (t, u, value) -> ret;
+        /**
+         * A {@code BiObjBooleanFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiObjBooleanFunction<T, U, R> {
+
+            /**
+             * Creates a constant {@code BiObjBooleanFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(T t, U u, boolean value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -278,6 +385,51 @@ public interface BiObjBooleanFunction<T, U, R> extends Lambda {
         return u -> apply(t, u, value);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull boolean[] values3,
+            @Nonnull R[] results) {
+        applyParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull boolean[] values3,
+            @Nonnull R[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -518,10 +670,15 @@ public interface BiObjBooleanFunction<T, U, R> extends Lambda {
      * the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiObjBooleanFunction<T, U, S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanFunction.constant(after.apply(apply(null, null, false)));
+        }
         return (t, u, value) -> after.apply(apply(t, u, value));
     }
 
@@ -570,14 +727,85 @@ public interface BiObjBooleanFunction<T, U, R> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, U, Boolean>, R> cache = new ConcurrentHashMap<>();
-            return (BiObjBooleanFunction<T, U, R> & Memoized) (t, u, value) -> {
-                return cache.computeIfAbsent(Triple.of(t, u, value),
-                        key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiObjBooleanFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiObjBooleanFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiObjBooleanFunction<T, U, R> memoized(@Nonnull MemoStore<Triple<T, U, Boolean>, R> store) {
+        Objects.requireNonNull(store);
+        return (BiObjBooleanFunction<T, U, R> & Memoized) (t, u, value) -> {
+            return store.computeIfAbsent(Triple.of(t, u, value),
+                    key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiObjBooleanFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiObjBooleanFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiObjBooleanFunction<T, U, R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiObjBooleanFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiObjBooleanFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiObjBooleanFunction<T, U, R> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, U, Boolean>, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiObjBooleanFunction<T, U, R> & Memoized) (t, u, value) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, u, value),
+                    key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link BiObjBooleanFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -587,6 +815,24 @@ public interface BiObjBooleanFunction<T, U, R> extends Lambda {
      */
     @Nonnull
     default TriFunction<T, U, Boolean, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code TriFunction} which applies this {@code BiObjBooleanFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<T, U, Boolean, R> {
+
+            /**
+             * Creates the boxed variant of this {@code BiObjBooleanFunction}.
+             */
+            Boxed() {
+                super(BiObjBooleanFunction.this);
+            }
+
+            @Override
+            public R apply(T t, U u, Boolean v) {
+                return BiObjBooleanFunction.this.apply(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.tri.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -37,6 +36,10 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.consumer.tri.obj.BiObjBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -63,9 +66,15 @@ import org.lambda4j.function.tri.conversion.TriIntToCharFunction;
 import org.lambda4j.function.tri.conversion.TriLongToCharFunction;
 import org.lambda4j.function.tri.conversion.TriShortToCharFunction;
 import org.lambda4j.function.tri.to.ToCharTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.CharTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.CharUnaryOperator;
+import org.lambda4j.optional.OptionalChar;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
@@ -108,6 +117,54 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiObjBooleanToCharFunction} which represents the given boxed function, so that it can be used
+     * with the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the
+     * {@code BiObjBooleanToCharFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the
+     * returned function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code BiObjBooleanToCharFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U> BiObjBooleanToCharFunction<T, U> unboxed(
+            @Nonnull TriFunction<? super T, ? super U, ? super Boolean, ? extends Character> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiObjBooleanToCharFunction) {
+            return (BiObjBooleanToCharFunction<T, U>) original;
+        }
+        return (t, u, value) -> function.apply(t, u, value);
+    }
+
+    /**
+     * Lifts a partial {@link BiObjBooleanToCharFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiObjBooleanFunction} that returns an {@link OptionalChar} result. The result of
+     * the given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiObjBooleanToCharFunction} lifted into a total {@code BiObjBooleanFunction} that
+     * returns an {@code OptionalChar} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T, U> BiObjBooleanFunction<T, U, OptionalChar> lift(
+            @Nonnull BiObjBooleanPredicate<? super T, ? super U> isDefined,
+            @Nonnull BiObjBooleanToCharFunction<? super T, ? super U> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, u, value) -> isDefined.test(t, u, value)
+                ? OptionalChar.of(partial.applyAsChar(t, u, value))
+                : OptionalChar.empty();
+    }
+
     /**
      * Calls the given {@link BiObjBooleanToCharFunction} with the given arguments and returns its result.
      *
@@ -140,7 +197,25 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjBooleanToCharFunction<T, U> onlyFirst(@Nonnull ToCharFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, u, value) -> function.applyAsChar(t);
+        /**
+         * A {@code BiObjBooleanToCharFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiObjBooleanToCharFunction<T, U> {
+
+            /**
+             * Creates a {@code BiObjBooleanToCharFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public char applyAsChar(T t, U u, boolean value) {
+                return function.applyAsChar(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -157,7 +232,25 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjBooleanToCharFunction<T, U> onlySecond(@Nonnull ToCharFunction<? super U> function) {
         Objects.requireNonNull(function);
-        return (t, u, value) -> function.applyAsChar(u);
+        /**
+         * A {@code BiObjBooleanToCharFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiObjBooleanToCharFunction<T, U> {
+
+            /**
+             * Creates a {@code BiObjBooleanToCharFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public char applyAsChar(T t, U u, boolean value) {
+                return function.applyAsChar(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -174,11 +267,31 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjBooleanToCharFunction<T, U> onlyThird(@Nonnull BooleanToCharFunction function) {
         Objects.requireNonNull(function);
-        return (t, u, value) -> function.applyAsChar(value);
+        /**
+         * A {@code BiObjBooleanToCharFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements BiObjBooleanToCharFunction<T, U> {
+
+            /**
+             * Creates a {@code BiObjBooleanToCharFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public char applyAsChar(T t, U u, boolean value) {
+                return function.applyAsChar(value);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link BiObjBooleanToCharFunction} which always returns a given value.
+     * Creates a {@link BiObjBooleanToCharFunction} which always returns a given value. If it is composed with a
+     * following function, that function is applied to the value once when composing, and the composed function is a
+     * constant as well.
      *
      * @param <T> The type of the first argument to the function
      * @param <U> The type of the second argument to the function
@@ -187,7 +300,25 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> BiObjBooleanToCharFunction<T, U> constant(char ret) {
-        return (t, u, value) -> ret;
+        /**
+         * A {@code BiObjBooleanToCharFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiObjBooleanToCharFunction<T, U> {
+
+            /**
+             * Creates a constant {@code BiObjBooleanToCharFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public char applyAsChar(T t, U u, boolean value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -262,6 +393,51 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
         return u -> applyAsChar(t, u, value);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsCharParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull boolean[] values3,
+            @Nonnull char[] results) {
+        applyAsCharParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsCharParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull boolean[] values3,
+            @Nonnull char[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsChar(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -509,10 +685,15 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
      * the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiObjBooleanFunction<T, U, S> andThen(@Nonnull CharFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanFunction.constant(after.apply(applyAsChar(null, null, false)));
+        }
         return (t, u, value) -> after.apply(applyAsChar(t, u, value));
     }
 
@@ -528,10 +709,15 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanPredicate<T, U> andThenToBoolean(@Nonnull CharPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanPredicate.constant(after.test(applyAsChar(null, null, false)));
+        }
         return (t, u, value) -> after.test(applyAsChar(t, u, value));
     }
 
@@ -547,10 +733,15 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToByteFunction<T, U> andThenToByte(@Nonnull CharToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToByteFunction.constant(after.applyAsByte(applyAsChar(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsByte(applyAsChar(t, u, value));
     }
 
@@ -570,6 +761,9 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
     @Nonnull
     default BiObjBooleanToCharFunction<T, U> andThenToChar(@Nonnull CharUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
         return (t, u, value) -> after.applyAsChar(applyAsChar(t, u, value));
     }
 
@@ -585,10 +779,15 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToDoubleFunction<T, U> andThenToDouble(@Nonnull CharToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsChar(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsDouble(applyAsChar(t, u, value));
     }
 
@@ -604,10 +803,15 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToFloatFunction<T, U> andThenToFloat(@Nonnull CharToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToFloatFunction.constant(after.applyAsFloat(applyAsChar(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsFloat(applyAsChar(t, u, value));
     }
 
@@ -623,10 +827,15 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToIntFunction<T, U> andThenToInt(@Nonnull CharToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToIntFunction.constant(after.applyAsInt(applyAsChar(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsInt(applyAsChar(t, u, value));
     }
 
@@ -642,10 +851,15 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToLongFunction<T, U> andThenToLong(@Nonnull CharToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToLongFunction.constant(after.applyAsLong(applyAsChar(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsLong(applyAsChar(t, u, value));
     }
 
@@ -661,10 +875,15 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToShortFunction<T, U> andThenToShort(@Nonnull CharToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToShortFunction.constant(after.applyAsShort(applyAsChar(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsShort(applyAsChar(t, u, value));
     }
 
@@ -713,14 +932,85 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, U, Boolean>, Character> cache = new ConcurrentHashMap<>();
-            return (BiObjBooleanToCharFunction<T, U> & Memoized) (t, u, value) -> {
-                return cache.computeIfAbsent(Triple.of(t, u, value),
-                        key -> applyAsChar(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiObjBooleanToCharFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiObjBooleanToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiObjBooleanToCharFunction<T, U> memoized(@Nonnull MemoStore<Triple<T, U, Boolean>, Character> store) {
+        Objects.requireNonNull(store);
+        return (BiObjBooleanToCharFunction<T, U> & Memoized) (t, u, value) -> {
+            return store.computeIfAbsent(Triple.of(t, u, value),
+                    key -> applyAsChar(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiObjBooleanToCharFunction}. In contrast to
+     * {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiObjBooleanToCharFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiObjBooleanToCharFunction<T, U> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiObjBooleanToCharFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiObjBooleanToCharFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiObjBooleanToCharFunction<T, U> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, U, Boolean>, Character> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiObjBooleanToCharFunction<T, U> & Memoized) (t, u, value) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, u, value),
+                    key -> applyAsChar(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link BiObjBooleanToCharFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -730,6 +1020,24 @@ public interface BiObjBooleanToCharFunction<T, U> extends Lambda {
      */
     @Nonnull
     default TriFunction<T, U, Boolean, Character> boxed() {
-        return this::applyAsChar;
+        /**
+         * A {@code TriFunction} which applies this {@code BiObjBooleanToCharFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<T, U, Boolean, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code BiObjBooleanToCharFunction}.
+             */
+            Boxed() {
+                super(BiObjBooleanToCharFunction.this);
+            }
+
+            @Override
+            public Character apply(T t, U u, Boolean v) {
+                return BiObjBooleanToCharFunction.this.applyAsChar(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
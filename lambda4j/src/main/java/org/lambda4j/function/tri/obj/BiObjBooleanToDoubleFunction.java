@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.tri.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -42,6 +42,10 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.tri.obj.BiObjBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -65,6 +69,11 @@ import org.lambda4j.function.tri.conversion.TriIntToDoubleFunction;
 import org.lambda4j.function.tri.conversion.TriLongToDoubleFunction;
 import org.lambda4j.function.tri.conversion.TriShortToDoubleFunction;
 import org.lambda4j.function.tri.to.ToDoubleTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.DoubleTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.BytePredicate;
@@ -109,6 +118,54 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiObjBooleanToDoubleFunction} which represents the given boxed function, so that it can be used
+     * with the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the
+     * {@code BiObjBooleanToDoubleFunction} it represents is returned, so that no values are boxed anymore. Otherwise,
+     * the returned function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code BiObjBooleanToDoubleFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U> BiObjBooleanToDoubleFunction<T, U> unboxed(
+            @Nonnull TriFunction<? super T, ? super U, ? super Boolean, ? extends Double> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiObjBooleanToDoubleFunction) {
+            return (BiObjBooleanToDoubleFunction<T, U>) original;
+        }
+        return (t, u, value) -> function.apply(t, u, value);
+    }
+
+    /**
+     * Lifts a partial {@link BiObjBooleanToDoubleFunction}, which is only defined for the arguments accepted by the
+     * given predicate, into a total {@link BiObjBooleanFunction} that returns an {@link OptionalDouble} result. The
+     * result of the given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiObjBooleanToDoubleFunction} lifted into a total {@code BiObjBooleanFunction} that
+     * returns an {@code OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T, U> BiObjBooleanFunction<T, U, OptionalDouble> lift(
+            @Nonnull BiObjBooleanPredicate<? super T, ? super U> isDefined,
+            @Nonnull BiObjBooleanToDoubleFunction<? super T, ? super U> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, u, value) -> isDefined.test(t, u, value)
+                ? OptionalDouble.of(partial.applyAsDouble(t, u, value))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link BiObjBooleanToDoubleFunction} with the given arguments and returns its result.
      *
@@ -141,7 +198,25 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjBooleanToDoubleFunction<T, U> onlyFirst(@Nonnull ToDoubleFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, u, value) -> function.applyAsDouble(t);
+        /**
+         * A {@code BiObjBooleanToDoubleFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiObjBooleanToDoubleFunction<T, U> {
+
+            /**
+             * Creates a {@code BiObjBooleanToDoubleFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public double applyAsDouble(T t, U u, boolean value) {
+                return function.applyAsDouble(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -158,7 +233,25 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjBooleanToDoubleFunction<T, U> onlySecond(@Nonnull ToDoubleFunction<? super U> function) {
         Objects.requireNonNull(function);
-        return (t, u, value) -> function.applyAsDouble(u);
+        /**
+         * A {@code BiObjBooleanToDoubleFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiObjBooleanToDoubleFunction<T, U> {
+
+            /**
+             * Creates a {@code BiObjBooleanToDoubleFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public double applyAsDouble(T t, U u, boolean value) {
+                return function.applyAsDouble(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -175,11 +268,31 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjBooleanToDoubleFunction<T, U> onlyThird(@Nonnull BooleanToDoubleFunction function) {
         Objects.requireNonNull(function);
-        return (t, u, value) -> function.applyAsDouble(value);
+        /**
+         * A {@code BiObjBooleanToDoubleFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements BiObjBooleanToDoubleFunction<T, U> {
+
+            /**
+             * Creates a {@code BiObjBooleanToDoubleFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public double applyAsDouble(T t, U u, boolean value) {
+                return function.applyAsDouble(value);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link BiObjBooleanToDoubleFunction} which always returns a given value.
+     * Creates a {@link BiObjBooleanToDoubleFunction} which always returns a given value. If it is composed with a
+     * following function, that function is applied to the value once when composing, and the composed function is a
+     * constant as well.
      *
      * @param <T> The type of the first argument to the function
      * @param <U> The type of the second argument to the function
@@ -188,7 +301,25 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> BiObjBooleanToDoubleFunction<T, U> constant(double ret) {
-        return (t, u, value) -> ret;
+        /**
+         * A {@code BiObjBooleanToDoubleFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiObjBooleanToDoubleFunction<T, U> {
+
+            /**
+             * Creates a constant {@code BiObjBooleanToDoubleFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public double applyAsDouble(T t, U u, boolean value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -264,6 +395,51 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
         return u -> applyAsDouble(t, u, value);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsDoubleParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull boolean[] values3,
+            @Nonnull double[] results) {
+        applyAsDoubleParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDoubleParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull boolean[] values3,
+            @Nonnull double[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsDouble(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -511,10 +687,15 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
      * the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiObjBooleanFunction<T, U, S> andThen(@Nonnull DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanFunction.constant(after.apply(applyAsDouble(null, null, false)));
+        }
         return (t, u, value) -> after.apply(applyAsDouble(t, u, value));
     }
 
@@ -530,10 +711,15 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanPredicate<T, U> andThenToBoolean(@Nonnull DoublePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanPredicate.constant(after.test(applyAsDouble(null, null, false)));
+        }
         return (t, u, value) -> after.test(applyAsDouble(t, u, value));
     }
 
@@ -549,10 +735,15 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToByteFunction<T, U> andThenToByte(@Nonnull DoubleToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToByteFunction.constant(after.applyAsByte(applyAsDouble(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsByte(applyAsDouble(t, u, value));
     }
 
@@ -568,10 +759,15 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToCharFunction<T, U> andThenToChar(@Nonnull DoubleToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToCharFunction.constant(after.applyAsChar(applyAsDouble(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsChar(applyAsDouble(t, u, value));
     }
 
@@ -591,6 +787,9 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
     @Nonnull
     default BiObjBooleanToDoubleFunction<T, U> andThenToDouble(@Nonnull DoubleUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
         return (t, u, value) -> after.applyAsDouble(applyAsDouble(t, u, value));
     }
 
@@ -606,10 +805,15 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToFloatFunction<T, U> andThenToFloat(@Nonnull DoubleToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToFloatFunction.constant(after.applyAsFloat(applyAsDouble(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsFloat(applyAsDouble(t, u, value));
     }
 
@@ -625,10 +829,15 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToIntFunction<T, U> andThenToInt(@Nonnull DoubleToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToIntFunction.constant(after.applyAsInt(applyAsDouble(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsInt(applyAsDouble(t, u, value));
     }
 
@@ -644,10 +853,15 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToLongFunction<T, U> andThenToLong(@Nonnull DoubleToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToLongFunction.constant(after.applyAsLong(applyAsDouble(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsLong(applyAsDouble(t, u, value));
     }
 
@@ -663,10 +877,15 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToShortFunction<T, U> andThenToShort(@Nonnull DoubleToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToShortFunction.constant(after.applyAsShort(applyAsDouble(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsShort(applyAsDouble(t, u, value));
     }
 
@@ -715,14 +934,85 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, U, Boolean>, Double> cache = new ConcurrentHashMap<>();
-            return (BiObjBooleanToDoubleFunction<T, U> & Memoized) (t, u, value) -> {
-                return cache.computeIfAbsent(Triple.of(t, u, value),
-                        key -> applyAsDouble(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiObjBooleanToDoubleFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiObjBooleanToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiObjBooleanToDoubleFunction<T, U> memoized(@Nonnull MemoStore<Triple<T, U, Boolean>, Double> store) {
+        Objects.requireNonNull(store);
+        return (BiObjBooleanToDoubleFunction<T, U> & Memoized) (t, u, value) -> {
+            return store.computeIfAbsent(Triple.of(t, u, value),
+                    key -> applyAsDouble(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiObjBooleanToDoubleFunction}. In contrast to
+     * {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiObjBooleanToDoubleFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiObjBooleanToDoubleFunction<T, U> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiObjBooleanToDoubleFunction}, which uses the
+     * given {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiObjBooleanToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiObjBooleanToDoubleFunction<T, U> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, U, Boolean>, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiObjBooleanToDoubleFunction<T, U> & Memoized) (t, u, value) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, u, value),
+                    key -> applyAsDouble(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link BiObjBooleanToDoubleFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -732,6 +1022,24 @@ public interface BiObjBooleanToDoubleFunction<T, U> extends Lambda {
      */
     @Nonnull
     default TriFunction<T, U, Boolean, Double> boxed() {
-        return this::applyAsDouble;
+        /**
+         * A {@code TriFunction} which applies this {@code BiObjBooleanToDoubleFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<T, U, Boolean, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code BiObjBooleanToDoubleFunction}.
+             */
+            Boxed() {
+                super(BiObjBooleanToDoubleFunction.this);
+            }
+
+            @Override
+            public Double apply(T t, U u, Boolean v) {
+                return BiObjBooleanToDoubleFunction.this.applyAsDouble(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
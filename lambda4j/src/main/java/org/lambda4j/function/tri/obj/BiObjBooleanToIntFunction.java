@@ -16,9 +16,9 @@
 
 package org.lambda4j.function.tri.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -42,6 +42,10 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.tri.obj.BiObjBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -65,8 +69,14 @@ import org.lambda4j.function.tri.conversion.TriFloatToIntFunction;
 import org.lambda4j.function.tri.conversion.TriLongToIntFunction;
 import org.lambda4j.function.tri.conversion.TriShortToIntFunction;
 import org.lambda4j.function.tri.to.ToIntTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.IntTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
@@ -109,6 +119,54 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiObjBooleanToIntFunction} which represents the given boxed function, so that it can be used
+     * with the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the
+     * {@code BiObjBooleanToIntFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the
+     * returned function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code BiObjBooleanToIntFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U> BiObjBooleanToIntFunction<T, U> unboxed(
+            @Nonnull TriFunction<? super T, ? super U, ? super Boolean, ? extends Integer> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BiObjBooleanToIntFunction) {
+            return (BiObjBooleanToIntFunction<T, U>) original;
+        }
+        return (t, u, value) -> function.apply(t, u, value);
+    }
+
+    /**
+     * Lifts a partial {@link BiObjBooleanToIntFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiObjBooleanFunction} that returns an {@link OptionalInt} result. The result of
+     * the given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code BiObjBooleanToIntFunction} lifted into a total {@code BiObjBooleanFunction} that returns
+     * an {@code OptionalInt} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T, U> BiObjBooleanFunction<T, U, OptionalInt> lift(
+            @Nonnull BiObjBooleanPredicate<? super T, ? super U> isDefined,
+            @Nonnull BiObjBooleanToIntFunction<? super T, ? super U> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, u, value) -> isDefined.test(t, u, value)
+                ? OptionalUtils.ofInt(partial.applyAsInt(t, u, value))
+                : OptionalInt.empty();
+    }
+
     /**
      * Calls the given {@link BiObjBooleanToIntFunction} with the given arguments and returns its result.
      *
@@ -141,7 +199,25 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjBooleanToIntFunction<T, U> onlyFirst(@Nonnull ToIntFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, u, value) -> function.applyAsInt(t);
+        /**
+         * A {@code BiObjBooleanToIntFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiObjBooleanToIntFunction<T, U> {
+
+            /**
+             * Creates a {@code BiObjBooleanToIntFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public int applyAsInt(T t, U u, boolean value) {
+                return function.applyAsInt(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -158,7 +234,25 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjBooleanToIntFunction<T, U> onlySecond(@Nonnull ToIntFunction<? super U> function) {
         Objects.requireNonNull(function);
-        return (t, u, value) -> function.applyAsInt(u);
+        /**
+         * A {@code BiObjBooleanToIntFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiObjBooleanToIntFunction<T, U> {
+
+            /**
+             * Creates a {@code BiObjBooleanToIntFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public int applyAsInt(T t, U u, boolean value) {
+                return function.applyAsInt(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -175,11 +269,31 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjBooleanToIntFunction<T, U> onlyThird(@Nonnull BooleanToIntFunction function) {
         Objects.requireNonNull(function);
-        return (t, u, value) -> function.applyAsInt(value);
+        /**
+         * A {@code BiObjBooleanToIntFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements BiObjBooleanToIntFunction<T, U> {
+
+            /**
+             * Creates a {@code BiObjBooleanToIntFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public int applyAsInt(T t, U u, boolean value) {
+                return function.applyAsInt(value);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link BiObjBooleanToIntFunction} which always returns a given value.
+     * Creates a {@link BiObjBooleanToIntFunction} which always returns a given value. If it is composed with a
+     * following function, that function is applied to the value once when composing, and the composed function is a
+     * constant as well.
      *
      * @param <T> The type of the first argument to the function
      * @param <U> The type of the second argument to the function
@@ -188,7 +302,25 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> BiObjBooleanToIntFunction<T, U> constant(int ret) {
-        return (t, u, value) -> ret;
+        /**
+         * A {@code BiObjBooleanToIntFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiObjBooleanToIntFunction<T, U> {
+
+            /**
+             * Creates a constant {@code BiObjBooleanToIntFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public int applyAsInt(T t, U u, boolean value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -263,6 +395,51 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
         return u -> applyAsInt(t, u, value);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsIntParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull boolean[] values3,
+            @Nonnull int[] results) {
+        applyAsIntParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsIntParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull boolean[] values3,
+            @Nonnull int[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsInt(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -510,10 +687,15 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
      * the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiObjBooleanFunction<T, U, S> andThen(@Nonnull IntFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanFunction.constant(after.apply(applyAsInt(null, null, false)));
+        }
         return (t, u, value) -> after.apply(applyAsInt(t, u, value));
     }
 
@@ -529,10 +711,15 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanPredicate<T, U> andThenToBoolean(@Nonnull IntPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanPredicate.constant(after.test(applyAsInt(null, null, false)));
+        }
         return (t, u, value) -> after.test(applyAsInt(t, u, value));
     }
 
@@ -548,10 +735,15 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToByteFunction<T, U> andThenToByte(@Nonnull IntToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToByteFunction.constant(after.applyAsByte(applyAsInt(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsByte(applyAsInt(t, u, value));
     }
 
@@ -567,10 +759,15 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToCharFunction<T, U> andThenToChar(@Nonnull IntToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToCharFunction.constant(after.applyAsChar(applyAsInt(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsChar(applyAsInt(t, u, value));
     }
 
@@ -586,10 +783,15 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToDoubleFunction<T, U> andThenToDouble(@Nonnull IntToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsInt(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsDouble(applyAsInt(t, u, value));
     }
 
@@ -605,10 +807,15 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToFloatFunction<T, U> andThenToFloat(@Nonnull IntToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToFloatFunction.constant(after.applyAsFloat(applyAsInt(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsFloat(applyAsInt(t, u, value));
     }
 
@@ -628,6 +835,9 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
     @Nonnull
     default BiObjBooleanToIntFunction<T, U> andThenToInt(@Nonnull IntUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
         return (t, u, value) -> after.applyAsInt(applyAsInt(t, u, value));
     }
 
@@ -643,10 +853,15 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToLongFunction<T, U> andThenToLong(@Nonnull IntToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToLongFunction.constant(after.applyAsLong(applyAsInt(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsLong(applyAsInt(t, u, value));
     }
 
@@ -662,10 +877,15 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToShortFunction<T, U> andThenToShort(@Nonnull IntToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToShortFunction.constant(after.applyAsShort(applyAsInt(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsShort(applyAsInt(t, u, value));
     }
 
@@ -714,14 +934,85 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, U, Boolean>, Integer> cache = new ConcurrentHashMap<>();
-            return (BiObjBooleanToIntFunction<T, U> & Memoized) (t, u, value) -> {
-                return cache.computeIfAbsent(Triple.of(t, u, value),
-                        key -> applyAsInt(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiObjBooleanToIntFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code BiObjBooleanToIntFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiObjBooleanToIntFunction<T, U> memoized(@Nonnull MemoStore<Triple<T, U, Boolean>, Integer> store) {
+        Objects.requireNonNull(store);
+        return (BiObjBooleanToIntFunction<T, U> & Memoized) (t, u, value) -> {
+            return store.computeIfAbsent(Triple.of(t, u, value),
+                    key -> applyAsInt(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiObjBooleanToIntFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiObjBooleanToIntFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiObjBooleanToIntFunction<T, U> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiObjBooleanToIntFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code BiObjBooleanToIntFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiObjBooleanToIntFunction<T, U> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, U, Boolean>, Integer> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiObjBooleanToIntFunction<T, U> & Memoized) (t, u, value) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, u, value),
+                    key -> applyAsInt(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link BiObjBooleanToIntFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -731,6 +1022,24 @@ public interface BiObjBooleanToIntFunction<T, U> extends Lambda {
      */
     @Nonnull
     default TriFunction<T, U, Boolean, Integer> boxed() {
-        return this::applyAsInt;
+        /**
+         * A {@code TriFunction} which applies this {@code BiObjBooleanToIntFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<T, U, Boolean, Integer> {
+
+            /**
+             * Creates the boxed variant of this {@code BiObjBooleanToIntFunction}.
+             */
+            Boxed() {
+                super(BiObjBooleanToIntFunction.this);
+            }
+
+            @Override
+            public Integer apply(T t, U u, Boolean v) {
+                return BiObjBooleanToIntFunction.this.applyAsInt(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
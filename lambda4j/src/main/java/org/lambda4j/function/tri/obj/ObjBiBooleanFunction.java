@@ -16,10 +16,9 @@
 
 package org.lambda4j.function.tri.obj;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -38,6 +37,10 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.tri.obj.ObjBiBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.ByteFunction;
@@ -56,6 +59,11 @@ import org.lambda4j.function.tri.TriFunction;
 import org.lambda4j.function.tri.TriIntFunction;
 import org.lambda4j.function.tri.TriLongFunction;
 import org.lambda4j.function.tri.TriShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
@@ -98,6 +106,30 @@ public interface ObjBiBooleanFunction<T, R> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjBiBooleanFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ObjBiBooleanFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <R> The type of return value from the function
+     * @param function The boxed function to be represented
+     * @return A {@code ObjBiBooleanFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, R> ObjBiBooleanFunction<T, R> unboxed(
+            @Nonnull TriFunction<? super T, ? super Boolean, ? super Boolean, ? extends R> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ObjBiBooleanFunction) {
+            return (ObjBiBooleanFunction<T, R>) original;
+        }
+        return (t, value1, value2) -> function.apply(t, value1, value2);
+    }
+
     /**
      * Lifts a partial {@link ObjBiBooleanFunction} into a total {@link ObjBiBooleanFunction} that returns an {@link
      * Optional} result.
@@ -148,7 +180,25 @@ public interface ObjBiBooleanFunction<T, R> extends Lambda {
     @Nonnull
     static <T, R> ObjBiBooleanFunction<T, R> onlyFirst(@Nonnull Function<? super T, ? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, value1, value2) -> function.apply(t);
+        /**
+         * A {@code ObjBiBooleanFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjBiBooleanFunction<T, R> {
+
+            /**
+             * Creates a {@code ObjBiBooleanFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public R apply(T t, boolean value1, boolean value2) {
+                return function.apply(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -165,7 +215,25 @@ public interface ObjBiBooleanFunction<T, R> extends Lambda {
     @Nonnull
     static <T, R> ObjBiBooleanFunction<T, R> onlySecond(@Nonnull BooleanFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, value1, value2) -> function.apply(value1);
+        /**
+         * A {@code ObjBiBooleanFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjBiBooleanFunction<T, R> {
+
+            /**
+             * Creates a {@code ObjBiBooleanFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public R apply(T t, boolean value1, boolean value2) {
+                return function.apply(value1);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -182,11 +250,31 @@ public interface ObjBiBooleanFunction<T, R> extends Lambda {
     @Nonnull
     static <T, R> ObjBiBooleanFunction<T, R> onlyThird(@Nonnull BooleanFunction<? extends R> function) {
         Objects.requireNonNull(function);
-        return (t, value1, value2) -> function.apply(value2);
+        /**
+         * A {@code ObjBiBooleanFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements ObjBiBooleanFunction<T, R> {
+
+            /**
+             * Creates a {@code ObjBiBooleanFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public R apply(T t, boolean value1, boolean value2) {
+                return function.apply(value2);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link ObjBiBooleanFunction} which always returns a given value.
+     * Creates a {@link ObjBiBooleanFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the function
      * @param <R> The type of return value from the function
@@ -195,7 +283,25 @@ public interface ObjBiBooleanFunction<T, R> extends Lambda {
      */
     @Nonnull
     static <T, R> ObjBiBooleanFunction<T, R> constant(R ret) {
-        return (t, value1, value2) -> ret;
+        /**
+         * A {@code ObjBiBooleanFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjBiBooleanFunction<T, R> {
+
+            /**
+             * Creates a constant {@code ObjBiBooleanFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public R apply(T t, boolean value1, boolean value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -254,6 +360,51 @@ public interface ObjBiBooleanFunction<T, R> extends Lambda {
         return t -> apply(t, value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyParallel(@Nonnull T[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull R[] results) {
+        applyParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyParallel(@Nonnull T[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull R[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = apply(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -494,10 +645,15 @@ public interface ObjBiBooleanFunction<T, R> extends Lambda {
      * the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ObjBiBooleanFunction<T, S> andThen(@Nonnull Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanFunction.constant(after.apply(apply(null, false, false)));
+        }
         return (t, value1, value2) -> after.apply(apply(t, value1, value2));
     }
 
@@ -536,14 +692,85 @@ public interface ObjBiBooleanFunction<T, R> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, Boolean, Boolean>, R> cache = new ConcurrentHashMap<>();
-            return (ObjBiBooleanFunction<T, R> & Memoized) (t, value1, value2) -> {
-                return cache.computeIfAbsent(Triple.of(t, value1, value2),
-                        key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ObjBiBooleanFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ObjBiBooleanFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ObjBiBooleanFunction<T, R> memoized(@Nonnull MemoStore<Triple<T, Boolean, Boolean>, R> store) {
+        Objects.requireNonNull(store);
+        return (ObjBiBooleanFunction<T, R> & Memoized) (t, value1, value2) -> {
+            return store.computeIfAbsent(Triple.of(t, value1, value2),
+                    key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBiBooleanFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ObjBiBooleanFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ObjBiBooleanFunction<T, R> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBiBooleanFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ObjBiBooleanFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ObjBiBooleanFunction<T, R> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, Boolean, Boolean>, R> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ObjBiBooleanFunction<T, R> & Memoized) (t, value1, value2) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, value1, value2),
+                    key -> apply(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link ObjBiBooleanFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -553,6 +780,24 @@ public interface ObjBiBooleanFunction<T, R> extends Lambda {
      */
     @Nonnull
     default TriFunction<T, Boolean, Boolean, R> boxed() {
-        return this::apply;
+        /**
+         * A {@code TriFunction} which applies this {@code ObjBiBooleanFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<T, Boolean, Boolean, R> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjBiBooleanFunction}.
+             */
+            Boxed() {
+                super(ObjBiBooleanFunction.this);
+            }
+
+            @Override
+            public R apply(T t, Boolean u, Boolean v) {
+                return ObjBiBooleanFunction.this.apply(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.tri.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -36,6 +35,10 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.ByteConsumer;
 import org.lambda4j.consumer.tri.obj.ObjBiBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -62,9 +65,15 @@ import org.lambda4j.function.tri.conversion.TriIntToByteFunction;
 import org.lambda4j.function.tri.conversion.TriLongToByteFunction;
 import org.lambda4j.function.tri.conversion.TriShortToByteFunction;
 import org.lambda4j.function.tri.to.ToByteTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.ByteTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
+import org.lambda4j.optional.OptionalByte;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
@@ -105,6 +114,51 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjBiBooleanToByteFunction} which represents the given boxed function, so that it can be used
+     * with the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the
+     * {@code ObjBiBooleanToByteFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the
+     * returned function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ObjBiBooleanToByteFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjBiBooleanToByteFunction<T> unboxed(
+            @Nonnull TriFunction<? super T, ? super Boolean, ? super Boolean, ? extends Byte> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ObjBiBooleanToByteFunction) {
+            return (ObjBiBooleanToByteFunction<T>) original;
+        }
+        return (t, value1, value2) -> function.apply(t, value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link ObjBiBooleanToByteFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link ObjBiBooleanFunction} that returns an {@link OptionalByte} result. The result of
+     * the given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ObjBiBooleanToByteFunction} lifted into a total {@code ObjBiBooleanFunction} that
+     * returns an {@code OptionalByte} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T> ObjBiBooleanFunction<T, OptionalByte> lift(@Nonnull ObjBiBooleanPredicate<? super T> isDefined,
+            @Nonnull ObjBiBooleanToByteFunction<? super T> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, value1, value2) -> isDefined.test(t, value1, value2)
+                ? OptionalByte.of(partial.applyAsByte(t, value1, value2))
+                : OptionalByte.empty();
+    }
+
     /**
      * Calls the given {@link ObjBiBooleanToByteFunction} with the given arguments and returns its result.
      *
@@ -135,7 +189,25 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjBiBooleanToByteFunction<T> onlyFirst(@Nonnull ToByteFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, value1, value2) -> function.applyAsByte(t);
+        /**
+         * A {@code ObjBiBooleanToByteFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjBiBooleanToByteFunction<T> {
+
+            /**
+             * Creates a {@code ObjBiBooleanToByteFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public byte applyAsByte(T t, boolean value1, boolean value2) {
+                return function.applyAsByte(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -151,7 +223,25 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjBiBooleanToByteFunction<T> onlySecond(@Nonnull BooleanToByteFunction function) {
         Objects.requireNonNull(function);
-        return (t, value1, value2) -> function.applyAsByte(value1);
+        /**
+         * A {@code ObjBiBooleanToByteFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjBiBooleanToByteFunction<T> {
+
+            /**
+             * Creates a {@code ObjBiBooleanToByteFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public byte applyAsByte(T t, boolean value1, boolean value2) {
+                return function.applyAsByte(value1);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -167,11 +257,31 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjBiBooleanToByteFunction<T> onlyThird(@Nonnull BooleanToByteFunction function) {
         Objects.requireNonNull(function);
-        return (t, value1, value2) -> function.applyAsByte(value2);
+        /**
+         * A {@code ObjBiBooleanToByteFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements ObjBiBooleanToByteFunction<T> {
+
+            /**
+             * Creates a {@code ObjBiBooleanToByteFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public byte applyAsByte(T t, boolean value1, boolean value2) {
+                return function.applyAsByte(value2);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link ObjBiBooleanToByteFunction} which always returns a given value.
+     * Creates a {@link ObjBiBooleanToByteFunction} which always returns a given value. If it is composed with a
+     * following function, that function is applied to the value once when composing, and the composed function is a
+     * constant as well.
      *
      * @param <T> The type of the first argument to the function
      * @param ret The return value for the constant
@@ -179,7 +289,25 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjBiBooleanToByteFunction<T> constant(byte ret) {
-        return (t, value1, value2) -> ret;
+        /**
+         * A {@code ObjBiBooleanToByteFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjBiBooleanToByteFunction<T> {
+
+            /**
+             * Creates a constant {@code ObjBiBooleanToByteFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public byte applyAsByte(T t, boolean value1, boolean value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -241,6 +369,51 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
         return t -> applyAsByte(t, value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsByteParallel(@Nonnull T[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull byte[] results) {
+        applyAsByteParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsByteParallel(@Nonnull T[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull byte[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsByte(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -488,10 +661,15 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
      * the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ObjBiBooleanFunction<T, S> andThen(@Nonnull ByteFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanFunction.constant(after.apply(applyAsByte(null, false, false)));
+        }
         return (t, value1, value2) -> after.apply(applyAsByte(t, value1, value2));
     }
 
@@ -507,10 +685,15 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanPredicate<T> andThenToBoolean(@Nonnull BytePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanPredicate.constant(after.test(applyAsByte(null, false, false)));
+        }
         return (t, value1, value2) -> after.test(applyAsByte(t, value1, value2));
     }
 
@@ -526,10 +709,18 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToByteFunction<T> andThenToByte(@Nonnull ByteUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToByteFunction.constant(after.applyAsByte(applyAsByte(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsByte(applyAsByte(t, value1, value2));
     }
 
@@ -545,10 +736,15 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToCharFunction<T> andThenToChar(@Nonnull ByteToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToCharFunction.constant(after.applyAsChar(applyAsByte(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsChar(applyAsByte(t, value1, value2));
     }
 
@@ -564,10 +760,15 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToDoubleFunction<T> andThenToDouble(@Nonnull ByteToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsByte(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsDouble(applyAsByte(t, value1, value2));
     }
 
@@ -583,10 +784,15 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToFloatFunction<T> andThenToFloat(@Nonnull ByteToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToFloatFunction.constant(after.applyAsFloat(applyAsByte(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsFloat(applyAsByte(t, value1, value2));
     }
 
@@ -602,10 +808,15 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToIntFunction<T> andThenToInt(@Nonnull ByteToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToIntFunction.constant(after.applyAsInt(applyAsByte(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsInt(applyAsByte(t, value1, value2));
     }
 
@@ -621,10 +832,15 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToLongFunction<T> andThenToLong(@Nonnull ByteToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToLongFunction.constant(after.applyAsLong(applyAsByte(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsLong(applyAsByte(t, value1, value2));
     }
 
@@ -640,10 +856,15 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToShortFunction<T> andThenToShort(@Nonnull ByteToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToShortFunction.constant(after.applyAsShort(applyAsByte(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsShort(applyAsByte(t, value1, value2));
     }
 
@@ -682,14 +903,85 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, Boolean, Boolean>, Byte> cache = new ConcurrentHashMap<>();
-            return (ObjBiBooleanToByteFunction<T> & Memoized) (t, value1, value2) -> {
-                return cache.computeIfAbsent(Triple.of(t, value1, value2),
-                        key -> applyAsByte(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ObjBiBooleanToByteFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ObjBiBooleanToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ObjBiBooleanToByteFunction<T> memoized(@Nonnull MemoStore<Triple<T, Boolean, Boolean>, Byte> store) {
+        Objects.requireNonNull(store);
+        return (ObjBiBooleanToByteFunction<T> & Memoized) (t, value1, value2) -> {
+            return store.computeIfAbsent(Triple.of(t, value1, value2),
+                    key -> applyAsByte(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBiBooleanToByteFunction}. In contrast to
+     * {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ObjBiBooleanToByteFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ObjBiBooleanToByteFunction<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBiBooleanToByteFunction}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ObjBiBooleanToByteFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ObjBiBooleanToByteFunction<T> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, Boolean, Boolean>, Byte> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ObjBiBooleanToByteFunction<T> & Memoized) (t, value1, value2) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, value1, value2),
+                    key -> applyAsByte(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link ObjBiBooleanToByteFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -699,6 +991,24 @@ public interface ObjBiBooleanToByteFunction<T> extends Lambda {
      */
     @Nonnull
     default TriFunction<T, Boolean, Boolean, Byte> boxed() {
-        return this::applyAsByte;
+        /**
+         * A {@code TriFunction} which applies this {@code ObjBiBooleanToByteFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<T, Boolean, Boolean, Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjBiBooleanToByteFunction}.
+             */
+            Boxed() {
+                super(ObjBiBooleanToByteFunction.this);
+            }
+
+            @Override
+            public Byte apply(T t, Boolean u, Boolean v) {
+                return ObjBiBooleanToByteFunction.this.applyAsByte(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.tri.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -36,6 +35,10 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.FloatConsumer;
 import org.lambda4j.consumer.tri.obj.ObjBiBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -62,9 +65,15 @@ import org.lambda4j.function.tri.conversion.TriIntToFloatFunction;
 import org.lambda4j.function.tri.conversion.TriLongToFloatFunction;
 import org.lambda4j.function.tri.conversion.TriShortToFloatFunction;
 import org.lambda4j.function.tri.to.ToFloatTriFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.FloatTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
+import org.lambda4j.optional.OptionalFloat;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
@@ -105,6 +114,51 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjBiBooleanToFloatFunction} which represents the given boxed function, so that it can be used
+     * with the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the
+     * {@code ObjBiBooleanToFloatFunction} it represents is returned, so that no values are boxed anymore. Otherwise,
+     * the returned function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ObjBiBooleanToFloatFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjBiBooleanToFloatFunction<T> unboxed(
+            @Nonnull TriFunction<? super T, ? super Boolean, ? super Boolean, ? extends Float> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ObjBiBooleanToFloatFunction) {
+            return (ObjBiBooleanToFloatFunction<T>) original;
+        }
+        return (t, value1, value2) -> function.apply(t, value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link ObjBiBooleanToFloatFunction}, which is only defined for the arguments accepted by the
+     * given predicate, into a total {@link ObjBiBooleanFunction} that returns an {@link OptionalFloat} result. The
+     * result of the given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ObjBiBooleanToFloatFunction} lifted into a total {@code ObjBiBooleanFunction} that
+     * returns an {@code OptionalFloat} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T> ObjBiBooleanFunction<T, OptionalFloat> lift(@Nonnull ObjBiBooleanPredicate<? super T> isDefined,
+            @Nonnull ObjBiBooleanToFloatFunction<? super T> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, value1, value2) -> isDefined.test(t, value1, value2)
+                ? OptionalFloat.of(partial.applyAsFloat(t, value1, value2))
+                : OptionalFloat.empty();
+    }
+
     /**
      * Calls the given {@link ObjBiBooleanToFloatFunction} with the given arguments and returns its result.
      *
@@ -135,7 +189,25 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjBiBooleanToFloatFunction<T> onlyFirst(@Nonnull ToFloatFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, value1, value2) -> function.applyAsFloat(t);
+        /**
+         * A {@code ObjBiBooleanToFloatFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjBiBooleanToFloatFunction<T> {
+
+            /**
+             * Creates a {@code ObjBiBooleanToFloatFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public float applyAsFloat(T t, boolean value1, boolean value2) {
+                return function.applyAsFloat(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -151,7 +223,25 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjBiBooleanToFloatFunction<T> onlySecond(@Nonnull BooleanToFloatFunction function) {
         Objects.requireNonNull(function);
-        return (t, value1, value2) -> function.applyAsFloat(value1);
+        /**
+         * A {@code ObjBiBooleanToFloatFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjBiBooleanToFloatFunction<T> {
+
+            /**
+             * Creates a {@code ObjBiBooleanToFloatFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public float applyAsFloat(T t, boolean value1, boolean value2) {
+                return function.applyAsFloat(value1);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -167,11 +257,31 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
     @Nonnull
     static <T> ObjBiBooleanToFloatFunction<T> onlyThird(@Nonnull BooleanToFloatFunction function) {
         Objects.requireNonNull(function);
-        return (t, value1, value2) -> function.applyAsFloat(value2);
+        /**
+         * A {@code ObjBiBooleanToFloatFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements ObjBiBooleanToFloatFunction<T> {
+
+            /**
+             * Creates a {@code ObjBiBooleanToFloatFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public float applyAsFloat(T t, boolean value1, boolean value2) {
+                return function.applyAsFloat(value2);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link ObjBiBooleanToFloatFunction} which always returns a given value.
+     * Creates a {@link ObjBiBooleanToFloatFunction} which always returns a given value. If it is composed with a
+     * following function, that function is applied to the value once when composing, and the composed function is a
+     * constant as well.
      *
      * @param <T> The type of the first argument to the function
      * @param ret The return value for the constant
@@ -179,7 +289,25 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjBiBooleanToFloatFunction<T> constant(float ret) {
-        return (t, value1, value2) -> ret;
+        /**
+         * A {@code ObjBiBooleanToFloatFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjBiBooleanToFloatFunction<T> {
+
+            /**
+             * Creates a constant {@code ObjBiBooleanToFloatFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public float applyAsFloat(T t, boolean value1, boolean value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -241,6 +369,51 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
         return t -> applyAsFloat(t, value1, value2);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsFloatParallel(@Nonnull T[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull float[] results) {
+        applyAsFloatParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsFloatParallel(@Nonnull T[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull float[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsFloat(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -488,10 +661,15 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
      * the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ObjBiBooleanFunction<T, S> andThen(@Nonnull FloatFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanFunction.constant(after.apply(applyAsFloat(null, false, false)));
+        }
         return (t, value1, value2) -> after.apply(applyAsFloat(t, value1, value2));
     }
 
@@ -507,10 +685,15 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanPredicate<T> andThenToBoolean(@Nonnull FloatPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanPredicate.constant(after.test(applyAsFloat(null, false, false)));
+        }
         return (t, value1, value2) -> after.test(applyAsFloat(t, value1, value2));
     }
 
@@ -526,10 +709,15 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToByteFunction<T> andThenToByte(@Nonnull FloatToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToByteFunction.constant(after.applyAsByte(applyAsFloat(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsByte(applyAsFloat(t, value1, value2));
     }
 
@@ -545,10 +733,15 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToCharFunction<T> andThenToChar(@Nonnull FloatToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToCharFunction.constant(after.applyAsChar(applyAsFloat(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsChar(applyAsFloat(t, value1, value2));
     }
 
@@ -564,10 +757,15 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToDoubleFunction<T> andThenToDouble(@Nonnull FloatToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsFloat(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsDouble(applyAsFloat(t, value1, value2));
     }
 
@@ -583,10 +781,18 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToFloatFunction<T> andThenToFloat(@Nonnull FloatUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToFloatFunction.constant(after.applyAsFloat(applyAsFloat(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsFloat(applyAsFloat(t, value1, value2));
     }
 
@@ -602,10 +808,15 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToIntFunction<T> andThenToInt(@Nonnull FloatToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToIntFunction.constant(after.applyAsInt(applyAsFloat(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsInt(applyAsFloat(t, value1, value2));
     }
 
@@ -621,10 +832,15 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToLongFunction<T> andThenToLong(@Nonnull FloatToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToLongFunction.constant(after.applyAsLong(applyAsFloat(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsLong(applyAsFloat(t, value1, value2));
     }
 
@@ -640,10 +856,15 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiBooleanToShortFunction<T> andThenToShort(@Nonnull FloatToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiBooleanToShortFunction.constant(after.applyAsShort(applyAsFloat(null, false, false)));
+        }
         return (t, value1, value2) -> after.applyAsShort(applyAsFloat(t, value1, value2));
     }
 
@@ -682,14 +903,85 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, Boolean, Boolean>, Float> cache = new ConcurrentHashMap<>();
-            return (ObjBiBooleanToFloatFunction<T> & Memoized) (t, value1, value2) -> {
-                return cache.computeIfAbsent(Triple.of(t, value1, value2),
-                        key -> applyAsFloat(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ObjBiBooleanToFloatFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ObjBiBooleanToFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ObjBiBooleanToFloatFunction<T> memoized(@Nonnull MemoStore<Triple<T, Boolean, Boolean>, Float> store) {
+        Objects.requireNonNull(store);
+        return (ObjBiBooleanToFloatFunction<T> & Memoized) (t, value1, value2) -> {
+            return store.computeIfAbsent(Triple.of(t, value1, value2),
+                    key -> applyAsFloat(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBiBooleanToFloatFunction}. In contrast to
+     * {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ObjBiBooleanToFloatFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ObjBiBooleanToFloatFunction<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBiBooleanToFloatFunction}, which uses the
+     * given {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ObjBiBooleanToFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ObjBiBooleanToFloatFunction<T> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, Boolean, Boolean>, Float> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ObjBiBooleanToFloatFunction<T> & Memoized) (t, value1, value2) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, value1, value2),
+                    key -> applyAsFloat(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link ObjBiBooleanToFloatFunction}. Thereby the
      * primitive input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -699,6 +991,24 @@ public interface ObjBiBooleanToFloatFunction<T> extends Lambda {
      */
     @Nonnull
     default TriFunction<T, Boolean, Boolean, Float> boxed() {
-        return this::applyAsFloat;
+        /**
+         * A {@code TriFunction} which applies this {@code ObjBiBooleanToFloatFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<T, Boolean, Boolean, Float> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjBiBooleanToFloatFunction}.
+             */
+            Boxed() {
+                super(ObjBiBooleanToFloatFunction.this);
+            }
+
+            @Override
+            public Float apply(T t, Boolean u, Boolean v) {
+                return ObjBiBooleanToFloatFunction.this.applyAsFloat(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.tri.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -61,6 +60,9 @@ import org.lambda4j.function.tri.conversion.ThrowableTriIntToDoubleFunction;
 import org.lambda4j.function.tri.conversion.ThrowableTriLongToDoubleFunction;
 import org.lambda4j.function.tri.conversion.ThrowableTriShortToDoubleFunction;
 import org.lambda4j.function.tri.to.ThrowableToDoubleTriFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.ThrowableDoubleTernaryOperator;
 import org.lambda4j.operator.unary.ThrowableBooleanUnaryOperator;
 import org.lambda4j.operator.unary.ThrowableDoubleUnaryOperator;
@@ -116,6 +118,31 @@ public interface ThrowableBiObjBooleanToDoubleFunction<T, U, X extends Throwable
         return expression;
     }
 
+    /**
+     * Lifts a partial {@link ThrowableBiObjBooleanToDoubleFunction}, which is only defined for the arguments accepted
+     * by the given predicate, into a total {@link ThrowableBiObjBooleanFunction} that returns an {@link OptionalDouble}
+     * result. The result of the given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ThrowableBiObjBooleanToDoubleFunction} lifted into a total {@code
+     * ThrowableBiObjBooleanFunction} that returns an {@code OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T, U, X extends Throwable> ThrowableBiObjBooleanFunction<T, U, OptionalDouble, X> lift(
+            @Nonnull ThrowableBiObjBooleanPredicate<? super T, ? super U, ? extends X> isDefined,
+            @Nonnull ThrowableBiObjBooleanToDoubleFunction<? super T, ? super U, ? extends X> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, u, value) -> isDefined.testThrows(t, u, value)
+                ? OptionalDouble.of(partial.applyAsDoubleThrows(t, u, value))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link ThrowableBiObjBooleanToDoubleFunction} with the given arguments and returns its result.
      *
@@ -746,14 +773,86 @@ public interface ThrowableBiObjBooleanToDoubleFunction<T, U, X extends Throwable
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, U, Boolean>, Double> cache = new ConcurrentHashMap<>();
-            return (ThrowableBiObjBooleanToDoubleFunction<T, U, X> & Memoized) (t, u, value) -> {
-                return cache.computeIfAbsent(Triple.of(t, u, value), ThrowableFunction.of(
-                        key -> applyAsDoubleThrows(key.getLeft(), key.getMiddle(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableBiObjBooleanToDoubleFunction}, which caches its
+     * values in the given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store
+     * using the input parameters as key, and only computed if the store does not hold a value for them yet. This allows
+     * to choose how and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableBiObjBooleanToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableBiObjBooleanToDoubleFunction<T, U, X> memoized(
+            @Nonnull MemoStore<Triple<T, U, Boolean>, Double> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableBiObjBooleanToDoubleFunction<T, U, X> & Memoized) (t, u, value) -> {
+            return store.computeIfAbsent(Triple.of(t, u, value),
+                    ThrowableFunction.of(key -> applyAsDoubleThrows(key.getLeft(), key.getMiddle(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBiObjBooleanToDoubleFunction}. In
+     * contrast to {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost
+     * of this function at runtime, and switches between passing through, caching every value and caching a bounded
+     * number of values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBiObjBooleanToDoubleFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableBiObjBooleanToDoubleFunction<T, U, X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBiObjBooleanToDoubleFunction}, which
+     * uses the given {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer
+     * allows to observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBiObjBooleanToDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableBiObjBooleanToDoubleFunction<T, U, X> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, U, Boolean>, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableBiObjBooleanToDoubleFunction<T, U, X> & Memoized) (t, u, value) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, u, value),
+                    ThrowableFunction.of(key -> applyAsDoubleThrows(key.getLeft(), key.getMiddle(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableTriFunction} which represents this {@link
      * ThrowableBiObjBooleanToDoubleFunction}. Thereby the primitive input argument for this function is autoboxed. This
@@ -16,9 +16,7 @@
 
 package org.lambda4j.function.tri.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -61,9 +59,13 @@ import org.lambda4j.function.tri.conversion.ThrowableTriIntToFloatFunction;
 import org.lambda4j.function.tri.conversion.ThrowableTriLongToFloatFunction;
 import org.lambda4j.function.tri.conversion.ThrowableTriShortToFloatFunction;
 import org.lambda4j.function.tri.to.ThrowableToFloatTriFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.ThrowableFloatTernaryOperator;
 import org.lambda4j.operator.unary.ThrowableBooleanUnaryOperator;
 import org.lambda4j.operator.unary.ThrowableFloatUnaryOperator;
+import org.lambda4j.optional.OptionalFloat;
 import org.lambda4j.predicate.ThrowableBytePredicate;
 import org.lambda4j.predicate.ThrowableCharPredicate;
 import org.lambda4j.predicate.ThrowableDoublePredicate;
@@ -116,6 +118,31 @@ public interface ThrowableBiObjBooleanToFloatFunction<T, U, X extends Throwable>
         return expression;
     }
 
+    /**
+     * Lifts a partial {@link ThrowableBiObjBooleanToFloatFunction}, which is only defined for the arguments accepted by
+     * the given predicate, into a total {@link ThrowableBiObjBooleanFunction} that returns an {@link OptionalFloat}
+     * result. The result of the given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ThrowableBiObjBooleanToFloatFunction} lifted into a total {@code
+     * ThrowableBiObjBooleanFunction} that returns an {@code OptionalFloat} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T, U, X extends Throwable> ThrowableBiObjBooleanFunction<T, U, OptionalFloat, X> lift(
+            @Nonnull ThrowableBiObjBooleanPredicate<? super T, ? super U, ? extends X> isDefined,
+            @Nonnull ThrowableBiObjBooleanToFloatFunction<? super T, ? super U, ? extends X> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, u, value) -> isDefined.testThrows(t, u, value)
+                ? OptionalFloat.of(partial.applyAsFloatThrows(t, u, value))
+                : OptionalFloat.empty();
+    }
+
     /**
      * Calls the given {@link ThrowableBiObjBooleanToFloatFunction} with the given arguments and returns its result.
      *
@@ -746,14 +773,86 @@ public interface ThrowableBiObjBooleanToFloatFunction<T, U, X extends Throwable>
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, U, Boolean>, Float> cache = new ConcurrentHashMap<>();
-            return (ThrowableBiObjBooleanToFloatFunction<T, U, X> & Memoized) (t, u, value) -> {
-                return cache.computeIfAbsent(Triple.of(t, u, value), ThrowableFunction.of(
-                        key -> applyAsFloatThrows(key.getLeft(), key.getMiddle(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableBiObjBooleanToFloatFunction}, which caches its
+     * values in the given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store
+     * using the input parameters as key, and only computed if the store does not hold a value for them yet. This allows
+     * to choose how and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableBiObjBooleanToFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableBiObjBooleanToFloatFunction<T, U, X> memoized(
+            @Nonnull MemoStore<Triple<T, U, Boolean>, Float> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableBiObjBooleanToFloatFunction<T, U, X> & Memoized) (t, u, value) -> {
+            return store.computeIfAbsent(Triple.of(t, u, value),
+                    ThrowableFunction.of(key -> applyAsFloatThrows(key.getLeft(), key.getMiddle(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBiObjBooleanToFloatFunction}. In
+     * contrast to {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost
+     * of this function at runtime, and switches between passing through, caching every value and caching a bounded
+     * number of values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBiObjBooleanToFloatFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableBiObjBooleanToFloatFunction<T, U, X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBiObjBooleanToFloatFunction}, which uses
+     * the given {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer
+     * allows to observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBiObjBooleanToFloatFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableBiObjBooleanToFloatFunction<T, U, X> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, U, Boolean>, Float> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableBiObjBooleanToFloatFunction<T, U, X> & Memoized) (t, u, value) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, u, value),
+                    ThrowableFunction.of(key -> applyAsFloatThrows(key.getLeft(), key.getMiddle(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableTriFunction} which represents this {@link
      * ThrowableBiObjBooleanToFloatFunction}. Thereby the primitive input argument for this function is autoboxed. This
@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.tri.to;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
 import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
@@ -57,6 +56,9 @@ import org.lambda4j.function.tri.conversion.ThrowableTriFloatToDoubleFunction;
 import org.lambda4j.function.tri.conversion.ThrowableTriIntToDoubleFunction;
 import org.lambda4j.function.tri.conversion.ThrowableTriLongToDoubleFunction;
 import org.lambda4j.function.tri.conversion.ThrowableTriShortToDoubleFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.ThrowableDoubleTernaryOperator;
 import org.lambda4j.operator.unary.ThrowableDoubleUnaryOperator;
 import org.lambda4j.predicate.ThrowableDoublePredicate;
@@ -105,6 +107,32 @@ public interface ThrowableToDoubleTriFunction<T, U, V, X extends Throwable> exte
         return expression;
     }
 
+    /**
+     * Lifts a partial {@link ThrowableToDoubleTriFunction}, which is only defined for the arguments accepted by the
+     * given predicate, into a total {@link ThrowableTriFunction} that returns an {@link OptionalDouble} result. The
+     * result of the given function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param <V> The type of the third argument to the function
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ThrowableToDoubleTriFunction} lifted into a total {@code ThrowableTriFunction} that
+     * returns an {@code OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T, U, V, X extends Throwable> ThrowableTriFunction<T, U, V, OptionalDouble, X> lift(
+            @Nonnull ThrowableTriPredicate<? super T, ? super U, ? super V, ? extends X> isDefined,
+            @Nonnull ThrowableToDoubleTriFunction<? super T, ? super U, ? super V, ? extends X> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, u, v) -> isDefined.testThrows(t, u, v)
+                ? OptionalDouble.of(partial.applyAsDoubleThrows(t, u, v))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link ThrowableToDoubleTriFunction} with the given arguments and returns its result.
      *
@@ -721,14 +749,85 @@ public interface ThrowableToDoubleTriFunction<T, U, V, X extends Throwable> exte
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, U, V>, Double> cache = new ConcurrentHashMap<>();
-            return (ThrowableToDoubleTriFunction<T, U, V, X> & Memoized) (t, u, v) -> {
-                return cache.computeIfAbsent(Triple.of(t, u, v), ThrowableFunction.of(
-                        key -> applyAsDoubleThrows(key.getLeft(), key.getMiddle(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableToDoubleTriFunction}, which caches its values in the
+     * given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ThrowableToDoubleTriFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableToDoubleTriFunction<T, U, V, X> memoized(@Nonnull MemoStore<Triple<T, U, V>, Double> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableToDoubleTriFunction<T, U, V, X> & Memoized) (t, u, v) -> {
+            return store.computeIfAbsent(Triple.of(t, u, v),
+                    ThrowableFunction.of(key -> applyAsDoubleThrows(key.getLeft(), key.getMiddle(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableToDoubleTriFunction}. In contrast to
+     * {@link #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this
+     * function at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableToDoubleTriFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableToDoubleTriFunction<T, U, V, X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableToDoubleTriFunction}, which uses the
+     * given {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableToDoubleTriFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableToDoubleTriFunction<T, U, V, X> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, U, V>, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableToDoubleTriFunction<T, U, V, X> & Memoized) (t, u, v) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, u, v),
+                    ThrowableFunction.of(key -> applyAsDoubleThrows(key.getLeft(), key.getMiddle(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableTriFunction} which represents this {@link ThrowableToDoubleTriFunction}.
      * Thereby the primitive input argument for this function is autoboxed. This method provides the possibility to use
@@ -16,9 +16,8 @@
 
 package org.lambda4j.function.tri.to;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -32,6 +31,10 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.FloatConsumer;
 import org.lambda4j.consumer.tri.TriConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -55,8 +58,14 @@ import org.lambda4j.function.tri.conversion.TriDoubleToFloatFunction;
 import org.lambda4j.function.tri.conversion.TriIntToFloatFunction;
 import org.lambda4j.function.tri.conversion.TriLongToFloatFunction;
 import org.lambda4j.function.tri.conversion.TriShortToFloatFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.FloatTernaryOperator;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
+import org.lambda4j.optional.OptionalFloat;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.tri.TriPredicate;
 
@@ -98,6 +107,56 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ToFloatTriFunction} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ToFloatTriFunction} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, unboxing the results.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param <V> The type of the third argument to the function
+     * @param function The boxed function to be represented
+     * @return A {@code ToFloatTriFunction} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U, V> ToFloatTriFunction<T, U, V> unboxed(
+            @Nonnull TriFunction<? super T, ? super U, ? super V, ? extends Float> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ToFloatTriFunction) {
+            return (ToFloatTriFunction<T, U, V>) original;
+        }
+        return (t, u, v) -> function.apply(t, u, v);
+    }
+
+    /**
+     * Lifts a partial {@link ToFloatTriFunction}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link TriFunction} that returns an {@link OptionalFloat} result. The result of the given
+     * function is not boxed.
+     *
+     * @param <T> The type of the first argument to the function
+     * @param <U> The type of the second argument to the function
+     * @param <V> The type of the third argument to the function
+     * @param isDefined The predicate accepting the arguments for which the given function is defined
+     * @param partial A function that is only defined for some values in its domain
+     * @return A partial {@code ToFloatTriFunction} lifted into a total {@code TriFunction} that returns an {@code
+     * OptionalFloat} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <T, U, V> TriFunction<T, U, V, OptionalFloat> lift(
+            @Nonnull TriPredicate<? super T, ? super U, ? super V> isDefined,
+            @Nonnull ToFloatTriFunction<? super T, ? super U, ? super V> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (t, u, v) -> isDefined.test(t, u, v)
+                ? OptionalFloat.of(partial.applyAsFloat(t, u, v))
+                : OptionalFloat.empty();
+    }
+
     /**
      * Calls the given {@link ToFloatTriFunction} with the given arguments and returns its result.
      *
@@ -132,7 +191,25 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
     @Nonnull
     static <T, U, V> ToFloatTriFunction<T, U, V> onlyFirst(@Nonnull ToFloatFunction<? super T> function) {
         Objects.requireNonNull(function);
-        return (t, u, v) -> function.applyAsFloat(t);
+        /**
+         * A {@code ToFloatTriFunction} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ToFloatTriFunction<T, U, V> {
+
+            /**
+             * Creates a {@code ToFloatTriFunction} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, function);
+            }
+
+            @Override
+            public float applyAsFloat(T t, U u, V v) {
+                return function.applyAsFloat(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -150,7 +227,25 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
     @Nonnull
     static <T, U, V> ToFloatTriFunction<T, U, V> onlySecond(@Nonnull ToFloatFunction<? super U> function) {
         Objects.requireNonNull(function);
-        return (t, u, v) -> function.applyAsFloat(u);
+        /**
+         * A {@code ToFloatTriFunction} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ToFloatTriFunction<T, U, V> {
+
+            /**
+             * Creates a {@code ToFloatTriFunction} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, function);
+            }
+
+            @Override
+            public float applyAsFloat(T t, U u, V v) {
+                return function.applyAsFloat(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -168,11 +263,31 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
     @Nonnull
     static <T, U, V> ToFloatTriFunction<T, U, V> onlyThird(@Nonnull ToFloatFunction<? super V> function) {
         Objects.requireNonNull(function);
-        return (t, u, v) -> function.applyAsFloat(v);
+        /**
+         * A {@code ToFloatTriFunction} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements ToFloatTriFunction<T, U, V> {
+
+            /**
+             * Creates a {@code ToFloatTriFunction} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, function);
+            }
+
+            @Override
+            public float applyAsFloat(T t, U u, V v) {
+                return function.applyAsFloat(v);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link ToFloatTriFunction} which always returns a given value.
+     * Creates a {@link ToFloatTriFunction} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the function
      * @param <U> The type of the second argument to the function
@@ -182,7 +297,25 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
      */
     @Nonnull
     static <T, U, V> ToFloatTriFunction<T, U, V> constant(float ret) {
-        return (t, u, v) -> ret;
+        /**
+         * A {@code ToFloatTriFunction} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ToFloatTriFunction<T, U, V> {
+
+            /**
+             * Creates a constant {@code ToFloatTriFunction}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public float applyAsFloat(T t, U u, V v) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -231,6 +364,51 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
         return v -> applyAsFloat(t, u, v);
     }
 
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsFloatParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull V[] values3,
+            @Nonnull float[] results) {
+        applyAsFloatParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this function to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the function
+     * @param values2 The array of second arguments to the function
+     * @param values3 The array of third arguments to the function
+     * @param results The array in which the results of the function are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsFloatParallel(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull V[] values3,
+            @Nonnull float[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length, (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                results[i] = applyAsFloat(values1[i], values2[i], values3[i]);
+            }
+        });
+    }
+
     /**
      * Returns the number of arguments for this function.
      *
@@ -479,10 +657,15 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriFunction<T, U, V, S> andThen(@Nonnull FloatFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFunction.constant(after.apply(applyAsFloat(null, null, null)));
+        }
         return (t, u, v) -> after.apply(applyAsFloat(t, u, v));
     }
 
@@ -498,10 +681,15 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriPredicate<T, U, V> andThenToBoolean(@Nonnull FloatPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriPredicate.constant(after.test(applyAsFloat(null, null, null)));
+        }
         return (t, u, v) -> after.test(applyAsFloat(t, u, v));
     }
 
@@ -517,10 +705,15 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteTriFunction<T, U, V> andThenToByte(@Nonnull FloatToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteTriFunction.constant(after.applyAsByte(applyAsFloat(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsByte(applyAsFloat(t, u, v));
     }
 
@@ -536,10 +729,15 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharTriFunction<T, U, V> andThenToChar(@Nonnull FloatToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharTriFunction.constant(after.applyAsChar(applyAsFloat(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsChar(applyAsFloat(t, u, v));
     }
 
@@ -555,10 +753,15 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleTriFunction<T, U, V> andThenToDouble(@Nonnull FloatToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToDoubleTriFunction.constant(after.applyAsDouble(applyAsFloat(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsDouble(applyAsFloat(t, u, v));
     }
 
@@ -578,6 +781,9 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
     @Nonnull
     default ToFloatTriFunction<T, U, V> andThenToFloat(@Nonnull FloatUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
         return (t, u, v) -> after.applyAsFloat(applyAsFloat(t, u, v));
     }
 
@@ -593,10 +799,15 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntTriFunction<T, U, V> andThenToInt(@Nonnull FloatToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntTriFunction.constant(after.applyAsInt(applyAsFloat(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsInt(applyAsFloat(t, u, v));
     }
 
@@ -612,10 +823,15 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongTriFunction<T, U, V> andThenToLong(@Nonnull FloatToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongTriFunction.constant(after.applyAsLong(applyAsFloat(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsLong(applyAsFloat(t, u, v));
     }
 
@@ -631,10 +847,15 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this function is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortTriFunction<T, U, V> andThenToShort(@Nonnull FloatToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortTriFunction.constant(after.applyAsShort(applyAsFloat(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsShort(applyAsFloat(t, u, v));
     }
 
@@ -670,8 +891,31 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
      * @return A reversed version of this function.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default ToFloatTriFunction<V, U, T> reversed() {
-        return (v, u, t) -> applyAsFloat(t, u, v);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof ToFloatTriFunction) {
+            return (ToFloatTriFunction<V, U, T>) original;
+        }
+        /**
+         * A {@code ToFloatTriFunction} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements ToFloatTriFunction<V, U, T> {
+
+            /**
+             * Creates the reversal of this {@code ToFloatTriFunction}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, ToFloatTriFunction.this);
+            }
+
+            @Override
+            public float applyAsFloat(V v, U u, T t) {
+                return ToFloatTriFunction.this.applyAsFloat(t, u, v);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -693,14 +937,84 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, U, V>, Float> cache = new ConcurrentHashMap<>();
-            return (ToFloatTriFunction<T, U, V> & Memoized) (t, u, v) -> {
-                return cache.computeIfAbsent(Triple.of(t, u, v),
-                        key -> applyAsFloat(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ToFloatTriFunction}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param store The store which holds the values of the returned function
+     * @return A memoized (caching) version of this {@code ToFloatTriFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized function is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ToFloatTriFunction<T, U, V> memoized(@Nonnull MemoStore<Triple<T, U, V>, Float> store) {
+        Objects.requireNonNull(store);
+        return (ToFloatTriFunction<T, U, V> & Memoized) (t, u, v) -> {
+            return store.computeIfAbsent(Triple.of(t, u, v),
+                    key -> applyAsFloat(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToFloatTriFunction}. In contrast to {@link
+     * #memoized()}, the returned function samples the hit rate of its cache and the computation cost of this function
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ToFloatTriFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ToFloatTriFunction<T, U, V> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ToFloatTriFunction}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned function.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * function.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned function are cached
+     * @return An adaptively memoized (caching) version of this {@code ToFloatTriFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ToFloatTriFunction<T, U, V> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Triple<T, U, V>, Float> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ToFloatTriFunction<T, U, V> & Memoized) (t, u, v) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, u, v),
+                    key -> applyAsFloat(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriFunction} which represents this {@link ToFloatTriFunction}. Thereby the primitive
      * input argument for this function is autoboxed. This method provides the possibility to use this {@code
@@ -710,6 +1024,24 @@ public interface ToFloatTriFunction<T, U, V> extends Lambda {
      */
     @Nonnull
     default TriFunction<T, U, V, Float> boxed() {
-        return this::applyAsFloat;
+        /**
+         * A {@code TriFunction} which applies this {@code ToFloatTriFunction} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriFunction<T, U, V, Float> {
+
+            /**
+             * Creates the boxed variant of this {@code ToFloatTriFunction}.
+             */
+            Boxed() {
+                super(ToFloatTriFunction.this);
+            }
+
+            @Override
+            public Float apply(T t, U u, V v) {
+                return ToFloatTriFunction.this.applyAsFloat(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
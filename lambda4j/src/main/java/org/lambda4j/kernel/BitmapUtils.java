@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * Utility methods for bitmaps, which the bulk methods of the predicates of this library fill with their results.
+ * <p>
+ * A bitmap is a {@code long[]} whose bit {@code i % 64} of word {@code i / 64} tells whether the row at index {@code i}
+ * is selected, which is the layout of {@link java.util.BitSet#valueOf(long[])}. The results of several predicates over
+ * the same rows are combined by the bitwise operations of this class, and turned into a selection vector, which holds
+ * the indices of the selected rows in ascending order, by {@link #toSelection(long[], int[])}.
+ */
+public final class BitmapUtils {
+
+    /**
+     * The number of bits of a word of a bitmap, as a power of two.
+     */
+    private static final int ADDRESS_BITS = 6;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BitmapUtils() {
+    }
+
+    /**
+     * Returns the number of words of a bitmap holding the given number of bits.
+     *
+     * @param size The number of bits of the bitmap
+     * @return The number of words of a bitmap holding the given number of bits.
+     */
+    @Nonnegative
+    public static int length(@Nonnegative int size) {
+        return (size + Long.SIZE - 1) >>> ADDRESS_BITS;
+    }
+
+    /**
+     * Returns whether the bit at the given index of the given bitmap is set.
+     *
+     * @param bitmap The bitmap to be queried
+     * @param index The index of the bit
+     * @return {@code true} if the bit at the given index is set, otherwise {@code false}.
+     * @throws NullPointerException If given bitmap is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given index lies outside of given bitmap
+     */
+    public static boolean get(@Nonnull long[] bitmap, @Nonnegative int index) {
+        return (bitmap[index >>> ADDRESS_BITS] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the bit at the given index of the given bitmap.
+     *
+     * @param bitmap The bitmap to be modified
+     * @param index The index of the bit
+     * @throws NullPointerException If given bitmap is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given index lies outside of given bitmap
+     */
+    public static void set(@Nonnull long[] bitmap, @Nonnegative int index) {
+        bitmap[index >>> ADDRESS_BITS] |= 1L << index;
+    }
+
+    /**
+     * Clears all words of the given bitmap which hold a bit of an index less than the given size.
+     *
+     * @param bitmap The bitmap to be cleared
+     * @param size The number of bits to be cleared
+     * @throws NullPointerException If given bitmap is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given bitmap holds fewer than given number of bits
+     */
+    public static void clear(@Nonnull long[] bitmap, @Nonnegative int size) {
+        int length = length(size);
+        KernelUtils.checkRange(0, length, bitmap.length);
+        for (int i = 0; i < length; i++) {
+            bitmap[i] = 0L;
+        }
+    }
+
+    /**
+     * Stores the bitwise conjunction of the given bitmaps in the given result bitmap, whose length determines the
+     * number of combined words. The result bitmap may be one of the given bitmaps.
+     *
+     * @param bitmap1 The first bitmap
+     * @param bitmap2 The second bitmap
+     * @param results The bitmap in which the results are stored
+     * @throws NullPointerException If one of given bitmaps is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given bitmaps is shorter than given result bitmap
+     */
+    public static void and(@Nonnull long[] bitmap1, @Nonnull long[] bitmap2, @Nonnull long[] results) {
+        checkLengths(bitmap1, bitmap2, results);
+        for (int i = 0; i < results.length; i++) {
+            results[i] = bitmap1[i] & bitmap2[i];
+        }
+    }
+
+    /**
+     * Stores the bitwise disjunction of the given bitmaps in the given result bitmap, whose length determines the
+     * number of combined words. The result bitmap may be one of the given bitmaps.
+     *
+     * @param bitmap1 The first bitmap
+     * @param bitmap2 The second bitmap
+     * @param results The bitmap in which the results are stored
+     * @throws NullPointerException If one of given bitmaps is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given bitmaps is shorter than given result bitmap
+     */
+    public static void or(@Nonnull long[] bitmap1, @Nonnull long[] bitmap2, @Nonnull long[] results) {
+        checkLengths(bitmap1, bitmap2, results);
+        for (int i = 0; i < results.length; i++) {
+            results[i] = bitmap1[i] | bitmap2[i];
+        }
+    }
+
+    /**
+     * Stores the bitwise exclusive disjunction of the given bitmaps in the given result bitmap, whose length
+     * determines the number of combined words. The result bitmap may be one of the given bitmaps.
+     *
+     * @param bitmap1 The first bitmap
+     * @param bitmap2 The second bitmap
+     * @param results The bitmap in which the results are stored
+     * @throws NullPointerException If one of given bitmaps is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given bitmaps is shorter than given result bitmap
+     */
+    public static void xor(@Nonnull long[] bitmap1, @Nonnull long[] bitmap2, @Nonnull long[] results) {
+        checkLengths(bitmap1, bitmap2, results);
+        for (int i = 0; i < results.length; i++) {
+            results[i] = bitmap1[i] ^ bitmap2[i];
+        }
+    }
+
+    /**
+     * Stores the bits which are set in the first but not in the second given bitmap in the given result bitmap, whose
+     * length determines the number of combined words. The result bitmap may be one of the given bitmaps.
+     *
+     * @param bitmap1 The first bitmap
+     * @param bitmap2 The second bitmap, whose bits are removed from the first one
+     * @param results The bitmap in which the results are stored
+     * @throws NullPointerException If one of given bitmaps is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given bitmaps is shorter than given result bitmap
+     */
+    public static void andNot(@Nonnull long[] bitmap1, @Nonnull long[] bitmap2, @Nonnull long[] results) {
+        checkLengths(bitmap1, bitmap2, results);
+        for (int i = 0; i < results.length; i++) {
+            results[i] = bitmap1[i] & ~bitmap2[i];
+        }
+    }
+
+    /**
+     * Stores the complement of the first given number of bits of the given bitmap in the given result bitmap. The bits
+     * of the last word from the given size on are cleared, so that they do not select rows which do not exist. The
+     * result bitmap may be the given bitmap.
+     *
+     * @param bitmap The bitmap to be complemented
+     * @param size The number of bits to be complemented
+     * @param results The bitmap in which the results are stored
+     * @throws NullPointerException If one of given bitmaps is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given bitmaps holds fewer than given number of bits
+     */
+    public static void not(@Nonnull long[] bitmap, @Nonnegative int size, @Nonnull long[] results) {
+        int length = length(size);
+        KernelUtils.checkRange(0, length, bitmap.length);
+        KernelUtils.checkRange(0, length, results.length);
+        for (int i = 0; i < length; i++) {
+            results[i] = ~bitmap[i];
+        }
+        if ((size & (Long.SIZE - 1)) != 0) {
+            results[length - 1] &= -1L >>> -size;
+        }
+    }
+
+    /**
+     * Returns the number of bits set in the given bitmap, which is the number of selected rows.
+     *
+     * @param bitmap The bitmap whose bits are to be counted
+     * @return The number of bits set in the given bitmap.
+     * @throws NullPointerException If given bitmap is {@code null}
+     */
+    @Nonnegative
+    public static int cardinality(@Nonnull long[] bitmap) {
+        int count = 0;
+        for (long word : bitmap) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Stores the indices of the bits set in the given bitmap in ascending order in the given selection vector.
+     *
+     * @param bitmap The bitmap whose set bits are to be selected
+     * @param selection The selection vector in which the indices of the set bits are stored
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given selection vector is shorter than the cardinality of given bitmap
+     */
+    @Nonnegative
+    public static int toSelection(@Nonnull long[] bitmap, @Nonnull int[] selection) {
+        int count = 0;
+        for (int i = 0; i < bitmap.length; i++) {
+            int base = i << ADDRESS_BITS;
+            for (long word = bitmap[i]; word != 0; word &= word - 1) {
+                selection[count++] = base + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Stores the first given number of indices of the given selection vector in the given bitmap, whose other bits are
+     * cleared.
+     *
+     * @param selection The selection vector whose indices are to be stored
+     * @param count The number of indices of the given selection vector
+     * @param bitmap The bitmap in which the indices are stored
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of given bitmap
+     */
+    public static void fromSelection(@Nonnull int[] selection, @Nonnegative int count, @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < bitmap.length; i++) {
+            bitmap[i] = 0L;
+        }
+        for (int i = 0; i < count; i++) {
+            bitmap[selection[i] >>> ADDRESS_BITS] |= 1L << selection[i];
+        }
+    }
+
+    /**
+     * Checks that the given bitmaps are at least as long as the given result bitmap.
+     *
+     * @param bitmap1 The first bitmap
+     * @param bitmap2 The second bitmap
+     * @param results The result bitmap
+     * @throws ArrayIndexOutOfBoundsException If one of given bitmaps is shorter than given result bitmap
+     */
+    private static void checkLengths(long[] bitmap1, long[] bitmap2, long[] results) {
+        KernelUtils.checkRange(0, results.length, bitmap1.length);
+        KernelUtils.checkRange(0, results.length, bitmap2.length);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.operator.ternary.FloatTernaryOperator;
+
+/**
+ * Standard ternary operations on {@code float} values, whose bulk array methods are vectorized where the platform
+ * supports it.
+ * <p>
+ * On Java 17 and later, with the {@code jdk.incubator.vector} module present, for example by running with {@code
+ * --add-modules jdk.incubator.vector}, the bulk array methods of these operators process several indices at once using
+ * the SIMD instructions of the processor. Otherwise, and for short ranges, they apply the operator to one index after
+ * another. Both paths yield the same results.
+ *
+ * @see FloatTernaryOperator#applyAsFloat(float[], float[], float[], float[], int, int)
+ */
+public enum FloatTernaryKernel implements FloatTernaryOperator {
+
+    /**
+     * Returns the product of its first two arguments plus its third argument, rounded once to the nearest {@code float}
+     * as a fused multiply-add does.
+     */
+    FMA {
+        @Override
+        public float applyAsFloat(float value1, float value2, float value3) {
+            return IntrinsicUtils.fma(value1, value2, value3);
+        }
+    };
+
+    /**
+     * Applies this operator to the elements at each index of each array from the given start index (inclusive) to the
+     * given end index (exclusive), and stores the results at that index of the given result array. The result array may
+     * be one of the argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param values3 The array of third arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     */
+    @Override
+    public void applyAsFloat(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull float[] values3,
+            @Nonnull float[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values1.length);
+        KernelUtils.checkRange(fromIndex, toIndex, values2.length);
+        KernelUtils.checkRange(fromIndex, toIndex, values3.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        int index = IntrinsicUtils.apply(this, values1, values2, values3, results, fromIndex, toIndex);
+        FloatTernaryOperator.super.applyAsFloat(values1, values2, values3, results, index, toIndex);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.operator.unary.FloatUnaryOperator;
+
+/**
+ * Standard unary operations on {@code float} values, whose bulk array methods are vectorized where the platform
+ * supports it.
+ * <p>
+ * On Java 17 and later, with the {@code jdk.incubator.vector} module present, for example by running with {@code
+ * --add-modules jdk.incubator.vector}, the bulk array methods of these operators process several indices at once using
+ * the SIMD instructions of the processor. Otherwise, and for short ranges, they apply the operator to one index after
+ * another. Both paths yield the same results.
+ *
+ * @see FloatUnaryOperator#applyAsFloat(float[], float[], int, int)
+ */
+public enum FloatUnaryKernel implements FloatUnaryOperator {
+
+    /**
+     * Negates its argument.
+     */
+    NEGATE {
+        @Override
+        public float applyAsFloat(float value) {
+            return -value;
+        }
+    },
+
+    /**
+     * Returns the absolute value of its argument, as {@link Math#abs(float)} does.
+     */
+    ABS {
+        @Override
+        public float applyAsFloat(float value) {
+            return Math.abs(value);
+        }
+    },
+
+    /**
+     * Returns the square root of its argument, as {@link Math#sqrt(double)} does.
+     */
+    SQRT {
+        @Override
+        public float applyAsFloat(float value) {
+            return (float) Math.sqrt(value);
+        }
+    };
+
+    /**
+     * Applies this operator to the elements at each index from the given start index (inclusive) to the given end index
+     * (exclusive), and stores the results at that index of the given result array. The result array may be the argument
+     * array, so that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     */
+    @Override
+    public void applyAsFloat(@Nonnull float[] values, @Nonnull float[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        int index = IntrinsicUtils.apply(this, values, results, fromIndex, toIndex);
+        FloatUnaryOperator.super.applyAsFloat(values, results, index, toIndex);
+    }
+}
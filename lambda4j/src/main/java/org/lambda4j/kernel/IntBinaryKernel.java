@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.operator.binary.IntBinaryOperator2;
+
+/**
+ * Standard binary operations on {@code int} values, whose bulk array methods are vectorized where the platform supports
+ * it.
+ * <p>
+ * On Java 17 and later, with the {@code jdk.incubator.vector} module present, for example by running with {@code
+ * --add-modules jdk.incubator.vector}, the bulk array methods of these operators process several indices at once using
+ * the SIMD instructions of the processor. Otherwise, and for short ranges, they apply the operator to one index after
+ * another. Both paths yield the same results.
+ *
+ * @see IntBinaryOperator2#applyAsInt(int[], int[], int[], int, int)
+ */
+public enum IntBinaryKernel implements IntBinaryOperator2 {
+
+    /**
+     * Adds its arguments.
+     */
+    ADD {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return value1 + value2;
+        }
+    },
+
+    /**
+     * Subtracts its second argument from its first one.
+     */
+    SUBTRACT {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return value1 - value2;
+        }
+    },
+
+    /**
+     * Multiplies its arguments.
+     */
+    MULTIPLY {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return value1 * value2;
+        }
+    },
+
+    /**
+     * Returns the lesser of its arguments, as {@link Math#min(int, int)} does.
+     */
+    MIN {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return Math.min(value1, value2);
+        }
+    },
+
+    /**
+     * Returns the greater of its arguments, as {@link Math#max(int, int)} does.
+     */
+    MAX {
+        @Override
+        public int applyAsInt(int value1, int value2) {
+            return Math.max(value1, value2);
+        }
+    };
+
+    /**
+     * Applies this operator to the elements at each index of each array from the given start index (inclusive) to the
+     * given end index (exclusive), and stores the results at that index of the given result array. The result array may
+     * be one of the argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     */
+    @Override
+    public void applyAsInt(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull int[] results, int fromIndex,
+            int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values1.length);
+        KernelUtils.checkRange(fromIndex, toIndex, values2.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        int index = IntrinsicUtils.apply(this, values1, values2, results, fromIndex, toIndex);
+        IntBinaryOperator2.super.applyAsInt(values1, values2, results, index, toIndex);
+    }
+}
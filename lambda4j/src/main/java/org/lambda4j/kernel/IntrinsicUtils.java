@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import java.math.BigDecimal;
+
+/**
+ * Intrinsic operations of the kernels, which are implemented in plain Java 8.
+ * <p>
+ * The multi-release JAR of this library replaces this class on Java 17 and later with a version that applies the
+ * kernels using the vector instructions of the {@code jdk.incubator.vector} module, and that computes the fused
+ * multiply-add by {@code Math.fma}.
+ */
+final class IntrinsicUtils {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private IntrinsicUtils() {
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive) using vector instructions, as far as they are available and worthwhile for the given range.
+     *
+     * @param kernel The kernel to be applied
+     * @param values The array of arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index from which on the caller has to apply the kernel to the remaining elements.
+     */
+    static int apply(IntUnaryKernel kernel, int[] values, int[] results, int fromIndex, int toIndex) {
+        return fromIndex;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive) using vector instructions, as far as they are available and worthwhile for the given range.
+     *
+     * @param kernel The kernel to be applied
+     * @param values1 The array of first arguments
+     * @param values2 The array of second arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index from which on the caller has to apply the kernel to the remaining elements.
+     */
+    static int apply(IntBinaryKernel kernel, int[] values1, int[] values2, int[] results, int fromIndex, int toIndex) {
+        return fromIndex;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive) using vector instructions, as far as they are available and worthwhile for the given range.
+     *
+     * @param kernel The kernel to be applied
+     * @param values The array of arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index from which on the caller has to apply the kernel to the remaining elements.
+     */
+    static int apply(LongUnaryKernel kernel, long[] values, long[] results, int fromIndex, int toIndex) {
+        return fromIndex;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive) using vector instructions, as far as they are available and worthwhile for the given range.
+     *
+     * @param kernel The kernel to be applied
+     * @param values1 The array of first arguments
+     * @param values2 The array of second arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index from which on the caller has to apply the kernel to the remaining elements.
+     */
+    static int apply(LongBinaryKernel kernel, long[] values1, long[] values2, long[] results, int fromIndex,
+            int toIndex) {
+        return fromIndex;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive) using vector instructions, as far as they are available and worthwhile for the given range.
+     *
+     * @param kernel The kernel to be applied
+     * @param values The array of arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index from which on the caller has to apply the kernel to the remaining elements.
+     */
+    static int apply(FloatUnaryKernel kernel, float[] values, float[] results, int fromIndex, int toIndex) {
+        return fromIndex;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive) using vector instructions, as far as they are available and worthwhile for the given range.
+     *
+     * @param kernel The kernel to be applied
+     * @param values1 The array of first arguments
+     * @param values2 The array of second arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index from which on the caller has to apply the kernel to the remaining elements.
+     */
+    static int apply(FloatBinaryKernel kernel, float[] values1, float[] values2, float[] results, int fromIndex,
+            int toIndex) {
+        return fromIndex;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive) using vector instructions, as far as they are available and worthwhile for the given range.
+     *
+     * @param kernel The kernel to be applied
+     * @param values1 The array of first arguments
+     * @param values2 The array of second arguments
+     * @param values3 The array of third arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index from which on the caller has to apply the kernel to the remaining elements.
+     */
+    static int apply(FloatTernaryKernel kernel, float[] values1, float[] values2, float[] values3, float[] results,
+            int fromIndex, int toIndex) {
+        return fromIndex;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive) using vector instructions, as far as they are available and worthwhile for the given range.
+     *
+     * @param kernel The kernel to be applied
+     * @param values The array of arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index from which on the caller has to apply the kernel to the remaining elements.
+     */
+    static int apply(DoubleUnaryKernel kernel, double[] values, double[] results, int fromIndex, int toIndex) {
+        return fromIndex;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive) using vector instructions, as far as they are available and worthwhile for the given range.
+     *
+     * @param kernel The kernel to be applied
+     * @param values1 The array of first arguments
+     * @param values2 The array of second arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index from which on the caller has to apply the kernel to the remaining elements.
+     */
+    static int apply(DoubleBinaryKernel kernel, double[] values1, double[] values2, double[] results, int fromIndex,
+            int toIndex) {
+        return fromIndex;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive) using vector instructions, as far as they are available and worthwhile for the given range.
+     *
+     * @param kernel The kernel to be applied
+     * @param values1 The array of first arguments
+     * @param values2 The array of second arguments
+     * @param values3 The array of third arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index from which on the caller has to apply the kernel to the remaining elements.
+     */
+    static int apply(DoubleTernaryKernel kernel, double[] values1, double[] values2, double[] values3, double[] results,
+            int fromIndex, int toIndex) {
+        return fromIndex;
+    }
+
+    /**
+     * Returns the product of the first two given values plus the third given value, rounded once to the nearest {@code
+     * double}.
+     *
+     * @param value1 The first factor
+     * @param value2 The second factor
+     * @param value3 The summand
+     * @return The exactly rounded result of {@code value1 * value2 + value3}.
+     */
+    @SuppressWarnings("PMD.AvoidDecimalLiteralsInBigDecimalConstructor")
+    static double fma(double value1, double value2, double value3) {
+        if (value1 == 0.0 || value2 == 0.0 || !Double.isFinite(value1) || !Double.isFinite(value2)) {
+            return value1 * value2 + value3;
+        }
+        if (!Double.isFinite(value3)) {
+            return value3;
+        }
+        return new BigDecimal(value1).multiply(new BigDecimal(value2)).add(new BigDecimal(value3)).doubleValue();
+    }
+
+    /**
+     * Returns the product of the first two given values plus the third given value, rounded once to the nearest {@code
+     * float}.
+     *
+     * @param value1 The first factor
+     * @param value2 The second factor
+     * @param value3 The summand
+     * @return The exactly rounded result of {@code value1 * value2 + value3}.
+     */
+    @SuppressWarnings("PMD.AvoidDecimalLiteralsInBigDecimalConstructor")
+    static float fma(float value1, float value2, float value3) {
+        // the product is exact in double precision, but adding the summand may round it before the conversion to float
+        double product = (double) value1 * value2;
+        if (product == 0.0 || !Double.isFinite(product) || !Float.isFinite(value3)) {
+            return (float) (product + value3);
+        }
+        return new BigDecimal(product).add(new BigDecimal(value3)).floatValue();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * Utility methods for the bulk array methods of the primitive operators and conversion functions of this library.
+ */
+public final class KernelUtils {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private KernelUtils() {
+    }
+
+    /**
+     * Checks that the given range of indices lies within an array of the given length.
+     *
+     * @param fromIndex The index of the first element of the range (inclusive)
+     * @param toIndex The index of the last element of the range (exclusive)
+     * @param length The length of the array
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than given
+     * length
+     */
+    public static void checkRange(int fromIndex, int toIndex, @Nonnegative int length) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+}
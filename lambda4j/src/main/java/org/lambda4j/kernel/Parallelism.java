@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import org.lambda4j.consumer.bi.BiIntConsumer;
+import org.lambda4j.consumer.tri.TriIntConsumer;
+
+/**
+ * The configuration of the parallel bulk array methods of the functional interfaces of this library, which consists of
+ * the {@link ForkJoinPool} executing them and the grain, which is the number of indices below which a range is no
+ * longer split.
+ * <p>
+ * A range of indices is split in halves recursively until its parts hold at most the grain, and the parts are applied
+ * by the threads of the pool. Each index is applied exactly once, and the result of an index is stored at that same
+ * index, so the results do not depend on the number of threads or on the order in which the parts are applied.
+ * <p>
+ * Unless a fixed grain is given, it adapts to the length of the range, so that each thread of the pool receives about
+ * four parts, but never falls below {@value #MIN_GRAIN} indices, since shorter parts do not outweigh the cost of their
+ * scheduling. Ranges not exceeding the grain are applied by the calling thread.
+ * <p>
+ * Instances of this class are immutable.
+ */
+@SuppressWarnings({"PMD.BeanMembersShouldSerialize", "PMD.DoNotUseThreads"})
+public final class Parallelism {
+
+    /**
+     * The least grain chosen adaptively.
+     */
+    public static final int MIN_GRAIN = 1 << 10;
+
+    /**
+     * The number of parts per thread of the pool into which a range is split if the grain is chosen adaptively.
+     */
+    private static final int PARTS_PER_THREAD = 4;
+
+    /**
+     * The configuration using the common pool and an adaptive grain.
+     */
+    private static final Parallelism DEFAULT = new Parallelism(ForkJoinPool.commonPool(), 0);
+
+    /**
+     * The pool executing the parts of a range.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The fixed grain, or {@code 0} if the grain is chosen adaptively.
+     */
+    private final int grain;
+
+    /**
+     * Creates a configuration using the given pool and grain.
+     *
+     * @param forkJoinPool The pool executing the parts of a range
+     * @param fixedGrain The fixed grain, or {@code 0} if the grain is chosen adaptively
+     */
+    private Parallelism(ForkJoinPool forkJoinPool, int fixedGrain) {
+        this.pool = forkJoinPool;
+        this.grain = fixedGrain;
+    }
+
+    /**
+     * Returns the configuration using the {@link ForkJoinPool#commonPool() common pool} and an adaptive grain, which
+     * the parallel bulk array methods use by default.
+     *
+     * @return The configuration using the common pool and an adaptive grain.
+     */
+    @Nonnull
+    public static Parallelism common() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a configuration using the given pool and an adaptive grain.
+     *
+     * @param pool The pool executing the parts of a range
+     * @return A configuration using the given pool and an adaptive grain.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public static Parallelism of(@Nonnull ForkJoinPool pool) {
+        Objects.requireNonNull(pool);
+        return new Parallelism(pool, 0);
+    }
+
+    /**
+     * Returns a configuration using the pool of this one and the given fixed grain.
+     *
+     * @param fixedGrain The number of indices below which a range is no longer split
+     * @return A configuration using the pool of this one and the given fixed grain.
+     * @throws IllegalArgumentException If given grain is less than {@code 1}
+     */
+    @Nonnull
+    public Parallelism withGrain(int fixedGrain) {
+        if (fixedGrain < 1) {
+            throw new IllegalArgumentException("Grain must be positive: " + fixedGrain);
+        }
+        return new Parallelism(pool, fixedGrain);
+    }
+
+    /**
+     * Returns the pool executing the parts of a range.
+     *
+     * @return The pool executing the parts of a range.
+     */
+    @Nonnull
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Returns the grain used for a range of the given length, which is either the fixed grain of this configuration
+     * or chosen adaptively.
+     *
+     * @param length The number of indices of the range
+     * @return The grain used for a range of the given length.
+     */
+    @Nonnegative
+    public int getGrain(@Nonnegative int length) {
+        if (grain > 0) {
+            return grain;
+        }
+        return Math.max(MIN_GRAIN, length / (pool.getParallelism() * PARTS_PER_THREAD));
+    }
+
+    /**
+     * Applies the given action to disjoint parts of the given range of indices, which together cover the range, in
+     * parallel. The action receives the start index (inclusive) and the end index (exclusive) of a part. This method
+     * returns once all parts have been applied. If the action throws an exception for any part, it is relayed to the
+     * caller.
+     *
+     * @param fromIndex The index of the first element of the range (inclusive)
+     * @param toIndex The index of the last element of the range (exclusive)
+     * @param rangeAction The action to be applied to each part of the range
+     * @throws NullPointerException If given action is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     */
+    public void forRange(int fromIndex, int toIndex, @Nonnull BiIntConsumer rangeAction) {
+        Objects.requireNonNull(rangeAction);
+        checkRange(fromIndex, toIndex);
+        int threshold = getGrain(toIndex - fromIndex);
+        if (toIndex - fromIndex <= threshold) {
+            rangeAction.accept(fromIndex, toIndex);
+        } else {
+            invoke(new RangeTask(fromIndex, toIndex, threshold, rangeAction));
+        }
+    }
+
+    /**
+     * Returns the number of parts into which {@link #forParts(int, int, TriIntConsumer)} splits a range of the given
+     * length.
+     *
+     * @param length The number of indices of the range
+     * @return The number of parts into which a range of the given length is split.
+     */
+    @Nonnegative
+    public int getPartCount(@Nonnegative int length) {
+        return length == 0 ? 0 : (length - 1) / getGrain(length) + 1;
+    }
+
+    /**
+     * Applies the given action to consecutive parts of the given range of indices in parallel. Unlike {@link
+     * #forRange(int, int, BiIntConsumer)}, the parts are numbered: every part but the last one holds exactly the grain
+     * of indices, and the action receives the number of a part, counted from {@code 0}, followed by its start index
+     * (inclusive) and its end index (exclusive). This allows two-pass algorithms, such as prefix scans, to store a
+     * partial result per part and to revisit the same parts afterwards. This method returns once all parts have been
+     * applied. If the action throws an exception for any part, it is relayed to the caller.
+     *
+     * @param fromIndex The index of the first element of the range (inclusive)
+     * @param toIndex The index of the last element of the range (exclusive)
+     * @param partAction The action to be applied to each part of the range
+     * @throws NullPointerException If given action is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @see #getPartCount(int)
+     */
+    public void forParts(int fromIndex, int toIndex, @Nonnull TriIntConsumer partAction) {
+        Objects.requireNonNull(partAction);
+        checkRange(fromIndex, toIndex);
+        int threshold = getGrain(toIndex - fromIndex);
+        int parts = getPartCount(toIndex - fromIndex);
+        BiIntConsumer partsAction = (firstPart, lastPart) -> {
+            for (int part = firstPart; part < lastPart; part++) {
+                int start = fromIndex + part * threshold;
+                partAction.accept(part, start, start + Math.min(threshold, toIndex - start));
+            }
+        };
+        if (parts <= 1) {
+            partsAction.accept(0, parts);
+        } else {
+            invoke(new RangeTask(0, parts, 1, partsAction));
+        }
+    }
+
+    /**
+     * Checks that the given start index is not greater than the given end index.
+     *
+     * @param fromIndex The index of the first element of the range (inclusive)
+     * @param toIndex The index of the last element of the range (exclusive)
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     */
+    private static void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+    }
+
+    /**
+     * Executes the given task in the pool of this configuration. If the calling thread already belongs to that pool,
+     * the task is executed in place rather than submitted, so that nested parallel calls do not block a worker.
+     *
+     * @param task The task to be executed
+     */
+    private void invoke(RangeTask task) {
+        if (pool.equals(ForkJoinTask.getPool())) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /**
+     * The task applying an action to a range of indices, which splits the range in halves while it exceeds the
+     * grain.
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The index of the first element of the range (inclusive).
+         */
+        private final int fromIndex;
+
+        /**
+         * The index of the last element of the range (exclusive).
+         */
+        private final int toIndex;
+
+        /**
+         * The number of indices below which the range is no longer split.
+         */
+        private final int threshold;
+
+        /**
+         * The action to be applied to each part of the range.
+         */
+        @SuppressWarnings("serial")
+        private final BiIntConsumer rangeAction;
+
+        /**
+         * Creates a task applying the given action to the given range of indices.
+         *
+         * @param start The index of the first element of the range (inclusive)
+         * @param end The index of the last element of the range (exclusive)
+         * @param grain The number of indices below which the range is no longer split
+         * @param action The action to be applied to each part of the range
+         */
+        RangeTask(int start, int end, int grain, BiIntConsumer action) {
+            this.fromIndex = start;
+            this.toIndex = end;
+            this.threshold = grain;
+            this.rangeAction = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex <= threshold) {
+                rangeAction.accept(fromIndex, toIndex);
+            } else {
+                int middle = (fromIndex + toIndex) >>> 1;
+                invokeAll(new RangeTask(fromIndex, middle, threshold, rangeAction),
+                        new RangeTask(middle, toIndex, threshold, rangeAction));
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Provides the standard arithmetic, min/max and fused multiply-add operators on {@code int}, {@code long}, {@code
+ * float} and {@code double} values, whose bulk array methods use the vector instructions of the processor on Java 17
+ * and later, as well as the utilities shared by the bulk array methods of the functional interfaces of this library:
+ * range checks, and the bitwise combination of the bitmaps filled by predicates and their conversion from and to
+ * selection vectors.
+ */
+package org.lambda4j.kernel;
@@ -17,9 +17,9 @@
 package org.lambda4j.operator.binary;
 
 import java.util.Comparator;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
@@ -31,9 +31,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.bi.BiBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -52,10 +54,17 @@ import org.lambda4j.function.conversion.BooleanToFloatFunction;
 import org.lambda4j.function.conversion.BooleanToIntFunction;
 import org.lambda4j.function.conversion.BooleanToLongFunction;
 import org.lambda4j.function.conversion.BooleanToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
+import org.lambda4j.optional.OptionalBoolean;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
+import org.lambda4j.predicate.Predicate2;
 import org.lambda4j.predicate.ShortPredicate;
 import org.lambda4j.predicate.bi.BiBytePredicate;
 import org.lambda4j.predicate.bi.BiCharPredicate;
@@ -65,6 +74,7 @@ import org.lambda4j.predicate.bi.BiIntPredicate;
 import org.lambda4j.predicate.bi.BiLongPredicate;
 import org.lambda4j.predicate.bi.BiPredicate2;
 import org.lambda4j.predicate.bi.BiShortPredicate;
+import org.lambda4j.tuple.BooleanBooleanPair;
 
 /**
  * Represents an operation that accepts two {@code boolean}-valued input arguments and produces a {@code boolean}-valued
@@ -98,6 +108,48 @@ public interface BooleanBinaryOperator extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BooleanBinaryOperator} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BooleanBinaryOperator} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * operator calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BooleanBinaryOperator} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BooleanBinaryOperator unboxed(
+            @Nonnull BiFunction<? super Boolean, ? super Boolean, ? extends Boolean> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BooleanBinaryOperator) {
+            return (BooleanBinaryOperator) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link BooleanBinaryOperator}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiBooleanFunction} that returns an {@link OptionalBoolean} result. The result of
+     * the given operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code BooleanBinaryOperator} lifted into a total {@code BiBooleanFunction} that returns an
+     * {@code OptionalBoolean} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiBooleanFunction<OptionalBoolean> lift(
+            @Nonnull BooleanBinaryOperator isDefined, @Nonnull BooleanBinaryOperator partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.applyAsBoolean(value1, value2)
+                ? OptionalBoolean.of(partial.applyAsBoolean(value1, value2))
+                : OptionalBoolean.empty();
+    }
+
     /**
      * Calls the given {@link BooleanBinaryOperator} with the given arguments and returns its result.
      *
@@ -124,7 +176,25 @@ public interface BooleanBinaryOperator extends Lambda {
     @Nonnull
     static BooleanBinaryOperator onlyFirst(@Nonnull BooleanUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2) -> operator.applyAsBoolean(value1);
+        /**
+         * A {@code BooleanBinaryOperator} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BooleanBinaryOperator {
+
+            /**
+             * Creates a {@code BooleanBinaryOperator} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, operator);
+            }
+
+            @Override
+            public boolean applyAsBoolean(boolean value1, boolean value2) {
+                return operator.applyAsBoolean(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -139,18 +209,56 @@ public interface BooleanBinaryOperator extends Lambda {
     @Nonnull
     static BooleanBinaryOperator onlySecond(@Nonnull BooleanUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2) -> operator.applyAsBoolean(value2);
+        /**
+         * A {@code BooleanBinaryOperator} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BooleanBinaryOperator {
+
+            /**
+             * Creates a {@code BooleanBinaryOperator} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, operator);
+            }
+
+            @Override
+            public boolean applyAsBoolean(boolean value1, boolean value2) {
+                return operator.applyAsBoolean(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BooleanBinaryOperator} which always returns a given value.
+     * Creates a {@link BooleanBinaryOperator} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BooleanBinaryOperator} which always returns a given value.
      */
     @Nonnull
     static BooleanBinaryOperator constant(boolean ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BooleanBinaryOperator} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BooleanBinaryOperator {
+
+            /**
+             * Creates a constant {@code BooleanBinaryOperator}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean applyAsBoolean(boolean value1, boolean value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -194,6 +302,84 @@ public interface BooleanBinaryOperator extends Lambda {
      */
     boolean applyAsBoolean(boolean value1, boolean value2);
 
+    /**
+     * Applies this operator to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the operator
+     * @return The return value from the operator, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BooleanBooleanPair
+     */
+    default boolean applyAsBoolean(@Nonnull BooleanBooleanPair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsBoolean(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The result array may be one of the
+     * argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsBoolean(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] results) {
+        applyAsBoolean(values1, values2, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array from the given start index (inclusive) to the
+     * given end index (exclusive), and stores the results at that index of the given result array. The result array may
+     * be one of the argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsBoolean(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] results,
+            int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values1.length);
+        KernelUtils.checkRange(fromIndex, toIndex, values2.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsBoolean(values1[i], values2[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector in each
+     * array, and stores the results at these indices of the given result array, whose other elements are left
+     * unchanged.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsBoolean(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] results,
+            @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsBoolean(values1[index], values2[index]);
+        }
+    }
+
     /**
      * Applies this operator partially to some arguments of this one, producing a {@link BooleanUnaryOperator} as
      * result.
@@ -206,6 +392,45 @@ public interface BooleanBinaryOperator extends Lambda {
         return value2 -> applyAsBoolean(value1, value2);
     }
 
+    /**
+     * Applies this operator to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsBooleanParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2,
+            @Nonnull boolean[] results) {
+        applyAsBooleanParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsBooleanParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2,
+            @Nonnull boolean[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsBoolean(values1, values2, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -258,6 +483,9 @@ public interface BooleanBinaryOperator extends Lambda {
             @Nonnull BooleanUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsBoolean(before1.applyAsBoolean(value1), before2.applyAsBoolean(value2));
     }
 
@@ -425,10 +653,15 @@ public interface BooleanBinaryOperator extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiBooleanFunction<S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanFunction.constant(after.apply(applyAsBoolean(false, false)));
+        }
         return (value1, value2) -> after.apply(applyAsBoolean(value1, value2));
     }
 
@@ -444,10 +677,18 @@ public interface BooleanBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanBinaryOperator andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanBinaryOperator.constant(after.applyAsBoolean(applyAsBoolean(false, false)));
+        }
         return (value1, value2) -> after.applyAsBoolean(applyAsBoolean(value1, value2));
     }
 
@@ -463,10 +704,15 @@ public interface BooleanBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToByteFunction andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToByteFunction.constant(after.applyAsByte(applyAsBoolean(false, false)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsBoolean(value1, value2));
     }
 
@@ -482,10 +728,15 @@ public interface BooleanBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToCharFunction andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToCharFunction.constant(after.applyAsChar(applyAsBoolean(false, false)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsBoolean(value1, value2));
     }
 
@@ -501,10 +752,15 @@ public interface BooleanBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToDoubleFunction andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsBoolean(false, false)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsBoolean(value1, value2));
     }
 
@@ -520,10 +776,15 @@ public interface BooleanBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToFloatFunction andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToFloatFunction.constant(after.applyAsFloat(applyAsBoolean(false, false)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsBoolean(value1, value2));
     }
 
@@ -539,10 +800,15 @@ public interface BooleanBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToIntFunction andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToIntFunction.constant(after.applyAsInt(applyAsBoolean(false, false)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsBoolean(value1, value2));
     }
 
@@ -558,10 +824,15 @@ public interface BooleanBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToLongFunction andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToLongFunction.constant(after.applyAsLong(applyAsBoolean(false, false)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsBoolean(value1, value2));
     }
 
@@ -577,10 +848,15 @@ public interface BooleanBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBooleanToShortFunction andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBooleanToShortFunction.constant(after.applyAsShort(applyAsBoolean(false, false)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsBoolean(value1, value2));
     }
 
@@ -600,6 +876,16 @@ public interface BooleanBinaryOperator extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsBoolean(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this operator.
+     *
+     * @return A tupled version of this operator.
+     */
+    @Nonnull
+    default Predicate2<BooleanBooleanPair> tupled() {
+        return this::applyAsBoolean;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -607,7 +893,29 @@ public interface BooleanBinaryOperator extends Lambda {
      */
     @Nonnull
     default BooleanBinaryOperator reversed() {
-        return (value2, value1) -> applyAsBoolean(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BooleanBinaryOperator) {
+            return (BooleanBinaryOperator) original;
+        }
+        /**
+         * A {@code BooleanBinaryOperator} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BooleanBinaryOperator {
+
+            /**
+             * Creates the reversal of this {@code BooleanBinaryOperator}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BooleanBinaryOperator.this);
+            }
+
+            @Override
+            public boolean applyAsBoolean(boolean value2, boolean value1) {
+                return BooleanBinaryOperator.this.applyAsBoolean(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -629,12 +937,113 @@ public interface BooleanBinaryOperator extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Boolean, Boolean>, Boolean> cache = new ConcurrentHashMap<>();
-            return (BooleanBinaryOperator & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsBoolean(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BooleanBinaryOperator}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code BooleanBinaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BooleanBinaryOperator memoized(@Nonnull MemoStore<BooleanBooleanPair, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (BooleanBinaryOperator & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    key -> applyAsBoolean(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BooleanBinaryOperator}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BooleanBinaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BooleanBinaryOperator adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BooleanBinaryOperator}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code BooleanBinaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BooleanBinaryOperator adaptivelyMemoized(@Nonnull AdaptiveMemoizer<BooleanBooleanPair, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BooleanBinaryOperator & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    key -> applyAsBoolean(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link BooleanBinaryOperator}, which applies this operator once to each of the
+     * 4 possible combinations of input arguments in advance, and afterwards answers every call by a lookup in a truth
+     * table of 4 bits holding the results. In contrast to {@link #memoized()}, no values are computed or cached on
+     * demand, so the returned operator neither synchronizes nor allocates.
+     * <p>
+     * This operator has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code BooleanBinaryOperator}.
+     * @implSpec If this operator is already compiled, it is returned itself. Any exception thrown by this operator
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned operator is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default BooleanBinaryOperator compiled() {
+        if (isCompiled()) {
+            return this;
         }
+        int bits = 0;
+        for (int i = 0; i < 4; i++) {
+            bits |= (applyAsBoolean((i & 1) != 0, (i & 2) != 0) ? 1 : 0) << i;
+        }
+        int table = bits;
+        return (BooleanBinaryOperator & Memoized & Compiled) (value1, value2) -> {
+            int index = (value1 ? 1 : 0) | (value2 ? 2 : 0);
+            return (table >>> index & 1) != 0;
+        };
     }
 
     /**
@@ -646,6 +1055,24 @@ public interface BooleanBinaryOperator extends Lambda {
      */
     @Nonnull
     default BinaryOperator2<Boolean> boxed() {
-        return this::applyAsBoolean;
+        /**
+         * A {@code BinaryOperator2} which applies this {@code BooleanBinaryOperator} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BinaryOperator2<Boolean> {
+
+            /**
+             * Creates the boxed variant of this {@code BooleanBinaryOperator}.
+             */
+            Boxed() {
+                super(BooleanBinaryOperator.this);
+            }
+
+            @Override
+            public Boolean apply(Boolean t, Boolean u) {
+                return BooleanBinaryOperator.this.applyAsBoolean(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
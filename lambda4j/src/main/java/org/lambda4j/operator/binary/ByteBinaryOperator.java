@@ -17,9 +17,9 @@
 package org.lambda4j.operator.binary;
 
 import java.util.Comparator;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 
 import javax.annotation.CheckForNull;
@@ -27,9 +27,12 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.comparator.ByteComparator;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.ByteConsumer;
 import org.lambda4j.consumer.bi.BiByteConsumer;
 import org.lambda4j.function.ByteFunction;
@@ -62,9 +65,16 @@ import org.lambda4j.function.conversion.IntToByteFunction;
 import org.lambda4j.function.conversion.LongToByteFunction;
 import org.lambda4j.function.conversion.ShortToByteFunction;
 import org.lambda4j.function.to.ToByteFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
+import org.lambda4j.optional.OptionalByte;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.bi.BiBytePredicate;
+import org.lambda4j.tuple.ByteBytePair;
 
 /**
  * Represents an operation that accepts two {@code byte}-valued input arguments and produces a {@code byte}-valued
@@ -98,6 +108,46 @@ public interface ByteBinaryOperator extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ByteBinaryOperator} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ByteBinaryOperator} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * operator calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code ByteBinaryOperator} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static ByteBinaryOperator unboxed(@Nonnull BiFunction<? super Byte, ? super Byte, ? extends Byte> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ByteBinaryOperator) {
+            return (ByteBinaryOperator) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link ByteBinaryOperator}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiByteFunction} that returns an {@link OptionalByte} result. The result of the
+     * given operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code ByteBinaryOperator} lifted into a total {@code BiByteFunction} that returns an {@code
+     * OptionalByte} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiByteFunction<OptionalByte> lift(@Nonnull BiBytePredicate isDefined, @Nonnull ByteBinaryOperator partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.test(value1, value2)
+                ? OptionalByte.of(partial.applyAsByte(value1, value2))
+                : OptionalByte.empty();
+    }
+
     /**
      * Calls the given {@link ByteBinaryOperator} with the given arguments and returns its result.
      *
@@ -124,7 +174,25 @@ public interface ByteBinaryOperator extends Lambda {
     @Nonnull
     static ByteBinaryOperator onlyFirst(@Nonnull ByteUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2) -> operator.applyAsByte(value1);
+        /**
+         * A {@code ByteBinaryOperator} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ByteBinaryOperator {
+
+            /**
+             * Creates a {@code ByteBinaryOperator} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, operator);
+            }
+
+            @Override
+            public byte applyAsByte(byte value1, byte value2) {
+                return operator.applyAsByte(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -139,18 +207,56 @@ public interface ByteBinaryOperator extends Lambda {
     @Nonnull
     static ByteBinaryOperator onlySecond(@Nonnull ByteUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2) -> operator.applyAsByte(value2);
+        /**
+         * A {@code ByteBinaryOperator} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ByteBinaryOperator {
+
+            /**
+             * Creates a {@code ByteBinaryOperator} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, operator);
+            }
+
+            @Override
+            public byte applyAsByte(byte value1, byte value2) {
+                return operator.applyAsByte(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link ByteBinaryOperator} which always returns a given value.
+     * Creates a {@link ByteBinaryOperator} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code ByteBinaryOperator} which always returns a given value.
      */
     @Nonnull
     static ByteBinaryOperator constant(byte ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code ByteBinaryOperator} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ByteBinaryOperator {
+
+            /**
+             * Creates a constant {@code ByteBinaryOperator}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public byte applyAsByte(byte value1, byte value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -185,6 +291,38 @@ public interface ByteBinaryOperator extends Lambda {
         return (value1, value2) -> comparator.compare(value1, value2) >= 0 ? value1 : value2;
     }
 
+    /**
+     * Returns a {@link ByteBinaryOperator} which returns the lesser of two elements according to the specified {@link
+     * ByteComparator}. In contrast to {@link #minBy(Comparator)}, the operands are compared without boxing them.
+     *
+     * @param comparator A {@code ByteComparator} for comparing the two values
+     * @return A {@code ByteBinaryOperator} which returns the lesser of its operands, according to the supplied {@code
+     * ByteComparator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BinaryOperator#minBy(Comparator)
+     */
+    @Nonnull
+    static ByteBinaryOperator minByByte(@Nonnull ByteComparator comparator) {
+        Objects.requireNonNull(comparator);
+        return (value1, value2) -> comparator.compare(value1, value2) <= 0 ? value1 : value2;
+    }
+
+    /**
+     * Returns a {@link ByteBinaryOperator} which returns the greater of two elements according to the specified {@link
+     * ByteComparator}. In contrast to {@link #maxBy(Comparator)}, the operands are compared without boxing them.
+     *
+     * @param comparator A {@code ByteComparator} for comparing the two values
+     * @return A {@code ByteBinaryOperator} which returns the greater of its operands, according to the supplied {@code
+     * ByteComparator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BinaryOperator#maxBy(Comparator)
+     */
+    @Nonnull
+    static ByteBinaryOperator maxByByte(@Nonnull ByteComparator comparator) {
+        Objects.requireNonNull(comparator);
+        return (value1, value2) -> comparator.compare(value1, value2) >= 0 ? value1 : value2;
+    }
+
     /**
      * Applies this operator to the given arguments.
      *
@@ -194,6 +332,84 @@ public interface ByteBinaryOperator extends Lambda {
      */
     byte applyAsByte(byte value1, byte value2);
 
+    /**
+     * Applies this operator to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the operator
+     * @return The return value from the operator, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ByteBytePair
+     */
+    default byte applyAsByte(@Nonnull ByteBytePair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsByte(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The result array may be one of the
+     * argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsByte(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] results) {
+        applyAsByte(values1, values2, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array from the given start index (inclusive) to the
+     * given end index (exclusive), and stores the results at that index of the given result array. The result array may
+     * be one of the argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsByte(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] results, int fromIndex,
+            int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values1.length);
+        KernelUtils.checkRange(fromIndex, toIndex, values2.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsByte(values1[i], values2[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector in each
+     * array, and stores the results at these indices of the given result array, whose other elements are left
+     * unchanged.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsByte(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] results,
+            @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsByte(values1[index], values2[index]);
+        }
+    }
+
     /**
      * Applies this operator partially to some arguments of this one, producing a {@link ByteUnaryOperator} as result.
      *
@@ -205,6 +421,44 @@ public interface ByteBinaryOperator extends Lambda {
         return value2 -> applyAsByte(value1, value2);
     }
 
+    /**
+     * Applies this operator to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsByteParallel(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] results) {
+        applyAsByteParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsByteParallel(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsByte(values1, values2, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -279,6 +533,9 @@ public interface ByteBinaryOperator extends Lambda {
             @Nonnull ByteUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsByte(before1.applyAsByte(value1), before2.applyAsByte(value2));
     }
 
@@ -425,10 +682,15 @@ public interface ByteBinaryOperator extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiByteFunction<S> andThen(@Nonnull ByteFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteFunction.constant(after.apply(applyAsByte((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.apply(applyAsByte(value1, value2));
     }
 
@@ -444,10 +706,15 @@ public interface ByteBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBytePredicate andThenToBoolean(@Nonnull BytePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiBytePredicate.constant(after.test(applyAsByte((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.test(applyAsByte(value1, value2));
     }
 
@@ -463,10 +730,18 @@ public interface ByteBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteBinaryOperator andThenToByte(@Nonnull ByteUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ByteBinaryOperator.constant(after.applyAsByte(applyAsByte((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsByte(value1, value2));
     }
 
@@ -482,10 +757,15 @@ public interface ByteBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToCharFunction andThenToChar(@Nonnull ByteToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToCharFunction.constant(after.applyAsChar(applyAsByte((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsByte(value1, value2));
     }
 
@@ -501,10 +781,15 @@ public interface ByteBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToDoubleFunction andThenToDouble(@Nonnull ByteToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToDoubleFunction.constant(after.applyAsDouble(applyAsByte((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsByte(value1, value2));
     }
 
@@ -520,10 +805,15 @@ public interface ByteBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToFloatFunction andThenToFloat(@Nonnull ByteToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToFloatFunction.constant(after.applyAsFloat(applyAsByte((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsByte(value1, value2));
     }
 
@@ -539,10 +829,15 @@ public interface ByteBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToIntFunction andThenToInt(@Nonnull ByteToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToIntFunction.constant(after.applyAsInt(applyAsByte((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsByte(value1, value2));
     }
 
@@ -558,10 +853,15 @@ public interface ByteBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToLongFunction andThenToLong(@Nonnull ByteToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToLongFunction.constant(after.applyAsLong(applyAsByte((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsByte(value1, value2));
     }
 
@@ -577,10 +877,15 @@ public interface ByteBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToShortFunction andThenToShort(@Nonnull ByteToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToShortFunction.constant(after.applyAsShort(applyAsByte((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsByte(value1, value2));
     }
 
@@ -600,6 +905,16 @@ public interface ByteBinaryOperator extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsByte(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this operator.
+     *
+     * @return A tupled version of this operator.
+     */
+    @Nonnull
+    default ToByteFunction<ByteBytePair> tupled() {
+        return this::applyAsByte;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -607,7 +922,29 @@ public interface ByteBinaryOperator extends Lambda {
      */
     @Nonnull
     default ByteBinaryOperator reversed() {
-        return (value2, value1) -> applyAsByte(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof ByteBinaryOperator) {
+            return (ByteBinaryOperator) original;
+        }
+        /**
+         * A {@code ByteBinaryOperator} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements ByteBinaryOperator {
+
+            /**
+             * Creates the reversal of this {@code ByteBinaryOperator}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, ByteBinaryOperator.this);
+            }
+
+            @Override
+            public byte applyAsByte(byte value2, byte value1) {
+                return ByteBinaryOperator.this.applyAsByte(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -629,14 +966,114 @@ public interface ByteBinaryOperator extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Byte, Byte>, Byte> cache = new ConcurrentHashMap<>();
-            return (ByteBinaryOperator & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsByte(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ByteBinaryOperator}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code ByteBinaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ByteBinaryOperator memoized(@Nonnull MemoStore<ByteBytePair, Byte> store) {
+        Objects.requireNonNull(store);
+        return (ByteBinaryOperator & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(ByteBytePair.of(value1, value2),
+                    key -> applyAsByte(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ByteBinaryOperator}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ByteBinaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ByteBinaryOperator adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ByteBinaryOperator}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code ByteBinaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ByteBinaryOperator adaptivelyMemoized(@Nonnull AdaptiveMemoizer<ByteBytePair, Byte> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ByteBinaryOperator & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(ByteBytePair.of(value1, value2),
+                    key -> applyAsByte(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link ByteBinaryOperator}, which applies this operator once to each of the
+     * 65,536 possible combinations of input arguments in advance, and afterwards answers every call by a lookup in a
+     * table of 65,536 {@code byte} values holding the results. In contrast to {@link #memoized()}, no values are
+     * computed or cached on demand, so the returned operator neither synchronizes nor allocates.
+     * <p>
+     * This operator has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code ByteBinaryOperator}.
+     * @implSpec If this operator is already compiled, it is returned itself. Any exception thrown by this operator
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned operator is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default ByteBinaryOperator compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        byte[] table = new byte[65536];
+        for (int i = 0; i < 65536; i++) {
+            table[i] = applyAsByte((byte) (i >>> 8), (byte) i);
+        }
+        return (ByteBinaryOperator & Memoized & Compiled) (value1, value2) -> {
+            int index = (value1 & 0xFF) << 8 | value2 & 0xFF;
+            return table[index];
+        };
+    }
+
     /**
      * Returns a composed {@link BinaryOperator2} which represents this {@link ByteBinaryOperator}. Thereby the
      * primitive input argument for this operator is autoboxed. This method provides the possibility to use this {@code
@@ -646,6 +1083,24 @@ public interface ByteBinaryOperator extends Lambda {
      */
     @Nonnull
     default BinaryOperator2<Byte> boxed() {
-        return this::applyAsByte;
+        /**
+         * A {@code BinaryOperator2} which applies this {@code ByteBinaryOperator} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BinaryOperator2<Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code ByteBinaryOperator}.
+             */
+            Boxed() {
+                super(ByteBinaryOperator.this);
+            }
+
+            @Override
+            public Byte apply(Byte t, Byte u) {
+                return ByteBinaryOperator.this.applyAsByte(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
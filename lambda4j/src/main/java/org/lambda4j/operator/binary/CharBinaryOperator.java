@@ -17,9 +17,9 @@
 package org.lambda4j.operator.binary;
 
 import java.util.Comparator;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 
 import javax.annotation.CheckForNull;
@@ -27,9 +27,12 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.comparator.CharComparator;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.consumer.bi.BiCharConsumer;
 import org.lambda4j.function.CharFunction;
@@ -62,9 +65,16 @@ import org.lambda4j.function.conversion.IntToCharFunction;
 import org.lambda4j.function.conversion.LongToCharFunction;
 import org.lambda4j.function.conversion.ShortToCharFunction;
 import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.CharUnaryOperator;
+import org.lambda4j.optional.OptionalChar;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.bi.BiCharPredicate;
+import org.lambda4j.tuple.CharCharPair;
 
 /**
  * Represents an operation that accepts two {@code char}-valued input arguments and produces a {@code char}-valued
@@ -98,6 +108,47 @@ public interface CharBinaryOperator extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link CharBinaryOperator} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * CharBinaryOperator} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * operator calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code CharBinaryOperator} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static CharBinaryOperator unboxed(
+            @Nonnull BiFunction<? super Character, ? super Character, ? extends Character> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof CharBinaryOperator) {
+            return (CharBinaryOperator) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link CharBinaryOperator}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiCharFunction} that returns an {@link OptionalChar} result. The result of the
+     * given operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code CharBinaryOperator} lifted into a total {@code BiCharFunction} that returns an {@code
+     * OptionalChar} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiCharFunction<OptionalChar> lift(@Nonnull BiCharPredicate isDefined, @Nonnull CharBinaryOperator partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.test(value1, value2)
+                ? OptionalChar.of(partial.applyAsChar(value1, value2))
+                : OptionalChar.empty();
+    }
+
     /**
      * Calls the given {@link CharBinaryOperator} with the given arguments and returns its result.
      *
@@ -124,7 +175,25 @@ public interface CharBinaryOperator extends Lambda {
     @Nonnull
     static CharBinaryOperator onlyFirst(@Nonnull CharUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2) -> operator.applyAsChar(value1);
+        /**
+         * A {@code CharBinaryOperator} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements CharBinaryOperator {
+
+            /**
+             * Creates a {@code CharBinaryOperator} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, operator);
+            }
+
+            @Override
+            public char applyAsChar(char value1, char value2) {
+                return operator.applyAsChar(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -139,18 +208,56 @@ public interface CharBinaryOperator extends Lambda {
     @Nonnull
     static CharBinaryOperator onlySecond(@Nonnull CharUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2) -> operator.applyAsChar(value2);
+        /**
+         * A {@code CharBinaryOperator} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements CharBinaryOperator {
+
+            /**
+             * Creates a {@code CharBinaryOperator} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, operator);
+            }
+
+            @Override
+            public char applyAsChar(char value1, char value2) {
+                return operator.applyAsChar(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link CharBinaryOperator} which always returns a given value.
+     * Creates a {@link CharBinaryOperator} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code CharBinaryOperator} which always returns a given value.
      */
     @Nonnull
     static CharBinaryOperator constant(char ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code CharBinaryOperator} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements CharBinaryOperator {
+
+            /**
+             * Creates a constant {@code CharBinaryOperator}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public char applyAsChar(char value1, char value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -185,6 +292,38 @@ public interface CharBinaryOperator extends Lambda {
         return (value1, value2) -> comparator.compare(value1, value2) >= 0 ? value1 : value2;
     }
 
+    /**
+     * Returns a {@link CharBinaryOperator} which returns the lesser of two elements according to the specified {@link
+     * CharComparator}. In contrast to {@link #minBy(Comparator)}, the operands are compared without boxing them.
+     *
+     * @param comparator A {@code CharComparator} for comparing the two values
+     * @return A {@code CharBinaryOperator} which returns the lesser of its operands, according to the supplied {@code
+     * CharComparator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BinaryOperator#minBy(Comparator)
+     */
+    @Nonnull
+    static CharBinaryOperator minByChar(@Nonnull CharComparator comparator) {
+        Objects.requireNonNull(comparator);
+        return (value1, value2) -> comparator.compare(value1, value2) <= 0 ? value1 : value2;
+    }
+
+    /**
+     * Returns a {@link CharBinaryOperator} which returns the greater of two elements according to the specified {@link
+     * CharComparator}. In contrast to {@link #maxBy(Comparator)}, the operands are compared without boxing them.
+     *
+     * @param comparator A {@code CharComparator} for comparing the two values
+     * @return A {@code CharBinaryOperator} which returns the greater of its operands, according to the supplied {@code
+     * CharComparator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BinaryOperator#maxBy(Comparator)
+     */
+    @Nonnull
+    static CharBinaryOperator maxByChar(@Nonnull CharComparator comparator) {
+        Objects.requireNonNull(comparator);
+        return (value1, value2) -> comparator.compare(value1, value2) >= 0 ? value1 : value2;
+    }
+
     /**
      * Applies this operator to the given arguments.
      *
@@ -194,6 +333,84 @@ public interface CharBinaryOperator extends Lambda {
      */
     char applyAsChar(char value1, char value2);
 
+    /**
+     * Applies this operator to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the operator
+     * @return The return value from the operator, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see CharCharPair
+     */
+    default char applyAsChar(@Nonnull CharCharPair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsChar(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The result array may be one of the
+     * argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsChar(@Nonnull char[] values1, @Nonnull char[] values2, @Nonnull char[] results) {
+        applyAsChar(values1, values2, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array from the given start index (inclusive) to the
+     * given end index (exclusive), and stores the results at that index of the given result array. The result array may
+     * be one of the argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsChar(@Nonnull char[] values1, @Nonnull char[] values2, @Nonnull char[] results, int fromIndex,
+            int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values1.length);
+        KernelUtils.checkRange(fromIndex, toIndex, values2.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsChar(values1[i], values2[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector in each
+     * array, and stores the results at these indices of the given result array, whose other elements are left
+     * unchanged.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsChar(@Nonnull char[] values1, @Nonnull char[] values2, @Nonnull char[] results,
+            @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsChar(values1[index], values2[index]);
+        }
+    }
+
     /**
      * Applies this operator partially to some arguments of this one, producing a {@link CharUnaryOperator} as result.
      *
@@ -205,6 +422,44 @@ public interface CharBinaryOperator extends Lambda {
         return value2 -> applyAsChar(value1, value2);
     }
 
+    /**
+     * Applies this operator to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsCharParallel(@Nonnull char[] values1, @Nonnull char[] values2, @Nonnull char[] results) {
+        applyAsCharParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsCharParallel(@Nonnull char[] values1, @Nonnull char[] values2, @Nonnull char[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsChar(values1, values2, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -301,6 +556,9 @@ public interface CharBinaryOperator extends Lambda {
             @Nonnull CharUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsChar(before1.applyAsChar(value1), before2.applyAsChar(value2));
     }
 
@@ -425,10 +683,15 @@ public interface CharBinaryOperator extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiCharFunction<S> andThen(@Nonnull CharFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharFunction.constant(after.apply(applyAsChar('\0', '\0')));
+        }
         return (value1, value2) -> after.apply(applyAsChar(value1, value2));
     }
 
@@ -444,10 +707,15 @@ public interface CharBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharPredicate andThenToBoolean(@Nonnull CharPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharPredicate.constant(after.test(applyAsChar('\0', '\0')));
+        }
         return (value1, value2) -> after.test(applyAsChar(value1, value2));
     }
 
@@ -463,10 +731,15 @@ public interface CharBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToByteFunction andThenToByte(@Nonnull CharToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToByteFunction.constant(after.applyAsByte(applyAsChar('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsChar(value1, value2));
     }
 
@@ -482,10 +755,18 @@ public interface CharBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharBinaryOperator andThenToChar(@Nonnull CharUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return CharBinaryOperator.constant(after.applyAsChar(applyAsChar('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsChar(value1, value2));
     }
 
@@ -501,10 +782,15 @@ public interface CharBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToDoubleFunction andThenToDouble(@Nonnull CharToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToDoubleFunction.constant(after.applyAsDouble(applyAsChar('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsChar(value1, value2));
     }
 
@@ -520,10 +806,15 @@ public interface CharBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToFloatFunction andThenToFloat(@Nonnull CharToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToFloatFunction.constant(after.applyAsFloat(applyAsChar('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsChar(value1, value2));
     }
 
@@ -539,10 +830,15 @@ public interface CharBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToIntFunction andThenToInt(@Nonnull CharToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToIntFunction.constant(after.applyAsInt(applyAsChar('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsChar(value1, value2));
     }
 
@@ -558,10 +854,15 @@ public interface CharBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToLongFunction andThenToLong(@Nonnull CharToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToLongFunction.constant(after.applyAsLong(applyAsChar('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsChar(value1, value2));
     }
 
@@ -577,10 +878,15 @@ public interface CharBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiCharToShortFunction andThenToShort(@Nonnull CharToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiCharToShortFunction.constant(after.applyAsShort(applyAsChar('\0', '\0')));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsChar(value1, value2));
     }
 
@@ -600,6 +906,16 @@ public interface CharBinaryOperator extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsChar(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this operator.
+     *
+     * @return A tupled version of this operator.
+     */
+    @Nonnull
+    default ToCharFunction<CharCharPair> tupled() {
+        return this::applyAsChar;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -607,7 +923,29 @@ public interface CharBinaryOperator extends Lambda {
      */
     @Nonnull
     default CharBinaryOperator reversed() {
-        return (value2, value1) -> applyAsChar(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof CharBinaryOperator) {
+            return (CharBinaryOperator) original;
+        }
+        /**
+         * A {@code CharBinaryOperator} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements CharBinaryOperator {
+
+            /**
+             * Creates the reversal of this {@code CharBinaryOperator}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, CharBinaryOperator.this);
+            }
+
+            @Override
+            public char applyAsChar(char value2, char value1) {
+                return CharBinaryOperator.this.applyAsChar(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -629,14 +967,84 @@ public interface CharBinaryOperator extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Character, Character>, Character> cache = new ConcurrentHashMap<>();
-            return (CharBinaryOperator & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsChar(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link CharBinaryOperator}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code CharBinaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default CharBinaryOperator memoized(@Nonnull MemoStore<CharCharPair, Character> store) {
+        Objects.requireNonNull(store);
+        return (CharBinaryOperator & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(CharCharPair.of(value1, value2),
+                    key -> applyAsChar(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link CharBinaryOperator}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code CharBinaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default CharBinaryOperator adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link CharBinaryOperator}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code CharBinaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default CharBinaryOperator adaptivelyMemoized(@Nonnull AdaptiveMemoizer<CharCharPair, Character> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (CharBinaryOperator & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(CharCharPair.of(value1, value2),
+                    key -> applyAsChar(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BinaryOperator2} which represents this {@link CharBinaryOperator}. Thereby the
      * primitive input argument for this operator is autoboxed. This method provides the possibility to use this {@code
@@ -646,6 +1054,24 @@ public interface CharBinaryOperator extends Lambda {
      */
     @Nonnull
     default BinaryOperator2<Character> boxed() {
-        return this::applyAsChar;
+        /**
+         * A {@code BinaryOperator2} which applies this {@code CharBinaryOperator} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BinaryOperator2<Character> {
+
+            /**
+             * Creates the boxed variant of this {@code CharBinaryOperator}.
+             */
+            Boxed() {
+                super(CharBinaryOperator.this);
+            }
+
+            @Override
+            public Character apply(Character t, Character u) {
+                return CharBinaryOperator.this.applyAsChar(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
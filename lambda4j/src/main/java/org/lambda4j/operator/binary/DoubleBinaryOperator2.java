@@ -17,9 +17,10 @@
 package org.lambda4j.operator.binary;
 
 import java.util.Comparator;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleConsumer;
@@ -37,9 +38,12 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.comparator.DoubleComparator;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.bi.BiDoubleConsumer;
 import org.lambda4j.function.bi.BiDoubleFunction;
 import org.lambda4j.function.bi.conversion.BiBooleanToDoubleFunction;
@@ -65,8 +69,15 @@ import org.lambda4j.function.conversion.DoubleToFloatFunction;
 import org.lambda4j.function.conversion.DoubleToShortFunction;
 import org.lambda4j.function.conversion.FloatToDoubleFunction;
 import org.lambda4j.function.conversion.ShortToDoubleFunction;
+import org.lambda4j.function.to.ToDoubleFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.DoubleUnaryOperator2;
 import org.lambda4j.predicate.bi.BiDoublePredicate;
+import org.lambda4j.tuple.DoubleDoublePair;
 
 /**
  * Represents an operation that accepts two {@code double}-valued input arguments and produces a {@code double}-valued
@@ -101,6 +112,48 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
         return expression;
     }
 
+    /**
+     * Returns a {@link DoubleBinaryOperator2} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * DoubleBinaryOperator2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code DoubleBinaryOperator2} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static DoubleBinaryOperator2 unboxed(
+            @Nonnull BiFunction<? super Double, ? super Double, ? extends Double> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof DoubleBinaryOperator2) {
+            return (DoubleBinaryOperator2) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link DoubleBinaryOperator2}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiDoubleFunction} that returns an {@link OptionalDouble} result. The result of the
+     * given operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code DoubleBinaryOperator2} lifted into a total {@code BiDoubleFunction} that returns an
+     * {@code OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiDoubleFunction<OptionalDouble> lift(
+            @Nonnull BiDoublePredicate isDefined, @Nonnull DoubleBinaryOperator2 partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.test(value1, value2)
+                ? OptionalDouble.of(partial.applyAsDouble(value1, value2))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link DoubleBinaryOperator} with the given arguments and returns its result.
      *
@@ -127,7 +180,25 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
     @Nonnull
     static DoubleBinaryOperator2 onlyFirst(@Nonnull DoubleUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2) -> operator.applyAsDouble(value1);
+        /**
+         * A {@code DoubleBinaryOperator2} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements DoubleBinaryOperator2 {
+
+            /**
+             * Creates a {@code DoubleBinaryOperator2} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, operator);
+            }
+
+            @Override
+            public double applyAsDouble(double value1, double value2) {
+                return operator.applyAsDouble(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -142,18 +213,56 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
     @Nonnull
     static DoubleBinaryOperator2 onlySecond(@Nonnull DoubleUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2) -> operator.applyAsDouble(value2);
+        /**
+         * A {@code DoubleBinaryOperator2} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements DoubleBinaryOperator2 {
+
+            /**
+             * Creates a {@code DoubleBinaryOperator2} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, operator);
+            }
+
+            @Override
+            public double applyAsDouble(double value1, double value2) {
+                return operator.applyAsDouble(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link DoubleBinaryOperator2} which always returns a given value.
+     * Creates a {@link DoubleBinaryOperator2} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code DoubleBinaryOperator2} which always returns a given value.
      */
     @Nonnull
     static DoubleBinaryOperator2 constant(double ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code DoubleBinaryOperator2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements DoubleBinaryOperator2 {
+
+            /**
+             * Creates a constant {@code DoubleBinaryOperator2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public double applyAsDouble(double value1, double value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -188,6 +297,40 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
         return (value1, value2) -> comparator.compare(value1, value2) >= 0 ? value1 : value2;
     }
 
+    /**
+     * Returns a {@link DoubleBinaryOperator2} which returns the lesser of two elements according to the specified
+     * {@link DoubleComparator}. In contrast to {@link #minBy(Comparator)}, the operands are compared without boxing
+     * them.
+     *
+     * @param comparator A {@code DoubleComparator} for comparing the two values
+     * @return A {@code DoubleBinaryOperator2} which returns the lesser of its operands, according to the supplied
+     * {@code DoubleComparator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BinaryOperator#minBy(Comparator)
+     */
+    @Nonnull
+    static DoubleBinaryOperator2 minByDouble(@Nonnull DoubleComparator comparator) {
+        Objects.requireNonNull(comparator);
+        return (value1, value2) -> comparator.compare(value1, value2) <= 0 ? value1 : value2;
+    }
+
+    /**
+     * Returns a {@link DoubleBinaryOperator2} which returns the greater of two elements according to the specified
+     * {@link DoubleComparator}. In contrast to {@link #maxBy(Comparator)}, the operands are compared without boxing
+     * them.
+     *
+     * @param comparator A {@code DoubleComparator} for comparing the two values
+     * @return A {@code DoubleBinaryOperator2} which returns the greater of its operands, according to the supplied
+     * {@code DoubleComparator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BinaryOperator#maxBy(Comparator)
+     */
+    @Nonnull
+    static DoubleBinaryOperator2 maxByDouble(@Nonnull DoubleComparator comparator) {
+        Objects.requireNonNull(comparator);
+        return (value1, value2) -> comparator.compare(value1, value2) >= 0 ? value1 : value2;
+    }
+
     /**
      * Applies this operator to the given arguments.
      *
@@ -198,6 +341,84 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
     @Override
     double applyAsDouble(double value1, double value2);
 
+    /**
+     * Applies this operator to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the operator
+     * @return The return value from the operator, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see DoubleDoublePair
+     */
+    default double applyAsDouble(@Nonnull DoubleDoublePair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsDouble(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The result array may be one of the
+     * argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDouble(@Nonnull double[] values1, @Nonnull double[] values2, @Nonnull double[] results) {
+        applyAsDouble(values1, values2, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array from the given start index (inclusive) to the
+     * given end index (exclusive), and stores the results at that index of the given result array. The result array may
+     * be one of the argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsDouble(@Nonnull double[] values1, @Nonnull double[] values2, @Nonnull double[] results,
+            int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values1.length);
+        KernelUtils.checkRange(fromIndex, toIndex, values2.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsDouble(values1[i], values2[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector in each
+     * array, and stores the results at these indices of the given result array, whose other elements are left
+     * unchanged.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsDouble(@Nonnull double[] values1, @Nonnull double[] values2, @Nonnull double[] results,
+            @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsDouble(values1[index], values2[index]);
+        }
+    }
+
     /**
      * Applies this operator partially to some arguments of this one, producing a {@link DoubleUnaryOperator2} as
      * result.
@@ -210,6 +431,45 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
         return value2 -> applyAsDouble(value1, value2);
     }
 
+    /**
+     * Applies this operator to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsDoubleParallel(@Nonnull double[] values1, @Nonnull double[] values2,
+            @Nonnull double[] results) {
+        applyAsDoubleParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDoubleParallel(@Nonnull double[] values1, @Nonnull double[] values2, @Nonnull double[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsDouble(values1, values2, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -328,6 +588,9 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
             @Nonnull DoubleUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsDouble(before1.applyAsDouble(value1), before2.applyAsDouble(value2));
     }
 
@@ -430,10 +693,15 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiDoubleFunction<S> andThen(@Nonnull DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleFunction.constant(after.apply(applyAsDouble(0d, 0d)));
+        }
         return (value1, value2) -> after.apply(applyAsDouble(value1, value2));
     }
 
@@ -449,10 +717,15 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoublePredicate andThenToBoolean(@Nonnull DoublePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoublePredicate.constant(after.test(applyAsDouble(0d, 0d)));
+        }
         return (value1, value2) -> after.test(applyAsDouble(value1, value2));
     }
 
@@ -468,10 +741,15 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToByteFunction andThenToByte(@Nonnull DoubleToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToByteFunction.constant(after.applyAsByte(applyAsDouble(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsDouble(value1, value2));
     }
 
@@ -487,10 +765,15 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToCharFunction andThenToChar(@Nonnull DoubleToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToCharFunction.constant(after.applyAsChar(applyAsDouble(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsDouble(value1, value2));
     }
 
@@ -506,10 +789,18 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleBinaryOperator2 andThenToDouble(@Nonnull DoubleUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return DoubleBinaryOperator2.constant(after.applyAsDouble(applyAsDouble(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsDouble(value1, value2));
     }
 
@@ -525,10 +816,15 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToFloatFunction andThenToFloat(@Nonnull DoubleToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToFloatFunction.constant(after.applyAsFloat(applyAsDouble(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsDouble(value1, value2));
     }
 
@@ -544,10 +840,15 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToIntFunction andThenToInt(@Nonnull DoubleToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToIntFunction.constant(after.applyAsInt(applyAsDouble(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsDouble(value1, value2));
     }
 
@@ -563,10 +864,15 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToLongFunction andThenToLong(@Nonnull DoubleToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToLongFunction.constant(after.applyAsLong(applyAsDouble(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsDouble(value1, value2));
     }
 
@@ -582,10 +888,15 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToShortFunction andThenToShort(@Nonnull DoubleToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToShortFunction.constant(after.applyAsShort(applyAsDouble(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsDouble(value1, value2));
     }
 
@@ -605,6 +916,16 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
         return (value1, value2) -> consumer.accept(applyAsDouble(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this operator.
+     *
+     * @return A tupled version of this operator.
+     */
+    @Nonnull
+    default ToDoubleFunction2<DoubleDoublePair> tupled() {
+        return this::applyAsDouble;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -612,7 +933,29 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      */
     @Nonnull
     default DoubleBinaryOperator2 reversed() {
-        return (value2, value1) -> applyAsDouble(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof DoubleBinaryOperator2) {
+            return (DoubleBinaryOperator2) original;
+        }
+        /**
+         * A {@code DoubleBinaryOperator2} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements DoubleBinaryOperator2 {
+
+            /**
+             * Creates the reversal of this {@code DoubleBinaryOperator2}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, DoubleBinaryOperator2.this);
+            }
+
+            @Override
+            public double applyAsDouble(double value2, double value1) {
+                return DoubleBinaryOperator2.this.applyAsDouble(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -634,14 +977,84 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Double, Double>, Double> cache = new ConcurrentHashMap<>();
-            return (DoubleBinaryOperator2 & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsDouble(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link DoubleBinaryOperator2}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code DoubleBinaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default DoubleBinaryOperator2 memoized(@Nonnull MemoStore<DoubleDoublePair, Double> store) {
+        Objects.requireNonNull(store);
+        return (DoubleBinaryOperator2 & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(DoubleDoublePair.of(value1, value2),
+                    key -> applyAsDouble(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link DoubleBinaryOperator2}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code DoubleBinaryOperator2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default DoubleBinaryOperator2 adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link DoubleBinaryOperator2}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code DoubleBinaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default DoubleBinaryOperator2 adaptivelyMemoized(@Nonnull AdaptiveMemoizer<DoubleDoublePair, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (DoubleBinaryOperator2 & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(DoubleDoublePair.of(value1, value2),
+                    key -> applyAsDouble(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BinaryOperator2} which represents this {@link DoubleBinaryOperator2}. Thereby the
      * primitive input argument for this operator is autoboxed. This method provides the possibility to use this {@code
@@ -651,6 +1064,24 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      */
     @Nonnull
     default BinaryOperator2<Double> boxed() {
-        return this::applyAsDouble;
+        /**
+         * A {@code BinaryOperator2} which applies this {@code DoubleBinaryOperator2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BinaryOperator2<Double> {
+
+            /**
+             * Creates the boxed variant of this {@code DoubleBinaryOperator2}.
+             */
+            Boxed() {
+                super(DoubleBinaryOperator2.this);
+            }
+
+            @Override
+            public Double apply(Double t, Double u) {
+                return DoubleBinaryOperator2.this.applyAsDouble(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
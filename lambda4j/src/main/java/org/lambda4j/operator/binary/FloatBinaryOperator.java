@@ -17,9 +17,9 @@
 package org.lambda4j.operator.binary;
 
 import java.util.Comparator;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 
 import javax.annotation.CheckForNull;
@@ -27,9 +27,12 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.comparator.FloatComparator;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.FloatConsumer;
 import org.lambda4j.consumer.bi.BiFloatConsumer;
 import org.lambda4j.function.FloatFunction;
@@ -62,9 +65,16 @@ import org.lambda4j.function.conversion.IntToFloatFunction;
 import org.lambda4j.function.conversion.LongToFloatFunction;
 import org.lambda4j.function.conversion.ShortToFloatFunction;
 import org.lambda4j.function.to.ToFloatFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
+import org.lambda4j.optional.OptionalFloat;
 import org.lambda4j.predicate.FloatPredicate;
 import org.lambda4j.predicate.bi.BiFloatPredicate;
+import org.lambda4j.tuple.FloatFloatPair;
 
 /**
  * Represents an operation that accepts two {@code float}-valued input arguments and produces a {@code float}-valued
@@ -98,6 +108,47 @@ public interface FloatBinaryOperator extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link FloatBinaryOperator} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * FloatBinaryOperator} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * operator calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code FloatBinaryOperator} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static FloatBinaryOperator unboxed(@Nonnull BiFunction<? super Float, ? super Float, ? extends Float> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof FloatBinaryOperator) {
+            return (FloatBinaryOperator) original;
+        }
+        return (value1, value2) -> function.apply(value1, value2);
+    }
+
+    /**
+     * Lifts a partial {@link FloatBinaryOperator}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BiFloatFunction} that returns an {@link OptionalFloat} result. The result of the
+     * given operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code FloatBinaryOperator} lifted into a total {@code BiFloatFunction} that returns an {@code
+     * OptionalFloat} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BiFloatFunction<OptionalFloat> lift(
+            @Nonnull BiFloatPredicate isDefined, @Nonnull FloatBinaryOperator partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.test(value1, value2)
+                ? OptionalFloat.of(partial.applyAsFloat(value1, value2))
+                : OptionalFloat.empty();
+    }
+
     /**
      * Calls the given {@link FloatBinaryOperator} with the given arguments and returns its result.
      *
@@ -124,7 +175,25 @@ public interface FloatBinaryOperator extends Lambda {
     @Nonnull
     static FloatBinaryOperator onlyFirst(@Nonnull FloatUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2) -> operator.applyAsFloat(value1);
+        /**
+         * A {@code FloatBinaryOperator} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements FloatBinaryOperator {
+
+            /**
+             * Creates a {@code FloatBinaryOperator} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, operator);
+            }
+
+            @Override
+            public float applyAsFloat(float value1, float value2) {
+                return operator.applyAsFloat(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -139,18 +208,56 @@ public interface FloatBinaryOperator extends Lambda {
     @Nonnull
     static FloatBinaryOperator onlySecond(@Nonnull FloatUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2) -> operator.applyAsFloat(value2);
+        /**
+         * A {@code FloatBinaryOperator} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements FloatBinaryOperator {
+
+            /**
+             * Creates a {@code FloatBinaryOperator} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, operator);
+            }
+
+            @Override
+            public float applyAsFloat(float value1, float value2) {
+                return operator.applyAsFloat(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link FloatBinaryOperator} which always returns a given value.
+     * Creates a {@link FloatBinaryOperator} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code FloatBinaryOperator} which always returns a given value.
      */
     @Nonnull
     static FloatBinaryOperator constant(float ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code FloatBinaryOperator} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements FloatBinaryOperator {
+
+            /**
+             * Creates a constant {@code FloatBinaryOperator}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public float applyAsFloat(float value1, float value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -185,6 +292,38 @@ public interface FloatBinaryOperator extends Lambda {
         return (value1, value2) -> comparator.compare(value1, value2) >= 0 ? value1 : value2;
     }
 
+    /**
+     * Returns a {@link FloatBinaryOperator} which returns the lesser of two elements according to the specified {@link
+     * FloatComparator}. In contrast to {@link #minBy(Comparator)}, the operands are compared without boxing them.
+     *
+     * @param comparator A {@code FloatComparator} for comparing the two values
+     * @return A {@code FloatBinaryOperator} which returns the lesser of its operands, according to the supplied {@code
+     * FloatComparator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BinaryOperator#minBy(Comparator)
+     */
+    @Nonnull
+    static FloatBinaryOperator minByFloat(@Nonnull FloatComparator comparator) {
+        Objects.requireNonNull(comparator);
+        return (value1, value2) -> comparator.compare(value1, value2) <= 0 ? value1 : value2;
+    }
+
+    /**
+     * Returns a {@link FloatBinaryOperator} which returns the greater of two elements according to the specified {@link
+     * FloatComparator}. In contrast to {@link #maxBy(Comparator)}, the operands are compared without boxing them.
+     *
+     * @param comparator A {@code FloatComparator} for comparing the two values
+     * @return A {@code FloatBinaryOperator} which returns the greater of its operands, according to the supplied {@code
+     * FloatComparator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BinaryOperator#maxBy(Comparator)
+     */
+    @Nonnull
+    static FloatBinaryOperator maxByFloat(@Nonnull FloatComparator comparator) {
+        Objects.requireNonNull(comparator);
+        return (value1, value2) -> comparator.compare(value1, value2) >= 0 ? value1 : value2;
+    }
+
     /**
      * Applies this operator to the given arguments.
      *
@@ -194,6 +333,84 @@ public interface FloatBinaryOperator extends Lambda {
      */
     float applyAsFloat(float value1, float value2);
 
+    /**
+     * Applies this operator to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the operator
+     * @return The return value from the operator, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see FloatFloatPair
+     */
+    default float applyAsFloat(@Nonnull FloatFloatPair tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsFloat(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The result array may be one of the
+     * argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsFloat(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull float[] results) {
+        applyAsFloat(values1, values2, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array from the given start index (inclusive) to the
+     * given end index (exclusive), and stores the results at that index of the given result array. The result array may
+     * be one of the argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsFloat(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull float[] results,
+            int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values1.length);
+        KernelUtils.checkRange(fromIndex, toIndex, values2.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsFloat(values1[i], values2[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector in each
+     * array, and stores the results at these indices of the given result array, whose other elements are left
+     * unchanged.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsFloat(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull float[] results,
+            @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsFloat(values1[index], values2[index]);
+        }
+    }
+
     /**
      * Applies this operator partially to some arguments of this one, producing a {@link FloatUnaryOperator} as result.
      *
@@ -205,6 +422,44 @@ public interface FloatBinaryOperator extends Lambda {
         return value2 -> applyAsFloat(value1, value2);
     }
 
+    /**
+     * Applies this operator to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsFloatParallel(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull float[] results) {
+        applyAsFloatParallel(values1, values2, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsFloatParallel(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull float[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsFloat(values1, values2, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -345,6 +600,9 @@ public interface FloatBinaryOperator extends Lambda {
             @Nonnull FloatUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> applyAsFloat(before1.applyAsFloat(value1), before2.applyAsFloat(value2));
     }
 
@@ -425,10 +683,15 @@ public interface FloatBinaryOperator extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiFloatFunction<S> andThen(@Nonnull FloatFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatFunction.constant(after.apply(applyAsFloat(0f, 0f)));
+        }
         return (value1, value2) -> after.apply(applyAsFloat(value1, value2));
     }
 
@@ -444,10 +707,15 @@ public interface FloatBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatPredicate andThenToBoolean(@Nonnull FloatPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatPredicate.constant(after.test(applyAsFloat(0f, 0f)));
+        }
         return (value1, value2) -> after.test(applyAsFloat(value1, value2));
     }
 
@@ -463,10 +731,15 @@ public interface FloatBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToByteFunction andThenToByte(@Nonnull FloatToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToByteFunction.constant(after.applyAsByte(applyAsFloat(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsByte(applyAsFloat(value1, value2));
     }
 
@@ -482,10 +755,15 @@ public interface FloatBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToCharFunction andThenToChar(@Nonnull FloatToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToCharFunction.constant(after.applyAsChar(applyAsFloat(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsChar(applyAsFloat(value1, value2));
     }
 
@@ -501,10 +779,15 @@ public interface FloatBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToDoubleFunction andThenToDouble(@Nonnull FloatToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToDoubleFunction.constant(after.applyAsDouble(applyAsFloat(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsDouble(applyAsFloat(value1, value2));
     }
 
@@ -520,10 +803,18 @@ public interface FloatBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatBinaryOperator andThenToFloat(@Nonnull FloatUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return FloatBinaryOperator.constant(after.applyAsFloat(applyAsFloat(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsFloat(applyAsFloat(value1, value2));
     }
 
@@ -539,10 +830,15 @@ public interface FloatBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToIntFunction andThenToInt(@Nonnull FloatToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToIntFunction.constant(after.applyAsInt(applyAsFloat(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsInt(applyAsFloat(value1, value2));
     }
 
@@ -558,10 +854,15 @@ public interface FloatBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToLongFunction andThenToLong(@Nonnull FloatToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToLongFunction.constant(after.applyAsLong(applyAsFloat(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsLong(applyAsFloat(value1, value2));
     }
 
@@ -577,10 +878,15 @@ public interface FloatBinaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToShortFunction andThenToShort(@Nonnull FloatToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToShortFunction.constant(after.applyAsShort(applyAsFloat(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsShort(applyAsFloat(value1, value2));
     }
 
@@ -600,6 +906,16 @@ public interface FloatBinaryOperator extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsFloat(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this operator.
+     *
+     * @return A tupled version of this operator.
+     */
+    @Nonnull
+    default ToFloatFunction<FloatFloatPair> tupled() {
+        return this::applyAsFloat;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -607,7 +923,29 @@ public interface FloatBinaryOperator extends Lambda {
      */
     @Nonnull
     default FloatBinaryOperator reversed() {
-        return (value2, value1) -> applyAsFloat(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof FloatBinaryOperator) {
+            return (FloatBinaryOperator) original;
+        }
+        /**
+         * A {@code FloatBinaryOperator} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements FloatBinaryOperator {
+
+            /**
+             * Creates the reversal of this {@code FloatBinaryOperator}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, FloatBinaryOperator.this);
+            }
+
+            @Override
+            public float applyAsFloat(float value2, float value1) {
+                return FloatBinaryOperator.this.applyAsFloat(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -629,14 +967,84 @@ public interface FloatBinaryOperator extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Float, Float>, Float> cache = new ConcurrentHashMap<>();
-            return (FloatBinaryOperator & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        key -> applyAsFloat(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link FloatBinaryOperator}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code FloatBinaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default FloatBinaryOperator memoized(@Nonnull MemoStore<FloatFloatPair, Float> store) {
+        Objects.requireNonNull(store);
+        return (FloatBinaryOperator & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(FloatFloatPair.of(value1, value2),
+                    key -> applyAsFloat(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link FloatBinaryOperator}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code FloatBinaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default FloatBinaryOperator adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link FloatBinaryOperator}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code FloatBinaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default FloatBinaryOperator adaptivelyMemoized(@Nonnull AdaptiveMemoizer<FloatFloatPair, Float> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (FloatBinaryOperator & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(FloatFloatPair.of(value1, value2),
+                    key -> applyAsFloat(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BinaryOperator2} which represents this {@link FloatBinaryOperator}. Thereby the
      * primitive input argument for this operator is autoboxed. This method provides the possibility to use this {@code
@@ -646,6 +1054,24 @@ public interface FloatBinaryOperator extends Lambda {
      */
     @Nonnull
     default BinaryOperator2<Float> boxed() {
-        return this::applyAsFloat;
+        /**
+         * A {@code BinaryOperator2} which applies this {@code FloatBinaryOperator} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BinaryOperator2<Float> {
+
+            /**
+             * Creates the boxed variant of this {@code FloatBinaryOperator}.
+             */
+            Boxed() {
+                super(FloatBinaryOperator.this);
+            }
+
+            @Override
+            public Float apply(Float t, Float u) {
+                return FloatBinaryOperator.this.applyAsFloat(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -17,9 +17,7 @@
 package org.lambda4j.operator.binary;
 
 import java.util.Comparator;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 
@@ -28,8 +26,6 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
 import org.lambda4j.consumer.ThrowableBooleanConsumer;
 import org.lambda4j.consumer.bi.ThrowableBiBooleanConsumer;
@@ -51,7 +47,11 @@ import org.lambda4j.function.conversion.ThrowableBooleanToFloatFunction;
 import org.lambda4j.function.conversion.ThrowableBooleanToIntFunction;
 import org.lambda4j.function.conversion.ThrowableBooleanToLongFunction;
 import org.lambda4j.function.conversion.ThrowableBooleanToShortFunction;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.ThrowableBooleanUnaryOperator;
+import org.lambda4j.optional.OptionalBoolean;
 import org.lambda4j.predicate.ThrowableBytePredicate;
 import org.lambda4j.predicate.ThrowableCharPredicate;
 import org.lambda4j.predicate.ThrowableDoublePredicate;
@@ -68,6 +68,7 @@ import org.lambda4j.predicate.bi.ThrowableBiIntPredicate;
 import org.lambda4j.predicate.bi.ThrowableBiLongPredicate;
 import org.lambda4j.predicate.bi.ThrowableBiPredicate;
 import org.lambda4j.predicate.bi.ThrowableBiShortPredicate;
+import org.lambda4j.tuple.BooleanBooleanPair;
 import org.lambda4j.util.ThrowableUtils;
 
 /**
@@ -106,6 +107,29 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
         return expression;
     }
 
+    /**
+     * Lifts a partial {@link ThrowableBooleanBinaryOperator}, which is only defined for the arguments accepted by the
+     * given predicate, into a total {@link ThrowableBiBooleanFunction} that returns an {@link OptionalBoolean} result.
+     * The result of the given operator is not boxed.
+     *
+     * @param <X> The type of the throwable to be thrown by this operator
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code ThrowableBooleanBinaryOperator} lifted into a total {@code ThrowableBiBooleanFunction}
+     * that returns an {@code OptionalBoolean} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static <X extends Throwable> ThrowableBiBooleanFunction<OptionalBoolean, X> lift(
+            @Nonnull ThrowableBooleanBinaryOperator<? extends X> isDefined,
+            @Nonnull ThrowableBooleanBinaryOperator<? extends X> partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2) -> isDefined.applyAsBooleanThrows(value1, value2)
+                ? OptionalBoolean.of(partial.applyAsBooleanThrows(value1, value2))
+                : OptionalBoolean.empty();
+    }
+
     /**
      * Calls the given {@link ThrowableBooleanBinaryOperator} with the given arguments and returns its result.
      *
@@ -215,6 +239,20 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
      */
     boolean applyAsBooleanThrows(boolean value1, boolean value2) throws X;
 
+    /**
+     * Applies this operator to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the operator
+     * @return The return value from the operator, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this operators action
+     * @see BooleanBooleanPair
+     */
+    default boolean applyAsBooleanThrows(@Nonnull BooleanBooleanPair tuple) throws X {
+        Objects.requireNonNull(tuple);
+        return applyAsBooleanThrows(tuple.getLeft(), tuple.getRight());
+    }
+
     /**
      * Applies this operator partially to some arguments of this one, producing a {@link ThrowableBooleanUnaryOperator}
      * as result.
@@ -617,6 +655,16 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
         return (value1, value2) -> consumer.acceptThrows(applyAsBooleanThrows(value1, value2));
     }
 
+    /**
+     * Returns a tupled version of this operator.
+     *
+     * @return A tupled version of this operator.
+     */
+    @Nonnull
+    default ThrowablePredicate<BooleanBooleanPair, X> tupled() {
+        return this::applyAsBooleanThrows;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -646,14 +694,85 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Boolean, Boolean>, Boolean> cache = new ConcurrentHashMap<>();
-            return (ThrowableBooleanBinaryOperator<X> & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2),
-                        ThrowableFunction.of(key -> applyAsBooleanThrows(key.getLeft(), key.getRight())));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableBooleanBinaryOperator}, which caches its values in
+     * the given {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the
+     * input parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose
+     * how and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code ThrowableBooleanBinaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ThrowableBooleanBinaryOperator<X> memoized(@Nonnull MemoStore<BooleanBooleanPair, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (ThrowableBooleanBinaryOperator<X> & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    ThrowableFunction.of(key -> applyAsBooleanThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBooleanBinaryOperator}. In contrast to
+     * {@link #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this
+     * operator at runtime, and switches between passing through, caching every value and caching a bounded number of
+     * values, whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBooleanBinaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ThrowableBooleanBinaryOperator<X> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ThrowableBooleanBinaryOperator}, which uses the
+     * given {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code ThrowableBooleanBinaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ThrowableBooleanBinaryOperator<X> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<BooleanBooleanPair, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ThrowableBooleanBinaryOperator<X> & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(BooleanBooleanPair.of(value1, value2),
+                    ThrowableFunction.of(key -> applyAsBooleanThrows(key.getLeft(), key.getRight())));
+        };
+    }
+
     /**
      * Returns a composed {@link ThrowableBinaryOperator} which represents this {@link ThrowableBooleanBinaryOperator}.
      * Thereby the primitive input argument for this operator is autoboxed. This method provides the possibility to use
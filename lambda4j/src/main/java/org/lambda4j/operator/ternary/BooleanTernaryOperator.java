@@ -16,9 +16,8 @@
 
 package org.lambda4j.operator.ternary;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
@@ -29,9 +28,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.tri.TriBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -43,6 +44,7 @@ import org.lambda4j.function.conversion.BooleanToIntFunction;
 import org.lambda4j.function.conversion.BooleanToLongFunction;
 import org.lambda4j.function.conversion.BooleanToShortFunction;
 import org.lambda4j.function.tri.TriBooleanFunction;
+import org.lambda4j.function.tri.TriFunction;
 import org.lambda4j.function.tri.conversion.TriBooleanToByteFunction;
 import org.lambda4j.function.tri.conversion.TriBooleanToCharFunction;
 import org.lambda4j.function.tri.conversion.TriBooleanToDoubleFunction;
@@ -50,11 +52,18 @@ import org.lambda4j.function.tri.conversion.TriBooleanToFloatFunction;
 import org.lambda4j.function.tri.conversion.TriBooleanToIntFunction;
 import org.lambda4j.function.tri.conversion.TriBooleanToLongFunction;
 import org.lambda4j.function.tri.conversion.TriBooleanToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.BooleanBinaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
+import org.lambda4j.optional.OptionalBoolean;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.FloatPredicate;
+import org.lambda4j.predicate.Predicate2;
 import org.lambda4j.predicate.ShortPredicate;
 import org.lambda4j.predicate.tri.TriBytePredicate;
 import org.lambda4j.predicate.tri.TriCharPredicate;
@@ -64,6 +73,7 @@ import org.lambda4j.predicate.tri.TriIntPredicate;
 import org.lambda4j.predicate.tri.TriLongPredicate;
 import org.lambda4j.predicate.tri.TriPredicate;
 import org.lambda4j.predicate.tri.TriShortPredicate;
+import org.lambda4j.tuple.BooleanTriple;
 
 /**
  * Represents an operation that accepts three {@code boolean}-valued input arguments and produces a {@code
@@ -97,6 +107,48 @@ public interface BooleanTernaryOperator extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BooleanTernaryOperator} which represents the given boxed function, so that it can be used with
+     * the primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BooleanTernaryOperator} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * operator calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BooleanTernaryOperator} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BooleanTernaryOperator unboxed(
+            @Nonnull TriFunction<? super Boolean, ? super Boolean, ? super Boolean, ? extends Boolean> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BooleanTernaryOperator) {
+            return (BooleanTernaryOperator) original;
+        }
+        return (value1, value2, value3) -> function.apply(value1, value2, value3);
+    }
+
+    /**
+     * Lifts a partial {@link BooleanTernaryOperator}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link TriBooleanFunction} that returns an {@link OptionalBoolean} result. The result of
+     * the given operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code BooleanTernaryOperator} lifted into a total {@code TriBooleanFunction} that returns an
+     * {@code OptionalBoolean} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static TriBooleanFunction<OptionalBoolean> lift(
+            @Nonnull BooleanTernaryOperator isDefined, @Nonnull BooleanTernaryOperator partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return (value1, value2, value3) -> isDefined.applyAsBoolean(value1, value2, value3)
+                ? OptionalBoolean.of(partial.applyAsBoolean(value1, value2, value3))
+                : OptionalBoolean.empty();
+    }
+
     /**
      * Calls the given {@link BooleanTernaryOperator} with the given arguments and returns its result.
      *
@@ -125,7 +177,25 @@ public interface BooleanTernaryOperator extends Lambda {
     @Nonnull
     static BooleanTernaryOperator onlyFirst(@Nonnull BooleanUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2, value3) -> operator.applyAsBoolean(value1);
+        /**
+         * A {@code BooleanTernaryOperator} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BooleanTernaryOperator {
+
+            /**
+             * Creates a {@code BooleanTernaryOperator} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, operator);
+            }
+
+            @Override
+            public boolean applyAsBoolean(boolean value1, boolean value2, boolean value3) {
+                return operator.applyAsBoolean(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -140,7 +210,25 @@ public interface BooleanTernaryOperator extends Lambda {
     @Nonnull
     static BooleanTernaryOperator onlySecond(@Nonnull BooleanUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2, value3) -> operator.applyAsBoolean(value2);
+        /**
+         * A {@code BooleanTernaryOperator} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BooleanTernaryOperator {
+
+            /**
+             * Creates a {@code BooleanTernaryOperator} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, operator);
+            }
+
+            @Override
+            public boolean applyAsBoolean(boolean value1, boolean value2, boolean value3) {
+                return operator.applyAsBoolean(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -155,18 +243,56 @@ public interface BooleanTernaryOperator extends Lambda {
     @Nonnull
     static BooleanTernaryOperator onlyThird(@Nonnull BooleanUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (value1, value2, value3) -> operator.applyAsBoolean(value3);
+        /**
+         * A {@code BooleanTernaryOperator} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements BooleanTernaryOperator {
+
+            /**
+             * Creates a {@code BooleanTernaryOperator} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, operator);
+            }
+
+            @Override
+            public boolean applyAsBoolean(boolean value1, boolean value2, boolean value3) {
+                return operator.applyAsBoolean(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link BooleanTernaryOperator} which always returns a given value.
+     * Creates a {@link BooleanTernaryOperator} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BooleanTernaryOperator} which always returns a given value.
      */
     @Nonnull
     static BooleanTernaryOperator constant(boolean ret) {
-        return (value1, value2, value3) -> ret;
+        /**
+         * A {@code BooleanTernaryOperator} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BooleanTernaryOperator {
+
+            /**
+             * Creates a constant {@code BooleanTernaryOperator}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean applyAsBoolean(boolean value1, boolean value2, boolean value3) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -179,6 +305,89 @@ public interface BooleanTernaryOperator extends Lambda {
      */
     boolean applyAsBoolean(boolean value1, boolean value2, boolean value3);
 
+    /**
+     * Applies this operator to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the operator
+     * @return The return value from the operator, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see BooleanTriple
+     */
+    default boolean applyAsBoolean(@Nonnull BooleanTriple tuple) {
+        Objects.requireNonNull(tuple);
+        return applyAsBoolean(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The result array may be one of the
+     * argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param values3 The array of third arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsBoolean(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull boolean[] results) {
+        applyAsBoolean(values1, values2, values3, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array from the given start index (inclusive) to the
+     * given end index (exclusive), and stores the results at that index of the given result array. The result array may
+     * be one of the argument arrays, so that it is updated in place.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param values3 The array of third arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsBoolean(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull boolean[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values1.length);
+        KernelUtils.checkRange(fromIndex, toIndex, values2.length);
+        KernelUtils.checkRange(fromIndex, toIndex, values3.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsBoolean(values1[i], values2[i], values3[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector in each
+     * array, and stores the results at these indices of the given result array, whose other elements are left
+     * unchanged.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param values3 The array of third arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsBoolean(@Nonnull boolean[] values1, @Nonnull boolean[] values2, @Nonnull boolean[] values3,
+            @Nonnull boolean[] results, @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsBoolean(values1[index], values2[index], values3[index]);
+        }
+    }
+
     /**
      * Applies this operator partially to some arguments of this one, producing a {@link BooleanBinaryOperator} as
      * result.
@@ -204,6 +413,48 @@ public interface BooleanTernaryOperator extends Lambda {
         return value3 -> applyAsBoolean(value1, value2, value3);
     }
 
+    /**
+     * Applies this operator to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param values3 The array of third arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsBooleanParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2,
+            @Nonnull boolean[] values3, @Nonnull boolean[] results) {
+        applyAsBooleanParallel(values1, values2, values3, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index of each array in parallel, and stores the results at that
+     * index of the given result array, whose length determines the number of applied elements. The results do not
+     * depend on the number of threads. The arrays are split into parts according to the given configuration, which are
+     * applied by the threads of its pool.
+     *
+     * @param values1 The array of first arguments to the operator
+     * @param values2 The array of second arguments to the operator
+     * @param values3 The array of third arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsBooleanParallel(@Nonnull boolean[] values1, @Nonnull boolean[] values2,
+            @Nonnull boolean[] values3, @Nonnull boolean[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values1.length);
+        KernelUtils.checkRange(0, results.length, values2.length);
+        KernelUtils.checkRange(0, results.length, values3.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsBoolean(values1, values2, values3, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -261,6 +512,9 @@ public interface BooleanTernaryOperator extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> applyAsBoolean(before1.applyAsBoolean(value1),
                 before2.applyAsBoolean(value2),
                 before3.applyAsBoolean(value3));
@@ -452,10 +706,15 @@ public interface BooleanTernaryOperator extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriBooleanFunction<S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanFunction.constant(after.apply(applyAsBoolean(false, false, false)));
+        }
         return (value1, value2, value3) -> after.apply(applyAsBoolean(value1, value2, value3));
     }
 
@@ -471,10 +730,18 @@ public interface BooleanTernaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanTernaryOperator andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanTernaryOperator.constant(after.applyAsBoolean(applyAsBoolean(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsBoolean(applyAsBoolean(value1, value2, value3));
     }
 
@@ -490,10 +757,15 @@ public interface BooleanTernaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToByteFunction andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToByteFunction.constant(after.applyAsByte(applyAsBoolean(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsByte(applyAsBoolean(value1, value2, value3));
     }
 
@@ -509,10 +781,15 @@ public interface BooleanTernaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToCharFunction andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToCharFunction.constant(after.applyAsChar(applyAsBoolean(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsChar(applyAsBoolean(value1, value2, value3));
     }
 
@@ -528,10 +805,15 @@ public interface BooleanTernaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToDoubleFunction andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToDoubleFunction.constant(after.applyAsDouble(applyAsBoolean(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsDouble(applyAsBoolean(value1, value2, value3));
     }
 
@@ -547,10 +829,15 @@ public interface BooleanTernaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToFloatFunction andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToFloatFunction.constant(after.applyAsFloat(applyAsBoolean(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsFloat(applyAsBoolean(value1, value2, value3));
     }
 
@@ -566,10 +853,15 @@ public interface BooleanTernaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToIntFunction andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToIntFunction.constant(after.applyAsInt(applyAsBoolean(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsInt(applyAsBoolean(value1, value2, value3));
     }
 
@@ -585,10 +877,15 @@ public interface BooleanTernaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToLongFunction andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToLongFunction.constant(after.applyAsLong(applyAsBoolean(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsLong(applyAsBoolean(value1, value2, value3));
     }
 
@@ -604,10 +901,15 @@ public interface BooleanTernaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBooleanToShortFunction andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriBooleanToShortFunction.constant(after.applyAsShort(applyAsBoolean(false, false, false)));
+        }
         return (value1, value2, value3) -> after.applyAsShort(applyAsBoolean(value1, value2, value3));
     }
 
@@ -627,6 +929,16 @@ public interface BooleanTernaryOperator extends Lambda {
         return (value1, value2, value3) -> consumer.accept(applyAsBoolean(value1, value2, value3));
     }
 
+    /**
+     * Returns a tupled version of this operator.
+     *
+     * @return A tupled version of this operator.
+     */
+    @Nonnull
+    default Predicate2<BooleanTriple> tupled() {
+        return this::applyAsBoolean;
+    }
+
     /**
      * Returns a reversed version of this function. This may be useful in recursive context.
      *
@@ -634,7 +946,29 @@ public interface BooleanTernaryOperator extends Lambda {
      */
     @Nonnull
     default BooleanTernaryOperator reversed() {
-        return (value3, value2, value1) -> applyAsBoolean(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BooleanTernaryOperator) {
+            return (BooleanTernaryOperator) original;
+        }
+        /**
+         * A {@code BooleanTernaryOperator} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BooleanTernaryOperator {
+
+            /**
+             * Creates the reversal of this {@code BooleanTernaryOperator}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BooleanTernaryOperator.this);
+            }
+
+            @Override
+            public boolean applyAsBoolean(boolean value3, boolean value2, boolean value1) {
+                return BooleanTernaryOperator.this.applyAsBoolean(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -656,14 +990,115 @@ public interface BooleanTernaryOperator extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Boolean, Boolean, Boolean>, Boolean> cache = new ConcurrentHashMap<>();
-            return (BooleanTernaryOperator & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        key -> applyAsBoolean(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BooleanTernaryOperator}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code BooleanTernaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BooleanTernaryOperator memoized(@Nonnull MemoStore<BooleanTriple, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (BooleanTernaryOperator & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    key -> applyAsBoolean(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BooleanTernaryOperator}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BooleanTernaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BooleanTernaryOperator adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BooleanTernaryOperator}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code BooleanTernaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BooleanTernaryOperator adaptivelyMemoized(@Nonnull AdaptiveMemoizer<BooleanTriple, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BooleanTernaryOperator & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(BooleanTriple.of(value1, value2, value3),
+                    key -> applyAsBoolean(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link BooleanTernaryOperator}, which applies this operator once to each of
+     * the 8 possible combinations of input arguments in advance, and afterwards answers every call by a lookup in a
+     * truth table of 8 bits holding the results. In contrast to {@link #memoized()}, no values are computed or cached
+     * on demand, so the returned operator neither synchronizes nor allocates.
+     * <p>
+     * This operator has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code BooleanTernaryOperator}.
+     * @implSpec If this operator is already compiled, it is returned itself. Any exception thrown by this operator
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned operator is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default BooleanTernaryOperator compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        int bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits |= (applyAsBoolean((i & 1) != 0, (i & 2) != 0, (i & 4) != 0) ? 1 : 0) << i;
+        }
+        int table = bits;
+        return (BooleanTernaryOperator & Memoized & Compiled) (value1, value2, value3) -> {
+            int index = (value1 ? 1 : 0) | (value2 ? 2 : 0) | (value3 ? 4 : 0);
+            return (table >>> index & 1) != 0;
+        };
+    }
+
     /**
      * Returns a composed {@link TernaryOperator} which represents this {@link BooleanTernaryOperator}. Thereby the
      * primitive input argument for this operator is autoboxed. This method provides the possibility to use this {@code
@@ -673,6 +1108,24 @@ public interface BooleanTernaryOperator extends Lambda {
      */
     @Nonnull
     default TernaryOperator<Boolean> boxed() {
-        return this::applyAsBoolean;
+        /**
+         * A {@code TernaryOperator} which applies this {@code BooleanTernaryOperator} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TernaryOperator<Boolean> {
+
+            /**
+             * Creates the boxed variant of this {@code BooleanTernaryOperator}.
+             */
+            Boxed() {
+                super(BooleanTernaryOperator.this);
+            }
+
+            @Override
+            public Boolean apply(Boolean t, Boolean u, Boolean v) {
+                return BooleanTernaryOperator.this.applyAsBoolean(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
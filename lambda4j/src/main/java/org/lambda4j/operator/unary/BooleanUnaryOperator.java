@@ -16,10 +16,10 @@
 
 package org.lambda4j.operator.unary;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoublePredicate;
+import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
@@ -30,6 +30,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
 import org.lambda4j.function.conversion.BooleanToByteFunction;
@@ -39,6 +43,12 @@ import org.lambda4j.function.conversion.BooleanToFloatFunction;
 import org.lambda4j.function.conversion.BooleanToIntFunction;
 import org.lambda4j.function.conversion.BooleanToLongFunction;
 import org.lambda4j.function.conversion.BooleanToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
+import org.lambda4j.optional.OptionalBoolean;
 import org.lambda4j.predicate.BytePredicate;
 import org.lambda4j.predicate.CharPredicate;
 import org.lambda4j.predicate.DoublePredicate2;
@@ -80,6 +90,47 @@ public interface BooleanUnaryOperator extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BooleanUnaryOperator} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * BooleanUnaryOperator} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * operator calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code BooleanUnaryOperator} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BooleanUnaryOperator unboxed(@Nonnull Function<? super Boolean, ? extends Boolean> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof BooleanUnaryOperator) {
+            return (BooleanUnaryOperator) original;
+        }
+        return value -> function.apply(value);
+    }
+
+    /**
+     * Lifts a partial {@link BooleanUnaryOperator}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link BooleanFunction} that returns an {@link OptionalBoolean} result. The result of the
+     * given operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code BooleanUnaryOperator} lifted into a total {@code BooleanFunction} that returns an {@code
+     * OptionalBoolean} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static BooleanFunction<OptionalBoolean> lift(
+            @Nonnull BooleanUnaryOperator isDefined, @Nonnull BooleanUnaryOperator partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return value -> isDefined.applyAsBoolean(value)
+                ? OptionalBoolean.of(partial.applyAsBoolean(value))
+                : OptionalBoolean.empty();
+    }
+
     /**
      * Calls the given {@link BooleanUnaryOperator} with the given argument and returns its result.
      *
@@ -100,18 +151,56 @@ public interface BooleanUnaryOperator extends Lambda {
      */
     @Nonnull
     static BooleanUnaryOperator identity() {
-        return value -> value;
+        /**
+         * A {@code BooleanUnaryOperator} which always returns its input argument.
+         */
+        final class Identity extends AbstractCanonical implements BooleanUnaryOperator {
+
+            /**
+             * Creates the identity {@code BooleanUnaryOperator}.
+             */
+            Identity() {
+                super(Kind.IDENTITY);
+            }
+
+            @Override
+            public boolean applyAsBoolean(boolean value) {
+                return value;
+            }
+        }
+
+        return new Identity();
     }
 
     /**
-     * Creates a {@link BooleanUnaryOperator} which always returns a given value.
+     * Creates a {@link BooleanUnaryOperator} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BooleanUnaryOperator} which always returns a given value.
      */
     @Nonnull
     static BooleanUnaryOperator constant(boolean ret) {
-        return value -> ret;
+        /**
+         * A {@code BooleanUnaryOperator} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BooleanUnaryOperator {
+
+            /**
+             * Creates a constant {@code BooleanUnaryOperator}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean applyAsBoolean(boolean value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -122,6 +211,100 @@ public interface BooleanUnaryOperator extends Lambda {
      */
     boolean applyAsBoolean(boolean value);
 
+    /**
+     * Applies this operator to the elements at each index and stores the results at that index of the given result
+     * array, whose length determines the number of applied elements. The result array may be the argument array, so
+     * that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsBoolean(@Nonnull boolean[] values, @Nonnull boolean[] results) {
+        applyAsBoolean(values, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index from the given start index (inclusive) to the given end index
+     * (exclusive), and stores the results at that index of the given result array. The result array may be the argument
+     * array, so that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsBoolean(@Nonnull boolean[] values, @Nonnull boolean[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsBoolean(values[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector, and
+     * stores the results at these indices of the given result array, whose other elements are left unchanged.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsBoolean(@Nonnull boolean[] values, @Nonnull boolean[] results, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsBoolean(values[index]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsBooleanParallel(@Nonnull boolean[] values, @Nonnull boolean[] results) {
+        applyAsBooleanParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsBooleanParallel(@Nonnull boolean[] values, @Nonnull boolean[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsBoolean(values, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -148,6 +331,9 @@ public interface BooleanUnaryOperator extends Lambda {
     @Nonnull
     default <A> Predicate2<A> compose(@Nonnull Predicate<? super A> before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return a -> before.test(a);
+        }
         return a -> applyAsBoolean(before.test(a));
     }
 
@@ -167,6 +353,14 @@ public interface BooleanUnaryOperator extends Lambda {
     @Nonnull
     default BooleanUnaryOperator composeFromBoolean(@Nonnull BooleanUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof BooleanUnaryOperator
+                    ? (BooleanUnaryOperator) before
+                    : value -> before.applyAsBoolean(value);
+        }
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> applyAsBoolean(before.applyAsBoolean(value));
     }
 
@@ -186,6 +380,9 @@ public interface BooleanUnaryOperator extends Lambda {
     @Nonnull
     default BytePredicate composeFromByte(@Nonnull BytePredicate before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof BytePredicate ? (BytePredicate) before : value -> before.test(value);
+        }
         return value -> applyAsBoolean(before.test(value));
     }
 
@@ -205,6 +402,9 @@ public interface BooleanUnaryOperator extends Lambda {
     @Nonnull
     default CharPredicate composeFromChar(@Nonnull CharPredicate before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof CharPredicate ? (CharPredicate) before : value -> before.test(value);
+        }
         return value -> applyAsBoolean(before.test(value));
     }
 
@@ -224,6 +424,9 @@ public interface BooleanUnaryOperator extends Lambda {
     @Nonnull
     default DoublePredicate2 composeFromDouble(@Nonnull DoublePredicate before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof DoublePredicate2 ? (DoublePredicate2) before : value -> before.test(value);
+        }
         return value -> applyAsBoolean(before.test(value));
     }
 
@@ -243,6 +446,9 @@ public interface BooleanUnaryOperator extends Lambda {
     @Nonnull
     default FloatPredicate composeFromFloat(@Nonnull FloatPredicate before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof FloatPredicate ? (FloatPredicate) before : value -> before.test(value);
+        }
         return value -> applyAsBoolean(before.test(value));
     }
 
@@ -262,6 +468,9 @@ public interface BooleanUnaryOperator extends Lambda {
     @Nonnull
     default IntPredicate2 composeFromInt(@Nonnull IntPredicate before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof IntPredicate2 ? (IntPredicate2) before : value -> before.test(value);
+        }
         return value -> applyAsBoolean(before.test(value));
     }
 
@@ -281,6 +490,9 @@ public interface BooleanUnaryOperator extends Lambda {
     @Nonnull
     default LongPredicate2 composeFromLong(@Nonnull LongPredicate before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof LongPredicate2 ? (LongPredicate2) before : value -> before.test(value);
+        }
         return value -> applyAsBoolean(before.test(value));
     }
 
@@ -300,6 +512,9 @@ public interface BooleanUnaryOperator extends Lambda {
     @Nonnull
     default ShortPredicate composeFromShort(@Nonnull ShortPredicate before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ShortPredicate ? (ShortPredicate) before : value -> before.test(value);
+        }
         return value -> applyAsBoolean(before.test(value));
     }
 
@@ -314,10 +529,18 @@ public interface BooleanUnaryOperator extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BooleanFunction<S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return value -> after.apply(value);
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanFunction.constant(after.apply(applyAsBoolean(false)));
+        }
         return value -> after.apply(applyAsBoolean(value));
     }
 
@@ -333,10 +556,23 @@ public interface BooleanUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanUnaryOperator andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof BooleanUnaryOperator
+                    ? (BooleanUnaryOperator) after
+                    : value -> after.applyAsBoolean(value);
+        }
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanUnaryOperator.constant(after.applyAsBoolean(applyAsBoolean(false)));
+        }
         return value -> after.applyAsBoolean(applyAsBoolean(value));
     }
 
@@ -352,10 +588,20 @@ public interface BooleanUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToByteFunction andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof BooleanToByteFunction
+                    ? (BooleanToByteFunction) after
+                    : value -> after.applyAsByte(value);
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanToByteFunction.constant(after.applyAsByte(applyAsBoolean(false)));
+        }
         return value -> after.applyAsByte(applyAsBoolean(value));
     }
 
@@ -371,10 +617,20 @@ public interface BooleanUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToCharFunction andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof BooleanToCharFunction
+                    ? (BooleanToCharFunction) after
+                    : value -> after.applyAsChar(value);
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanToCharFunction.constant(after.applyAsChar(applyAsBoolean(false)));
+        }
         return value -> after.applyAsChar(applyAsBoolean(value));
     }
 
@@ -390,10 +646,20 @@ public interface BooleanUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToDoubleFunction andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof BooleanToDoubleFunction
+                    ? (BooleanToDoubleFunction) after
+                    : value -> after.applyAsDouble(value);
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanToDoubleFunction.constant(after.applyAsDouble(applyAsBoolean(false)));
+        }
         return value -> after.applyAsDouble(applyAsBoolean(value));
     }
 
@@ -409,10 +675,20 @@ public interface BooleanUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToFloatFunction andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof BooleanToFloatFunction
+                    ? (BooleanToFloatFunction) after
+                    : value -> after.applyAsFloat(value);
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanToFloatFunction.constant(after.applyAsFloat(applyAsBoolean(false)));
+        }
         return value -> after.applyAsFloat(applyAsBoolean(value));
     }
 
@@ -428,10 +704,20 @@ public interface BooleanUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToIntFunction andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof BooleanToIntFunction
+                    ? (BooleanToIntFunction) after
+                    : value -> after.applyAsInt(value);
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanToIntFunction.constant(after.applyAsInt(applyAsBoolean(false)));
+        }
         return value -> after.applyAsInt(applyAsBoolean(value));
     }
 
@@ -447,10 +733,20 @@ public interface BooleanUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToLongFunction andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof BooleanToLongFunction
+                    ? (BooleanToLongFunction) after
+                    : value -> after.applyAsLong(value);
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanToLongFunction.constant(after.applyAsLong(applyAsBoolean(false)));
+        }
         return value -> after.applyAsLong(applyAsBoolean(value));
     }
 
@@ -466,10 +762,20 @@ public interface BooleanUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanToShortFunction andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof BooleanToShortFunction
+                    ? (BooleanToShortFunction) after
+                    : value -> after.applyAsShort(value);
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanToShortFunction.constant(after.applyAsShort(applyAsBoolean(false)));
+        }
         return value -> after.applyAsShort(applyAsBoolean(value));
     }
 
@@ -518,11 +824,108 @@ public interface BooleanUnaryOperator extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Boolean, Boolean> cache = new ConcurrentHashMap<>();
-            return (BooleanUnaryOperator & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::applyAsBoolean);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BooleanUnaryOperator}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code BooleanUnaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BooleanUnaryOperator memoized(@Nonnull MemoStore<Boolean, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (BooleanUnaryOperator & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsBoolean);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BooleanUnaryOperator}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BooleanUnaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BooleanUnaryOperator adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BooleanUnaryOperator}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code BooleanUnaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BooleanUnaryOperator adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Boolean, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BooleanUnaryOperator & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::applyAsBoolean);
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link BooleanUnaryOperator}, which applies this operator once to each of the
+     * 2 possible input arguments in advance, and afterwards answers every call by a lookup in a truth table of 2 bits
+     * holding the results. In contrast to {@link #memoized()}, no values are computed or cached on demand, so the
+     * returned operator neither synchronizes nor allocates.
+     * <p>
+     * This operator has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code BooleanUnaryOperator}.
+     * @implSpec If this operator is already compiled, it is returned itself. Any exception thrown by this operator
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned operator is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default BooleanUnaryOperator compiled() {
+        if (isCompiled()) {
+            return this;
         }
+        int bits = 0;
+        for (int i = 0; i < 2; i++) {
+            bits |= (applyAsBoolean((i & 1) != 0) ? 1 : 0) << i;
+        }
+        int table = bits;
+        return (BooleanUnaryOperator & Memoized & Compiled) value -> (table >>> (value ? 1 : 0) & 1) != 0;
     }
 
     /**
@@ -534,6 +937,24 @@ public interface BooleanUnaryOperator extends Lambda {
      */
     @Nonnull
     default UnaryOperator2<Boolean> boxed() {
-        return this::applyAsBoolean;
+        /**
+         * A {@code UnaryOperator2} which applies this {@code BooleanUnaryOperator} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements UnaryOperator2<Boolean> {
+
+            /**
+             * Creates the boxed variant of this {@code BooleanUnaryOperator}.
+             */
+            Boxed() {
+                super(BooleanUnaryOperator.this);
+            }
+
+            @Override
+            public Boolean apply(Boolean t) {
+                return BooleanUnaryOperator.this.applyAsBoolean(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
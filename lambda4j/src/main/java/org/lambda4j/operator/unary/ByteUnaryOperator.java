@@ -16,9 +16,9 @@
 
 package org.lambda4j.operator.unary;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -26,6 +26,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.ByteConsumer;
 import org.lambda4j.function.ByteFunction;
 import org.lambda4j.function.conversion.BooleanToByteFunction;
@@ -42,6 +46,12 @@ import org.lambda4j.function.conversion.IntToByteFunction;
 import org.lambda4j.function.conversion.LongToByteFunction;
 import org.lambda4j.function.conversion.ShortToByteFunction;
 import org.lambda4j.function.to.ToByteFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
+import org.lambda4j.optional.OptionalByte;
 import org.lambda4j.predicate.BytePredicate;
 
 /**
@@ -76,6 +86,44 @@ public interface ByteUnaryOperator extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ByteUnaryOperator} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ByteUnaryOperator} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * operator calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code ByteUnaryOperator} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static ByteUnaryOperator unboxed(@Nonnull Function<? super Byte, ? extends Byte> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ByteUnaryOperator) {
+            return (ByteUnaryOperator) original;
+        }
+        return value -> function.apply(value);
+    }
+
+    /**
+     * Lifts a partial {@link ByteUnaryOperator}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link ByteFunction} that returns an {@link OptionalByte} result. The result of the given
+     * operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code ByteUnaryOperator} lifted into a total {@code ByteFunction} that returns an {@code
+     * OptionalByte} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static ByteFunction<OptionalByte> lift(@Nonnull BytePredicate isDefined, @Nonnull ByteUnaryOperator partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return value -> isDefined.test(value) ? OptionalByte.of(partial.applyAsByte(value)) : OptionalByte.empty();
+    }
+
     /**
      * Calls the given {@link ByteUnaryOperator} with the given argument and returns its result.
      *
@@ -96,18 +144,56 @@ public interface ByteUnaryOperator extends Lambda {
      */
     @Nonnull
     static ByteUnaryOperator identity() {
-        return value -> value;
+        /**
+         * A {@code ByteUnaryOperator} which always returns its input argument.
+         */
+        final class Identity extends AbstractCanonical implements ByteUnaryOperator {
+
+            /**
+             * Creates the identity {@code ByteUnaryOperator}.
+             */
+            Identity() {
+                super(Kind.IDENTITY);
+            }
+
+            @Override
+            public byte applyAsByte(byte value) {
+                return value;
+            }
+        }
+
+        return new Identity();
     }
 
     /**
-     * Creates a {@link ByteUnaryOperator} which always returns a given value.
+     * Creates a {@link ByteUnaryOperator} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code ByteUnaryOperator} which always returns a given value.
      */
     @Nonnull
     static ByteUnaryOperator constant(byte ret) {
-        return value -> ret;
+        /**
+         * A {@code ByteUnaryOperator} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ByteUnaryOperator {
+
+            /**
+             * Creates a constant {@code ByteUnaryOperator}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public byte applyAsByte(byte value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -118,6 +204,100 @@ public interface ByteUnaryOperator extends Lambda {
      */
     byte applyAsByte(byte value);
 
+    /**
+     * Applies this operator to the elements at each index and stores the results at that index of the given result
+     * array, whose length determines the number of applied elements. The result array may be the argument array, so
+     * that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsByte(@Nonnull byte[] values, @Nonnull byte[] results) {
+        applyAsByte(values, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index from the given start index (inclusive) to the given end index
+     * (exclusive), and stores the results at that index of the given result array. The result array may be the argument
+     * array, so that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsByte(@Nonnull byte[] values, @Nonnull byte[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsByte(values[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector, and
+     * stores the results at these indices of the given result array, whose other elements are left unchanged.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsByte(@Nonnull byte[] values, @Nonnull byte[] results, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsByte(values[index]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsByteParallel(@Nonnull byte[] values, @Nonnull byte[] results) {
+        applyAsByteParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsByteParallel(@Nonnull byte[] values, @Nonnull byte[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsByte(values, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -144,6 +324,9 @@ public interface ByteUnaryOperator extends Lambda {
     @Nonnull
     default <A> ToByteFunction<A> compose(@Nonnull ToByteFunction<? super A> before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return a -> before.applyAsByte(a);
+        }
         return a -> applyAsByte(before.applyAsByte(a));
     }
 
@@ -163,6 +346,11 @@ public interface ByteUnaryOperator extends Lambda {
     @Nonnull
     default BooleanToByteFunction composeFromBoolean(@Nonnull BooleanToByteFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof BooleanToByteFunction
+                    ? (BooleanToByteFunction) before
+                    : value -> before.applyAsByte(value);
+        }
         return value -> applyAsByte(before.applyAsByte(value));
     }
 
@@ -182,6 +370,14 @@ public interface ByteUnaryOperator extends Lambda {
     @Nonnull
     default ByteUnaryOperator composeFromByte(@Nonnull ByteUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ByteUnaryOperator
+                    ? (ByteUnaryOperator) before
+                    : value -> before.applyAsByte(value);
+        }
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> applyAsByte(before.applyAsByte(value));
     }
 
@@ -201,6 +397,11 @@ public interface ByteUnaryOperator extends Lambda {
     @Nonnull
     default CharToByteFunction composeFromChar(@Nonnull CharToByteFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof CharToByteFunction
+                    ? (CharToByteFunction) before
+                    : value -> before.applyAsByte(value);
+        }
         return value -> applyAsByte(before.applyAsByte(value));
     }
 
@@ -220,6 +421,11 @@ public interface ByteUnaryOperator extends Lambda {
     @Nonnull
     default DoubleToByteFunction composeFromDouble(@Nonnull DoubleToByteFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof DoubleToByteFunction
+                    ? (DoubleToByteFunction) before
+                    : value -> before.applyAsByte(value);
+        }
         return value -> applyAsByte(before.applyAsByte(value));
     }
 
@@ -239,6 +445,11 @@ public interface ByteUnaryOperator extends Lambda {
     @Nonnull
     default FloatToByteFunction composeFromFloat(@Nonnull FloatToByteFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof FloatToByteFunction
+                    ? (FloatToByteFunction) before
+                    : value -> before.applyAsByte(value);
+        }
         return value -> applyAsByte(before.applyAsByte(value));
     }
 
@@ -258,6 +469,11 @@ public interface ByteUnaryOperator extends Lambda {
     @Nonnull
     default IntToByteFunction composeFromInt(@Nonnull IntToByteFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof IntToByteFunction
+                    ? (IntToByteFunction) before
+                    : value -> before.applyAsByte(value);
+        }
         return value -> applyAsByte(before.applyAsByte(value));
     }
 
@@ -277,6 +493,11 @@ public interface ByteUnaryOperator extends Lambda {
     @Nonnull
     default LongToByteFunction composeFromLong(@Nonnull LongToByteFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof LongToByteFunction
+                    ? (LongToByteFunction) before
+                    : value -> before.applyAsByte(value);
+        }
         return value -> applyAsByte(before.applyAsByte(value));
     }
 
@@ -296,6 +517,11 @@ public interface ByteUnaryOperator extends Lambda {
     @Nonnull
     default ShortToByteFunction composeFromShort(@Nonnull ShortToByteFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ShortToByteFunction
+                    ? (ShortToByteFunction) before
+                    : value -> before.applyAsByte(value);
+        }
         return value -> applyAsByte(before.applyAsByte(value));
     }
 
@@ -310,10 +536,18 @@ public interface ByteUnaryOperator extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ByteFunction<S> andThen(@Nonnull ByteFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return value -> after.apply(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ByteFunction.constant(after.apply(applyAsByte((byte) 0)));
+        }
         return value -> after.apply(applyAsByte(value));
     }
 
@@ -329,10 +563,18 @@ public interface ByteUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BytePredicate andThenToBoolean(@Nonnull BytePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof BytePredicate ? (BytePredicate) after : value -> after.test(value);
+        }
+        if (Composition.isConstant(this)) {
+            return BytePredicate.constant(after.test(applyAsByte((byte) 0)));
+        }
         return value -> after.test(applyAsByte(value));
     }
 
@@ -348,10 +590,21 @@ public interface ByteUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteUnaryOperator andThenToByte(@Nonnull ByteUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ByteUnaryOperator ? (ByteUnaryOperator) after : value -> after.applyAsByte(value);
+        }
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ByteUnaryOperator.constant(after.applyAsByte(applyAsByte((byte) 0)));
+        }
         return value -> after.applyAsByte(applyAsByte(value));
     }
 
@@ -367,10 +620,18 @@ public interface ByteUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteToCharFunction andThenToChar(@Nonnull ByteToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ByteToCharFunction ? (ByteToCharFunction) after : value -> after.applyAsChar(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ByteToCharFunction.constant(after.applyAsChar(applyAsByte((byte) 0)));
+        }
         return value -> after.applyAsChar(applyAsByte(value));
     }
 
@@ -386,10 +647,20 @@ public interface ByteUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteToDoubleFunction andThenToDouble(@Nonnull ByteToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ByteToDoubleFunction
+                    ? (ByteToDoubleFunction) after
+                    : value -> after.applyAsDouble(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ByteToDoubleFunction.constant(after.applyAsDouble(applyAsByte((byte) 0)));
+        }
         return value -> after.applyAsDouble(applyAsByte(value));
     }
 
@@ -405,10 +676,20 @@ public interface ByteUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteToFloatFunction andThenToFloat(@Nonnull ByteToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ByteToFloatFunction
+                    ? (ByteToFloatFunction) after
+                    : value -> after.applyAsFloat(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ByteToFloatFunction.constant(after.applyAsFloat(applyAsByte((byte) 0)));
+        }
         return value -> after.applyAsFloat(applyAsByte(value));
     }
 
@@ -424,10 +705,18 @@ public interface ByteUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteToIntFunction andThenToInt(@Nonnull ByteToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ByteToIntFunction ? (ByteToIntFunction) after : value -> after.applyAsInt(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ByteToIntFunction.constant(after.applyAsInt(applyAsByte((byte) 0)));
+        }
         return value -> after.applyAsInt(applyAsByte(value));
     }
 
@@ -443,10 +732,18 @@ public interface ByteUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteToLongFunction andThenToLong(@Nonnull ByteToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ByteToLongFunction ? (ByteToLongFunction) after : value -> after.applyAsLong(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ByteToLongFunction.constant(after.applyAsLong(applyAsByte((byte) 0)));
+        }
         return value -> after.applyAsLong(applyAsByte(value));
     }
 
@@ -462,10 +759,20 @@ public interface ByteUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteToShortFunction andThenToShort(@Nonnull ByteToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ByteToShortFunction
+                    ? (ByteToShortFunction) after
+                    : value -> after.applyAsShort(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ByteToShortFunction.constant(after.applyAsShort(applyAsByte((byte) 0)));
+        }
         return value -> after.applyAsShort(applyAsByte(value));
     }
 
@@ -514,11 +821,107 @@ public interface ByteUnaryOperator extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Byte, Byte> cache = new ConcurrentHashMap<>();
-            return (ByteUnaryOperator & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::applyAsByte);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ByteUnaryOperator}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code ByteUnaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ByteUnaryOperator memoized(@Nonnull MemoStore<Byte, Byte> store) {
+        Objects.requireNonNull(store);
+        return (ByteUnaryOperator & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsByte);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ByteUnaryOperator}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ByteUnaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ByteUnaryOperator adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ByteUnaryOperator}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code ByteUnaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ByteUnaryOperator adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Byte, Byte> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ByteUnaryOperator & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::applyAsByte);
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link ByteUnaryOperator}, which applies this operator once to each of the 256
+     * possible input arguments in advance, and afterwards answers every call by a lookup in a table of 256 {@code byte}
+     * values holding the results. In contrast to {@link #memoized()}, no values are computed or cached on demand, so
+     * the returned operator neither synchronizes nor allocates.
+     * <p>
+     * This operator has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code ByteUnaryOperator}.
+     * @implSpec If this operator is already compiled, it is returned itself. Any exception thrown by this operator
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned operator is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default ByteUnaryOperator compiled() {
+        if (isCompiled()) {
+            return this;
         }
+        byte[] table = new byte[256];
+        for (int i = 0; i < 256; i++) {
+            table[i] = applyAsByte((byte) i);
+        }
+        return (ByteUnaryOperator & Memoized & Compiled) value -> table[value & 0xFF];
     }
 
     /**
@@ -530,6 +933,24 @@ public interface ByteUnaryOperator extends Lambda {
      */
     @Nonnull
     default UnaryOperator2<Byte> boxed() {
-        return this::applyAsByte;
+        /**
+         * A {@code UnaryOperator2} which applies this {@code ByteUnaryOperator} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements UnaryOperator2<Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code ByteUnaryOperator}.
+             */
+            Boxed() {
+                super(ByteUnaryOperator.this);
+            }
+
+            @Override
+            public Byte apply(Byte t) {
+                return ByteUnaryOperator.this.applyAsByte(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,9 @@
 
 package org.lambda4j.operator.unary;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -26,6 +26,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.function.CharFunction;
 import org.lambda4j.function.conversion.BooleanToCharFunction;
@@ -42,6 +46,12 @@ import org.lambda4j.function.conversion.IntToCharFunction;
 import org.lambda4j.function.conversion.LongToCharFunction;
 import org.lambda4j.function.conversion.ShortToCharFunction;
 import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
+import org.lambda4j.optional.OptionalChar;
 import org.lambda4j.predicate.CharPredicate;
 
 /**
@@ -76,6 +86,44 @@ public interface CharUnaryOperator extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link CharUnaryOperator} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * CharUnaryOperator} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * operator calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code CharUnaryOperator} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static CharUnaryOperator unboxed(@Nonnull Function<? super Character, ? extends Character> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof CharUnaryOperator) {
+            return (CharUnaryOperator) original;
+        }
+        return value -> function.apply(value);
+    }
+
+    /**
+     * Lifts a partial {@link CharUnaryOperator}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link CharFunction} that returns an {@link OptionalChar} result. The result of the given
+     * operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code CharUnaryOperator} lifted into a total {@code CharFunction} that returns an {@code
+     * OptionalChar} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static CharFunction<OptionalChar> lift(@Nonnull CharPredicate isDefined, @Nonnull CharUnaryOperator partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return value -> isDefined.test(value) ? OptionalChar.of(partial.applyAsChar(value)) : OptionalChar.empty();
+    }
+
     /**
      * Calls the given {@link CharUnaryOperator} with the given argument and returns its result.
      *
@@ -96,18 +144,56 @@ public interface CharUnaryOperator extends Lambda {
      */
     @Nonnull
     static CharUnaryOperator identity() {
-        return value -> value;
+        /**
+         * A {@code CharUnaryOperator} which always returns its input argument.
+         */
+        final class Identity extends AbstractCanonical implements CharUnaryOperator {
+
+            /**
+             * Creates the identity {@code CharUnaryOperator}.
+             */
+            Identity() {
+                super(Kind.IDENTITY);
+            }
+
+            @Override
+            public char applyAsChar(char value) {
+                return value;
+            }
+        }
+
+        return new Identity();
     }
 
     /**
-     * Creates a {@link CharUnaryOperator} which always returns a given value.
+     * Creates a {@link CharUnaryOperator} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code CharUnaryOperator} which always returns a given value.
      */
     @Nonnull
     static CharUnaryOperator constant(char ret) {
-        return value -> ret;
+        /**
+         * A {@code CharUnaryOperator} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements CharUnaryOperator {
+
+            /**
+             * Creates a constant {@code CharUnaryOperator}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public char applyAsChar(char value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -118,6 +204,100 @@ public interface CharUnaryOperator extends Lambda {
      */
     char applyAsChar(char value);
 
+    /**
+     * Applies this operator to the elements at each index and stores the results at that index of the given result
+     * array, whose length determines the number of applied elements. The result array may be the argument array, so
+     * that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsChar(@Nonnull char[] values, @Nonnull char[] results) {
+        applyAsChar(values, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index from the given start index (inclusive) to the given end index
+     * (exclusive), and stores the results at that index of the given result array. The result array may be the argument
+     * array, so that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsChar(@Nonnull char[] values, @Nonnull char[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsChar(values[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector, and
+     * stores the results at these indices of the given result array, whose other elements are left unchanged.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsChar(@Nonnull char[] values, @Nonnull char[] results, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsChar(values[index]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsCharParallel(@Nonnull char[] values, @Nonnull char[] results) {
+        applyAsCharParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsCharParallel(@Nonnull char[] values, @Nonnull char[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsChar(values, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -144,6 +324,9 @@ public interface CharUnaryOperator extends Lambda {
     @Nonnull
     default <A> ToCharFunction<A> compose(@Nonnull ToCharFunction<? super A> before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return a -> before.applyAsChar(a);
+        }
         return a -> applyAsChar(before.applyAsChar(a));
     }
 
@@ -163,6 +346,11 @@ public interface CharUnaryOperator extends Lambda {
     @Nonnull
     default BooleanToCharFunction composeFromBoolean(@Nonnull BooleanToCharFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof BooleanToCharFunction
+                    ? (BooleanToCharFunction) before
+                    : value -> before.applyAsChar(value);
+        }
         return value -> applyAsChar(before.applyAsChar(value));
     }
 
@@ -182,6 +370,11 @@ public interface CharUnaryOperator extends Lambda {
     @Nonnull
     default ByteToCharFunction composeFromByte(@Nonnull ByteToCharFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ByteToCharFunction
+                    ? (ByteToCharFunction) before
+                    : value -> before.applyAsChar(value);
+        }
         return value -> applyAsChar(before.applyAsChar(value));
     }
 
@@ -201,6 +394,14 @@ public interface CharUnaryOperator extends Lambda {
     @Nonnull
     default CharUnaryOperator composeFromChar(@Nonnull CharUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof CharUnaryOperator
+                    ? (CharUnaryOperator) before
+                    : value -> before.applyAsChar(value);
+        }
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> applyAsChar(before.applyAsChar(value));
     }
 
@@ -220,6 +421,11 @@ public interface CharUnaryOperator extends Lambda {
     @Nonnull
     default DoubleToCharFunction composeFromDouble(@Nonnull DoubleToCharFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof DoubleToCharFunction
+                    ? (DoubleToCharFunction) before
+                    : value -> before.applyAsChar(value);
+        }
         return value -> applyAsChar(before.applyAsChar(value));
     }
 
@@ -239,6 +445,11 @@ public interface CharUnaryOperator extends Lambda {
     @Nonnull
     default FloatToCharFunction composeFromFloat(@Nonnull FloatToCharFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof FloatToCharFunction
+                    ? (FloatToCharFunction) before
+                    : value -> before.applyAsChar(value);
+        }
         return value -> applyAsChar(before.applyAsChar(value));
     }
 
@@ -258,6 +469,11 @@ public interface CharUnaryOperator extends Lambda {
     @Nonnull
     default IntToCharFunction composeFromInt(@Nonnull IntToCharFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof IntToCharFunction
+                    ? (IntToCharFunction) before
+                    : value -> before.applyAsChar(value);
+        }
         return value -> applyAsChar(before.applyAsChar(value));
     }
 
@@ -277,6 +493,11 @@ public interface CharUnaryOperator extends Lambda {
     @Nonnull
     default LongToCharFunction composeFromLong(@Nonnull LongToCharFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof LongToCharFunction
+                    ? (LongToCharFunction) before
+                    : value -> before.applyAsChar(value);
+        }
         return value -> applyAsChar(before.applyAsChar(value));
     }
 
@@ -296,6 +517,11 @@ public interface CharUnaryOperator extends Lambda {
     @Nonnull
     default ShortToCharFunction composeFromShort(@Nonnull ShortToCharFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ShortToCharFunction
+                    ? (ShortToCharFunction) before
+                    : value -> before.applyAsChar(value);
+        }
         return value -> applyAsChar(before.applyAsChar(value));
     }
 
@@ -310,10 +536,18 @@ public interface CharUnaryOperator extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> CharFunction<S> andThen(@Nonnull CharFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return value -> after.apply(value);
+        }
+        if (Composition.isConstant(this)) {
+            return CharFunction.constant(after.apply(applyAsChar('\0')));
+        }
         return value -> after.apply(applyAsChar(value));
     }
 
@@ -329,10 +563,18 @@ public interface CharUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharPredicate andThenToBoolean(@Nonnull CharPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof CharPredicate ? (CharPredicate) after : value -> after.test(value);
+        }
+        if (Composition.isConstant(this)) {
+            return CharPredicate.constant(after.test(applyAsChar('\0')));
+        }
         return value -> after.test(applyAsChar(value));
     }
 
@@ -348,10 +590,18 @@ public interface CharUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToByteFunction andThenToByte(@Nonnull CharToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof CharToByteFunction ? (CharToByteFunction) after : value -> after.applyAsByte(value);
+        }
+        if (Composition.isConstant(this)) {
+            return CharToByteFunction.constant(after.applyAsByte(applyAsChar('\0')));
+        }
         return value -> after.applyAsByte(applyAsChar(value));
     }
 
@@ -367,10 +617,21 @@ public interface CharUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharUnaryOperator andThenToChar(@Nonnull CharUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof CharUnaryOperator ? (CharUnaryOperator) after : value -> after.applyAsChar(value);
+        }
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return CharUnaryOperator.constant(after.applyAsChar(applyAsChar('\0')));
+        }
         return value -> after.applyAsChar(applyAsChar(value));
     }
 
@@ -386,10 +647,20 @@ public interface CharUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToDoubleFunction andThenToDouble(@Nonnull CharToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof CharToDoubleFunction
+                    ? (CharToDoubleFunction) after
+                    : value -> after.applyAsDouble(value);
+        }
+        if (Composition.isConstant(this)) {
+            return CharToDoubleFunction.constant(after.applyAsDouble(applyAsChar('\0')));
+        }
         return value -> after.applyAsDouble(applyAsChar(value));
     }
 
@@ -405,10 +676,20 @@ public interface CharUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToFloatFunction andThenToFloat(@Nonnull CharToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof CharToFloatFunction
+                    ? (CharToFloatFunction) after
+                    : value -> after.applyAsFloat(value);
+        }
+        if (Composition.isConstant(this)) {
+            return CharToFloatFunction.constant(after.applyAsFloat(applyAsChar('\0')));
+        }
         return value -> after.applyAsFloat(applyAsChar(value));
     }
 
@@ -424,10 +705,18 @@ public interface CharUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToIntFunction andThenToInt(@Nonnull CharToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof CharToIntFunction ? (CharToIntFunction) after : value -> after.applyAsInt(value);
+        }
+        if (Composition.isConstant(this)) {
+            return CharToIntFunction.constant(after.applyAsInt(applyAsChar('\0')));
+        }
         return value -> after.applyAsInt(applyAsChar(value));
     }
 
@@ -443,10 +732,18 @@ public interface CharUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToLongFunction andThenToLong(@Nonnull CharToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof CharToLongFunction ? (CharToLongFunction) after : value -> after.applyAsLong(value);
+        }
+        if (Composition.isConstant(this)) {
+            return CharToLongFunction.constant(after.applyAsLong(applyAsChar('\0')));
+        }
         return value -> after.applyAsLong(applyAsChar(value));
     }
 
@@ -462,10 +759,20 @@ public interface CharUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToShortFunction andThenToShort(@Nonnull CharToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof CharToShortFunction
+                    ? (CharToShortFunction) after
+                    : value -> after.applyAsShort(value);
+        }
+        if (Composition.isConstant(this)) {
+            return CharToShortFunction.constant(after.applyAsShort(applyAsChar('\0')));
+        }
         return value -> after.applyAsShort(applyAsChar(value));
     }
 
@@ -514,13 +821,82 @@ public interface CharUnaryOperator extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Character, Character> cache = new ConcurrentHashMap<>();
-            return (CharUnaryOperator & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::applyAsChar);
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link CharUnaryOperator}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code CharUnaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default CharUnaryOperator memoized(@Nonnull MemoStore<Character, Character> store) {
+        Objects.requireNonNull(store);
+        return (CharUnaryOperator & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsChar);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link CharUnaryOperator}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code CharUnaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default CharUnaryOperator adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link CharUnaryOperator}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code CharUnaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default CharUnaryOperator adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Character, Character> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (CharUnaryOperator & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::applyAsChar);
+        };
+    }
+
     /**
      * Returns a composed {@link UnaryOperator2} which represents this {@link CharUnaryOperator}. Thereby the primitive
      * input argument for this operator is autoboxed. This method provides the possibility to use this {@code
@@ -530,6 +906,24 @@ public interface CharUnaryOperator extends Lambda {
      */
     @Nonnull
     default UnaryOperator2<Character> boxed() {
-        return this::applyAsChar;
+        /**
+         * A {@code UnaryOperator2} which applies this {@code CharUnaryOperator} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements UnaryOperator2<Character> {
+
+            /**
+             * Creates the boxed variant of this {@code CharUnaryOperator}.
+             */
+            Boxed() {
+                super(CharUnaryOperator.this);
+            }
+
+            @Override
+            public Character apply(Character t) {
+                return CharUnaryOperator.this.applyAsChar(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
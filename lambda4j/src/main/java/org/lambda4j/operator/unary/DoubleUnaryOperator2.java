@@ -16,15 +16,16 @@
 
 package org.lambda4j.operator.unary;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.DoubleToLongFunction;
 import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
 import java.util.function.IntToDoubleFunction;
 import java.util.function.LongToDoubleFunction;
 import java.util.function.ToDoubleFunction;
@@ -35,6 +36,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.DoubleConsumer2;
 import org.lambda4j.function.DoubleFunction2;
 import org.lambda4j.function.conversion.BooleanToDoubleFunction;
@@ -51,6 +56,12 @@ import org.lambda4j.function.conversion.IntToDoubleFunction2;
 import org.lambda4j.function.conversion.LongToDoubleFunction2;
 import org.lambda4j.function.conversion.ShortToDoubleFunction;
 import org.lambda4j.function.to.ToDoubleFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.DoubleMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.predicate.DoublePredicate2;
 
 /**
@@ -86,6 +97,47 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
         return expression;
     }
 
+    /**
+     * Returns a {@link DoubleUnaryOperator2} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * DoubleUnaryOperator2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code DoubleUnaryOperator2} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static DoubleUnaryOperator2 unboxed(@Nonnull Function<? super Double, ? extends Double> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof DoubleUnaryOperator2) {
+            return (DoubleUnaryOperator2) original;
+        }
+        return value -> function.apply(value);
+    }
+
+    /**
+     * Lifts a partial {@link DoubleUnaryOperator2}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link DoubleFunction2} that returns an {@link OptionalDouble} result. The result of the
+     * given operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code DoubleUnaryOperator2} lifted into a total {@code DoubleFunction2} that returns an {@code
+     * OptionalDouble} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static DoubleFunction2<OptionalDouble> lift(
+            @Nonnull DoublePredicate2 isDefined, @Nonnull DoubleUnaryOperator2 partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return value -> isDefined.test(value)
+                ? OptionalDouble.of(partial.applyAsDouble(value))
+                : OptionalDouble.empty();
+    }
+
     /**
      * Calls the given {@link DoubleUnaryOperator} with the given argument and returns its result.
      *
@@ -106,18 +158,56 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
      */
     @Nonnull
     static DoubleUnaryOperator2 identity() {
-        return value -> value;
+        /**
+         * A {@code DoubleUnaryOperator2} which always returns its input argument.
+         */
+        final class Identity extends AbstractCanonical implements DoubleUnaryOperator2 {
+
+            /**
+             * Creates the identity {@code DoubleUnaryOperator2}.
+             */
+            Identity() {
+                super(Kind.IDENTITY);
+            }
+
+            @Override
+            public double applyAsDouble(double value) {
+                return value;
+            }
+        }
+
+        return new Identity();
     }
 
     /**
-     * Creates a {@link DoubleUnaryOperator2} which always returns a given value.
+     * Creates a {@link DoubleUnaryOperator2} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code DoubleUnaryOperator2} which always returns a given value.
      */
     @Nonnull
     static DoubleUnaryOperator2 constant(double ret) {
-        return value -> ret;
+        /**
+         * A {@code DoubleUnaryOperator2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements DoubleUnaryOperator2 {
+
+            /**
+             * Creates a constant {@code DoubleUnaryOperator2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public double applyAsDouble(double value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -129,6 +219,100 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
     @Override
     double applyAsDouble(double value);
 
+    /**
+     * Applies this operator to the elements at each index and stores the results at that index of the given result
+     * array, whose length determines the number of applied elements. The result array may be the argument array, so
+     * that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDouble(@Nonnull double[] values, @Nonnull double[] results) {
+        applyAsDouble(values, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index from the given start index (inclusive) to the given end index
+     * (exclusive), and stores the results at that index of the given result array. The result array may be the argument
+     * array, so that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsDouble(@Nonnull double[] values, @Nonnull double[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsDouble(values[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector, and
+     * stores the results at these indices of the given result array, whose other elements are left unchanged.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsDouble(@Nonnull double[] values, @Nonnull double[] results, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsDouble(values[index]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsDoubleParallel(@Nonnull double[] values, @Nonnull double[] results) {
+        applyAsDoubleParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsDoubleParallel(@Nonnull double[] values, @Nonnull double[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsDouble(values, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -155,6 +339,9 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
     @Nonnull
     default <A> ToDoubleFunction2<A> compose(@Nonnull ToDoubleFunction<? super A> before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return a -> before.applyAsDouble(a);
+        }
         return a -> applyAsDouble(before.applyAsDouble(a));
     }
 
@@ -174,6 +361,11 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
     @Nonnull
     default BooleanToDoubleFunction composeFromBoolean(@Nonnull BooleanToDoubleFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof BooleanToDoubleFunction
+                    ? (BooleanToDoubleFunction) before
+                    : value -> before.applyAsDouble(value);
+        }
         return value -> applyAsDouble(before.applyAsDouble(value));
     }
 
@@ -193,6 +385,11 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
     @Nonnull
     default ByteToDoubleFunction composeFromByte(@Nonnull ByteToDoubleFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ByteToDoubleFunction
+                    ? (ByteToDoubleFunction) before
+                    : value -> before.applyAsDouble(value);
+        }
         return value -> applyAsDouble(before.applyAsDouble(value));
     }
 
@@ -212,6 +409,11 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
     @Nonnull
     default CharToDoubleFunction composeFromChar(@Nonnull CharToDoubleFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof CharToDoubleFunction
+                    ? (CharToDoubleFunction) before
+                    : value -> before.applyAsDouble(value);
+        }
         return value -> applyAsDouble(before.applyAsDouble(value));
     }
 
@@ -231,6 +433,14 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
     @Nonnull
     default DoubleUnaryOperator2 composeFromDouble(@Nonnull DoubleUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof DoubleUnaryOperator2
+                    ? (DoubleUnaryOperator2) before
+                    : value -> before.applyAsDouble(value);
+        }
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> applyAsDouble(before.applyAsDouble(value));
     }
 
@@ -250,6 +460,11 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
     @Nonnull
     default FloatToDoubleFunction composeFromFloat(@Nonnull FloatToDoubleFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof FloatToDoubleFunction
+                    ? (FloatToDoubleFunction) before
+                    : value -> before.applyAsDouble(value);
+        }
         return value -> applyAsDouble(before.applyAsDouble(value));
     }
 
@@ -269,6 +484,11 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
     @Nonnull
     default IntToDoubleFunction2 composeFromInt(@Nonnull IntToDoubleFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof IntToDoubleFunction2
+                    ? (IntToDoubleFunction2) before
+                    : value -> before.applyAsDouble(value);
+        }
         return value -> applyAsDouble(before.applyAsDouble(value));
     }
 
@@ -288,6 +508,11 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
     @Nonnull
     default LongToDoubleFunction2 composeFromLong(@Nonnull LongToDoubleFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof LongToDoubleFunction2
+                    ? (LongToDoubleFunction2) before
+                    : value -> before.applyAsDouble(value);
+        }
         return value -> applyAsDouble(before.applyAsDouble(value));
     }
 
@@ -307,6 +532,11 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
     @Nonnull
     default ShortToDoubleFunction composeFromShort(@Nonnull ShortToDoubleFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ShortToDoubleFunction
+                    ? (ShortToDoubleFunction) before
+                    : value -> before.applyAsDouble(value);
+        }
         return value -> applyAsDouble(before.applyAsDouble(value));
     }
 
@@ -321,10 +551,18 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> DoubleFunction2<S> andThen(@Nonnull DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return value -> after.apply(value);
+        }
+        if (Composition.isConstant(this)) {
+            return DoubleFunction2.constant(after.apply(applyAsDouble(0d)));
+        }
         return value -> after.apply(applyAsDouble(value));
     }
 
@@ -340,10 +578,18 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoublePredicate2 andThenToBoolean(@Nonnull DoublePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof DoublePredicate2 ? (DoublePredicate2) after : value -> after.test(value);
+        }
+        if (Composition.isConstant(this)) {
+            return DoublePredicate2.constant(after.test(applyAsDouble(0d)));
+        }
         return value -> after.test(applyAsDouble(value));
     }
 
@@ -359,10 +605,20 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToByteFunction andThenToByte(@Nonnull DoubleToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof DoubleToByteFunction
+                    ? (DoubleToByteFunction) after
+                    : value -> after.applyAsByte(value);
+        }
+        if (Composition.isConstant(this)) {
+            return DoubleToByteFunction.constant(after.applyAsByte(applyAsDouble(0d)));
+        }
         return value -> after.applyAsByte(applyAsDouble(value));
     }
 
@@ -378,10 +634,20 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToCharFunction andThenToChar(@Nonnull DoubleToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof DoubleToCharFunction
+                    ? (DoubleToCharFunction) after
+                    : value -> after.applyAsChar(value);
+        }
+        if (Composition.isConstant(this)) {
+            return DoubleToCharFunction.constant(after.applyAsChar(applyAsDouble(0d)));
+        }
         return value -> after.applyAsChar(applyAsDouble(value));
     }
 
@@ -397,10 +663,23 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleUnaryOperator2 andThenToDouble(@Nonnull DoubleUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof DoubleUnaryOperator2
+                    ? (DoubleUnaryOperator2) after
+                    : value -> after.applyAsDouble(value);
+        }
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return DoubleUnaryOperator2.constant(after.applyAsDouble(applyAsDouble(0d)));
+        }
         return value -> after.applyAsDouble(applyAsDouble(value));
     }
 
@@ -416,10 +695,20 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToFloatFunction andThenToFloat(@Nonnull DoubleToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof DoubleToFloatFunction
+                    ? (DoubleToFloatFunction) after
+                    : value -> after.applyAsFloat(value);
+        }
+        if (Composition.isConstant(this)) {
+            return DoubleToFloatFunction.constant(after.applyAsFloat(applyAsDouble(0d)));
+        }
         return value -> after.applyAsFloat(applyAsDouble(value));
     }
 
@@ -435,10 +724,20 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToIntFunction2 andThenToInt(@Nonnull DoubleToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof DoubleToIntFunction2
+                    ? (DoubleToIntFunction2) after
+                    : value -> after.applyAsInt(value);
+        }
+        if (Composition.isConstant(this)) {
+            return DoubleToIntFunction2.constant(after.applyAsInt(applyAsDouble(0d)));
+        }
         return value -> after.applyAsInt(applyAsDouble(value));
     }
 
@@ -454,10 +753,20 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToLongFunction2 andThenToLong(@Nonnull DoubleToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof DoubleToLongFunction2
+                    ? (DoubleToLongFunction2) after
+                    : value -> after.applyAsLong(value);
+        }
+        if (Composition.isConstant(this)) {
+            return DoubleToLongFunction2.constant(after.applyAsLong(applyAsDouble(0d)));
+        }
         return value -> after.applyAsLong(applyAsDouble(value));
     }
 
@@ -473,10 +782,20 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleToShortFunction andThenToShort(@Nonnull DoubleToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof DoubleToShortFunction
+                    ? (DoubleToShortFunction) after
+                    : value -> after.applyAsShort(value);
+        }
+        if (Composition.isConstant(this)) {
+            return DoubleToShortFunction.constant(after.applyAsShort(applyAsDouble(0d)));
+        }
         return value -> after.applyAsShort(applyAsDouble(value));
     }
 
@@ -525,13 +844,100 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Double, Double> cache = new ConcurrentHashMap<>();
-            return (DoubleUnaryOperator2 & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::applyAsDouble);
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link DoubleUnaryOperator2}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code DoubleUnaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default DoubleUnaryOperator2 memoized(@Nonnull MemoStore<Double, Double> store) {
+        Objects.requireNonNull(store);
+        return (DoubleUnaryOperator2 & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsDouble);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link DoubleUnaryOperator2}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code DoubleUnaryOperator2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default DoubleUnaryOperator2 adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link DoubleUnaryOperator2}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code DoubleUnaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default DoubleUnaryOperator2 adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Double, Double> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (DoubleUnaryOperator2 & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::applyAsDouble);
+        };
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link DoubleUnaryOperator2}, which caches its values in the given
+     * {@link DoubleMemoStore}. In contrast to {@link #memoized(MemoStore)}, keys and values are never boxed.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code DoubleUnaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see DoubleMemoStore
+     */
+    @Nonnull
+    default DoubleUnaryOperator2 memoizedDouble(@Nonnull DoubleMemoStore store) {
+        Objects.requireNonNull(store);
+        return (DoubleUnaryOperator2 & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsDouble);
+        };
+    }
+
     /**
      * Returns a composed {@link UnaryOperator2} which represents this {@link DoubleUnaryOperator2}. Thereby the
      * primitive input argument for this operator is autoboxed. This method provides the possibility to use this {@code
@@ -541,6 +947,24 @@ public interface DoubleUnaryOperator2 extends Lambda, DoubleUnaryOperator {
      */
     @Nonnull
     default UnaryOperator2<Double> boxed() {
-        return this::applyAsDouble;
+        /**
+         * A {@code UnaryOperator2} which applies this {@code DoubleUnaryOperator2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements UnaryOperator2<Double> {
+
+            /**
+             * Creates the boxed variant of this {@code DoubleUnaryOperator2}.
+             */
+            Boxed() {
+                super(DoubleUnaryOperator2.this);
+            }
+
+            @Override
+            public Double apply(Double t) {
+                return DoubleUnaryOperator2.this.applyAsDouble(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
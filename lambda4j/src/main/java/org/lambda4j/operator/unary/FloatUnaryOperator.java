@@ -16,9 +16,9 @@
 
 package org.lambda4j.operator.unary;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -26,6 +26,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.FloatConsumer;
 import org.lambda4j.function.FloatFunction;
 import org.lambda4j.function.conversion.BooleanToFloatFunction;
@@ -42,6 +46,12 @@ import org.lambda4j.function.conversion.IntToFloatFunction;
 import org.lambda4j.function.conversion.LongToFloatFunction;
 import org.lambda4j.function.conversion.ShortToFloatFunction;
 import org.lambda4j.function.to.ToFloatFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
+import org.lambda4j.optional.OptionalFloat;
 import org.lambda4j.predicate.FloatPredicate;
 
 /**
@@ -76,6 +86,44 @@ public interface FloatUnaryOperator extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link FloatUnaryOperator} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * FloatUnaryOperator} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * operator calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code FloatUnaryOperator} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static FloatUnaryOperator unboxed(@Nonnull Function<? super Float, ? extends Float> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof FloatUnaryOperator) {
+            return (FloatUnaryOperator) original;
+        }
+        return value -> function.apply(value);
+    }
+
+    /**
+     * Lifts a partial {@link FloatUnaryOperator}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link FloatFunction} that returns an {@link OptionalFloat} result. The result of the
+     * given operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code FloatUnaryOperator} lifted into a total {@code FloatFunction} that returns an {@code
+     * OptionalFloat} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static FloatFunction<OptionalFloat> lift(@Nonnull FloatPredicate isDefined, @Nonnull FloatUnaryOperator partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return value -> isDefined.test(value) ? OptionalFloat.of(partial.applyAsFloat(value)) : OptionalFloat.empty();
+    }
+
     /**
      * Calls the given {@link FloatUnaryOperator} with the given argument and returns its result.
      *
@@ -96,18 +144,56 @@ public interface FloatUnaryOperator extends Lambda {
      */
     @Nonnull
     static FloatUnaryOperator identity() {
-        return value -> value;
+        /**
+         * A {@code FloatUnaryOperator} which always returns its input argument.
+         */
+        final class Identity extends AbstractCanonical implements FloatUnaryOperator {
+
+            /**
+             * Creates the identity {@code FloatUnaryOperator}.
+             */
+            Identity() {
+                super(Kind.IDENTITY);
+            }
+
+            @Override
+            public float applyAsFloat(float value) {
+                return value;
+            }
+        }
+
+        return new Identity();
     }
 
     /**
-     * Creates a {@link FloatUnaryOperator} which always returns a given value.
+     * Creates a {@link FloatUnaryOperator} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code FloatUnaryOperator} which always returns a given value.
      */
     @Nonnull
     static FloatUnaryOperator constant(float ret) {
-        return value -> ret;
+        /**
+         * A {@code FloatUnaryOperator} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements FloatUnaryOperator {
+
+            /**
+             * Creates a constant {@code FloatUnaryOperator}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public float applyAsFloat(float value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -118,6 +204,100 @@ public interface FloatUnaryOperator extends Lambda {
      */
     float applyAsFloat(float value);
 
+    /**
+     * Applies this operator to the elements at each index and stores the results at that index of the given result
+     * array, whose length determines the number of applied elements. The result array may be the argument array, so
+     * that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsFloat(@Nonnull float[] values, @Nonnull float[] results) {
+        applyAsFloat(values, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index from the given start index (inclusive) to the given end index
+     * (exclusive), and stores the results at that index of the given result array. The result array may be the argument
+     * array, so that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsFloat(@Nonnull float[] values, @Nonnull float[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsFloat(values[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector, and
+     * stores the results at these indices of the given result array, whose other elements are left unchanged.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsFloat(@Nonnull float[] values, @Nonnull float[] results, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsFloat(values[index]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsFloatParallel(@Nonnull float[] values, @Nonnull float[] results) {
+        applyAsFloatParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsFloatParallel(@Nonnull float[] values, @Nonnull float[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsFloat(values, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -144,6 +324,9 @@ public interface FloatUnaryOperator extends Lambda {
     @Nonnull
     default <A> ToFloatFunction<A> compose(@Nonnull ToFloatFunction<? super A> before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return a -> before.applyAsFloat(a);
+        }
         return a -> applyAsFloat(before.applyAsFloat(a));
     }
 
@@ -163,6 +346,11 @@ public interface FloatUnaryOperator extends Lambda {
     @Nonnull
     default BooleanToFloatFunction composeFromBoolean(@Nonnull BooleanToFloatFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof BooleanToFloatFunction
+                    ? (BooleanToFloatFunction) before
+                    : value -> before.applyAsFloat(value);
+        }
         return value -> applyAsFloat(before.applyAsFloat(value));
     }
 
@@ -182,6 +370,11 @@ public interface FloatUnaryOperator extends Lambda {
     @Nonnull
     default ByteToFloatFunction composeFromByte(@Nonnull ByteToFloatFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ByteToFloatFunction
+                    ? (ByteToFloatFunction) before
+                    : value -> before.applyAsFloat(value);
+        }
         return value -> applyAsFloat(before.applyAsFloat(value));
     }
 
@@ -201,6 +394,11 @@ public interface FloatUnaryOperator extends Lambda {
     @Nonnull
     default CharToFloatFunction composeFromChar(@Nonnull CharToFloatFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof CharToFloatFunction
+                    ? (CharToFloatFunction) before
+                    : value -> before.applyAsFloat(value);
+        }
         return value -> applyAsFloat(before.applyAsFloat(value));
     }
 
@@ -220,6 +418,11 @@ public interface FloatUnaryOperator extends Lambda {
     @Nonnull
     default DoubleToFloatFunction composeFromDouble(@Nonnull DoubleToFloatFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof DoubleToFloatFunction
+                    ? (DoubleToFloatFunction) before
+                    : value -> before.applyAsFloat(value);
+        }
         return value -> applyAsFloat(before.applyAsFloat(value));
     }
 
@@ -239,6 +442,14 @@ public interface FloatUnaryOperator extends Lambda {
     @Nonnull
     default FloatUnaryOperator composeFromFloat(@Nonnull FloatUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof FloatUnaryOperator
+                    ? (FloatUnaryOperator) before
+                    : value -> before.applyAsFloat(value);
+        }
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> applyAsFloat(before.applyAsFloat(value));
     }
 
@@ -258,6 +469,11 @@ public interface FloatUnaryOperator extends Lambda {
     @Nonnull
     default IntToFloatFunction composeFromInt(@Nonnull IntToFloatFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof IntToFloatFunction
+                    ? (IntToFloatFunction) before
+                    : value -> before.applyAsFloat(value);
+        }
         return value -> applyAsFloat(before.applyAsFloat(value));
     }
 
@@ -277,6 +493,11 @@ public interface FloatUnaryOperator extends Lambda {
     @Nonnull
     default LongToFloatFunction composeFromLong(@Nonnull LongToFloatFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof LongToFloatFunction
+                    ? (LongToFloatFunction) before
+                    : value -> before.applyAsFloat(value);
+        }
         return value -> applyAsFloat(before.applyAsFloat(value));
     }
 
@@ -296,6 +517,11 @@ public interface FloatUnaryOperator extends Lambda {
     @Nonnull
     default ShortToFloatFunction composeFromShort(@Nonnull ShortToFloatFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ShortToFloatFunction
+                    ? (ShortToFloatFunction) before
+                    : value -> before.applyAsFloat(value);
+        }
         return value -> applyAsFloat(before.applyAsFloat(value));
     }
 
@@ -310,10 +536,18 @@ public interface FloatUnaryOperator extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> FloatFunction<S> andThen(@Nonnull FloatFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return value -> after.apply(value);
+        }
+        if (Composition.isConstant(this)) {
+            return FloatFunction.constant(after.apply(applyAsFloat(0f)));
+        }
         return value -> after.apply(applyAsFloat(value));
     }
 
@@ -329,10 +563,18 @@ public interface FloatUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatPredicate andThenToBoolean(@Nonnull FloatPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof FloatPredicate ? (FloatPredicate) after : value -> after.test(value);
+        }
+        if (Composition.isConstant(this)) {
+            return FloatPredicate.constant(after.test(applyAsFloat(0f)));
+        }
         return value -> after.test(applyAsFloat(value));
     }
 
@@ -348,10 +590,20 @@ public interface FloatUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatToByteFunction andThenToByte(@Nonnull FloatToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof FloatToByteFunction
+                    ? (FloatToByteFunction) after
+                    : value -> after.applyAsByte(value);
+        }
+        if (Composition.isConstant(this)) {
+            return FloatToByteFunction.constant(after.applyAsByte(applyAsFloat(0f)));
+        }
         return value -> after.applyAsByte(applyAsFloat(value));
     }
 
@@ -367,10 +619,20 @@ public interface FloatUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatToCharFunction andThenToChar(@Nonnull FloatToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof FloatToCharFunction
+                    ? (FloatToCharFunction) after
+                    : value -> after.applyAsChar(value);
+        }
+        if (Composition.isConstant(this)) {
+            return FloatToCharFunction.constant(after.applyAsChar(applyAsFloat(0f)));
+        }
         return value -> after.applyAsChar(applyAsFloat(value));
     }
 
@@ -386,10 +648,20 @@ public interface FloatUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatToDoubleFunction andThenToDouble(@Nonnull FloatToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof FloatToDoubleFunction
+                    ? (FloatToDoubleFunction) after
+                    : value -> after.applyAsDouble(value);
+        }
+        if (Composition.isConstant(this)) {
+            return FloatToDoubleFunction.constant(after.applyAsDouble(applyAsFloat(0f)));
+        }
         return value -> after.applyAsDouble(applyAsFloat(value));
     }
 
@@ -405,10 +677,23 @@ public interface FloatUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatUnaryOperator andThenToFloat(@Nonnull FloatUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof FloatUnaryOperator
+                    ? (FloatUnaryOperator) after
+                    : value -> after.applyAsFloat(value);
+        }
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return FloatUnaryOperator.constant(after.applyAsFloat(applyAsFloat(0f)));
+        }
         return value -> after.applyAsFloat(applyAsFloat(value));
     }
 
@@ -424,10 +709,18 @@ public interface FloatUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatToIntFunction andThenToInt(@Nonnull FloatToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof FloatToIntFunction ? (FloatToIntFunction) after : value -> after.applyAsInt(value);
+        }
+        if (Composition.isConstant(this)) {
+            return FloatToIntFunction.constant(after.applyAsInt(applyAsFloat(0f)));
+        }
         return value -> after.applyAsInt(applyAsFloat(value));
     }
 
@@ -443,10 +736,20 @@ public interface FloatUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatToLongFunction andThenToLong(@Nonnull FloatToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof FloatToLongFunction
+                    ? (FloatToLongFunction) after
+                    : value -> after.applyAsLong(value);
+        }
+        if (Composition.isConstant(this)) {
+            return FloatToLongFunction.constant(after.applyAsLong(applyAsFloat(0f)));
+        }
         return value -> after.applyAsLong(applyAsFloat(value));
     }
 
@@ -462,10 +765,20 @@ public interface FloatUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatToShortFunction andThenToShort(@Nonnull FloatToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof FloatToShortFunction
+                    ? (FloatToShortFunction) after
+                    : value -> after.applyAsShort(value);
+        }
+        if (Composition.isConstant(this)) {
+            return FloatToShortFunction.constant(after.applyAsShort(applyAsFloat(0f)));
+        }
         return value -> after.applyAsShort(applyAsFloat(value));
     }
 
@@ -514,13 +827,82 @@ public interface FloatUnaryOperator extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Float, Float> cache = new ConcurrentHashMap<>();
-            return (FloatUnaryOperator & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::applyAsFloat);
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link FloatUnaryOperator}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code FloatUnaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default FloatUnaryOperator memoized(@Nonnull MemoStore<Float, Float> store) {
+        Objects.requireNonNull(store);
+        return (FloatUnaryOperator & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsFloat);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link FloatUnaryOperator}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code FloatUnaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default FloatUnaryOperator adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link FloatUnaryOperator}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code FloatUnaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default FloatUnaryOperator adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Float, Float> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (FloatUnaryOperator & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::applyAsFloat);
+        };
+    }
+
     /**
      * Returns a composed {@link UnaryOperator2} which represents this {@link FloatUnaryOperator}. Thereby the primitive
      * input argument for this operator is autoboxed. This method provides the possibility to use this {@code
@@ -530,6 +912,24 @@ public interface FloatUnaryOperator extends Lambda {
      */
     @Nonnull
     default UnaryOperator2<Float> boxed() {
-        return this::applyAsFloat;
+        /**
+         * A {@code UnaryOperator2} which applies this {@code FloatUnaryOperator} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements UnaryOperator2<Float> {
+
+            /**
+             * Creates the boxed variant of this {@code FloatUnaryOperator}.
+             */
+            Boxed() {
+                super(FloatUnaryOperator.this);
+            }
+
+            @Override
+            public Float apply(Float t) {
+                return FloatUnaryOperator.this.applyAsFloat(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,10 +16,11 @@
 
 package org.lambda4j.operator.unary;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleToIntFunction;
+import java.util.function.Function;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
@@ -35,6 +36,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.IntConsumer2;
 import org.lambda4j.function.IntFunction2;
 import org.lambda4j.function.conversion.BooleanToIntFunction;
@@ -51,6 +56,14 @@ import org.lambda4j.function.conversion.IntToShortFunction;
 import org.lambda4j.function.conversion.LongToIntFunction2;
 import org.lambda4j.function.conversion.ShortToIntFunction;
 import org.lambda4j.function.to.ToIntFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.IntMemoStore;
+import org.lambda4j.memoization.MemoStore;
+import org.lambda4j.memoization.WarmUp;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.IntPredicate2;
 
 /**
@@ -86,6 +99,44 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
         return expression;
     }
 
+    /**
+     * Returns a {@link IntUnaryOperator2} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * IntUnaryOperator2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code IntUnaryOperator2} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static IntUnaryOperator2 unboxed(@Nonnull Function<? super Integer, ? extends Integer> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof IntUnaryOperator2) {
+            return (IntUnaryOperator2) original;
+        }
+        return value -> function.apply(value);
+    }
+
+    /**
+     * Lifts a partial {@link IntUnaryOperator2}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link IntFunction2} that returns an {@link OptionalInt} result. The result of the given
+     * operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code IntUnaryOperator2} lifted into a total {@code IntFunction2} that returns an {@code
+     * OptionalInt} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static IntFunction2<OptionalInt> lift(@Nonnull IntPredicate2 isDefined, @Nonnull IntUnaryOperator2 partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return value -> isDefined.test(value) ? OptionalUtils.ofInt(partial.applyAsInt(value)) : OptionalInt.empty();
+    }
+
     /**
      * Calls the given {@link IntUnaryOperator} with the given argument and returns its result.
      *
@@ -106,18 +157,56 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
      */
     @Nonnull
     static IntUnaryOperator2 identity() {
-        return value -> value;
+        /**
+         * A {@code IntUnaryOperator2} which always returns its input argument.
+         */
+        final class Identity extends AbstractCanonical implements IntUnaryOperator2 {
+
+            /**
+             * Creates the identity {@code IntUnaryOperator2}.
+             */
+            Identity() {
+                super(Kind.IDENTITY);
+            }
+
+            @Override
+            public int applyAsInt(int value) {
+                return value;
+            }
+        }
+
+        return new Identity();
     }
 
     /**
-     * Creates a {@link IntUnaryOperator2} which always returns a given value.
+     * Creates a {@link IntUnaryOperator2} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code IntUnaryOperator2} which always returns a given value.
      */
     @Nonnull
     static IntUnaryOperator2 constant(int ret) {
-        return value -> ret;
+        /**
+         * A {@code IntUnaryOperator2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements IntUnaryOperator2 {
+
+            /**
+             * Creates a constant {@code IntUnaryOperator2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public int applyAsInt(int value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -129,6 +218,99 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
     @Override
     int applyAsInt(int value);
 
+    /**
+     * Applies this operator to the elements at each index and stores the results at that index of the given result
+     * array, whose length determines the number of applied elements. The result array may be the argument array, so
+     * that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsInt(@Nonnull int[] values, @Nonnull int[] results) {
+        applyAsInt(values, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index from the given start index (inclusive) to the given end index
+     * (exclusive), and stores the results at that index of the given result array. The result array may be the argument
+     * array, so that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsInt(@Nonnull int[] values, @Nonnull int[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsInt(values[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector, and
+     * stores the results at these indices of the given result array, whose other elements are left unchanged.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsInt(@Nonnull int[] values, @Nonnull int[] results, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsInt(values[index]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsIntParallel(@Nonnull int[] values, @Nonnull int[] results) {
+        applyAsIntParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsIntParallel(@Nonnull int[] values, @Nonnull int[] results, @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsInt(values, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -155,6 +337,9 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
     @Nonnull
     default <A> ToIntFunction2<A> compose(@Nonnull ToIntFunction<? super A> before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return a -> before.applyAsInt(a);
+        }
         return a -> applyAsInt(before.applyAsInt(a));
     }
 
@@ -174,6 +359,11 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
     @Nonnull
     default BooleanToIntFunction composeFromBoolean(@Nonnull BooleanToIntFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof BooleanToIntFunction
+                    ? (BooleanToIntFunction) before
+                    : value -> before.applyAsInt(value);
+        }
         return value -> applyAsInt(before.applyAsInt(value));
     }
 
@@ -193,6 +383,9 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
     @Nonnull
     default ByteToIntFunction composeFromByte(@Nonnull ByteToIntFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ByteToIntFunction ? (ByteToIntFunction) before : value -> before.applyAsInt(value);
+        }
         return value -> applyAsInt(before.applyAsInt(value));
     }
 
@@ -212,6 +405,9 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
     @Nonnull
     default CharToIntFunction composeFromChar(@Nonnull CharToIntFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof CharToIntFunction ? (CharToIntFunction) before : value -> before.applyAsInt(value);
+        }
         return value -> applyAsInt(before.applyAsInt(value));
     }
 
@@ -231,6 +427,11 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
     @Nonnull
     default DoubleToIntFunction2 composeFromDouble(@Nonnull DoubleToIntFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof DoubleToIntFunction2
+                    ? (DoubleToIntFunction2) before
+                    : value -> before.applyAsInt(value);
+        }
         return value -> applyAsInt(before.applyAsInt(value));
     }
 
@@ -250,6 +451,11 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
     @Nonnull
     default FloatToIntFunction composeFromFloat(@Nonnull FloatToIntFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof FloatToIntFunction
+                    ? (FloatToIntFunction) before
+                    : value -> before.applyAsInt(value);
+        }
         return value -> applyAsInt(before.applyAsInt(value));
     }
 
@@ -269,6 +475,12 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
     @Nonnull
     default IntUnaryOperator2 composeFromInt(@Nonnull IntUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof IntUnaryOperator2 ? (IntUnaryOperator2) before : value -> before.applyAsInt(value);
+        }
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> applyAsInt(before.applyAsInt(value));
     }
 
@@ -288,6 +500,11 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
     @Nonnull
     default LongToIntFunction2 composeFromLong(@Nonnull LongToIntFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof LongToIntFunction2
+                    ? (LongToIntFunction2) before
+                    : value -> before.applyAsInt(value);
+        }
         return value -> applyAsInt(before.applyAsInt(value));
     }
 
@@ -307,6 +524,11 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
     @Nonnull
     default ShortToIntFunction composeFromShort(@Nonnull ShortToIntFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ShortToIntFunction
+                    ? (ShortToIntFunction) before
+                    : value -> before.applyAsInt(value);
+        }
         return value -> applyAsInt(before.applyAsInt(value));
     }
 
@@ -321,10 +543,18 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> IntFunction2<S> andThen(@Nonnull IntFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return value -> after.apply(value);
+        }
+        if (Composition.isConstant(this)) {
+            return IntFunction2.constant(after.apply(applyAsInt(0)));
+        }
         return value -> after.apply(applyAsInt(value));
     }
 
@@ -340,10 +570,18 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntPredicate2 andThenToBoolean(@Nonnull IntPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof IntPredicate2 ? (IntPredicate2) after : value -> after.test(value);
+        }
+        if (Composition.isConstant(this)) {
+            return IntPredicate2.constant(after.test(applyAsInt(0)));
+        }
         return value -> after.test(applyAsInt(value));
     }
 
@@ -359,10 +597,18 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToByteFunction andThenToByte(@Nonnull IntToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof IntToByteFunction ? (IntToByteFunction) after : value -> after.applyAsByte(value);
+        }
+        if (Composition.isConstant(this)) {
+            return IntToByteFunction.constant(after.applyAsByte(applyAsInt(0)));
+        }
         return value -> after.applyAsByte(applyAsInt(value));
     }
 
@@ -378,10 +624,18 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToCharFunction andThenToChar(@Nonnull IntToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof IntToCharFunction ? (IntToCharFunction) after : value -> after.applyAsChar(value);
+        }
+        if (Composition.isConstant(this)) {
+            return IntToCharFunction.constant(after.applyAsChar(applyAsInt(0)));
+        }
         return value -> after.applyAsChar(applyAsInt(value));
     }
 
@@ -397,10 +651,20 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToDoubleFunction2 andThenToDouble(@Nonnull IntToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof IntToDoubleFunction2
+                    ? (IntToDoubleFunction2) after
+                    : value -> after.applyAsDouble(value);
+        }
+        if (Composition.isConstant(this)) {
+            return IntToDoubleFunction2.constant(after.applyAsDouble(applyAsInt(0)));
+        }
         return value -> after.applyAsDouble(applyAsInt(value));
     }
 
@@ -416,10 +680,20 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToFloatFunction andThenToFloat(@Nonnull IntToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof IntToFloatFunction
+                    ? (IntToFloatFunction) after
+                    : value -> after.applyAsFloat(value);
+        }
+        if (Composition.isConstant(this)) {
+            return IntToFloatFunction.constant(after.applyAsFloat(applyAsInt(0)));
+        }
         return value -> after.applyAsFloat(applyAsInt(value));
     }
 
@@ -435,10 +709,21 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntUnaryOperator2 andThenToInt(@Nonnull IntUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof IntUnaryOperator2 ? (IntUnaryOperator2) after : value -> after.applyAsInt(value);
+        }
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return IntUnaryOperator2.constant(after.applyAsInt(applyAsInt(0)));
+        }
         return value -> after.applyAsInt(applyAsInt(value));
     }
 
@@ -454,10 +739,18 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToLongFunction2 andThenToLong(@Nonnull IntToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof IntToLongFunction2 ? (IntToLongFunction2) after : value -> after.applyAsLong(value);
+        }
+        if (Composition.isConstant(this)) {
+            return IntToLongFunction2.constant(after.applyAsLong(applyAsInt(0)));
+        }
         return value -> after.applyAsLong(applyAsInt(value));
     }
 
@@ -473,10 +766,20 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToShortFunction andThenToShort(@Nonnull IntToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof IntToShortFunction
+                    ? (IntToShortFunction) after
+                    : value -> after.applyAsShort(value);
+        }
+        if (Composition.isConstant(this)) {
+            return IntToShortFunction.constant(after.applyAsShort(applyAsInt(0)));
+        }
         return value -> after.applyAsShort(applyAsInt(value));
     }
 
@@ -525,13 +828,120 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Integer, Integer> cache = new ConcurrentHashMap<>();
-            return (IntUnaryOperator2 & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::applyAsInt);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link IntUnaryOperator2}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code IntUnaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default IntUnaryOperator2 memoized(@Nonnull MemoStore<Integer, Integer> store) {
+        Objects.requireNonNull(store);
+        return (IntUnaryOperator2 & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsInt);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link IntUnaryOperator2}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code IntUnaryOperator2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default IntUnaryOperator2 adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link IntUnaryOperator2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code IntUnaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default IntUnaryOperator2 adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Integer, Integer> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (IntUnaryOperator2 & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::applyAsInt);
+        };
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link IntUnaryOperator2}, which caches its values in the given
+     * {@link IntMemoStore}. In contrast to {@link #memoized(MemoStore)}, keys and values are never boxed.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code IntUnaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see IntMemoStore
+     */
+    @Nonnull
+    default IntUnaryOperator2 memoizedInt(@Nonnull IntMemoStore store) {
+        Objects.requireNonNull(store);
+        return (IntUnaryOperator2 & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsInt);
+        };
+    }
+
+    /**
+     * Starts a warm-up of this {@link IntUnaryOperator2}, which computes the values of all keys of the given range in
+     * parallel using the given {@link ForkJoinPool}. If this operator is memoized, its cache is populated with these
+     * values, so that it serves them from the cache afterwards. The keys are never boxed.
+     *
+     * @param startInclusive The first key of the range
+     * @param endExclusive The key following the last key of the range
+     * @param pool The pool computing the values
+     * @return The started warm-up, which reports its progress and can be cancelled.
+     * @throws NullPointerException If given pool is {@code null}
+     * @throws IllegalArgumentException If given start is greater than given end
+     * @see #memoized()
+     * @see WarmUp
+     */
+    @Nonnull
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    default WarmUp warmUp(int startInclusive, int endExclusive, @Nonnull ForkJoinPool pool) {
+        return WarmUp.ofIntRange(startInclusive, endExclusive, this::applyAsInt, pool);
+    }
+
     /**
      * Returns a composed {@link UnaryOperator2} which represents this {@link IntUnaryOperator2}. Thereby the primitive
      * input argument for this operator is autoboxed. This method provides the possibility to use this {@code
@@ -541,6 +951,24 @@ public interface IntUnaryOperator2 extends Lambda, IntUnaryOperator {
      */
     @Nonnull
     default UnaryOperator2<Integer> boxed() {
-        return this::applyAsInt;
+        /**
+         * A {@code UnaryOperator2} which applies this {@code IntUnaryOperator2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements UnaryOperator2<Integer> {
+
+            /**
+             * Creates the boxed variant of this {@code IntUnaryOperator2}.
+             */
+            Boxed() {
+                super(IntUnaryOperator2.this);
+            }
+
+            @Override
+            public Integer apply(Integer t) {
+                return IntUnaryOperator2.this.applyAsInt(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,10 +16,11 @@
 
 package org.lambda4j.operator.unary;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleToLongFunction;
+import java.util.function.Function;
 import java.util.function.IntToLongFunction;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
@@ -35,6 +36,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.LongConsumer2;
 import org.lambda4j.function.LongFunction2;
 import org.lambda4j.function.conversion.BooleanToLongFunction;
@@ -51,6 +56,15 @@ import org.lambda4j.function.conversion.LongToIntFunction2;
 import org.lambda4j.function.conversion.LongToShortFunction;
 import org.lambda4j.function.conversion.ShortToLongFunction;
 import org.lambda4j.function.to.ToLongFunction2;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.LongMemoStore;
+import org.lambda4j.memoization.MemoStore;
+import org.lambda4j.memoization.SharedLongMemoTable;
+import org.lambda4j.memoization.WarmUp;
+import org.lambda4j.optional.OptionalUtils;
 import org.lambda4j.predicate.LongPredicate2;
 
 /**
@@ -86,6 +100,44 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
         return expression;
     }
 
+    /**
+     * Returns a {@link LongUnaryOperator2} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * LongUnaryOperator2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code LongUnaryOperator2} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static LongUnaryOperator2 unboxed(@Nonnull Function<? super Long, ? extends Long> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof LongUnaryOperator2) {
+            return (LongUnaryOperator2) original;
+        }
+        return value -> function.apply(value);
+    }
+
+    /**
+     * Lifts a partial {@link LongUnaryOperator2}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link LongFunction2} that returns an {@link OptionalLong} result. The result of the
+     * given operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code LongUnaryOperator2} lifted into a total {@code LongFunction2} that returns an {@code
+     * OptionalLong} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static LongFunction2<OptionalLong> lift(@Nonnull LongPredicate2 isDefined, @Nonnull LongUnaryOperator2 partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return value -> isDefined.test(value) ? OptionalUtils.ofLong(partial.applyAsLong(value)) : OptionalLong.empty();
+    }
+
     /**
      * Calls the given {@link LongUnaryOperator} with the given argument and returns its result.
      *
@@ -106,18 +158,56 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
      */
     @Nonnull
     static LongUnaryOperator2 identity() {
-        return value -> value;
+        /**
+         * A {@code LongUnaryOperator2} which always returns its input argument.
+         */
+        final class Identity extends AbstractCanonical implements LongUnaryOperator2 {
+
+            /**
+             * Creates the identity {@code LongUnaryOperator2}.
+             */
+            Identity() {
+                super(Kind.IDENTITY);
+            }
+
+            @Override
+            public long applyAsLong(long value) {
+                return value;
+            }
+        }
+
+        return new Identity();
     }
 
     /**
-     * Creates a {@link LongUnaryOperator2} which always returns a given value.
+     * Creates a {@link LongUnaryOperator2} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code LongUnaryOperator2} which always returns a given value.
      */
     @Nonnull
     static LongUnaryOperator2 constant(long ret) {
-        return value -> ret;
+        /**
+         * A {@code LongUnaryOperator2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements LongUnaryOperator2 {
+
+            /**
+             * Creates a constant {@code LongUnaryOperator2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public long applyAsLong(long value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -129,6 +219,100 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
     @Override
     long applyAsLong(long value);
 
+    /**
+     * Applies this operator to the elements at each index and stores the results at that index of the given result
+     * array, whose length determines the number of applied elements. The result array may be the argument array, so
+     * that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsLong(@Nonnull long[] values, @Nonnull long[] results) {
+        applyAsLong(values, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index from the given start index (inclusive) to the given end index
+     * (exclusive), and stores the results at that index of the given result array. The result array may be the argument
+     * array, so that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsLong(@Nonnull long[] values, @Nonnull long[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsLong(values[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector, and
+     * stores the results at these indices of the given result array, whose other elements are left unchanged.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsLong(@Nonnull long[] values, @Nonnull long[] results, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsLong(values[index]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsLongParallel(@Nonnull long[] values, @Nonnull long[] results) {
+        applyAsLongParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsLongParallel(@Nonnull long[] values, @Nonnull long[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsLong(values, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -155,6 +339,9 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
     @Nonnull
     default <A> ToLongFunction2<A> compose(@Nonnull ToLongFunction<? super A> before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return a -> before.applyAsLong(a);
+        }
         return a -> applyAsLong(before.applyAsLong(a));
     }
 
@@ -174,6 +361,11 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
     @Nonnull
     default BooleanToLongFunction composeFromBoolean(@Nonnull BooleanToLongFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof BooleanToLongFunction
+                    ? (BooleanToLongFunction) before
+                    : value -> before.applyAsLong(value);
+        }
         return value -> applyAsLong(before.applyAsLong(value));
     }
 
@@ -193,6 +385,11 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
     @Nonnull
     default ByteToLongFunction composeFromByte(@Nonnull ByteToLongFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ByteToLongFunction
+                    ? (ByteToLongFunction) before
+                    : value -> before.applyAsLong(value);
+        }
         return value -> applyAsLong(before.applyAsLong(value));
     }
 
@@ -212,6 +409,11 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
     @Nonnull
     default CharToLongFunction composeFromChar(@Nonnull CharToLongFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof CharToLongFunction
+                    ? (CharToLongFunction) before
+                    : value -> before.applyAsLong(value);
+        }
         return value -> applyAsLong(before.applyAsLong(value));
     }
 
@@ -231,6 +433,11 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
     @Nonnull
     default DoubleToLongFunction2 composeFromDouble(@Nonnull DoubleToLongFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof DoubleToLongFunction2
+                    ? (DoubleToLongFunction2) before
+                    : value -> before.applyAsLong(value);
+        }
         return value -> applyAsLong(before.applyAsLong(value));
     }
 
@@ -250,6 +457,11 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
     @Nonnull
     default FloatToLongFunction composeFromFloat(@Nonnull FloatToLongFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof FloatToLongFunction
+                    ? (FloatToLongFunction) before
+                    : value -> before.applyAsLong(value);
+        }
         return value -> applyAsLong(before.applyAsLong(value));
     }
 
@@ -269,6 +481,11 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
     @Nonnull
     default IntToLongFunction2 composeFromInt(@Nonnull IntToLongFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof IntToLongFunction2
+                    ? (IntToLongFunction2) before
+                    : value -> before.applyAsLong(value);
+        }
         return value -> applyAsLong(before.applyAsLong(value));
     }
 
@@ -288,6 +505,14 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
     @Nonnull
     default LongUnaryOperator2 composeFromLong(@Nonnull LongUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof LongUnaryOperator2
+                    ? (LongUnaryOperator2) before
+                    : value -> before.applyAsLong(value);
+        }
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> applyAsLong(before.applyAsLong(value));
     }
 
@@ -307,6 +532,11 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
     @Nonnull
     default ShortToLongFunction composeFromShort(@Nonnull ShortToLongFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ShortToLongFunction
+                    ? (ShortToLongFunction) before
+                    : value -> before.applyAsLong(value);
+        }
         return value -> applyAsLong(before.applyAsLong(value));
     }
 
@@ -321,10 +551,18 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> LongFunction2<S> andThen(@Nonnull LongFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return value -> after.apply(value);
+        }
+        if (Composition.isConstant(this)) {
+            return LongFunction2.constant(after.apply(applyAsLong(0L)));
+        }
         return value -> after.apply(applyAsLong(value));
     }
 
@@ -340,10 +578,18 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongPredicate2 andThenToBoolean(@Nonnull LongPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof LongPredicate2 ? (LongPredicate2) after : value -> after.test(value);
+        }
+        if (Composition.isConstant(this)) {
+            return LongPredicate2.constant(after.test(applyAsLong(0L)));
+        }
         return value -> after.test(applyAsLong(value));
     }
 
@@ -359,10 +605,18 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToByteFunction andThenToByte(@Nonnull LongToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof LongToByteFunction ? (LongToByteFunction) after : value -> after.applyAsByte(value);
+        }
+        if (Composition.isConstant(this)) {
+            return LongToByteFunction.constant(after.applyAsByte(applyAsLong(0L)));
+        }
         return value -> after.applyAsByte(applyAsLong(value));
     }
 
@@ -378,10 +632,18 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToCharFunction andThenToChar(@Nonnull LongToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof LongToCharFunction ? (LongToCharFunction) after : value -> after.applyAsChar(value);
+        }
+        if (Composition.isConstant(this)) {
+            return LongToCharFunction.constant(after.applyAsChar(applyAsLong(0L)));
+        }
         return value -> after.applyAsChar(applyAsLong(value));
     }
 
@@ -397,10 +659,20 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToDoubleFunction2 andThenToDouble(@Nonnull LongToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof LongToDoubleFunction2
+                    ? (LongToDoubleFunction2) after
+                    : value -> after.applyAsDouble(value);
+        }
+        if (Composition.isConstant(this)) {
+            return LongToDoubleFunction2.constant(after.applyAsDouble(applyAsLong(0L)));
+        }
         return value -> after.applyAsDouble(applyAsLong(value));
     }
 
@@ -416,10 +688,20 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToFloatFunction andThenToFloat(@Nonnull LongToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof LongToFloatFunction
+                    ? (LongToFloatFunction) after
+                    : value -> after.applyAsFloat(value);
+        }
+        if (Composition.isConstant(this)) {
+            return LongToFloatFunction.constant(after.applyAsFloat(applyAsLong(0L)));
+        }
         return value -> after.applyAsFloat(applyAsLong(value));
     }
 
@@ -435,10 +717,18 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToIntFunction2 andThenToInt(@Nonnull LongToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof LongToIntFunction2 ? (LongToIntFunction2) after : value -> after.applyAsInt(value);
+        }
+        if (Composition.isConstant(this)) {
+            return LongToIntFunction2.constant(after.applyAsInt(applyAsLong(0L)));
+        }
         return value -> after.applyAsInt(applyAsLong(value));
     }
 
@@ -454,10 +744,21 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongUnaryOperator2 andThenToLong(@Nonnull LongUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof LongUnaryOperator2 ? (LongUnaryOperator2) after : value -> after.applyAsLong(value);
+        }
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return LongUnaryOperator2.constant(after.applyAsLong(applyAsLong(0L)));
+        }
         return value -> after.applyAsLong(applyAsLong(value));
     }
 
@@ -473,10 +774,20 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToShortFunction andThenToShort(@Nonnull LongToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof LongToShortFunction
+                    ? (LongToShortFunction) after
+                    : value -> after.applyAsShort(value);
+        }
+        if (Composition.isConstant(this)) {
+            return LongToShortFunction.constant(after.applyAsShort(applyAsLong(0L)));
+        }
         return value -> after.applyAsShort(applyAsLong(value));
     }
 
@@ -525,13 +836,124 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Long, Long> cache = new ConcurrentHashMap<>();
-            return (LongUnaryOperator2 & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::applyAsLong);
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link LongUnaryOperator2}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code LongUnaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default LongUnaryOperator2 memoized(@Nonnull MemoStore<Long, Long> store) {
+        Objects.requireNonNull(store);
+        return (LongUnaryOperator2 & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsLong);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link LongUnaryOperator2}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code LongUnaryOperator2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default LongUnaryOperator2 adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link LongUnaryOperator2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code LongUnaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default LongUnaryOperator2 adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Long, Long> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (LongUnaryOperator2 & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::applyAsLong);
+        };
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link LongUnaryOperator2}, which caches its values in the given
+     * {@link LongMemoStore}. In contrast to {@link #memoized(MemoStore)}, keys and values are never boxed.
+     * <p>
+     * Using a {@link SharedLongMemoTable}, which lives in a memory-mapped file, all processes on the same host which
+     * open the same file share the cached values, so a value computed by one process is served from the cache in all
+     * other processes.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code LongUnaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see LongMemoStore
+     */
+    @Nonnull
+    default LongUnaryOperator2 memoizedLong(@Nonnull LongMemoStore store) {
+        Objects.requireNonNull(store);
+        return (LongUnaryOperator2 & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsLong);
+        };
+    }
+
+    /**
+     * Starts a warm-up of this {@link LongUnaryOperator2}, which computes the values of all keys of the given range in
+     * parallel using the given {@link ForkJoinPool}. If this operator is memoized, its cache is populated with these
+     * values, so that it serves them from the cache afterwards. The keys are never boxed.
+     *
+     * @param startInclusive The first key of the range
+     * @param endExclusive The key following the last key of the range
+     * @param pool The pool computing the values
+     * @return The started warm-up, which reports its progress and can be cancelled.
+     * @throws NullPointerException If given pool is {@code null}
+     * @throws IllegalArgumentException If given start is greater than given end
+     * @see #memoized()
+     * @see WarmUp
+     */
+    @Nonnull
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    default WarmUp warmUp(long startInclusive, long endExclusive, @Nonnull ForkJoinPool pool) {
+        return WarmUp.ofLongRange(startInclusive, endExclusive, this::applyAsLong, pool);
+    }
+
     /**
      * Returns a composed {@link UnaryOperator2} which represents this {@link LongUnaryOperator2}. Thereby the primitive
      * input argument for this operator is autoboxed. This method provides the possibility to use this {@code
@@ -541,6 +963,24 @@ public interface LongUnaryOperator2 extends Lambda, LongUnaryOperator {
      */
     @Nonnull
     default UnaryOperator2<Long> boxed() {
-        return this::applyAsLong;
+        /**
+         * A {@code UnaryOperator2} which applies this {@code LongUnaryOperator2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements UnaryOperator2<Long> {
+
+            /**
+             * Creates the boxed variant of this {@code LongUnaryOperator2}.
+             */
+            Boxed() {
+                super(LongUnaryOperator2.this);
+            }
+
+            @Override
+            public Long apply(Long t) {
+                return LongUnaryOperator2.this.applyAsLong(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,9 @@
 
 package org.lambda4j.operator.unary;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -26,6 +26,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.ShortConsumer;
 import org.lambda4j.function.ShortFunction;
 import org.lambda4j.function.conversion.BooleanToShortFunction;
@@ -42,6 +46,12 @@ import org.lambda4j.function.conversion.ShortToFloatFunction;
 import org.lambda4j.function.conversion.ShortToIntFunction;
 import org.lambda4j.function.conversion.ShortToLongFunction;
 import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
+import org.lambda4j.optional.OptionalShort;
 import org.lambda4j.predicate.ShortPredicate;
 
 /**
@@ -76,6 +86,44 @@ public interface ShortUnaryOperator extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ShortUnaryOperator} which represents the given boxed function, so that it can be used with the
+     * primitive methods of this library. If the given function has been returned by {@link #boxed()}, the {@code
+     * ShortUnaryOperator} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * operator calls the given function, boxing its primitive arguments and unboxing the results.
+     *
+     * @param function The boxed function to be represented
+     * @return A {@code ShortUnaryOperator} which represents the given boxed function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static ShortUnaryOperator unboxed(@Nonnull Function<? super Short, ? extends Short> function) {
+        Objects.requireNonNull(function);
+        Object original = Composition.getOriginal(function, Kind.BOXING);
+        if (original instanceof ShortUnaryOperator) {
+            return (ShortUnaryOperator) original;
+        }
+        return value -> function.apply(value);
+    }
+
+    /**
+     * Lifts a partial {@link ShortUnaryOperator}, which is only defined for the arguments accepted by the given
+     * predicate, into a total {@link ShortFunction} that returns an {@link OptionalShort} result. The result of the
+     * given operator is not boxed.
+     *
+     * @param isDefined The predicate accepting the arguments for which the given operator is defined
+     * @param partial An operator that is only defined for some values in its domain
+     * @return A partial {@code ShortUnaryOperator} lifted into a total {@code ShortFunction} that returns an {@code
+     * OptionalShort} result.
+     * @throws NullPointerException If one of given arguments is {@code null}
+     */
+    @Nonnull
+    static ShortFunction<OptionalShort> lift(@Nonnull ShortPredicate isDefined, @Nonnull ShortUnaryOperator partial) {
+        Objects.requireNonNull(isDefined);
+        Objects.requireNonNull(partial);
+        return value -> isDefined.test(value) ? OptionalShort.of(partial.applyAsShort(value)) : OptionalShort.empty();
+    }
+
     /**
      * Calls the given {@link ShortUnaryOperator} with the given argument and returns its result.
      *
@@ -96,18 +144,56 @@ public interface ShortUnaryOperator extends Lambda {
      */
     @Nonnull
     static ShortUnaryOperator identity() {
-        return value -> value;
+        /**
+         * A {@code ShortUnaryOperator} which always returns its input argument.
+         */
+        final class Identity extends AbstractCanonical implements ShortUnaryOperator {
+
+            /**
+             * Creates the identity {@code ShortUnaryOperator}.
+             */
+            Identity() {
+                super(Kind.IDENTITY);
+            }
+
+            @Override
+            public short applyAsShort(short value) {
+                return value;
+            }
+        }
+
+        return new Identity();
     }
 
     /**
-     * Creates a {@link ShortUnaryOperator} which always returns a given value.
+     * Creates a {@link ShortUnaryOperator} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code ShortUnaryOperator} which always returns a given value.
      */
     @Nonnull
     static ShortUnaryOperator constant(short ret) {
-        return value -> ret;
+        /**
+         * A {@code ShortUnaryOperator} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ShortUnaryOperator {
+
+            /**
+             * Creates a constant {@code ShortUnaryOperator}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public short applyAsShort(short value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -118,6 +204,100 @@ public interface ShortUnaryOperator extends Lambda {
      */
     short applyAsShort(short value);
 
+    /**
+     * Applies this operator to the elements at each index and stores the results at that index of the given result
+     * array, whose length determines the number of applied elements. The result array may be the argument array, so
+     * that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsShort(@Nonnull short[] values, @Nonnull short[] results) {
+        applyAsShort(values, results, 0, results.length);
+    }
+
+    /**
+     * Applies this operator to the elements at each index from the given start index (inclusive) to the given end index
+     * (exclusive), and stores the results at that index of the given result array. The result array may be the argument
+     * array, so that it is updated in place.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws IllegalArgumentException If given start index is greater than given end index
+     * @throws ArrayIndexOutOfBoundsException If given start index is negative or given end index is greater than the
+     * length of one of given arrays
+     * @implSpec The default implementation applies this operator to one index after another, in ascending order.
+     * Implementations for standard operations may process several indices at once.
+     */
+    default void applyAsShort(@Nonnull short[] values, @Nonnull short[] results, int fromIndex, int toIndex) {
+        KernelUtils.checkRange(fromIndex, toIndex, values.length);
+        KernelUtils.checkRange(fromIndex, toIndex, results.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            results[i] = applyAsShort(values[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at the first given number of indices of the given selection vector, and
+     * stores the results at these indices of the given result array, whose other elements are left unchanged.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param selection The selection vector holding the indices of the elements to be applied
+     * @param count The number of indices of the given selection vector
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given arrays
+     */
+    default void applyAsShort(@Nonnull short[] values, @Nonnull short[] results, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            results[index] = applyAsShort(values[index]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts, which are applied by the threads of the common
+     * {@link ForkJoinPool}.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     * @see Parallelism#common()
+     */
+    default void applyAsShortParallel(@Nonnull short[] values, @Nonnull short[] results) {
+        applyAsShortParallel(values, results, Parallelism.common());
+    }
+
+    /**
+     * Applies this operator to the elements at each index in parallel, and stores the results at that index of the
+     * given result array, whose length determines the number of applied elements. The results do not depend on the
+     * number of threads. The arrays are split into parts according to the given configuration, which are applied by the
+     * threads of its pool.
+     *
+     * @param values The array of arguments to the operator
+     * @param results The array in which the results of the operator are stored
+     * @param parallelism The configuration of the parallel application
+     * @throws NullPointerException If one of given arguments is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than given result array
+     */
+    default void applyAsShortParallel(@Nonnull short[] values, @Nonnull short[] results,
+            @Nonnull Parallelism parallelism) {
+        KernelUtils.checkRange(0, results.length, values.length);
+        parallelism.forRange(0, results.length,
+                (fromIndex, toIndex) -> applyAsShort(values, results, fromIndex, toIndex));
+    }
+
     /**
      * Returns the number of arguments for this operator.
      *
@@ -144,6 +324,9 @@ public interface ShortUnaryOperator extends Lambda {
     @Nonnull
     default <A> ToShortFunction<A> compose(@Nonnull ToShortFunction<? super A> before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return a -> before.applyAsShort(a);
+        }
         return a -> applyAsShort(before.applyAsShort(a));
     }
 
@@ -163,6 +346,11 @@ public interface ShortUnaryOperator extends Lambda {
     @Nonnull
     default BooleanToShortFunction composeFromBoolean(@Nonnull BooleanToShortFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof BooleanToShortFunction
+                    ? (BooleanToShortFunction) before
+                    : value -> before.applyAsShort(value);
+        }
         return value -> applyAsShort(before.applyAsShort(value));
     }
 
@@ -182,6 +370,11 @@ public interface ShortUnaryOperator extends Lambda {
     @Nonnull
     default ByteToShortFunction composeFromByte(@Nonnull ByteToShortFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ByteToShortFunction
+                    ? (ByteToShortFunction) before
+                    : value -> before.applyAsShort(value);
+        }
         return value -> applyAsShort(before.applyAsShort(value));
     }
 
@@ -201,6 +394,11 @@ public interface ShortUnaryOperator extends Lambda {
     @Nonnull
     default CharToShortFunction composeFromChar(@Nonnull CharToShortFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof CharToShortFunction
+                    ? (CharToShortFunction) before
+                    : value -> before.applyAsShort(value);
+        }
         return value -> applyAsShort(before.applyAsShort(value));
     }
 
@@ -220,6 +418,11 @@ public interface ShortUnaryOperator extends Lambda {
     @Nonnull
     default DoubleToShortFunction composeFromDouble(@Nonnull DoubleToShortFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof DoubleToShortFunction
+                    ? (DoubleToShortFunction) before
+                    : value -> before.applyAsShort(value);
+        }
         return value -> applyAsShort(before.applyAsShort(value));
     }
 
@@ -239,6 +442,11 @@ public interface ShortUnaryOperator extends Lambda {
     @Nonnull
     default FloatToShortFunction composeFromFloat(@Nonnull FloatToShortFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof FloatToShortFunction
+                    ? (FloatToShortFunction) before
+                    : value -> before.applyAsShort(value);
+        }
         return value -> applyAsShort(before.applyAsShort(value));
     }
 
@@ -258,6 +466,11 @@ public interface ShortUnaryOperator extends Lambda {
     @Nonnull
     default IntToShortFunction composeFromInt(@Nonnull IntToShortFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof IntToShortFunction
+                    ? (IntToShortFunction) before
+                    : value -> before.applyAsShort(value);
+        }
         return value -> applyAsShort(before.applyAsShort(value));
     }
 
@@ -277,6 +490,11 @@ public interface ShortUnaryOperator extends Lambda {
     @Nonnull
     default LongToShortFunction composeFromLong(@Nonnull LongToShortFunction before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof LongToShortFunction
+                    ? (LongToShortFunction) before
+                    : value -> before.applyAsShort(value);
+        }
         return value -> applyAsShort(before.applyAsShort(value));
     }
 
@@ -296,6 +514,14 @@ public interface ShortUnaryOperator extends Lambda {
     @Nonnull
     default ShortUnaryOperator composeFromShort(@Nonnull ShortUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(this)) {
+            return before instanceof ShortUnaryOperator
+                    ? (ShortUnaryOperator) before
+                    : value -> before.applyAsShort(value);
+        }
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> applyAsShort(before.applyAsShort(value));
     }
 
@@ -310,10 +536,18 @@ public interface ShortUnaryOperator extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ShortFunction<S> andThen(@Nonnull ShortFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return value -> after.apply(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ShortFunction.constant(after.apply(applyAsShort((short) 0)));
+        }
         return value -> after.apply(applyAsShort(value));
     }
 
@@ -329,10 +563,18 @@ public interface ShortUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortPredicate andThenToBoolean(@Nonnull ShortPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ShortPredicate ? (ShortPredicate) after : value -> after.test(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ShortPredicate.constant(after.test(applyAsShort((short) 0)));
+        }
         return value -> after.test(applyAsShort(value));
     }
 
@@ -348,10 +590,20 @@ public interface ShortUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortToByteFunction andThenToByte(@Nonnull ShortToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ShortToByteFunction
+                    ? (ShortToByteFunction) after
+                    : value -> after.applyAsByte(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ShortToByteFunction.constant(after.applyAsByte(applyAsShort((short) 0)));
+        }
         return value -> after.applyAsByte(applyAsShort(value));
     }
 
@@ -367,10 +619,20 @@ public interface ShortUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortToCharFunction andThenToChar(@Nonnull ShortToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ShortToCharFunction
+                    ? (ShortToCharFunction) after
+                    : value -> after.applyAsChar(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ShortToCharFunction.constant(after.applyAsChar(applyAsShort((short) 0)));
+        }
         return value -> after.applyAsChar(applyAsShort(value));
     }
 
@@ -386,10 +648,20 @@ public interface ShortUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortToDoubleFunction andThenToDouble(@Nonnull ShortToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ShortToDoubleFunction
+                    ? (ShortToDoubleFunction) after
+                    : value -> after.applyAsDouble(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ShortToDoubleFunction.constant(after.applyAsDouble(applyAsShort((short) 0)));
+        }
         return value -> after.applyAsDouble(applyAsShort(value));
     }
 
@@ -405,10 +677,20 @@ public interface ShortUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortToFloatFunction andThenToFloat(@Nonnull ShortToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ShortToFloatFunction
+                    ? (ShortToFloatFunction) after
+                    : value -> after.applyAsFloat(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ShortToFloatFunction.constant(after.applyAsFloat(applyAsShort((short) 0)));
+        }
         return value -> after.applyAsFloat(applyAsShort(value));
     }
 
@@ -424,10 +706,18 @@ public interface ShortUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortToIntFunction andThenToInt(@Nonnull ShortToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ShortToIntFunction ? (ShortToIntFunction) after : value -> after.applyAsInt(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ShortToIntFunction.constant(after.applyAsInt(applyAsShort((short) 0)));
+        }
         return value -> after.applyAsInt(applyAsShort(value));
     }
 
@@ -443,10 +733,20 @@ public interface ShortUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortToLongFunction andThenToLong(@Nonnull ShortToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ShortToLongFunction
+                    ? (ShortToLongFunction) after
+                    : value -> after.applyAsLong(value);
+        }
+        if (Composition.isConstant(this)) {
+            return ShortToLongFunction.constant(after.applyAsLong(applyAsShort((short) 0)));
+        }
         return value -> after.applyAsLong(applyAsShort(value));
     }
 
@@ -462,10 +762,23 @@ public interface ShortUnaryOperator extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this operator is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortUnaryOperator andThenToShort(@Nonnull ShortUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(this)) {
+            return after instanceof ShortUnaryOperator
+                    ? (ShortUnaryOperator) after
+                    : value -> after.applyAsShort(value);
+        }
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ShortUnaryOperator.constant(after.applyAsShort(applyAsShort((short) 0)));
+        }
         return value -> after.applyAsShort(applyAsShort(value));
     }
 
@@ -514,13 +827,82 @@ public interface ShortUnaryOperator extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Short, Short> cache = new ConcurrentHashMap<>();
-            return (ShortUnaryOperator & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::applyAsShort);
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ShortUnaryOperator}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param store The store which holds the values of the returned operator
+     * @return A memoized (caching) version of this {@code ShortUnaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized operator is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ShortUnaryOperator memoized(@Nonnull MemoStore<Short, Short> store) {
+        Objects.requireNonNull(store);
+        return (ShortUnaryOperator & Memoized) value -> {
+            return store.computeIfAbsent(value, this::applyAsShort);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ShortUnaryOperator}. In contrast to {@link
+     * #memoized()}, the returned operator samples the hit rate of its cache and the computation cost of this operator
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ShortUnaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ShortUnaryOperator adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ShortUnaryOperator}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned operator.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * operator.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned operator are cached
+     * @return An adaptively memoized (caching) version of this {@code ShortUnaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ShortUnaryOperator adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Short, Short> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ShortUnaryOperator & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::applyAsShort);
+        };
+    }
+
     /**
      * Returns a composed {@link UnaryOperator2} which represents this {@link ShortUnaryOperator}. Thereby the primitive
      * input argument for this operator is autoboxed. This method provides the possibility to use this {@code
@@ -530,6 +912,24 @@ public interface ShortUnaryOperator extends Lambda {
      */
     @Nonnull
     default UnaryOperator2<Short> boxed() {
-        return this::applyAsShort;
+        /**
+         * A {@code UnaryOperator2} which applies this {@code ShortUnaryOperator} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements UnaryOperator2<Short> {
+
+            /**
+             * Creates the boxed variant of this {@code ShortUnaryOperator}.
+             */
+            Boxed() {
+                super(ShortUnaryOperator.this);
+            }
+
+            @Override
+            public Short apply(Short t) {
+                return ShortUnaryOperator.this.applyAsShort(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.optional;
+
+import java.util.NoSuchElementException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.consumer.BooleanConsumer;
+
+/**
+ * A container object which may or may not contain a {@code boolean} value. If a value is present, {@link #isPresent()}
+ * returns {@code true} and {@link #getAsBoolean()} returns the value. This is the {@code boolean} specialization of
+ * {@link java.util.Optional}, which the JDK only provides for {@code int}, {@code long} and {@code double} values.
+ * <p>
+ * The empty instance is a singleton. Both present instances are cached, so {@link #of(boolean)} never allocates. Like
+ * the optional types of the JDK, this is a value-based class, so instances should not be compared by identity.
+ *
+ * @see java.util.Optional
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class OptionalBoolean {
+
+    /**
+     * The empty instance.
+     */
+    private static final OptionalBoolean EMPTY_INSTANCE = new OptionalBoolean();
+
+    /**
+     * The instance holding {@code true}.
+     */
+    private static final OptionalBoolean TRUE = new OptionalBoolean(true);
+
+    /**
+     * The instance holding {@code false}.
+     */
+    private static final OptionalBoolean FALSE = new OptionalBoolean(false);
+
+    /**
+     * Whether a value is present.
+     */
+    private final boolean present;
+
+    /**
+     * The value, which is only meaningful if it is present.
+     */
+    private final boolean value;
+
+    /**
+     * Creates the empty instance.
+     */
+    private OptionalBoolean() {
+        this.present = false;
+        this.value = false;
+    }
+
+    /**
+     * Creates an instance holding the given value.
+     *
+     * @param presentValue The value to be held
+     */
+    private OptionalBoolean(boolean presentValue) {
+        this.present = true;
+        this.value = presentValue;
+    }
+
+    /**
+     * Returns an empty {@link OptionalBoolean}, which holds no value.
+     *
+     * @return An empty {@code OptionalBoolean}.
+     */
+    @Nonnull
+    public static OptionalBoolean empty() {
+        return EMPTY_INSTANCE;
+    }
+
+    /**
+     * Returns an {@link OptionalBoolean} holding the given value.
+     *
+     * @param value The value to be held
+     * @return An {@code OptionalBoolean} holding the given value.
+     */
+    @Nonnull
+    public static OptionalBoolean of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * Returns the held value, if present.
+     *
+     * @return The value held by this {@code OptionalBoolean}.
+     * @throws NoSuchElementException If no value is present
+     */
+    @SuppressWarnings("PMD.BooleanGetMethodName")
+    public boolean getAsBoolean() {
+        if (!present) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    /**
+     * Returns whether a value is present.
+     *
+     * @return {@code true} if a value is present, otherwise {@code false}.
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * Returns whether no value is present.
+     *
+     * @return {@code true} if no value is present, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * Performs the given action with the held value, if present, otherwise does nothing.
+     *
+     * @param action The action to be performed, if a value is present
+     * @throws NullPointerException If a value is present and given action is {@code null}
+     */
+    public void ifPresent(@Nonnull BooleanConsumer action) {
+        if (present) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Performs the given action with the held value, if present, otherwise performs the given empty action.
+     *
+     * @param action The action to be performed, if a value is present
+     * @param emptyAction The action to be performed, if no value is present
+     * @throws NullPointerException If a value is present and given action is {@code null}, or no value is present and
+     * given empty action is {@code null}
+     */
+    public void ifPresentOrElse(@Nonnull BooleanConsumer action, @Nonnull Runnable emptyAction) {
+        if (present) {
+            action.accept(value);
+        } else {
+            emptyAction.run();
+        }
+    }
+
+    /**
+     * Returns the held value, if present, otherwise the given other value.
+     *
+     * @param other The value to be returned, if no value is present
+     * @return The held value, if present, otherwise the given other value.
+     */
+    public boolean orElse(boolean other) {
+        return present ? value : other;
+    }
+
+    /**
+     * Returns the held value, if present, otherwise the value supplied by the given supplier.
+     *
+     * @param supplier The supplier of the value to be returned, if no value is present
+     * @return The held value, if present, otherwise the value supplied by the given supplier.
+     * @throws NullPointerException If no value is present and given supplier is {@code null}
+     */
+    public boolean orElseGet(@Nonnull BooleanSupplier supplier) {
+        return present ? value : supplier.getAsBoolean();
+    }
+
+    /**
+     * Returns the held value, if present, otherwise throws the throwable supplied by the given supplier.
+     *
+     * @param <X> The type of the throwable to be thrown
+     * @param throwableSupplier The supplier of the throwable to be thrown, if no value is present
+     * @return The held value, if present.
+     * @throws X If no value is present
+     * @throws NullPointerException If no value is present and given supplier is {@code null}
+     */
+    public <X extends Throwable> boolean orElseThrow(@Nonnull Supplier<? extends X> throwableSupplier) throws X {
+        if (!present) {
+            throw throwableSupplier.get();
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof OptionalBoolean)) {
+            return false;
+        }
+        OptionalBoolean other = (OptionalBoolean) obj;
+        return present && other.present ? value == other.value : present == other.present;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? Boolean.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return present ? "OptionalBoolean[" + value + ']' : "OptionalBoolean.empty";
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.optional;
+
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.consumer.FloatConsumer;
+import org.lambda4j.supplier.FloatSupplier;
+
+/**
+ * A container object which may or may not contain a {@code float} value. If a value is present, {@link #isPresent()}
+ * returns {@code true} and {@link #getAsFloat()} returns the value. This is the {@code float} specialization of {@link
+ * java.util.Optional}, which the JDK only provides for {@code int}, {@code long} and {@code double} values.
+ * <p>
+ * The empty instance is a singleton. Like the optional types of the JDK, this is a value-based class, so instances
+ * should not be compared by identity.
+ *
+ * @see java.util.Optional
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class OptionalFloat {
+
+    /**
+     * The empty instance.
+     */
+    private static final OptionalFloat EMPTY_INSTANCE = new OptionalFloat();
+
+    /**
+     * Whether a value is present.
+     */
+    private final boolean present;
+
+    /**
+     * The value, which is only meaningful if it is present.
+     */
+    private final float value;
+
+    /**
+     * Creates the empty instance.
+     */
+    private OptionalFloat() {
+        this.present = false;
+        this.value = 0.0f;
+    }
+
+    /**
+     * Creates an instance holding the given value.
+     *
+     * @param presentValue The value to be held
+     */
+    private OptionalFloat(float presentValue) {
+        this.present = true;
+        this.value = presentValue;
+    }
+
+    /**
+     * Returns an empty {@link OptionalFloat}, which holds no value.
+     *
+     * @return An empty {@code OptionalFloat}.
+     */
+    @Nonnull
+    public static OptionalFloat empty() {
+        return EMPTY_INSTANCE;
+    }
+
+    /**
+     * Returns an {@link OptionalFloat} holding the given value.
+     *
+     * @param value The value to be held
+     * @return An {@code OptionalFloat} holding the given value.
+     */
+    @Nonnull
+    public static OptionalFloat of(float value) {
+        return new OptionalFloat(value);
+    }
+
+    /**
+     * Returns the held value, if present.
+     *
+     * @return The value held by this {@code OptionalFloat}.
+     * @throws NoSuchElementException If no value is present
+     */
+    public float getAsFloat() {
+        if (!present) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    /**
+     * Returns whether a value is present.
+     *
+     * @return {@code true} if a value is present, otherwise {@code false}.
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * Returns whether no value is present.
+     *
+     * @return {@code true} if no value is present, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * Performs the given action with the held value, if present, otherwise does nothing.
+     *
+     * @param action The action to be performed, if a value is present
+     * @throws NullPointerException If a value is present and given action is {@code null}
+     */
+    public void ifPresent(@Nonnull FloatConsumer action) {
+        if (present) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Performs the given action with the held value, if present, otherwise performs the given empty action.
+     *
+     * @param action The action to be performed, if a value is present
+     * @param emptyAction The action to be performed, if no value is present
+     * @throws NullPointerException If a value is present and given action is {@code null}, or no value is present and
+     * given empty action is {@code null}
+     */
+    public void ifPresentOrElse(@Nonnull FloatConsumer action, @Nonnull Runnable emptyAction) {
+        if (present) {
+            action.accept(value);
+        } else {
+            emptyAction.run();
+        }
+    }
+
+    /**
+     * Returns the held value, if present, otherwise the given other value.
+     *
+     * @param other The value to be returned, if no value is present
+     * @return The held value, if present, otherwise the given other value.
+     */
+    public float orElse(float other) {
+        return present ? value : other;
+    }
+
+    /**
+     * Returns the held value, if present, otherwise the value supplied by the given supplier.
+     *
+     * @param supplier The supplier of the value to be returned, if no value is present
+     * @return The held value, if present, otherwise the value supplied by the given supplier.
+     * @throws NullPointerException If no value is present and given supplier is {@code null}
+     */
+    public float orElseGet(@Nonnull FloatSupplier supplier) {
+        return present ? value : supplier.getAsFloat();
+    }
+
+    /**
+     * Returns the held value, if present, otherwise throws the throwable supplied by the given supplier.
+     *
+     * @param <X> The type of the throwable to be thrown
+     * @param throwableSupplier The supplier of the throwable to be thrown, if no value is present
+     * @return The held value, if present.
+     * @throws X If no value is present
+     * @throws NullPointerException If no value is present and given supplier is {@code null}
+     */
+    public <X extends Throwable> float orElseThrow(@Nonnull Supplier<? extends X> throwableSupplier) throws X {
+        if (!present) {
+            throw throwableSupplier.get();
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof OptionalFloat)) {
+            return false;
+        }
+        OptionalFloat other = (OptionalFloat) obj;
+        return present && other.present ? Float.compare(value, other.value) == 0 : present == other.present;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? Float.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return present ? "OptionalFloat[" + value + ']' : "OptionalFloat.empty";
+    }
+}
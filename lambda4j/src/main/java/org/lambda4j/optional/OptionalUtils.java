@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.optional;
+
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import javax.annotation.Nonnull;
+
+/**
+ * This class implements utils for the primitive optional types of the JDK. It returns cached {@link OptionalInt} and
+ * {@link OptionalLong} instances for small values, so that the lifted functions of this library do not allocate when
+ * they return them. As the optional types of the JDK are value-based classes, callers must not rely on the identity of
+ * the returned instances.
+ *
+ * @see OptionalInt
+ * @see OptionalLong
+ */
+public final class OptionalUtils {
+
+    /**
+     * The lowest cached value.
+     */
+    private static final int CACHE_LOW = -128;
+
+    /**
+     * The highest cached value.
+     */
+    private static final int CACHE_HIGH = 127;
+
+    /**
+     * The cached {@code OptionalInt} instances, whereas the instance holding a value is stored at the index {@code
+     * value - CACHE_LOW}.
+     */
+    private static final OptionalInt[] INT_CACHE = new OptionalInt[CACHE_HIGH - CACHE_LOW + 1];
+
+    /**
+     * The cached {@code OptionalLong} instances, whereas the instance holding a value is stored at the index {@code
+     * value - CACHE_LOW}.
+     */
+    private static final OptionalLong[] LONG_CACHE = new OptionalLong[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < INT_CACHE.length; i++) {
+            INT_CACHE[i] = OptionalInt.of(CACHE_LOW + i);
+            LONG_CACHE[i] = OptionalLong.of(CACHE_LOW + i);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private OptionalUtils() {
+
+    }
+
+    /**
+     * Returns an {@link OptionalInt} holding the given value, which is cached if the value is between {@code -128} and
+     * {@code 127}.
+     *
+     * @param value The value to be held
+     * @return An {@code OptionalInt} holding the given value.
+     * @see OptionalInt#of(int)
+     */
+    @Nonnull
+    public static OptionalInt ofInt(int value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return INT_CACHE[value - CACHE_LOW];
+        }
+        return OptionalInt.of(value);
+    }
+
+    /**
+     * Returns an {@link OptionalLong} holding the given value, which is cached if the value is between {@code -128}
+     * and {@code 127}.
+     *
+     * @param value The value to be held
+     * @return An {@code OptionalLong} holding the given value.
+     * @see OptionalLong#of(long)
+     */
+    @Nonnull
+    public static OptionalLong ofLong(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return LONG_CACHE[(int) value - CACHE_LOW];
+        }
+        return OptionalLong.of(value);
+    }
+}
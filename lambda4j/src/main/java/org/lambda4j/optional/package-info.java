@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Provides the primitive specializations of {@link java.util.Optional} which the JDK lacks, such as {@link
+ * org.lambda4j.optional.OptionalByte}, as well as cached instances of those it provides. They are returned by the
+ * lifted versions of primitive-returning functional interfaces, which avoids boxing partial results.
+ */
+package org.lambda4j.optional;
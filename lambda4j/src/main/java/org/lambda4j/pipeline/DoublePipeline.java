@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.pipeline;
+
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+import org.lambda4j.function.conversion.DoubleToIntFunction2;
+import org.lambda4j.function.conversion.DoubleToLongFunction2;
+import org.lambda4j.operator.unary.DoubleUnaryOperator2;
+
+/**
+ * A pipeline of stages whose last one passes {@code double} results, and which is compiled into a single function
+ * applying all stages one after another. Each stage is appended by a {@code map} method, which keeps the primitive type
+ * of the values passed between the stages, so that no value is boxed.
+ * <p>
+ * A chain of compositions like {@code andThen} nests a capturing lambda for each stage, whose calls share a few
+ * synthetic call sites with all other compositions. Once these sites have seen many different lambdas, the JIT compiler
+ * no longer inlines through them, so a long chain is as slow as its number of virtual calls. A pipeline instead records
+ * its stages, and {@link #compile()} collapses them into one function. On Java 17 and later, the stages are composed
+ * into a method handle, which a hidden class generated for the compiled function invokes as a constant, so that the
+ * whole pipeline is inlined like hand-written code. On older runtimes, or if no class can be generated, the compiled
+ * function interprets the stages.
+ * <p>
+ * Pipelines are immutable: appending a stage returns a new pipeline, so a common prefix can be shared by several
+ * pipelines. The type parameters carry the type of the compiled function from the first stage on, so that {@link
+ * #compile()} of a pipeline starting with {@code long} arguments and ending with {@code double} results returns a
+ * {@code LongToDoubleFunction2}, for example.
+ *
+ * @param <I> The type of the compiled function of the pipelines continuing this one which end with {@code int} results
+ * @param <L> The type of the compiled function of the pipelines continuing this one which end with {@code long} results
+ * @param <D> The type of the compiled function of the pipelines continuing this one which end with {@code double}
+ * results
+ * @see IntPipeline
+ * @see LongPipeline
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class DoublePipeline<I, L, D> {
+
+    /**
+     * The stages of this pipeline.
+     */
+    private final Stages stages;
+
+    /**
+     * Creates a pipeline of the given stages, whose last one passes {@code double} results.
+     *
+     * @param sequence The stages of the pipeline
+     */
+    DoublePipeline(@Nonnull Stages sequence) {
+        this.stages = sequence;
+    }
+
+    /**
+     * Returns an empty pipeline taking {@code double} arguments, to which stages can be appended. Compiled as it is,
+     * the pipeline returns its arguments unchanged.
+     *
+     * @return An empty pipeline taking {@code double} arguments.
+     */
+    @Nonnull
+    public static DoublePipeline<DoubleToIntFunction2, DoubleToLongFunction2, DoubleUnaryOperator2> start() {
+        return new DoublePipeline<>(new Stages(Lane.DOUBLE));
+    }
+
+    /**
+     * Returns the number of stages of this pipeline.
+     *
+     * @return The number of stages of this pipeline.
+     */
+    @Nonnegative
+    public int size() {
+        return stages.size();
+    }
+
+    /**
+     * Returns a pipeline applying the stages of this pipeline followed by the given function, which maps each {@code
+     * double} result to an {@code int} value. This pipeline is not modified.
+     *
+     * @param function The function of the appended stage
+     * @return A pipeline applying the stages of this pipeline followed by the given function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public IntPipeline<I, L, D> mapToInt(@Nonnull DoubleToIntFunction function) {
+        return new IntPipeline<>(stages.then(Lane.INT, function));
+    }
+
+    /**
+     * Returns a pipeline applying the stages of this pipeline followed by the given function, which maps each {@code
+     * double} result to a {@code long} value. This pipeline is not modified.
+     *
+     * @param function The function of the appended stage
+     * @return A pipeline applying the stages of this pipeline followed by the given function.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public LongPipeline<I, L, D> mapToLong(@Nonnull DoubleToLongFunction function) {
+        return new LongPipeline<>(stages.then(Lane.LONG, function));
+    }
+
+    /**
+     * Returns a pipeline applying the stages of this pipeline followed by the given operator, which maps each {@code
+     * double} result to a {@code double} value. This pipeline is not modified.
+     *
+     * @param operator The operator of the appended stage
+     * @return A pipeline applying the stages of this pipeline followed by the given operator.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public DoublePipeline<I, L, D> map(@Nonnull DoubleUnaryOperator operator) {
+        return new DoublePipeline<>(stages.then(Lane.DOUBLE, operator));
+    }
+
+    /**
+     * Compiles this pipeline into a single function, which applies all its stages one after another to its argument,
+     * and returns the {@code double} result of the last stage. Every call applies each stage exactly once, in the order
+     * the stages have been appended.
+     * <p>
+     * Compiling a pipeline is expensive compared to applying it, as a class may be generated for each call, which is
+     * unloaded when the returned function is no longer referenced. The returned function is meant to be kept and called
+     * many times.
+     *
+     * @return A function applying all stages of this pipeline one after another.
+     * @implNote The returned function is thread-safe, if all the functions of the stages are thread-safe.
+     */
+    @Nonnull
+    public D compile() {
+        @SuppressWarnings("unchecked")
+        D function = (D) stages.compile();
+        return function;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.pipeline;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * The primitive types on which the stages of a pipeline pass their values to each other.
+ */
+enum Lane {
+
+    /**
+     * The lane of {@code int} values.
+     */
+    INT(int.class),
+
+    /**
+     * The lane of {@code long} values.
+     */
+    LONG(long.class),
+
+    /**
+     * The lane of {@code double} values.
+     */
+    DOUBLE(double.class);
+
+    /**
+     * The primitive type of the values of this lane.
+     */
+    private final Class<?> type;
+
+    /**
+     * Creates a lane of values of the given primitive type.
+     *
+     * @param primitiveType The primitive type of the values of the lane
+     */
+    Lane(Class<?> primitiveType) {
+        this.type = primitiveType;
+    }
+
+    /**
+     * Returns the primitive type of the values of this lane.
+     *
+     * @return The primitive type of the values of this lane.
+     */
+    @Nonnull
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the kind of the stages which take their arguments from this lane and pass their results on the given
+     * lane. The nine kinds are numbered from {@code 0} to {@code 8}, row by row of argument lanes.
+     *
+     * @param output The lane of the results of the stages
+     * @return The kind of the stages from this lane to the given lane.
+     */
+    @Nonnegative
+    int kindTo(@Nonnull Lane output) {
+        return ordinal() * values().length + output.ordinal();
+    }
+}
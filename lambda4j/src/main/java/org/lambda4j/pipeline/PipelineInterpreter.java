@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.pipeline;
+
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.function.conversion.DoubleToIntFunction2;
+import org.lambda4j.function.conversion.DoubleToLongFunction2;
+import org.lambda4j.function.conversion.IntToDoubleFunction2;
+import org.lambda4j.function.conversion.IntToLongFunction2;
+import org.lambda4j.function.conversion.LongToDoubleFunction2;
+import org.lambda4j.function.conversion.LongToIntFunction2;
+import org.lambda4j.operator.unary.DoubleUnaryOperator2;
+import org.lambda4j.operator.unary.IntUnaryOperator2;
+import org.lambda4j.operator.unary.LongUnaryOperator2;
+
+/**
+ * Applies the stages of a pipeline one after another by interpreting them, which serves as the compiled function of a
+ * pipeline whenever no class can be generated for it.
+ * <p>
+ * The value passed between two stages is held in a single {@code long} register: {@code int} values are widened, and
+ * {@code double} values are stored by their raw bits. Every stage is dispatched by its kind, which is determined by the
+ * lanes of its arguments and results.
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+final class PipelineInterpreter {
+
+    /**
+     * The kind of stages from {@code int} to {@code int} values.
+     */
+    private static final int INT_TO_INT = 0;
+
+    /**
+     * The kind of stages from {@code int} to {@code long} values.
+     */
+    private static final int INT_TO_LONG = 1;
+
+    /**
+     * The kind of stages from {@code int} to {@code double} values.
+     */
+    private static final int INT_TO_DOUBLE = 2;
+
+    /**
+     * The kind of stages from {@code long} to {@code int} values.
+     */
+    private static final int LONG_TO_INT = 3;
+
+    /**
+     * The kind of stages from {@code long} to {@code long} values.
+     */
+    private static final int LONG_TO_LONG = 4;
+
+    /**
+     * The kind of stages from {@code long} to {@code double} values.
+     */
+    private static final int LONG_TO_DOUBLE = 5;
+
+    /**
+     * The kind of stages from {@code double} to {@code int} values.
+     */
+    private static final int DOUBLE_TO_INT = 6;
+
+    /**
+     * The kind of stages from {@code double} to {@code long} values.
+     */
+    private static final int DOUBLE_TO_LONG = 7;
+
+    /**
+     * The kind of the whole pipeline, which is determined by the lanes of its arguments and results.
+     */
+    private final int kind;
+
+    /**
+     * The kinds of the stages, in the order they are applied.
+     */
+    private final int[] kinds;
+
+    /**
+     * The functions of the stages, in the order they are applied.
+     */
+    private final Object[] functions;
+
+    /**
+     * Creates an interpreter of the given stages.
+     *
+     * @param lanes The lanes connecting the stages, starting with the lane of the arguments of the pipeline
+     * @param stageFunctions The functions of the stages, in the order they are applied
+     */
+    PipelineInterpreter(@Nonnull Lane[] lanes, @Nonnull Object[] stageFunctions) {
+        this.kind = lanes[0].kindTo(lanes[stageFunctions.length]);
+        this.kinds = new int[stageFunctions.length];
+        for (int i = 0; i < stageFunctions.length; i++) {
+            kinds[i] = lanes[i].kindTo(lanes[i + 1]);
+        }
+        this.functions = stageFunctions.clone();
+    }
+
+    /**
+     * Returns a function of the type of the pipeline, which applies the stages by this interpreter.
+     *
+     * @return A function applying the stages by this interpreter.
+     */
+    @Nonnull
+    Object toFunction() {
+        switch (kind) {
+            case INT_TO_INT:
+                return (IntUnaryOperator2) value -> (int) run(value);
+            case INT_TO_LONG:
+                return (IntToLongFunction2) this::run;
+            case INT_TO_DOUBLE:
+                return (IntToDoubleFunction2) value -> Double.longBitsToDouble(run(value));
+            case LONG_TO_INT:
+                return (LongToIntFunction2) value -> (int) run(value);
+            case LONG_TO_LONG:
+                return (LongUnaryOperator2) this::run;
+            case LONG_TO_DOUBLE:
+                return (LongToDoubleFunction2) value -> Double.longBitsToDouble(run(value));
+            case DOUBLE_TO_INT:
+                return (DoubleToIntFunction2) value -> (int) run(Double.doubleToRawLongBits(value));
+            case DOUBLE_TO_LONG:
+                return (DoubleToLongFunction2) value -> run(Double.doubleToRawLongBits(value));
+            default:
+                return (DoubleUnaryOperator2) value -> Double.longBitsToDouble(run(Double.doubleToRawLongBits(value)));
+        }
+    }
+
+    /**
+     * Applies the stages one after another to the given register, which holds the argument of the pipeline.
+     *
+     * @param register The argument of the pipeline, widened or stored by its raw bits
+     * @return The result of the pipeline, widened or stored by its raw bits.
+     */
+    private long run(long register) {
+        long value = register;
+        for (int i = 0; i < kinds.length; i++) {
+            value = apply(kinds[i], functions[i], value);
+        }
+        return value;
+    }
+
+    /**
+     * Applies the given function of a stage of the given kind to the given register.
+     *
+     * @param stageKind The kind of the stage
+     * @param function The function of the stage
+     * @param register The argument of the stage, widened or stored by its raw bits
+     * @return The result of the stage, widened or stored by its raw bits.
+     */
+    private static long apply(int stageKind, Object function, long register) {
+        switch (stageKind) {
+            case INT_TO_INT:
+                return ((IntUnaryOperator) function).applyAsInt((int) register);
+            case INT_TO_LONG:
+                return ((IntToLongFunction) function).applyAsLong((int) register);
+            case INT_TO_DOUBLE:
+                return Double.doubleToRawLongBits(((IntToDoubleFunction) function).applyAsDouble((int) register));
+            case LONG_TO_INT:
+                return ((LongToIntFunction) function).applyAsInt(register);
+            case LONG_TO_LONG:
+                return ((LongUnaryOperator) function).applyAsLong(register);
+            case LONG_TO_DOUBLE:
+                return Double.doubleToRawLongBits(((LongToDoubleFunction) function).applyAsDouble(register));
+            case DOUBLE_TO_INT:
+                return ((DoubleToIntFunction) function).applyAsInt(Double.longBitsToDouble(register));
+            case DOUBLE_TO_LONG:
+                return ((DoubleToLongFunction) function).applyAsLong(Double.longBitsToDouble(register));
+            default:
+                return Double.doubleToRawLongBits(
+                        ((DoubleUnaryOperator) function).applyAsDouble(Double.longBitsToDouble(register)));
+        }
+    }
+}
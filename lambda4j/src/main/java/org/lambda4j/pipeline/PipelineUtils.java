@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.pipeline;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Compiles the stages of pipelines into functions, which is implemented in plain Java 8 by interpreting the stages.
+ * <p>
+ * The multi-release JAR of this library replaces this class on Java 17 and later with a version that composes the
+ * stages into a method handle, and defines a hidden class for each compiled pipeline which invokes it as a constant.
+ */
+final class PipelineUtils {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PipelineUtils() {
+    }
+
+    /**
+     * Compiles the given stages into a single function applying them one after another. The type of the returned
+     * function is determined by the first and the last of the given lanes.
+     *
+     * @param lanes The lanes connecting the stages, starting with the lane of the arguments of the pipeline
+     * @param functions The functions of the stages, in the order they are applied
+     * @return A function applying the given stages one after another.
+     */
+    @Nonnull
+    static Object compile(@Nonnull Lane[] lanes, @Nonnull Object[] functions) {
+        return new PipelineInterpreter(lanes, functions).toFunction();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.pipeline;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * The immutable sequence of stages of a pipeline, which records the function of each stage along with the lanes it
+ * connects. The pipeline classes only add the types of the functions and lanes to it.
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+final class Stages {
+
+    /**
+     * The lanes connecting the stages, where the first one is the lane of the arguments of the pipeline, and the one
+     * after a stage is the lane of its results.
+     */
+    private final Lane[] lanes;
+
+    /**
+     * The functions of the stages, in the order they are applied.
+     */
+    private final Object[] functions;
+
+    /**
+     * Creates an empty sequence of stages, which takes its arguments from the given lane.
+     *
+     * @param source The lane of the arguments of the pipeline
+     */
+    Stages(@Nonnull Lane source) {
+        this(new Lane[] {source}, new Object[0]);
+    }
+
+    /**
+     * Creates a sequence of the given stages.
+     *
+     * @param connectingLanes The lanes connecting the stages
+     * @param stageFunctions The functions of the stages
+     */
+    private Stages(Lane[] connectingLanes, Object[] stageFunctions) {
+        this.lanes = connectingLanes;
+        this.functions = stageFunctions;
+    }
+
+    /**
+     * Returns the number of stages of this sequence.
+     *
+     * @return The number of stages of this sequence.
+     */
+    @Nonnegative
+    int size() {
+        return functions.length;
+    }
+
+    /**
+     * Returns a sequence of the stages of this sequence followed by a stage applying the given function, which passes
+     * its results on the given lane.
+     *
+     * @param output The lane of the results of the given function
+     * @param function The function of the appended stage
+     * @return A sequence of the stages of this sequence followed by the given one.
+     * @throws NullPointerException If given function is {@code null}
+     */
+    @Nonnull
+    Stages then(@Nonnull Lane output, @Nonnull Object function) {
+        Objects.requireNonNull(function);
+        Lane[] newLanes = Arrays.copyOf(lanes, lanes.length + 1);
+        newLanes[lanes.length] = output;
+        Object[] newFunctions = Arrays.copyOf(functions, functions.length + 1);
+        newFunctions[functions.length] = function;
+        return new Stages(newLanes, newFunctions);
+    }
+
+    /**
+     * Compiles the stages of this sequence into a single function, whose type is determined by the lanes of the first
+     * arguments and the last results.
+     *
+     * @return A function applying the stages of this sequence one after another.
+     */
+    @Nonnull
+    Object compile() {
+        return PipelineUtils.compile(lanes, functions);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Provides pipelines of primitive stages, which are compiled into a single function instead of nesting a lambda for
+ * each composed stage. On Java 17 and later, each compiled pipeline is a generated hidden class invoking the composed
+ * stages as a constant method handle, which the JIT compiler inlines like hand-written code.
+ */
+package org.lambda4j.pipeline;
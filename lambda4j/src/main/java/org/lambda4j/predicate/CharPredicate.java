@@ -16,9 +16,8 @@
 
 package org.lambda4j.predicate;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -26,6 +25,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.CharConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -50,6 +53,11 @@ import org.lambda4j.function.conversion.IntToCharFunction;
 import org.lambda4j.function.conversion.LongToCharFunction;
 import org.lambda4j.function.conversion.ShortToCharFunction;
 import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.CharUnaryOperator;
 
@@ -84,6 +92,26 @@ public interface CharPredicate extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link CharPredicate} which represents the given boxed predicate, so that it can be used with the
+     * primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * CharPredicate} it represents is returned, so that no values are boxed anymore. Otherwise, the returned predicate
+     * calls the given predicate, boxing its primitive arguments.
+     *
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code CharPredicate} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static CharPredicate unboxed(@Nonnull Predicate<? super Character> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof CharPredicate) {
+            return (CharPredicate) original;
+        }
+        return value -> predicate.test(value);
+    }
+
     /**
      * Calls the given {@link CharPredicate} with the given argument and returns its result.
      *
@@ -98,14 +126,33 @@ public interface CharPredicate extends Lambda {
     }
 
     /**
-     * Creates a {@link CharPredicate} which always returns a given value.
+     * Creates a {@link CharPredicate} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param ret The return value for the constant
      * @return A {@code CharPredicate} which always returns a given value.
      */
     @Nonnull
     static CharPredicate constant(boolean ret) {
-        return value -> ret;
+        /**
+         * A {@code CharPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements CharPredicate {
+
+            /**
+             * Creates a constant {@code CharPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(char value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -116,7 +163,25 @@ public interface CharPredicate extends Lambda {
      */
     @Nonnull
     static CharPredicate alwaysTrue() {
-        return value -> true;
+        /**
+         * A {@code CharPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements CharPredicate {
+
+            /**
+             * Creates a constant {@code CharPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(char value) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -127,7 +192,25 @@ public interface CharPredicate extends Lambda {
      */
     @Nonnull
     static CharPredicate alwaysFalse() {
-        return value -> false;
+        /**
+         * A {@code CharPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements CharPredicate {
+
+            /**
+             * Creates a constant {@code CharPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(char value) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -151,6 +234,71 @@ public interface CharPredicate extends Lambda {
      */
     boolean test(char value);
 
+    /**
+     * Tests the elements at each index of the given array, and stores the indices of the elements matching this
+     * predicate in ascending order in the given selection vector.
+     *
+     * @param values The array of arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given selection vector is shorter than given argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull char[] values, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            selection[count] = i;
+            count += test(values[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in the given array, and
+     * keeps only the indices of the elements matching this predicate in the selection vector, in their previous order.
+     * This refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values The array of arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull char[] values, @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of the given array, and stores the results in the given bitmap, whose bit of
+     * index {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}.
+     *
+     * @param values The array of arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given bitmap holds fewer bits than given argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull char[] values, @Nonnull long[] bitmap) {
+        BitmapUtils.clear(bitmap, values.length);
+        for (int i = 0; i < values.length; i++) {
+            bitmap[i >>> 6] |= (test(values[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Returns the number of arguments for this predicate.
      *
@@ -234,6 +382,9 @@ public interface CharPredicate extends Lambda {
     @Nonnull
     default CharPredicate composeFromChar(@Nonnull CharUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> test(before.applyAsChar(value));
     }
 
@@ -343,10 +494,15 @@ public interface CharPredicate extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> CharFunction<S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharFunction.constant(after.apply(test('\0')));
+        }
         return value -> after.apply(test(value));
     }
 
@@ -362,10 +518,18 @@ public interface CharPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharPredicate andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return CharPredicate.constant(after.applyAsBoolean(test('\0')));
+        }
         return value -> after.applyAsBoolean(test(value));
     }
 
@@ -381,10 +545,15 @@ public interface CharPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToByteFunction andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharToByteFunction.constant(after.applyAsByte(test('\0')));
+        }
         return value -> after.applyAsByte(test(value));
     }
 
@@ -400,10 +569,15 @@ public interface CharPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharUnaryOperator andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharUnaryOperator.constant(after.applyAsChar(test('\0')));
+        }
         return value -> after.applyAsChar(test(value));
     }
 
@@ -419,10 +593,15 @@ public interface CharPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToDoubleFunction andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharToDoubleFunction.constant(after.applyAsDouble(test('\0')));
+        }
         return value -> after.applyAsDouble(test(value));
     }
 
@@ -438,10 +617,15 @@ public interface CharPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToFloatFunction andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharToFloatFunction.constant(after.applyAsFloat(test('\0')));
+        }
         return value -> after.applyAsFloat(test(value));
     }
 
@@ -457,10 +641,15 @@ public interface CharPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToIntFunction andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharToIntFunction.constant(after.applyAsInt(test('\0')));
+        }
         return value -> after.applyAsInt(test(value));
     }
 
@@ -476,10 +665,15 @@ public interface CharPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToLongFunction andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharToLongFunction.constant(after.applyAsLong(test('\0')));
+        }
         return value -> after.applyAsLong(test(value));
     }
 
@@ -495,10 +689,15 @@ public interface CharPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharToShortFunction andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharToShortFunction.constant(after.applyAsShort(test('\0')));
+        }
         return value -> after.applyAsShort(test(value));
     }
 
@@ -525,7 +724,32 @@ public interface CharPredicate extends Lambda {
      */
     @Nonnull
     default CharPredicate negate() {
-        return value -> !test(value);
+        if (Composition.isConstant(this)) {
+            return CharPredicate.constant(!test('\0'));
+        }
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof CharPredicate) {
+            return (CharPredicate) original;
+        }
+        /**
+         * A {@code CharPredicate} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements CharPredicate {
+
+            /**
+             * Creates the negation of this {@code CharPredicate}.
+             */
+            Negation() {
+                super(Kind.NEGATION, CharPredicate.this);
+            }
+
+            @Override
+            public boolean test(char value) {
+                return !CharPredicate.this.test(value);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -546,6 +770,12 @@ public interface CharPredicate extends Lambda {
     @Nonnull
     default CharPredicate and(@Nonnull CharPredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return other instanceof CharPredicate ? (CharPredicate) other : value -> other.test(value);
+        }
         return value -> test(value) && other.test(value);
     }
 
@@ -567,6 +797,12 @@ public interface CharPredicate extends Lambda {
     @Nonnull
     default CharPredicate or(@Nonnull CharPredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return other instanceof CharPredicate ? (CharPredicate) other : value -> other.test(value);
+        }
         return value -> test(value) || other.test(value);
     }
 
@@ -617,13 +853,82 @@ public interface CharPredicate extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Character, Boolean> cache = new ConcurrentHashMap<>();
-            return (CharPredicate & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::test);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link CharPredicate}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code CharPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default CharPredicate memoized(@Nonnull MemoStore<Character, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (CharPredicate & Memoized) value -> {
+            return store.computeIfAbsent(value, this::test);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link CharPredicate}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code CharPredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default CharPredicate adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link CharPredicate}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code CharPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default CharPredicate adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Character, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (CharPredicate & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::test);
+        };
+    }
+
     /**
      * Returns a composed {@link Predicate2} which represents this {@link CharPredicate}. Thereby the primitive input
      * argument for this predicate is autoboxed. This method provides the possibility to use this {@code CharPredicate}
@@ -633,6 +938,24 @@ public interface CharPredicate extends Lambda {
      */
     @Nonnull
     default Predicate2<Character> boxed() {
-        return this::test;
+        /**
+         * A {@code Predicate2} which applies this {@code CharPredicate} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Predicate2<Character> {
+
+            /**
+             * Creates the boxed variant of this {@code CharPredicate}.
+             */
+            Boxed() {
+                super(CharPredicate.this);
+            }
+
+            @Override
+            public boolean test(Character t) {
+                return CharPredicate.this.test(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
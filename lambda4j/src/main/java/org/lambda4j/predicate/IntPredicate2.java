@@ -16,13 +16,12 @@
 
 package org.lambda4j.predicate;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.IntPredicate;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongToIntFunction;
+import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 
 import javax.annotation.CheckForNull;
@@ -31,6 +30,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.IntConsumer2;
 import org.lambda4j.function.BooleanFunction;
@@ -52,6 +55,11 @@ import org.lambda4j.function.conversion.IntToFloatFunction;
 import org.lambda4j.function.conversion.IntToLongFunction2;
 import org.lambda4j.function.conversion.IntToShortFunction;
 import org.lambda4j.function.conversion.ShortToIntFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.IntUnaryOperator2;
 
@@ -87,6 +95,26 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
         return expression;
     }
 
+    /**
+     * Returns a {@link IntPredicate2} which represents the given boxed predicate, so that it can be used with the
+     * primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * IntPredicate2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given predicate, boxing its primitive arguments.
+     *
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code IntPredicate2} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static IntPredicate2 unboxed(@Nonnull Predicate<? super Integer> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof IntPredicate2) {
+            return (IntPredicate2) original;
+        }
+        return value -> predicate.test(value);
+    }
+
     /**
      * Calls the given {@link IntPredicate} with the given argument and returns its result.
      *
@@ -101,14 +129,33 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
     }
 
     /**
-     * Creates a {@link IntPredicate2} which always returns a given value.
+     * Creates a {@link IntPredicate2} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param ret The return value for the constant
      * @return A {@code IntPredicate2} which always returns a given value.
      */
     @Nonnull
     static IntPredicate2 constant(boolean ret) {
-        return value -> ret;
+        /**
+         * A {@code IntPredicate2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements IntPredicate2 {
+
+            /**
+             * Creates a constant {@code IntPredicate2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(int value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -119,7 +166,25 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      */
     @Nonnull
     static IntPredicate2 alwaysTrue() {
-        return value -> true;
+        /**
+         * A {@code IntPredicate2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements IntPredicate2 {
+
+            /**
+             * Creates a constant {@code IntPredicate2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(int value) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -130,7 +195,25 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      */
     @Nonnull
     static IntPredicate2 alwaysFalse() {
-        return value -> false;
+        /**
+         * A {@code IntPredicate2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements IntPredicate2 {
+
+            /**
+             * Creates a constant {@code IntPredicate2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(int value) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -143,7 +226,25 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      */
     @Nonnull
     static IntPredicate2 isEqual(int target) {
-        return value -> value == target;
+        /**
+         * A {@code IntPredicate2} which tests if its input argument is equal to a given target.
+         */
+        final class Equality extends AbstractCanonical implements IntPredicate2 {
+
+            /**
+             * Creates a {@code IntPredicate2} which tests for equality with the given target.
+             */
+            Equality() {
+                super(Kind.EQUALITY, target);
+            }
+
+            @Override
+            public boolean test(int value) {
+                return value == target;
+            }
+        }
+
+        return new Equality();
     }
 
     /**
@@ -155,6 +256,71 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
     @Override
     boolean test(int value);
 
+    /**
+     * Tests the elements at each index of the given array, and stores the indices of the elements matching this
+     * predicate in ascending order in the given selection vector.
+     *
+     * @param values The array of arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given selection vector is shorter than given argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull int[] values, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            selection[count] = i;
+            count += test(values[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in the given array, and
+     * keeps only the indices of the elements matching this predicate in the selection vector, in their previous order.
+     * This refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values The array of arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull int[] values, @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of the given array, and stores the results in the given bitmap, whose bit of
+     * index {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}.
+     *
+     * @param values The array of arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given bitmap holds fewer bits than given argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull int[] values, @Nonnull long[] bitmap) {
+        BitmapUtils.clear(bitmap, values.length);
+        for (int i = 0; i < values.length; i++) {
+            bitmap[i >>> 6] |= (test(values[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Returns the number of arguments for this predicate.
      *
@@ -181,7 +347,25 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
     @Nonnull
     default <A> Predicate2<A> compose(@Nonnull ToIntFunction<? super A> before) {
         Objects.requireNonNull(before);
-        return a -> test(before.applyAsInt(a));
+        /**
+         * A {@code Predicate2} which applies this one to the result of a given function.
+         */
+        final class Composed extends AbstractCanonical implements Predicate2<A> {
+
+            /**
+             * Creates the composition of this {@code IntPredicate2} with the given function.
+             */
+            Composed() {
+                super(Kind.COMPOSITION, IntPredicate2.this, before);
+            }
+
+            @Override
+            public boolean test(A a) {
+                return IntPredicate2.this.test(before.applyAsInt(a));
+            }
+        }
+
+        return new Composed();
     }
 
     /**
@@ -295,6 +479,9 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
     @Nonnull
     default IntPredicate2 composeFromInt(@Nonnull IntUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> test(before.applyAsInt(value));
     }
 
@@ -347,10 +534,15 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> IntFunction2<S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntFunction2.constant(after.apply(test(0)));
+        }
         return value -> after.apply(test(value));
     }
 
@@ -366,10 +558,18 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntPredicate2 andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return IntPredicate2.constant(after.applyAsBoolean(test(0)));
+        }
         return value -> after.applyAsBoolean(test(value));
     }
 
@@ -385,10 +585,15 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToByteFunction andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntToByteFunction.constant(after.applyAsByte(test(0)));
+        }
         return value -> after.applyAsByte(test(value));
     }
 
@@ -404,10 +609,15 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToCharFunction andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntToCharFunction.constant(after.applyAsChar(test(0)));
+        }
         return value -> after.applyAsChar(test(value));
     }
 
@@ -423,10 +633,15 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToDoubleFunction2 andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntToDoubleFunction2.constant(after.applyAsDouble(test(0)));
+        }
         return value -> after.applyAsDouble(test(value));
     }
 
@@ -442,10 +657,15 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToFloatFunction andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntToFloatFunction.constant(after.applyAsFloat(test(0)));
+        }
         return value -> after.applyAsFloat(test(value));
     }
 
@@ -461,10 +681,15 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntUnaryOperator2 andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntUnaryOperator2.constant(after.applyAsInt(test(0)));
+        }
         return value -> after.applyAsInt(test(value));
     }
 
@@ -480,10 +705,15 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToLongFunction2 andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntToLongFunction2.constant(after.applyAsLong(test(0)));
+        }
         return value -> after.applyAsLong(test(value));
     }
 
@@ -499,10 +729,15 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntToShortFunction andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntToShortFunction.constant(after.applyAsShort(test(0)));
+        }
         return value -> after.applyAsShort(test(value));
     }
 
@@ -530,7 +765,32 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
     @Override
     @Nonnull
     default IntPredicate2 negate() {
-        return value -> !test(value);
+        if (Composition.isConstant(this)) {
+            return IntPredicate2.constant(!test(0));
+        }
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof IntPredicate2) {
+            return (IntPredicate2) original;
+        }
+        /**
+         * A {@code IntPredicate2} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements IntPredicate2 {
+
+            /**
+             * Creates the negation of this {@code IntPredicate2}.
+             */
+            Negation() {
+                super(Kind.NEGATION, IntPredicate2.this);
+            }
+
+            @Override
+            public boolean test(int value) {
+                return !IntPredicate2.this.test(value);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -552,6 +812,12 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
     @Nonnull
     default IntPredicate2 and(@Nonnull IntPredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return other instanceof IntPredicate2 ? (IntPredicate2) other : value -> other.test(value);
+        }
         return value -> test(value) && other.test(value);
     }
 
@@ -574,6 +840,12 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
     @Nonnull
     default IntPredicate2 or(@Nonnull IntPredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return other instanceof IntPredicate2 ? (IntPredicate2) other : value -> other.test(value);
+        }
         return value -> test(value) || other.test(value);
     }
 
@@ -624,13 +896,82 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Integer, Boolean> cache = new ConcurrentHashMap<>();
-            return (IntPredicate2 & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::test);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link IntPredicate2}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code IntPredicate2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default IntPredicate2 memoized(@Nonnull MemoStore<Integer, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (IntPredicate2 & Memoized) value -> {
+            return store.computeIfAbsent(value, this::test);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link IntPredicate2}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code IntPredicate2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default IntPredicate2 adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link IntPredicate2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code IntPredicate2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default IntPredicate2 adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Integer, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (IntPredicate2 & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::test);
+        };
+    }
+
     /**
      * Returns a composed {@link Predicate2} which represents this {@link IntPredicate2}. Thereby the primitive input
      * argument for this predicate is autoboxed. This method provides the possibility to use this {@code IntPredicate2}
@@ -640,6 +981,24 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      */
     @Nonnull
     default Predicate2<Integer> boxed() {
-        return this::test;
+        /**
+         * A {@code Predicate2} which applies this {@code IntPredicate2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Predicate2<Integer> {
+
+            /**
+             * Creates the boxed variant of this {@code IntPredicate2}.
+             */
+            Boxed() {
+                super(IntPredicate2.this);
+            }
+
+            @Override
+            public boolean test(Integer t) {
+                return IntPredicate2.this.test(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
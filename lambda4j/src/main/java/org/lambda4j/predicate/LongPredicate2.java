@@ -16,13 +16,12 @@
 
 package org.lambda4j.predicate;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.DoubleToLongFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.LongPredicate;
 import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
 import java.util.function.ToLongFunction;
 
 import javax.annotation.CheckForNull;
@@ -31,6 +30,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.LongConsumer2;
 import org.lambda4j.function.BooleanFunction;
@@ -52,6 +55,11 @@ import org.lambda4j.function.conversion.LongToFloatFunction;
 import org.lambda4j.function.conversion.LongToIntFunction2;
 import org.lambda4j.function.conversion.LongToShortFunction;
 import org.lambda4j.function.conversion.ShortToLongFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.LongUnaryOperator2;
 
@@ -87,6 +95,26 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
         return expression;
     }
 
+    /**
+     * Returns a {@link LongPredicate2} which represents the given boxed predicate, so that it can be used with the
+     * primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * LongPredicate2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given predicate, boxing its primitive arguments.
+     *
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code LongPredicate2} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static LongPredicate2 unboxed(@Nonnull Predicate<? super Long> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof LongPredicate2) {
+            return (LongPredicate2) original;
+        }
+        return value -> predicate.test(value);
+    }
+
     /**
      * Calls the given {@link LongPredicate} with the given argument and returns its result.
      *
@@ -101,14 +129,33 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
     }
 
     /**
-     * Creates a {@link LongPredicate2} which always returns a given value.
+     * Creates a {@link LongPredicate2} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param ret The return value for the constant
      * @return A {@code LongPredicate2} which always returns a given value.
      */
     @Nonnull
     static LongPredicate2 constant(boolean ret) {
-        return value -> ret;
+        /**
+         * A {@code LongPredicate2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements LongPredicate2 {
+
+            /**
+             * Creates a constant {@code LongPredicate2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(long value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -119,7 +166,25 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      */
     @Nonnull
     static LongPredicate2 alwaysTrue() {
-        return value -> true;
+        /**
+         * A {@code LongPredicate2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements LongPredicate2 {
+
+            /**
+             * Creates a constant {@code LongPredicate2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(long value) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -130,7 +195,25 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      */
     @Nonnull
     static LongPredicate2 alwaysFalse() {
-        return value -> false;
+        /**
+         * A {@code LongPredicate2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements LongPredicate2 {
+
+            /**
+             * Creates a constant {@code LongPredicate2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(long value) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -143,7 +226,25 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      */
     @Nonnull
     static LongPredicate2 isEqual(long target) {
-        return value -> value == target;
+        /**
+         * A {@code LongPredicate2} which tests if its input argument is equal to a given target.
+         */
+        final class Equality extends AbstractCanonical implements LongPredicate2 {
+
+            /**
+             * Creates a {@code LongPredicate2} which tests for equality with the given target.
+             */
+            Equality() {
+                super(Kind.EQUALITY, target);
+            }
+
+            @Override
+            public boolean test(long value) {
+                return value == target;
+            }
+        }
+
+        return new Equality();
     }
 
     /**
@@ -155,6 +256,71 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
     @Override
     boolean test(long value);
 
+    /**
+     * Tests the elements at each index of the given array, and stores the indices of the elements matching this
+     * predicate in ascending order in the given selection vector.
+     *
+     * @param values The array of arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given selection vector is shorter than given argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull long[] values, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            selection[count] = i;
+            count += test(values[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in the given array, and
+     * keeps only the indices of the elements matching this predicate in the selection vector, in their previous order.
+     * This refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values The array of arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull long[] values, @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of the given array, and stores the results in the given bitmap, whose bit of
+     * index {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}.
+     *
+     * @param values The array of arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given bitmap holds fewer bits than given argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull long[] values, @Nonnull long[] bitmap) {
+        BitmapUtils.clear(bitmap, values.length);
+        for (int i = 0; i < values.length; i++) {
+            bitmap[i >>> 6] |= (test(values[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Returns the number of arguments for this predicate.
      *
@@ -181,7 +347,25 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
     @Nonnull
     default <A> Predicate2<A> compose(@Nonnull ToLongFunction<? super A> before) {
         Objects.requireNonNull(before);
-        return a -> test(before.applyAsLong(a));
+        /**
+         * A {@code Predicate2} which applies this one to the result of a given function.
+         */
+        final class Composed extends AbstractCanonical implements Predicate2<A> {
+
+            /**
+             * Creates the composition of this {@code LongPredicate2} with the given function.
+             */
+            Composed() {
+                super(Kind.COMPOSITION, LongPredicate2.this, before);
+            }
+
+            @Override
+            public boolean test(A a) {
+                return LongPredicate2.this.test(before.applyAsLong(a));
+            }
+        }
+
+        return new Composed();
     }
 
     /**
@@ -314,6 +498,9 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
     @Nonnull
     default LongPredicate2 composeFromLong(@Nonnull LongUnaryOperator before) {
         Objects.requireNonNull(before);
+        if (Composition.isIdentity(before)) {
+            return this;
+        }
         return value -> test(before.applyAsLong(value));
     }
 
@@ -347,10 +534,15 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> LongFunction2<S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongFunction2.constant(after.apply(test(0L)));
+        }
         return value -> after.apply(test(value));
     }
 
@@ -366,10 +558,18 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongPredicate2 andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return LongPredicate2.constant(after.applyAsBoolean(test(0L)));
+        }
         return value -> after.applyAsBoolean(test(value));
     }
 
@@ -385,10 +585,15 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToByteFunction andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongToByteFunction.constant(after.applyAsByte(test(0L)));
+        }
         return value -> after.applyAsByte(test(value));
     }
 
@@ -404,10 +609,15 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToCharFunction andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongToCharFunction.constant(after.applyAsChar(test(0L)));
+        }
         return value -> after.applyAsChar(test(value));
     }
 
@@ -423,10 +633,15 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToDoubleFunction2 andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongToDoubleFunction2.constant(after.applyAsDouble(test(0L)));
+        }
         return value -> after.applyAsDouble(test(value));
     }
 
@@ -442,10 +657,15 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToFloatFunction andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongToFloatFunction.constant(after.applyAsFloat(test(0L)));
+        }
         return value -> after.applyAsFloat(test(value));
     }
 
@@ -461,10 +681,15 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToIntFunction2 andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongToIntFunction2.constant(after.applyAsInt(test(0L)));
+        }
         return value -> after.applyAsInt(test(value));
     }
 
@@ -480,10 +705,15 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongUnaryOperator2 andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongUnaryOperator2.constant(after.applyAsLong(test(0L)));
+        }
         return value -> after.applyAsLong(test(value));
     }
 
@@ -499,10 +729,15 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongToShortFunction andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongToShortFunction.constant(after.applyAsShort(test(0L)));
+        }
         return value -> after.applyAsShort(test(value));
     }
 
@@ -530,7 +765,32 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
     @Override
     @Nonnull
     default LongPredicate2 negate() {
-        return value -> !test(value);
+        if (Composition.isConstant(this)) {
+            return LongPredicate2.constant(!test(0L));
+        }
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof LongPredicate2) {
+            return (LongPredicate2) original;
+        }
+        /**
+         * A {@code LongPredicate2} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements LongPredicate2 {
+
+            /**
+             * Creates the negation of this {@code LongPredicate2}.
+             */
+            Negation() {
+                super(Kind.NEGATION, LongPredicate2.this);
+            }
+
+            @Override
+            public boolean test(long value) {
+                return !LongPredicate2.this.test(value);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -552,6 +812,12 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
     @Nonnull
     default LongPredicate2 and(@Nonnull LongPredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return other instanceof LongPredicate2 ? (LongPredicate2) other : value -> other.test(value);
+        }
         return value -> test(value) && other.test(value);
     }
 
@@ -574,6 +840,12 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
     @Nonnull
     default LongPredicate2 or(@Nonnull LongPredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return other instanceof LongPredicate2 ? (LongPredicate2) other : value -> other.test(value);
+        }
         return value -> test(value) || other.test(value);
     }
 
@@ -624,13 +896,82 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Long, Boolean> cache = new ConcurrentHashMap<>();
-            return (LongPredicate2 & Memoized) value -> {
-                return cache.computeIfAbsent(value, this::test);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link LongPredicate2}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code LongPredicate2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default LongPredicate2 memoized(@Nonnull MemoStore<Long, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (LongPredicate2 & Memoized) value -> {
+            return store.computeIfAbsent(value, this::test);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link LongPredicate2}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code LongPredicate2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default LongPredicate2 adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link LongPredicate2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code LongPredicate2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default LongPredicate2 adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Long, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (LongPredicate2 & Memoized) value -> {
+            return memoizer.computeIfAbsent(value, this::test);
+        };
+    }
+
     /**
      * Returns a composed {@link Predicate2} which represents this {@link LongPredicate2}. Thereby the primitive input
      * argument for this predicate is autoboxed. This method provides the possibility to use this {@code LongPredicate2}
@@ -640,6 +981,24 @@ public interface LongPredicate2 extends Lambda, LongPredicate {
      */
     @Nonnull
     default Predicate2<Long> boxed() {
-        return this::test;
+        /**
+         * A {@code Predicate2} which applies this {@code LongPredicate2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Predicate2<Long> {
+
+            /**
+             * Creates the boxed variant of this {@code LongPredicate2}.
+             */
+            Boxed() {
+                super(LongPredicate2.this);
+            }
+
+            @Override
+            public boolean test(Long t) {
+                return LongPredicate2.this.test(t);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,7 @@
 
 package org.lambda4j.predicate;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -31,6 +29,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.function.BooleanFunction;
@@ -53,6 +54,11 @@ import org.lambda4j.function.to.ToFloatFunction;
 import org.lambda4j.function.to.ToIntFunction2;
 import org.lambda4j.function.to.ToLongFunction2;
 import org.lambda4j.function.to.ToShortFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 
 /**
@@ -103,7 +109,8 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
     }
 
     /**
-     * Creates a {@link Predicate2} which always returns a given value.
+     * Creates a {@link Predicate2} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <T> The type of the argument to the predicate
      * @param ret The return value for the constant
@@ -111,7 +118,25 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      */
     @Nonnull
     static <T> Predicate2<T> constant(boolean ret) {
-        return t -> ret;
+        /**
+         * A {@code Predicate2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements Predicate2<T> {
+
+            /**
+             * Creates a constant {@code Predicate2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(T t) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -123,7 +148,25 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      */
     @Nonnull
     static <T> Predicate2<T> alwaysTrue() {
-        return t -> true;
+        /**
+         * A {@code Predicate2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements Predicate2<T> {
+
+            /**
+             * Creates a constant {@code Predicate2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(T t) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -135,7 +178,25 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      */
     @Nonnull
     static <T> Predicate2<T> alwaysFalse() {
-        return t -> false;
+        /**
+         * A {@code Predicate2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements Predicate2<T> {
+
+            /**
+             * Creates a constant {@code Predicate2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(T t) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -149,7 +210,25 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      */
     @Nonnull
     static <T> Predicate2<T> isEqual(@Nullable Object target) {
-        return t -> t == null ? target == null : t.equals(target);
+        /**
+         * A {@code Predicate2} which tests if its input argument is equal to a given target.
+         */
+        final class Equality extends AbstractCanonical implements Predicate2<T> {
+
+            /**
+             * Creates a {@code Predicate2} which tests for equality with the given target.
+             */
+            Equality() {
+                super(Kind.EQUALITY, target);
+            }
+
+            @Override
+            public boolean test(T t) {
+                return t == null ? target == null : t.equals(target);
+            }
+        }
+
+        return new Equality();
     }
 
     /**
@@ -161,6 +240,71 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
     @Override
     boolean test(T t);
 
+    /**
+     * Tests the elements at each index of the given array, and stores the indices of the elements matching this
+     * predicate in ascending order in the given selection vector.
+     *
+     * @param values The array of arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given selection vector is shorter than given argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            selection[count] = i;
+            count += test(values[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in the given array, and
+     * keeps only the indices of the elements matching this predicate in the selection vector, in their previous order.
+     * This refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values The array of arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values, @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of the given array, and stores the results in the given bitmap, whose bit of
+     * index {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}.
+     *
+     * @param values The array of arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given bitmap holds fewer bits than given argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull T[] values, @Nonnull long[] bitmap) {
+        BitmapUtils.clear(bitmap, values.length);
+        for (int i = 0; i < values.length; i++) {
+            bitmap[i >>> 6] |= (test(values[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Returns the number of arguments for this predicate.
      *
@@ -187,7 +331,25 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
     @Nonnull
     default <A> Predicate2<A> compose(@Nonnull Function<? super A, ? extends T> before) {
         Objects.requireNonNull(before);
-        return a -> test(before.apply(a));
+        /**
+         * A {@code Predicate2} which applies this one to the result of a given function.
+         */
+        final class Composed extends AbstractCanonical implements Predicate2<A> {
+
+            /**
+             * Creates the composition of this {@code Predicate2} with the given function.
+             */
+            Composed() {
+                super(Kind.COMPOSITION, Predicate2.this, before);
+            }
+
+            @Override
+            public boolean test(A a) {
+                return Predicate2.this.test(before.apply(a));
+            }
+        }
+
+        return new Composed();
     }
 
     /**
@@ -353,10 +515,15 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> Function2<T, S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Function2.constant(after.apply(test(null)));
+        }
         return t -> after.apply(test(t));
     }
 
@@ -372,10 +539,18 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default Predicate2<T> andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return Predicate2.constant(after.applyAsBoolean(test(null)));
+        }
         return t -> after.applyAsBoolean(test(t));
     }
 
@@ -391,10 +566,15 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteFunction<T> andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteFunction.constant(after.applyAsByte(test(null)));
+        }
         return t -> after.applyAsByte(test(t));
     }
 
@@ -410,10 +590,15 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharFunction<T> andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharFunction.constant(after.applyAsChar(test(null)));
+        }
         return t -> after.applyAsChar(test(t));
     }
 
@@ -429,10 +614,15 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleFunction2<T> andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToDoubleFunction2.constant(after.applyAsDouble(test(null)));
+        }
         return t -> after.applyAsDouble(test(t));
     }
 
@@ -448,10 +638,15 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToFloatFunction<T> andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToFloatFunction.constant(after.applyAsFloat(test(null)));
+        }
         return t -> after.applyAsFloat(test(t));
     }
 
@@ -467,10 +662,15 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntFunction2<T> andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntFunction2.constant(after.applyAsInt(test(null)));
+        }
         return t -> after.applyAsInt(test(t));
     }
 
@@ -486,10 +686,15 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongFunction2<T> andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongFunction2.constant(after.applyAsLong(test(null)));
+        }
         return t -> after.applyAsLong(test(t));
     }
 
@@ -505,10 +710,15 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortFunction<T> andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortFunction.constant(after.applyAsShort(test(null)));
+        }
         return t -> after.applyAsShort(test(t));
     }
 
@@ -535,8 +745,34 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      */
     @Override
     @Nonnull
+    @SuppressWarnings("unchecked")
     default Predicate2<T> negate() {
-        return t -> !test(t);
+        if (Composition.isConstant(this)) {
+            return Predicate2.constant(!test(null));
+        }
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof Predicate2) {
+            return (Predicate2<T>) original;
+        }
+        /**
+         * A {@code Predicate2} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements Predicate2<T> {
+
+            /**
+             * Creates the negation of this {@code Predicate2}.
+             */
+            Negation() {
+                super(Kind.NEGATION, Predicate2.this);
+            }
+
+            @Override
+            public boolean test(T t) {
+                return !Predicate2.this.test(t);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -558,6 +794,12 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
     @Nonnull
     default Predicate2<T> and(@Nonnull Predicate<? super T> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return t -> other.test(t);
+        }
         return t -> test(t) && other.test(t);
     }
 
@@ -580,6 +822,12 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
     @Nonnull
     default Predicate2<T> or(@Nonnull Predicate<? super T> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return t -> other.test(t);
+        }
         return t -> test(t) || other.test(t);
     }
 
@@ -630,10 +878,79 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
         if (isMemoized()) {
             return this;
         } else {
-            Map<T, Boolean> cache = new ConcurrentHashMap<>();
-            return (Predicate2<T> & Memoized) t -> {
-                return cache.computeIfAbsent(t, this::test);
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link Predicate2}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code Predicate2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default Predicate2<T> memoized(@Nonnull MemoStore<T, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (Predicate2<T> & Memoized) t -> {
+            return store.computeIfAbsent(t, this::test);
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link Predicate2}. In contrast to {@link #memoized()},
+     * the returned predicate samples the hit rate of its cache and the computation cost of this predicate at runtime,
+     * and switches between passing through, caching every value and caching a bounded number of values, whichever is
+     * cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code Predicate2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default Predicate2<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link Predicate2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code Predicate2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default Predicate2<T> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<T, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (Predicate2<T> & Memoized) t -> {
+            return memoizer.computeIfAbsent(t, this::test);
+        };
+    }
 }
@@ -16,18 +16,19 @@
 
 package org.lambda4j.predicate.bi;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.bi.BiByteConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -52,11 +53,18 @@ import org.lambda4j.function.conversion.IntToByteFunction;
 import org.lambda4j.function.conversion.LongToByteFunction;
 import org.lambda4j.function.conversion.ShortToByteFunction;
 import org.lambda4j.function.to.ToByteFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.BooleanBinaryOperator;
 import org.lambda4j.operator.binary.ByteBinaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
 import org.lambda4j.predicate.BytePredicate;
+import org.lambda4j.predicate.Predicate2;
+import org.lambda4j.tuple.ByteBytePair;
 
 /**
  * Represents an predicate (boolean-valued function) of two {@code byte}-valued input arguments. This is a primitive
@@ -89,6 +97,26 @@ public interface BiBytePredicate extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiBytePredicate} which represents the given boxed predicate, so that it can be used with the
+     * primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * BiBytePredicate} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * predicate calls the given predicate, boxing its primitive arguments.
+     *
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code BiBytePredicate} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiBytePredicate unboxed(@Nonnull BiPredicate<? super Byte, ? super Byte> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof BiBytePredicate) {
+            return (BiBytePredicate) original;
+        }
+        return (value1, value2) -> predicate.test(value1, value2);
+    }
+
     /**
      * Calls the given {@link BiBytePredicate} with the given arguments and returns its result.
      *
@@ -115,7 +143,25 @@ public interface BiBytePredicate extends Lambda {
     @Nonnull
     static BiBytePredicate onlyFirst(@Nonnull BytePredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (value1, value2) -> predicate.test(value1);
+        /**
+         * A {@code BiBytePredicate} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiBytePredicate {
+
+            /**
+             * Creates a {@code BiBytePredicate} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, predicate);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2) {
+                return predicate.test(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -130,18 +176,56 @@ public interface BiBytePredicate extends Lambda {
     @Nonnull
     static BiBytePredicate onlySecond(@Nonnull BytePredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (value1, value2) -> predicate.test(value2);
+        /**
+         * A {@code BiBytePredicate} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiBytePredicate {
+
+            /**
+             * Creates a {@code BiBytePredicate} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, predicate);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2) {
+                return predicate.test(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiBytePredicate} which always returns a given value.
+     * Creates a {@link BiBytePredicate} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiBytePredicate} which always returns a given value.
      */
     @Nonnull
     static BiBytePredicate constant(boolean ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiBytePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiBytePredicate {
+
+            /**
+             * Creates a constant {@code BiBytePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -152,7 +236,25 @@ public interface BiBytePredicate extends Lambda {
      */
     @Nonnull
     static BiBytePredicate alwaysTrue() {
-        return (value1, value2) -> true;
+        /**
+         * A {@code BiBytePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiBytePredicate {
+
+            /**
+             * Creates a constant {@code BiBytePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -163,7 +265,25 @@ public interface BiBytePredicate extends Lambda {
      */
     @Nonnull
     static BiBytePredicate alwaysFalse() {
-        return (value1, value2) -> false;
+        /**
+         * A {@code BiBytePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiBytePredicate {
+
+            /**
+             * Creates a constant {@code BiBytePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -191,6 +311,93 @@ public interface BiBytePredicate extends Lambda {
      */
     boolean test(byte value1, byte value2);
 
+    /**
+     * Applies this predicate to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the predicate
+     * @return The return value from the predicate, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ByteBytePair
+     */
+    default boolean test(@Nonnull ByteBytePair tuple) {
+        Objects.requireNonNull(tuple);
+        return test(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the indices of the elements matching this predicate in
+     * ascending order in the given selection vector. Each array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the first argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * selection vector is shorter than the first argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values1.length; i++) {
+            selection[count] = i;
+            count += test(values1[i], values2[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in each array, and keeps
+     * only the indices of the elements matching this predicate in the selection vector, in their previous order. This
+     * refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values1[index], values2[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the results in the given bitmap, whose bit of index
+     * {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}. Each
+     * array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * bitmap holds fewer bits than the first argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        BitmapUtils.clear(bitmap, values1.length);
+        for (int i = 0; i < values1.length; i++) {
+            bitmap[i >>> 6] |= (test(values1[i], values2[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Applies this predicate partially to some arguments of this one, producing a {@link BytePredicate} as result.
      *
@@ -276,6 +483,9 @@ public interface BiBytePredicate extends Lambda {
             @Nonnull ByteUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> test(before1.applyAsByte(value1), before2.applyAsByte(value2));
     }
 
@@ -422,10 +632,15 @@ public interface BiBytePredicate extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiByteFunction<S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteFunction.constant(after.apply(test((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.apply(test(value1, value2));
     }
 
@@ -441,10 +656,18 @@ public interface BiBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiBytePredicate andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiBytePredicate.constant(after.applyAsBoolean(test((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsBoolean(test(value1, value2));
     }
 
@@ -460,10 +683,15 @@ public interface BiBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteBinaryOperator andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ByteBinaryOperator.constant(after.applyAsByte(test((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsByte(test(value1, value2));
     }
 
@@ -479,10 +707,15 @@ public interface BiBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToCharFunction andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToCharFunction.constant(after.applyAsChar(test((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsChar(test(value1, value2));
     }
 
@@ -498,10 +731,15 @@ public interface BiBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToDoubleFunction andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToDoubleFunction.constant(after.applyAsDouble(test((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsDouble(test(value1, value2));
     }
 
@@ -517,10 +755,15 @@ public interface BiBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToFloatFunction andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToFloatFunction.constant(after.applyAsFloat(test((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsFloat(test(value1, value2));
     }
 
@@ -536,10 +779,15 @@ public interface BiBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToIntFunction andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToIntFunction.constant(after.applyAsInt(test((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsInt(test(value1, value2));
     }
 
@@ -555,10 +803,15 @@ public interface BiBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToLongFunction andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToLongFunction.constant(after.applyAsLong(test((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsLong(test(value1, value2));
     }
 
@@ -574,10 +827,15 @@ public interface BiBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiByteToShortFunction andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiByteToShortFunction.constant(after.applyAsShort(test((byte) 0, (byte) 0)));
+        }
         return (value1, value2) -> after.applyAsShort(test(value1, value2));
     }
 
@@ -604,7 +862,32 @@ public interface BiBytePredicate extends Lambda {
      */
     @Nonnull
     default BiBytePredicate negate() {
-        return (value1, value2) -> !test(value1, value2);
+        if (Composition.isConstant(this)) {
+            return BiBytePredicate.constant(!test((byte) 0, (byte) 0));
+        }
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof BiBytePredicate) {
+            return (BiBytePredicate) original;
+        }
+        /**
+         * A {@code BiBytePredicate} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements BiBytePredicate {
+
+            /**
+             * Creates the negation of this {@code BiBytePredicate}.
+             */
+            Negation() {
+                super(Kind.NEGATION, BiBytePredicate.this);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2) {
+                return !BiBytePredicate.this.test(value1, value2);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -625,6 +908,14 @@ public interface BiBytePredicate extends Lambda {
     @Nonnull
     default BiBytePredicate and(@Nonnull BiBytePredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return other instanceof BiBytePredicate
+                    ? (BiBytePredicate) other
+                    : (value1, value2) -> other.test(value1, value2);
+        }
         return (value1, value2) -> test(value1, value2) && other.test(value1, value2);
     }
 
@@ -646,6 +937,14 @@ public interface BiBytePredicate extends Lambda {
     @Nonnull
     default BiBytePredicate or(@Nonnull BiBytePredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return other instanceof BiBytePredicate
+                    ? (BiBytePredicate) other
+                    : (value1, value2) -> other.test(value1, value2);
+        }
         return (value1, value2) -> test(value1, value2) || other.test(value1, value2);
     }
 
@@ -667,6 +966,16 @@ public interface BiBytePredicate extends Lambda {
         return (value1, value2) -> test(value1, value2) ^ other.test(value1, value2);
     }
 
+    /**
+     * Returns a tupled version of this predicate.
+     *
+     * @return A tupled version of this predicate.
+     */
+    @Nonnull
+    default Predicate2<ByteBytePair> tupled() {
+        return this::test;
+    }
+
     /**
      * Returns a reversed version of this predicate. This may be useful in recursive context.
      *
@@ -674,7 +983,29 @@ public interface BiBytePredicate extends Lambda {
      */
     @Nonnull
     default BiBytePredicate reversed() {
-        return (value2, value1) -> test(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiBytePredicate) {
+            return (BiBytePredicate) original;
+        }
+        /**
+         * A {@code BiBytePredicate} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiBytePredicate {
+
+            /**
+             * Creates the reversal of this {@code BiBytePredicate}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiBytePredicate.this);
+            }
+
+            @Override
+            public boolean test(byte value2, byte value1) {
+                return BiBytePredicate.this.test(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -696,13 +1027,115 @@ public interface BiBytePredicate extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Byte, Byte>, Boolean> cache = new ConcurrentHashMap<>();
-            return (BiBytePredicate & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2), key -> test(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link BiBytePredicate}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code BiBytePredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiBytePredicate memoized(@Nonnull MemoStore<ByteBytePair, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (BiBytePredicate & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(ByteBytePair.of(value1, value2), key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiBytePredicate}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiBytePredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiBytePredicate adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiBytePredicate}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code BiBytePredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiBytePredicate adaptivelyMemoized(@Nonnull AdaptiveMemoizer<ByteBytePair, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiBytePredicate & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(ByteBytePair.of(value1, value2),
+                    key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns a compiled version of this {@link BiBytePredicate}, which applies this predicate once to each of the
+     * 65,536 possible combinations of input arguments in advance, and afterwards answers every call by a lookup in a
+     * bitmap of 65,536 bits holding the results. In contrast to {@link #memoized()}, no values are computed or cached
+     * on demand, so the returned predicate neither synchronizes nor allocates.
+     * <p>
+     * This predicate has to be free of side effects and return the same result for the same arguments, as it is not
+     * called anymore once compiled.
+     *
+     * @return A compiled version of this {@code BiBytePredicate}.
+     * @implSpec If this predicate is already compiled, it is returned itself. Any exception thrown by this predicate
+     * while compiling is relayed to the caller of this method.
+     * @implNote The returned predicate is immutable, which makes it thread-safe. It is also {@link #isMemoized()
+     * memoized}, as all its values are computed in advance.
+     */
+    @Nonnull
+    default BiBytePredicate compiled() {
+        if (isCompiled()) {
+            return this;
+        }
+        long[] table = new long[BitmapUtils.length(65536)];
+        for (int i = 0; i < 65536; i++) {
+            if (test((byte) (i >>> 8), (byte) i)) {
+                table[i >>> 6] |= 1L << i;
+            }
+        }
+        return (BiBytePredicate & Memoized & Compiled) (value1, value2) -> {
+            int index = (value1 & 0xFF) << 8 | value2 & 0xFF;
+            return BitmapUtils.get(table, index);
+        };
+    }
+
     /**
      * Returns a composed {@link BiPredicate2} which represents this {@link BiBytePredicate}. Thereby the primitive
      * input argument for this predicate is autoboxed. This method provides the possibility to use this {@code
@@ -712,6 +1145,24 @@ public interface BiBytePredicate extends Lambda {
      */
     @Nonnull
     default BiPredicate2<Byte, Byte> boxed() {
-        return this::test;
+        /**
+         * A {@code BiPredicate2} which applies this {@code BiBytePredicate} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiPredicate2<Byte, Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code BiBytePredicate}.
+             */
+            Boxed() {
+                super(BiBytePredicate.this);
+            }
+
+            @Override
+            public boolean test(Byte t, Byte u) {
+                return BiBytePredicate.this.test(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,8 @@
 
 package org.lambda4j.predicate.bi;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 import java.util.function.DoublePredicate;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.IntToDoubleFunction;
@@ -30,9 +29,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.bi.BiDoubleConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -54,10 +55,17 @@ import org.lambda4j.function.conversion.ByteToDoubleFunction;
 import org.lambda4j.function.conversion.CharToDoubleFunction;
 import org.lambda4j.function.conversion.FloatToDoubleFunction;
 import org.lambda4j.function.conversion.ShortToDoubleFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.BooleanBinaryOperator;
 import org.lambda4j.operator.binary.DoubleBinaryOperator2;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.DoublePredicate2;
+import org.lambda4j.predicate.Predicate2;
+import org.lambda4j.tuple.DoubleDoublePair;
 
 /**
  * Represents an predicate (boolean-valued function) of two {@code double}-valued input arguments. This is a primitive
@@ -91,6 +99,26 @@ public interface BiDoublePredicate extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiDoublePredicate} which represents the given boxed predicate, so that it can be used with the
+     * primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * BiDoublePredicate} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * predicate calls the given predicate, boxing its primitive arguments.
+     *
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code BiDoublePredicate} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiDoublePredicate unboxed(@Nonnull BiPredicate<? super Double, ? super Double> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof BiDoublePredicate) {
+            return (BiDoublePredicate) original;
+        }
+        return (value1, value2) -> predicate.test(value1, value2);
+    }
+
     /**
      * Calls the given {@link BiDoublePredicate} with the given arguments and returns its result.
      *
@@ -117,7 +145,25 @@ public interface BiDoublePredicate extends Lambda {
     @Nonnull
     static BiDoublePredicate onlyFirst(@Nonnull DoublePredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (value1, value2) -> predicate.test(value1);
+        /**
+         * A {@code BiDoublePredicate} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiDoublePredicate {
+
+            /**
+             * Creates a {@code BiDoublePredicate} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, predicate);
+            }
+
+            @Override
+            public boolean test(double value1, double value2) {
+                return predicate.test(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -132,18 +178,56 @@ public interface BiDoublePredicate extends Lambda {
     @Nonnull
     static BiDoublePredicate onlySecond(@Nonnull DoublePredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (value1, value2) -> predicate.test(value2);
+        /**
+         * A {@code BiDoublePredicate} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiDoublePredicate {
+
+            /**
+             * Creates a {@code BiDoublePredicate} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, predicate);
+            }
+
+            @Override
+            public boolean test(double value1, double value2) {
+                return predicate.test(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiDoublePredicate} which always returns a given value.
+     * Creates a {@link BiDoublePredicate} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiDoublePredicate} which always returns a given value.
      */
     @Nonnull
     static BiDoublePredicate constant(boolean ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiDoublePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiDoublePredicate {
+
+            /**
+             * Creates a constant {@code BiDoublePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(double value1, double value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -154,7 +238,25 @@ public interface BiDoublePredicate extends Lambda {
      */
     @Nonnull
     static BiDoublePredicate alwaysTrue() {
-        return (value1, value2) -> true;
+        /**
+         * A {@code BiDoublePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiDoublePredicate {
+
+            /**
+             * Creates a constant {@code BiDoublePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(double value1, double value2) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -165,7 +267,25 @@ public interface BiDoublePredicate extends Lambda {
      */
     @Nonnull
     static BiDoublePredicate alwaysFalse() {
-        return (value1, value2) -> false;
+        /**
+         * A {@code BiDoublePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiDoublePredicate {
+
+            /**
+             * Creates a constant {@code BiDoublePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(double value1, double value2) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -193,6 +313,93 @@ public interface BiDoublePredicate extends Lambda {
      */
     boolean test(double value1, double value2);
 
+    /**
+     * Applies this predicate to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the predicate
+     * @return The return value from the predicate, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see DoubleDoublePair
+     */
+    default boolean test(@Nonnull DoubleDoublePair tuple) {
+        Objects.requireNonNull(tuple);
+        return test(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the indices of the elements matching this predicate in
+     * ascending order in the given selection vector. Each array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the first argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * selection vector is shorter than the first argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull double[] values1, @Nonnull double[] values2, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values1.length; i++) {
+            selection[count] = i;
+            count += test(values1[i], values2[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in each array, and keeps
+     * only the indices of the elements matching this predicate in the selection vector, in their previous order. This
+     * refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull double[] values1, @Nonnull double[] values2, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values1[index], values2[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the results in the given bitmap, whose bit of index
+     * {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}. Each
+     * array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * bitmap holds fewer bits than the first argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull double[] values1, @Nonnull double[] values2, @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        BitmapUtils.clear(bitmap, values1.length);
+        for (int i = 0; i < values1.length; i++) {
+            bitmap[i >>> 6] |= (test(values1[i], values2[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Applies this predicate partially to some arguments of this one, producing a {@link DoublePredicate2} as result.
      *
@@ -322,6 +529,9 @@ public interface BiDoublePredicate extends Lambda {
             @Nonnull DoubleUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> test(before1.applyAsDouble(value1), before2.applyAsDouble(value2));
     }
 
@@ -424,10 +634,15 @@ public interface BiDoublePredicate extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiDoubleFunction<S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleFunction.constant(after.apply(test(0d, 0d)));
+        }
         return (value1, value2) -> after.apply(test(value1, value2));
     }
 
@@ -443,10 +658,18 @@ public interface BiDoublePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoublePredicate andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiDoublePredicate.constant(after.applyAsBoolean(test(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsBoolean(test(value1, value2));
     }
 
@@ -462,10 +685,15 @@ public interface BiDoublePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToByteFunction andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToByteFunction.constant(after.applyAsByte(test(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsByte(test(value1, value2));
     }
 
@@ -481,10 +709,15 @@ public interface BiDoublePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToCharFunction andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToCharFunction.constant(after.applyAsChar(test(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsChar(test(value1, value2));
     }
 
@@ -500,10 +733,15 @@ public interface BiDoublePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleBinaryOperator2 andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleBinaryOperator2.constant(after.applyAsDouble(test(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsDouble(test(value1, value2));
     }
 
@@ -519,10 +757,15 @@ public interface BiDoublePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToFloatFunction andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToFloatFunction.constant(after.applyAsFloat(test(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsFloat(test(value1, value2));
     }
 
@@ -538,10 +781,15 @@ public interface BiDoublePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToIntFunction andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToIntFunction.constant(after.applyAsInt(test(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsInt(test(value1, value2));
     }
 
@@ -557,10 +805,15 @@ public interface BiDoublePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToLongFunction andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToLongFunction.constant(after.applyAsLong(test(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsLong(test(value1, value2));
     }
 
@@ -576,10 +829,15 @@ public interface BiDoublePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiDoubleToShortFunction andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiDoubleToShortFunction.constant(after.applyAsShort(test(0d, 0d)));
+        }
         return (value1, value2) -> after.applyAsShort(test(value1, value2));
     }
 
@@ -606,7 +864,32 @@ public interface BiDoublePredicate extends Lambda {
      */
     @Nonnull
     default BiDoublePredicate negate() {
-        return (value1, value2) -> !test(value1, value2);
+        if (Composition.isConstant(this)) {
+            return BiDoublePredicate.constant(!test(0d, 0d));
+        }
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof BiDoublePredicate) {
+            return (BiDoublePredicate) original;
+        }
+        /**
+         * A {@code BiDoublePredicate} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements BiDoublePredicate {
+
+            /**
+             * Creates the negation of this {@code BiDoublePredicate}.
+             */
+            Negation() {
+                super(Kind.NEGATION, BiDoublePredicate.this);
+            }
+
+            @Override
+            public boolean test(double value1, double value2) {
+                return !BiDoublePredicate.this.test(value1, value2);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -627,6 +910,14 @@ public interface BiDoublePredicate extends Lambda {
     @Nonnull
     default BiDoublePredicate and(@Nonnull BiDoublePredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return other instanceof BiDoublePredicate
+                    ? (BiDoublePredicate) other
+                    : (value1, value2) -> other.test(value1, value2);
+        }
         return (value1, value2) -> test(value1, value2) && other.test(value1, value2);
     }
 
@@ -648,6 +939,14 @@ public interface BiDoublePredicate extends Lambda {
     @Nonnull
     default BiDoublePredicate or(@Nonnull BiDoublePredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return other instanceof BiDoublePredicate
+                    ? (BiDoublePredicate) other
+                    : (value1, value2) -> other.test(value1, value2);
+        }
         return (value1, value2) -> test(value1, value2) || other.test(value1, value2);
     }
 
@@ -669,6 +968,16 @@ public interface BiDoublePredicate extends Lambda {
         return (value1, value2) -> test(value1, value2) ^ other.test(value1, value2);
     }
 
+    /**
+     * Returns a tupled version of this predicate.
+     *
+     * @return A tupled version of this predicate.
+     */
+    @Nonnull
+    default Predicate2<DoubleDoublePair> tupled() {
+        return this::test;
+    }
+
     /**
      * Returns a reversed version of this predicate. This may be useful in recursive context.
      *
@@ -676,7 +985,29 @@ public interface BiDoublePredicate extends Lambda {
      */
     @Nonnull
     default BiDoublePredicate reversed() {
-        return (value2, value1) -> test(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiDoublePredicate) {
+            return (BiDoublePredicate) original;
+        }
+        /**
+         * A {@code BiDoublePredicate} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiDoublePredicate {
+
+            /**
+             * Creates the reversal of this {@code BiDoublePredicate}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiDoublePredicate.this);
+            }
+
+            @Override
+            public boolean test(double value2, double value1) {
+                return BiDoublePredicate.this.test(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -698,13 +1029,84 @@ public interface BiDoublePredicate extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Double, Double>, Boolean> cache = new ConcurrentHashMap<>();
-            return (BiDoublePredicate & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2), key -> test(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiDoublePredicate}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code BiDoublePredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiDoublePredicate memoized(@Nonnull MemoStore<DoubleDoublePair, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (BiDoublePredicate & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(DoubleDoublePair.of(value1, value2),
+                    key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiDoublePredicate}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiDoublePredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiDoublePredicate adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiDoublePredicate}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code BiDoublePredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiDoublePredicate adaptivelyMemoized(@Nonnull AdaptiveMemoizer<DoubleDoublePair, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiDoublePredicate & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(DoubleDoublePair.of(value1, value2),
+                    key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiPredicate2} which represents this {@link BiDoublePredicate}. Thereby the primitive
      * input argument for this predicate is autoboxed. This method provides the possibility to use this {@code
@@ -714,6 +1116,24 @@ public interface BiDoublePredicate extends Lambda {
      */
     @Nonnull
     default BiPredicate2<Double, Double> boxed() {
-        return this::test;
+        /**
+         * A {@code BiPredicate2} which applies this {@code BiDoublePredicate} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiPredicate2<Double, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code BiDoublePredicate}.
+             */
+            Boxed() {
+                super(BiDoublePredicate.this);
+            }
+
+            @Override
+            public boolean test(Double t, Double u) {
+                return BiDoublePredicate.this.test(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,18 +16,19 @@
 
 package org.lambda4j.predicate.bi;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.bi.BiFloatConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -52,11 +53,18 @@ import org.lambda4j.function.conversion.IntToFloatFunction;
 import org.lambda4j.function.conversion.LongToFloatFunction;
 import org.lambda4j.function.conversion.ShortToFloatFunction;
 import org.lambda4j.function.to.ToFloatFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.BooleanBinaryOperator;
 import org.lambda4j.operator.binary.FloatBinaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.FloatUnaryOperator;
 import org.lambda4j.predicate.FloatPredicate;
+import org.lambda4j.predicate.Predicate2;
+import org.lambda4j.tuple.FloatFloatPair;
 
 /**
  * Represents an predicate (boolean-valued function) of two {@code float}-valued input arguments. This is a primitive
@@ -90,6 +98,26 @@ public interface BiFloatPredicate extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiFloatPredicate} which represents the given boxed predicate, so that it can be used with the
+     * primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * BiFloatPredicate} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * predicate calls the given predicate, boxing its primitive arguments.
+     *
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code BiFloatPredicate} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiFloatPredicate unboxed(@Nonnull BiPredicate<? super Float, ? super Float> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof BiFloatPredicate) {
+            return (BiFloatPredicate) original;
+        }
+        return (value1, value2) -> predicate.test(value1, value2);
+    }
+
     /**
      * Calls the given {@link BiFloatPredicate} with the given arguments and returns its result.
      *
@@ -116,7 +144,25 @@ public interface BiFloatPredicate extends Lambda {
     @Nonnull
     static BiFloatPredicate onlyFirst(@Nonnull FloatPredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (value1, value2) -> predicate.test(value1);
+        /**
+         * A {@code BiFloatPredicate} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiFloatPredicate {
+
+            /**
+             * Creates a {@code BiFloatPredicate} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, predicate);
+            }
+
+            @Override
+            public boolean test(float value1, float value2) {
+                return predicate.test(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -131,18 +177,56 @@ public interface BiFloatPredicate extends Lambda {
     @Nonnull
     static BiFloatPredicate onlySecond(@Nonnull FloatPredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (value1, value2) -> predicate.test(value2);
+        /**
+         * A {@code BiFloatPredicate} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiFloatPredicate {
+
+            /**
+             * Creates a {@code BiFloatPredicate} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, predicate);
+            }
+
+            @Override
+            public boolean test(float value1, float value2) {
+                return predicate.test(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiFloatPredicate} which always returns a given value.
+     * Creates a {@link BiFloatPredicate} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiFloatPredicate} which always returns a given value.
      */
     @Nonnull
     static BiFloatPredicate constant(boolean ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiFloatPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiFloatPredicate {
+
+            /**
+             * Creates a constant {@code BiFloatPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(float value1, float value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -153,7 +237,25 @@ public interface BiFloatPredicate extends Lambda {
      */
     @Nonnull
     static BiFloatPredicate alwaysTrue() {
-        return (value1, value2) -> true;
+        /**
+         * A {@code BiFloatPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiFloatPredicate {
+
+            /**
+             * Creates a constant {@code BiFloatPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(float value1, float value2) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -164,7 +266,25 @@ public interface BiFloatPredicate extends Lambda {
      */
     @Nonnull
     static BiFloatPredicate alwaysFalse() {
-        return (value1, value2) -> false;
+        /**
+         * A {@code BiFloatPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiFloatPredicate {
+
+            /**
+             * Creates a constant {@code BiFloatPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(float value1, float value2) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -192,6 +312,93 @@ public interface BiFloatPredicate extends Lambda {
      */
     boolean test(float value1, float value2);
 
+    /**
+     * Applies this predicate to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the predicate
+     * @return The return value from the predicate, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see FloatFloatPair
+     */
+    default boolean test(@Nonnull FloatFloatPair tuple) {
+        Objects.requireNonNull(tuple);
+        return test(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the indices of the elements matching this predicate in
+     * ascending order in the given selection vector. Each array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the first argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * selection vector is shorter than the first argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values1.length; i++) {
+            selection[count] = i;
+            count += test(values1[i], values2[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in each array, and keeps
+     * only the indices of the elements matching this predicate in the selection vector, in their previous order. This
+     * refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values1[index], values2[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the results in the given bitmap, whose bit of index
+     * {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}. Each
+     * array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * bitmap holds fewer bits than the first argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull float[] values1, @Nonnull float[] values2, @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        BitmapUtils.clear(bitmap, values1.length);
+        for (int i = 0; i < values1.length; i++) {
+            bitmap[i >>> 6] |= (test(values1[i], values2[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Applies this predicate partially to some arguments of this one, producing a {@link FloatPredicate} as result.
      *
@@ -343,6 +550,9 @@ public interface BiFloatPredicate extends Lambda {
             @Nonnull FloatUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> test(before1.applyAsFloat(value1), before2.applyAsFloat(value2));
     }
 
@@ -423,10 +633,15 @@ public interface BiFloatPredicate extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiFloatFunction<S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatFunction.constant(after.apply(test(0f, 0f)));
+        }
         return (value1, value2) -> after.apply(test(value1, value2));
     }
 
@@ -442,10 +657,18 @@ public interface BiFloatPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatPredicate andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiFloatPredicate.constant(after.applyAsBoolean(test(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsBoolean(test(value1, value2));
     }
 
@@ -461,10 +684,15 @@ public interface BiFloatPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToByteFunction andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToByteFunction.constant(after.applyAsByte(test(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsByte(test(value1, value2));
     }
 
@@ -480,10 +708,15 @@ public interface BiFloatPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToCharFunction andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToCharFunction.constant(after.applyAsChar(test(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsChar(test(value1, value2));
     }
 
@@ -499,10 +732,15 @@ public interface BiFloatPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToDoubleFunction andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToDoubleFunction.constant(after.applyAsDouble(test(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsDouble(test(value1, value2));
     }
 
@@ -518,10 +756,15 @@ public interface BiFloatPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatBinaryOperator andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatBinaryOperator.constant(after.applyAsFloat(test(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsFloat(test(value1, value2));
     }
 
@@ -537,10 +780,15 @@ public interface BiFloatPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToIntFunction andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToIntFunction.constant(after.applyAsInt(test(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsInt(test(value1, value2));
     }
 
@@ -556,10 +804,15 @@ public interface BiFloatPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToLongFunction andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToLongFunction.constant(after.applyAsLong(test(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsLong(test(value1, value2));
     }
 
@@ -575,10 +828,15 @@ public interface BiFloatPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiFloatToShortFunction andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFloatToShortFunction.constant(after.applyAsShort(test(0f, 0f)));
+        }
         return (value1, value2) -> after.applyAsShort(test(value1, value2));
     }
 
@@ -605,7 +863,32 @@ public interface BiFloatPredicate extends Lambda {
      */
     @Nonnull
     default BiFloatPredicate negate() {
-        return (value1, value2) -> !test(value1, value2);
+        if (Composition.isConstant(this)) {
+            return BiFloatPredicate.constant(!test(0f, 0f));
+        }
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof BiFloatPredicate) {
+            return (BiFloatPredicate) original;
+        }
+        /**
+         * A {@code BiFloatPredicate} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements BiFloatPredicate {
+
+            /**
+             * Creates the negation of this {@code BiFloatPredicate}.
+             */
+            Negation() {
+                super(Kind.NEGATION, BiFloatPredicate.this);
+            }
+
+            @Override
+            public boolean test(float value1, float value2) {
+                return !BiFloatPredicate.this.test(value1, value2);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -626,6 +909,14 @@ public interface BiFloatPredicate extends Lambda {
     @Nonnull
     default BiFloatPredicate and(@Nonnull BiFloatPredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return other instanceof BiFloatPredicate
+                    ? (BiFloatPredicate) other
+                    : (value1, value2) -> other.test(value1, value2);
+        }
         return (value1, value2) -> test(value1, value2) && other.test(value1, value2);
     }
 
@@ -647,6 +938,14 @@ public interface BiFloatPredicate extends Lambda {
     @Nonnull
     default BiFloatPredicate or(@Nonnull BiFloatPredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return other instanceof BiFloatPredicate
+                    ? (BiFloatPredicate) other
+                    : (value1, value2) -> other.test(value1, value2);
+        }
         return (value1, value2) -> test(value1, value2) || other.test(value1, value2);
     }
 
@@ -668,6 +967,16 @@ public interface BiFloatPredicate extends Lambda {
         return (value1, value2) -> test(value1, value2) ^ other.test(value1, value2);
     }
 
+    /**
+     * Returns a tupled version of this predicate.
+     *
+     * @return A tupled version of this predicate.
+     */
+    @Nonnull
+    default Predicate2<FloatFloatPair> tupled() {
+        return this::test;
+    }
+
     /**
      * Returns a reversed version of this predicate. This may be useful in recursive context.
      *
@@ -675,7 +984,29 @@ public interface BiFloatPredicate extends Lambda {
      */
     @Nonnull
     default BiFloatPredicate reversed() {
-        return (value2, value1) -> test(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiFloatPredicate) {
+            return (BiFloatPredicate) original;
+        }
+        /**
+         * A {@code BiFloatPredicate} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiFloatPredicate {
+
+            /**
+             * Creates the reversal of this {@code BiFloatPredicate}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiFloatPredicate.this);
+            }
+
+            @Override
+            public boolean test(float value2, float value1) {
+                return BiFloatPredicate.this.test(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -697,13 +1028,83 @@ public interface BiFloatPredicate extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Float, Float>, Boolean> cache = new ConcurrentHashMap<>();
-            return (BiFloatPredicate & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2), key -> test(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiFloatPredicate}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code BiFloatPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiFloatPredicate memoized(@Nonnull MemoStore<FloatFloatPair, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (BiFloatPredicate & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(FloatFloatPair.of(value1, value2), key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiFloatPredicate}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiFloatPredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiFloatPredicate adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiFloatPredicate}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code BiFloatPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiFloatPredicate adaptivelyMemoized(@Nonnull AdaptiveMemoizer<FloatFloatPair, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiFloatPredicate & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(FloatFloatPair.of(value1, value2),
+                    key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiPredicate2} which represents this {@link BiFloatPredicate}. Thereby the primitive
      * input argument for this predicate is autoboxed. This method provides the possibility to use this {@code
@@ -713,6 +1114,24 @@ public interface BiFloatPredicate extends Lambda {
      */
     @Nonnull
     default BiPredicate2<Float, Float> boxed() {
-        return this::test;
+        /**
+         * A {@code BiPredicate2} which applies this {@code BiFloatPredicate} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiPredicate2<Float, Float> {
+
+            /**
+             * Creates the boxed variant of this {@code BiFloatPredicate}.
+             */
+            Boxed() {
+                super(BiFloatPredicate.this);
+            }
+
+            @Override
+            public boolean test(Float t, Float u) {
+                return BiFloatPredicate.this.test(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
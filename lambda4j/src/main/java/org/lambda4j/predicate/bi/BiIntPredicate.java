@@ -16,9 +16,8 @@
 
 package org.lambda4j.predicate.bi;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.IntPredicate;
 import java.util.function.IntUnaryOperator;
@@ -30,9 +29,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.bi.BiIntConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -54,10 +55,17 @@ import org.lambda4j.function.conversion.ByteToIntFunction;
 import org.lambda4j.function.conversion.CharToIntFunction;
 import org.lambda4j.function.conversion.FloatToIntFunction;
 import org.lambda4j.function.conversion.ShortToIntFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.BooleanBinaryOperator;
 import org.lambda4j.operator.binary.IntBinaryOperator2;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.IntPredicate2;
+import org.lambda4j.predicate.Predicate2;
+import org.lambda4j.tuple.IntIntPair;
 
 /**
  * Represents an predicate (boolean-valued function) of two {@code int}-valued input arguments. This is a primitive
@@ -90,6 +98,26 @@ public interface BiIntPredicate extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiIntPredicate} which represents the given boxed predicate, so that it can be used with the
+     * primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * BiIntPredicate} it represents is returned, so that no values are boxed anymore. Otherwise, the returned predicate
+     * calls the given predicate, boxing its primitive arguments.
+     *
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code BiIntPredicate} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BiIntPredicate unboxed(@Nonnull BiPredicate<? super Integer, ? super Integer> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof BiIntPredicate) {
+            return (BiIntPredicate) original;
+        }
+        return (value1, value2) -> predicate.test(value1, value2);
+    }
+
     /**
      * Calls the given {@link BiIntPredicate} with the given arguments and returns its result.
      *
@@ -116,7 +144,25 @@ public interface BiIntPredicate extends Lambda {
     @Nonnull
     static BiIntPredicate onlyFirst(@Nonnull IntPredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (value1, value2) -> predicate.test(value1);
+        /**
+         * A {@code BiIntPredicate} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiIntPredicate {
+
+            /**
+             * Creates a {@code BiIntPredicate} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, predicate);
+            }
+
+            @Override
+            public boolean test(int value1, int value2) {
+                return predicate.test(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -131,18 +177,55 @@ public interface BiIntPredicate extends Lambda {
     @Nonnull
     static BiIntPredicate onlySecond(@Nonnull IntPredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (value1, value2) -> predicate.test(value2);
+        /**
+         * A {@code BiIntPredicate} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiIntPredicate {
+
+            /**
+             * Creates a {@code BiIntPredicate} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, predicate);
+            }
+
+            @Override
+            public boolean test(int value1, int value2) {
+                return predicate.test(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiIntPredicate} which always returns a given value.
+     * Creates a {@link BiIntPredicate} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param ret The return value for the constant
      * @return A {@code BiIntPredicate} which always returns a given value.
      */
     @Nonnull
     static BiIntPredicate constant(boolean ret) {
-        return (value1, value2) -> ret;
+        /**
+         * A {@code BiIntPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiIntPredicate {
+
+            /**
+             * Creates a constant {@code BiIntPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(int value1, int value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -153,7 +236,25 @@ public interface BiIntPredicate extends Lambda {
      */
     @Nonnull
     static BiIntPredicate alwaysTrue() {
-        return (value1, value2) -> true;
+        /**
+         * A {@code BiIntPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiIntPredicate {
+
+            /**
+             * Creates a constant {@code BiIntPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(int value1, int value2) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -164,7 +265,25 @@ public interface BiIntPredicate extends Lambda {
      */
     @Nonnull
     static BiIntPredicate alwaysFalse() {
-        return (value1, value2) -> false;
+        /**
+         * A {@code BiIntPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiIntPredicate {
+
+            /**
+             * Creates a constant {@code BiIntPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(int value1, int value2) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -192,6 +311,93 @@ public interface BiIntPredicate extends Lambda {
      */
     boolean test(int value1, int value2);
 
+    /**
+     * Applies this predicate to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the predicate
+     * @return The return value from the predicate, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see IntIntPair
+     */
+    default boolean test(@Nonnull IntIntPair tuple) {
+        Objects.requireNonNull(tuple);
+        return test(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the indices of the elements matching this predicate in
+     * ascending order in the given selection vector. Each array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the first argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * selection vector is shorter than the first argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values1.length; i++) {
+            selection[count] = i;
+            count += test(values1[i], values2[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in each array, and keeps
+     * only the indices of the elements matching this predicate in the selection vector, in their previous order. This
+     * refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values1[index], values2[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the results in the given bitmap, whose bit of index
+     * {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}. Each
+     * array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * bitmap holds fewer bits than the first argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull int[] values1, @Nonnull int[] values2, @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        BitmapUtils.clear(bitmap, values1.length);
+        for (int i = 0; i < values1.length; i++) {
+            bitmap[i >>> 6] |= (test(values1[i], values2[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Applies this predicate partially to some arguments of this one, producing a {@link IntPredicate2} as result.
      *
@@ -365,6 +571,9 @@ public interface BiIntPredicate extends Lambda {
             @Nonnull IntUnaryOperator before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2)) {
+            return this;
+        }
         return (value1, value2) -> test(before1.applyAsInt(value1), before2.applyAsInt(value2));
     }
 
@@ -423,10 +632,15 @@ public interface BiIntPredicate extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiIntFunction<S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntFunction.constant(after.apply(test(0, 0)));
+        }
         return (value1, value2) -> after.apply(test(value1, value2));
     }
 
@@ -442,10 +656,18 @@ public interface BiIntPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntPredicate andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BiIntPredicate.constant(after.applyAsBoolean(test(0, 0)));
+        }
         return (value1, value2) -> after.applyAsBoolean(test(value1, value2));
     }
 
@@ -461,10 +683,15 @@ public interface BiIntPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToByteFunction andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToByteFunction.constant(after.applyAsByte(test(0, 0)));
+        }
         return (value1, value2) -> after.applyAsByte(test(value1, value2));
     }
 
@@ -480,10 +707,15 @@ public interface BiIntPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToCharFunction andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToCharFunction.constant(after.applyAsChar(test(0, 0)));
+        }
         return (value1, value2) -> after.applyAsChar(test(value1, value2));
     }
 
@@ -499,10 +731,15 @@ public interface BiIntPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToDoubleFunction andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToDoubleFunction.constant(after.applyAsDouble(test(0, 0)));
+        }
         return (value1, value2) -> after.applyAsDouble(test(value1, value2));
     }
 
@@ -518,10 +755,15 @@ public interface BiIntPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToFloatFunction andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToFloatFunction.constant(after.applyAsFloat(test(0, 0)));
+        }
         return (value1, value2) -> after.applyAsFloat(test(value1, value2));
     }
 
@@ -537,10 +779,15 @@ public interface BiIntPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntBinaryOperator2 andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntBinaryOperator2.constant(after.applyAsInt(test(0, 0)));
+        }
         return (value1, value2) -> after.applyAsInt(test(value1, value2));
     }
 
@@ -556,10 +803,15 @@ public interface BiIntPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToLongFunction andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToLongFunction.constant(after.applyAsLong(test(0, 0)));
+        }
         return (value1, value2) -> after.applyAsLong(test(value1, value2));
     }
 
@@ -575,10 +827,15 @@ public interface BiIntPredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiIntToShortFunction andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiIntToShortFunction.constant(after.applyAsShort(test(0, 0)));
+        }
         return (value1, value2) -> after.applyAsShort(test(value1, value2));
     }
 
@@ -605,7 +862,32 @@ public interface BiIntPredicate extends Lambda {
      */
     @Nonnull
     default BiIntPredicate negate() {
-        return (value1, value2) -> !test(value1, value2);
+        if (Composition.isConstant(this)) {
+            return BiIntPredicate.constant(!test(0, 0));
+        }
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof BiIntPredicate) {
+            return (BiIntPredicate) original;
+        }
+        /**
+         * A {@code BiIntPredicate} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements BiIntPredicate {
+
+            /**
+             * Creates the negation of this {@code BiIntPredicate}.
+             */
+            Negation() {
+                super(Kind.NEGATION, BiIntPredicate.this);
+            }
+
+            @Override
+            public boolean test(int value1, int value2) {
+                return !BiIntPredicate.this.test(value1, value2);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -626,6 +908,14 @@ public interface BiIntPredicate extends Lambda {
     @Nonnull
     default BiIntPredicate and(@Nonnull BiIntPredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return other instanceof BiIntPredicate
+                    ? (BiIntPredicate) other
+                    : (value1, value2) -> other.test(value1, value2);
+        }
         return (value1, value2) -> test(value1, value2) && other.test(value1, value2);
     }
 
@@ -647,6 +937,14 @@ public interface BiIntPredicate extends Lambda {
     @Nonnull
     default BiIntPredicate or(@Nonnull BiIntPredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return other instanceof BiIntPredicate
+                    ? (BiIntPredicate) other
+                    : (value1, value2) -> other.test(value1, value2);
+        }
         return (value1, value2) -> test(value1, value2) || other.test(value1, value2);
     }
 
@@ -668,6 +966,16 @@ public interface BiIntPredicate extends Lambda {
         return (value1, value2) -> test(value1, value2) ^ other.test(value1, value2);
     }
 
+    /**
+     * Returns a tupled version of this predicate.
+     *
+     * @return A tupled version of this predicate.
+     */
+    @Nonnull
+    default Predicate2<IntIntPair> tupled() {
+        return this::test;
+    }
+
     /**
      * Returns a reversed version of this predicate. This may be useful in recursive context.
      *
@@ -675,7 +983,29 @@ public interface BiIntPredicate extends Lambda {
      */
     @Nonnull
     default BiIntPredicate reversed() {
-        return (value2, value1) -> test(value1, value2);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiIntPredicate) {
+            return (BiIntPredicate) original;
+        }
+        /**
+         * A {@code BiIntPredicate} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiIntPredicate {
+
+            /**
+             * Creates the reversal of this {@code BiIntPredicate}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiIntPredicate.this);
+            }
+
+            @Override
+            public boolean test(int value2, int value1) {
+                return BiIntPredicate.this.test(value1, value2);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -697,13 +1027,82 @@ public interface BiIntPredicate extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<Integer, Integer>, Boolean> cache = new ConcurrentHashMap<>();
-            return (BiIntPredicate & Memoized) (value1, value2) -> {
-                return cache.computeIfAbsent(Pair.of(value1, value2), key -> test(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiIntPredicate}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code BiIntPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiIntPredicate memoized(@Nonnull MemoStore<IntIntPair, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (BiIntPredicate & Memoized) (value1, value2) -> {
+            return store.computeIfAbsent(IntIntPair.of(value1, value2), key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiIntPredicate}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiIntPredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiIntPredicate adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiIntPredicate}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code BiIntPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiIntPredicate adaptivelyMemoized(@Nonnull AdaptiveMemoizer<IntIntPair, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiIntPredicate & Memoized) (value1, value2) -> {
+            return memoizer.computeIfAbsent(IntIntPair.of(value1, value2), key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiPredicate2} which represents this {@link BiIntPredicate}. Thereby the primitive input
      * argument for this predicate is autoboxed. This method provides the possibility to use this {@code BiIntPredicate}
@@ -713,6 +1112,24 @@ public interface BiIntPredicate extends Lambda {
      */
     @Nonnull
     default BiPredicate2<Integer, Integer> boxed() {
-        return this::test;
+        /**
+         * A {@code BiPredicate2} which applies this {@code BiIntPredicate} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiPredicate2<Integer, Integer> {
+
+            /**
+             * Creates the boxed variant of this {@code BiIntPredicate}.
+             */
+            Boxed() {
+                super(BiIntPredicate.this);
+            }
+
+            @Override
+            public boolean test(Integer t, Integer u) {
+                return BiIntPredicate.this.test(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,7 @@
 
 package org.lambda4j.predicate.bi;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
@@ -34,6 +32,9 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.bi.BiConsumer2;
 import org.lambda4j.function.BooleanFunction;
@@ -56,6 +57,11 @@ import org.lambda4j.function.conversion.BooleanToFloatFunction;
 import org.lambda4j.function.conversion.BooleanToIntFunction;
 import org.lambda4j.function.conversion.BooleanToLongFunction;
 import org.lambda4j.function.conversion.BooleanToShortFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.BooleanBinaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.Predicate2;
@@ -125,7 +131,25 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
     @Nonnull
     static <T, U> BiPredicate2<T, U> onlyFirst(@Nonnull Predicate<? super T> predicate) {
         Objects.requireNonNull(predicate);
-        return (t, u) -> predicate.test(t);
+        /**
+         * A {@code BiPredicate2} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiPredicate2<T, U> {
+
+            /**
+             * Creates a {@code BiPredicate2} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, predicate);
+            }
+
+            @Override
+            public boolean test(T t, U u) {
+                return predicate.test(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -142,11 +166,30 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
     @Nonnull
     static <T, U> BiPredicate2<T, U> onlySecond(@Nonnull Predicate<? super U> predicate) {
         Objects.requireNonNull(predicate);
-        return (t, u) -> predicate.test(u);
+        /**
+         * A {@code BiPredicate2} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiPredicate2<T, U> {
+
+            /**
+             * Creates a {@code BiPredicate2} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, predicate);
+            }
+
+            @Override
+            public boolean test(T t, U u) {
+                return predicate.test(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link BiPredicate2} which always returns a given value.
+     * Creates a {@link BiPredicate2} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <T> The type of the first argument to the predicate
      * @param <U> The type of the second argument to the predicate
@@ -155,7 +198,25 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      */
     @Nonnull
     static <T, U> BiPredicate2<T, U> constant(boolean ret) {
-        return (t, u) -> ret;
+        /**
+         * A {@code BiPredicate2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiPredicate2<T, U> {
+
+            /**
+             * Creates a constant {@code BiPredicate2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(T t, U u) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -168,7 +229,25 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      */
     @Nonnull
     static <T, U> BiPredicate2<T, U> alwaysTrue() {
-        return (t, u) -> true;
+        /**
+         * A {@code BiPredicate2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiPredicate2<T, U> {
+
+            /**
+             * Creates a constant {@code BiPredicate2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(T t, U u) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -181,7 +260,25 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      */
     @Nonnull
     static <T, U> BiPredicate2<T, U> alwaysFalse() {
-        return (t, u) -> false;
+        /**
+         * A {@code BiPredicate2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiPredicate2<T, U> {
+
+            /**
+             * Creates a constant {@code BiPredicate2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(T t, U u) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -225,6 +322,79 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
         return test(tuple.getLeft(), tuple.getRight());
     }
 
+    /**
+     * Tests the elements at each index of each array, and stores the indices of the elements matching this predicate in
+     * ascending order in the given selection vector. Each array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the first argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * selection vector is shorter than the first argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values1.length; i++) {
+            selection[count] = i;
+            count += test(values1[i], values2[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in each array, and keeps
+     * only the indices of the elements matching this predicate in the selection vector, in their previous order. This
+     * refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values1[index], values2[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the results in the given bitmap, whose bit of index
+     * {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}. Each
+     * array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * bitmap holds fewer bits than the first argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        BitmapUtils.clear(bitmap, values1.length);
+        for (int i = 0; i < values1.length; i++) {
+            bitmap[i >>> 6] |= (test(values1[i], values2[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Applies this predicate partially to some arguments of this one, producing a {@link Predicate2} as result.
      *
@@ -456,10 +626,15 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiFunction2<T, U, S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiFunction2.constant(after.apply(test(null, null)));
+        }
         return (t, u) -> after.apply(test(t, u));
     }
 
@@ -479,6 +654,9 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
     @Nonnull
     default BiPredicate2<T, U> andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
         return (t, u) -> after.applyAsBoolean(test(t, u));
     }
 
@@ -494,10 +672,15 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteBiFunction<T, U> andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteBiFunction.constant(after.applyAsByte(test(null, null)));
+        }
         return (t, u) -> after.applyAsByte(test(t, u));
     }
 
@@ -513,10 +696,15 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharBiFunction<T, U> andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharBiFunction.constant(after.applyAsChar(test(null, null)));
+        }
         return (t, u) -> after.applyAsChar(test(t, u));
     }
 
@@ -532,10 +720,15 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleBiFunction2<T, U> andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToDoubleBiFunction2.constant(after.applyAsDouble(test(null, null)));
+        }
         return (t, u) -> after.applyAsDouble(test(t, u));
     }
 
@@ -551,10 +744,15 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToFloatBiFunction<T, U> andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToFloatBiFunction.constant(after.applyAsFloat(test(null, null)));
+        }
         return (t, u) -> after.applyAsFloat(test(t, u));
     }
 
@@ -570,10 +768,15 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntBiFunction2<T, U> andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntBiFunction2.constant(after.applyAsInt(test(null, null)));
+        }
         return (t, u) -> after.applyAsInt(test(t, u));
     }
 
@@ -589,10 +792,15 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongBiFunction2<T, U> andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongBiFunction2.constant(after.applyAsLong(test(null, null)));
+        }
         return (t, u) -> after.applyAsLong(test(t, u));
     }
 
@@ -608,10 +816,15 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortBiFunction<T, U> andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortBiFunction.constant(after.applyAsShort(test(null, null)));
+        }
         return (t, u) -> after.applyAsShort(test(t, u));
     }
 
@@ -638,8 +851,31 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      */
     @Override
     @Nonnull
+    @SuppressWarnings("unchecked")
     default BiPredicate2<T, U> negate() {
-        return (t, u) -> !test(t, u);
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof BiPredicate2) {
+            return (BiPredicate2<T, U>) original;
+        }
+        /**
+         * A {@code BiPredicate2} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements BiPredicate2<T, U> {
+
+            /**
+             * Creates the negation of this {@code BiPredicate2}.
+             */
+            Negation() {
+                super(Kind.NEGATION, BiPredicate2.this);
+            }
+
+            @Override
+            public boolean test(T t, U u) {
+                return !BiPredicate2.this.test(t, u);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -661,6 +897,12 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
     @Nonnull
     default BiPredicate2<T, U> and(@Nonnull BiPredicate<? super T, ? super U> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return (t, u) -> other.test(t, u);
+        }
         return (t, u) -> test(t, u) && other.test(t, u);
     }
 
@@ -683,6 +925,12 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
     @Nonnull
     default BiPredicate2<T, U> or(@Nonnull BiPredicate<? super T, ? super U> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return (t, u) -> other.test(t, u);
+        }
         return (t, u) -> test(t, u) || other.test(t, u);
     }
 
@@ -720,8 +968,31 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * @return A reversed version of this predicate.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default BiPredicate2<U, T> reversed() {
-        return (u, t) -> test(t, u);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof BiPredicate2) {
+            return (BiPredicate2<U, T>) original;
+        }
+        /**
+         * A {@code BiPredicate2} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements BiPredicate2<U, T> {
+
+            /**
+             * Creates the reversal of this {@code BiPredicate2}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, BiPredicate2.this);
+            }
+
+            @Override
+            public boolean test(U u, T t) {
+                return BiPredicate2.this.test(t, u);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -743,10 +1014,79 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, U>, Boolean> cache = new ConcurrentHashMap<>();
-            return (BiPredicate2<T, U> & Memoized) (t, u) -> {
-                return cache.computeIfAbsent(Pair.of(t, u), key -> test(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiPredicate2}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code BiPredicate2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiPredicate2<T, U> memoized(@Nonnull MemoStore<Pair<T, U>, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (BiPredicate2<T, U> & Memoized) (t, u) -> {
+            return store.computeIfAbsent(Pair.of(t, u), key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiPredicate2}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiPredicate2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiPredicate2<T, U> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiPredicate2}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code BiPredicate2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiPredicate2<T, U> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Pair<T, U>, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiPredicate2<T, U> & Memoized) (t, u) -> {
+            return memoizer.computeIfAbsent(Pair.of(t, u), key -> test(key.getLeft(), key.getRight()));
+        };
+    }
 }
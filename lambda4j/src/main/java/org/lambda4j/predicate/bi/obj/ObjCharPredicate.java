@@ -16,9 +16,8 @@
 
 package org.lambda4j.predicate.bi.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -30,9 +29,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.bi.obj.ObjCharConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -62,6 +63,11 @@ import org.lambda4j.function.conversion.IntToCharFunction;
 import org.lambda4j.function.conversion.LongToCharFunction;
 import org.lambda4j.function.conversion.ShortToCharFunction;
 import org.lambda4j.function.to.ToCharFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.BooleanBinaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.CharUnaryOperator;
@@ -75,6 +81,7 @@ import org.lambda4j.predicate.bi.BiIntPredicate;
 import org.lambda4j.predicate.bi.BiLongPredicate;
 import org.lambda4j.predicate.bi.BiPredicate2;
 import org.lambda4j.predicate.bi.BiShortPredicate;
+import org.lambda4j.tuple.ObjCharPair;
 
 /**
  * Represents an predicate (boolean-valued function) of one object-valued and one {@code char}-valued input argument.
@@ -110,6 +117,28 @@ public interface ObjCharPredicate<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjCharPredicate} which represents the given boxed predicate, so that it can be used with the
+     * primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * ObjCharPredicate} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * predicate calls the given predicate, boxing its primitive arguments.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code ObjCharPredicate} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjCharPredicate<T> unboxed(@Nonnull BiPredicate<? super T, ? super Character> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof ObjCharPredicate) {
+            return (ObjCharPredicate<T>) original;
+        }
+        return (t, value) -> predicate.test(t, value);
+    }
+
     /**
      * Calls the given {@link ObjCharPredicate} with the given arguments and returns its result.
      *
@@ -138,7 +167,25 @@ public interface ObjCharPredicate<T> extends Lambda {
     @Nonnull
     static <T> ObjCharPredicate<T> onlyFirst(@Nonnull Predicate<? super T> predicate) {
         Objects.requireNonNull(predicate);
-        return (t, value) -> predicate.test(t);
+        /**
+         * A {@code ObjCharPredicate} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjCharPredicate<T> {
+
+            /**
+             * Creates a {@code ObjCharPredicate} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, predicate);
+            }
+
+            @Override
+            public boolean test(T t, char value) {
+                return predicate.test(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -154,11 +201,31 @@ public interface ObjCharPredicate<T> extends Lambda {
     @Nonnull
     static <T> ObjCharPredicate<T> onlySecond(@Nonnull CharPredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (t, value) -> predicate.test(value);
+        /**
+         * A {@code ObjCharPredicate} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjCharPredicate<T> {
+
+            /**
+             * Creates a {@code ObjCharPredicate} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, predicate);
+            }
+
+            @Override
+            public boolean test(T t, char value) {
+                return predicate.test(value);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link ObjCharPredicate} which always returns a given value.
+     * Creates a {@link ObjCharPredicate} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the predicate
      * @param ret The return value for the constant
@@ -166,7 +233,25 @@ public interface ObjCharPredicate<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjCharPredicate<T> constant(boolean ret) {
-        return (t, value) -> ret;
+        /**
+         * A {@code ObjCharPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjCharPredicate<T> {
+
+            /**
+             * Creates a constant {@code ObjCharPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(T t, char value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -178,7 +263,25 @@ public interface ObjCharPredicate<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjCharPredicate<T> alwaysTrue() {
-        return (t, value) -> true;
+        /**
+         * A {@code ObjCharPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjCharPredicate<T> {
+
+            /**
+             * Creates a constant {@code ObjCharPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(T t, char value) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -190,7 +293,25 @@ public interface ObjCharPredicate<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjCharPredicate<T> alwaysFalse() {
-        return (t, value) -> false;
+        /**
+         * A {@code ObjCharPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjCharPredicate<T> {
+
+            /**
+             * Creates a constant {@code ObjCharPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(T t, char value) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -219,6 +340,93 @@ public interface ObjCharPredicate<T> extends Lambda {
      */
     boolean test(T t, char value);
 
+    /**
+     * Applies this predicate to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the predicate
+     * @return The return value from the predicate, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ObjCharPair
+     */
+    default boolean test(@Nonnull ObjCharPair<T> tuple) {
+        Objects.requireNonNull(tuple);
+        return test(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the indices of the elements matching this predicate in
+     * ascending order in the given selection vector. Each array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the first argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * selection vector is shorter than the first argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull char[] values2, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values1.length; i++) {
+            selection[count] = i;
+            count += test(values1[i], values2[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in each array, and keeps
+     * only the indices of the elements matching this predicate in the selection vector, in their previous order. This
+     * refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull char[] values2, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values1[index], values2[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the results in the given bitmap, whose bit of index
+     * {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}. Each
+     * array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * bitmap holds fewer bits than the first argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull T[] values1, @Nonnull char[] values2, @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        BitmapUtils.clear(bitmap, values1.length);
+        for (int i = 0; i < values1.length; i++) {
+            bitmap[i >>> 6] |= (test(values1[i], values2[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Applies this predicate partially to some arguments of this one, producing a {@link CharPredicate} as result.
      *
@@ -461,10 +669,15 @@ public interface ObjCharPredicate<T> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ObjCharFunction<T, S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjCharFunction.constant(after.apply(test(null, '\0')));
+        }
         return (t, value) -> after.apply(test(t, value));
     }
 
@@ -480,10 +693,18 @@ public interface ObjCharPredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjCharPredicate<T> andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ObjCharPredicate.constant(after.applyAsBoolean(test(null, '\0')));
+        }
         return (t, value) -> after.applyAsBoolean(test(t, value));
     }
 
@@ -499,10 +720,15 @@ public interface ObjCharPredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjCharToByteFunction<T> andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjCharToByteFunction.constant(after.applyAsByte(test(null, '\0')));
+        }
         return (t, value) -> after.applyAsByte(test(t, value));
     }
 
@@ -518,10 +744,15 @@ public interface ObjCharPredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjCharToCharFunction<T> andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjCharToCharFunction.constant(after.applyAsChar(test(null, '\0')));
+        }
         return (t, value) -> after.applyAsChar(test(t, value));
     }
 
@@ -537,10 +768,15 @@ public interface ObjCharPredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjCharToDoubleFunction<T> andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjCharToDoubleFunction.constant(after.applyAsDouble(test(null, '\0')));
+        }
         return (t, value) -> after.applyAsDouble(test(t, value));
     }
 
@@ -556,10 +792,15 @@ public interface ObjCharPredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjCharToFloatFunction<T> andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjCharToFloatFunction.constant(after.applyAsFloat(test(null, '\0')));
+        }
         return (t, value) -> after.applyAsFloat(test(t, value));
     }
 
@@ -575,10 +816,15 @@ public interface ObjCharPredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjCharToIntFunction<T> andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjCharToIntFunction.constant(after.applyAsInt(test(null, '\0')));
+        }
         return (t, value) -> after.applyAsInt(test(t, value));
     }
 
@@ -594,10 +840,15 @@ public interface ObjCharPredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjCharToLongFunction<T> andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjCharToLongFunction.constant(after.applyAsLong(test(null, '\0')));
+        }
         return (t, value) -> after.applyAsLong(test(t, value));
     }
 
@@ -613,10 +864,15 @@ public interface ObjCharPredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjCharToShortFunction<T> andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjCharToShortFunction.constant(after.applyAsShort(test(null, '\0')));
+        }
         return (t, value) -> after.applyAsShort(test(t, value));
     }
 
@@ -642,8 +898,34 @@ public interface ObjCharPredicate<T> extends Lambda {
      * @return A {@code ObjCharPredicate} that represents the logical negation of this one.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default ObjCharPredicate<T> negate() {
-        return (t, value) -> !test(t, value);
+        if (Composition.isConstant(this)) {
+            return ObjCharPredicate.constant(!test(null, '\0'));
+        }
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof ObjCharPredicate) {
+            return (ObjCharPredicate<T>) original;
+        }
+        /**
+         * A {@code ObjCharPredicate} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements ObjCharPredicate<T> {
+
+            /**
+             * Creates the negation of this {@code ObjCharPredicate}.
+             */
+            Negation() {
+                super(Kind.NEGATION, ObjCharPredicate.this);
+            }
+
+            @Override
+            public boolean test(T t, char value) {
+                return !ObjCharPredicate.this.test(t, value);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -664,6 +946,12 @@ public interface ObjCharPredicate<T> extends Lambda {
     @Nonnull
     default ObjCharPredicate<T> and(@Nonnull ObjCharPredicate<? super T> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return (t, value) -> other.test(t, value);
+        }
         return (t, value) -> test(t, value) && other.test(t, value);
     }
 
@@ -685,6 +973,12 @@ public interface ObjCharPredicate<T> extends Lambda {
     @Nonnull
     default ObjCharPredicate<T> or(@Nonnull ObjCharPredicate<? super T> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return (t, value) -> other.test(t, value);
+        }
         return (t, value) -> test(t, value) || other.test(t, value);
     }
 
@@ -706,6 +1000,16 @@ public interface ObjCharPredicate<T> extends Lambda {
         return (t, value) -> test(t, value) ^ other.test(t, value);
     }
 
+    /**
+     * Returns a tupled version of this predicate.
+     *
+     * @return A tupled version of this predicate.
+     */
+    @Nonnull
+    default Predicate2<ObjCharPair<T>> tupled() {
+        return this::test;
+    }
+
     /**
      * Returns a memoized (caching) version of this {@link ObjCharPredicate}. Whenever it is called, the mapping between
      * the input parameters and the return value is preserved in a cache, making subsequent calls returning the memoized
@@ -725,13 +1029,82 @@ public interface ObjCharPredicate<T> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, Character>, Boolean> cache = new ConcurrentHashMap<>();
-            return (ObjCharPredicate<T> & Memoized) (t, value) -> {
-                return cache.computeIfAbsent(Pair.of(t, value), key -> test(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ObjCharPredicate}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code ObjCharPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ObjCharPredicate<T> memoized(@Nonnull MemoStore<ObjCharPair<T>, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (ObjCharPredicate<T> & Memoized) (t, value) -> {
+            return store.computeIfAbsent(ObjCharPair.of(t, value), key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjCharPredicate}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ObjCharPredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ObjCharPredicate<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjCharPredicate}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code ObjCharPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ObjCharPredicate<T> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<ObjCharPair<T>, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ObjCharPredicate<T> & Memoized) (t, value) -> {
+            return memoizer.computeIfAbsent(ObjCharPair.of(t, value), key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiPredicate2} which represents this {@link ObjCharPredicate}. Thereby the primitive
      * input argument for this predicate is autoboxed. This method provides the possibility to use this {@code
@@ -741,6 +1114,24 @@ public interface ObjCharPredicate<T> extends Lambda {
      */
     @Nonnull
     default BiPredicate2<T, Character> boxed() {
-        return this::test;
+        /**
+         * A {@code BiPredicate2} which applies this {@code ObjCharPredicate} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiPredicate2<T, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjCharPredicate}.
+             */
+            Boxed() {
+                super(ObjCharPredicate.this);
+            }
+
+            @Override
+            public boolean test(T t, Character u) {
+                return ObjCharPredicate.this.test(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -16,9 +16,8 @@
 
 package org.lambda4j.predicate.bi.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.DoubleUnaryOperator;
@@ -35,9 +34,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.bi.obj.ObjDoubleConsumer2;
 import org.lambda4j.function.BooleanFunction;
@@ -64,6 +65,11 @@ import org.lambda4j.function.conversion.ByteToDoubleFunction;
 import org.lambda4j.function.conversion.CharToDoubleFunction;
 import org.lambda4j.function.conversion.FloatToDoubleFunction;
 import org.lambda4j.function.conversion.ShortToDoubleFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.binary.BooleanBinaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.DoublePredicate2;
@@ -76,6 +82,7 @@ import org.lambda4j.predicate.bi.BiIntPredicate;
 import org.lambda4j.predicate.bi.BiLongPredicate;
 import org.lambda4j.predicate.bi.BiPredicate2;
 import org.lambda4j.predicate.bi.BiShortPredicate;
+import org.lambda4j.tuple.ObjDoublePair;
 
 /**
  * Represents an predicate (boolean-valued function) of one object-valued and one {@code double}-valued input argument.
@@ -111,6 +118,28 @@ public interface ObjDoublePredicate<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjDoublePredicate} which represents the given boxed predicate, so that it can be used with the
+     * primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * ObjDoublePredicate} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * predicate calls the given predicate, boxing its primitive arguments.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code ObjDoublePredicate} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjDoublePredicate<T> unboxed(@Nonnull BiPredicate<? super T, ? super Double> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof ObjDoublePredicate) {
+            return (ObjDoublePredicate<T>) original;
+        }
+        return (t, value) -> predicate.test(t, value);
+    }
+
     /**
      * Calls the given {@link ObjDoublePredicate} with the given arguments and returns its result.
      *
@@ -139,7 +168,25 @@ public interface ObjDoublePredicate<T> extends Lambda {
     @Nonnull
     static <T> ObjDoublePredicate<T> onlyFirst(@Nonnull Predicate<? super T> predicate) {
         Objects.requireNonNull(predicate);
-        return (t, value) -> predicate.test(t);
+        /**
+         * A {@code ObjDoublePredicate} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjDoublePredicate<T> {
+
+            /**
+             * Creates a {@code ObjDoublePredicate} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, predicate);
+            }
+
+            @Override
+            public boolean test(T t, double value) {
+                return predicate.test(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -155,11 +202,31 @@ public interface ObjDoublePredicate<T> extends Lambda {
     @Nonnull
     static <T> ObjDoublePredicate<T> onlySecond(@Nonnull DoublePredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (t, value) -> predicate.test(value);
+        /**
+         * A {@code ObjDoublePredicate} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjDoublePredicate<T> {
+
+            /**
+             * Creates a {@code ObjDoublePredicate} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, predicate);
+            }
+
+            @Override
+            public boolean test(T t, double value) {
+                return predicate.test(value);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
-     * Creates a {@link ObjDoublePredicate} which always returns a given value.
+     * Creates a {@link ObjDoublePredicate} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the predicate
      * @param ret The return value for the constant
@@ -167,7 +234,25 @@ public interface ObjDoublePredicate<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjDoublePredicate<T> constant(boolean ret) {
-        return (t, value) -> ret;
+        /**
+         * A {@code ObjDoublePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjDoublePredicate<T> {
+
+            /**
+             * Creates a constant {@code ObjDoublePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(T t, double value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -179,7 +264,25 @@ public interface ObjDoublePredicate<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjDoublePredicate<T> alwaysTrue() {
-        return (t, value) -> true;
+        /**
+         * A {@code ObjDoublePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjDoublePredicate<T> {
+
+            /**
+             * Creates a constant {@code ObjDoublePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(T t, double value) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -191,7 +294,25 @@ public interface ObjDoublePredicate<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjDoublePredicate<T> alwaysFalse() {
-        return (t, value) -> false;
+        /**
+         * A {@code ObjDoublePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjDoublePredicate<T> {
+
+            /**
+             * Creates a constant {@code ObjDoublePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(T t, double value) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -220,6 +341,93 @@ public interface ObjDoublePredicate<T> extends Lambda {
      */
     boolean test(T t, double value);
 
+    /**
+     * Applies this predicate to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the predicate
+     * @return The return value from the predicate, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ObjDoublePair
+     */
+    default boolean test(@Nonnull ObjDoublePair<T> tuple) {
+        Objects.requireNonNull(tuple);
+        return test(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the indices of the elements matching this predicate in
+     * ascending order in the given selection vector. Each array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the first argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * selection vector is shorter than the first argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull double[] values2, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values1.length; i++) {
+            selection[count] = i;
+            count += test(values1[i], values2[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in each array, and keeps
+     * only the indices of the elements matching this predicate in the selection vector, in their previous order. This
+     * refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull double[] values2, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values1[index], values2[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the results in the given bitmap, whose bit of index
+     * {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}. Each
+     * array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * bitmap holds fewer bits than the first argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull T[] values1, @Nonnull double[] values2, @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        BitmapUtils.clear(bitmap, values1.length);
+        for (int i = 0; i < values1.length; i++) {
+            bitmap[i >>> 6] |= (test(values1[i], values2[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Applies this predicate partially to some arguments of this one, producing a {@link DoublePredicate2} as result.
      *
@@ -462,10 +670,15 @@ public interface ObjDoublePredicate<T> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ObjDoubleFunction<T, S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleFunction.constant(after.apply(test(null, 0d)));
+        }
         return (t, value) -> after.apply(test(t, value));
     }
 
@@ -481,10 +694,18 @@ public interface ObjDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoublePredicate<T> andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ObjDoublePredicate.constant(after.applyAsBoolean(test(null, 0d)));
+        }
         return (t, value) -> after.applyAsBoolean(test(t, value));
     }
 
@@ -500,10 +721,15 @@ public interface ObjDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToByteFunction<T> andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToByteFunction.constant(after.applyAsByte(test(null, 0d)));
+        }
         return (t, value) -> after.applyAsByte(test(t, value));
     }
 
@@ -519,10 +745,15 @@ public interface ObjDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToCharFunction<T> andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToCharFunction.constant(after.applyAsChar(test(null, 0d)));
+        }
         return (t, value) -> after.applyAsChar(test(t, value));
     }
 
@@ -538,10 +769,15 @@ public interface ObjDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToDoubleFunction<T> andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToDoubleFunction.constant(after.applyAsDouble(test(null, 0d)));
+        }
         return (t, value) -> after.applyAsDouble(test(t, value));
     }
 
@@ -557,10 +793,15 @@ public interface ObjDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToFloatFunction<T> andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToFloatFunction.constant(after.applyAsFloat(test(null, 0d)));
+        }
         return (t, value) -> after.applyAsFloat(test(t, value));
     }
 
@@ -576,10 +817,15 @@ public interface ObjDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToIntFunction<T> andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToIntFunction.constant(after.applyAsInt(test(null, 0d)));
+        }
         return (t, value) -> after.applyAsInt(test(t, value));
     }
 
@@ -595,10 +841,15 @@ public interface ObjDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToLongFunction<T> andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToLongFunction.constant(after.applyAsLong(test(null, 0d)));
+        }
         return (t, value) -> after.applyAsLong(test(t, value));
     }
 
@@ -614,10 +865,15 @@ public interface ObjDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjDoubleToShortFunction<T> andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjDoubleToShortFunction.constant(after.applyAsShort(test(null, 0d)));
+        }
         return (t, value) -> after.applyAsShort(test(t, value));
     }
 
@@ -643,8 +899,34 @@ public interface ObjDoublePredicate<T> extends Lambda {
      * @return A {@code ObjDoublePredicate} that represents the logical negation of this one.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default ObjDoublePredicate<T> negate() {
-        return (t, value) -> !test(t, value);
+        if (Composition.isConstant(this)) {
+            return ObjDoublePredicate.constant(!test(null, 0d));
+        }
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof ObjDoublePredicate) {
+            return (ObjDoublePredicate<T>) original;
+        }
+        /**
+         * A {@code ObjDoublePredicate} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements ObjDoublePredicate<T> {
+
+            /**
+             * Creates the negation of this {@code ObjDoublePredicate}.
+             */
+            Negation() {
+                super(Kind.NEGATION, ObjDoublePredicate.this);
+            }
+
+            @Override
+            public boolean test(T t, double value) {
+                return !ObjDoublePredicate.this.test(t, value);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -665,6 +947,12 @@ public interface ObjDoublePredicate<T> extends Lambda {
     @Nonnull
     default ObjDoublePredicate<T> and(@Nonnull ObjDoublePredicate<? super T> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return (t, value) -> other.test(t, value);
+        }
         return (t, value) -> test(t, value) && other.test(t, value);
     }
 
@@ -686,6 +974,12 @@ public interface ObjDoublePredicate<T> extends Lambda {
     @Nonnull
     default ObjDoublePredicate<T> or(@Nonnull ObjDoublePredicate<? super T> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return (t, value) -> other.test(t, value);
+        }
         return (t, value) -> test(t, value) || other.test(t, value);
     }
 
@@ -707,6 +1001,16 @@ public interface ObjDoublePredicate<T> extends Lambda {
         return (t, value) -> test(t, value) ^ other.test(t, value);
     }
 
+    /**
+     * Returns a tupled version of this predicate.
+     *
+     * @return A tupled version of this predicate.
+     */
+    @Nonnull
+    default Predicate2<ObjDoublePair<T>> tupled() {
+        return this::test;
+    }
+
     /**
      * Returns a memoized (caching) version of this {@link ObjDoublePredicate}. Whenever it is called, the mapping
      * between the input parameters and the return value is preserved in a cache, making subsequent calls returning the
@@ -726,13 +1030,82 @@ public interface ObjDoublePredicate<T> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Pair<T, Double>, Boolean> cache = new ConcurrentHashMap<>();
-            return (ObjDoublePredicate<T> & Memoized) (t, value) -> {
-                return cache.computeIfAbsent(Pair.of(t, value), key -> test(key.getLeft(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ObjDoublePredicate}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code ObjDoublePredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ObjDoublePredicate<T> memoized(@Nonnull MemoStore<ObjDoublePair<T>, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (ObjDoublePredicate<T> & Memoized) (t, value) -> {
+            return store.computeIfAbsent(ObjDoublePair.of(t, value), key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjDoublePredicate}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ObjDoublePredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ObjDoublePredicate<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjDoublePredicate}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code ObjDoublePredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ObjDoublePredicate<T> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<ObjDoublePair<T>, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ObjDoublePredicate<T> & Memoized) (t, value) -> {
+            return memoizer.computeIfAbsent(ObjDoublePair.of(t, value), key -> test(key.getLeft(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiPredicate2} which represents this {@link ObjDoublePredicate}. Thereby the primitive
      * input argument for this predicate is autoboxed. This method provides the possibility to use this {@code
@@ -742,6 +1115,24 @@ public interface ObjDoublePredicate<T> extends Lambda {
      */
     @Nonnull
     default BiPredicate2<T, Double> boxed() {
-        return this::test;
+        /**
+         * A {@code BiPredicate2} which applies this {@code ObjDoublePredicate} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements BiPredicate2<T, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjDoublePredicate}.
+             */
+            Boxed() {
+                super(ObjDoublePredicate.this);
+            }
+
+            @Override
+            public boolean test(T t, Double u) {
+                return ObjDoublePredicate.this.test(t, u);
+            }
+        }
+
+        return new Boxed();
     }
 }
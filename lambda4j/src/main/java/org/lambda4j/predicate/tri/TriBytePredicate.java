@@ -16,18 +16,18 @@
 
 package org.lambda4j.predicate.tri;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.tri.TriByteConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -52,12 +52,19 @@ import org.lambda4j.function.tri.conversion.TriByteToFloatFunction;
 import org.lambda4j.function.tri.conversion.TriByteToIntFunction;
 import org.lambda4j.function.tri.conversion.TriByteToLongFunction;
 import org.lambda4j.function.tri.conversion.TriByteToShortFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.BooleanTernaryOperator;
 import org.lambda4j.operator.ternary.ByteTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.ByteUnaryOperator;
 import org.lambda4j.predicate.BytePredicate;
+import org.lambda4j.predicate.Predicate2;
 import org.lambda4j.predicate.bi.BiBytePredicate;
+import org.lambda4j.tuple.ByteTriple;
 
 /**
  * Represents an predicate (boolean-valued function) of three {@code byte}-valued input arguments. This is a primitive
@@ -91,6 +98,26 @@ public interface TriBytePredicate extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link TriBytePredicate} which represents the given boxed predicate, so that it can be used with the
+     * primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * TriBytePredicate} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * predicate calls the given predicate, boxing its primitive arguments.
+     *
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code TriBytePredicate} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static TriBytePredicate unboxed(@Nonnull TriPredicate<? super Byte, ? super Byte, ? super Byte> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof TriBytePredicate) {
+            return (TriBytePredicate) original;
+        }
+        return (value1, value2, value3) -> predicate.test(value1, value2, value3);
+    }
+
     /**
      * Calls the given {@link TriBytePredicate} with the given arguments and returns its result.
      *
@@ -118,7 +145,25 @@ public interface TriBytePredicate extends Lambda {
     @Nonnull
     static TriBytePredicate onlyFirst(@Nonnull BytePredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (value1, value2, value3) -> predicate.test(value1);
+        /**
+         * A {@code TriBytePredicate} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriBytePredicate {
+
+            /**
+             * Creates a {@code TriBytePredicate} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, predicate);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2, byte value3) {
+                return predicate.test(value1);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -133,7 +178,25 @@ public interface TriBytePredicate extends Lambda {
     @Nonnull
     static TriBytePredicate onlySecond(@Nonnull BytePredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (value1, value2, value3) -> predicate.test(value2);
+        /**
+         * A {@code TriBytePredicate} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriBytePredicate {
+
+            /**
+             * Creates a {@code TriBytePredicate} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, predicate);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2, byte value3) {
+                return predicate.test(value2);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -148,18 +211,56 @@ public interface TriBytePredicate extends Lambda {
     @Nonnull
     static TriBytePredicate onlyThird(@Nonnull BytePredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (value1, value2, value3) -> predicate.test(value3);
+        /**
+         * A {@code TriBytePredicate} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriBytePredicate {
+
+            /**
+             * Creates a {@code TriBytePredicate} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, predicate);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2, byte value3) {
+                return predicate.test(value3);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriBytePredicate} which always returns a given value.
+     * Creates a {@link TriBytePredicate} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code TriBytePredicate} which always returns a given value.
      */
     @Nonnull
     static TriBytePredicate constant(boolean ret) {
-        return (value1, value2, value3) -> ret;
+        /**
+         * A {@code TriBytePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriBytePredicate {
+
+            /**
+             * Creates a constant {@code TriBytePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2, byte value3) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -170,7 +271,25 @@ public interface TriBytePredicate extends Lambda {
      */
     @Nonnull
     static TriBytePredicate alwaysTrue() {
-        return (value1, value2, value3) -> true;
+        /**
+         * A {@code TriBytePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriBytePredicate {
+
+            /**
+             * Creates a constant {@code TriBytePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2, byte value3) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -181,7 +300,25 @@ public interface TriBytePredicate extends Lambda {
      */
     @Nonnull
     static TriBytePredicate alwaysFalse() {
-        return (value1, value2, value3) -> false;
+        /**
+         * A {@code TriBytePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriBytePredicate {
+
+            /**
+             * Creates a constant {@code TriBytePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2, byte value3) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -211,6 +348,100 @@ public interface TriBytePredicate extends Lambda {
      */
     boolean test(byte value1, byte value2, byte value3);
 
+    /**
+     * Applies this predicate to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the predicate
+     * @return The return value from the predicate, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ByteTriple
+     */
+    default boolean test(@Nonnull ByteTriple tuple) {
+        Objects.requireNonNull(tuple);
+        return test(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the indices of the elements matching this predicate in
+     * ascending order in the given selection vector. Each array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the first argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * selection vector is shorter than the first argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] values3,
+            @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        KernelUtils.checkRange(0, values1.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values1.length; i++) {
+            selection[count] = i;
+            count += test(values1[i], values2[i], values3[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in each array, and keeps
+     * only the indices of the elements matching this predicate in the selection vector, in their previous order. This
+     * refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] values3,
+            @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values1[index], values2[index], values3[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the results in the given bitmap, whose bit of index
+     * {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}. Each
+     * array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * bitmap holds fewer bits than the first argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull byte[] values1, @Nonnull byte[] values2, @Nonnull byte[] values3,
+            @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        BitmapUtils.clear(bitmap, values1.length);
+        for (int i = 0; i < values1.length; i++) {
+            bitmap[i >>> 6] |= (test(values1[i], values2[i], values3[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Applies this predicate partially to some arguments of this one, producing a {@link BiBytePredicate} as result.
      *
@@ -316,6 +547,9 @@ public interface TriBytePredicate extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (Composition.isIdentity(before1) && Composition.isIdentity(before2) && Composition.isIdentity(before3)) {
+            return this;
+        }
         return (value1, value2, value3) -> test(before1.applyAsByte(value1), before2.applyAsByte(value2),
                 before3.applyAsByte(value3));
     }
@@ -481,10 +715,15 @@ public interface TriBytePredicate extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriByteFunction<S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteFunction.constant(after.apply(test((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.apply(test(value1, value2, value3));
     }
 
@@ -500,10 +739,18 @@ public interface TriBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriBytePredicate andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return TriBytePredicate.constant(after.applyAsBoolean(test((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsBoolean(test(value1, value2, value3));
     }
 
@@ -519,10 +766,15 @@ public interface TriBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteTernaryOperator andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ByteTernaryOperator.constant(after.applyAsByte(test((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsByte(test(value1, value2, value3));
     }
 
@@ -538,10 +790,15 @@ public interface TriBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToCharFunction andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToCharFunction.constant(after.applyAsChar(test((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsChar(test(value1, value2, value3));
     }
 
@@ -557,10 +814,15 @@ public interface TriBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToDoubleFunction andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToDoubleFunction.constant(after.applyAsDouble(test((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsDouble(test(value1, value2, value3));
     }
 
@@ -576,10 +838,15 @@ public interface TriBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToFloatFunction andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToFloatFunction.constant(after.applyAsFloat(test((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsFloat(test(value1, value2, value3));
     }
 
@@ -595,10 +862,15 @@ public interface TriBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToIntFunction andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToIntFunction.constant(after.applyAsInt(test((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsInt(test(value1, value2, value3));
     }
 
@@ -614,10 +886,15 @@ public interface TriBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToLongFunction andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToLongFunction.constant(after.applyAsLong(test((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsLong(test(value1, value2, value3));
     }
 
@@ -633,10 +910,15 @@ public interface TriBytePredicate extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default TriByteToShortFunction andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriByteToShortFunction.constant(after.applyAsShort(test((byte) 0, (byte) 0, (byte) 0)));
+        }
         return (value1, value2, value3) -> after.applyAsShort(test(value1, value2, value3));
     }
 
@@ -663,7 +945,32 @@ public interface TriBytePredicate extends Lambda {
      */
     @Nonnull
     default TriBytePredicate negate() {
-        return (value1, value2, value3) -> !test(value1, value2, value3);
+        if (Composition.isConstant(this)) {
+            return TriBytePredicate.constant(!test((byte) 0, (byte) 0, (byte) 0));
+        }
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof TriBytePredicate) {
+            return (TriBytePredicate) original;
+        }
+        /**
+         * A {@code TriBytePredicate} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements TriBytePredicate {
+
+            /**
+             * Creates the negation of this {@code TriBytePredicate}.
+             */
+            Negation() {
+                super(Kind.NEGATION, TriBytePredicate.this);
+            }
+
+            @Override
+            public boolean test(byte value1, byte value2, byte value3) {
+                return !TriBytePredicate.this.test(value1, value2, value3);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -684,6 +991,14 @@ public interface TriBytePredicate extends Lambda {
     @Nonnull
     default TriBytePredicate and(@Nonnull TriBytePredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return other instanceof TriBytePredicate
+                    ? (TriBytePredicate) other
+                    : (value1, value2, value3) -> other.test(value1, value2, value3);
+        }
         return (value1, value2, value3) -> test(value1, value2, value3) && other.test(value1, value2, value3);
     }
 
@@ -705,6 +1020,14 @@ public interface TriBytePredicate extends Lambda {
     @Nonnull
     default TriBytePredicate or(@Nonnull TriBytePredicate other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return other instanceof TriBytePredicate
+                    ? (TriBytePredicate) other
+                    : (value1, value2, value3) -> other.test(value1, value2, value3);
+        }
         return (value1, value2, value3) -> test(value1, value2, value3) || other.test(value1, value2, value3);
     }
 
@@ -726,6 +1049,16 @@ public interface TriBytePredicate extends Lambda {
         return (value1, value2, value3) -> test(value1, value2, value3) ^ other.test(value1, value2, value3);
     }
 
+    /**
+     * Returns a tupled version of this predicate.
+     *
+     * @return A tupled version of this predicate.
+     */
+    @Nonnull
+    default Predicate2<ByteTriple> tupled() {
+        return this::test;
+    }
+
     /**
      * Returns a reversed version of this predicate. This may be useful in recursive context.
      *
@@ -733,7 +1066,29 @@ public interface TriBytePredicate extends Lambda {
      */
     @Nonnull
     default TriBytePredicate reversed() {
-        return (value3, value2, value1) -> test(value1, value2, value3);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriBytePredicate) {
+            return (TriBytePredicate) original;
+        }
+        /**
+         * A {@code TriBytePredicate} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriBytePredicate {
+
+            /**
+             * Creates the reversal of this {@code TriBytePredicate}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriBytePredicate.this);
+            }
+
+            @Override
+            public boolean test(byte value3, byte value2, byte value1) {
+                return TriBytePredicate.this.test(value1, value2, value3);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -755,14 +1110,84 @@ public interface TriBytePredicate extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<Byte, Byte, Byte>, Boolean> cache = new ConcurrentHashMap<>();
-            return (TriBytePredicate & Memoized) (value1, value2, value3) -> {
-                return cache.computeIfAbsent(Triple.of(value1, value2, value3),
-                        key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
+        }
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link TriBytePredicate}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code TriBytePredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriBytePredicate memoized(@Nonnull MemoStore<ByteTriple, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (TriBytePredicate & Memoized) (value1, value2, value3) -> {
+            return store.computeIfAbsent(ByteTriple.of(value1, value2, value3),
+                    key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriBytePredicate}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriBytePredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriBytePredicate adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
         }
     }
 
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriBytePredicate}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code TriBytePredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriBytePredicate adaptivelyMemoized(@Nonnull AdaptiveMemoizer<ByteTriple, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriBytePredicate & Memoized) (value1, value2, value3) -> {
+            return memoizer.computeIfAbsent(ByteTriple.of(value1, value2, value3),
+                    key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriPredicate} which represents this {@link TriBytePredicate}. Thereby the primitive
      * input argument for this predicate is autoboxed. This method provides the possibility to use this {@code
@@ -772,6 +1197,24 @@ public interface TriBytePredicate extends Lambda {
      */
     @Nonnull
     default TriPredicate<Byte, Byte, Byte> boxed() {
-        return this::test;
+        /**
+         * A {@code TriPredicate} which applies this {@code TriBytePredicate} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriPredicate<Byte, Byte, Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code TriBytePredicate}.
+             */
+            Boxed() {
+                super(TriBytePredicate.this);
+            }
+
+            @Override
+            public boolean test(Byte t, Byte u, Byte v) {
+                return TriBytePredicate.this.test(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
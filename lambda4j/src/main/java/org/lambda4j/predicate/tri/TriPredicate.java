@@ -16,9 +16,7 @@
 
 package org.lambda4j.predicate.tri;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -33,6 +31,9 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.tri.TriConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -55,6 +56,11 @@ import org.lambda4j.function.tri.to.ToFloatTriFunction;
 import org.lambda4j.function.tri.to.ToIntTriFunction;
 import org.lambda4j.function.tri.to.ToLongTriFunction;
 import org.lambda4j.function.tri.to.ToShortTriFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.BooleanTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.Predicate2;
@@ -130,7 +136,25 @@ public interface TriPredicate<T, U, V> extends Lambda {
     @Nonnull
     static <T, U, V> TriPredicate<T, U, V> onlyFirst(@Nonnull Predicate<? super T> predicate) {
         Objects.requireNonNull(predicate);
-        return (t, u, v) -> predicate.test(t);
+        /**
+         * A {@code TriPredicate} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements TriPredicate<T, U, V> {
+
+            /**
+             * Creates a {@code TriPredicate} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, predicate);
+            }
+
+            @Override
+            public boolean test(T t, U u, V v) {
+                return predicate.test(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -148,7 +172,25 @@ public interface TriPredicate<T, U, V> extends Lambda {
     @Nonnull
     static <T, U, V> TriPredicate<T, U, V> onlySecond(@Nonnull Predicate<? super U> predicate) {
         Objects.requireNonNull(predicate);
-        return (t, u, v) -> predicate.test(u);
+        /**
+         * A {@code TriPredicate} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements TriPredicate<T, U, V> {
+
+            /**
+             * Creates a {@code TriPredicate} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, predicate);
+            }
+
+            @Override
+            public boolean test(T t, U u, V v) {
+                return predicate.test(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -166,11 +208,30 @@ public interface TriPredicate<T, U, V> extends Lambda {
     @Nonnull
     static <T, U, V> TriPredicate<T, U, V> onlyThird(@Nonnull Predicate<? super V> predicate) {
         Objects.requireNonNull(predicate);
-        return (t, u, v) -> predicate.test(v);
+        /**
+         * A {@code TriPredicate} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements TriPredicate<T, U, V> {
+
+            /**
+             * Creates a {@code TriPredicate} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, predicate);
+            }
+
+            @Override
+            public boolean test(T t, U u, V v) {
+                return predicate.test(v);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link TriPredicate} which always returns a given value.
+     * Creates a {@link TriPredicate} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param <T> The type of the first argument to the predicate
      * @param <U> The type of the second argument to the predicate
@@ -180,7 +241,25 @@ public interface TriPredicate<T, U, V> extends Lambda {
      */
     @Nonnull
     static <T, U, V> TriPredicate<T, U, V> constant(boolean ret) {
-        return (t, u, v) -> ret;
+        /**
+         * A {@code TriPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriPredicate<T, U, V> {
+
+            /**
+             * Creates a constant {@code TriPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(T t, U u, V v) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -194,7 +273,25 @@ public interface TriPredicate<T, U, V> extends Lambda {
      */
     @Nonnull
     static <T, U, V> TriPredicate<T, U, V> alwaysTrue() {
-        return (t, u, v) -> true;
+        /**
+         * A {@code TriPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriPredicate<T, U, V> {
+
+            /**
+             * Creates a constant {@code TriPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(T t, U u, V v) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -208,7 +305,25 @@ public interface TriPredicate<T, U, V> extends Lambda {
      */
     @Nonnull
     static <T, U, V> TriPredicate<T, U, V> alwaysFalse() {
-        return (t, u, v) -> false;
+        /**
+         * A {@code TriPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements TriPredicate<T, U, V> {
+
+            /**
+             * Creates a constant {@code TriPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(T t, U u, V v) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -255,6 +370,85 @@ public interface TriPredicate<T, U, V> extends Lambda {
         return test(tuple.getLeft(), tuple.getMiddle(), tuple.getRight());
     }
 
+    /**
+     * Tests the elements at each index of each array, and stores the indices of the elements matching this predicate in
+     * ascending order in the given selection vector. Each array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the first argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * selection vector is shorter than the first argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull V[] values3, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        KernelUtils.checkRange(0, values1.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values1.length; i++) {
+            selection[count] = i;
+            count += test(values1[i], values2[i], values3[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in each array, and keeps
+     * only the indices of the elements matching this predicate in the selection vector, in their previous order. This
+     * refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull V[] values3, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values1[index], values2[index], values3[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the results in the given bitmap, whose bit of index
+     * {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}. Each
+     * array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * bitmap holds fewer bits than the first argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull V[] values3, @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        BitmapUtils.clear(bitmap, values1.length);
+        for (int i = 0; i < values1.length; i++) {
+            bitmap[i >>> 6] |= (test(values1[i], values2[i], values3[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Applies this predicate partially to some arguments of this one, producing a {@link BiPredicate2} as result.
      *
@@ -517,10 +711,15 @@ public interface TriPredicate<T, U, V> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> TriFunction<T, U, V, S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return TriFunction.constant(after.apply(test(null, null, null)));
+        }
         return (t, u, v) -> after.apply(test(t, u, v));
     }
 
@@ -540,6 +739,9 @@ public interface TriPredicate<T, U, V> extends Lambda {
     @Nonnull
     default TriPredicate<T, U, V> andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
         return (t, u, v) -> after.applyAsBoolean(test(t, u, v));
     }
 
@@ -555,10 +757,15 @@ public interface TriPredicate<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToByteTriFunction<T, U, V> andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToByteTriFunction.constant(after.applyAsByte(test(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsByte(test(t, u, v));
     }
 
@@ -574,10 +781,15 @@ public interface TriPredicate<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToCharTriFunction<T, U, V> andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToCharTriFunction.constant(after.applyAsChar(test(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsChar(test(t, u, v));
     }
 
@@ -593,10 +805,15 @@ public interface TriPredicate<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToDoubleTriFunction<T, U, V> andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToDoubleTriFunction.constant(after.applyAsDouble(test(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsDouble(test(t, u, v));
     }
 
@@ -612,10 +829,15 @@ public interface TriPredicate<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToFloatTriFunction<T, U, V> andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToFloatTriFunction.constant(after.applyAsFloat(test(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsFloat(test(t, u, v));
     }
 
@@ -631,10 +853,15 @@ public interface TriPredicate<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToIntTriFunction<T, U, V> andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToIntTriFunction.constant(after.applyAsInt(test(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsInt(test(t, u, v));
     }
 
@@ -650,10 +877,15 @@ public interface TriPredicate<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToLongTriFunction<T, U, V> andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToLongTriFunction.constant(after.applyAsLong(test(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsLong(test(t, u, v));
     }
 
@@ -669,10 +901,15 @@ public interface TriPredicate<T, U, V> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ToShortTriFunction<T, U, V> andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ToShortTriFunction.constant(after.applyAsShort(test(null, null, null)));
+        }
         return (t, u, v) -> after.applyAsShort(test(t, u, v));
     }
 
@@ -698,8 +935,31 @@ public interface TriPredicate<T, U, V> extends Lambda {
      * @return A {@code TriPredicate} that represents the logical negation of this one.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default TriPredicate<T, U, V> negate() {
-        return (t, u, v) -> !test(t, u, v);
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof TriPredicate) {
+            return (TriPredicate<T, U, V>) original;
+        }
+        /**
+         * A {@code TriPredicate} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements TriPredicate<T, U, V> {
+
+            /**
+             * Creates the negation of this {@code TriPredicate}.
+             */
+            Negation() {
+                super(Kind.NEGATION, TriPredicate.this);
+            }
+
+            @Override
+            public boolean test(T t, U u, V v) {
+                return !TriPredicate.this.test(t, u, v);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -720,6 +980,12 @@ public interface TriPredicate<T, U, V> extends Lambda {
     @Nonnull
     default TriPredicate<T, U, V> and(@Nonnull TriPredicate<? super T, ? super U, ? super V> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return (t, u, v) -> other.test(t, u, v);
+        }
         return (t, u, v) -> test(t, u, v) && other.test(t, u, v);
     }
 
@@ -741,6 +1007,12 @@ public interface TriPredicate<T, U, V> extends Lambda {
     @Nonnull
     default TriPredicate<T, U, V> or(@Nonnull TriPredicate<? super T, ? super U, ? super V> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return (t, u, v) -> other.test(t, u, v);
+        }
         return (t, u, v) -> test(t, u, v) || other.test(t, u, v);
     }
 
@@ -778,8 +1050,31 @@ public interface TriPredicate<T, U, V> extends Lambda {
      * @return A reversed version of this predicate.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default TriPredicate<V, U, T> reversed() {
-        return (v, u, t) -> test(t, u, v);
+        Object original = Composition.getOriginal(this, Kind.REVERSAL);
+        if (original instanceof TriPredicate) {
+            return (TriPredicate<V, U, T>) original;
+        }
+        /**
+         * A {@code TriPredicate} which applies this one to its input arguments in reversed order.
+         */
+        final class Reversal extends AbstractCanonical implements TriPredicate<V, U, T> {
+
+            /**
+             * Creates the reversal of this {@code TriPredicate}.
+             */
+            Reversal() {
+                super(Kind.REVERSAL, TriPredicate.this);
+            }
+
+            @Override
+            public boolean test(V v, U u, T t) {
+                return TriPredicate.this.test(t, u, v);
+            }
+        }
+
+        return new Reversal();
     }
 
     /**
@@ -801,11 +1096,81 @@ public interface TriPredicate<T, U, V> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, U, V>, Boolean> cache = new ConcurrentHashMap<>();
-            return (TriPredicate<T, U, V> & Memoized) (t, u, v) -> {
-                return cache.computeIfAbsent(Triple.of(t, u, v),
-                        key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
+
+    /**
+     * Returns a memoized (caching) version of this {@link TriPredicate}, which caches its values in the given {@link
+     * MemoStore}. Whenever it is called, the return value is looked up in the given store using the input parameters as
+     * key, and only computed if the store does not hold a value for them yet. This allows to choose how and where the
+     * values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code TriPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default TriPredicate<T, U, V> memoized(@Nonnull MemoStore<Triple<T, U, V>, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (TriPredicate<T, U, V> & Memoized) (t, u, v) -> {
+            return store.computeIfAbsent(Triple.of(t, u, v),
+                    key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriPredicate}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code TriPredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default TriPredicate<T, U, V> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link TriPredicate}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code TriPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default TriPredicate<T, U, V> adaptivelyMemoized(@Nonnull AdaptiveMemoizer<Triple<T, U, V>, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (TriPredicate<T, U, V> & Memoized) (t, u, v) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, u, v),
+                    key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
 }
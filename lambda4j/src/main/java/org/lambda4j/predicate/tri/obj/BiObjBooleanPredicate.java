@@ -16,9 +16,7 @@
 
 package org.lambda4j.predicate.tri.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -37,6 +35,10 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.tri.obj.BiObjBooleanConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -59,6 +61,11 @@ import org.lambda4j.function.tri.obj.BiObjBooleanToFloatFunction;
 import org.lambda4j.function.tri.obj.BiObjBooleanToIntFunction;
 import org.lambda4j.function.tri.obj.BiObjBooleanToLongFunction;
 import org.lambda4j.function.tri.obj.BiObjBooleanToShortFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.BooleanTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.BytePredicate;
@@ -113,6 +120,30 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiObjBooleanPredicate} which represents the given boxed predicate, so that it can be used with
+     * the primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * BiObjBooleanPredicate} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * predicate calls the given predicate, boxing its primitive arguments.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param <U> The type of the second argument to the predicate
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code BiObjBooleanPredicate} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U> BiObjBooleanPredicate<T, U> unboxed(
+            @Nonnull TriPredicate<? super T, ? super U, ? super Boolean> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof BiObjBooleanPredicate) {
+            return (BiObjBooleanPredicate<T, U>) original;
+        }
+        return (t, u, value) -> predicate.test(t, u, value);
+    }
+
     /**
      * Calls the given {@link BiObjBooleanPredicate} with the given arguments and returns its result.
      *
@@ -145,7 +176,25 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjBooleanPredicate<T, U> onlyFirst(@Nonnull Predicate<? super T> predicate) {
         Objects.requireNonNull(predicate);
-        return (t, u, value) -> predicate.test(t);
+        /**
+         * A {@code BiObjBooleanPredicate} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiObjBooleanPredicate<T, U> {
+
+            /**
+             * Creates a {@code BiObjBooleanPredicate} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, predicate);
+            }
+
+            @Override
+            public boolean test(T t, U u, boolean value) {
+                return predicate.test(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -162,7 +211,25 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjBooleanPredicate<T, U> onlySecond(@Nonnull Predicate<? super U> predicate) {
         Objects.requireNonNull(predicate);
-        return (t, u, value) -> predicate.test(u);
+        /**
+         * A {@code BiObjBooleanPredicate} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiObjBooleanPredicate<T, U> {
+
+            /**
+             * Creates a {@code BiObjBooleanPredicate} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, predicate);
+            }
+
+            @Override
+            public boolean test(T t, U u, boolean value) {
+                return predicate.test(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -179,11 +246,31 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjBooleanPredicate<T, U> onlyThird(@Nonnull BooleanUnaryOperator operator) {
         Objects.requireNonNull(operator);
-        return (t, u, value) -> operator.applyAsBoolean(value);
+        /**
+         * A {@code BiObjBooleanPredicate} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements BiObjBooleanPredicate<T, U> {
+
+            /**
+             * Creates a {@code BiObjBooleanPredicate} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, operator);
+            }
+
+            @Override
+            public boolean test(T t, U u, boolean value) {
+                return operator.applyAsBoolean(value);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link BiObjBooleanPredicate} which always returns a given value.
+     * Creates a {@link BiObjBooleanPredicate} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the predicate
      * @param <U> The type of the second argument to the predicate
@@ -192,7 +279,25 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> BiObjBooleanPredicate<T, U> constant(boolean ret) {
-        return (t, u, value) -> ret;
+        /**
+         * A {@code BiObjBooleanPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiObjBooleanPredicate<T, U> {
+
+            /**
+             * Creates a constant {@code BiObjBooleanPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(T t, U u, boolean value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -205,7 +310,25 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> BiObjBooleanPredicate<T, U> alwaysTrue() {
-        return (t, u, value) -> true;
+        /**
+         * A {@code BiObjBooleanPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiObjBooleanPredicate<T, U> {
+
+            /**
+             * Creates a constant {@code BiObjBooleanPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(T t, U u, boolean value) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -218,7 +341,25 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> BiObjBooleanPredicate<T, U> alwaysFalse() {
-        return (t, u, value) -> false;
+        /**
+         * A {@code BiObjBooleanPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiObjBooleanPredicate<T, U> {
+
+            /**
+             * Creates a constant {@code BiObjBooleanPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(T t, U u, boolean value) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -253,6 +394,86 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      */
     boolean test(T t, U u, boolean value);
 
+    /**
+     * Tests the elements at each index of each array, and stores the indices of the elements matching this predicate in
+     * ascending order in the given selection vector. Each array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the first argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * selection vector is shorter than the first argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull boolean[] values3,
+            @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        KernelUtils.checkRange(0, values1.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values1.length; i++) {
+            selection[count] = i;
+            count += test(values1[i], values2[i], values3[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in each array, and keeps
+     * only the indices of the elements matching this predicate in the selection vector, in their previous order. This
+     * refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull boolean[] values3, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values1[index], values2[index], values3[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the results in the given bitmap, whose bit of index
+     * {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}. Each
+     * array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * bitmap holds fewer bits than the first argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull boolean[] values3, @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        BitmapUtils.clear(bitmap, values1.length);
+        for (int i = 0; i < values1.length; i++) {
+            bitmap[i >>> 6] |= (test(values1[i], values2[i], values3[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Applies this predicate to the given tuple.
      *
@@ -555,10 +776,15 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiObjBooleanFunction<T, U, S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanFunction.constant(after.apply(test(null, null, false)));
+        }
         return (t, u, value) -> after.apply(test(t, u, value));
     }
 
@@ -578,6 +804,9 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
     @Nonnull
     default BiObjBooleanPredicate<T, U> andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
         return (t, u, value) -> after.applyAsBoolean(test(t, u, value));
     }
 
@@ -593,10 +822,15 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToByteFunction<T, U> andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToByteFunction.constant(after.applyAsByte(test(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsByte(test(t, u, value));
     }
 
@@ -612,10 +846,15 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToCharFunction<T, U> andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToCharFunction.constant(after.applyAsChar(test(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsChar(test(t, u, value));
     }
 
@@ -631,10 +870,15 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToDoubleFunction<T, U> andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToDoubleFunction.constant(after.applyAsDouble(test(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsDouble(test(t, u, value));
     }
 
@@ -650,10 +894,15 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToFloatFunction<T, U> andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToFloatFunction.constant(after.applyAsFloat(test(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsFloat(test(t, u, value));
     }
 
@@ -669,10 +918,15 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToIntFunction<T, U> andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToIntFunction.constant(after.applyAsInt(test(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsInt(test(t, u, value));
     }
 
@@ -688,10 +942,15 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToLongFunction<T, U> andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToLongFunction.constant(after.applyAsLong(test(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsLong(test(t, u, value));
     }
 
@@ -707,10 +966,15 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjBooleanToShortFunction<T, U> andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjBooleanToShortFunction.constant(after.applyAsShort(test(null, null, false)));
+        }
         return (t, u, value) -> after.applyAsShort(test(t, u, value));
     }
 
@@ -736,8 +1000,31 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * @return A {@code BiObjBooleanPredicate} that represents the logical negation of this one.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default BiObjBooleanPredicate<T, U> negate() {
-        return (t, u, value) -> !test(t, u, value);
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof BiObjBooleanPredicate) {
+            return (BiObjBooleanPredicate<T, U>) original;
+        }
+        /**
+         * A {@code BiObjBooleanPredicate} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements BiObjBooleanPredicate<T, U> {
+
+            /**
+             * Creates the negation of this {@code BiObjBooleanPredicate}.
+             */
+            Negation() {
+                super(Kind.NEGATION, BiObjBooleanPredicate.this);
+            }
+
+            @Override
+            public boolean test(T t, U u, boolean value) {
+                return !BiObjBooleanPredicate.this.test(t, u, value);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -758,6 +1045,12 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
     @Nonnull
     default BiObjBooleanPredicate<T, U> and(@Nonnull BiObjBooleanPredicate<? super T, ? super U> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return (t, u, value) -> other.test(t, u, value);
+        }
         return (t, u, value) -> test(t, u, value) && other.test(t, u, value);
     }
 
@@ -779,6 +1072,12 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
     @Nonnull
     default BiObjBooleanPredicate<T, U> or(@Nonnull BiObjBooleanPredicate<? super T, ? super U> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return (t, u, value) -> other.test(t, u, value);
+        }
         return (t, u, value) -> test(t, u, value) || other.test(t, u, value);
     }
 
@@ -829,14 +1128,85 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, U, Boolean>, Boolean> cache = new ConcurrentHashMap<>();
-            return (BiObjBooleanPredicate<T, U> & Memoized) (t, u, value) -> {
-                return cache.computeIfAbsent(Triple.of(t, u, value),
-                        key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link BiObjBooleanPredicate}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code BiObjBooleanPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiObjBooleanPredicate<T, U> memoized(@Nonnull MemoStore<Triple<T, U, Boolean>, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (BiObjBooleanPredicate<T, U> & Memoized) (t, u, value) -> {
+            return store.computeIfAbsent(Triple.of(t, u, value),
+                    key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiObjBooleanPredicate}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiObjBooleanPredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiObjBooleanPredicate<T, U> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiObjBooleanPredicate}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code BiObjBooleanPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiObjBooleanPredicate<T, U> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, U, Boolean>, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiObjBooleanPredicate<T, U> & Memoized) (t, u, value) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, u, value),
+                    key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriPredicate} which represents this {@link BiObjBooleanPredicate}. Thereby the
      * primitive input argument for this predicate is autoboxed. This method provides the possibility to use this {@code
@@ -846,6 +1216,24 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      */
     @Nonnull
     default TriPredicate<T, U, Boolean> boxed() {
-        return this::test;
+        /**
+         * A {@code TriPredicate} which applies this {@code BiObjBooleanPredicate} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriPredicate<T, U, Boolean> {
+
+            /**
+             * Creates the boxed variant of this {@code BiObjBooleanPredicate}.
+             */
+            Boxed() {
+                super(BiObjBooleanPredicate.this);
+            }
+
+            @Override
+            public boolean test(T t, U u, Boolean v) {
+                return BiObjBooleanPredicate.this.test(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
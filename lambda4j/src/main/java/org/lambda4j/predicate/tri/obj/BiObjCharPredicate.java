@@ -16,9 +16,7 @@
 
 package org.lambda4j.predicate.tri.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -34,6 +32,10 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.tri.obj.BiObjCharConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -63,6 +65,11 @@ import org.lambda4j.function.tri.obj.BiObjCharToFloatFunction;
 import org.lambda4j.function.tri.obj.BiObjCharToIntFunction;
 import org.lambda4j.function.tri.obj.BiObjCharToLongFunction;
 import org.lambda4j.function.tri.obj.BiObjCharToShortFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.BooleanTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.operator.unary.CharUnaryOperator;
@@ -115,6 +122,30 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link BiObjCharPredicate} which represents the given boxed predicate, so that it can be used with the
+     * primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * BiObjCharPredicate} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * predicate calls the given predicate, boxing its primitive arguments.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param <U> The type of the second argument to the predicate
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code BiObjCharPredicate} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U> BiObjCharPredicate<T, U> unboxed(
+            @Nonnull TriPredicate<? super T, ? super U, ? super Character> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof BiObjCharPredicate) {
+            return (BiObjCharPredicate<T, U>) original;
+        }
+        return (t, u, value) -> predicate.test(t, u, value);
+    }
+
     /**
      * Calls the given {@link BiObjCharPredicate} with the given arguments and returns its result.
      *
@@ -147,7 +178,25 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjCharPredicate<T, U> onlyFirst(@Nonnull Predicate<? super T> predicate) {
         Objects.requireNonNull(predicate);
-        return (t, u, value) -> predicate.test(t);
+        /**
+         * A {@code BiObjCharPredicate} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements BiObjCharPredicate<T, U> {
+
+            /**
+             * Creates a {@code BiObjCharPredicate} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, predicate);
+            }
+
+            @Override
+            public boolean test(T t, U u, char value) {
+                return predicate.test(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -164,7 +213,25 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjCharPredicate<T, U> onlySecond(@Nonnull Predicate<? super U> predicate) {
         Objects.requireNonNull(predicate);
-        return (t, u, value) -> predicate.test(u);
+        /**
+         * A {@code BiObjCharPredicate} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements BiObjCharPredicate<T, U> {
+
+            /**
+             * Creates a {@code BiObjCharPredicate} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, predicate);
+            }
+
+            @Override
+            public boolean test(T t, U u, char value) {
+                return predicate.test(u);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -181,11 +248,31 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
     @Nonnull
     static <T, U> BiObjCharPredicate<T, U> onlyThird(@Nonnull CharPredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (t, u, value) -> predicate.test(value);
+        /**
+         * A {@code BiObjCharPredicate} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements BiObjCharPredicate<T, U> {
+
+            /**
+             * Creates a {@code BiObjCharPredicate} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, predicate);
+            }
+
+            @Override
+            public boolean test(T t, U u, char value) {
+                return predicate.test(value);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link BiObjCharPredicate} which always returns a given value.
+     * Creates a {@link BiObjCharPredicate} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the predicate
      * @param <U> The type of the second argument to the predicate
@@ -194,7 +281,25 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> BiObjCharPredicate<T, U> constant(boolean ret) {
-        return (t, u, value) -> ret;
+        /**
+         * A {@code BiObjCharPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiObjCharPredicate<T, U> {
+
+            /**
+             * Creates a constant {@code BiObjCharPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(T t, U u, char value) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -207,7 +312,25 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> BiObjCharPredicate<T, U> alwaysTrue() {
-        return (t, u, value) -> true;
+        /**
+         * A {@code BiObjCharPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiObjCharPredicate<T, U> {
+
+            /**
+             * Creates a constant {@code BiObjCharPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(T t, U u, char value) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -220,7 +343,25 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> BiObjCharPredicate<T, U> alwaysFalse() {
-        return (t, u, value) -> false;
+        /**
+         * A {@code BiObjCharPredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BiObjCharPredicate<T, U> {
+
+            /**
+             * Creates a constant {@code BiObjCharPredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(T t, U u, char value) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -254,6 +395,85 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      */
     boolean test(T t, U u, char value);
 
+    /**
+     * Tests the elements at each index of each array, and stores the indices of the elements matching this predicate in
+     * ascending order in the given selection vector. Each array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the first argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * selection vector is shorter than the first argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull char[] values3, @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        KernelUtils.checkRange(0, values1.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values1.length; i++) {
+            selection[count] = i;
+            count += test(values1[i], values2[i], values3[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in each array, and keeps
+     * only the indices of the elements matching this predicate in the selection vector, in their previous order. This
+     * refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull char[] values3, @Nonnull int[] selection,
+            @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values1[index], values2[index], values3[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the results in the given bitmap, whose bit of index
+     * {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}. Each
+     * array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * bitmap holds fewer bits than the first argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull T[] values1, @Nonnull U[] values2, @Nonnull char[] values3, @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        BitmapUtils.clear(bitmap, values1.length);
+        for (int i = 0; i < values1.length; i++) {
+            bitmap[i >>> 6] |= (test(values1[i], values2[i], values3[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Applies this predicate to the given tuple.
      *
@@ -561,10 +781,15 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> BiObjCharFunction<T, U, S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjCharFunction.constant(after.apply(test(null, null, '\0')));
+        }
         return (t, u, value) -> after.apply(test(t, u, value));
     }
 
@@ -584,6 +809,9 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
     @Nonnull
     default BiObjCharPredicate<T, U> andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
         return (t, u, value) -> after.applyAsBoolean(test(t, u, value));
     }
 
@@ -599,10 +827,15 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjCharToByteFunction<T, U> andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjCharToByteFunction.constant(after.applyAsByte(test(null, null, '\0')));
+        }
         return (t, u, value) -> after.applyAsByte(test(t, u, value));
     }
 
@@ -618,10 +851,15 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjCharToCharFunction<T, U> andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjCharToCharFunction.constant(after.applyAsChar(test(null, null, '\0')));
+        }
         return (t, u, value) -> after.applyAsChar(test(t, u, value));
     }
 
@@ -637,10 +875,15 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjCharToDoubleFunction<T, U> andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjCharToDoubleFunction.constant(after.applyAsDouble(test(null, null, '\0')));
+        }
         return (t, u, value) -> after.applyAsDouble(test(t, u, value));
     }
 
@@ -656,10 +899,15 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjCharToFloatFunction<T, U> andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjCharToFloatFunction.constant(after.applyAsFloat(test(null, null, '\0')));
+        }
         return (t, u, value) -> after.applyAsFloat(test(t, u, value));
     }
 
@@ -675,10 +923,15 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjCharToIntFunction<T, U> andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjCharToIntFunction.constant(after.applyAsInt(test(null, null, '\0')));
+        }
         return (t, u, value) -> after.applyAsInt(test(t, u, value));
     }
 
@@ -694,10 +947,15 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjCharToLongFunction<T, U> andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjCharToLongFunction.constant(after.applyAsLong(test(null, null, '\0')));
+        }
         return (t, u, value) -> after.applyAsLong(test(t, u, value));
     }
 
@@ -713,10 +971,15 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BiObjCharToShortFunction<T, U> andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BiObjCharToShortFunction.constant(after.applyAsShort(test(null, null, '\0')));
+        }
         return (t, u, value) -> after.applyAsShort(test(t, u, value));
     }
 
@@ -742,8 +1005,31 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      * @return A {@code BiObjCharPredicate} that represents the logical negation of this one.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default BiObjCharPredicate<T, U> negate() {
-        return (t, u, value) -> !test(t, u, value);
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof BiObjCharPredicate) {
+            return (BiObjCharPredicate<T, U>) original;
+        }
+        /**
+         * A {@code BiObjCharPredicate} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements BiObjCharPredicate<T, U> {
+
+            /**
+             * Creates the negation of this {@code BiObjCharPredicate}.
+             */
+            Negation() {
+                super(Kind.NEGATION, BiObjCharPredicate.this);
+            }
+
+            @Override
+            public boolean test(T t, U u, char value) {
+                return !BiObjCharPredicate.this.test(t, u, value);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -764,6 +1050,12 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
     @Nonnull
     default BiObjCharPredicate<T, U> and(@Nonnull BiObjCharPredicate<? super T, ? super U> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return (t, u, value) -> other.test(t, u, value);
+        }
         return (t, u, value) -> test(t, u, value) && other.test(t, u, value);
     }
 
@@ -785,6 +1077,12 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
     @Nonnull
     default BiObjCharPredicate<T, U> or(@Nonnull BiObjCharPredicate<? super T, ? super U> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return (t, u, value) -> other.test(t, u, value);
+        }
         return (t, u, value) -> test(t, u, value) || other.test(t, u, value);
     }
 
@@ -835,14 +1133,85 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, U, Character>, Boolean> cache = new ConcurrentHashMap<>();
-            return (BiObjCharPredicate<T, U> & Memoized) (t, u, value) -> {
-                return cache.computeIfAbsent(Triple.of(t, u, value),
-                        key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link BiObjCharPredicate}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code BiObjCharPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default BiObjCharPredicate<T, U> memoized(@Nonnull MemoStore<Triple<T, U, Character>, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (BiObjCharPredicate<T, U> & Memoized) (t, u, value) -> {
+            return store.computeIfAbsent(Triple.of(t, u, value),
+                    key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiObjCharPredicate}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code BiObjCharPredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default BiObjCharPredicate<T, U> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link BiObjCharPredicate}, which uses the given {@link
+     * AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to observe the
+     * currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code BiObjCharPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default BiObjCharPredicate<T, U> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, U, Character>, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (BiObjCharPredicate<T, U> & Memoized) (t, u, value) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, u, value),
+                    key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriPredicate} which represents this {@link BiObjCharPredicate}. Thereby the primitive
      * input argument for this predicate is autoboxed. This method provides the possibility to use this {@code
@@ -852,6 +1221,24 @@ public interface BiObjCharPredicate<T, U> extends Lambda {
      */
     @Nonnull
     default TriPredicate<T, U, Character> boxed() {
-        return this::test;
+        /**
+         * A {@code TriPredicate} which applies this {@code BiObjCharPredicate} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriPredicate<T, U, Character> {
+
+            /**
+             * Creates the boxed variant of this {@code BiObjCharPredicate}.
+             */
+            Boxed() {
+                super(BiObjCharPredicate.this);
+            }
+
+            @Override
+            public boolean test(T t, U u, Character v) {
+                return BiObjCharPredicate.this.test(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
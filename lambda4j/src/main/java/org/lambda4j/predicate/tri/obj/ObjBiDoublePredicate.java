@@ -16,9 +16,7 @@
 
 package org.lambda4j.predicate.tri.obj;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.DoubleUnaryOperator;
@@ -38,6 +36,10 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Triple;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.tri.obj.ObjBiDoubleConsumer;
 import org.lambda4j.function.BooleanFunction;
@@ -64,6 +66,11 @@ import org.lambda4j.function.tri.obj.ObjBiDoubleToFloatFunction;
 import org.lambda4j.function.tri.obj.ObjBiDoubleToIntFunction;
 import org.lambda4j.function.tri.obj.ObjBiDoubleToLongFunction;
 import org.lambda4j.function.tri.obj.ObjBiDoubleToShortFunction;
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.KernelUtils;
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.memoization.MemoStore;
 import org.lambda4j.operator.ternary.BooleanTernaryOperator;
 import org.lambda4j.operator.unary.BooleanUnaryOperator;
 import org.lambda4j.predicate.DoublePredicate2;
@@ -113,6 +120,29 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ObjBiDoublePredicate} which represents the given boxed predicate, so that it can be used with
+     * the primitive methods of this library. If the given predicate has been returned by {@link #boxed()}, the {@code
+     * ObjBiDoublePredicate} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * predicate calls the given predicate, boxing its primitive arguments.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param predicate The boxed predicate to be represented
+     * @return A {@code ObjBiDoublePredicate} which represents the given boxed predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjBiDoublePredicate<T> unboxed(
+            @Nonnull TriPredicate<? super T, ? super Double, ? super Double> predicate) {
+        Objects.requireNonNull(predicate);
+        Object original = Composition.getOriginal(predicate, Kind.BOXING);
+        if (original instanceof ObjBiDoublePredicate) {
+            return (ObjBiDoublePredicate<T>) original;
+        }
+        return (t, value1, value2) -> predicate.test(t, value1, value2);
+    }
+
     /**
      * Calls the given {@link ObjBiDoublePredicate} with the given arguments and returns its result.
      *
@@ -143,7 +173,25 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
     @Nonnull
     static <T> ObjBiDoublePredicate<T> onlyFirst(@Nonnull Predicate<? super T> predicate) {
         Objects.requireNonNull(predicate);
-        return (t, value1, value2) -> predicate.test(t);
+        /**
+         * A {@code ObjBiDoublePredicate} which applies the given operation to its first input argument only.
+         */
+        final class OnlyFirst extends AbstractCanonical implements ObjBiDoublePredicate<T> {
+
+            /**
+             * Creates a {@code ObjBiDoublePredicate} which only uses its first input argument.
+             */
+            OnlyFirst() {
+                super(Kind.ONLY_FIRST, predicate);
+            }
+
+            @Override
+            public boolean test(T t, double value1, double value2) {
+                return predicate.test(t);
+            }
+        }
+
+        return new OnlyFirst();
     }
 
     /**
@@ -159,7 +207,25 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
     @Nonnull
     static <T> ObjBiDoublePredicate<T> onlySecond(@Nonnull DoublePredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (t, value1, value2) -> predicate.test(value1);
+        /**
+         * A {@code ObjBiDoublePredicate} which applies the given operation to its second input argument only.
+         */
+        final class OnlySecond extends AbstractCanonical implements ObjBiDoublePredicate<T> {
+
+            /**
+             * Creates a {@code ObjBiDoublePredicate} which only uses its second input argument.
+             */
+            OnlySecond() {
+                super(Kind.ONLY_SECOND, predicate);
+            }
+
+            @Override
+            public boolean test(T t, double value1, double value2) {
+                return predicate.test(value1);
+            }
+        }
+
+        return new OnlySecond();
     }
 
     /**
@@ -175,11 +241,31 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
     @Nonnull
     static <T> ObjBiDoublePredicate<T> onlyThird(@Nonnull DoublePredicate predicate) {
         Objects.requireNonNull(predicate);
-        return (t, value1, value2) -> predicate.test(value2);
+        /**
+         * A {@code ObjBiDoublePredicate} which applies the given operation to its third input argument only.
+         */
+        final class OnlyThird extends AbstractCanonical implements ObjBiDoublePredicate<T> {
+
+            /**
+             * Creates a {@code ObjBiDoublePredicate} which only uses its third input argument.
+             */
+            OnlyThird() {
+                super(Kind.ONLY_THIRD, predicate);
+            }
+
+            @Override
+            public boolean test(T t, double value1, double value2) {
+                return predicate.test(value2);
+            }
+        }
+
+        return new OnlyThird();
     }
 
     /**
-     * Creates a {@link ObjBiDoublePredicate} which always returns a given value.
+     * Creates a {@link ObjBiDoublePredicate} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param <T> The type of the first argument to the predicate
      * @param ret The return value for the constant
@@ -187,7 +273,25 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjBiDoublePredicate<T> constant(boolean ret) {
-        return (t, value1, value2) -> ret;
+        /**
+         * A {@code ObjBiDoublePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjBiDoublePredicate<T> {
+
+            /**
+             * Creates a constant {@code ObjBiDoublePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean test(T t, double value1, double value2) {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -199,7 +303,25 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjBiDoublePredicate<T> alwaysTrue() {
-        return (t, value1, value2) -> true;
+        /**
+         * A {@code ObjBiDoublePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjBiDoublePredicate<T> {
+
+            /**
+             * Creates a constant {@code ObjBiDoublePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean test(T t, double value1, double value2) {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -211,7 +333,25 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjBiDoublePredicate<T> alwaysFalse() {
-        return (t, value1, value2) -> false;
+        /**
+         * A {@code ObjBiDoublePredicate} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ObjBiDoublePredicate<T> {
+
+            /**
+             * Creates a constant {@code ObjBiDoublePredicate}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean test(T t, double value1, double value2) {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -243,6 +383,87 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      */
     boolean test(T t, double value1, double value2);
 
+    /**
+     * Tests the elements at each index of each array, and stores the indices of the elements matching this predicate in
+     * ascending order in the given selection vector. Each array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param selection The selection vector in which the indices of the matching elements are stored, which has to be
+     * at least as long as the first argument array
+     * @return The number of indices stored in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * selection vector is shorter than the first argument array
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull double[] values2, @Nonnull double[] values3,
+            @Nonnull int[] selection) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        KernelUtils.checkRange(0, values1.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < values1.length; i++) {
+            selection[count] = i;
+            count += test(values1[i], values2[i], values3[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Tests the elements at the first given number of indices of the given selection vector in each array, and keeps
+     * only the indices of the elements matching this predicate in the selection vector, in their previous order. This
+     * refines a selection by another predicate, evaluating this predicate only for the selected elements.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param selection The selection vector, whose indices are tested and replaced by the matching ones
+     * @param count The number of indices of the given selection vector
+     * @return The number of indices kept in the given selection vector.
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If given count exceeds the length of given selection vector, or if one of
+     * the selected indices lies outside of one of given argument arrays
+     */
+    @Nonnegative
+    default int select(@Nonnull T[] values1, @Nonnull double[] values2, @Nonnull double[] values3,
+            @Nonnull int[] selection, @Nonnegative int count) {
+        KernelUtils.checkRange(0, count, selection.length);
+        int selected = 0;
+        for (int i = 0; i < count; i++) {
+            int index = selection[i];
+            selection[selected] = index;
+            selected += test(values1[index], values2[index], values3[index]) ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Tests the elements at each index of each array, and stores the results in the given bitmap, whose bit of index
+     * {@code i} is set if the element at that index matches this predicate. The words holding these bits are
+     * overwritten. The bitmaps of several predicates over the same elements are combined by {@link BitmapUtils}. Each
+     * array has to hold at least as many elements as the first one.
+     *
+     * @param values1 The array of first arguments to the predicate
+     * @param values2 The array of second arguments to the predicate
+     * @param values3 The array of third arguments to the predicate
+     * @param bitmap The bitmap in which the results are stored
+     * @throws NullPointerException If one of given arrays is {@code null}
+     * @throws ArrayIndexOutOfBoundsException If one of given argument arrays is shorter than the first one, or given
+     * bitmap holds fewer bits than the first argument array has elements
+     * @see BitmapUtils
+     */
+    default void test(@Nonnull T[] values1, @Nonnull double[] values2, @Nonnull double[] values3,
+            @Nonnull long[] bitmap) {
+        KernelUtils.checkRange(0, values1.length, values2.length);
+        KernelUtils.checkRange(0, values1.length, values3.length);
+        BitmapUtils.clear(bitmap, values1.length);
+        for (int i = 0; i < values1.length; i++) {
+            bitmap[i >>> 6] |= (test(values1[i], values2[i], values3[i]) ? 1L : 0L) << i;
+        }
+    }
+
     /**
      * Applies this predicate partially to some arguments of this one, producing a {@link BiDoublePredicate} as result.
      *
@@ -537,10 +758,15 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      * the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> ObjBiDoubleFunction<T, S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiDoubleFunction.constant(after.apply(test(null, 0d, 0d)));
+        }
         return (t, value1, value2) -> after.apply(test(t, value1, value2));
     }
 
@@ -556,10 +782,18 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiDoublePredicate<T> andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ObjBiDoublePredicate.constant(after.applyAsBoolean(test(null, 0d, 0d)));
+        }
         return (t, value1, value2) -> after.applyAsBoolean(test(t, value1, value2));
     }
 
@@ -575,10 +809,15 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiDoubleToByteFunction<T> andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiDoubleToByteFunction.constant(after.applyAsByte(test(null, 0d, 0d)));
+        }
         return (t, value1, value2) -> after.applyAsByte(test(t, value1, value2));
     }
 
@@ -594,10 +833,15 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiDoubleToCharFunction<T> andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiDoubleToCharFunction.constant(after.applyAsChar(test(null, 0d, 0d)));
+        }
         return (t, value1, value2) -> after.applyAsChar(test(t, value1, value2));
     }
 
@@ -613,10 +857,15 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiDoubleToDoubleFunction<T> andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiDoubleToDoubleFunction.constant(after.applyAsDouble(test(null, 0d, 0d)));
+        }
         return (t, value1, value2) -> after.applyAsDouble(test(t, value1, value2));
     }
 
@@ -632,10 +881,15 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiDoubleToFloatFunction<T> andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiDoubleToFloatFunction.constant(after.applyAsFloat(test(null, 0d, 0d)));
+        }
         return (t, value1, value2) -> after.applyAsFloat(test(t, value1, value2));
     }
 
@@ -651,10 +905,15 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiDoubleToIntFunction<T> andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiDoubleToIntFunction.constant(after.applyAsInt(test(null, 0d, 0d)));
+        }
         return (t, value1, value2) -> after.applyAsInt(test(t, value1, value2));
     }
 
@@ -670,10 +929,15 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiDoubleToLongFunction<T> andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiDoubleToLongFunction.constant(after.applyAsLong(test(null, 0d, 0d)));
+        }
         return (t, value1, value2) -> after.applyAsLong(test(t, value1, value2));
     }
 
@@ -689,10 +953,15 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this predicate is a constant, {@code after} is applied to its value once while composing, rather
+     * than on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ObjBiDoubleToShortFunction<T> andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ObjBiDoubleToShortFunction.constant(after.applyAsShort(test(null, 0d, 0d)));
+        }
         return (t, value1, value2) -> after.applyAsShort(test(t, value1, value2));
     }
 
@@ -718,8 +987,34 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      * @return A {@code ObjBiDoublePredicate} that represents the logical negation of this one.
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default ObjBiDoublePredicate<T> negate() {
-        return (t, value1, value2) -> !test(t, value1, value2);
+        if (Composition.isConstant(this)) {
+            return ObjBiDoublePredicate.constant(!test(null, 0d, 0d));
+        }
+        Object original = Composition.getOriginal(this, Kind.NEGATION);
+        if (original instanceof ObjBiDoublePredicate) {
+            return (ObjBiDoublePredicate<T>) original;
+        }
+        /**
+         * A {@code ObjBiDoublePredicate} which represents the logical negation of this one.
+         */
+        final class Negation extends AbstractCanonical implements ObjBiDoublePredicate<T> {
+
+            /**
+             * Creates the negation of this {@code ObjBiDoublePredicate}.
+             */
+            Negation() {
+                super(Kind.NEGATION, ObjBiDoublePredicate.this);
+            }
+
+            @Override
+            public boolean test(T t, double value1, double value2) {
+                return !ObjBiDoublePredicate.this.test(t, value1, value2);
+            }
+        }
+
+        return new Negation();
     }
 
     /**
@@ -740,6 +1035,12 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
     @Nonnull
     default ObjBiDoublePredicate<T> and(@Nonnull ObjBiDoublePredicate<? super T> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, false) || Composition.isConstant(other, true)) {
+            return this;
+        }
+        if (Composition.isConstant(this, true)) {
+            return (t, value1, value2) -> other.test(t, value1, value2);
+        }
         return (t, value1, value2) -> test(t, value1, value2) && other.test(t, value1, value2);
     }
 
@@ -761,6 +1062,12 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
     @Nonnull
     default ObjBiDoublePredicate<T> or(@Nonnull ObjBiDoublePredicate<? super T> other) {
         Objects.requireNonNull(other);
+        if (Composition.isConstant(this, true) || Composition.isConstant(other, false)) {
+            return this;
+        }
+        if (Composition.isConstant(this, false)) {
+            return (t, value1, value2) -> other.test(t, value1, value2);
+        }
         return (t, value1, value2) -> test(t, value1, value2) || other.test(t, value1, value2);
     }
 
@@ -801,14 +1108,85 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
         if (isMemoized()) {
             return this;
         } else {
-            Map<Triple<T, Double, Double>, Boolean> cache = new ConcurrentHashMap<>();
-            return (ObjBiDoublePredicate<T> & Memoized) (t, value1, value2) -> {
-                return cache.computeIfAbsent(Triple.of(t, value1, value2),
-                        key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
-            };
+            return memoized(new ConcurrentMemoStore<>());
         }
     }
 
+    /**
+     * Returns a memoized (caching) version of this {@link ObjBiDoublePredicate}, which caches its values in the given
+     * {@link MemoStore}. Whenever it is called, the return value is looked up in the given store using the input
+     * parameters as key, and only computed if the store does not hold a value for them yet. This allows to choose how
+     * and where the values are cached, e.g. in a bounded store or on disk.
+     * <p>
+     * The given store must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param store The store which holds the values of the returned predicate
+     * @return A memoized (caching) version of this {@code ObjBiDoublePredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, unless the given store permits {@code null} keys or values.
+     * @implNote The returned memoized predicate is thread-safe, if the given store is thread-safe.
+     * @see MemoStore
+     */
+    @Nonnull
+    default ObjBiDoublePredicate<T> memoized(@Nonnull MemoStore<Triple<T, Double, Double>, Boolean> store) {
+        Objects.requireNonNull(store);
+        return (ObjBiDoublePredicate<T> & Memoized) (t, value1, value2) -> {
+            return store.computeIfAbsent(Triple.of(t, value1, value2),
+                    key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBiDoublePredicate}. In contrast to {@link
+     * #memoized()}, the returned predicate samples the hit rate of its cache and the computation cost of this predicate
+     * at runtime, and switches between passing through, caching every value and caching a bounded number of values,
+     * whichever is cheaper for the observed workload.
+     *
+     * @return An adaptively memoized (caching) version of this {@code ObjBiDoublePredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see #adaptivelyMemoized(AdaptiveMemoizer)
+     */
+    @Nonnull
+    default ObjBiDoublePredicate<T> adaptivelyMemoized() {
+        if (isMemoized()) {
+            return this;
+        } else {
+            return adaptivelyMemoized(new AdaptiveMemoizer<>());
+        }
+    }
+
+    /**
+     * Returns an adaptively memoized (caching) version of this {@link ObjBiDoublePredicate}, which uses the given
+     * {@link AdaptiveMemoizer} to decide whether and how computed values are cached. The given memoizer allows to
+     * observe the currently selected {@link AdaptiveMemoizer.Mode} of the returned predicate.
+     * <p>
+     * The given memoizer must not be shared with other functional interfaces, as it holds the values computed by this
+     * predicate.
+     *
+     * @param memoizer The memoizer which decides whether and how values of the returned predicate are cached
+     * @return An adaptively memoized (caching) version of this {@code ObjBiDoublePredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe.
+     * @see AdaptiveMemoizer
+     */
+    @Nonnull
+    default ObjBiDoublePredicate<T> adaptivelyMemoized(
+            @Nonnull AdaptiveMemoizer<Triple<T, Double, Double>, Boolean> memoizer) {
+        Objects.requireNonNull(memoizer);
+        return (ObjBiDoublePredicate<T> & Memoized) (t, value1, value2) -> {
+            return memoizer.computeIfAbsent(Triple.of(t, value1, value2),
+                    key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriPredicate} which represents this {@link ObjBiDoublePredicate}. Thereby the primitive
      * input argument for this predicate is autoboxed. This method provides the possibility to use this {@code
@@ -818,6 +1196,24 @@ public interface ObjBiDoublePredicate<T> extends Lambda {
      */
     @Nonnull
     default TriPredicate<T, Double, Double> boxed() {
-        return this::test;
+        /**
+         * A {@code TriPredicate} which applies this {@code ObjBiDoublePredicate} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements TriPredicate<T, Double, Double> {
+
+            /**
+             * Creates the boxed variant of this {@code ObjBiDoublePredicate}.
+             */
+            Boxed() {
+                super(ObjBiDoublePredicate.this);
+            }
+
+            @Override
+            public boolean test(T t, Double u, Double v) {
+                return ObjBiDoublePredicate.this.test(t, u, v);
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -24,6 +24,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 
 /**
  * The {@link Runnable} interface should be implemented by any class whose instances are intended to be executed by a
@@ -100,7 +102,9 @@ public interface Runnable2 extends Lambda, Runnable {
     /**
      * Returns a composed {@link Runnable2} that performs, in sequence, this runnable followed by the {@code after}
      * runnable. If evaluation of either operation throws an exception, it is relayed to the caller of the composed
-     * operation. If performing this runnable throws an exception, the {@code after} runnable will not be performed.
+     * operation. If performing this runnable throws an exception, the {@code after} runnable will not be performed. If
+     * either of them is such a composed runnable itself, the performed operations are taken over, so that a chain of
+     * {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The runnable to apply after this runnable is applied
      * @return A composed {@link Runnable2} that performs, in sequence, this runnable followed by the {@code after}
@@ -110,9 +114,27 @@ public interface Runnable2 extends Lambda, Runnable {
     @Nonnull
     default Runnable2 andThen(@Nonnull Runnable after) {
         Objects.requireNonNull(after);
-        return () -> {
-            run();
-            after.run();
-        };
+        Runnable[] runnables = Composition.flatten(this, after, new Runnable[0]);
+        /**
+         * A {@code Runnable2} which performs a sequence of runnables in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements Runnable2 {
+
+            /**
+             * Creates the sequence of this {@code Runnable2} followed by the {@code after} runnable.
+             */
+            Sequence() {
+                super(runnables);
+            }
+
+            @Override
+            public void run() {
+                for (Runnable runnable : runnables) {
+                    runnable.run();
+                }
+            }
+        }
+
+        return new Sequence();
     }
 }
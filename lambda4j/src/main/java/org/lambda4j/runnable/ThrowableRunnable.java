@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractSequence;
+import org.lambda4j.composition.Composition;
 import org.lambda4j.exception.ThrownByFunctionalInterfaceException;
 import org.lambda4j.util.ThrowableUtils;
 
@@ -123,7 +125,8 @@ public interface ThrowableRunnable<X extends Throwable> extends Lambda, Runnable
     /**
      * Returns a composed {@link ThrowableRunnable} that performs, in sequence, this runnable followed by the {@code
      * after} runnable. If performing this runnable throws an exception, the {@code after} runnable will not be
-     * performed.
+     * performed. If either of them is such a composed runnable itself, the performed operations are taken over, so that
+     * a chain of {@code andThen} calls performs all of them in a single loop instead of nested calls.
      *
      * @param after The runnable to apply after this runnable is applied
      * @return A composed {@link ThrowableRunnable} that performs, in sequence, this runnable followed by the {@code
@@ -133,10 +136,30 @@ public interface ThrowableRunnable<X extends Throwable> extends Lambda, Runnable
     @Nonnull
     default ThrowableRunnable<X> andThen(@Nonnull ThrowableRunnable<? extends X> after) {
         Objects.requireNonNull(after);
-        return () -> {
-            runThrows();
-            after.runThrows();
-        };
+        @SuppressWarnings("unchecked")
+        ThrowableRunnable<? extends X>[] runnables =
+                (ThrowableRunnable<? extends X>[]) Composition.flatten(this, after, new ThrowableRunnable<?>[0]);
+        /**
+         * A {@code ThrowableRunnable} which performs a sequence of runnables in a single loop.
+         */
+        final class Sequence extends AbstractSequence implements ThrowableRunnable<X> {
+
+            /**
+             * Creates the sequence of this {@code ThrowableRunnable} followed by the {@code after} runnable.
+             */
+            Sequence() {
+                super(runnables);
+            }
+
+            @Override
+            public void runThrows() throws X {
+                for (ThrowableRunnable<? extends X> runnable : runnables) {
+                    runnable.runThrows();
+                }
+            }
+        }
+
+        return new Sequence();
     }
 
     /**
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.stream;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link Spliterator.OfInt} over the {@code byte} elements widened to {@code int} of a {@link ByteSpliterator}, which
+ * allows a {@link ByteStream} to be backed by an {@link java.util.stream.IntStream} and its lazy, fused and parallel
+ * pipeline.
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+final class ByteIntSpliterator implements Spliterator.OfInt {
+
+    /**
+     * The spliterator providing the elements.
+     */
+    private final ByteSpliterator source;
+
+    /**
+     * Creates a spliterator over the {@code byte} elements widened to {@code int} of the given spliterator.
+     *
+     * @param spliterator The spliterator providing the elements
+     */
+    ByteIntSpliterator(ByteSpliterator spliterator) {
+        this.source = spliterator;
+    }
+
+    @Override
+    public boolean tryAdvance(@Nonnull IntConsumer action) {
+        Objects.requireNonNull(action);
+        return source.tryAdvance((byte value) -> action.accept(value));
+    }
+
+    @Override
+    public void forEachRemaining(@Nonnull IntConsumer action) {
+        Objects.requireNonNull(action);
+        source.forEachRemaining((byte value) -> action.accept(value));
+    }
+
+    @CheckForNull
+    @Override
+    public Spliterator.OfInt trySplit() {
+        ByteSpliterator prefix = source.trySplit();
+        return prefix == null ? null : new ByteIntSpliterator(prefix);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ~SORTED;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.stream;
+
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import org.lambda4j.consumer.CharConsumer;
+
+/**
+ * A {@link CharSpliterator} over a range of a {@code char} buffer, which splits the range in halves.
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+final class CharBufferSpliterator implements CharSpliterator {
+
+    /**
+     * The characteristics of this spliterator.
+     */
+    private static final int FLAGS = ORDERED | SIZED | SUBSIZED;
+
+    /**
+     * The buffer holding the elements.
+     */
+    private final CharBuffer source;
+
+    /**
+     * The index after the last element to be traversed.
+     */
+    private final int fence;
+
+    /**
+     * The index of the next element to be traversed.
+     */
+    private int index;
+
+    /**
+     * Creates a spliterator over the given range of the given buffer.
+     *
+     * @param elements The buffer holding the elements
+     * @param origin The index of the first element to be traversed
+     * @param end The index after the last element to be traversed
+     */
+    CharBufferSpliterator(CharBuffer elements, int origin, int end) {
+        this.source = elements;
+        this.index = origin;
+        this.fence = end;
+    }
+
+    @Override
+    public boolean tryAdvance(@Nonnull CharConsumer action) {
+        Objects.requireNonNull(action);
+        if (index < fence) {
+            action.accept(source.get(index));
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(@Nonnull CharConsumer action) {
+        Objects.requireNonNull(action);
+        int end = fence;
+        for (int i = index; i < end; i++) {
+            action.accept(source.get(i));
+        }
+        index = end;
+    }
+
+    @CheckForNull
+    @Override
+    public CharSpliterator trySplit() {
+        int origin = index;
+        int middle = (origin + fence) >>> 1;
+        if (origin >= middle) {
+            return null;
+        }
+        index = middle;
+        return new CharBufferSpliterator(source, origin, middle);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return FLAGS;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.stream;
+
+import java.nio.ShortBuffer;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.consumer.ShortConsumer;
+
+/**
+ * A {@link Spliterator} specialized for {@code short} values, which passes its elements to a {@link ShortConsumer}
+ * without boxing them. The JDK only provides primitive spliterators for {@code int}, {@code long} and {@code double}
+ * values.
+ * <p>
+ * Spliterators over arrays and buffers are created by the factories of this interface. They split their range in
+ * halves, so that they can be traversed in parallel, e.g. by a {@link ShortStream}.
+ *
+ * @see Spliterator.OfInt
+ */
+public interface ShortSpliterator extends Spliterator.OfPrimitive<Short, ShortConsumer, ShortSpliterator> {
+
+    /**
+     * Returns a {@link ShortSpliterator} covering all elements of the given array.
+     *
+     * @param array The array to be traversed, which is assumed to be unmodified during use
+     * @return A {@code ShortSpliterator} covering all elements of the given array.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static ShortSpliterator of(@Nonnull short[] array) {
+        Objects.requireNonNull(array);
+        return new ShortArraySpliterator(array, 0, array.length);
+    }
+
+    /**
+     * Returns a {@link ShortSpliterator} covering the given range of the given array.
+     *
+     * @param array The array to be traversed, which is assumed to be unmodified during use
+     * @param fromIndex The index of the first element to be covered
+     * @param toIndex The index after the last element to be covered
+     * @return A {@code ShortSpliterator} covering the given range of the given array.
+     * @throws NullPointerException If given array is {@code null}
+     * @throws IllegalArgumentException If given from index is greater than given to index
+     * @throws ArrayIndexOutOfBoundsException If given from index is negative or given to index is greater than the
+     * length of the array
+     */
+    @Nonnull
+    static ShortSpliterator of(@Nonnull short[] array, int fromIndex, int toIndex) {
+        Objects.requireNonNull(array);
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+        return new ShortArraySpliterator(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns a {@link ShortSpliterator} covering the remaining elements of the given buffer, which are the elements
+     * between its current position and its limit. The elements are read using absolute gets, so neither the position
+     * nor the limit of the buffer are changed by the returned spliterator.
+     *
+     * @param buffer The buffer to be traversed, whose remaining elements are assumed to be unmodified during use
+     * @return A {@code ShortSpliterator} covering the remaining elements of the given buffer.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static ShortSpliterator of(@Nonnull ShortBuffer buffer) {
+        Objects.requireNonNull(buffer);
+        return new ShortBufferSpliterator(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Performs the given action for the next remaining element, if one exists, boxing it.
+     *
+     * @param action The action to be performed
+     * @return {@code false} if no remaining elements existed, otherwise {@code true}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote This implementation boxes the element, so {@link #tryAdvance(Object)} should be preferred.
+     */
+    @Override
+    default boolean tryAdvance(@Nonnull Consumer<? super Short> action) {
+        Objects.requireNonNull(action);
+        return tryAdvance((ShortConsumer) action::accept);
+    }
+
+    /**
+     * Performs the given action for each remaining element, boxing them.
+     *
+     * @param action The action to be performed
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote This implementation boxes the elements, so {@link #forEachRemaining(Object)} should be preferred.
+     */
+    @Override
+    default void forEachRemaining(@Nonnull Consumer<? super Short> action) {
+        Objects.requireNonNull(action);
+        forEachRemaining((ShortConsumer) action::accept);
+    }
+}
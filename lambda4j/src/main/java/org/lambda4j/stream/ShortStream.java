@@ -0,0 +1,506 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.stream;
+
+import java.nio.ShortBuffer;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.consumer.ShortConsumer;
+import org.lambda4j.function.ShortFunction;
+import org.lambda4j.function.conversion.ShortToDoubleFunction;
+import org.lambda4j.function.conversion.ShortToIntFunction;
+import org.lambda4j.function.conversion.ShortToLongFunction;
+import org.lambda4j.operator.binary.ShortBinaryOperator;
+import org.lambda4j.operator.unary.ShortUnaryOperator;
+import org.lambda4j.optional.OptionalShort;
+import org.lambda4j.predicate.ShortPredicate;
+
+/**
+ * A sequence of {@code short} elements supporting sequential and parallel aggregate operations, whose operations take
+ * the {@code short} specializations of this library, e.g. a {@link ShortUnaryOperator}, rather than widening or boxing
+ * the elements. This is the {@code short} counterpart of {@link IntStream}, which the JDK does not provide.
+ * <p>
+ * A {@code ShortStream} is backed by an {@code IntStream} over the {@code short} elements widened to {@code int}, so
+ * its pipeline is lazy, fuses all intermediate operations into a single pass, short-circuits where possible and splits
+ * its source for parallel execution exactly like the streams of the JDK. Streams created from arrays or buffers read
+ * their elements directly from them, without copying or widening the source. Like every stream, a {@code ShortStream}
+ * may only be operated upon once.
+ *
+ * @see IntStream
+ * @see ShortSpliterator
+ */
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public final class ShortStream {
+
+    /**
+     * The stream over the {@code short} elements widened to {@code int} of this stream.
+     */
+    private final IntStream values;
+
+    /**
+     * Creates a stream backed by the given stream over the {@code short} elements widened to {@code int}.
+     *
+     * @param stream The stream over the {@code short} elements widened to {@code int}
+     */
+    private ShortStream(IntStream stream) {
+        this.values = stream;
+    }
+
+    /**
+     * Returns an empty sequential {@link ShortStream}.
+     *
+     * @return An empty sequential {@code ShortStream}.
+     */
+    @Nonnull
+    public static ShortStream empty() {
+        return new ShortStream(IntStream.empty());
+    }
+
+    /**
+     * Returns a sequential {@link ShortStream} whose elements are the given values.
+     *
+     * @param values The elements of the stream
+     * @return A sequential {@code ShortStream} whose elements are the given values.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public static ShortStream of(@Nonnull short... values) {
+        return stream(ShortSpliterator.of(values), false);
+    }
+
+    /**
+     * Returns a sequential {@link ShortStream} whose elements are the remaining elements of the given buffer. The
+     * position of the buffer is not changed.
+     *
+     * @param buffer The buffer whose remaining elements are the elements of the stream
+     * @return A sequential {@code ShortStream} whose elements are the remaining elements of the given buffer.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see ShortSpliterator#of(ShortBuffer)
+     */
+    @Nonnull
+    public static ShortStream of(@Nonnull ShortBuffer buffer) {
+        return stream(ShortSpliterator.of(buffer), false);
+    }
+
+    /**
+     * Returns a {@link ShortStream} whose elements are provided by the given {@link ShortSpliterator}.
+     *
+     * @param spliterator The spliterator providing the elements of the stream
+     * @param parallel Whether the returned stream is parallel
+     * @return A {@code ShortStream} whose elements are provided by the given spliterator.
+     * @throws NullPointerException If given spliterator is {@code null}
+     * @see StreamSupport#intStream(java.util.Spliterator.OfInt, boolean)
+     */
+    @Nonnull
+    public static ShortStream stream(@Nonnull ShortSpliterator spliterator, boolean parallel) {
+        Objects.requireNonNull(spliterator);
+        return new ShortStream(StreamSupport.intStream(new ShortIntSpliterator(spliterator), parallel));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream which match the given predicate.
+     *
+     * @param predicate The predicate to be applied to each element
+     * @return A stream consisting of the elements of this stream which match the given predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public ShortStream filter(@Nonnull ShortPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return new ShortStream(values.filter(value -> predicate.test(narrow(value))));
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given operator to the elements of this stream.
+     *
+     * @param mapper The operator to be applied to each element
+     * @return A stream consisting of the results of applying the given operator to the elements of this stream.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public ShortStream map(@Nonnull ShortUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return new ShortStream(values.map(value -> widen(mapper.applyAsShort(narrow(value)))));
+    }
+
+    /**
+     * Returns an object-valued stream consisting of the results of applying the given function to the elements of this
+     * stream.
+     *
+     * @param <U> The type of the elements of the returned stream
+     * @param mapper The function to be applied to each element
+     * @return An object-valued stream consisting of the results of applying the given function to the elements of this
+     * stream.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public <U> Stream<U> mapToObj(@Nonnull ShortFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return values.mapToObj(value -> mapper.apply(narrow(value)));
+    }
+
+    /**
+     * Returns an {@link IntStream} consisting of the results of applying the given function to the elements of this
+     * stream.
+     *
+     * @param mapper The function to be applied to each element
+     * @return An {@code IntStream} consisting of the results of applying the given function to the elements of this
+     * stream.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public IntStream mapToInt(@Nonnull ShortToIntFunction mapper) {
+        Objects.requireNonNull(mapper);
+        return values.map(value -> mapper.applyAsInt(narrow(value)));
+    }
+
+    /**
+     * Returns a {@link LongStream} consisting of the results of applying the given function to the elements of this
+     * stream.
+     *
+     * @param mapper The function to be applied to each element
+     * @return A {@code LongStream} consisting of the results of applying the given function to the elements of this
+     * stream.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public LongStream mapToLong(@Nonnull ShortToLongFunction mapper) {
+        Objects.requireNonNull(mapper);
+        return values.mapToLong(value -> mapper.applyAsLong(narrow(value)));
+    }
+
+    /**
+     * Returns a {@link DoubleStream} consisting of the results of applying the given function to the elements of this
+     * stream.
+     *
+     * @param mapper The function to be applied to each element
+     * @return A {@code DoubleStream} consisting of the results of applying the given function to the elements of this
+     * stream.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public DoubleStream mapToDouble(@Nonnull ShortToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper);
+        return values.mapToDouble(value -> mapper.applyAsDouble(narrow(value)));
+    }
+
+    /**
+     * Returns an {@link IntStream} consisting of the elements of this stream, widened to {@code int}.
+     *
+     * @return An {@code IntStream} consisting of the elements of this stream, widened to {@code int}.
+     */
+    @Nonnull
+    public IntStream asIntStream() {
+        return values;
+    }
+
+    /**
+     * Returns a {@link Stream} consisting of the elements of this stream, each boxed to a {@link Short}.
+     *
+     * @return A {@code Stream} consisting of the elements of this stream, each boxed to a {@code Short}.
+     */
+    @Nonnull
+    public Stream<Short> boxed() {
+        return values.mapToObj(value -> narrow(value));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally performing the given action on each
+     * element as elements are consumed from the resulting stream.
+     *
+     * @param action The action to be performed on each element
+     * @return A stream consisting of the elements of this stream.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public ShortStream peek(@Nonnull ShortConsumer action) {
+        Objects.requireNonNull(action);
+        return new ShortStream(values.peek(value -> action.accept(narrow(value))));
+    }
+
+    /**
+     * Returns a stream consisting of at most the given number of elements of this stream.
+     *
+     * @param maxSize The maximum number of elements of the returned stream
+     * @return A stream consisting of at most the given number of elements of this stream.
+     * @throws IllegalArgumentException If given maximum size is negative
+     */
+    @Nonnull
+    public ShortStream limit(long maxSize) {
+        return new ShortStream(values.limit(maxSize));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream after discarding the given number of elements.
+     *
+     * @param n The number of leading elements to be discarded
+     * @return A stream consisting of the elements of this stream after discarding the given number of elements.
+     * @throws IllegalArgumentException If given number is negative
+     */
+    @Nonnull
+    public ShortStream skip(long n) {
+        return new ShortStream(values.skip(n));
+    }
+
+    /**
+     * Returns an equivalent stream which is parallel.
+     *
+     * @return An equivalent stream which is parallel.
+     */
+    @Nonnull
+    public ShortStream parallel() {
+        return new ShortStream(values.parallel());
+    }
+
+    /**
+     * Returns an equivalent stream which is sequential.
+     *
+     * @return An equivalent stream which is sequential.
+     */
+    @Nonnull
+    public ShortStream sequential() {
+        return new ShortStream(values.sequential());
+    }
+
+    /**
+     * Returns whether this stream would execute in parallel, if a terminal operation were executed.
+     *
+     * @return {@code true} if this stream would execute in parallel, otherwise {@code false}.
+     */
+    public boolean isParallel() {
+        return values.isParallel();
+    }
+
+    /**
+     * Performs the given action for each element of this stream, in no particular order if this stream is parallel.
+     *
+     * @param action The action to be performed on each element
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void forEach(@Nonnull ShortConsumer action) {
+        Objects.requireNonNull(action);
+        values.forEach(value -> action.accept(narrow(value)));
+    }
+
+    /**
+     * Performs the given action for each element of this stream, in the encounter order of this stream.
+     *
+     * @param action The action to be performed on each element
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void forEachOrdered(@Nonnull ShortConsumer action) {
+        Objects.requireNonNull(action);
+        values.forEachOrdered(value -> action.accept(narrow(value)));
+    }
+
+    /**
+     * Reduces the elements of this stream using the given identity value and associative accumulation operator.
+     *
+     * @param identity The identity value of the accumulation operator
+     * @param accumulator The associative operator combining two values
+     * @return The result of the reduction.
+     * @throws NullPointerException If given accumulator is {@code null}
+     * @see IntStream#reduce(int, IntBinaryOperator)
+     */
+    public short reduce(short identity, @Nonnull ShortBinaryOperator accumulator) {
+        Objects.requireNonNull(accumulator);
+        return narrow(values.reduce(widen(identity), widen(accumulator)));
+    }
+
+    /**
+     * Reduces the elements of this stream using the given associative accumulation operator.
+     *
+     * @param accumulator The associative operator combining two values
+     * @return An {@link OptionalShort} holding the result of the reduction, or an empty one if this stream is empty.
+     * @throws NullPointerException If given accumulator is {@code null}
+     * @see IntStream#reduce(IntBinaryOperator)
+     */
+    @Nonnull
+    public OptionalShort reduce(@Nonnull ShortBinaryOperator accumulator) {
+        Objects.requireNonNull(accumulator);
+        return toOptional(values.reduce(widen(accumulator)));
+    }
+
+    /**
+     * Returns the sum of the elements of this stream, which is accumulated as {@code long} values, so it does not
+     * overflow.
+     *
+     * @return The sum of the elements of this stream.
+     */
+    public long sum() {
+        return values.asLongStream().sum();
+    }
+
+    /**
+     * Returns the least element of this stream.
+     *
+     * @return An {@link OptionalShort} holding the least element of this stream, or an empty one if this stream is
+     * empty.
+     */
+    @Nonnull
+    public OptionalShort min() {
+        return toOptional(values.min());
+    }
+
+    /**
+     * Returns the greatest element of this stream.
+     *
+     * @return An {@link OptionalShort} holding the greatest element of this stream, or an empty one if this stream is
+     * empty.
+     */
+    @Nonnull
+    public OptionalShort max() {
+        return toOptional(values.max());
+    }
+
+    /**
+     * Returns the number of elements of this stream.
+     *
+     * @return The number of elements of this stream.
+     */
+    public long count() {
+        return values.count();
+    }
+
+    /**
+     * Returns whether any element of this stream matches the given predicate. The predicate is not evaluated for
+     * further elements once a matching element is found.
+     *
+     * @param predicate The predicate to be applied to the elements
+     * @return {@code true} if any element of this stream matches the given predicate, otherwise {@code false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean anyMatch(@Nonnull ShortPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return values.anyMatch(value -> predicate.test(narrow(value)));
+    }
+
+    /**
+     * Returns whether all elements of this stream match the given predicate. The predicate is not evaluated for further
+     * elements once a non-matching element is found.
+     *
+     * @param predicate The predicate to be applied to the elements
+     * @return {@code true} if all elements of this stream match the given predicate or this stream is empty, otherwise
+     * {@code false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean allMatch(@Nonnull ShortPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return values.allMatch(value -> predicate.test(narrow(value)));
+    }
+
+    /**
+     * Returns whether no element of this stream matches the given predicate. The predicate is not evaluated for further
+     * elements once a matching element is found.
+     *
+     * @param predicate The predicate to be applied to the elements
+     * @return {@code true} if no element of this stream matches the given predicate, otherwise {@code false}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean noneMatch(@Nonnull ShortPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return values.noneMatch(value -> predicate.test(narrow(value)));
+    }
+
+    /**
+     * Returns the first element of this stream.
+     *
+     * @return An {@link OptionalShort} holding the first element of this stream, or an empty one if this stream is
+     * empty.
+     */
+    @Nonnull
+    public OptionalShort findFirst() {
+        return toOptional(values.findFirst());
+    }
+
+    /**
+     * Returns any element of this stream.
+     *
+     * @return An {@link OptionalShort} holding any element of this stream, or an empty one if this stream is empty.
+     */
+    @Nonnull
+    public OptionalShort findAny() {
+        return toOptional(values.findAny());
+    }
+
+    /**
+     * Returns an array holding the elements of this stream.
+     *
+     * @return An array holding the elements of this stream.
+     */
+    @Nonnull
+    public short[] toArray() {
+        int[] elements = values.toArray();
+        short[] array = new short[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            array[i] = narrow(elements[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Converts the given {@link OptionalInt} holding an element of this stream into an {@link OptionalShort}.
+     *
+     * @param optional The optional holding an element of this stream
+     * @return An {@code OptionalShort} holding the same element as the given optional.
+     */
+    private static OptionalShort toOptional(OptionalInt optional) {
+        return optional.isPresent() ? OptionalShort.of(narrow(optional.getAsInt())) : OptionalShort.empty();
+    }
+
+    /**
+     * Converts the given {@code int} value of a widened {@code short} element into the {@code short} element it
+     * represents.
+     *
+     * @param value The {@code int} value of a widened {@code short} element
+     * @return The {@code short} element represented by the given value.
+     */
+    private static short narrow(int value) {
+        return (short) value;
+    }
+
+    /**
+     * Converts the given {@code short} element into the {@code int} value of a widened {@code short} element
+     * representing it.
+     *
+     * @param value The {@code short} element
+     * @return The {@code int} value of a widened {@code short} element representing the given element.
+     */
+    private static int widen(short value) {
+        return value;
+    }
+
+    /**
+     * Adapts the given {@link ShortBinaryOperator} to an {@link IntBinaryOperator} over the the {@code short} elements
+     * widened to {@code int}.
+     *
+     * @param accumulator The operator to be adapted
+     * @return An {@code IntBinaryOperator} applying the given operator to the represented {@code short} elements.
+     */
+    private static IntBinaryOperator widen(ShortBinaryOperator accumulator) {
+        return (value1, value2) -> widen(accumulator.applyAsShort(narrow(value1), narrow(value2)));
+    }
+}
@@ -18,6 +18,7 @@ package org.lambda4j.supplier;
 
 import java.util.Objects;
 import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -25,6 +26,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.BooleanConsumer;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.function.BooleanFunction;
@@ -71,6 +76,26 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
         return expression;
     }
 
+    /**
+     * Returns a {@link BooleanSupplier2} which represents the given boxed supplier, so that it can be used with the
+     * primitive methods of this library. If the given supplier has been returned by {@link #boxed()}, the {@code
+     * BooleanSupplier2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned
+     * function calls the given supplier, unboxing the results.
+     *
+     * @param supplier The boxed supplier to be represented
+     * @return A {@code BooleanSupplier2} which represents the given boxed supplier.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static BooleanSupplier2 unboxed(@Nonnull Supplier<? extends Boolean> supplier) {
+        Objects.requireNonNull(supplier);
+        Object original = Composition.getOriginal(supplier, Kind.BOXING);
+        if (original instanceof BooleanSupplier2) {
+            return (BooleanSupplier2) original;
+        }
+        return () -> supplier.get();
+    }
+
     /**
      * Calls the given {@link BooleanSupplier} with the given argument and returns its result.
      *
@@ -84,14 +109,34 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
     }
 
     /**
-     * Creates a {@link BooleanSupplier2} which always returns a given value.
+     * Creates a {@link BooleanSupplier2} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code BooleanSupplier2} which always returns a given value.
      */
     @Nonnull
     static BooleanSupplier2 constant(boolean ret) {
-        return () -> ret;
+        /**
+         * A {@code BooleanSupplier2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BooleanSupplier2 {
+
+            /**
+             * Creates a constant {@code BooleanSupplier2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public boolean getAsBoolean() {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -102,7 +147,25 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
      */
     @Nonnull
     static BooleanSupplier2 alwaysTrue() {
-        return () -> true;
+        /**
+         * A {@code BooleanSupplier2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BooleanSupplier2 {
+
+            /**
+             * Creates a constant {@code BooleanSupplier2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, true);
+            }
+
+            @Override
+            public boolean getAsBoolean() {
+                return true;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -113,7 +176,25 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
      */
     @Nonnull
     static BooleanSupplier2 alwaysFalse() {
-        return () -> false;
+        /**
+         * A {@code BooleanSupplier2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements BooleanSupplier2 {
+
+            /**
+             * Creates a constant {@code BooleanSupplier2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, false);
+            }
+
+            @Override
+            public boolean getAsBoolean() {
+                return false;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -146,10 +227,15 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> Supplier2<S> andThen(@Nonnull BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Supplier2.constant(after.apply(getAsBoolean()));
+        }
         return () -> after.apply(getAsBoolean());
     }
 
@@ -165,10 +251,18 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanSupplier2 andThenToBoolean(@Nonnull BooleanUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return BooleanSupplier2.constant(after.applyAsBoolean(getAsBoolean()));
+        }
         return () -> after.applyAsBoolean(getAsBoolean());
     }
 
@@ -184,10 +278,15 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteSupplier andThenToByte(@Nonnull BooleanToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ByteSupplier.constant(after.applyAsByte(getAsBoolean()));
+        }
         return () -> after.applyAsByte(getAsBoolean());
     }
 
@@ -203,10 +302,15 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharSupplier andThenToChar(@Nonnull BooleanToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharSupplier.constant(after.applyAsChar(getAsBoolean()));
+        }
         return () -> after.applyAsChar(getAsBoolean());
     }
 
@@ -222,10 +326,15 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleSupplier2 andThenToDouble(@Nonnull BooleanToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleSupplier2.constant(after.applyAsDouble(getAsBoolean()));
+        }
         return () -> after.applyAsDouble(getAsBoolean());
     }
 
@@ -241,10 +350,15 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatSupplier andThenToFloat(@Nonnull BooleanToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatSupplier.constant(after.applyAsFloat(getAsBoolean()));
+        }
         return () -> after.applyAsFloat(getAsBoolean());
     }
 
@@ -260,10 +374,15 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntSupplier2 andThenToInt(@Nonnull BooleanToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntSupplier2.constant(after.applyAsInt(getAsBoolean()));
+        }
         return () -> after.applyAsInt(getAsBoolean());
     }
 
@@ -279,10 +398,15 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongSupplier2 andThenToLong(@Nonnull BooleanToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongSupplier2.constant(after.applyAsLong(getAsBoolean()));
+        }
         return () -> after.applyAsLong(getAsBoolean());
     }
 
@@ -298,10 +422,15 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortSupplier andThenToShort(@Nonnull BooleanToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ShortSupplier.constant(after.applyAsShort(getAsBoolean()));
+        }
         return () -> after.applyAsShort(getAsBoolean());
     }
 
@@ -334,6 +463,24 @@ public interface BooleanSupplier2 extends Lambda, BooleanSupplier {
      */
     @Nonnull
     default Supplier2<Boolean> boxed() {
-        return this::getAsBoolean;
+        /**
+         * A {@code Supplier2} which applies this {@code BooleanSupplier2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Supplier2<Boolean> {
+
+            /**
+             * Creates the boxed variant of this {@code BooleanSupplier2}.
+             */
+            Boxed() {
+                super(BooleanSupplier2.this);
+            }
+
+            @Override
+            public Boolean get() {
+                return BooleanSupplier2.this.getAsBoolean();
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -17,6 +17,7 @@
 package org.lambda4j.supplier;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -24,6 +25,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.ByteConsumer;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.function.ByteFunction;
@@ -68,6 +73,26 @@ public interface ByteSupplier extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ByteSupplier} which represents the given boxed supplier, so that it can be used with the
+     * primitive methods of this library. If the given supplier has been returned by {@link #boxed()}, the {@code
+     * ByteSupplier} it represents is returned, so that no values are boxed anymore. Otherwise, the returned supplier
+     * calls the given supplier, unboxing the results.
+     *
+     * @param supplier The boxed supplier to be represented
+     * @return A {@code ByteSupplier} which represents the given boxed supplier.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static ByteSupplier unboxed(@Nonnull Supplier<? extends Byte> supplier) {
+        Objects.requireNonNull(supplier);
+        Object original = Composition.getOriginal(supplier, Kind.BOXING);
+        if (original instanceof ByteSupplier) {
+            return (ByteSupplier) original;
+        }
+        return () -> supplier.get();
+    }
+
     /**
      * Calls the given {@link ByteSupplier} with the given argument and returns its result.
      *
@@ -81,14 +106,33 @@ public interface ByteSupplier extends Lambda {
     }
 
     /**
-     * Creates a {@link ByteSupplier} which always returns a given value.
+     * Creates a {@link ByteSupplier} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param ret The return value for the constant
      * @return A {@code ByteSupplier} which always returns a given value.
      */
     @Nonnull
     static ByteSupplier constant(byte ret) {
-        return () -> ret;
+        /**
+         * A {@code ByteSupplier} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ByteSupplier {
+
+            /**
+             * Creates a constant {@code ByteSupplier}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public byte getAsByte() {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -120,10 +164,15 @@ public interface ByteSupplier extends Lambda {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> Supplier2<S> andThen(@Nonnull ByteFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Supplier2.constant(after.apply(getAsByte()));
+        }
         return () -> after.apply(getAsByte());
     }
 
@@ -139,10 +188,15 @@ public interface ByteSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanSupplier2 andThenToBoolean(@Nonnull BytePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanSupplier2.constant(after.test(getAsByte()));
+        }
         return () -> after.test(getAsByte());
     }
 
@@ -158,10 +212,18 @@ public interface ByteSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteSupplier andThenToByte(@Nonnull ByteUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ByteSupplier.constant(after.applyAsByte(getAsByte()));
+        }
         return () -> after.applyAsByte(getAsByte());
     }
 
@@ -177,10 +239,15 @@ public interface ByteSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharSupplier andThenToChar(@Nonnull ByteToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharSupplier.constant(after.applyAsChar(getAsByte()));
+        }
         return () -> after.applyAsChar(getAsByte());
     }
 
@@ -196,10 +263,15 @@ public interface ByteSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleSupplier2 andThenToDouble(@Nonnull ByteToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleSupplier2.constant(after.applyAsDouble(getAsByte()));
+        }
         return () -> after.applyAsDouble(getAsByte());
     }
 
@@ -215,10 +287,15 @@ public interface ByteSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatSupplier andThenToFloat(@Nonnull ByteToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatSupplier.constant(after.applyAsFloat(getAsByte()));
+        }
         return () -> after.applyAsFloat(getAsByte());
     }
 
@@ -234,10 +311,15 @@ public interface ByteSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntSupplier2 andThenToInt(@Nonnull ByteToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntSupplier2.constant(after.applyAsInt(getAsByte()));
+        }
         return () -> after.applyAsInt(getAsByte());
     }
 
@@ -253,10 +335,15 @@ public interface ByteSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongSupplier2 andThenToLong(@Nonnull ByteToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongSupplier2.constant(after.applyAsLong(getAsByte()));
+        }
         return () -> after.applyAsLong(getAsByte());
     }
 
@@ -272,10 +359,15 @@ public interface ByteSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortSupplier andThenToShort(@Nonnull ByteToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ShortSupplier.constant(after.applyAsShort(getAsByte()));
+        }
         return () -> after.applyAsShort(getAsByte());
     }
 
@@ -308,6 +400,24 @@ public interface ByteSupplier extends Lambda {
      */
     @Nonnull
     default Supplier2<Byte> boxed() {
-        return this::getAsByte;
+        /**
+         * A {@code Supplier2} which applies this {@code ByteSupplier} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Supplier2<Byte> {
+
+            /**
+             * Creates the boxed variant of this {@code ByteSupplier}.
+             */
+            Boxed() {
+                super(ByteSupplier.this);
+            }
+
+            @Override
+            public Byte get() {
+                return ByteSupplier.this.getAsByte();
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -24,6 +24,7 @@ import java.util.function.DoubleSupplier;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.DoubleToLongFunction;
 import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -31,6 +32,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.function.conversion.DoubleToByteFunction;
 import org.lambda4j.function.conversion.DoubleToCharFunction;
@@ -70,6 +75,26 @@ public interface DoubleSupplier2 extends Lambda, DoubleSupplier {
         return expression;
     }
 
+    /**
+     * Returns a {@link DoubleSupplier2} which represents the given boxed supplier, so that it can be used with the
+     * primitive methods of this library. If the given supplier has been returned by {@link #boxed()}, the {@code
+     * DoubleSupplier2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given supplier, unboxing the results.
+     *
+     * @param supplier The boxed supplier to be represented
+     * @return A {@code DoubleSupplier2} which represents the given boxed supplier.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static DoubleSupplier2 unboxed(@Nonnull Supplier<? extends Double> supplier) {
+        Objects.requireNonNull(supplier);
+        Object original = Composition.getOriginal(supplier, Kind.BOXING);
+        if (original instanceof DoubleSupplier2) {
+            return (DoubleSupplier2) original;
+        }
+        return () -> supplier.get();
+    }
+
     /**
      * Calls the given {@link DoubleSupplier} with the given argument and returns its result.
      *
@@ -83,14 +108,34 @@ public interface DoubleSupplier2 extends Lambda, DoubleSupplier {
     }
 
     /**
-     * Creates a {@link DoubleSupplier2} which always returns a given value.
+     * Creates a {@link DoubleSupplier2} which always returns a given value. If it is composed with a following
+     * function, that function is applied to the value once when composing, and the composed function is a constant as
+     * well.
      *
      * @param ret The return value for the constant
      * @return A {@code DoubleSupplier2} which always returns a given value.
      */
     @Nonnull
     static DoubleSupplier2 constant(double ret) {
-        return () -> ret;
+        /**
+         * A {@code DoubleSupplier2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements DoubleSupplier2 {
+
+            /**
+             * Creates a constant {@code DoubleSupplier2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public double getAsDouble() {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -123,10 +168,15 @@ public interface DoubleSupplier2 extends Lambda, DoubleSupplier {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> Supplier2<S> andThen(@Nonnull DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Supplier2.constant(after.apply(getAsDouble()));
+        }
         return () -> after.apply(getAsDouble());
     }
 
@@ -142,10 +192,15 @@ public interface DoubleSupplier2 extends Lambda, DoubleSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanSupplier2 andThenToBoolean(@Nonnull DoublePredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanSupplier2.constant(after.test(getAsDouble()));
+        }
         return () -> after.test(getAsDouble());
     }
 
@@ -161,10 +216,15 @@ public interface DoubleSupplier2 extends Lambda, DoubleSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteSupplier andThenToByte(@Nonnull DoubleToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ByteSupplier.constant(after.applyAsByte(getAsDouble()));
+        }
         return () -> after.applyAsByte(getAsDouble());
     }
 
@@ -180,10 +240,15 @@ public interface DoubleSupplier2 extends Lambda, DoubleSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharSupplier andThenToChar(@Nonnull DoubleToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharSupplier.constant(after.applyAsChar(getAsDouble()));
+        }
         return () -> after.applyAsChar(getAsDouble());
     }
 
@@ -199,10 +264,18 @@ public interface DoubleSupplier2 extends Lambda, DoubleSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleSupplier2 andThenToDouble(@Nonnull DoubleUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return DoubleSupplier2.constant(after.applyAsDouble(getAsDouble()));
+        }
         return () -> after.applyAsDouble(getAsDouble());
     }
 
@@ -218,10 +291,15 @@ public interface DoubleSupplier2 extends Lambda, DoubleSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatSupplier andThenToFloat(@Nonnull DoubleToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatSupplier.constant(after.applyAsFloat(getAsDouble()));
+        }
         return () -> after.applyAsFloat(getAsDouble());
     }
 
@@ -237,10 +315,15 @@ public interface DoubleSupplier2 extends Lambda, DoubleSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntSupplier2 andThenToInt(@Nonnull DoubleToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntSupplier2.constant(after.applyAsInt(getAsDouble()));
+        }
         return () -> after.applyAsInt(getAsDouble());
     }
 
@@ -256,10 +339,15 @@ public interface DoubleSupplier2 extends Lambda, DoubleSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongSupplier2 andThenToLong(@Nonnull DoubleToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongSupplier2.constant(after.applyAsLong(getAsDouble()));
+        }
         return () -> after.applyAsLong(getAsDouble());
     }
 
@@ -275,10 +363,15 @@ public interface DoubleSupplier2 extends Lambda, DoubleSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortSupplier andThenToShort(@Nonnull DoubleToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ShortSupplier.constant(after.applyAsShort(getAsDouble()));
+        }
         return () -> after.applyAsShort(getAsDouble());
     }
 
@@ -311,6 +404,24 @@ public interface DoubleSupplier2 extends Lambda, DoubleSupplier {
      */
     @Nonnull
     default Supplier2<Double> boxed() {
-        return this::getAsDouble;
+        /**
+         * A {@code Supplier2} which applies this {@code DoubleSupplier2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Supplier2<Double> {
+
+            /**
+             * Creates the boxed variant of this {@code DoubleSupplier2}.
+             */
+            Boxed() {
+                super(DoubleSupplier2.this);
+            }
+
+            @Override
+            public Double get() {
+                return DoubleSupplier2.this.getAsDouble();
+            }
+        }
+
+        return new Boxed();
     }
 }
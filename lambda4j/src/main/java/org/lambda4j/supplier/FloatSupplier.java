@@ -17,6 +17,7 @@
 package org.lambda4j.supplier;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -24,6 +25,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.consumer.FloatConsumer;
 import org.lambda4j.function.FloatFunction;
@@ -68,6 +73,26 @@ public interface FloatSupplier extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link FloatSupplier} which represents the given boxed supplier, so that it can be used with the
+     * primitive methods of this library. If the given supplier has been returned by {@link #boxed()}, the {@code
+     * FloatSupplier} it represents is returned, so that no values are boxed anymore. Otherwise, the returned supplier
+     * calls the given supplier, unboxing the results.
+     *
+     * @param supplier The boxed supplier to be represented
+     * @return A {@code FloatSupplier} which represents the given boxed supplier.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static FloatSupplier unboxed(@Nonnull Supplier<? extends Float> supplier) {
+        Objects.requireNonNull(supplier);
+        Object original = Composition.getOriginal(supplier, Kind.BOXING);
+        if (original instanceof FloatSupplier) {
+            return (FloatSupplier) original;
+        }
+        return () -> supplier.get();
+    }
+
     /**
      * Calls the given {@link FloatSupplier} with the given argument and returns its result.
      *
@@ -81,14 +106,33 @@ public interface FloatSupplier extends Lambda {
     }
 
     /**
-     * Creates a {@link FloatSupplier} which always returns a given value.
+     * Creates a {@link FloatSupplier} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param ret The return value for the constant
      * @return A {@code FloatSupplier} which always returns a given value.
      */
     @Nonnull
     static FloatSupplier constant(float ret) {
-        return () -> ret;
+        /**
+         * A {@code FloatSupplier} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements FloatSupplier {
+
+            /**
+             * Creates a constant {@code FloatSupplier}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public float getAsFloat() {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -120,10 +164,15 @@ public interface FloatSupplier extends Lambda {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> Supplier2<S> andThen(@Nonnull FloatFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Supplier2.constant(after.apply(getAsFloat()));
+        }
         return () -> after.apply(getAsFloat());
     }
 
@@ -139,10 +188,15 @@ public interface FloatSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanSupplier2 andThenToBoolean(@Nonnull FloatPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanSupplier2.constant(after.test(getAsFloat()));
+        }
         return () -> after.test(getAsFloat());
     }
 
@@ -158,10 +212,15 @@ public interface FloatSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteSupplier andThenToByte(@Nonnull FloatToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ByteSupplier.constant(after.applyAsByte(getAsFloat()));
+        }
         return () -> after.applyAsByte(getAsFloat());
     }
 
@@ -177,10 +236,15 @@ public interface FloatSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharSupplier andThenToChar(@Nonnull FloatToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharSupplier.constant(after.applyAsChar(getAsFloat()));
+        }
         return () -> after.applyAsChar(getAsFloat());
     }
 
@@ -196,10 +260,15 @@ public interface FloatSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleSupplier2 andThenToDouble(@Nonnull FloatToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleSupplier2.constant(after.applyAsDouble(getAsFloat()));
+        }
         return () -> after.applyAsDouble(getAsFloat());
     }
 
@@ -215,10 +284,18 @@ public interface FloatSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatSupplier andThenToFloat(@Nonnull FloatUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return FloatSupplier.constant(after.applyAsFloat(getAsFloat()));
+        }
         return () -> after.applyAsFloat(getAsFloat());
     }
 
@@ -234,10 +311,15 @@ public interface FloatSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntSupplier2 andThenToInt(@Nonnull FloatToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntSupplier2.constant(after.applyAsInt(getAsFloat()));
+        }
         return () -> after.applyAsInt(getAsFloat());
     }
 
@@ -253,10 +335,15 @@ public interface FloatSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongSupplier2 andThenToLong(@Nonnull FloatToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongSupplier2.constant(after.applyAsLong(getAsFloat()));
+        }
         return () -> after.applyAsLong(getAsFloat());
     }
 
@@ -272,10 +359,15 @@ public interface FloatSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortSupplier andThenToShort(@Nonnull FloatToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ShortSupplier.constant(after.applyAsShort(getAsFloat()));
+        }
         return () -> after.applyAsShort(getAsFloat());
     }
 
@@ -308,6 +400,24 @@ public interface FloatSupplier extends Lambda {
      */
     @Nonnull
     default Supplier2<Float> boxed() {
-        return this::getAsFloat;
+        /**
+         * A {@code Supplier2} which applies this {@code FloatSupplier} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Supplier2<Float> {
+
+            /**
+             * Creates the boxed variant of this {@code FloatSupplier}.
+             */
+            Boxed() {
+                super(FloatSupplier.this);
+            }
+
+            @Override
+            public Float get() {
+                return FloatSupplier.this.getAsFloat();
+            }
+        }
+
+        return new Boxed();
     }
 }
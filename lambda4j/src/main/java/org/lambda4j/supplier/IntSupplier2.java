@@ -24,6 +24,7 @@ import java.util.function.IntSupplier;
 import java.util.function.IntToDoubleFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -31,6 +32,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.function.conversion.IntToByteFunction;
 import org.lambda4j.function.conversion.IntToCharFunction;
@@ -70,6 +75,26 @@ public interface IntSupplier2 extends Lambda, IntSupplier {
         return expression;
     }
 
+    /**
+     * Returns a {@link IntSupplier2} which represents the given boxed supplier, so that it can be used with the
+     * primitive methods of this library. If the given supplier has been returned by {@link #boxed()}, the {@code
+     * IntSupplier2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given supplier, unboxing the results.
+     *
+     * @param supplier The boxed supplier to be represented
+     * @return A {@code IntSupplier2} which represents the given boxed supplier.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static IntSupplier2 unboxed(@Nonnull Supplier<? extends Integer> supplier) {
+        Objects.requireNonNull(supplier);
+        Object original = Composition.getOriginal(supplier, Kind.BOXING);
+        if (original instanceof IntSupplier2) {
+            return (IntSupplier2) original;
+        }
+        return () -> supplier.get();
+    }
+
     /**
      * Calls the given {@link IntSupplier} with the given argument and returns its result.
      *
@@ -83,14 +108,33 @@ public interface IntSupplier2 extends Lambda, IntSupplier {
     }
 
     /**
-     * Creates a {@link IntSupplier2} which always returns a given value.
+     * Creates a {@link IntSupplier2} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param ret The return value for the constant
      * @return A {@code IntSupplier2} which always returns a given value.
      */
     @Nonnull
     static IntSupplier2 constant(int ret) {
-        return () -> ret;
+        /**
+         * A {@code IntSupplier2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements IntSupplier2 {
+
+            /**
+             * Creates a constant {@code IntSupplier2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public int getAsInt() {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -123,10 +167,15 @@ public interface IntSupplier2 extends Lambda, IntSupplier {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> Supplier2<S> andThen(@Nonnull IntFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Supplier2.constant(after.apply(getAsInt()));
+        }
         return () -> after.apply(getAsInt());
     }
 
@@ -142,10 +191,15 @@ public interface IntSupplier2 extends Lambda, IntSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanSupplier2 andThenToBoolean(@Nonnull IntPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanSupplier2.constant(after.test(getAsInt()));
+        }
         return () -> after.test(getAsInt());
     }
 
@@ -161,10 +215,15 @@ public interface IntSupplier2 extends Lambda, IntSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteSupplier andThenToByte(@Nonnull IntToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ByteSupplier.constant(after.applyAsByte(getAsInt()));
+        }
         return () -> after.applyAsByte(getAsInt());
     }
 
@@ -180,10 +239,15 @@ public interface IntSupplier2 extends Lambda, IntSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharSupplier andThenToChar(@Nonnull IntToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharSupplier.constant(after.applyAsChar(getAsInt()));
+        }
         return () -> after.applyAsChar(getAsInt());
     }
 
@@ -199,10 +263,15 @@ public interface IntSupplier2 extends Lambda, IntSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleSupplier2 andThenToDouble(@Nonnull IntToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleSupplier2.constant(after.applyAsDouble(getAsInt()));
+        }
         return () -> after.applyAsDouble(getAsInt());
     }
 
@@ -218,10 +287,15 @@ public interface IntSupplier2 extends Lambda, IntSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatSupplier andThenToFloat(@Nonnull IntToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatSupplier.constant(after.applyAsFloat(getAsInt()));
+        }
         return () -> after.applyAsFloat(getAsInt());
     }
 
@@ -237,10 +311,18 @@ public interface IntSupplier2 extends Lambda, IntSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntSupplier2 andThenToInt(@Nonnull IntUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return IntSupplier2.constant(after.applyAsInt(getAsInt()));
+        }
         return () -> after.applyAsInt(getAsInt());
     }
 
@@ -256,10 +338,15 @@ public interface IntSupplier2 extends Lambda, IntSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongSupplier2 andThenToLong(@Nonnull IntToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongSupplier2.constant(after.applyAsLong(getAsInt()));
+        }
         return () -> after.applyAsLong(getAsInt());
     }
 
@@ -275,10 +362,15 @@ public interface IntSupplier2 extends Lambda, IntSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortSupplier andThenToShort(@Nonnull IntToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ShortSupplier.constant(after.applyAsShort(getAsInt()));
+        }
         return () -> after.applyAsShort(getAsInt());
     }
 
@@ -311,6 +403,24 @@ public interface IntSupplier2 extends Lambda, IntSupplier {
      */
     @Nonnull
     default Supplier2<Integer> boxed() {
-        return this::getAsInt;
+        /**
+         * A {@code Supplier2} which applies this {@code IntSupplier2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Supplier2<Integer> {
+
+            /**
+             * Creates the boxed variant of this {@code IntSupplier2}.
+             */
+            Boxed() {
+                super(IntSupplier2.this);
+            }
+
+            @Override
+            public Integer get() {
+                return IntSupplier2.this.getAsInt();
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -24,6 +24,7 @@ import java.util.function.LongSupplier;
 import java.util.function.LongToDoubleFunction;
 import java.util.function.LongToIntFunction;
 import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -31,6 +32,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.function.conversion.LongToByteFunction;
 import org.lambda4j.function.conversion.LongToCharFunction;
@@ -70,6 +75,26 @@ public interface LongSupplier2 extends Lambda, LongSupplier {
         return expression;
     }
 
+    /**
+     * Returns a {@link LongSupplier2} which represents the given boxed supplier, so that it can be used with the
+     * primitive methods of this library. If the given supplier has been returned by {@link #boxed()}, the {@code
+     * LongSupplier2} it represents is returned, so that no values are boxed anymore. Otherwise, the returned function
+     * calls the given supplier, unboxing the results.
+     *
+     * @param supplier The boxed supplier to be represented
+     * @return A {@code LongSupplier2} which represents the given boxed supplier.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static LongSupplier2 unboxed(@Nonnull Supplier<? extends Long> supplier) {
+        Objects.requireNonNull(supplier);
+        Object original = Composition.getOriginal(supplier, Kind.BOXING);
+        if (original instanceof LongSupplier2) {
+            return (LongSupplier2) original;
+        }
+        return () -> supplier.get();
+    }
+
     /**
      * Calls the given {@link LongSupplier} with the given argument and returns its result.
      *
@@ -83,14 +108,33 @@ public interface LongSupplier2 extends Lambda, LongSupplier {
     }
 
     /**
-     * Creates a {@link LongSupplier2} which always returns a given value.
+     * Creates a {@link LongSupplier2} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param ret The return value for the constant
      * @return A {@code LongSupplier2} which always returns a given value.
      */
     @Nonnull
     static LongSupplier2 constant(long ret) {
-        return () -> ret;
+        /**
+         * A {@code LongSupplier2} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements LongSupplier2 {
+
+            /**
+             * Creates a constant {@code LongSupplier2}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public long getAsLong() {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -123,10 +167,15 @@ public interface LongSupplier2 extends Lambda, LongSupplier {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> Supplier2<S> andThen(@Nonnull LongFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Supplier2.constant(after.apply(getAsLong()));
+        }
         return () -> after.apply(getAsLong());
     }
 
@@ -142,10 +191,15 @@ public interface LongSupplier2 extends Lambda, LongSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanSupplier2 andThenToBoolean(@Nonnull LongPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanSupplier2.constant(after.test(getAsLong()));
+        }
         return () -> after.test(getAsLong());
     }
 
@@ -161,10 +215,15 @@ public interface LongSupplier2 extends Lambda, LongSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteSupplier andThenToByte(@Nonnull LongToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ByteSupplier.constant(after.applyAsByte(getAsLong()));
+        }
         return () -> after.applyAsByte(getAsLong());
     }
 
@@ -180,10 +239,15 @@ public interface LongSupplier2 extends Lambda, LongSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharSupplier andThenToChar(@Nonnull LongToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharSupplier.constant(after.applyAsChar(getAsLong()));
+        }
         return () -> after.applyAsChar(getAsLong());
     }
 
@@ -199,10 +263,15 @@ public interface LongSupplier2 extends Lambda, LongSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleSupplier2 andThenToDouble(@Nonnull LongToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleSupplier2.constant(after.applyAsDouble(getAsLong()));
+        }
         return () -> after.applyAsDouble(getAsLong());
     }
 
@@ -218,10 +287,15 @@ public interface LongSupplier2 extends Lambda, LongSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatSupplier andThenToFloat(@Nonnull LongToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatSupplier.constant(after.applyAsFloat(getAsLong()));
+        }
         return () -> after.applyAsFloat(getAsLong());
     }
 
@@ -237,10 +311,15 @@ public interface LongSupplier2 extends Lambda, LongSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntSupplier2 andThenToInt(@Nonnull LongToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntSupplier2.constant(after.applyAsInt(getAsLong()));
+        }
         return () -> after.applyAsInt(getAsLong());
     }
 
@@ -256,10 +335,18 @@ public interface LongSupplier2 extends Lambda, LongSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongSupplier2 andThenToLong(@Nonnull LongUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return LongSupplier2.constant(after.applyAsLong(getAsLong()));
+        }
         return () -> after.applyAsLong(getAsLong());
     }
 
@@ -275,10 +362,15 @@ public interface LongSupplier2 extends Lambda, LongSupplier {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortSupplier andThenToShort(@Nonnull LongToShortFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ShortSupplier.constant(after.applyAsShort(getAsLong()));
+        }
         return () -> after.applyAsShort(getAsLong());
     }
 
@@ -311,6 +403,24 @@ public interface LongSupplier2 extends Lambda, LongSupplier {
      */
     @Nonnull
     default Supplier2<Long> boxed() {
-        return this::getAsLong;
+        /**
+         * A {@code Supplier2} which applies this {@code LongSupplier2} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Supplier2<Long> {
+
+            /**
+             * Creates the boxed variant of this {@code LongSupplier2}.
+             */
+            Boxed() {
+                super(LongSupplier2.this);
+            }
+
+            @Override
+            public Long get() {
+                return LongSupplier2.this.getAsLong();
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -17,6 +17,7 @@
 package org.lambda4j.supplier;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnegative;
@@ -24,6 +25,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.lambda4j.Lambda;
+import org.lambda4j.composition.AbstractBoxing;
+import org.lambda4j.composition.AbstractCanonical;
+import org.lambda4j.composition.Composition;
+import org.lambda4j.composition.Composition.Kind;
 import org.lambda4j.consumer.Consumer2;
 import org.lambda4j.consumer.ShortConsumer;
 import org.lambda4j.function.ShortFunction;
@@ -68,6 +73,26 @@ public interface ShortSupplier extends Lambda {
         return expression;
     }
 
+    /**
+     * Returns a {@link ShortSupplier} which represents the given boxed supplier, so that it can be used with the
+     * primitive methods of this library. If the given supplier has been returned by {@link #boxed()}, the {@code
+     * ShortSupplier} it represents is returned, so that no values are boxed anymore. Otherwise, the returned supplier
+     * calls the given supplier, unboxing the results.
+     *
+     * @param supplier The boxed supplier to be represented
+     * @return A {@code ShortSupplier} which represents the given boxed supplier.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    static ShortSupplier unboxed(@Nonnull Supplier<? extends Short> supplier) {
+        Objects.requireNonNull(supplier);
+        Object original = Composition.getOriginal(supplier, Kind.BOXING);
+        if (original instanceof ShortSupplier) {
+            return (ShortSupplier) original;
+        }
+        return () -> supplier.get();
+    }
+
     /**
      * Calls the given {@link ShortSupplier} with the given argument and returns its result.
      *
@@ -81,14 +106,33 @@ public interface ShortSupplier extends Lambda {
     }
 
     /**
-     * Creates a {@link ShortSupplier} which always returns a given value.
+     * Creates a {@link ShortSupplier} which always returns a given value. If it is composed with a following function,
+     * that function is applied to the value once when composing, and the composed function is a constant as well.
      *
      * @param ret The return value for the constant
      * @return A {@code ShortSupplier} which always returns a given value.
      */
     @Nonnull
     static ShortSupplier constant(short ret) {
-        return () -> ret;
+        /**
+         * A {@code ShortSupplier} which always returns a given value.
+         */
+        final class Constant extends AbstractCanonical implements ShortSupplier {
+
+            /**
+             * Creates a constant {@code ShortSupplier}.
+             */
+            Constant() {
+                super(Kind.CONSTANT, ret);
+            }
+
+            @Override
+            public short getAsShort() {
+                return ret;
+            }
+        }
+
+        return new Constant();
     }
 
     /**
@@ -120,10 +164,15 @@ public interface ShortSupplier extends Lambda {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default <S> Supplier2<S> andThen(@Nonnull ShortFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return Supplier2.constant(after.apply(getAsShort()));
+        }
         return () -> after.apply(getAsShort());
     }
 
@@ -139,10 +188,15 @@ public interface ShortSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * boolean}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default BooleanSupplier2 andThenToBoolean(@Nonnull ShortPredicate after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return BooleanSupplier2.constant(after.test(getAsShort()));
+        }
         return () -> after.test(getAsShort());
     }
 
@@ -158,10 +212,15 @@ public interface ShortSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * byte}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ByteSupplier andThenToByte(@Nonnull ShortToByteFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return ByteSupplier.constant(after.applyAsByte(getAsShort()));
+        }
         return () -> after.applyAsByte(getAsShort());
     }
 
@@ -177,10 +236,15 @@ public interface ShortSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * char}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default CharSupplier andThenToChar(@Nonnull ShortToCharFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return CharSupplier.constant(after.applyAsChar(getAsShort()));
+        }
         return () -> after.applyAsChar(getAsShort());
     }
 
@@ -196,10 +260,15 @@ public interface ShortSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * double}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default DoubleSupplier2 andThenToDouble(@Nonnull ShortToDoubleFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return DoubleSupplier2.constant(after.applyAsDouble(getAsShort()));
+        }
         return () -> after.applyAsDouble(getAsShort());
     }
 
@@ -215,10 +284,15 @@ public interface ShortSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * float}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default FloatSupplier andThenToFloat(@Nonnull ShortToFloatFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return FloatSupplier.constant(after.applyAsFloat(getAsShort()));
+        }
         return () -> after.applyAsFloat(getAsShort());
     }
 
@@ -234,10 +308,15 @@ public interface ShortSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * int}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default IntSupplier2 andThenToInt(@Nonnull ShortToIntFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return IntSupplier2.constant(after.applyAsInt(getAsShort()));
+        }
         return () -> after.applyAsInt(getAsShort());
     }
 
@@ -253,10 +332,15 @@ public interface ShortSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * long}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default LongSupplier2 andThenToLong(@Nonnull ShortToLongFunction after) {
         Objects.requireNonNull(after);
+        if (Composition.isConstant(this)) {
+            return LongSupplier2.constant(after.applyAsLong(getAsShort()));
+        }
         return () -> after.applyAsLong(getAsShort());
     }
 
@@ -272,10 +356,18 @@ public interface ShortSupplier extends Lambda {
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return primitive values. In this case this is {@code
      * short}.
+     * @implNote If this supplier is a constant, {@code after} is applied to its value once while composing, rather than
+     * on every call of the composed operation, so an exception thrown by it is thrown by this method.
      */
     @Nonnull
     default ShortSupplier andThenToShort(@Nonnull ShortUnaryOperator after) {
         Objects.requireNonNull(after);
+        if (Composition.isIdentity(after)) {
+            return this;
+        }
+        if (Composition.isConstant(this)) {
+            return ShortSupplier.constant(after.applyAsShort(getAsShort()));
+        }
         return () -> after.applyAsShort(getAsShort());
     }
 
@@ -308,6 +400,24 @@ public interface ShortSupplier extends Lambda {
      */
     @Nonnull
     default Supplier2<Short> boxed() {
-        return this::getAsShort;
+        /**
+         * A {@code Supplier2} which applies this {@code ShortSupplier} to its unboxed input arguments.
+         */
+        final class Boxed extends AbstractBoxing implements Supplier2<Short> {
+
+            /**
+             * Creates the boxed variant of this {@code ShortSupplier}.
+             */
+            Boxed() {
+                super(ShortSupplier.this);
+            }
+
+            @Override
+            public Short get() {
+                return ShortSupplier.this.getAsShort();
+            }
+        }
+
+        return new Boxed();
     }
 }
@@ -0,0 +1,498 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector implementations of the kernels, which use the incubating {@code jdk.incubator.vector} module. This class must
+ * only be loaded if that module is present, see {@link IntrinsicUtils}.
+ */
+final class VectorHelper {
+
+    /**
+     * The preferred species of {@code int} vectors.
+     */
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * The preferred species of {@code long} vectors.
+     */
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * The preferred species of {@code float} vectors.
+     */
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+
+    /**
+     * The preferred species of {@code double} vectors.
+     */
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private VectorHelper() {
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive), processing as many indices at once as a vector of the preferred species holds, as long as the
+     * remaining elements fill such a vector.
+     *
+     * @param kernel The kernel to be applied
+     * @param values The array of arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index of the first element not applied, since the remaining elements do not fill a vector.
+     */
+    static int apply(IntUnaryKernel kernel, int[] values, int[] results, int fromIndex, int toIndex) {
+        VectorOperators.Unary operator = operator(kernel);
+        int bound = fromIndex + INTS.loopBound(toIndex - fromIndex);
+        for (int i = fromIndex; i < bound; i += INTS.length()) {
+            IntVector.fromArray(INTS, values, i).lanewise(operator).intoArray(results, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive), processing as many indices at once as a vector of the preferred species holds, as long as the
+     * remaining elements fill such a vector.
+     *
+     * @param kernel The kernel to be applied
+     * @param values1 The array of first arguments
+     * @param values2 The array of second arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index of the first element not applied, since the remaining elements do not fill a vector.
+     */
+    static int apply(IntBinaryKernel kernel, int[] values1, int[] values2, int[] results, int fromIndex, int toIndex) {
+        VectorOperators.Binary operator = operator(kernel);
+        int bound = fromIndex + INTS.loopBound(toIndex - fromIndex);
+        for (int i = fromIndex; i < bound; i += INTS.length()) {
+            IntVector vector1 = IntVector.fromArray(INTS, values1, i);
+            IntVector vector2 = IntVector.fromArray(INTS, values2, i);
+            vector1.lanewise(operator, vector2).intoArray(results, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive), processing as many indices at once as a vector of the preferred species holds, as long as the
+     * remaining elements fill such a vector.
+     *
+     * @param kernel The kernel to be applied
+     * @param values The array of arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index of the first element not applied, since the remaining elements do not fill a vector.
+     */
+    static int apply(LongUnaryKernel kernel, long[] values, long[] results, int fromIndex, int toIndex) {
+        VectorOperators.Unary operator = operator(kernel);
+        int bound = fromIndex + LONGS.loopBound(toIndex - fromIndex);
+        for (int i = fromIndex; i < bound; i += LONGS.length()) {
+            LongVector.fromArray(LONGS, values, i).lanewise(operator).intoArray(results, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive), processing as many indices at once as a vector of the preferred species holds, as long as the
+     * remaining elements fill such a vector.
+     *
+     * @param kernel The kernel to be applied
+     * @param values1 The array of first arguments
+     * @param values2 The array of second arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index of the first element not applied, since the remaining elements do not fill a vector.
+     */
+    static int apply(LongBinaryKernel kernel, long[] values1, long[] values2, long[] results, int fromIndex,
+            int toIndex) {
+        VectorOperators.Binary operator = operator(kernel);
+        int bound = fromIndex + LONGS.loopBound(toIndex - fromIndex);
+        for (int i = fromIndex; i < bound; i += LONGS.length()) {
+            LongVector vector1 = LongVector.fromArray(LONGS, values1, i);
+            LongVector vector2 = LongVector.fromArray(LONGS, values2, i);
+            vector1.lanewise(operator, vector2).intoArray(results, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive), processing as many indices at once as a vector of the preferred species holds, as long as the
+     * remaining elements fill such a vector.
+     *
+     * @param kernel The kernel to be applied
+     * @param values The array of arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index of the first element not applied, since the remaining elements do not fill a vector.
+     */
+    static int apply(FloatUnaryKernel kernel, float[] values, float[] results, int fromIndex, int toIndex) {
+        VectorOperators.Unary operator = operator(kernel);
+        int bound = fromIndex + FLOATS.loopBound(toIndex - fromIndex);
+        for (int i = fromIndex; i < bound; i += FLOATS.length()) {
+            FloatVector.fromArray(FLOATS, values, i).lanewise(operator).intoArray(results, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive), processing as many indices at once as a vector of the preferred species holds, as long as the
+     * remaining elements fill such a vector.
+     *
+     * @param kernel The kernel to be applied
+     * @param values1 The array of first arguments
+     * @param values2 The array of second arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index of the first element not applied, since the remaining elements do not fill a vector.
+     */
+    static int apply(FloatBinaryKernel kernel, float[] values1, float[] values2, float[] results, int fromIndex,
+            int toIndex) {
+        VectorOperators.Binary operator = operator(kernel);
+        int bound = fromIndex + FLOATS.loopBound(toIndex - fromIndex);
+        for (int i = fromIndex; i < bound; i += FLOATS.length()) {
+            FloatVector vector1 = FloatVector.fromArray(FLOATS, values1, i);
+            FloatVector vector2 = FloatVector.fromArray(FLOATS, values2, i);
+            vector1.lanewise(operator, vector2).intoArray(results, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive), processing as many indices at once as a vector of the preferred species holds, as long as the
+     * remaining elements fill such a vector.
+     *
+     * @param kernel The kernel to be applied
+     * @param values1 The array of first arguments
+     * @param values2 The array of second arguments
+     * @param values3 The array of third arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index of the first element not applied, since the remaining elements do not fill a vector.
+     */
+    static int apply(FloatTernaryKernel kernel, float[] values1, float[] values2, float[] values3, float[] results,
+            int fromIndex, int toIndex) {
+        VectorOperators.Ternary operator = operator(kernel);
+        int bound = fromIndex + FLOATS.loopBound(toIndex - fromIndex);
+        for (int i = fromIndex; i < bound; i += FLOATS.length()) {
+            FloatVector vector1 = FloatVector.fromArray(FLOATS, values1, i);
+            FloatVector vector2 = FloatVector.fromArray(FLOATS, values2, i);
+            FloatVector vector3 = FloatVector.fromArray(FLOATS, values3, i);
+            vector1.lanewise(operator, vector2, vector3).intoArray(results, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive), processing as many indices at once as a vector of the preferred species holds, as long as the
+     * remaining elements fill such a vector.
+     *
+     * @param kernel The kernel to be applied
+     * @param values The array of arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index of the first element not applied, since the remaining elements do not fill a vector.
+     */
+    static int apply(DoubleUnaryKernel kernel, double[] values, double[] results, int fromIndex, int toIndex) {
+        VectorOperators.Unary operator = operator(kernel);
+        int bound = fromIndex + DOUBLES.loopBound(toIndex - fromIndex);
+        for (int i = fromIndex; i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, values, i).lanewise(operator).intoArray(results, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive), processing as many indices at once as a vector of the preferred species holds, as long as the
+     * remaining elements fill such a vector.
+     *
+     * @param kernel The kernel to be applied
+     * @param values1 The array of first arguments
+     * @param values2 The array of second arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index of the first element not applied, since the remaining elements do not fill a vector.
+     */
+    static int apply(DoubleBinaryKernel kernel, double[] values1, double[] values2, double[] results, int fromIndex,
+            int toIndex) {
+        VectorOperators.Binary operator = operator(kernel);
+        int bound = fromIndex + DOUBLES.loopBound(toIndex - fromIndex);
+        for (int i = fromIndex; i < bound; i += DOUBLES.length()) {
+            DoubleVector vector1 = DoubleVector.fromArray(DOUBLES, values1, i);
+            DoubleVector vector2 = DoubleVector.fromArray(DOUBLES, values2, i);
+            vector1.lanewise(operator, vector2).intoArray(results, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Applies the given kernel to the elements at each index from the given start index (inclusive) to the given end
+     * index (exclusive), processing as many indices at once as a vector of the preferred species holds, as long as the
+     * remaining elements fill such a vector.
+     *
+     * @param kernel The kernel to be applied
+     * @param values1 The array of first arguments
+     * @param values2 The array of second arguments
+     * @param values3 The array of third arguments
+     * @param results The array in which the results are stored
+     * @param fromIndex The index of the first element to be applied (inclusive)
+     * @param toIndex The index of the last element to be applied (exclusive)
+     * @return The index of the first element not applied, since the remaining elements do not fill a vector.
+     */
+    static int apply(DoubleTernaryKernel kernel, double[] values1, double[] values2, double[] values3, double[] results,
+            int fromIndex, int toIndex) {
+        VectorOperators.Ternary operator = operator(kernel);
+        int bound = fromIndex + DOUBLES.loopBound(toIndex - fromIndex);
+        for (int i = fromIndex; i < bound; i += DOUBLES.length()) {
+            DoubleVector vector1 = DoubleVector.fromArray(DOUBLES, values1, i);
+            DoubleVector vector2 = DoubleVector.fromArray(DOUBLES, values2, i);
+            DoubleVector vector3 = DoubleVector.fromArray(DOUBLES, values3, i);
+            vector1.lanewise(operator, vector2, vector3).intoArray(results, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Returns the vector operator corresponding to the given kernel.
+     *
+     * @param kernel The kernel whose vector operator is to be returned
+     * @return The vector operator corresponding to the given kernel.
+     * @throws AssertionError If given kernel lacks a vector operator
+     */
+    private static VectorOperators.Unary operator(IntUnaryKernel kernel) {
+        switch (kernel) {
+            case NEGATE:
+                return VectorOperators.NEG;
+            case ABS:
+                return VectorOperators.ABS;
+            default:
+                throw new AssertionError(kernel);
+        }
+    }
+
+    /**
+     * Returns the vector operator corresponding to the given kernel.
+     *
+     * @param kernel The kernel whose vector operator is to be returned
+     * @return The vector operator corresponding to the given kernel.
+     * @throws AssertionError If given kernel lacks a vector operator
+     */
+    private static VectorOperators.Binary operator(IntBinaryKernel kernel) {
+        switch (kernel) {
+            case ADD:
+                return VectorOperators.ADD;
+            case SUBTRACT:
+                return VectorOperators.SUB;
+            case MULTIPLY:
+                return VectorOperators.MUL;
+            case MIN:
+                return VectorOperators.MIN;
+            case MAX:
+                return VectorOperators.MAX;
+            default:
+                throw new AssertionError(kernel);
+        }
+    }
+
+    /**
+     * Returns the vector operator corresponding to the given kernel.
+     *
+     * @param kernel The kernel whose vector operator is to be returned
+     * @return The vector operator corresponding to the given kernel.
+     * @throws AssertionError If given kernel lacks a vector operator
+     */
+    private static VectorOperators.Unary operator(LongUnaryKernel kernel) {
+        switch (kernel) {
+            case NEGATE:
+                return VectorOperators.NEG;
+            case ABS:
+                return VectorOperators.ABS;
+            default:
+                throw new AssertionError(kernel);
+        }
+    }
+
+    /**
+     * Returns the vector operator corresponding to the given kernel.
+     *
+     * @param kernel The kernel whose vector operator is to be returned
+     * @return The vector operator corresponding to the given kernel.
+     * @throws AssertionError If given kernel lacks a vector operator
+     */
+    private static VectorOperators.Binary operator(LongBinaryKernel kernel) {
+        switch (kernel) {
+            case ADD:
+                return VectorOperators.ADD;
+            case SUBTRACT:
+                return VectorOperators.SUB;
+            case MULTIPLY:
+                return VectorOperators.MUL;
+            case MIN:
+                return VectorOperators.MIN;
+            case MAX:
+                return VectorOperators.MAX;
+            default:
+                throw new AssertionError(kernel);
+        }
+    }
+
+    /**
+     * Returns the vector operator corresponding to the given kernel.
+     *
+     * @param kernel The kernel whose vector operator is to be returned
+     * @return The vector operator corresponding to the given kernel.
+     * @throws AssertionError If given kernel lacks a vector operator
+     */
+    private static VectorOperators.Unary operator(FloatUnaryKernel kernel) {
+        switch (kernel) {
+            case NEGATE:
+                return VectorOperators.NEG;
+            case ABS:
+                return VectorOperators.ABS;
+            case SQRT:
+                return VectorOperators.SQRT;
+            default:
+                throw new AssertionError(kernel);
+        }
+    }
+
+    /**
+     * Returns the vector operator corresponding to the given kernel.
+     *
+     * @param kernel The kernel whose vector operator is to be returned
+     * @return The vector operator corresponding to the given kernel.
+     * @throws AssertionError If given kernel lacks a vector operator
+     */
+    private static VectorOperators.Binary operator(FloatBinaryKernel kernel) {
+        switch (kernel) {
+            case ADD:
+                return VectorOperators.ADD;
+            case SUBTRACT:
+                return VectorOperators.SUB;
+            case MULTIPLY:
+                return VectorOperators.MUL;
+            case DIVIDE:
+                return VectorOperators.DIV;
+            case MIN:
+                return VectorOperators.MIN;
+            case MAX:
+                return VectorOperators.MAX;
+            default:
+                throw new AssertionError(kernel);
+        }
+    }
+
+    /**
+     * Returns the vector operator corresponding to the given kernel.
+     *
+     * @param kernel The kernel whose vector operator is to be returned
+     * @return The vector operator corresponding to the given kernel.
+     * @throws AssertionError If given kernel lacks a vector operator
+     */
+    private static VectorOperators.Ternary operator(FloatTernaryKernel kernel) {
+        if (kernel != FloatTernaryKernel.FMA) {
+            throw new AssertionError(kernel);
+        }
+        return VectorOperators.FMA;
+    }
+
+    /**
+     * Returns the vector operator corresponding to the given kernel.
+     *
+     * @param kernel The kernel whose vector operator is to be returned
+     * @return The vector operator corresponding to the given kernel.
+     * @throws AssertionError If given kernel lacks a vector operator
+     */
+    private static VectorOperators.Unary operator(DoubleUnaryKernel kernel) {
+        switch (kernel) {
+            case NEGATE:
+                return VectorOperators.NEG;
+            case ABS:
+                return VectorOperators.ABS;
+            case SQRT:
+                return VectorOperators.SQRT;
+            default:
+                throw new AssertionError(kernel);
+        }
+    }
+
+    /**
+     * Returns the vector operator corresponding to the given kernel.
+     *
+     * @param kernel The kernel whose vector operator is to be returned
+     * @return The vector operator corresponding to the given kernel.
+     * @throws AssertionError If given kernel lacks a vector operator
+     */
+    private static VectorOperators.Binary operator(DoubleBinaryKernel kernel) {
+        switch (kernel) {
+            case ADD:
+                return VectorOperators.ADD;
+            case SUBTRACT:
+                return VectorOperators.SUB;
+            case MULTIPLY:
+                return VectorOperators.MUL;
+            case DIVIDE:
+                return VectorOperators.DIV;
+            case MIN:
+                return VectorOperators.MIN;
+            case MAX:
+                return VectorOperators.MAX;
+            default:
+                throw new AssertionError(kernel);
+        }
+    }
+
+    /**
+     * Returns the vector operator corresponding to the given kernel.
+     *
+     * @param kernel The kernel whose vector operator is to be returned
+     * @return The vector operator corresponding to the given kernel.
+     * @throws AssertionError If given kernel lacks a vector operator
+     */
+    private static VectorOperators.Ternary operator(DoubleTernaryKernel kernel) {
+        if (kernel != DoubleTernaryKernel.FMA) {
+            throw new AssertionError(kernel);
+        }
+        return VectorOperators.FMA;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.pipeline;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Compiles the stages of pipelines into functions, which is implemented using the method handles and hidden classes of
+ * Java 17.
+ * <p>
+ * The stages are composed into a single method handle, which is passed as class data to a hidden class defined from one
+ * of the templates of the {@link TemplateHelper}. The hidden class holds the method handle in a static final field,
+ * which the JIT compiler treats as a constant, so that it inlines the composed stages into the compiled function. As
+ * every compiled pipeline is a class of its own, its call sites are not shared with other pipelines. If the templates
+ * cannot be read, the stages are interpreted instead.
+ */
+final class PipelineUtils {
+
+    /**
+     * The lookup defining the hidden classes, which are thereby placed in the package of this class.
+     */
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * The functional interfaces of the stages, indexed by their {@link Lane#kindTo(Lane) kind}.
+     */
+    private static final Class<?>[] STAGE_TYPES = {IntUnaryOperator.class, IntToLongFunction.class,
+            IntToDoubleFunction.class, LongToIntFunction.class, LongUnaryOperator.class, LongToDoubleFunction.class,
+            DoubleToIntFunction.class, DoubleToLongFunction.class, DoubleUnaryOperator.class};
+
+    /**
+     * The templates of the compiled functions, indexed by the {@link Lane#kindTo(Lane) kind} of the pipeline.
+     */
+    private static final Class<?>[] TEMPLATE_TYPES = {TemplateHelper.IntToInt.class,
+            TemplateHelper.IntToLong.class, TemplateHelper.IntToDouble.class, TemplateHelper.LongToInt.class,
+            TemplateHelper.LongToLong.class, TemplateHelper.LongToDouble.class,
+            TemplateHelper.DoubleToInt.class, TemplateHelper.DoubleToLong.class,
+            TemplateHelper.DoubleToDouble.class};
+
+    /**
+     * The names of the functional methods of the stages, indexed by the lane of their results.
+     */
+    private static final String[] METHOD_NAMES = {"applyAsInt", "applyAsLong", "applyAsDouble"};
+
+    /**
+     * The class files of the templates, indexed like their types, which are empty if they cannot be read.
+     */
+    private static final byte[][] TEMPLATES = readTemplates();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PipelineUtils() {
+    }
+
+    /**
+     * Compiles the given stages into a single function applying them one after another. The type of the returned
+     * function is determined by the first and the last of the given lanes.
+     *
+     * @param lanes The lanes connecting the stages, starting with the lane of the arguments of the pipeline
+     * @param functions The functions of the stages, in the order they are applied
+     * @return A function applying the given stages one after another.
+     */
+    @Nonnull
+    static Object compile(@Nonnull Lane[] lanes, @Nonnull Object[] functions) {
+        if (TEMPLATES.length > 0) {
+            try {
+                return define(lanes, functions);
+            } catch (ReflectiveOperationException e) {
+                return new PipelineInterpreter(lanes, functions).toFunction();
+            }
+        }
+        return new PipelineInterpreter(lanes, functions).toFunction();
+    }
+
+    /**
+     * Composes the given stages into a method handle, and instantiates a hidden class invoking it, which is defined
+     * from the template of the type of the pipeline.
+     *
+     * @param lanes The lanes connecting the stages, starting with the lane of the arguments of the pipeline
+     * @param functions The functions of the stages, in the order they are applied
+     * @return An instance of a hidden class applying the given stages one after another.
+     * @throws ReflectiveOperationException If a method of a stage cannot be found, or the hidden class cannot be
+     * instantiated
+     */
+    private static Object define(Lane[] lanes, Object[] functions) throws ReflectiveOperationException {
+        MethodHandle target = MethodHandles.identity(lanes[0].getType());
+        for (int i = 0; i < functions.length; i++) {
+            Lane input = lanes[i];
+            Lane output = lanes[i + 1];
+            MethodType type = MethodType.methodType(output.getType(), input.getType());
+            MethodHandle stage = LOOKUP.findVirtual(STAGE_TYPES[input.kindTo(output)], METHOD_NAMES[output.ordinal()],
+                    type);
+            target = MethodHandles.filterReturnValue(target, stage.bindTo(functions[i]));
+        }
+        byte[] template = TEMPLATES[lanes[0].kindTo(lanes[functions.length])];
+        Class<?> hiddenClass = LOOKUP.defineHiddenClassWithClassData(template, target, true).lookupClass();
+        return hiddenClass.getDeclaredConstructor().newInstance();
+    }
+
+    /**
+     * Reads the class files of the templates from the resources of this library.
+     *
+     * @return The class files of the templates, which are empty if they cannot be read.
+     */
+    private static byte[][] readTemplates() {
+        byte[][] templates = new byte[TEMPLATE_TYPES.length][];
+        for (int i = 0; i < templates.length; i++) {
+            String name = TEMPLATE_TYPES[i].getName();
+            try (InputStream stream = PipelineUtils.class.getResourceAsStream(
+                    name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+                if (stream == null) {
+                    return new byte[0][];
+                }
+                templates[i] = stream.readAllBytes();
+            } catch (IOException e) {
+                return new byte[0][];
+            }
+        }
+        return templates;
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.pipeline;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import javax.annotation.Nonnull;
+
+import org.lambda4j.function.conversion.DoubleToIntFunction2;
+import org.lambda4j.function.conversion.DoubleToLongFunction2;
+import org.lambda4j.function.conversion.IntToDoubleFunction2;
+import org.lambda4j.function.conversion.IntToLongFunction2;
+import org.lambda4j.function.conversion.LongToDoubleFunction2;
+import org.lambda4j.function.conversion.LongToIntFunction2;
+import org.lambda4j.operator.unary.DoubleUnaryOperator2;
+import org.lambda4j.operator.unary.IntUnaryOperator2;
+import org.lambda4j.operator.unary.LongUnaryOperator2;
+
+/**
+ * The templates of the functions compiled from pipelines, whose class files are defined as hidden classes by the
+ * {@link PipelineUtils}. Each template is never initialized itself; every hidden class defined from it reads the
+ * composed stages of its pipeline from its class data into a static final field, and invokes them as a constant.
+ */
+@SuppressWarnings("PMD.AvoidCatchingThrowable")
+final class TemplateHelper {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private TemplateHelper() {
+    }
+
+    /**
+     * Returns the composed stages passed as class data to the hidden class of the given lookup.
+     *
+     * @param lookup The lookup of a hidden class defined from a template
+     * @return The composed stages of the compiled pipeline.
+     * @throws IllegalStateException If the class of given lookup is not a hidden class with class data
+     */
+    @Nonnull
+    static MethodHandle stages(@Nonnull Lookup lookup) {
+        try {
+            return MethodHandles.classData(lookup, ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the given throwable thrown by a stage as an unchecked exception, or throws it if it is an error. As the
+     * functional interfaces of the stages declare no checked exceptions, other throwables are wrapped only for the
+     * sake of the compiler.
+     *
+     * @param throwable The throwable thrown by a stage
+     * @return The given throwable as an unchecked exception, which is to be thrown by the caller.
+     */
+    @Nonnull
+    static RuntimeException rethrow(@Nonnull Throwable throwable) {
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        }
+        return new UndeclaredThrowableException(throwable);
+    }
+
+    /**
+     * The template of the compiled pipelines from {@code int} arguments to {@code int} results.
+     */
+    static final class IntToInt implements IntUnaryOperator2 {
+
+        /**
+         * The composed stages of the compiled pipeline.
+         */
+        private static final MethodHandle STAGES = stages(MethodHandles.lookup());
+
+        @Override
+        public int applyAsInt(int value) {
+            try {
+                return (int) STAGES.invokeExact(value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * The template of the compiled pipelines from {@code int} arguments to {@code long} results.
+     */
+    static final class IntToLong implements IntToLongFunction2 {
+
+        /**
+         * The composed stages of the compiled pipeline.
+         */
+        private static final MethodHandle STAGES = stages(MethodHandles.lookup());
+
+        @Override
+        public long applyAsLong(int value) {
+            try {
+                return (long) STAGES.invokeExact(value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * The template of the compiled pipelines from {@code int} arguments to {@code double} results.
+     */
+    static final class IntToDouble implements IntToDoubleFunction2 {
+
+        /**
+         * The composed stages of the compiled pipeline.
+         */
+        private static final MethodHandle STAGES = stages(MethodHandles.lookup());
+
+        @Override
+        public double applyAsDouble(int value) {
+            try {
+                return (double) STAGES.invokeExact(value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * The template of the compiled pipelines from {@code long} arguments to {@code int} results.
+     */
+    static final class LongToInt implements LongToIntFunction2 {
+
+        /**
+         * The composed stages of the compiled pipeline.
+         */
+        private static final MethodHandle STAGES = stages(MethodHandles.lookup());
+
+        @Override
+        public int applyAsInt(long value) {
+            try {
+                return (int) STAGES.invokeExact(value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * The template of the compiled pipelines from {@code long} arguments to {@code long} results.
+     */
+    static final class LongToLong implements LongUnaryOperator2 {
+
+        /**
+         * The composed stages of the compiled pipeline.
+         */
+        private static final MethodHandle STAGES = stages(MethodHandles.lookup());
+
+        @Override
+        public long applyAsLong(long value) {
+            try {
+                return (long) STAGES.invokeExact(value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * The template of the compiled pipelines from {@code long} arguments to {@code double} results.
+     */
+    static final class LongToDouble implements LongToDoubleFunction2 {
+
+        /**
+         * The composed stages of the compiled pipeline.
+         */
+        private static final MethodHandle STAGES = stages(MethodHandles.lookup());
+
+        @Override
+        public double applyAsDouble(long value) {
+            try {
+                return (double) STAGES.invokeExact(value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * The template of the compiled pipelines from {@code double} arguments to {@code int} results.
+     */
+    static final class DoubleToInt implements DoubleToIntFunction2 {
+
+        /**
+         * The composed stages of the compiled pipeline.
+         */
+        private static final MethodHandle STAGES = stages(MethodHandles.lookup());
+
+        @Override
+        public int applyAsInt(double value) {
+            try {
+                return (int) STAGES.invokeExact(value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * The template of the compiled pipelines from {@code double} arguments to {@code long} results.
+     */
+    static final class DoubleToLong implements DoubleToLongFunction2 {
+
+        /**
+         * The composed stages of the compiled pipeline.
+         */
+        private static final MethodHandle STAGES = stages(MethodHandles.lookup());
+
+        @Override
+        public long applyAsLong(double value) {
+            try {
+                return (long) STAGES.invokeExact(value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * The template of the compiled pipelines from {@code double} arguments to {@code double} results.
+     */
+    static final class DoubleToDouble implements DoubleUnaryOperator2 {
+
+        /**
+         * The composed stages of the compiled pipeline.
+         */
+        private static final MethodHandle STAGES = stages(MethodHandles.lookup());
+
+        @Override
+        public double applyAsDouble(double value) {
+            try {
+                return (double) STAGES.invokeExact(value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+}
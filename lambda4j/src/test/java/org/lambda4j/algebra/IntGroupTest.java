@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IntGroupTest {
+
+    @Test
+    void of_givenOperatorAndInverse_returnsGroup() {
+        IntGroup group = IntGroup.of(0, Integer::sum, value -> -value, true);
+        Assertions.assertEquals(0, group.identity());
+        Assertions.assertEquals(-3, group.inverse(3));
+        Assertions.assertEquals(5, group.applyAsInt(2, 3));
+        Assertions.assertTrue(group.isCommutative());
+    }
+
+    @Test
+    void of_givenNullInverse_throwsException() {
+        Assertions.assertThrows(NullPointerException.class, () -> IntGroup.of(0, Integer::sum, null, true));
+    }
+
+    @Test
+    void standardGroups_givenAnyValue_yieldIdentityWithInverse() {
+        int[] values = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+        for (StandardIntGroup group : StandardIntGroup.values()) {
+            for (int value : values) {
+                Assertions.assertEquals(group.identity(), group.applyAsInt(value, group.inverse(value)));
+                Assertions.assertEquals(group.identity(), group.applyAsInt(group.inverse(value), value));
+            }
+        }
+    }
+}
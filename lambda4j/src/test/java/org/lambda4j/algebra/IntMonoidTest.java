@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.kernel.Parallelism;
+
+class IntMonoidTest {
+
+    /**
+     * The composition of affine maps modulo {@code 2^16}, packing the factor into the upper and the offset into the
+     * lower half of a value, which is associative but not commutative.
+     */
+    static final IntMonoid AFFINE = IntMonoid.of(1 << 16, (value1, value2) -> {
+        int factor = (value1 >>> 16) * (value2 >>> 16);
+        int offset = (value2 >>> 16) * (value1 & 0xFFFF) + (value2 & 0xFFFF);
+        return factor << 16 | offset & 0xFFFF;
+    }, false);
+
+    @Test
+    void of_givenIdentityAndOperator_returnsMonoid() {
+        IntMonoid monoid = IntMonoid.of(1, (value1, value2) -> value1 * value2, true);
+        Assertions.assertEquals(1, monoid.identity());
+        Assertions.assertEquals(6, monoid.applyAsInt(2, 3));
+        Assertions.assertTrue(monoid.isCommutative());
+    }
+
+    @Test
+    void of_givenNull_throwsException() {
+        Assertions.assertThrows(NullPointerException.class, () -> IntMonoid.of(0, null, true));
+    }
+
+    @Test
+    void reduce_givenEmptyRange_returnsIdentity() {
+        Assertions.assertEquals(Integer.MAX_VALUE, StandardIntMonoid.MIN.reduce(new int[] {1, 2}, 1, 1));
+        Assertions.assertEquals(0, StandardIntMonoid.SUM.reduceParallel(new int[0]));
+    }
+
+    @Test
+    void scanExclusive_givenArray_storesExclusivePrefixes() {
+        int[] values = {1, 2, 3, 4};
+        StandardIntMonoid.SUM.scanExclusive(values, values);
+        Assertions.assertArrayEquals(new int[] {0, 1, 3, 6}, values);
+    }
+
+    @Test
+    void scanExclusiveParallel_givenArray_storesSequentialResults() {
+        int[] values = new int[1_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 0x9E3779B9;
+        }
+        int[] expected = new int[values.length];
+        AFFINE.scanExclusive(values, expected);
+        AFFINE.scanExclusiveParallel(values, values, Parallelism.common().withGrain(9));
+        Assertions.assertArrayEquals(expected, values);
+    }
+
+    @Test
+    void standardMonoids_givenAnyValue_leaveValueUnchangedWithIdentity() {
+        int[] values = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+        for (StandardIntMonoid monoid : StandardIntMonoid.values()) {
+            Assertions.assertTrue(monoid.isCommutative());
+            for (int value : values) {
+                Assertions.assertEquals(value, monoid.applyAsInt(monoid.identity(), value));
+                Assertions.assertEquals(value, monoid.applyAsInt(value, monoid.identity()));
+            }
+        }
+    }
+}
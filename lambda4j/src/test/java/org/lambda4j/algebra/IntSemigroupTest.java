@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.kernel.Parallelism;
+
+class IntSemigroupTest {
+
+    @Test
+    void of_givenOperator_returnsSemigroupWithDeclaredCommutativity() {
+        IntSemigroup semigroup = IntSemigroup.of(Math::addExact, true);
+        Assertions.assertEquals(3, semigroup.applyAsInt(1, 2));
+        Assertions.assertTrue(semigroup.isCommutative());
+        Assertions.assertFalse(IntSemigroup.of(Math::addExact, false).isCommutative());
+    }
+
+    @Test
+    void of_givenNull_throwsException() {
+        Assertions.assertThrows(NullPointerException.class, () -> IntSemigroup.of(null, true));
+    }
+
+    @Test
+    void isCommutative_givenLambda_returnsFalse() {
+        IntSemigroup semigroup = (value1, value2) -> value1;
+        Assertions.assertFalse(semigroup.isCommutative());
+    }
+
+    @Test
+    void reduce_givenRange_combinesElementsInOrder() {
+        IntSemigroup semigroup = (value1, value2) -> value1 * 10 + value2;
+        Assertions.assertEquals(234, semigroup.reduce(new int[] {1, 2, 3, 4, 5}, 1, 4));
+    }
+
+    @Test
+    void reduce_givenEmptyArray_throwsException() {
+        IntSemigroup semigroup = Math::max;
+        Assertions.assertThrows(NoSuchElementException.class, () -> semigroup.reduce(new int[0]));
+    }
+
+    @Test
+    void reduceParallel_givenArray_returnsSequentialResult() {
+        IntSemigroup semigroup = Math::max;
+        int[] values = new int[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i * 7919) % 10_007;
+        }
+        Parallelism parallelism = Parallelism.common().withGrain(100);
+        Assertions.assertEquals(semigroup.reduce(values), semigroup.reduceParallel(values, parallelism));
+    }
+
+    @Test
+    void scan_givenArray_storesInclusivePrefixes() {
+        IntSemigroup semigroup = Integer::sum;
+        int[] values = {1, 2, 3, 4};
+        semigroup.scan(values, values);
+        Assertions.assertArrayEquals(new int[] {1, 3, 6, 10}, values);
+    }
+
+    @Test
+    void scanParallel_givenArray_storesSequentialResults() {
+        IntSemigroup semigroup = IntMonoidTest.AFFINE;
+        int[] values = new int[1_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 0x9E3779B9;
+        }
+        int[] expected = new int[values.length];
+        semigroup.scan(values, expected);
+        semigroup.scanParallel(values, values, Parallelism.common().withGrain(7));
+        Assertions.assertArrayEquals(expected, values);
+    }
+
+    @Test
+    void scanSegmented_givenBitmap_restartsAtSegments() {
+        IntSemigroup semigroup = Integer::sum;
+        long[] segments = new long[1];
+        BitmapUtils.fromSelection(new int[] {2, 3}, 2, segments);
+        int[] results = new int[5];
+        semigroup.scanSegmented(new int[] {1, 2, 3, 4, 5}, segments, results);
+        Assertions.assertArrayEquals(new int[] {1, 3, 3, 4, 9}, results);
+    }
+
+    @Test
+    void scanSegmentedParallel_givenBitmap_storesSequentialResults() {
+        IntSemigroup semigroup = IntMonoidTest.AFFINE;
+        int[] values = new int[1_000];
+        long[] segments = new long[BitmapUtils.length(values.length)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 0x9E3779B9;
+            if (i % 37 == 0 || i > 500 && i < 520) {
+                segments[i >>> 6] |= 1L << i;
+            }
+        }
+        int[] expected = new int[values.length];
+        semigroup.scanSegmented(values, segments, expected);
+        for (int grain = 1; grain < 50; grain += 6) {
+            int[] results = new int[values.length];
+            semigroup.scanSegmentedParallel(values, segments, results, Parallelism.common().withGrain(grain));
+            Assertions.assertArrayEquals(expected, results);
+        }
+    }
+
+    @Test
+    void scanSegmented_givenShortBitmap_throwsException() {
+        IntSemigroup semigroup = Integer::sum;
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> semigroup.scanSegmented(new int[65], new long[1], new int[65]));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.kernel.Parallelism;
+
+class MonoidTest {
+
+    @Test
+    void reduceParallel_givenConcatenation_preservesOrder() {
+        Monoid<String> monoid = Monoid.of("", String::concat, false);
+        String[] values = new String[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Integer.toString(i % 10);
+        }
+        Parallelism parallelism = Parallelism.common().withGrain(3);
+        Assertions.assertEquals(String.join("", values), monoid.reduceParallel(values, parallelism));
+        Assertions.assertFalse(monoid.isCommutative());
+    }
+
+    @Test
+    void scanExclusive_givenConcatenation_startsWithIdentity() {
+        Monoid<String> monoid = Monoid.of("", String::concat, false);
+        String[] results = new String[3];
+        monoid.scanExclusiveParallel(new String[] {"x", "y", "z"}, results);
+        Assertions.assertEquals(",x,xy", String.join(",", results));
+    }
+
+    @Test
+    void scanParallel_givenConcatenation_storesSequentialResults() {
+        Semigroup<String> semigroup = Semigroup.of(String::concat, false);
+        String[] values = new String[200];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Character.toString((char) ('a' + i % 26));
+        }
+        String[] expected = new String[values.length];
+        semigroup.scan(values, expected);
+        String[] results = new String[values.length];
+        semigroup.scanParallel(values, results, Parallelism.common().withGrain(11));
+        Assertions.assertArrayEquals(expected, results);
+    }
+}
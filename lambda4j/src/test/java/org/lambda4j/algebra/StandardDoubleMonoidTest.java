@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.algebra;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.kernel.Parallelism;
+
+class StandardDoubleMonoidTest {
+
+    @Test
+    void sum_givenNegativeZero_keepsSign() {
+        Assertions.assertEquals(Double.doubleToLongBits(-0.0),
+                Double.doubleToLongBits(StandardDoubleMonoid.SUM.reduce(new double[] {-0.0})));
+    }
+
+    @Test
+    void min_givenNaN_returnsNaN() {
+        Assertions.assertTrue(Double.isNaN(StandardDoubleMonoid.MIN.reduce(new double[] {1.0, Double.NaN, 0.0})));
+    }
+
+    @Test
+    void max_givenEmptyArray_returnsNegativeInfinity() {
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, StandardDoubleMonoid.MAX.reduceParallel(new double[0]));
+    }
+
+    @Test
+    void sumParallel_givenSameGrain_returnsSameResult() {
+        double[] values = new double[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1.0 / (i + 1);
+        }
+        Parallelism parallelism = Parallelism.common().withGrain(1_000);
+        double sum = StandardDoubleMonoid.SUM.reduceParallel(values, parallelism);
+        Assertions.assertEquals(StandardDoubleMonoid.SUM.reduce(values), sum, 1e-9);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(sum, StandardDoubleMonoid.SUM.reduceParallel(values, parallelism));
+        }
+    }
+}
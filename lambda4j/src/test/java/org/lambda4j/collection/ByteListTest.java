@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.optional.OptionalByte;
+
+class ByteListTest {
+
+    @Test
+    void reduce_givenOperator_returnsReduction() {
+        ByteList list = ByteList.of((byte) 1, (byte) 2, (byte) 3);
+        Assertions.assertEquals((byte) 6, list.reduce((byte) 0, (value1, value2) -> (byte) (value1 + value2)));
+        OptionalByte max = list.reduce((value1, value2) -> value1 > value2 ? value1 : value2);
+        Assertions.assertEquals(OptionalByte.of((byte) 3), max);
+    }
+
+    @Test
+    void mapToInt_givenFunction_returnsMappedList() {
+        Assertions.assertEquals(IntList.of(255, 1), ByteList.of((byte) -1, (byte) 1).mapToInt(value -> value & 0xFF));
+    }
+
+    @Test
+    void anyMatchAndAllMatch_givenPredicate_returnsMatch() {
+        ByteList list = ByteList.of((byte) 1, (byte) -1);
+        Assertions.assertTrue(list.anyMatch(value -> value < 0));
+        Assertions.assertFalse(list.allMatch(value -> value < 0));
+    }
+
+    @Test
+    void stream_givenParallelMode_returnsParallelStream() {
+        ByteList list = ByteList.of((byte) 1, (byte) 2);
+        list.setParallel(true);
+        Assertions.assertTrue(list.stream().isParallel());
+        Assertions.assertEquals(3L, list.stream().sum());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentIntIntMapTest {
+
+    @Test
+    void constructor_givenNonPositiveConcurrencyLevel_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ConcurrentIntIntMap(0, 0));
+    }
+
+    @Test
+    void addTo_givenConcurrentUpdates_countsAllUpdates() {
+        ConcurrentIntIntMap map = new ConcurrentIntIntMap(0, 4);
+        IntStream.range(0, 100_000).parallel().forEach(i -> map.addTo(i % 100, 1));
+        Assertions.assertEquals(100, map.size());
+        map.forEach((key, value) -> Assertions.assertEquals(1_000, value));
+    }
+
+    @Test
+    void merge_givenConcurrentUpdates_mergesAtomically() {
+        ConcurrentIntIntMap map = new ConcurrentIntIntMap();
+        IntStream.range(0, 10_000).parallel().forEach(i -> map.merge(i & 7, 1, Integer::sum));
+        int[] total = new int[1];
+        map.forEach((key, value) -> total[0] += value);
+        Assertions.assertEquals(10_000, total[0]);
+    }
+
+    @Test
+    void computeIfAbsent_givenConcurrentCalls_computesOnce() {
+        ConcurrentIntIntMap map = new ConcurrentIntIntMap(0, 8, -1);
+        int[] computations = new int[1];
+        IntStream.range(0, 1_000).parallel().forEach(i -> map.computeIfAbsent(42, key -> {
+            synchronized (computations) {
+                computations[0]++;
+            }
+            return key;
+        }));
+        Assertions.assertEquals(1, computations[0]);
+        Assertions.assertEquals(42, map.get(42));
+        Assertions.assertEquals(-1, map.get(43));
+    }
+
+    @Test
+    void removeIf_givenPredicate_removesMatchingEntries() {
+        ConcurrentIntIntMap map = new ConcurrentIntIntMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        Assertions.assertTrue(map.removeIf((key, value) -> value >= 10));
+        Assertions.assertEquals(10, map.size());
+        Assertions.assertEquals(9, map.remove(9));
+        map.clear();
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertEquals("{}", map.toString());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.algebra.StandardDoubleGroup;
+import org.lambda4j.algebra.StandardDoubleMonoid;
+
+class DoubleSlidingWindowTest {
+
+    @Test
+    void aggregate_givenMonoidSum_recombinesRemainingValuesExactly() {
+        DoubleSlidingWindow window = DoubleSlidingWindow.ofCount(2, StandardDoubleMonoid.SUM);
+        window.add(1e16);
+        window.add(1.0);
+        window.add(1.0);
+        Assertions.assertEquals(2.0, window.aggregate());
+    }
+
+    @Test
+    void aggregate_givenGroupSum_subtractsEvictedValues() {
+        DoubleSlidingWindow window = DoubleSlidingWindow.ofCount(2, StandardDoubleGroup.SUM);
+        window.add(0.5);
+        window.add(0.25);
+        window.add(0.125);
+        Assertions.assertEquals(0.375, window.aggregate());
+        window.clear();
+        Assertions.assertEquals(-0.0, window.aggregate());
+    }
+
+    @Test
+    void ofSpan_givenRollingTicks_aggregatesLatestSpan() {
+        DoubleSlidingWindow window = DoubleSlidingWindow.ofSpan(3L, StandardDoubleMonoid.MAX);
+        double[] ticks = {1.0, 4.0, 2.0, 3.0, 0.5, 0.25};
+        double[] expected = {1.0, 4.0, 4.0, 4.0, 3.0, 3.0};
+        for (int i = 0; i < ticks.length; i++) {
+            window.add(i, ticks[i]);
+            Assertions.assertEquals(expected[i], window.aggregate());
+        }
+    }
+}
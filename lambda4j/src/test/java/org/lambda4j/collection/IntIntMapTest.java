@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IntIntMapTest {
+
+    @Test
+    void get_givenAbsentKey_returnsDefaultValue() {
+        Assertions.assertEquals(0, new IntIntMap().get(1));
+        Assertions.assertEquals(-1, new IntIntMap(4, -1).get(1));
+        Assertions.assertEquals(-1, new IntIntMap(4, -1).getDefaultValue());
+    }
+
+    @Test
+    void put_givenKeys_returnsPreviousValues() {
+        IntIntMap map = new IntIntMap();
+        Assertions.assertEquals(0, map.put(1, 10));
+        Assertions.assertEquals(10, map.put(1, 11));
+        Assertions.assertEquals(0, map.put(0, 20));
+        Assertions.assertEquals(11, map.get(1));
+        Assertions.assertEquals(20, map.get(0));
+        Assertions.assertEquals(2, map.size());
+        Assertions.assertTrue(map.containsKey(0));
+        Assertions.assertFalse(map.containsKey(2));
+    }
+
+    @Test
+    void remove_givenZeroKey_removesEntry() {
+        IntIntMap map = new IntIntMap();
+        map.put(0, 5);
+        Assertions.assertEquals(5, map.remove(0));
+        Assertions.assertFalse(map.containsKey(0));
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void merge_givenRandomOperations_behavesLikeHashMap() {
+        Random random = new Random(7L);
+        IntIntMap map = new IntIntMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                Integer previous = expected.remove(key);
+                Assertions.assertEquals(previous == null ? 0 : previous, map.remove(key));
+            } else {
+                Assertions.assertEquals(expected.merge(key, i, Integer::sum), map.merge(key, i, Integer::sum));
+            }
+        }
+        Assertions.assertEquals(expected.size(), map.size());
+        Assertions.assertEquals(expected.hashCode(), map.hashCode());
+        map.forEach((key, value) -> Assertions.assertEquals(expected.get(key), value));
+    }
+
+    @Test
+    void addTo_givenKeys_countsOccurrences() {
+        IntIntMap map = new IntIntMap();
+        int[] keys = {3, 1, 3, 3, 0};
+        for (int key : keys) {
+            map.addTo(key, 1);
+        }
+        Assertions.assertEquals(3, map.get(3));
+        Assertions.assertEquals(1, map.get(1));
+        Assertions.assertEquals(1, map.get(0));
+    }
+
+    @Test
+    void addTo_givenAbsentKeyAndNonZeroDefault_addsToDefaultValue() {
+        IntIntMap map = new IntIntMap(0, 100);
+        Assertions.assertEquals(105, map.addTo(1, 5));
+        Assertions.assertEquals(5, map.merge(2, 5, Integer::sum));
+    }
+
+    @Test
+    void computeIfAbsent_givenPresentKey_doesNotApplyFunction() {
+        IntIntMap map = new IntIntMap();
+        Assertions.assertEquals(4, map.computeIfAbsent(2, key -> key * 2));
+        Assertions.assertEquals(4, map.computeIfAbsent(2, key -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    void compute_givenAbsentKey_passesDefaultValue() {
+        IntIntMap map = new IntIntMap(0, 100);
+        Assertions.assertEquals(105, map.compute(5, (key, value) -> key + value));
+        Assertions.assertEquals(110, map.compute(5, (key, value) -> key + value));
+    }
+
+    @Test
+    void removeIf_givenPredicate_removesMatchingEntries() {
+        IntIntMap map = new IntIntMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i * i);
+        }
+        Assertions.assertTrue(map.removeIf((key, value) -> key % 2 == 0));
+        Assertions.assertEquals(50, map.size());
+        Assertions.assertFalse(map.containsKey(0));
+        Assertions.assertEquals(81, map.get(9));
+    }
+
+    @Test
+    void equals_givenMapsWithEqualEntries_returnsTrue() {
+        IntIntMap map1 = new IntIntMap();
+        IntIntMap map2 = new IntIntMap(100);
+        map1.put(1, 2);
+        map1.put(0, 3);
+        map2.put(0, 3);
+        map2.put(1, 2);
+        Assertions.assertEquals(map1, map2);
+        map2.put(1, 4);
+        Assertions.assertNotEquals(map1, map2);
+        map1.clear();
+        Assertions.assertEquals("{}", map1.toString());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IntListTest {
+
+    @Test
+    void constructor_givenNegativeCapacity_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new IntList(-1));
+    }
+
+    @Test
+    void add_givenValues_growsList() {
+        IntList list = new IntList(1);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        Assertions.assertEquals(100, list.size());
+        Assertions.assertEquals(0, list.get(0));
+        Assertions.assertEquals(99, list.get(99));
+    }
+
+    @Test
+    void add_givenIndex_insertsValue() {
+        IntList list = IntList.of(1, 3);
+        list.add(1, 2);
+        list.add(3, 4);
+        Assertions.assertArrayEquals(new int[] {1, 2, 3, 4}, list.toArray());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.add(5, 0));
+    }
+
+    @Test
+    void get_givenIndexOutOfBounds_throwsException() {
+        IntList list = new IntList();
+        list.add(1);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void set_givenIndex_returnsPreviousValue() {
+        IntList list = IntList.of(1, 2);
+        Assertions.assertEquals(2, list.set(1, 5));
+        Assertions.assertEquals(5, list.get(1));
+    }
+
+    @Test
+    void removeAt_givenIndex_shiftsSubsequentElements() {
+        IntList list = IntList.of(1, 2, 3);
+        Assertions.assertEquals(2, list.removeAt(1));
+        Assertions.assertArrayEquals(new int[] {1, 3}, list.toArray());
+    }
+
+    @Test
+    void indexOf_givenValue_returnsFirstAndLastIndex() {
+        IntList list = IntList.of(1, 2, 1);
+        Assertions.assertEquals(0, list.indexOf(1));
+        Assertions.assertEquals(2, list.lastIndexOf(1));
+        Assertions.assertEquals(-1, list.indexOf(3));
+        Assertions.assertTrue(list.contains(2));
+    }
+
+    @Test
+    void addAll_givenList_appendsElements() {
+        IntList list = IntList.of(1);
+        list.addAll(IntList.of(2, 3));
+        list.addAll(4, 5);
+        Assertions.assertEquals(IntList.of(1, 2, 3, 4, 5), list);
+    }
+
+    @Test
+    void forEach_givenAction_passesElementsInOrder() {
+        IntList visited = new IntList();
+        IntList.of(3, 1, 2).forEach(visited::add);
+        Assertions.assertEquals(IntList.of(3, 1, 2), visited);
+    }
+
+    @Test
+    void removeIf_givenPredicate_removesMatchingElements() {
+        IntList list = IntList.of(1, 2, 3, 4, 5);
+        Assertions.assertTrue(list.removeIf(value -> value % 2 == 0));
+        Assertions.assertEquals(IntList.of(1, 3, 5), list);
+        Assertions.assertFalse(list.removeIf(value -> value > 5));
+    }
+
+    @Test
+    void removeIf_givenThrowingPredicate_removesElementsMatchedBefore() {
+        IntList list = IntList.of(1, 2, 3, 4, 5);
+        Assertions.assertThrows(IllegalStateException.class, () -> list.removeIf(value -> {
+            if (value == 4) {
+                throw new IllegalStateException();
+            }
+            return value % 2 == 1;
+        }));
+        Assertions.assertEquals(IntList.of(2, 4, 5), list);
+    }
+
+    @Test
+    void removeIf_givenThrowingPredicateInParallel_leavesListUnchanged() {
+        IntList list = IntList.of(1, 2, 3);
+        list.setParallel(true);
+        Assertions.assertThrows(IllegalStateException.class, () -> list.removeIf(value -> {
+            if (value == 3) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }));
+        Assertions.assertEquals(IntList.of(1, 2, 3), list);
+    }
+
+    @Test
+    void replaceAll_givenOperator_replacesElements() {
+        IntList list = IntList.of(1, 2, 3);
+        list.replaceAll(value -> value * 10);
+        Assertions.assertEquals(IntList.of(10, 20, 30), list);
+    }
+
+    @Test
+    void reduce_givenOperator_returnsReduction() {
+        Assertions.assertEquals(6, IntList.of(1, 2, 3).reduce(0, Integer::sum));
+        Assertions.assertEquals(OptionalInt.of(3), IntList.of(1, 2, 3).reduce(Math::max));
+        Assertions.assertEquals(OptionalInt.empty(), new IntList().reduce(Math::max));
+    }
+
+    @Test
+    void mapToLong_givenFunction_returnsMappedList() {
+        LongList list = IntList.of(1, 2).mapToLong(value -> value * 10_000_000_000L);
+        Assertions.assertEquals(LongList.of(10_000_000_000L, 20_000_000_000L), list);
+    }
+
+    @Test
+    void mapToObj_givenFunction_returnsMappedList() {
+        List<String> list = IntList.of(1, 2).mapToObj(Integer::toString);
+        Assertions.assertEquals(Arrays.asList("1", "2"), list);
+    }
+
+    @Test
+    void setParallel_givenTrue_runsBulkOperationsInParallel() {
+        IntList list = new IntList();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(i);
+        }
+        list.setParallel(true);
+        Assertions.assertTrue(list.isParallel());
+        Assertions.assertTrue(list.stream().isParallel());
+        list.replaceAll(value -> value + 1);
+        Assertions.assertEquals(5_000_050_000L, list.mapToLong(value -> value).reduce(0L, Long::sum));
+        Assertions.assertTrue(list.removeIf(value -> value > 10));
+        Assertions.assertEquals(IntList.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), list);
+        Assertions.assertTrue(list.mapToDouble(value -> value).isParallel());
+    }
+
+    @Test
+    void trimToSize_givenList_retainsElements() {
+        IntList list = new IntList(100);
+        list.add(1);
+        list.trimToSize();
+        list.add(2);
+        Assertions.assertEquals(IntList.of(1, 2), list);
+    }
+
+    @Test
+    void equalsAndHashCode_givenEqualLists_areConsistentWithList() {
+        IntList list = IntList.of(1, 2, 3);
+        Assertions.assertEquals(Arrays.asList(1, 2, 3).hashCode(), list.hashCode());
+        Assertions.assertEquals(list.boxed(), Arrays.asList(1, 2, 3));
+        Assertions.assertNotEquals(IntList.of(1, 2), list);
+        Assertions.assertEquals("[1, 2, 3]", list.toString());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IntObjMapTest {
+
+    @Test
+    void get_givenAbsentKey_returnsNull() {
+        Assertions.assertNull(new IntObjMap<String>().get(1));
+    }
+
+    @Test
+    void put_givenNullValue_throwsException() {
+        IntObjMap<String> map = new IntObjMap<>();
+        Assertions.assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    void computeIfAbsent_givenNullResult_doesNotEnterValue() {
+        IntObjMap<String> map = new IntObjMap<>();
+        Assertions.assertNull(map.computeIfAbsent(1, key -> null));
+        Assertions.assertFalse(map.containsKey(1));
+        Assertions.assertEquals("2", map.computeIfAbsent(2, Integer::toString));
+    }
+
+    @Test
+    void compute_givenNullResult_removesEntry() {
+        IntObjMap<String> map = new IntObjMap<>();
+        map.put(0, "z");
+        Assertions.assertEquals("z0", map.compute(0, (value, key) -> value + key));
+        Assertions.assertNull(map.compute(0, (value, key) -> null));
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void merge_givenPresentKey_mergesValues() {
+        IntObjMap<String> map = new IntObjMap<>();
+        String value = "a";
+        Assertions.assertSame(value, map.merge(1, value, String::concat));
+        Assertions.assertEquals("ab", map.merge(1, "b", String::concat));
+        Assertions.assertNull(map.merge(1, "c", (value1, value2) -> null));
+        Assertions.assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    void forEach_givenAction_passesValueAndKey() {
+        IntObjMap<String> map = new IntObjMap<>();
+        map.put(7, "x");
+        StringBuilder builder = new StringBuilder();
+        map.forEach((value, key) -> builder.append(value).append(key));
+        Assertions.assertEquals("x7", builder.toString());
+    }
+}
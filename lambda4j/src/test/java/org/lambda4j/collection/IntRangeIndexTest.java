@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.algebra.IntMonoid;
+import org.lambda4j.algebra.StandardIntGroup;
+import org.lambda4j.algebra.StandardIntMonoid;
+import org.lambda4j.kernel.Parallelism;
+
+class IntRangeIndexTest {
+
+    /**
+     * The composition of affine maps modulo {@code 2^16}, which is associative but not commutative.
+     */
+    private static final IntMonoid AFFINE = IntMonoid.of(1 << 16, (value1, value2) -> {
+        int factor = (value1 >>> 16) * (value2 >>> 16);
+        int offset = (value2 >>> 16) * (value1 & 0xFFFF) + (value2 & 0xFFFF);
+        return factor << 16 | offset & 0xFFFF;
+    }, false);
+
+    @Test
+    void aggregate_givenRanges_equalsRecomputation() {
+        Random random = new Random(42L);
+        for (IntMonoid monoid : new IntMonoid[] {AFFINE, StandardIntMonoid.MIN, StandardIntGroup.SUM}) {
+            for (int size = 0; size < 40; size++) {
+                assertUpdates(random.ints(size).toArray(), monoid, random);
+            }
+        }
+    }
+
+    @Test
+    void new_givenParallelism_buildsSameIndex() {
+        int[] values = new Random(7L).ints(5_000).toArray();
+        Parallelism parallelism = Parallelism.common().withGrain(16);
+        for (IntMonoid monoid : new IntMonoid[] {AFFINE, StandardIntGroup.XOR}) {
+            IntRangeIndex sequential = new IntRangeIndex(values, monoid);
+            IntRangeIndex parallel = new IntRangeIndex(values, monoid, parallelism);
+            for (int fromIndex = 0; fromIndex < values.length; fromIndex += 97) {
+                int toIndex = fromIndex + (fromIndex * 31) % (values.length - fromIndex);
+                Assertions.assertEquals(sequential.aggregate(fromIndex, toIndex),
+                        parallel.aggregate(fromIndex, toIndex));
+            }
+            Assertions.assertEquals(sequential.aggregate(), parallel.aggregate());
+        }
+    }
+
+    @Test
+    void aggregate_givenEmptyIndex_returnsIdentity() {
+        IntRangeIndex index = new IntRangeIndex(new int[0], StandardIntMonoid.MAX);
+        Assertions.assertEquals(Integer.MIN_VALUE, index.aggregate());
+        Assertions.assertEquals("[]", index.toString());
+    }
+
+    @Test
+    void aggregate_givenInvalidRange_throwsException() {
+        IntRangeIndex index = new IntRangeIndex(new int[] {1, 2, 3}, StandardIntGroup.SUM);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> index.aggregate(2, 1));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> index.aggregate(0, 4));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> index.set(3, 0));
+    }
+
+    private static void assertUpdates(int[] values, IntMonoid monoid, Random random) {
+        IntRangeIndex index = new IntRangeIndex(values, monoid);
+        for (int update = 0; update < 3; update++) {
+            assertRanges(values, monoid, index);
+            if (values.length > 0) {
+                int position = random.nextInt(values.length);
+                values[position] = random.nextInt();
+                index.set(position, values[position]);
+            }
+        }
+        Assertions.assertArrayEquals(values, index.toArray());
+    }
+
+    private static void assertRanges(int[] values, IntMonoid monoid, IntRangeIndex index) {
+        for (int fromIndex = 0; fromIndex <= values.length; fromIndex++) {
+            assertRangesFrom(values, monoid, index, fromIndex);
+        }
+    }
+
+    private static void assertRangesFrom(int[] values, IntMonoid monoid, IntRangeIndex index, int fromIndex) {
+        int[] prefixes = new int[values.length];
+        monoid.scan(values, prefixes, fromIndex, values.length);
+        Assertions.assertEquals(monoid.identity(), index.aggregate(fromIndex, fromIndex));
+        for (int toIndex = fromIndex + 1; toIndex <= values.length; toIndex++) {
+            Assertions.assertEquals(prefixes[toIndex - 1], index.aggregate(fromIndex, toIndex));
+        }
+    }
+}
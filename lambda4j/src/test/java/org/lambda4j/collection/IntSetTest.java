@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IntSetTest {
+
+    @Test
+    void add_givenDuplicate_returnsFalse() {
+        IntSet set = new IntSet();
+        Assertions.assertTrue(set.add(1));
+        Assertions.assertFalse(set.add(1));
+        Assertions.assertEquals(1, set.size());
+    }
+
+    @Test
+    void add_givenZero_tracksZeroSeparately() {
+        IntSet set = new IntSet();
+        Assertions.assertFalse(set.contains(0));
+        Assertions.assertTrue(set.add(0));
+        Assertions.assertFalse(set.add(0));
+        Assertions.assertTrue(set.contains(0));
+        Assertions.assertEquals(1, set.size());
+        Assertions.assertTrue(set.remove(0));
+        Assertions.assertFalse(set.remove(0));
+        Assertions.assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void remove_givenRandomOperations_behavesLikeHashSet() {
+        Random random = new Random(42L);
+        IntSet set = new IntSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt(1_000) - 500;
+            if (random.nextBoolean()) {
+                Assertions.assertEquals(expected.add(value), set.add(value));
+            } else {
+                Assertions.assertEquals(expected.remove(value), set.remove(value));
+            }
+        }
+        Assertions.assertEquals(expected.size(), set.size());
+        for (int value = -500; value < 500; value++) {
+            Assertions.assertEquals(expected.contains(value), set.contains(value));
+        }
+        Assertions.assertEquals(expected.hashCode(), set.hashCode());
+    }
+
+    @Test
+    void removeIf_givenPredicate_removesMatchingElements() {
+        IntSet set = IntSet.of(0, 1, 2, 3, 4);
+        Assertions.assertTrue(set.removeIf(value -> value % 2 == 0));
+        Assertions.assertEquals(IntSet.of(1, 3), set);
+    }
+
+    @Test
+    void reduce_givenOperator_returnsReduction() {
+        IntSet set = IntSet.of(1, 2, 3, 2);
+        Assertions.assertEquals(6, set.reduce(0, Integer::sum));
+        Assertions.assertEquals(OptionalInt.of(3), set.reduce(Math::max));
+    }
+
+    @Test
+    void forEach_givenParallelMode_visitsAllElements() {
+        IntSet set = new IntSet(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            set.add(i);
+        }
+        set.setParallel(true);
+        Assertions.assertTrue(set.isParallel());
+        Assertions.assertTrue(set.anyMatch(value -> value == 9_999));
+        Assertions.assertTrue(set.allMatch(value -> value >= 0));
+        int[] array = set.toArray();
+        Arrays.sort(array);
+        Assertions.assertEquals(0, array[0]);
+        Assertions.assertEquals(9_999, array[array.length - 1]);
+    }
+
+    @Test
+    void equals_givenSetsWithSameElements_returnsTrue() {
+        Assertions.assertEquals(IntSet.of(1, 2, 3), IntSet.of(3, 2, 1));
+        Assertions.assertNotEquals(IntSet.of(0, 1), IntSet.of(1, 2));
+        Assertions.assertEquals("[1]", IntSet.of(1).toString());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.algebra.IntSemigroup;
+import org.lambda4j.algebra.StandardIntGroup;
+import org.lambda4j.algebra.StandardIntMonoid;
+
+class IntSlidingWindowTest {
+
+    @Test
+    void ofCount_givenFullWindow_evictsOldestValue() {
+        IntSlidingWindow window = IntSlidingWindow.ofCount(3, StandardIntMonoid.MAX);
+        window.add(5);
+        window.add(1);
+        window.add(2);
+        Assertions.assertEquals(5, window.aggregate());
+        window.add(0);
+        Assertions.assertEquals(3, window.size());
+        Assertions.assertEquals(2, window.aggregate());
+        Assertions.assertEquals("[1, 2, 0]", window.toString());
+    }
+
+    @Test
+    void ofCount_givenInvalidCount_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IntSlidingWindow.ofCount(0, Math::max));
+    }
+
+    @Test
+    void aggregate_givenNonCommutativeOperator_combinesInOrder() {
+        IntSlidingWindow first = new IntSlidingWindow((value1, value2) -> value1);
+        IntSlidingWindow last = new IntSlidingWindow((value1, value2) -> value2);
+        for (int i = 1; i <= 5; i++) {
+            first.add(i);
+            last.add(i);
+        }
+        Assertions.assertEquals(1, first.evict());
+        Assertions.assertEquals(2, first.aggregate());
+        Assertions.assertEquals(5, last.aggregate());
+        first.add(6);
+        last.add(6);
+        Assertions.assertEquals(2, first.aggregate());
+        Assertions.assertEquals(6, last.aggregate());
+    }
+
+    @Test
+    void aggregate_givenEmptyWindow_returnsIdentityOrThrowsException() {
+        Assertions.assertEquals(Integer.MAX_VALUE, new IntSlidingWindow(StandardIntMonoid.MIN).aggregate());
+        Assertions.assertEquals(0, new IntSlidingWindow(StandardIntGroup.SUM).aggregate());
+        IntSlidingWindow window = new IntSlidingWindow(Math::max);
+        Assertions.assertThrows(NoSuchElementException.class, window::aggregate);
+        Assertions.assertThrows(NoSuchElementException.class, window::evict);
+    }
+
+    @Test
+    void aggregate_givenRandomOperations_equalsRecomputation() {
+        Random random = new Random(42L);
+        IntSemigroup affine = (value1, value2) -> {
+            int factor = (value1 >>> 16) * (value2 >>> 16);
+            int offset = (value2 >>> 16) * (value1 & 0xFFFF) + (value2 & 0xFFFF);
+            return factor << 16 | offset & 0xFFFF;
+        };
+        IntSemigroup[] operators = {StandardIntMonoid.MIN, StandardIntGroup.SUM, affine};
+        for (IntSemigroup operator : operators) {
+            IntSlidingWindow window = new IntSlidingWindow(operator);
+            Deque<Integer> expected = new ArrayDeque<>();
+            for (int i = 0; i < 10_000; i++) {
+                if (expected.isEmpty() || random.nextInt(3) > 0) {
+                    int value = random.nextInt();
+                    window.add(value);
+                    expected.addLast(value);
+                } else {
+                    Assertions.assertEquals(expected.removeFirst(), window.evict());
+                }
+                if (!expected.isEmpty()) {
+                    int aggregate = expected.stream().mapToInt(Integer::intValue).reduce(operator).getAsInt();
+                    Assertions.assertEquals(aggregate, window.aggregate());
+                }
+            }
+        }
+    }
+
+    @Test
+    void ofSpan_givenTimestamps_evictsValuesOutsideSpan() {
+        IntSlidingWindow window = IntSlidingWindow.ofSpan(10L, StandardIntGroup.SUM);
+        window.add(0L, 1);
+        window.add(5L, 2);
+        window.add(10L, 4);
+        Assertions.assertEquals(6, window.aggregate());
+        window.advance(15L);
+        Assertions.assertEquals(4, window.aggregate());
+        window.advance(100L);
+        Assertions.assertTrue(window.isEmpty());
+    }
+
+    @Test
+    void ofSpan_givenDecreasingTimestamp_throwsException() {
+        IntSlidingWindow window = IntSlidingWindow.ofSpan(10L, StandardIntGroup.SUM);
+        window.add(5L, 1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> window.add(4L, 1));
+        Assertions.assertThrows(IllegalStateException.class, () -> window.add(1));
+    }
+
+    @Test
+    void add_givenTimestampToCountWindow_throwsException() {
+        IntSlidingWindow window = IntSlidingWindow.ofCount(4, StandardIntGroup.SUM);
+        Assertions.assertThrows(IllegalStateException.class, () -> window.add(1L, 1));
+    }
+}
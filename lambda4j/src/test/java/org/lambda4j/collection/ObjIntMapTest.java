@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ObjIntMapTest {
+
+    @Test
+    void put_givenNullKey_throwsException() {
+        ObjIntMap<String> map = new ObjIntMap<>();
+        Assertions.assertThrows(NullPointerException.class, () -> map.put(null, 1));
+    }
+
+    @Test
+    void addTo_givenWords_countsOccurrences() {
+        ObjIntMap<String> map = new ObjIntMap<>();
+        for (String word : "a b a c a b".split(" ")) {
+            map.addTo(word, 1);
+        }
+        Assertions.assertEquals(3, map.get("a"));
+        Assertions.assertEquals(2, map.get("b"));
+        Assertions.assertEquals(1, map.get("c"));
+        Assertions.assertEquals(0, map.get("d"));
+    }
+
+    @Test
+    void remove_givenManyKeys_retainsRemainingEntries() {
+        ObjIntMap<Long> map = new ObjIntMap<>();
+        for (long i = 0L; i < 1_000L; i++) {
+            map.put(i, (int) i);
+        }
+        for (long i = 0L; i < 1_000L; i += 2L) {
+            Assertions.assertEquals((int) i, map.remove(i));
+        }
+        Assertions.assertEquals(500, map.size());
+        for (long i = 1L; i < 1_000L; i += 2L) {
+            Assertions.assertEquals((int) i, map.get(i));
+        }
+    }
+
+    @Test
+    void compute_givenKey_passesKeyAndValue() {
+        ObjIntMap<String> map = new ObjIntMap<>();
+        String key = "ab";
+        Assertions.assertEquals(2, map.compute(key, (k, value) -> k.length() + value));
+        Assertions.assertEquals(4, map.compute(key, (k, value) -> k.length() + value));
+    }
+
+    @Test
+    void equals_givenMapsWithEqualEntries_returnsTrue() {
+        ObjIntMap<String> map1 = new ObjIntMap<>();
+        ObjIntMap<String> map2 = new ObjIntMap<>();
+        String key = "x";
+        map1.put(key, 1);
+        map2.put(key, 1);
+        Assertions.assertEquals(map1, map2);
+        Assertions.assertEquals(map1.hashCode(), map2.hashCode());
+        Assertions.assertEquals("{x=1}", map1.toString());
+        Assertions.assertNotEquals(map1, new ObjIntMap<Integer>());
+    }
+}
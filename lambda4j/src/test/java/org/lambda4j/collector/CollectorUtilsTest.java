@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collector;
+
+import java.util.IntSummaryStatistics;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.collection.IntIntMap;
+import org.lambda4j.collection.ObjDoubleMap;
+import org.lambda4j.collection.ObjIntMap;
+
+class CollectorUtilsTest {
+
+    @Test
+    void reducingInt_givenElements_returnsReduction() {
+        int sum = Stream.of("x", "yy", "zzz").collect(CollectorUtils.reducingInt(0, String::length, Integer::sum));
+        Assertions.assertEquals(6, sum);
+    }
+
+    @Test
+    void reducingInt_givenParallelStream_combinesPartialResults() {
+        int sum = IntStream.rangeClosed(1, 10_000).boxed().parallel()
+                .collect(CollectorUtils.reducingInt(0, Integer::intValue, Integer::sum));
+        Assertions.assertEquals(50_005_000, sum);
+    }
+
+    @Test
+    void reducingFloat_givenEmptyStream_returnsIdentity() {
+        float product = Stream.<Float>empty().collect(CollectorUtils.reducingFloat(1.0f, Float::floatValue,
+                (value1, value2) -> value1 * value2));
+        Assertions.assertEquals(1.0f, product);
+    }
+
+    @Test
+    void reducingShort_givenNullMapper_throwsException() {
+        Assertions.assertThrows(NullPointerException.class,
+                () -> CollectorUtils.reducingShort((short) 0, null, (value1, value2) -> value1));
+    }
+
+    @Test
+    void summarizingFloat_givenParallelStream_returnsStatistics() {
+        FloatSummaryStatistics statistics = IntStream.range(0, 1_000).boxed().parallel()
+                .collect(CollectorUtils.summarizingFloat(Integer::floatValue));
+        Assertions.assertEquals(1_000L, statistics.getCount());
+        Assertions.assertEquals(499_500.0, statistics.getSum());
+        Assertions.assertEquals(0.0f, statistics.getMin());
+        Assertions.assertEquals(999.0f, statistics.getMax());
+        Assertions.assertEquals(499.5, statistics.getAverage());
+    }
+
+    @Test
+    void summarizingShort_givenElements_returnsStatistics() {
+        IntSummaryStatistics statistics = Stream.of((short) -3, (short) 5)
+                .collect(CollectorUtils.summarizingShort(Short::shortValue));
+        Assertions.assertEquals(2L, statistics.getCount());
+        Assertions.assertEquals(-3, statistics.getMin());
+        Assertions.assertEquals(5, statistics.getMax());
+    }
+
+    @Test
+    void groupingByInt_givenParallelStream_mergesGroups() {
+        ObjIntMap<Integer> counts = IntStream.range(0, 10_000).boxed().parallel()
+                .collect(CollectorUtils.groupingByInt(i -> i % 3, i -> 1, Integer::sum));
+        Assertions.assertEquals(3, counts.size());
+        Assertions.assertEquals(3_334, counts.get(0));
+        Assertions.assertEquals(3_333, counts.get(1));
+        Assertions.assertEquals(3_333, counts.get(2));
+    }
+
+    @Test
+    void groupingByDouble_givenElements_returnsGroupMaxima() {
+        ObjDoubleMap<Character> maxima = Stream.of("apple", "avocado", "banana")
+                .collect(CollectorUtils.groupingByDouble(s -> s.charAt(0), String::length, Math::max));
+        Assertions.assertEquals(7.0, maxima.get('a'));
+        Assertions.assertEquals(6.0, maxima.get('b'));
+    }
+
+    @Test
+    void groupingByIntKey_givenElements_returnsIntIntMap() {
+        IntIntMap sums = Stream.of("a", "b", "cc").collect(CollectorUtils.groupingByIntKey(String::length,
+                s -> s.charAt(0), Integer::sum));
+        Assertions.assertEquals('a' + 'b', sums.get(1));
+        Assertions.assertEquals('c', sums.get(2));
+    }
+}
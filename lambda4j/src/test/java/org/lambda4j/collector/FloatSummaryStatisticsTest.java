@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.collector;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FloatSummaryStatisticsTest {
+
+    @Test
+    void constructor_givenNothing_returnsEmptyStatistics() {
+        FloatSummaryStatistics statistics = new FloatSummaryStatistics();
+        Assertions.assertEquals(0L, statistics.getCount());
+        Assertions.assertEquals(0.0, statistics.getSum());
+        Assertions.assertEquals(Float.POSITIVE_INFINITY, statistics.getMin());
+        Assertions.assertEquals(Float.NEGATIVE_INFINITY, statistics.getMax());
+        Assertions.assertEquals(0.0, statistics.getAverage());
+    }
+
+    @Test
+    void accept_givenValues_sumsAsDouble() {
+        FloatSummaryStatistics statistics = new FloatSummaryStatistics();
+        statistics.accept(16_777_216.0f);
+        statistics.accept(1.0f);
+        Assertions.assertEquals(16_777_217.0, statistics.getSum());
+    }
+
+    @Test
+    void combine_givenOtherStatistics_combinesState() {
+        FloatSummaryStatistics statistics = new FloatSummaryStatistics();
+        FloatSummaryStatistics other = new FloatSummaryStatistics();
+        statistics.accept(1.0f);
+        other.accept(-2.0f);
+        other.accept(4.0f);
+        statistics.combine(other);
+        Assertions.assertEquals(3L, statistics.getCount());
+        Assertions.assertEquals(3.0, statistics.getSum());
+        Assertions.assertEquals(-2.0f, statistics.getMin());
+        Assertions.assertEquals(4.0f, statistics.getMax());
+        Assertions.assertEquals(1.0, statistics.getAverage());
+    }
+
+    @Test
+    void combine_givenNull_throwsException() {
+        Assertions.assertThrows(NullPointerException.class, () -> new FloatSummaryStatistics().combine(null));
+    }
+}
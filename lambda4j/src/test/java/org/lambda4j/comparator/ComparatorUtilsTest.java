@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.comparator;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ComparatorUtilsTest {
+
+    @Test
+    void sort_givenRandomInts_sortsByComparator() {
+        Random random = new Random(42L);
+        for (int length = 0; length < 300; length += 7) {
+            int[] array = random.ints(length, -50, 50).toArray();
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+            ComparatorUtils.sort(array, IntComparator.naturalOrder());
+            Assertions.assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    void sort_givenAdversarialLongs_sortsByComparator() {
+        long[] array = new long[10_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i % 2 == 0 ? i : array.length - i;
+        }
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+        ComparatorUtils.sort(array, LongComparator.naturalOrder());
+        Assertions.assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void sort_givenReverseOrder_sortsDescending() {
+        char[] array = {'b', 'd', 'a', 'c'};
+        ComparatorUtils.sort(array, CharComparator.reverseOrder());
+        Assertions.assertArrayEquals(new char[] {'d', 'c', 'b', 'a'}, array);
+    }
+
+    @Test
+    void sort_givenRange_sortsOnlyRange() {
+        double[] array = {4.0, 3.0, 2.0, 1.0};
+        ComparatorUtils.sort(array, 1, 3, DoubleComparator.naturalOrder());
+        Assertions.assertArrayEquals(new double[] {4.0, 2.0, 3.0, 1.0}, array);
+    }
+
+    @Test
+    void sort_givenInvalidRange_throwsException() {
+        byte[] array = new byte[4];
+        ByteComparator comparator = ByteComparator.naturalOrder();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComparatorUtils.sort(array, 3, 1, comparator));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> ComparatorUtils.sort(array, 0, 5, comparator));
+    }
+
+    @Test
+    void binarySearch_givenPresentKey_returnsIndex() {
+        short[] array = {9, 7, 5, 3, 1};
+        Assertions.assertEquals(3, ComparatorUtils.binarySearch(array, (short) 3, ShortComparator.reverseOrder()));
+    }
+
+    @Test
+    void binarySearch_givenAbsentKey_returnsInsertionPoint() {
+        float[] array = {1.0f, 3.0f, 5.0f};
+        Assertions.assertEquals(-3, ComparatorUtils.binarySearch(array, 4.0f, FloatComparator.naturalOrder()));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.comparator;
+
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IntComparatorTest {
+
+    @Test
+    void of_givenExpression_returnsFunctionalInterface() {
+        IntComparator comparator = IntComparator.of(Integer::compare);
+        Assertions.assertNotNull(comparator);
+    }
+
+    @Test
+    void of_givenNull_returnsNull() {
+        IntComparator comparator = IntComparator.of(null);
+        Assertions.assertNull(comparator);
+    }
+
+    @Test
+    void naturalOrder_givenValues_comparesAscending() {
+        IntComparator comparator = IntComparator.naturalOrder();
+        Assertions.assertTrue(comparator.compare(1, 2) < 0);
+        Assertions.assertTrue(comparator.compare(2, 1) > 0);
+        Assertions.assertEquals(0, comparator.compare(1, 1));
+    }
+
+    @Test
+    void reversed_givenValues_comparesDescending() {
+        IntComparator comparator = IntComparator.naturalOrder().reversed();
+        Assertions.assertTrue(comparator.compare(1, 2) > 0);
+    }
+
+    @Test
+    void thenComparing_givenEqualKeys_usesSecondComparator() {
+        IntComparator comparator = IntComparator.comparingInt(value -> value % 10)
+                .thenComparing(IntComparator.reverseOrder());
+        Assertions.assertTrue(comparator.compare(13, 21) > 0);
+        Assertions.assertTrue(comparator.compare(21, 11) < 0);
+    }
+
+    @Test
+    void comparing_givenKeyComparator_comparesExtractedKeys() {
+        IntComparator comparator = IntComparator.comparing(Integer::toString, Comparator.naturalOrder());
+        Assertions.assertTrue(comparator.compare(10, 9) < 0);
+    }
+
+    @Test
+    void boxed_givenValues_returnsEquivalentComparator() {
+        Comparator<Integer> comparator = IntComparator.reverseOrder().boxed();
+        Assertions.assertTrue(comparator.compare(1, 2) > 0);
+    }
+
+    @Test
+    void thenComparing_givenNull_throwsException() {
+        IntComparator comparator = IntComparator.naturalOrder();
+        IntComparator other = null;
+        Assertions.assertThrows(NullPointerException.class, () -> comparator.thenComparing(other));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveIntPredicateTest {
+
+    @Test
+    void allOf_givenPredicates_returnsConjunction() {
+        AdaptiveIntPredicate predicate = AdaptiveIntPredicate.allOf(value -> value > 0, value -> value % 2 == 0);
+        for (int value = -100; value <= 100; value++) {
+            Assertions.assertEquals(value > 0 && value % 2 == 0, predicate.test(value));
+        }
+        Assertions.assertTrue(AdaptiveIntPredicate.allOf().test(0));
+    }
+
+    @Test
+    void anyOf_givenPredicates_returnsDisjunction() {
+        AdaptiveIntPredicate predicate = AdaptiveIntPredicate.anyOf(value -> value > 0, value -> value % 2 == 0);
+        for (int value = -100; value <= 100; value++) {
+            Assertions.assertEquals(value > 0 || value % 2 == 0, predicate.test(value));
+        }
+        Assertions.assertFalse(AdaptiveIntPredicate.anyOf().test(0));
+    }
+
+    @Test
+    void test_givenSelectivePredicateLast_movesItToFront() {
+        AtomicInteger expensiveCalls = new AtomicInteger();
+        IntPredicate expensive = value -> {
+            expensiveCalls.incrementAndGet();
+            return Integer.toString(value).hashCode() != 0;
+        };
+        AdaptiveIntPredicate predicate = AdaptiveIntPredicate.allOf(expensive, value -> false);
+        Assertions.assertArrayEquals(new int[] {0, 1}, predicate.getOrder());
+        for (int value = 0; value < 100_000; value++) {
+            Assertions.assertFalse(predicate.test(value));
+        }
+        Assertions.assertArrayEquals(new int[] {1, 0}, predicate.getOrder());
+        expensiveCalls.set(0);
+        for (int value = 0; value < 1000; value++) {
+            predicate.test(value);
+        }
+        Assertions.assertTrue(expensiveCalls.get() < 100);
+    }
+
+    @Test
+    void ordered_givenPredicates_evaluatesInConstructionOrder() {
+        AtomicInteger calls = new AtomicInteger();
+        AdaptiveIntPredicate predicate = AdaptiveIntPredicate.anyOf(value -> calls.incrementAndGet() > 0,
+                value -> {
+                    throw new IllegalStateException("must not be evaluated");
+                });
+        Assertions.assertTrue(predicate.ordered().test(1));
+        Assertions.assertEquals(1, calls.get());
+    }
+}
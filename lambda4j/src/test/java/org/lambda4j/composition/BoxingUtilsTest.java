@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.function.Function2;
+import org.lambda4j.function.to.ToIntFunction2;
+import org.lambda4j.operator.unary.IntUnaryOperator2;
+import org.lambda4j.operator.unary.LongUnaryOperator2;
+import org.lambda4j.predicate.IntPredicate2;
+
+class BoxingUtilsTest {
+
+    @Test
+    void fuse_givenBoxedFunctions_returnsFusedFunction() {
+        ToIntFunction2<String> length = String::length;
+        IntPredicate2 even = value -> value % 2 == 0;
+        Function2<String, Boolean> fused = BoxingUtils.fuse(length.boxed(), even.boxed());
+        Assertions.assertNotNull(fused);
+        Assertions.assertEquals(Boolean.TRUE, fused.apply("ab"));
+        Assertions.assertEquals(Boolean.FALSE, fused.apply("abc"));
+    }
+
+    @Test
+    void fuse_givenMismatchingPrimitiveTypes_returnsNull() {
+        IntUnaryOperator2 increment = value -> value + 1;
+        LongUnaryOperator2 negation = value -> -value;
+        Assertions.assertNull(BoxingUtils.fuse(increment.boxed(), negation.boxed()));
+    }
+
+    @Test
+    void fuse_givenOpaqueFunction_returnsNull() {
+        IntUnaryOperator2 increment = value -> value + 1;
+        Function2<Integer, Integer> opaque = value -> value;
+        Assertions.assertNull(BoxingUtils.fuse(increment.boxed(), opaque));
+    }
+
+    @Test
+    void andThen_givenBoxedFunctions_composesOriginals() {
+        IntUnaryOperator2 increment = value -> value + 1;
+        IntUnaryOperator2 doubling = value -> value * 2;
+        Function2<Integer, Integer> composed = increment.boxed().andThen(doubling.boxed());
+        Function2<Integer, Integer> reversed = increment.boxed().compose(doubling.boxed());
+        Assertions.assertEquals(Integer.valueOf(8), composed.apply(3));
+        Assertions.assertEquals(Integer.valueOf(7), reversed.apply(3));
+    }
+}
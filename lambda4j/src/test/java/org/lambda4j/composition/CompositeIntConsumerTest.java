@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CompositeIntConsumerTest {
+
+    @Test
+    void accept_givenConsumers_performsThemInOrder() {
+        List<Integer> values = new ArrayList<>();
+        CompositeIntConsumer composite = new CompositeIntConsumer(values::add, value -> values.add(-value));
+        composite.add(value -> values.add(value * 10));
+        composite.accept(3);
+        Assertions.assertEquals(Arrays.asList(3, -3, 30), values);
+        Assertions.assertEquals(3, composite.size());
+    }
+
+    @Test
+    void remove_givenAddedConsumer_stopsPerformingIt() {
+        List<Integer> values = new ArrayList<>();
+        IntConsumer first = values::add;
+        IntConsumer second = value -> values.add(-value);
+        CompositeIntConsumer composite = new CompositeIntConsumer(first, second);
+        Assertions.assertTrue(composite.remove(first));
+        Assertions.assertFalse(composite.remove(first));
+        composite.accept(5);
+        Assertions.assertEquals(Arrays.asList(-5), values);
+    }
+
+    @Test
+    void accept_givenConsumerModifyingComposite_usesSnapshot() {
+        List<Integer> values = new ArrayList<>();
+        CompositeIntConsumer composite = new CompositeIntConsumer();
+        composite.add(value -> composite.add(values::add));
+        composite.accept(1);
+        Assertions.assertTrue(values.isEmpty());
+        composite.accept(2);
+        Assertions.assertEquals(Arrays.asList(2), values);
+    }
+
+    @Test
+    void andThen_givenComposite_observesLaterModifications() {
+        List<Integer> values = new ArrayList<>();
+        CompositeIntConsumer composite = new CompositeIntConsumer();
+        IntConsumer consumer = composite.andThen(value -> values.add(-value));
+        composite.add(values::add);
+        consumer.accept(4);
+        Assertions.assertEquals(Arrays.asList(4, -4), values);
+    }
+}
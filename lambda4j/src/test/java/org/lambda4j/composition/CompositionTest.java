@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.function.bi.BiFunction2;
+import org.lambda4j.operator.unary.IntUnaryOperator2;
+import org.lambda4j.predicate.IntPredicate2;
+import org.lambda4j.predicate.Predicate2;
+
+class CompositionTest {
+
+    @Test
+    void of_givenLambda_returnsOpaqueNode() {
+        IntUnaryOperator2 operator = value -> value;
+        Assertions.assertEquals(Composition.Kind.OPAQUE, Composition.of(operator).getKind());
+        Assertions.assertEquals(Composition.Kind.OPAQUE, Composition.of(null).getKind());
+    }
+
+    @Test
+    void of_givenFactoryResult_returnsCanonicalNode() {
+        Composition node = Composition.of(IntUnaryOperator2.constant(7));
+        Assertions.assertEquals(Composition.Kind.CONSTANT, node.getKind());
+        Assertions.assertEquals(Arrays.asList(7), node.getOperands());
+        Assertions.assertTrue(Composition.isIdentity(IntUnaryOperator2.identity()));
+    }
+
+    @Test
+    void toString_givenNestedNodes_describesStructure() {
+        BiFunction2<String, String, Integer> function = BiFunction2.onlyFirst(String::length);
+        Assertions.assertEquals("onlyFirst(opaque)", Composition.of(function).toString());
+        Assertions.assertEquals("reversal(onlyFirst(opaque))", Composition.of(function.reversed()).toString());
+        IntPredicate2 predicate = value -> value > 0;
+        Assertions.assertEquals("negation(opaque)", Composition.of(predicate.negate()).toString());
+        Predicate2<String> equality = IntPredicate2.isEqual(3).compose(String::length);
+        Assertions.assertEquals("composition(isEqual(3), opaque)", Composition.of(equality).toString());
+    }
+
+    @Test
+    void abstractCanonical_givenOpaqueKind_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AbstractCanonical(Composition.Kind.OPAQUE) {
+        });
+    }
+
+    @Test
+    void getOriginal_givenReversalOfReversal_returnsOriginal() {
+        BiFunction2<String, Integer, String> function = (s, n) -> s.substring(n);
+        Assertions.assertSame(function, function.reversed().reversed());
+        Assertions.assertSame(function, Composition.getOriginal(function.reversed(), Composition.Kind.REVERSAL));
+        Assertions.assertNull(Composition.getOriginal(function, Composition.Kind.REVERSAL));
+    }
+
+    @Test
+    void of_givenNodesRecordedConcurrently_returnsNodeOfEveryFunction() {
+        Assertions.assertTrue(IntStream.range(0, 10_000).parallel().allMatch(value -> {
+            IntUnaryOperator2 constant = IntUnaryOperator2.constant(value);
+            return Composition.of(constant).getOperands().equals(Arrays.asList(value));
+        }));
+    }
+}
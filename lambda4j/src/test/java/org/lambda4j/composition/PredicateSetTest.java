@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.composition;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.kernel.BitmapUtils;
+import org.lambda4j.predicate.IntPredicate2;
+import org.lambda4j.predicate.LongPredicate2;
+import org.lambda4j.predicate.Predicate2;
+
+class PredicateSetTest {
+
+    @Test
+    void match_givenRules_returnsMatchingIds() {
+        PredicateSet<String> rules = new PredicateSet<>();
+        ToIntFunction<String> length = String::length;
+        Function<String, Character> first = s -> s.charAt(0);
+        Assertions.assertEquals(0, rules.add(IntPredicate2.isEqual(3).compose(length)));
+        Assertions.assertEquals(1, rules.add(IntPredicate2.isEqual(4).compose(length)));
+        Assertions.assertEquals(2, rules.add(IntPredicate2.of(value -> value > 2).compose(length)));
+        Assertions.assertEquals(3, rules.add(Predicate2.isEqual('f').compose(first)));
+        Assertions.assertEquals(4, rules.add(s -> s.endsWith("o")));
+        long[] results = rules.match("foo");
+        Assertions.assertTrue(BitmapUtils.get(results, 0));
+        Assertions.assertFalse(BitmapUtils.get(results, 1));
+        Assertions.assertTrue(BitmapUtils.get(results, 2));
+        Assertions.assertTrue(BitmapUtils.get(results, 3));
+        Assertions.assertTrue(BitmapUtils.get(results, 4));
+        Assertions.assertEquals(0L, rules.match("ab")[0]);
+    }
+
+    @Test
+    void match_givenSharedExtractor_appliesItOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        ToIntFunction<Integer> extractor = value -> {
+            calls.incrementAndGet();
+            return value % 100;
+        };
+        PredicateSet<Integer> rules = new PredicateSet<>();
+        for (int i = 0; i < 100; i++) {
+            rules.add(IntPredicate2.isEqual(i).compose(extractor));
+        }
+        long[] results = new long[BitmapUtils.length(rules.size())];
+        rules.match(142, results);
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(1, BitmapUtils.cardinality(results));
+        Assertions.assertTrue(BitmapUtils.get(results, 42));
+    }
+
+    @Test
+    void match_givenNullValue_matchesEqualityToNull() {
+        PredicateSet<String[]> rules = new PredicateSet<>();
+        Function<String[], String> head = array -> array[0];
+        rules.add(Predicate2.isEqual(null).compose(head));
+        rules.add(Predicate2.isEqual("a").compose(head));
+        Assertions.assertTrue(BitmapUtils.get(rules.match(new String[] {null}), 0));
+        Assertions.assertFalse(BitmapUtils.get(rules.match(new String[] {null}), 1));
+    }
+
+    @Test
+    void match_givenLongEqualities_returnsMatchingIds() {
+        PredicateSet<Long> rules = new PredicateSet<>();
+        ToLongFunction<Long> negation = value -> -value;
+        for (long i = 0L; i < 10L; i++) {
+            rules.add(LongPredicate2.isEqual(-i * 1_000_000_000_000L).compose(negation));
+        }
+        long[] results = rules.match(7_000_000_000_000L);
+        Assertions.assertEquals(1, BitmapUtils.cardinality(results));
+        Assertions.assertTrue(BitmapUtils.get(results, 7));
+    }
+
+    @Test
+    void match_givenEqualityToValueWithoutConsistentHashCode_testsEquality() {
+        PredicateSet<Unhashed> rules = new PredicateSet<>();
+        rules.add(Predicate2.isEqual(new Unhashed()).compose(Function.identity()));
+        Assertions.assertTrue(BitmapUtils.get(rules.match(new Unhashed()), 0));
+    }
+
+    private static final class Unhashed {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Unhashed;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -16,9 +16,15 @@
 
 package org.lambda4j.consumer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import org.lambda4j.composition.Composition;
+
 class IntConsumer2Test {
 
     @Test
@@ -32,4 +38,31 @@ class IntConsumer2Test {
         IntConsumer2 consumer = IntConsumer2.of(null);
         Assertions.assertNull(consumer);
     }
+
+    @Test
+    void andThen_givenChain_flattensIntoSequence() {
+        List<Integer> values = new ArrayList<>();
+        IntConsumer2 consumer = values::add;
+        IntConsumer2 chain = consumer;
+        for (int i = 1; i < 1000; i++) {
+            int offset = i;
+            chain = chain.andThen(value -> values.add(value + offset));
+        }
+        Composition node = Composition.of(chain);
+        Assertions.assertEquals(Composition.Kind.SEQUENCE, node.getKind());
+        Assertions.assertEquals(1000, node.getOperands().size());
+        chain.accept(0);
+        Assertions.assertEquals(1000, values.size());
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals(i, values.get(i));
+        }
+    }
+
+    @Test
+    void andThen_givenShortChains_takesOverOperations() {
+        IntConsumer2 first = value -> { };
+        IntConsumer2 second = value -> { };
+        IntConsumer2 chain = first.andThen(second).andThen(first.andThen(second));
+        Assertions.assertEquals(Arrays.asList(first, second, first, second), Composition.of(chain).getOperands());
+    }
 }
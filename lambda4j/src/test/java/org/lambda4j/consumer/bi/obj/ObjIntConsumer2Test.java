@@ -16,9 +16,13 @@
 
 package org.lambda4j.consumer.bi.obj;
 
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import org.lambda4j.kernel.Parallelism;
+
 class ObjIntConsumer2Test {
 
     @Test
@@ -35,4 +39,23 @@ class ObjIntConsumer2Test {
         ObjIntConsumer2<String> consumer = ObjIntConsumer2.of(null);
         Assertions.assertNull(consumer);
     }
+
+    @Test
+    void acceptParallel_givenArrays_acceptsEachIndexOnce() {
+        String[] values = new String[5000];
+        int[] indices = new int[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Integer.toString(i);
+            indices[i] = i;
+        }
+        AtomicIntegerArray counts = new AtomicIntegerArray(values.length);
+        ObjIntConsumer2<String> consumer = (t, value) -> {
+            Assertions.assertEquals(Integer.toString(value), t);
+            counts.incrementAndGet(value);
+        };
+        consumer.acceptParallel(values, indices, Parallelism.common().withGrain(100));
+        for (int i = 0; i < values.length; i++) {
+            Assertions.assertEquals(1, counts.get(i));
+        }
+    }
 }
@@ -25,6 +25,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 
+import org.lambda4j.memoization.AdaptiveMemoizer;
+import org.lambda4j.memoization.BoundedMemoStore;
+import org.lambda4j.memoization.CostAwareCache;
+import org.lambda4j.memoization.MemoStore;
+
 class Function2Test {
 
     @Test
@@ -60,4 +65,72 @@ class Function2Test {
     void lift_givenNull_throwsException() {
         Assertions.assertThrows(NullPointerException.class, () -> Function2.lift(null));
     }
+
+    @Test
+    void adaptivelyMemoized_givenNothing_returnsMemoizedFunctionalInterface() {
+        Function2<String, String> function = t -> t;
+        Function2<String, String> memoized = function.adaptivelyMemoized();
+        Assertions.assertNotNull(memoized);
+        Assertions.assertTrue(memoized.isMemoized());
+        Assertions.assertEquals("", memoized.apply(""));
+    }
+
+    @Test
+    void adaptivelyMemoized_givenMemoizedFunction_returnsSameFunctionalInterface() {
+        Function2<String, String> function = Function2.<String, String>of(t -> t).memoized();
+        Assertions.assertSame(function, function.adaptivelyMemoized());
+    }
+
+    @Test
+    void adaptivelyMemoized_givenMemoizer_cachesValuesOfRepeatingKeys() {
+        AdaptiveMemoizer<Integer, Integer> memoizer = new AdaptiveMemoizer<>(1024, 0.3, 0.1, 0L);
+        Function2<Integer, Integer> function = Function2.<Integer, Integer>of(t -> t * 2).adaptivelyMemoized(memoizer);
+        for (int i = 0; i < 100_000; i++) {
+            Assertions.assertEquals((i % 10) * 2, function.apply(i % 10));
+        }
+        Assertions.assertEquals(AdaptiveMemoizer.Mode.CACHED, memoizer.getMode());
+        Assertions.assertEquals(10, memoizer.size());
+    }
+
+    @Test
+    void adaptivelyMemoized_givenNull_throwsException() {
+        Function2<String, String> function = t -> t;
+        Assertions.assertThrows(NullPointerException.class, () -> function.adaptivelyMemoized(null));
+    }
+
+    @Test
+    void memoized_givenCostAwareCache_returnsMemoizedFunctionalInterface() {
+        CostAwareCache<Integer, Integer> cache = new CostAwareCache<>(4L);
+        Function2<Integer, Integer> function = Function2.<Integer, Integer>of(t -> t * 2).memoized(cache);
+        Assertions.assertTrue(function.isMemoized());
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals((i % 10) * 2, function.apply(i % 10));
+        }
+        Assertions.assertEquals(4, cache.size());
+    }
+
+    @Test
+    void memoized_givenNullCostAwareCache_throwsException() {
+        Function2<String, String> function = t -> t;
+        CostAwareCache<String, String> cache = null;
+        Assertions.assertThrows(NullPointerException.class, () -> function.memoized(cache));
+    }
+
+    @Test
+    void memoized_givenMemoStore_returnsMemoizedFunctionalInterface() {
+        BoundedMemoStore<Integer, Integer> store = new BoundedMemoStore<>(4);
+        Function2<Integer, Integer> function = Function2.<Integer, Integer>of(t -> t * 2).memoized(store);
+        Assertions.assertTrue(function.isMemoized());
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals((i % 10) * 2, function.apply(i % 10));
+        }
+        Assertions.assertEquals(4, store.size());
+    }
+
+    @Test
+    void memoized_givenNullMemoStore_throwsException() {
+        Function2<String, String> function = t -> t;
+        MemoStore<String, String> store = null;
+        Assertions.assertThrows(NullPointerException.class, () -> function.memoized(store));
+    }
 }
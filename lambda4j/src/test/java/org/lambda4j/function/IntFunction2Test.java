@@ -18,6 +18,8 @@ package org.lambda4j.function;
 
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -60,4 +62,19 @@ class IntFunction2Test {
     void lift_givenNull_throwsException() {
         Assertions.assertThrows(NullPointerException.class, () -> IntFunction2.lift(null));
     }
+
+    @Test
+    void warmUp_givenMemoizedFunction_populatesCache() {
+        AtomicInteger calls = new AtomicInteger();
+        IntFunction2<String> function = IntFunction2.<String>of(value -> {
+            calls.incrementAndGet();
+            return String.valueOf(value);
+        }).memoized();
+        function.warmUp(0, 100, ForkJoinPool.commonPool()).join();
+        Assertions.assertEquals(100, calls.get());
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(String.valueOf(i), function.apply(i));
+        }
+        Assertions.assertEquals(100, calls.get());
+    }
 }
@@ -25,6 +25,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 
+import org.lambda4j.function.Function2;
+import org.lambda4j.memoization.ConcurrentMemoStore;
+import org.lambda4j.tuple.IntIntPair;
+
 class BiIntFunctionTest {
 
     @Test
@@ -60,4 +64,27 @@ class BiIntFunctionTest {
     void lift_givenNull_throwsException() {
         Assertions.assertThrows(NullPointerException.class, () -> BiIntFunction.lift(null));
     }
+
+    @Test
+    void apply_givenTuple_appliesElements() {
+        BiIntFunction<Integer> function = (value1, value2) -> value1 - value2;
+        Assertions.assertEquals(1, function.apply(IntIntPair.of(3, 2)));
+    }
+
+    @Test
+    void tupled_givenNothing_returnsTupledFunction() {
+        BiIntFunction<Integer> function = (value1, value2) -> value1 - value2;
+        Function2<IntIntPair, Integer> tupled = function.tupled();
+        Assertions.assertEquals(-1, tupled.apply(IntIntPair.of(2, 3)));
+    }
+
+    @Test
+    void memoized_givenMemoStore_cachesValuesByTuple() {
+        ConcurrentMemoStore<IntIntPair, Integer> store = new ConcurrentMemoStore<>();
+        BiIntFunction<Integer> function = BiIntFunction.<Integer>of((value1, value2) -> value1 * value2)
+                .memoized(store);
+        Assertions.assertEquals(6, function.apply(2, 3));
+        Assertions.assertEquals(6, function.apply(2, 3));
+        Assertions.assertEquals(1, store.size());
+    }
 }
@@ -32,4 +32,12 @@ class IntToFloatFunctionTest {
         IntToFloatFunction function = IntToFloatFunction.of(null);
         Assertions.assertNull(function);
     }
+
+    @Test
+    void applyAsFloat_givenRange_storesResultsOfRange() {
+        IntToFloatFunction function = value -> value / 2.0f;
+        float[] results = new float[4];
+        function.applyAsFloat(new int[] {1, 2, 3, 4}, results, 1, 3);
+        Assertions.assertArrayEquals(new float[] {0.0f, 1.0f, 1.5f, 0.0f}, results);
+    }
 }
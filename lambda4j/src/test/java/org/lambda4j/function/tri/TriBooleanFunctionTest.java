@@ -61,4 +61,14 @@ class TriBooleanFunctionTest {
     void lift_givenNull_throwsException() {
         Assertions.assertThrows(NullPointerException.class, () -> TriBooleanFunction.lift(null));
     }
+
+    @Test
+    void compiled_givenFunction_returnsEqualResults() {
+        TriBooleanFunction<String> function =
+                (value1, value2, value3) -> String.format("%b,%b,%b", value1, value2, value3);
+        TriBooleanFunction<String> compiled = function.compiled();
+        Assertions.assertEquals("true,false,true", compiled.apply(true, false, true));
+        Assertions.assertEquals("false,true,true", compiled.apply(false, true, true));
+        Assertions.assertSame(compiled.apply(true, true, false), compiled.apply(true, true, false));
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BitmapUtilsTest {
+
+    @Test
+    void length_givenSize_returnsNumberOfWords() {
+        Assertions.assertEquals(0, BitmapUtils.length(0));
+        Assertions.assertEquals(1, BitmapUtils.length(64));
+        Assertions.assertEquals(2, BitmapUtils.length(65));
+    }
+
+    @Test
+    void set_givenIndex_setsOnlyThatBit() {
+        long[] bitmap = new long[2];
+        BitmapUtils.set(bitmap, 70);
+        Assertions.assertTrue(BitmapUtils.get(bitmap, 70));
+        Assertions.assertEquals(1, BitmapUtils.cardinality(bitmap));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> BitmapUtils.set(bitmap, 128));
+    }
+
+    @Test
+    void and_givenBitmaps_storesConjunction() {
+        long[] results = new long[1];
+        BitmapUtils.and(new long[] {0b1100L}, new long[] {0b1010L}, results);
+        Assertions.assertEquals(0b1000L, results[0]);
+        BitmapUtils.or(new long[] {0b1100L}, new long[] {0b1010L}, results);
+        Assertions.assertEquals(0b1110L, results[0]);
+        BitmapUtils.xor(new long[] {0b1100L}, new long[] {0b1010L}, results);
+        Assertions.assertEquals(0b0110L, results[0]);
+        BitmapUtils.andNot(new long[] {0b1100L}, new long[] {0b1010L}, results);
+        Assertions.assertEquals(0b0100L, results[0]);
+    }
+
+    @Test
+    void and_givenShorterBitmap_throwsException() {
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> BitmapUtils.and(new long[2], new long[1], new long[2]));
+    }
+
+    @Test
+    void not_givenSize_clearsBitsBeyondSize() {
+        long[] bitmap = {0L, 1L};
+        BitmapUtils.not(bitmap, 66, bitmap);
+        Assertions.assertEquals(-1L, bitmap[0]);
+        Assertions.assertEquals(0b10L, bitmap[1]);
+        Assertions.assertEquals(65, BitmapUtils.cardinality(bitmap));
+    }
+
+    @Test
+    void toSelection_givenBitmap_returnsIndicesInAscendingOrder() {
+        BitSet bits = new BitSet();
+        bits.set(3);
+        bits.set(64);
+        bits.set(130);
+        int[] selection = new int[3];
+        Assertions.assertEquals(3, BitmapUtils.toSelection(bits.toLongArray(), selection));
+        Assertions.assertArrayEquals(new int[] {3, 64, 130}, selection);
+        long[] bitmap = new long[3];
+        BitmapUtils.fromSelection(selection, 3, bitmap);
+        Assertions.assertEquals(bits, BitSet.valueOf(bitmap));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DoubleTernaryKernelTest {
+
+    @Test
+    void applyAsDouble_givenValues_roundsOnce() {
+        double value = 1.0 + Math.ulp(1.0);
+        double product = value * value;
+        Assertions.assertEquals(0.0, value * value - product);
+        Assertions.assertEquals(Math.ulp(1.0) * Math.ulp(1.0),
+                DoubleTernaryKernel.FMA.applyAsDouble(value, value, -product));
+    }
+
+    @Test
+    void applyAsDouble_givenSpecialValues_returnsResult() {
+        Assertions.assertTrue(Double.isNaN(DoubleTernaryKernel.FMA.applyAsDouble(Double.NaN, 1.0, 1.0)));
+        Assertions.assertTrue(Double.isNaN(DoubleTernaryKernel.FMA.applyAsDouble(0.0, Double.POSITIVE_INFINITY, 1.0)));
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY,
+                DoubleTernaryKernel.FMA.applyAsDouble(Double.MAX_VALUE, 2.0, Double.NEGATIVE_INFINITY));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY,
+                DoubleTernaryKernel.FMA.applyAsDouble(Double.MAX_VALUE, 2.0, 1.0));
+        Assertions.assertEquals(1.0, DoubleTernaryKernel.FMA.applyAsDouble(-0.0, 5.0, 1.0));
+    }
+
+    @Test
+    void applyAsDouble_givenArrays_matchesScalarResults() {
+        double[] values1 = new double[67];
+        double[] values2 = new double[67];
+        double[] values3 = new double[67];
+        for (int i = 0; i < values1.length; i++) {
+            values1[i] = i / 3.0;
+            values2[i] = 1.0 - i / 7.0;
+            values3[i] = i * 0.1;
+        }
+        double[] results = new double[67];
+        DoubleTernaryKernel.FMA.applyAsDouble(values1, values2, values3, results);
+        for (int i = 0; i < results.length; i++) {
+            Assertions.assertEquals(DoubleTernaryKernel.FMA.applyAsDouble(values1[i], values2[i], values3[i]),
+                    results[i]);
+        }
+    }
+}
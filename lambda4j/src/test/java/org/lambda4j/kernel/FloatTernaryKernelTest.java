@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FloatTernaryKernelTest {
+
+    @Test
+    void applyAsFloat_givenValues_roundsOnce() {
+        float value = 1.0f + 0x1p-12f;
+        Assertions.assertEquals(0x1.002002p0f, FloatTernaryKernel.FMA.applyAsFloat(value, value, 0x1p-60f));
+    }
+
+    @Test
+    void applyAsFloat_givenSpecialValues_returnsResult() {
+        Assertions.assertTrue(Float.isNaN(FloatTernaryKernel.FMA.applyAsFloat(Float.NaN, 1.0f, 1.0f)));
+        Assertions.assertTrue(Float.isNaN(FloatTernaryKernel.FMA.applyAsFloat(0.0f, Float.POSITIVE_INFINITY, 1.0f)));
+        Assertions.assertEquals(Float.POSITIVE_INFINITY,
+                FloatTernaryKernel.FMA.applyAsFloat(Float.MAX_VALUE, 2.0f, 1.0f));
+        Assertions.assertEquals(1.0f, FloatTernaryKernel.FMA.applyAsFloat(-0.0f, 5.0f, 1.0f));
+    }
+
+    @Test
+    void applyAsFloat_givenArrays_matchesScalarResults() {
+        float[] values1 = new float[67];
+        float[] values2 = new float[67];
+        float[] values3 = new float[67];
+        for (int i = 0; i < values1.length; i++) {
+            values1[i] = 1.0f + i * 0x1p-12f;
+            values2[i] = 1.0f + i * 0x1p-12f;
+            values3[i] = i * 0x1p-60f;
+        }
+        float[] results = new float[67];
+        FloatTernaryKernel.FMA.applyAsFloat(values1, values2, values3, results);
+        for (int i = 0; i < results.length; i++) {
+            Assertions.assertEquals(FloatTernaryKernel.FMA.applyAsFloat(values1[i], values2[i], values3[i]),
+                    results[i]);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IntBinaryKernelTest {
+
+    @Test
+    void applyAsInt_givenValues_returnsResult() {
+        Assertions.assertEquals(5, IntBinaryKernel.ADD.applyAsInt(2, 3));
+        Assertions.assertEquals(-1, IntBinaryKernel.SUBTRACT.applyAsInt(2, 3));
+        Assertions.assertEquals(6, IntBinaryKernel.MULTIPLY.applyAsInt(2, 3));
+        Assertions.assertEquals(2, IntBinaryKernel.MIN.applyAsInt(2, 3));
+        Assertions.assertEquals(3, IntBinaryKernel.MAX.applyAsInt(2, 3));
+    }
+
+    @Test
+    void applyAsInt_givenArrays_matchesScalarResults() {
+        int[] values1 = new int[101];
+        int[] values2 = new int[101];
+        for (int i = 0; i < values1.length; i++) {
+            values1[i] = i * 31 - 1000;
+            values2[i] = 7 - i * i;
+        }
+        int[] results = new int[101];
+        for (IntBinaryKernel kernel : IntBinaryKernel.values()) {
+            kernel.applyAsInt(values1, values2, results);
+            for (int i = 0; i < results.length; i++) {
+                Assertions.assertEquals(kernel.applyAsInt(values1[i], values2[i]), results[i]);
+            }
+        }
+    }
+
+    @Test
+    void applyAsInt_givenRange_appliesOnlyRange() {
+        int[] values = {1, 2, 3, 4, 5};
+        IntBinaryKernel.ADD.applyAsInt(values, values, values, 1, 4);
+        Assertions.assertArrayEquals(new int[] {1, 4, 6, 8, 5}, values);
+    }
+
+    @Test
+    void applyAsInt_givenInvalidRange_throwsException() {
+        int[] values = new int[4];
+        int[] shorter = new int[3];
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> IntBinaryKernel.ADD.applyAsInt(values, values, values, 3, 2));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> IntBinaryKernel.ADD.applyAsInt(values, values, values, -1, 2));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> IntBinaryKernel.ADD.applyAsInt(values, shorter, values));
+        Assertions.assertArrayEquals(new int[4], values);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.kernel;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.consumer.bi.BiIntConsumer;
+
+@SuppressWarnings("PMD.DoNotUseThreads")
+class ParallelismTest {
+
+    @Test
+    void getGrain_givenNoFixedGrain_returnsAdaptiveGrain() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Parallelism parallelism = Parallelism.of(pool);
+            Assertions.assertEquals(Parallelism.MIN_GRAIN, parallelism.getGrain(100));
+            Assertions.assertEquals(1 << 16, parallelism.getGrain(1 << 20));
+            Assertions.assertEquals(7, parallelism.withGrain(7).getGrain(1 << 20));
+            Assertions.assertSame(pool, parallelism.withGrain(7).getPool());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void withGrain_givenNonPositiveGrain_throwsException() {
+        Parallelism parallelism = Parallelism.common();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parallelism.withGrain(0));
+    }
+
+    @Test
+    void forRange_givenRange_appliesEachIndexOnce() {
+        AtomicIntegerArray counts = new AtomicIntegerArray(10_000);
+        Parallelism.common().withGrain(64).forRange(10, 9_990, (fromIndex, toIndex) -> {
+            Assertions.assertTrue(toIndex - fromIndex <= 64);
+            for (int i = fromIndex; i < toIndex; i++) {
+                counts.incrementAndGet(i);
+            }
+        });
+        for (int i = 0; i < counts.length(); i++) {
+            Assertions.assertEquals(i >= 10 && i < 9_990 ? 1 : 0, counts.get(i));
+        }
+    }
+
+    @Test
+    void forRange_givenThrowingAction_relaysException() {
+        Parallelism parallelism = Parallelism.common().withGrain(1);
+        BiIntConsumer action = (fromIndex, toIndex) -> {
+            if (fromIndex == 42) {
+                throw new IllegalStateException();
+            }
+        };
+        Assertions.assertThrows(IllegalStateException.class, () -> parallelism.forRange(0, 100, action));
+    }
+
+    @Test
+    void forParts_givenRange_appliesConsecutivePartsOfGrain() {
+        Parallelism parallelism = Parallelism.common().withGrain(10);
+        Assertions.assertEquals(5, parallelism.getPartCount(45));
+        Assertions.assertEquals(0, parallelism.getPartCount(0));
+        AtomicIntegerArray bounds = new AtomicIntegerArray(10);
+        parallelism.forParts(5, 50, (part, fromIndex, toIndex) -> {
+            bounds.set(2 * part, fromIndex);
+            bounds.set(2 * part + 1, toIndex);
+        });
+        int[] expected = {5, 15, 15, 25, 25, 35, 35, 45, 45, 50};
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i], bounds.get(i));
+        }
+    }
+
+    @Test
+    void forRange_givenInvalidRange_throwsException() {
+        Parallelism parallelism = Parallelism.common();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> parallelism.forRange(2, 1, (fromIndex, toIndex) -> Assertions.fail()));
+    }
+}
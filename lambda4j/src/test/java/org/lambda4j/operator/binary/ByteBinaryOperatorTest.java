@@ -32,4 +32,16 @@ class ByteBinaryOperatorTest {
         ByteBinaryOperator operator = ByteBinaryOperator.of(null);
         Assertions.assertNull(operator);
     }
+
+    @Test
+    void compiled_givenOperator_returnsEqualResults() {
+        ByteBinaryOperator operator = (value1, value2) -> (byte) (value1 * 31 ^ value2);
+        ByteBinaryOperator compiled = operator.compiled();
+        for (int value1 = Byte.MIN_VALUE; value1 <= Byte.MAX_VALUE; value1++) {
+            for (int value2 = Byte.MIN_VALUE; value2 <= Byte.MAX_VALUE; value2++) {
+                Assertions.assertEquals(operator.applyAsByte((byte) value1, (byte) value2),
+                        compiled.applyAsByte((byte) value1, (byte) value2));
+            }
+        }
+    }
 }
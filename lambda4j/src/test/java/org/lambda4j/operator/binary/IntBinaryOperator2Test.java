@@ -19,6 +19,8 @@ package org.lambda4j.operator.binary;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import org.lambda4j.comparator.IntComparator;
+
 class IntBinaryOperator2Test {
 
     @Test
@@ -32,4 +34,45 @@ class IntBinaryOperator2Test {
         IntBinaryOperator2 operator = IntBinaryOperator2.of(null);
         Assertions.assertNull(operator);
     }
+
+    @Test
+    void applyAsInt_givenArrays_storesResults() {
+        IntBinaryOperator2 operator = (value1, value2) -> value1 * 10 + value2;
+        int[] values1 = {1, 2, 3};
+        int[] values2 = {4, 5, 6};
+        int[] results = new int[3];
+        operator.applyAsInt(values1, values2, results);
+        Assertions.assertArrayEquals(new int[] {14, 25, 36}, results);
+        operator.applyAsInt(values1, values2, values1, 1, 3);
+        Assertions.assertArrayEquals(new int[] {1, 25, 36}, values1);
+    }
+
+    @Test
+    void applyAsInt_givenInvalidRange_throwsException() {
+        IntBinaryOperator2 operator = (value1, value2) -> value1;
+        int[] values = new int[3];
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> operator.applyAsInt(values, values, values, 2, 1));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> operator.applyAsInt(values, new int[2], values));
+    }
+
+    @Test
+    void minByInt_givenIntComparator_returnsLesserOperand() {
+        IntBinaryOperator2 operator = IntBinaryOperator2.minByInt(IntComparator.reverseOrder());
+        Assertions.assertEquals(2, operator.applyAsInt(1, 2));
+    }
+
+    @Test
+    void maxByInt_givenIntComparator_returnsGreaterOperand() {
+        IntBinaryOperator2 operator = IntBinaryOperator2.maxByInt(IntComparator.comparingInt(Math::abs));
+        Assertions.assertEquals(-3, operator.applyAsInt(-3, 2));
+    }
+
+    @Test
+    void minBy_givenMethodReference_returnsLesserOperand() {
+        IntBinaryOperator2 operator = IntBinaryOperator2.minBy(Integer::compare);
+        Assertions.assertEquals(1, operator.applyAsInt(1, 2));
+        Assertions.assertEquals(2, IntBinaryOperator2.maxBy((x, y) -> x - y).applyAsInt(1, 2));
+    }
 }
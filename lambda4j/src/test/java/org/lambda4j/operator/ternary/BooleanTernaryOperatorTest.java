@@ -32,4 +32,25 @@ class BooleanTernaryOperatorTest {
         BooleanTernaryOperator operator = BooleanTernaryOperator.of(null);
         Assertions.assertNull(operator);
     }
+
+    @Test
+    void compiled_givenOperator_returnsEqualResults() {
+        BooleanTernaryOperator operator = (value1, value2, value3) -> value1 ? value2 : value3;
+        BooleanTernaryOperator compiled = operator.compiled();
+        for (int i = 0; i < 8; i++) {
+            boolean value1 = (i & 1) != 0;
+            boolean value2 = (i & 2) != 0;
+            boolean value3 = (i & 4) != 0;
+            Assertions.assertEquals(operator.applyAsBoolean(value1, value2, value3),
+                    compiled.applyAsBoolean(value1, value2, value3));
+        }
+    }
+
+    @Test
+    void compiled_givenCompiledOperator_returnsSameInstance() {
+        BooleanTernaryOperator compiled = ((BooleanTernaryOperator) (value1, value2, value3) -> value1).compiled();
+        Assertions.assertTrue(compiled.isCompiled());
+        Assertions.assertTrue(compiled.isMemoized());
+        Assertions.assertSame(compiled, compiled.compiled());
+    }
 }
@@ -16,9 +16,14 @@
 
 package org.lambda4j.operator.unary;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import org.lambda4j.memoization.DoubleMemoStore;
+import org.lambda4j.memoization.LongMemoTable;
+
 class DoubleUnaryOperator2Test {
 
     @Test
@@ -32,4 +37,26 @@ class DoubleUnaryOperator2Test {
         DoubleUnaryOperator2 operator = DoubleUnaryOperator2.of(null);
         Assertions.assertNull(operator);
     }
+
+    @Test
+    void applyAsDouble_givenSelection_appliesOnlySelectedElements() {
+        DoubleUnaryOperator2 operator = value -> value * 2.0;
+        double[] values = {1.0, 2.0, 3.0, 4.0};
+        double[] results = new double[4];
+        operator.applyAsDouble(values, results, new int[] {3, 1, 0}, 2);
+        Assertions.assertArrayEquals(new double[] {0.0, 4.0, 0.0, 8.0}, results);
+    }
+
+    @Test
+    void memoizedDouble_givenTable_returnsMemoizedFunctionalInterface() {
+        AtomicInteger calls = new AtomicInteger();
+        DoubleUnaryOperator2 operator = DoubleUnaryOperator2.of(value -> {
+            calls.incrementAndGet();
+            return value / 2.0;
+        }).memoizedDouble(DoubleMemoStore.of(new LongMemoTable(128)));
+        Assertions.assertTrue(operator.isMemoized());
+        Assertions.assertEquals(0.75, operator.applyAsDouble(1.5));
+        Assertions.assertEquals(0.75, operator.applyAsDouble(1.5));
+        Assertions.assertEquals(1, calls.get());
+    }
 }
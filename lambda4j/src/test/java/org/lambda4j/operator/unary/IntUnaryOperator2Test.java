@@ -16,9 +16,18 @@
 
 package org.lambda4j.operator.unary;
 
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import org.lambda4j.composition.Composition;
+import org.lambda4j.function.IntFunction2;
+import org.lambda4j.kernel.Parallelism;
+import org.lambda4j.memoization.IntMemoStore;
+import org.lambda4j.memoization.LongMemoTable;
+
 class IntUnaryOperator2Test {
 
     @Test
@@ -32,4 +41,82 @@ class IntUnaryOperator2Test {
         IntUnaryOperator2 operator = IntUnaryOperator2.of(null);
         Assertions.assertNull(operator);
     }
+
+    @Test
+    void lift_givenPartialOperator_returnsTotalFunction() {
+        IntFunction2<OptionalInt> function = IntUnaryOperator2.lift(value -> value != 0, value -> 100 / value);
+        Assertions.assertEquals(OptionalInt.of(50), function.apply(2));
+        Assertions.assertEquals(OptionalInt.empty(), function.apply(0));
+    }
+
+    @Test
+    void lift_givenNull_throwsException() {
+        Assertions.assertThrows(NullPointerException.class, () -> IntUnaryOperator2.lift(null, value -> value));
+    }
+
+    @Test
+    void applyAsIntParallel_givenArray_storesResultsAtSameIndices() {
+        IntUnaryOperator2 operator = value -> value * 3;
+        int[] values = new int[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        operator.applyAsIntParallel(values, values, Parallelism.common().withGrain(1000));
+        for (int i = 0; i < values.length; i++) {
+            Assertions.assertEquals(i * 3, values[i]);
+        }
+    }
+
+    @Test
+    void andThenToInt_givenIdentity_returnsThis() {
+        IntUnaryOperator2 operator = value -> value + 1;
+        Assertions.assertSame(operator, operator.andThenToInt(IntUnaryOperator2.identity()));
+        Assertions.assertSame(operator, IntUnaryOperator2.identity().andThenToInt(operator));
+    }
+
+    @Test
+    void composeFromInt_givenIdentity_returnsThis() {
+        IntUnaryOperator2 operator = value -> value + 1;
+        Assertions.assertSame(operator, operator.composeFromInt(IntUnaryOperator2.identity()));
+        Assertions.assertSame(operator, IntUnaryOperator2.identity().composeFromInt(operator));
+    }
+
+    @Test
+    void andThenToInt_givenConstant_returnsConstant() {
+        int[] calls = new int[1];
+        IntUnaryOperator2 after = value -> {
+            calls[0]++;
+            return value * 3;
+        };
+        IntUnaryOperator2 operator = IntUnaryOperator2.constant(2).andThenToInt(after);
+        Assertions.assertTrue(Composition.isConstant(operator));
+        Assertions.assertEquals(6, operator.applyAsInt(0));
+        Assertions.assertEquals(6, operator.applyAsInt(1));
+        Assertions.assertEquals(1, calls[0]);
+    }
+
+    @Test
+    void unboxed_givenBoxedOperator_returnsOriginal() {
+        IntUnaryOperator2 operator = value -> value + 1;
+        Assertions.assertSame(operator, IntUnaryOperator2.unboxed(operator.boxed()));
+    }
+
+    @Test
+    void unboxed_givenFunction_returnsAdaptingOperator() {
+        IntUnaryOperator2 operator = IntUnaryOperator2.unboxed(value -> value + 1);
+        Assertions.assertEquals(3, operator.applyAsInt(2));
+    }
+
+    @Test
+    void memoizedInt_givenTable_returnsMemoizedFunctionalInterface() {
+        AtomicInteger calls = new AtomicInteger();
+        IntUnaryOperator2 operator = IntUnaryOperator2.of(value -> {
+            calls.incrementAndGet();
+            return value * 2;
+        }).memoizedInt(IntMemoStore.of(new LongMemoTable(128)));
+        Assertions.assertTrue(operator.isMemoized());
+        Assertions.assertEquals(-84, operator.applyAsInt(-42));
+        Assertions.assertEquals(-84, operator.applyAsInt(-42));
+        Assertions.assertEquals(1, calls.get());
+    }
 }
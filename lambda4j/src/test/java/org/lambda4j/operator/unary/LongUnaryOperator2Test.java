@@ -16,8 +16,15 @@
 
 package org.lambda4j.operator.unary;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.lambda4j.memoization.SharedLongMemoTable;
 
 class LongUnaryOperator2Test {
 
@@ -32,4 +39,26 @@ class LongUnaryOperator2Test {
         LongUnaryOperator2 operator = LongUnaryOperator2.of(null);
         Assertions.assertNull(operator);
     }
+
+    @Test
+    void memoizedLong_givenSharedTable_returnsMemoizedFunctionalInterface(@TempDir Path directory) throws IOException {
+        SharedLongMemoTable table = SharedLongMemoTable.open(directory.resolve("table"), 128);
+        AtomicInteger calls = new AtomicInteger();
+        LongUnaryOperator2 operator = LongUnaryOperator2.of(value -> {
+            calls.incrementAndGet();
+            return value * 2L;
+        }).memoizedLong(table);
+        Assertions.assertTrue(operator.isMemoized());
+        Assertions.assertEquals(84L, operator.applyAsLong(42L));
+        Assertions.assertEquals(84L, operator.applyAsLong(42L));
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void memoized_givenLambdaStore_returnsMemoizedFunctionalInterface() {
+        LongUnaryOperator2 operator = LongUnaryOperator2.of(value -> value + 1L)
+                .memoized((key, loader) -> loader.apply(key));
+        Assertions.assertTrue(operator.isMemoized());
+        Assertions.assertEquals(43L, operator.applyAsLong(42L));
+    }
 }
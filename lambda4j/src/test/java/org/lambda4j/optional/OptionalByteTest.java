@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.optional;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class OptionalByteTest {
+
+    @Test
+    void of_givenValue_returnsCachedInstance() {
+        OptionalByte optional = OptionalByte.of((byte) -1);
+        Assertions.assertTrue(optional.isPresent());
+        Assertions.assertEquals((byte) -1, optional.getAsByte());
+        Assertions.assertSame(optional, OptionalByte.of((byte) -1));
+    }
+
+    @Test
+    void empty_givenNothing_returnsEmptyInstance() {
+        OptionalByte optional = OptionalByte.empty();
+        Assertions.assertTrue(optional.isEmpty());
+        Assertions.assertThrows(NoSuchElementException.class, optional::getAsByte);
+        Assertions.assertEquals((byte) 2, optional.orElse((byte) 2));
+        Assertions.assertEquals((byte) 3, optional.orElseGet(() -> (byte) 3));
+    }
+
+    @Test
+    void orElseThrow_givenEmptyInstance_throwsSuppliedException() {
+        OptionalByte optional = OptionalByte.empty();
+        Assertions.assertThrows(IllegalStateException.class, () -> optional.orElseThrow(IllegalStateException::new));
+    }
+
+    @Test
+    void equals_givenEqualValues_returnsTrue() {
+        Assertions.assertEquals(OptionalByte.of((byte) 1), OptionalByte.of((byte) 1));
+        Assertions.assertNotEquals(OptionalByte.of((byte) 0), OptionalByte.empty());
+        Assertions.assertEquals("OptionalByte[1]", OptionalByte.of((byte) 1).toString());
+    }
+}
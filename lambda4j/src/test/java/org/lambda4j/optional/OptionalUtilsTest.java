@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.optional;
+
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class OptionalUtilsTest {
+
+    @Test
+    void ofInt_givenSmallValue_returnsCachedInstance() {
+        Assertions.assertSame(OptionalUtils.ofInt(-128), OptionalUtils.ofInt(-128));
+        Assertions.assertEquals(OptionalInt.of(127), OptionalUtils.ofInt(127));
+    }
+
+    @Test
+    void ofInt_givenLargeValue_returnsEqualInstance() {
+        Assertions.assertEquals(OptionalInt.of(128), OptionalUtils.ofInt(128));
+    }
+
+    @Test
+    void ofLong_givenValues_returnsEqualInstances() {
+        Assertions.assertSame(OptionalUtils.ofLong(5L), OptionalUtils.ofLong(5L));
+        Assertions.assertEquals(OptionalLong.of(Long.MIN_VALUE), OptionalUtils.ofLong(Long.MIN_VALUE));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.pipeline;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.function.conversion.IntToDoubleFunction2;
+import org.lambda4j.function.conversion.IntToLongFunction2;
+import org.lambda4j.operator.unary.IntUnaryOperator2;
+
+class IntPipelineTest {
+
+    @Test
+    void compile_givenEmptyPipeline_returnsIdentity() {
+        IntUnaryOperator2 function = IntPipeline.start().compile();
+        Assertions.assertEquals(0, IntPipeline.start().size());
+        Assertions.assertEquals(-7, function.applyAsInt(-7));
+        Assertions.assertEquals(Integer.MIN_VALUE, function.applyAsInt(Integer.MIN_VALUE));
+    }
+
+    @Test
+    void compile_givenStages_appliesStagesInOrder() {
+        IntPipeline<IntUnaryOperator2, IntToLongFunction2, IntToDoubleFunction2> pipeline = IntPipeline.start()
+                .map(value -> value + 1)
+                .map(value -> value * 3);
+        IntUnaryOperator2 function = pipeline.compile();
+        Assertions.assertEquals(2, pipeline.size());
+        Assertions.assertEquals(18, function.applyAsInt(5));
+        Assertions.assertEquals(-3, function.applyAsInt(-2));
+    }
+
+    @Test
+    void compile_givenStagesAcrossLanes_keepsPrimitiveValues() {
+        IntToDoubleFunction2 function = IntPipeline.start()
+                .mapToLong(value -> value * 4_000_000_000L)
+                .map(value -> value + 1)
+                .mapToDouble(value -> value / 2.0)
+                .mapToInt(value -> (int) Math.signum(value))
+                .mapToDouble(value -> value * 0.5)
+                .compile();
+        Assertions.assertEquals(0.5, function.applyAsDouble(3));
+        Assertions.assertEquals(-0.5, function.applyAsDouble(-3));
+        Assertions.assertEquals(0.5, function.applyAsDouble(0));
+    }
+
+    @Test
+    void compile_givenDoubleLane_keepsSpecialValues() {
+        IntToDoubleFunction2 function = IntPipeline.start()
+                .mapToDouble(value -> value == 0 ? Double.NaN : -0.0)
+                .map(value -> value)
+                .compile();
+        Assertions.assertTrue(Double.isNaN(function.applyAsDouble(0)));
+        Assertions.assertEquals(-0.0, function.applyAsDouble(1));
+    }
+
+    @Test
+    void compile_givenSharedPrefix_doesNotModifyPipeline() {
+        IntPipeline<IntUnaryOperator2, IntToLongFunction2, IntToDoubleFunction2> prefix = IntPipeline.start()
+                .map(value -> value + 1);
+        IntUnaryOperator2 doubled = prefix.map(value -> value * 2).compile();
+        IntUnaryOperator2 negated = prefix.map(value -> -value).compile();
+        Assertions.assertEquals(1, prefix.size());
+        Assertions.assertEquals(8, doubled.applyAsInt(3));
+        Assertions.assertEquals(-4, negated.applyAsInt(3));
+        Assertions.assertEquals(4, prefix.compile().applyAsInt(3));
+    }
+
+    @Test
+    void compile_givenThrowingStage_relaysException() {
+        IntUnaryOperator2 function = IntPipeline.start()
+                .map(value -> 10 / value)
+                .compile();
+        Assertions.assertEquals(5, function.applyAsInt(2));
+        Assertions.assertThrows(ArithmeticException.class, () -> function.applyAsInt(0));
+    }
+
+    @Test
+    void map_givenNull_throwsException() {
+        Assertions.assertThrows(NullPointerException.class, () -> IntPipeline.start().map(null));
+        Assertions.assertThrows(NullPointerException.class, () -> IntPipeline.start().mapToLong(null));
+    }
+}
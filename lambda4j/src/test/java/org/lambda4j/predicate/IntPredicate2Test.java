@@ -16,9 +16,14 @@
 
 package org.lambda4j.predicate;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import org.lambda4j.composition.Composition;
+import org.lambda4j.kernel.BitmapUtils;
+
 class IntPredicate2Test {
 
     @Test
@@ -74,4 +79,77 @@ class IntPredicate2Test {
         IntPredicate2 predicate = IntPredicate2.isEqual(1);
         Assertions.assertFalse(predicate.test(0));
     }
+
+    @Test
+    void select_givenArray_returnsIndicesOfMatchingElements() {
+        IntPredicate2 predicate = value -> value % 2 == 0;
+        int[] selection = new int[6];
+        int count = predicate.select(new int[] {1, 2, 3, 4, 6, 7}, selection);
+        Assertions.assertEquals(3, count);
+        Assertions.assertArrayEquals(new int[] {1, 3, 4}, Arrays.copyOf(selection, count));
+    }
+
+    @Test
+    void select_givenSelection_keepsIndicesOfMatchingElements() {
+        IntPredicate2 predicate = value -> value > 2;
+        int[] selection = {0, 2, 3, 5};
+        int count = predicate.select(new int[] {1, 2, 3, 4, 6, 7}, selection, 3);
+        Assertions.assertEquals(2, count);
+        Assertions.assertArrayEquals(new int[] {2, 3}, Arrays.copyOf(selection, count));
+    }
+
+    @Test
+    void select_givenShortSelection_throwsException() {
+        IntPredicate2 predicate = value -> true;
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> predicate.select(new int[] {1, 2}, new int[1]));
+    }
+
+    @Test
+    void test_givenBitmap_setsBitsOfMatchingElements() {
+        IntPredicate2 predicate = value -> value % 3 == 0;
+        int[] values = new int[70];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        long[] bitmap = {-1L, -1L, -1L};
+        predicate.test(values, bitmap);
+        for (int i = 0; i < values.length; i++) {
+            Assertions.assertEquals(i % 3 == 0, BitmapUtils.get(bitmap, i));
+        }
+        Assertions.assertEquals(-1L, bitmap[2]);
+        Assertions.assertEquals(24, BitmapUtils.cardinality(new long[] {bitmap[0], bitmap[1]}));
+    }
+
+    @Test
+    void and_givenConstantTrue_returnsOther() {
+        IntPredicate2 other = value -> value > 0;
+        Assertions.assertSame(other, IntPredicate2.alwaysTrue().and(other));
+    }
+
+    @Test
+    void and_givenConstantFalse_returnsConstant() {
+        IntPredicate2 predicate = IntPredicate2.alwaysFalse();
+        Assertions.assertSame(predicate, predicate.and(value -> value > 0));
+    }
+
+    @Test
+    void or_givenConstantFalse_returnsThis() {
+        IntPredicate2 predicate = value -> value > 0;
+        Assertions.assertSame(predicate, predicate.or(IntPredicate2.alwaysFalse()));
+    }
+
+    @Test
+    void negate_givenNegation_returnsOriginal() {
+        IntPredicate2 predicate = value -> value > 0;
+        Assertions.assertSame(predicate, predicate.negate().negate());
+        Assertions.assertTrue(predicate.negate().test(-1));
+    }
+
+    @Test
+    void negate_givenConstant_returnsOppositeConstant() {
+        IntPredicate2 negation = IntPredicate2.alwaysTrue().negate();
+        Assertions.assertTrue(Composition.isConstant(negation, false));
+        Assertions.assertFalse(negation.test(0));
+    }
 }
@@ -86,4 +86,15 @@ class BiBytePredicateTest {
         BiBytePredicate predicate = BiBytePredicate.isEqual((byte) 1, (byte) 1);
         Assertions.assertFalse(predicate.test((byte) 0, (byte) 0));
     }
+
+    @Test
+    void compiled_givenPredicate_returnsEqualResults() {
+        BiBytePredicate predicate = (value1, value2) -> value1 < value2;
+        BiBytePredicate compiled = predicate.compiled();
+        Assertions.assertTrue(compiled.isCompiled());
+        Assertions.assertTrue(compiled.test(Byte.MIN_VALUE, Byte.MAX_VALUE));
+        Assertions.assertTrue(compiled.test((byte) -1, (byte) 0));
+        Assertions.assertFalse(compiled.test((byte) 0, (byte) -1));
+        Assertions.assertFalse(compiled.test(Byte.MAX_VALUE, Byte.MAX_VALUE));
+    }
 }
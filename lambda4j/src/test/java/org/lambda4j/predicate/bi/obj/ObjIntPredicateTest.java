@@ -91,4 +91,14 @@ class ObjIntPredicateTest {
         ObjIntPredicate<String> predicate = ObjIntPredicate.isEqual("other", 1);
         Assertions.assertFalse(predicate.test("", 0));
     }
+
+    @Test
+    void select_givenArrays_returnsIndicesOfMatchingElements() {
+        ObjIntPredicate<String> predicate = (t, value) -> t.length() == value;
+        int[] selection = new int[3];
+        int count = predicate.select(new String[] {"a", "bb", "c"}, new int[] {1, 1, 1}, selection);
+        Assertions.assertEquals(2, count);
+        Assertions.assertEquals(0, selection[0]);
+        Assertions.assertEquals(2, selection[1]);
+    }
 }
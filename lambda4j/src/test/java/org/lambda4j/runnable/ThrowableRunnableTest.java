@@ -16,6 +16,8 @@
 
 package org.lambda4j.runnable;
 
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
@@ -88,6 +90,18 @@ class ThrowableRunnableTest {
         Assertions.assertNull(runnable);
     }
 
+    @Test
+    void andThen_givenThrowingRunnable_stopsSequence() {
+        AtomicInteger counter = new AtomicInteger();
+        ThrowableRunnable<IOException> increment = counter::incrementAndGet;
+        ThrowableRunnable<IOException> failure = () -> {
+            throw new IOException("failure in sequence");
+        };
+        ThrowableRunnable<IOException> sequence = increment.andThen(increment).andThen(failure).andThen(increment);
+        Assertions.assertThrows(IOException.class, sequence::runThrows);
+        Assertions.assertEquals(2, counter.get());
+    }
+
     @Test
     void call_givenExpression_executesFunctionalInterface() {
         ThrowableRunnable.call(() -> Assertions.assertNull(null));
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.stream;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ByteSpliteratorTest {
+
+    @Test
+    void of_givenArray_traversesAllElements() {
+        List<Byte> list = new ArrayList<>();
+        ByteSpliterator spliterator = ByteSpliterator.of(new byte[] {1, 2, 3});
+        Assertions.assertEquals(3L, spliterator.getExactSizeIfKnown());
+        Assertions.assertTrue(spliterator.tryAdvance((byte value) -> list.add(value)));
+        spliterator.forEachRemaining((byte value) -> list.add(value));
+        Assertions.assertFalse(spliterator.tryAdvance((byte value) -> list.add(value)));
+        Assertions.assertEquals(Arrays.asList((byte) 1, (byte) 2, (byte) 3), list);
+    }
+
+    @Test
+    void of_givenRange_traversesElementsOfRange() {
+        List<Byte> list = new ArrayList<>();
+        ByteSpliterator.of(new byte[] {1, 2, 3, 4}, 1, 3).forEachRemaining((byte value) -> list.add(value));
+        Assertions.assertEquals(Arrays.asList((byte) 2, (byte) 3), list);
+    }
+
+    @Test
+    void of_givenInvalidRange_throwsException() {
+        byte[] array = new byte[2];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ByteSpliterator.of(array, 2, 1));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> ByteSpliterator.of(array, -1, 1));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> ByteSpliterator.of(array, 0, 3));
+    }
+
+    @Test
+    void of_givenBuffer_traversesRemainingElements() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3});
+        buffer.position(1);
+        ByteSpliterator spliterator = ByteSpliterator.of(buffer);
+        Assertions.assertEquals(2L, spliterator.estimateSize());
+        Assertions.assertFalse(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        List<Byte> list = new ArrayList<>();
+        spliterator.forEachRemaining((byte value) -> list.add(value));
+        Assertions.assertEquals(Arrays.asList((byte) 2, (byte) 3), list);
+        Assertions.assertEquals(1, buffer.position());
+    }
+
+    @Test
+    void trySplit_givenArray_splitsInHalves() {
+        ByteSpliterator spliterator = ByteSpliterator.of(new byte[] {1, 2, 3, 4, 5});
+        ByteSpliterator prefix = spliterator.trySplit();
+        Assertions.assertNotNull(prefix);
+        Assertions.assertEquals(2L, prefix.estimateSize());
+        Assertions.assertEquals(3L, spliterator.estimateSize());
+        Assertions.assertTrue(prefix.hasCharacteristics(Spliterator.SUBSIZED));
+    }
+
+    @Test
+    void trySplit_givenSingleElement_returnsNull() {
+        Assertions.assertNull(ByteSpliterator.of(new byte[] {1}).trySplit());
+    }
+
+    @Test
+    void tryAdvance_givenBoxingConsumer_passesBoxedElement() {
+        List<Byte> list = new ArrayList<>();
+        Consumer<Byte> action = list::add;
+        ByteSpliterator.of(new byte[] {-1}).tryAdvance(action);
+        Assertions.assertEquals(Arrays.asList((byte) -1), list);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021 The lambda4j authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lambda4j.stream;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.lambda4j.optional.OptionalFloat;
+
+class FloatStreamTest {
+
+    @Test
+    void of_givenValues_returnsStreamOfValues() {
+        float[] array = FloatStream.of(1.5f, -0.0f, Float.NaN).toArray();
+        Assertions.assertArrayEquals(new float[] {1.5f, -0.0f, Float.NaN}, array);
+    }
+
+    @Test
+    void of_givenBuffer_streamsRemainingElementsWithoutChangingPosition() {
+        FloatBuffer buffer = FloatBuffer.wrap(new float[] {1.0f, 2.0f, 3.0f, 4.0f});
+        buffer.position(1);
+        buffer.limit(3);
+        Assertions.assertArrayEquals(new float[] {2.0f, 3.0f}, FloatStream.of(buffer).toArray());
+        Assertions.assertEquals(1, buffer.position());
+    }
+
+    @Test
+    void of_givenNull_throwsException() {
+        Assertions.assertThrows(NullPointerException.class, () -> FloatStream.of((float[]) null));
+    }
+
+    @Test
+    void empty_givenNothing_returnsEmptyStream() {
+        Assertions.assertEquals(0L, FloatStream.empty().count());
+        Assertions.assertFalse(FloatStream.empty().findFirst().isPresent());
+    }
+
+    @Test
+    void filter_givenPredicate_returnsMatchingElements() {
+        float[] array = FloatStream.of(1.0f, 2.0f, 3.0f, 4.0f).filter(value -> value > 2.0f).toArray();
+        Assertions.assertArrayEquals(new float[] {3.0f, 4.0f}, array);
+    }
+
+    @Test
+    void map_givenOperator_returnsMappedElements() {
+        float[] array = FloatStream.of(1.0f, 2.0f).map(value -> value * 0.5f).toArray();
+        Assertions.assertArrayEquals(new float[] {0.5f, 1.0f}, array);
+    }
+
+    @Test
+    void mapToObj_givenFunction_returnsMappedElements() {
+        String joined = FloatStream.of(1.0f, 2.5f).mapToObj(Float::toString).collect(Collectors.joining());
+        Assertions.assertEquals("1.02.5", joined);
+    }
+
+    @Test
+    void boxed_givenNothing_returnsBoxedElements() {
+        List<Float> list = FloatStream.of(1.0f, 2.0f).boxed().collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(1.0f, 2.0f), list);
+    }
+
+    @Test
+    void sum_givenElements_returnsSumAsDouble() {
+        Assertions.assertEquals(6.5, FloatStream.of(1.0f, 2.0f, 3.5f).sum());
+        Assertions.assertEquals(0.0, FloatStream.empty().sum());
+    }
+
+    @Test
+    void reduce_givenIdentityAndOperator_returnsReduction() {
+        float product = FloatStream.of(2.0f, 3.0f, 4.0f).reduce(1.0f, (value1, value2) -> value1 * value2);
+        Assertions.assertEquals(24.0f, product);
+    }
+
+    @Test
+    void reduce_givenOperator_returnsOptionalReduction() {
+        Assertions.assertEquals(OptionalFloat.of(9.0f), FloatStream.of(2.0f, 3.0f, 4.0f).reduce(Float::sum));
+        Assertions.assertEquals(OptionalFloat.empty(), FloatStream.empty().reduce(Float::sum));
+    }
+
+    @Test
+    void minAndMax_givenElements_returnsLeastAndGreatestElement() {
+        Assertions.assertEquals(OptionalFloat.of(-2.0f), FloatStream.of(1.0f, -2.0f, 3.0f).min());
+        Assertions.assertEquals(OptionalFloat.of(3.0f), FloatStream.of(1.0f, -2.0f, 3.0f).max());
+    }
+
+    @Test
+    void anyMatch_givenMatchingElement_shortCircuits() {
+        float[] visited = new float[1];
+        boolean match = FloatStream.of(1.0f, 2.0f, 3.0f)
+                .peek(value -> visited[0] = value)
+                .anyMatch(value -> value >= 2.0f);
+        Assertions.assertTrue(match);
+        Assertions.assertEquals(2.0f, visited[0]);
+    }
+
+    @Test
+    void limitAndSkip_givenSizes_returnsSlice() {
+        float[] array = FloatStream.of(1.0f, 2.0f, 3.0f, 4.0f).skip(1L).limit(2L).toArray();
+        Assertions.assertArrayEquals(new float[] {2.0f, 3.0f}, array);
+    }
+
+    @Test
+    void parallel_givenLargeArray_returnsSameResultAsSequential() {
+        float[] values = new float[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        FloatStream stream = FloatStream.stream(FloatSpliterator.of(values), true);
+        Assertions.assertTrue(stream.isParallel());
+        float[] array = stream.map(value -> value + 1.0f).toArray();
+        Assertions.assertEquals(values.length, array.length);
+        Assertions.assertEquals(1.0f, array[0]);
+        Assertions.assertEquals(10_000.0f, array[array.length - 1]);
+    }
+
+    @Test
+    void asDoubleStream_givenElements_returnsWidenedElements() {
+        Assertions.assertArrayEquals(new double[] {0.5, 1.5}, FloatStream.of(0.5f, 1.5f).asDoubleStream().toArray());
+    }
+}